@@ -0,0 +1,129 @@
+package com.educationerp.core.controller;
+
+import com.educationerp.core.service.MediaStorageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * REST controller serving stored media
+ * Media URLs are content hashes, so files are public, cached as immutable and validated by ETag. Bodies are
+ * handed to the container's sendfile support when available and otherwise copied with FileChannel.transferTo,
+ * so serving a picture does not read it into the heap.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/public/media")
+@Tag(name = "Media", description = "Stored images such as profile pictures")
+public class MediaController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "public, no-cache";
+
+    @Autowired
+    private MediaStorageService mediaStorageService;
+
+    /**
+     * Get a stored image
+     */
+    @GetMapping("/{mediaId}")
+    @Operation(summary = "Get media", description = "Serve a stored image; supports ETag validation and byte ranges")
+    public void getMedia(@Parameter(description = "Media ID") @PathVariable String mediaId,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(mediaStorageService.resolve(mediaId, false), request, response);
+    }
+
+    /**
+     * Get the thumbnail of a stored image
+     */
+    @GetMapping("/thumbnails/{mediaId}")
+    @Operation(summary = "Get media thumbnail", description = "Serve the thumbnail of a stored image, or the image itself until its thumbnail is ready")
+    public void getThumbnail(@Parameter(description = "Media ID") @PathVariable String mediaId,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(mediaStorageService.resolve(mediaId, true), request, response);
+    }
+
+    private void serve(MediaStorageService.MediaFile file, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, file.getEtag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.isImmutable() ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(file.getEtag()) || "*".equals(ifNoneMatch.trim()))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = file.getSize();
+        long start = 0;
+        long end = size - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(file.getEtag()))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // Multipart byte ranges are not worth supporting for images; such requests get the whole file
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+                if (start < 0 || start >= size || end < start) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(file.getContentType());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end + 1 - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+}
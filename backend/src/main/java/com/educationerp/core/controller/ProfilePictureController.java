@@ -0,0 +1,71 @@
+package com.educationerp.core.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.core.dto.ProfilePictureResponse;
+import com.educationerp.core.service.ProfilePictureService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * REST controller for profile picture uploads
+ * The image is sent as the raw request body and streamed to storage without being buffered in memory
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/profile-pictures")
+@Tag(name = "Profile Pictures", description = "Student and user profile picture uploads")
+public class ProfilePictureController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfilePictureController.class);
+
+    @Autowired
+    private ProfilePictureService profilePictureService;
+
+    /**
+     * Upload a student's profile picture
+     */
+    @PutMapping(value = "/students/{studentId}",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER')")
+    @Operation(summary = "Upload student profile picture", description = "Stream a JPEG, PNG, GIF or WebP image as the request body")
+    public ResponseEntity<ApiResponse<ProfilePictureResponse>> uploadStudentPicture(
+            @Parameter(description = "Student ID") @PathVariable Long studentId,
+            InputStream content) {
+        logger.info("Profile picture upload received for student: {}", studentId);
+
+        ProfilePictureResponse picture = profilePictureService.updateStudentPicture(studentId, content);
+        ApiResponse<ProfilePictureResponse> response = ApiResponse.success("Profile picture updated successfully", picture);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Upload a user's profile picture
+     */
+    @PutMapping(value = "/users/{userId}",
+            consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, "image/webp", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Upload user profile picture", description = "Stream a JPEG, PNG, GIF or WebP image as the request body")
+    public ResponseEntity<ApiResponse<ProfilePictureResponse>> uploadUserPicture(
+            @Parameter(description = "User ID") @PathVariable Long userId,
+            InputStream content) {
+        logger.info("Profile picture upload received for user: {}", userId);
+
+        ProfilePictureResponse picture = profilePictureService.updateUserPicture(userId, content);
+        ApiResponse<ProfilePictureResponse> response = ApiResponse.success("Profile picture updated successfully", picture);
+
+        return ResponseEntity.ok(response);
+    }
+}
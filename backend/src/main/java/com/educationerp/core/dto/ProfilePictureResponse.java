@@ -0,0 +1,93 @@
+package com.educationerp.core.dto;
+
+/**
+ * DTO for a stored profile picture
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class ProfilePictureResponse {
+
+    private Long ownerId;
+    private OwnerType ownerType;
+    private String mediaId;
+    private String url;
+    private String thumbnailUrl;
+    private String contentType;
+    private Long size;
+    private Boolean deduplicated;
+
+    // Constructors
+    public ProfilePictureResponse() {
+    }
+
+    // Getters and Setters
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public OwnerType getOwnerType() {
+        return ownerType;
+    }
+
+    public void setOwnerType(OwnerType ownerType) {
+        this.ownerType = ownerType;
+    }
+
+    public String getMediaId() {
+        return mediaId;
+    }
+
+    public void setMediaId(String mediaId) {
+        this.mediaId = mediaId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public void setSize(Long size) {
+        this.size = size;
+    }
+
+    public Boolean getDeduplicated() {
+        return deduplicated;
+    }
+
+    public void setDeduplicated(Boolean deduplicated) {
+        this.deduplicated = deduplicated;
+    }
+
+    // Enums
+    public enum OwnerType {
+        STUDENT, USER
+    }
+}
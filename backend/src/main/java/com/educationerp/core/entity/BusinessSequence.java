@@ -0,0 +1,107 @@
+package com.educationerp.core.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Business Sequence entity for the Education ERP System
+ * Represents the high-water mark of one kind of business number of an institution; values below
+ * the next value have been handed out to nodes in blocks, whether or not they were used
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "business_sequences",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"institution_id", "sequence_kind"})
+       })
+public class BusinessSequence extends BaseEntity {
+
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @NotNull(message = "Sequence kind is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sequence_kind", nullable = false, length = 50)
+    private SequenceKind sequenceKind;
+
+    @NotNull(message = "Next value is required")
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue = 1L;
+
+    @Column(name = "block_size")
+    private Integer blockSize;
+
+    // Constructors
+    public BusinessSequence() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public SequenceKind getSequenceKind() {
+        return sequenceKind;
+    }
+
+    public void setSequenceKind(SequenceKind sequenceKind) {
+        this.sequenceKind = sequenceKind;
+    }
+
+    public Long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(Long nextValue) {
+        this.nextValue = nextValue;
+    }
+
+    public Integer getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(Integer blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    // Enums
+    public enum SequenceKind {
+        STUDENT_NUMBER, PAYMENT_REFERENCE, RECEIPT_NUMBER, INSTALLMENT_PLAN_CODE, REPORT_CODE
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        BusinessSequence that = (BusinessSequence) o;
+        return Objects.equals(institutionId, that.institutionId) &&
+               sequenceKind == that.sequenceKind;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), institutionId, sequenceKind);
+    }
+
+    @Override
+    public String toString() {
+        return "BusinessSequence{" +
+                "id=" + getId() +
+                ", institutionId=" + institutionId +
+                ", sequenceKind=" + sequenceKind +
+                ", nextValue=" + nextValue +
+                ", blockSize=" + blockSize +
+                '}';
+    }
+}
@@ -0,0 +1,257 @@
+package com.educationerp.core.service;
+
+import com.educationerp.core.entity.BusinessSequence;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service class for generating business numbers such as student numbers, receipt numbers and report codes
+ * Each institution has one sequence per kind of number. A node reserves a block of values by advancing the
+ * sequence's row in a short transaction of its own and then hands the values out from memory with an atomic
+ * counter, so the row is locked once per block rather than once per number. Values of a block that are not
+ * used before a restart are skipped; numbers are unique but not gapless.
+ * Numbers are formatted from a pattern per kind with the tokens {seq} or {seq:width}, {yyyy}, {yy}, {MM},
+ * {dd} and {institution}.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class BusinessNumberService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessNumberService.class);
+
+    private static final String PROPERTY_PREFIX = "education.erp.sequence.";
+    private static final Pattern TOKEN = Pattern.compile("\\{(seq|yyyy|yy|MM|dd|institution)(?::(\\d{1,2}))?}");
+
+    private static final Map<BusinessSequence.SequenceKind, String> DEFAULT_PATTERNS = new EnumMap<>(Map.of(
+            BusinessSequence.SequenceKind.STUDENT_NUMBER, "STU{yy}{seq:6}",
+            BusinessSequence.SequenceKind.PAYMENT_REFERENCE, "PAY-{yyyy}-{seq:8}",
+            BusinessSequence.SequenceKind.RECEIPT_NUMBER, "RCP-{yyyy}-{seq:8}",
+            BusinessSequence.SequenceKind.INSTALLMENT_PLAN_CODE, "IPL-{seq:6}",
+            BusinessSequence.SequenceKind.REPORT_CODE, "{yyyy}{MM}{dd}-{seq:6}"));
+
+    private static final String ADVANCE_SEQUENCE_SQL =
+            "UPDATE business_sequences SET next_value = next_value + ?, block_size = ?, updated_date = ? " +
+            "WHERE institution_id = ? AND sequence_kind = ? AND is_active = true";
+
+    private static final String SELECT_NEXT_VALUE_SQL =
+            "SELECT next_value FROM business_sequences WHERE institution_id = ? AND sequence_kind = ?";
+
+    private static final String INSERT_SEQUENCE_SQL =
+            "INSERT INTO business_sequences (institution_id, sequence_kind, next_value, block_size, created_date, is_active) " +
+            "VALUES (?, ?, ?, ?, ?, true)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${education.erp.sequence.block-size:100}")
+    private int defaultBlockSize;
+
+    private final Map<BusinessSequence.SequenceKind, List<Segment>> formats = new EnumMap<>(BusinessSequence.SequenceKind.class);
+    private final Map<BusinessSequence.SequenceKind, Integer> blockSizes = new EnumMap<>(BusinessSequence.SequenceKind.class);
+    private final Map<String, Range> ranges = new ConcurrentHashMap<>();
+
+    private TransactionTemplate blockTransaction;
+
+    @PostConstruct
+    void initialize() {
+        blockTransaction = new TransactionTemplate(transactionManager);
+        blockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (BusinessSequence.SequenceKind kind : BusinessSequence.SequenceKind.values()) {
+            String prefix = PROPERTY_PREFIX + kind.name().toLowerCase(Locale.ROOT).replace('_', '-');
+            formats.put(kind, parsePattern(kind, environment.getProperty(prefix + ".pattern", DEFAULT_PATTERNS.get(kind))));
+            blockSizes.put(kind, Math.max(1, environment.getProperty(prefix + ".block-size", Integer.class, defaultBlockSize)));
+        }
+    }
+
+    /**
+     * Generate the next number of a kind for an institution
+     */
+    public String next(Long institutionId, BusinessSequence.SequenceKind kind) {
+        return format(kind, institutionId, nextValue(institutionId, kind), LocalDate.now());
+    }
+
+    /**
+     * Generate several numbers of a kind at once; a request of at least a block is served from its own block
+     */
+    public List<String> next(Long institutionId, BusinessSequence.SequenceKind kind, int count) {
+        LocalDate today = LocalDate.now();
+        List<String> numbers = new ArrayList<>(count);
+        if (count >= blockSizes.get(kind)) {
+            Block block = reserveBlock(institutionId, kind, count);
+            for (long value = block.first; value < block.limit; value++) {
+                numbers.add(format(kind, institutionId, value, today));
+            }
+            return numbers;
+        }
+        for (int i = 0; i < count; i++) {
+            numbers.add(format(kind, institutionId, nextValue(institutionId, kind), today));
+        }
+        return numbers;
+    }
+
+    /**
+     * Take the next value of a sequence from the node's current block, reserving a new block when it runs out
+     */
+    public long nextValue(Long institutionId, BusinessSequence.SequenceKind kind) {
+        if (institutionId == null) {
+            throw new IllegalArgumentException("Institution ID is required for " + kind);
+        }
+        Range range = ranges.computeIfAbsent(institutionId + ":" + kind, key -> new Range());
+        while (true) {
+            Block block = range.block;
+            if (block != null) {
+                long value = block.next.getAndIncrement();
+                if (value < block.limit) {
+                    return value;
+                }
+            }
+            // Only one thread reserves the next block; the others wait and take from it
+            synchronized (range) {
+                if (range.block == block) {
+                    range.block = reserveBlock(institutionId, kind, blockSizes.get(kind));
+                }
+            }
+        }
+    }
+
+    /**
+     * Advance a sequence by a block in a transaction of its own, so the row lock is not held by the caller
+     */
+    private Block reserveBlock(Long institutionId, BusinessSequence.SequenceKind kind, int size) {
+        try {
+            return blockTransaction.execute(status -> advance(institutionId, kind, size));
+        } catch (DuplicateKeyException e) {
+            // Another node created the sequence first; advance the row it inserted
+            return blockTransaction.execute(status -> advance(institutionId, kind, size));
+        }
+    }
+
+    private Block advance(Long institutionId, BusinessSequence.SequenceKind kind, int size) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ADVANCE_SEQUENCE_SQL, size, size, now, institutionId, kind.name()) == 0) {
+            jdbcTemplate.update(INSERT_SEQUENCE_SQL, institutionId, kind.name(), 1L + size, size, now);
+            logger.info("Created {} sequence for institution: {}", kind, institutionId);
+            return new Block(1L, 1L + size);
+        }
+        long next = jdbcTemplate.queryForObject(SELECT_NEXT_VALUE_SQL, Long.class, institutionId, kind.name());
+        logger.debug("Reserved {} sequence block [{}, {}) for institution: {}", kind, next - size, next, institutionId);
+        return new Block(next - size, next);
+    }
+
+    private String format(BusinessSequence.SequenceKind kind, Long institutionId, long value, LocalDate date) {
+        StringBuilder number = new StringBuilder();
+        for (Segment segment : formats.get(kind)) {
+            switch (segment.token) {
+                case "" -> number.append(segment.literal);
+                case "seq" -> pad(number, value, segment.width);
+                case "institution" -> pad(number, institutionId, segment.width);
+                case "yyyy" -> pad(number, date.getYear(), 4);
+                case "yy" -> pad(number, date.getYear() % 100, 2);
+                case "MM" -> pad(number, date.getMonthValue(), 2);
+                case "dd" -> pad(number, date.getDayOfMonth(), 2);
+                default -> throw new IllegalStateException("Unknown token: " + segment.token);
+            }
+        }
+        return number.toString();
+    }
+
+    private static void pad(StringBuilder number, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            number.append('0');
+        }
+        number.append(digits);
+    }
+
+    private static List<Segment> parsePattern(BusinessSequence.SequenceKind kind, String pattern) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(pattern);
+        int position = 0;
+        boolean hasSequence = false;
+        while (matcher.find()) {
+            if (matcher.start() > position) {
+                segments.add(new Segment("", pattern.substring(position, matcher.start()), 0));
+            }
+            String token = matcher.group(1);
+            hasSequence |= token.equals("seq");
+            segments.add(new Segment(token, null, matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0));
+            position = matcher.end();
+        }
+        if (position < pattern.length()) {
+            segments.add(new Segment("", pattern.substring(position), 0));
+        }
+        if (!hasSequence) {
+            throw new IllegalStateException("Pattern of " + kind + " must contain {seq}: " + pattern);
+        }
+        return segments;
+    }
+
+    /**
+     * Literal text or token of a number pattern
+     */
+    private static final class Segment {
+        private final String token;
+        private final String literal;
+        private final int width;
+
+        Segment(String token, String literal, int width) {
+            this.token = token;
+            this.literal = literal;
+            this.width = width;
+        }
+    }
+
+    /**
+     * Block of values [first, limit) reserved by this node
+     */
+    private static final class Block {
+        private final long first;
+        private final long limit;
+        private final AtomicLong next;
+
+        Block(long first, long limit) {
+            this.first = first;
+            this.limit = limit;
+            this.next = new AtomicLong(first);
+        }
+    }
+
+    /**
+     * Current block of one institution's sequence of one kind
+     */
+    private static final class Range {
+        private volatile Block block;
+    }
+}
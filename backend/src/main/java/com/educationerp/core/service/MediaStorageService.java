@@ -0,0 +1,393 @@
+package com.educationerp.core.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service class for stored media such as profile pictures
+ * Uploads are streamed to disk through a fixed buffer while being hashed, and stored under their SHA-256
+ * so identical images are kept once and every stored file is immutable. Thumbnails are generated on a
+ * bounded background executor; a thumbnail not generated yet is served as the original.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class MediaStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaStorageService.class);
+
+    public static final String MEDIA_PATH = "/api/public/media/";
+    public static final String THUMBNAIL_PATH = MEDIA_PATH + "thumbnails/";
+
+    private static final Pattern MEDIA_ID = Pattern.compile("([0-9a-f]{64})\\.(jpg|png|gif|webp)");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_THUMBNAIL_SOURCE_PIXELS = 40_000_000L;
+
+    @Value("${education.erp.media.directory:${java.io.tmpdir}/media}")
+    private String mediaDirectory;
+
+    @Value("${education.erp.media.max-file-size:10485760}")
+    private long maxFileSize;
+
+    @Value("${education.erp.media.thumbnail-size:160}")
+    private int thumbnailSize;
+
+    @Value("${education.erp.media.thumbnail-threads:2}")
+    private int thumbnailThreads;
+
+    @Value("${education.erp.media.thumbnail-queue-capacity:200}")
+    private int thumbnailQueueCapacity;
+
+    /** Media IDs queued or being processed by the thumbnail executor */
+    private final Set<String> pendingThumbnails = ConcurrentHashMap.newKeySet();
+
+    private Path originalsDirectory;
+    private Path thumbnailsDirectory;
+    private Path uploadsDirectory;
+    private ThreadPoolExecutor thumbnailExecutor;
+
+    @PostConstruct
+    void initialize() throws IOException {
+        Path root = Paths.get(mediaDirectory);
+        originalsDirectory = Files.createDirectories(root.resolve("originals"));
+        thumbnailsDirectory = Files.createDirectories(root.resolve("thumbnails"));
+        uploadsDirectory = Files.createDirectories(root.resolve("uploads"));
+        int threads = Math.max(1, thumbnailThreads);
+        thumbnailExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, thumbnailQueueCapacity)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Thumbnails still missing are generated again when first requested
+        thumbnailExecutor.shutdownNow();
+    }
+
+    /**
+     * Stream an uploaded image to disk and store it under its content hash; the stream is read exactly once
+     */
+    public StoredMedia store(InputStream content) {
+        Path upload = uploadsDirectory.resolve(UUID.randomUUID() + ".upload");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            byte[] header = new byte[12];
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(upload)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    if (size < header.length) {
+                        System.arraycopy(buffer, 0, header, (int) size, (int) Math.min(read, header.length - size));
+                    }
+                    size += read;
+                    if (size > maxFileSize) {
+                        throw new BusinessException("Image must not exceed " + maxFileSize + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new BusinessException("Image is empty");
+            }
+            String extension = detectExtension(header);
+            if (extension == null) {
+                throw new BusinessException("Unsupported image type; use JPEG, PNG, GIF or WebP");
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String mediaId = hash + "." + extension;
+            Path target = originalPath(hash, extension);
+            boolean created = false;
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(upload, target, StandardCopyOption.ATOMIC_MOVE);
+                    created = true;
+                } catch (FileAlreadyExistsException | AtomicMoveNotSupportedException e) {
+                    // Stored concurrently by an identical upload, or moved without atomicity support
+                    if (!Files.exists(target)) {
+                        Files.move(upload, target);
+                        created = true;
+                    }
+                }
+            }
+            logger.info("Stored media {} ({} bytes, {})", mediaId, size, created ? "new" : "deduplicated");
+
+            requestThumbnail(mediaId);
+            return new StoredMedia(mediaId, contentType(extension), size, !created);
+        } catch (IOException e) {
+            throw new BusinessException("Could not store image: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    /**
+     * Resolve a stored original, or its thumbnail falling back to the original while the thumbnail is pending
+     */
+    public MediaFile resolve(String mediaId, boolean thumbnail) {
+        Matcher matcher = MEDIA_ID.matcher(mediaId);
+        if (!matcher.matches()) {
+            throw new ResourceNotFoundException("Media not found: " + mediaId);
+        }
+        String hash = matcher.group(1);
+        String extension = matcher.group(2);
+        try {
+            if (thumbnail) {
+                Path thumbnailPath = thumbnailPath(hash);
+                if (Files.exists(thumbnailPath)) {
+                    return new MediaFile(thumbnailPath, "image/jpeg", Files.size(thumbnailPath), "\"" + hash + "-t\"", true);
+                }
+            }
+            Path original = originalPath(hash, extension);
+            if (!Files.exists(original)) {
+                throw new ResourceNotFoundException("Media not found: " + mediaId);
+            }
+            if (thumbnail) {
+                requestThumbnail(mediaId);
+                return new MediaFile(original, contentType(extension), Files.size(original), "\"" + hash + "\"", false);
+            }
+            return new MediaFile(original, contentType(extension), Files.size(original), "\"" + hash + "\"", true);
+        } catch (IOException e) {
+            throw new ResourceNotFoundException("Media not found: " + mediaId);
+        }
+    }
+
+    public String getUrl(String mediaId) {
+        return MEDIA_PATH + mediaId;
+    }
+
+    public String getThumbnailUrl(String mediaId) {
+        return THUMBNAIL_PATH + mediaId;
+    }
+
+    /**
+     * Queue thumbnail generation unless it is queued already or the queue is full
+     */
+    private void requestThumbnail(String mediaId) {
+        Matcher matcher = MEDIA_ID.matcher(mediaId);
+        if (!matcher.matches() || "webp".equals(matcher.group(2)) || !pendingThumbnails.add(mediaId)) {
+            return;
+        }
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    generateThumbnail(matcher.group(1), matcher.group(2));
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Thumbnail generation failed for media {}: {}", mediaId, e.getMessage());
+                } finally {
+                    pendingThumbnails.remove(mediaId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingThumbnails.remove(mediaId);
+            logger.debug("Thumbnail queue full, media {} will be retried on its next request", mediaId);
+        }
+    }
+
+    private void generateThumbnail(String hash, String extension) throws IOException {
+        Path target = thumbnailPath(hash);
+        if (Files.exists(target)) {
+            return;
+        }
+
+        BufferedImage source;
+        try (ImageInputStream input = ImageIO.createImageInputStream(originalPath(hash, extension).toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Dimensions are checked before decoding so a small file cannot expand into gigabytes of pixels
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_THUMBNAIL_SOURCE_PIXELS) {
+                    logger.warn("Media {}.{} is too large to thumbnail", hash, extension);
+                    return;
+                }
+                source = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        double scale = Math.min(1.0, (double) thumbnailSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Files.createDirectories(target.getParent());
+        Path temporary = uploadsDirectory.resolve(UUID.randomUUID() + ".thumbnail");
+        try {
+            ImageIO.write(scaled, "jpg", temporary.toFile());
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            deleteQuietly(temporary);
+        }
+        logger.debug("Generated {}x{} thumbnail of media {}.{}", width, height, hash, extension);
+    }
+
+    private Path originalPath(String hash, String extension) {
+        return originalsDirectory.resolve(hash.substring(0, 2)).resolve(hash + "." + extension);
+    }
+
+    private Path thumbnailPath(String hash) {
+        return thumbnailsDirectory.resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    private static String detectExtension(byte[] header) {
+        if ((header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if ((header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return "png";
+        }
+        if (header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+            return "gif";
+        }
+        if (header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static String contentType(String extension) {
+        return switch (extension) {
+            case "jpg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            default -> "image/webp";
+        };
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete temporary media file {}", path);
+        }
+    }
+
+    /**
+     * Outcome of storing an upload
+     */
+    public static final class StoredMedia {
+
+        private final String mediaId;
+        private final String contentType;
+        private final long size;
+        private final boolean deduplicated;
+
+        private StoredMedia(String mediaId, String contentType, long size, boolean deduplicated) {
+            this.mediaId = mediaId;
+            this.contentType = contentType;
+            this.size = size;
+            this.deduplicated = deduplicated;
+        }
+
+        public String getMediaId() {
+            return mediaId;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public boolean isDeduplicated() {
+            return deduplicated;
+        }
+    }
+
+    /**
+     * A file to serve with its validator; immutable files may be cached by clients forever
+     */
+    public static final class MediaFile {
+
+        private final Path path;
+        private final String contentType;
+        private final long size;
+        private final String etag;
+        private final boolean immutable;
+
+        private MediaFile(Path path, String contentType, long size, String etag, boolean immutable) {
+            this.path = path;
+            this.contentType = contentType;
+            this.size = size;
+            this.etag = etag;
+            this.immutable = immutable;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public boolean isImmutable() {
+            return immutable;
+        }
+    }
+}
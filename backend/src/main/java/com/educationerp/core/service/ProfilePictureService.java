@@ -0,0 +1,86 @@
+package com.educationerp.core.service;
+
+import com.educationerp.core.dto.ProfilePictureResponse;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.repository.StudentRepository;
+import com.educationerp.user_management.entity.User;
+import com.educationerp.user_management.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+
+/**
+ * Service class for student and user profile pictures
+ * The image is stored before the owner is updated, so no transaction is held open while an upload streams in
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class ProfilePictureService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfilePictureService.class);
+
+    @Autowired
+    private MediaStorageService mediaStorageService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Store a student's profile picture
+     */
+    public ProfilePictureResponse updateStudentPicture(Long studentId, InputStream content) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+        }
+        MediaStorageService.StoredMedia media = mediaStorageService.store(content);
+
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + studentId));
+        student.setProfilePictureUrl(mediaStorageService.getUrl(media.getMediaId()));
+        studentRepository.save(student);
+
+        logger.info("Profile picture of student {} set to media {}", studentId, media.getMediaId());
+        return mapToResponse(studentId, ProfilePictureResponse.OwnerType.STUDENT, media);
+    }
+
+    /**
+     * Store a user's profile picture
+     */
+    public ProfilePictureResponse updateUserPicture(Long userId, InputStream content) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
+        MediaStorageService.StoredMedia media = mediaStorageService.store(content);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+        user.setProfilePictureUrl(mediaStorageService.getUrl(media.getMediaId()));
+        userRepository.save(user);
+
+        logger.info("Profile picture of user {} set to media {}", userId, media.getMediaId());
+        return mapToResponse(userId, ProfilePictureResponse.OwnerType.USER, media);
+    }
+
+    private ProfilePictureResponse mapToResponse(Long ownerId, ProfilePictureResponse.OwnerType ownerType,
+                                                 MediaStorageService.StoredMedia media) {
+        ProfilePictureResponse response = new ProfilePictureResponse();
+        response.setOwnerId(ownerId);
+        response.setOwnerType(ownerType);
+        response.setMediaId(media.getMediaId());
+        response.setUrl(mediaStorageService.getUrl(media.getMediaId()));
+        response.setThumbnailUrl(mediaStorageService.getThumbnailUrl(media.getMediaId()));
+        response.setContentType(media.getContentType());
+        response.setSize(media.getSize());
+        response.setDeduplicated(media.isDeduplicated());
+        return response;
+    }
+}
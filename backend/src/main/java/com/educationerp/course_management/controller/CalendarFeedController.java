@@ -0,0 +1,67 @@
+package com.educationerp.course_management.controller;
+
+import com.educationerp.course_management.dto.CalendarSubscriptionResponse.CalendarFeedType;
+import com.educationerp.course_management.service.CalendarFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller serving iCalendar feeds to calendar clients
+ * Calendar apps cannot send credentials, so feeds are public and addressed by a signed token;
+ * subscription URLs are handed out by {@link CalendarSubscriptionController}
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/public/calendar")
+@Tag(name = "Calendar Feeds", description = "iCalendar feeds of course schedules")
+public class CalendarFeedController {
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    /**
+     * Get the calendar feed of a course
+     */
+    @GetMapping("/courses/{courseId}/{token}.ics")
+    @Operation(summary = "Get course calendar", description = "Course dates, weekly sessions and exams; returns 304 when the If-None-Match ETag is current")
+    public ResponseEntity<byte[]> getCourseFeed(
+            @Parameter(description = "Course ID") @PathVariable Long courseId,
+            @Parameter(description = "Subscription token") @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return calendarFeedService.getFeed(CalendarFeedType.COURSE, courseId, token).toResponse(ifNoneMatch);
+    }
+
+    /**
+     * Get the calendar feed of a student
+     */
+    @GetMapping("/students/{studentId}/{token}.ics")
+    @Operation(summary = "Get student calendar", description = "Schedule of the student's active enrollments; returns 304 when the If-None-Match ETag is current")
+    public ResponseEntity<byte[]> getStudentFeed(
+            @Parameter(description = "Student ID") @PathVariable Long studentId,
+            @Parameter(description = "Subscription token") @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return calendarFeedService.getFeed(CalendarFeedType.STUDENT, studentId, token).toResponse(ifNoneMatch);
+    }
+
+    /**
+     * Get the calendar feed of a teacher
+     */
+    @GetMapping("/teachers/{userId}/{token}.ics")
+    @Operation(summary = "Get teacher calendar", description = "Schedule of the courses the teacher instructs; returns 304 when the If-None-Match ETag is current")
+    public ResponseEntity<byte[]> getTeacherFeed(
+            @Parameter(description = "Teacher user ID") @PathVariable Long userId,
+            @Parameter(description = "Subscription token") @PathVariable String token,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return calendarFeedService.getFeed(CalendarFeedType.TEACHER, userId, token).toResponse(ifNoneMatch);
+    }
+}
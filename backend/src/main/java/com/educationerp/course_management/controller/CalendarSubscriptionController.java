@@ -0,0 +1,75 @@
+package com.educationerp.course_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.course_management.dto.CalendarSubscriptionResponse;
+import com.educationerp.course_management.dto.CalendarSubscriptionResponse.CalendarFeedType;
+import com.educationerp.course_management.service.CalendarFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller handing out calendar subscription URLs
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/calendar/subscriptions")
+@Tag(name = "Calendar Subscriptions", description = "Subscription URLs of course schedule feeds")
+public class CalendarSubscriptionController {
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    /**
+     * Get the subscription URL of a course calendar
+     */
+    @GetMapping("/courses/{courseId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Get course calendar subscription", description = "URL of the iCalendar feed of a course")
+    public ResponseEntity<ApiResponse<CalendarSubscriptionResponse>> getCourseSubscription(
+            @Parameter(description = "Course ID") @PathVariable Long courseId) {
+
+        CalendarSubscriptionResponse subscription = calendarFeedService.getSubscription(CalendarFeedType.COURSE, courseId);
+        ApiResponse<CalendarSubscriptionResponse> response = ApiResponse.success("Calendar subscription retrieved successfully", subscription);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the subscription URL of a student calendar
+     */
+    @GetMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or " +
+            "(hasRole('PARENT') and @parentPortalService.isLinked(principal.user.id, #studentId))")
+    @Operation(summary = "Get student calendar subscription", description = "URL of the iCalendar feed of a student's courses")
+    public ResponseEntity<ApiResponse<CalendarSubscriptionResponse>> getStudentSubscription(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        CalendarSubscriptionResponse subscription = calendarFeedService.getSubscription(CalendarFeedType.STUDENT, studentId);
+        ApiResponse<CalendarSubscriptionResponse> response = ApiResponse.success("Calendar subscription retrieved successfully", subscription);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the subscription URL of a teacher calendar
+     */
+    @GetMapping("/teachers/{userId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or " +
+            "(hasRole('TEACHER') and principal.user.id == #userId)")
+    @Operation(summary = "Get teacher calendar subscription", description = "URL of the iCalendar feed of the courses a teacher instructs")
+    public ResponseEntity<ApiResponse<CalendarSubscriptionResponse>> getTeacherSubscription(
+            @Parameter(description = "Teacher user ID") @PathVariable Long userId) {
+
+        CalendarSubscriptionResponse subscription = calendarFeedService.getSubscription(CalendarFeedType.TEACHER, userId);
+        ApiResponse<CalendarSubscriptionResponse> response = ApiResponse.success("Calendar subscription retrieved successfully", subscription);
+
+        return ResponseEntity.ok(response);
+    }
+}
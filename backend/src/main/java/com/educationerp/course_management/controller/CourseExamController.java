@@ -0,0 +1,83 @@
+package com.educationerp.course_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.course_management.dto.CourseExamRequest;
+import com.educationerp.course_management.dto.CourseExamResponse;
+import com.educationerp.course_management.service.CourseExamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for course exams
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/course/exams")
+@Tag(name = "Course Exams", description = "Exam scheduling for courses")
+public class CourseExamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseExamController.class);
+
+    @Autowired
+    private CourseExamService courseExamService;
+
+    /**
+     * Schedule an exam for a course
+     */
+    @PostMapping("/courses/{courseId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Schedule exam", description = "Schedule an exam, publish it to the calendar feeds and optionally notify enrolled students")
+    public ResponseEntity<ApiResponse<CourseExamResponse>> scheduleExam(
+            @Parameter(description = "Course ID") @PathVariable Long courseId,
+            @Valid @RequestBody CourseExamRequest request) {
+        logger.info("Exam scheduling requested for course: {}", courseId);
+
+        CourseExamResponse exam = courseExamService.scheduleExam(courseId, request);
+        ApiResponse<CourseExamResponse> response = ApiResponse.success("Exam scheduled successfully", exam);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Get the exams of a course
+     */
+    @GetMapping("/courses/{courseId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get course exams", description = "Retrieve the scheduled exams of a course")
+    public ResponseEntity<ApiResponse<List<CourseExamResponse>>> getExams(
+            @Parameter(description = "Course ID") @PathVariable Long courseId) {
+
+        List<CourseExamResponse> exams = courseExamService.getExams(courseId);
+        ApiResponse<List<CourseExamResponse>> response = ApiResponse.success("Course exams retrieved successfully", exams);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Cancel an exam
+     */
+    @DeleteMapping("/{examId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Cancel exam", description = "Cancel a scheduled exam and remove it from the calendar feeds")
+    public ResponseEntity<ApiResponse<Void>> cancelExam(@Parameter(description = "Exam ID") @PathVariable Long examId) {
+        logger.info("Exam cancellation requested: {}", examId);
+
+        courseExamService.cancelExam(examId);
+        ApiResponse<Void> response = ApiResponse.success("Exam cancelled successfully", null);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,83 @@
+package com.educationerp.course_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.course_management.dto.DegreeAuditResponse;
+import com.educationerp.course_management.dto.DegreeAuditRunResponse;
+import com.educationerp.course_management.service.DegreeAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for degree audits
+ * Provides per-student audits and institution-wide graduation risk listings
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/course/degree-audits")
+@Tag(name = "Degree Audit", description = "Degree progress against curriculum credit requirements")
+public class DegreeAuditController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DegreeAuditController.class);
+
+    @Autowired
+    private DegreeAuditService degreeAuditService;
+
+    /**
+     * Get degree audit of a student
+     */
+    @GetMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get student degree audit", description = "Earned and remaining credits with projected completion for a student")
+    public ResponseEntity<ApiResponse<DegreeAuditResponse>> getStudentAudit(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        DegreeAuditResponse audit = degreeAuditService.getStudentAudit(studentId);
+        ApiResponse<DegreeAuditResponse> response = ApiResponse.success("Degree audit retrieved successfully", audit);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Run degree audit for every student of an institution
+     */
+    @PostMapping("/institutions/{institutionId}/run")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Run institution degree audit", description = "Audit all active students of an institution in parallel and refresh the cache")
+    public ResponseEntity<ApiResponse<DegreeAuditRunResponse>> runInstitutionAudit(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId) {
+        logger.info("Running degree audit for institution: {}", institutionId);
+
+        DegreeAuditRunResponse run = degreeAuditService.runInstitutionAudit(institutionId);
+        ApiResponse<DegreeAuditRunResponse> response = ApiResponse.success("Degree audit completed successfully", run);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get institution degree audits ordered by graduation risk
+     */
+    @GetMapping("/institutions/{institutionId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get institution degree audits", description = "Retrieve student audits sorted by risk of not graduating on time, highest first")
+    public ResponseEntity<ApiResponse<Page<DegreeAuditResponse>>> getInstitutionAudits(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Risk level filter") @RequestParam(required = false) DegreeAuditResponse.RiskLevel riskLevel,
+            Pageable pageable) {
+
+        Page<DegreeAuditResponse> audits = degreeAuditService.getInstitutionAudits(institutionId, riskLevel, pageable);
+        ApiResponse<Page<DegreeAuditResponse>> response = ApiResponse.success("Degree audits retrieved successfully", audits);
+
+        return ResponseEntity.ok(response);
+    }
+}
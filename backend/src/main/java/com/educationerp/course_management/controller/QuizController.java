@@ -0,0 +1,110 @@
+package com.educationerp.course_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.course_management.dto.QuizRequest;
+import com.educationerp.course_management.dto.QuizResponse;
+import com.educationerp.course_management.dto.QuizResultsResponse;
+import com.educationerp.course_management.service.QuizService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for managing online quizzes
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/course/quizzes")
+@Tag(name = "Quizzes", description = "Online quiz management and results")
+public class QuizController {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizController.class);
+
+    @Autowired
+    private QuizService quizService;
+
+    /**
+     * Create a quiz
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Create quiz", description = "Create an online quiz with its questions and answer key")
+    public ResponseEntity<ApiResponse<QuizResponse>> createQuiz(@Valid @RequestBody QuizRequest request) {
+        logger.info("Quiz creation requested for course: {}", request.getCourseId());
+
+        QuizResponse quiz = quizService.createQuiz(request);
+        ApiResponse<QuizResponse> response = ApiResponse.success("Quiz created successfully", quiz);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Get a quiz with its answer key
+     */
+    @GetMapping("/{quizId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get quiz", description = "Retrieve a quiz with its questions and answer key")
+    public ResponseEntity<ApiResponse<QuizResponse>> getQuiz(@Parameter(description = "Quiz ID") @PathVariable Long quizId) {
+
+        QuizResponse quiz = quizService.getQuiz(quizId, true);
+        ApiResponse<QuizResponse> response = ApiResponse.success("Quiz retrieved successfully", quiz);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the quizzes of a course
+     */
+    @GetMapping("/courses/{courseId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get course quizzes", description = "Retrieve the quizzes of a course")
+    public ResponseEntity<ApiResponse<List<QuizResponse>>> getCourseQuizzes(
+            @Parameter(description = "Course ID") @PathVariable Long courseId) {
+
+        List<QuizResponse> quizzes = quizService.getCourseQuizzes(courseId);
+        ApiResponse<List<QuizResponse>> response = ApiResponse.success("Course quizzes retrieved successfully", quizzes);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Close a quiz
+     */
+    @PostMapping("/{quizId}/close")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Close quiz", description = "Stop accepting submissions; accepted submissions are still scored and stored")
+    public ResponseEntity<ApiResponse<QuizResponse>> closeQuiz(@Parameter(description = "Quiz ID") @PathVariable Long quizId) {
+        logger.info("Quiz close requested: {}", quizId);
+
+        QuizResponse quiz = quizService.closeQuiz(quizId);
+        ApiResponse<QuizResponse> response = ApiResponse.success("Quiz closed successfully", quiz);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the results of a quiz
+     */
+    @GetMapping("/{quizId}/results")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get quiz results", description = "Accepted, pending and scored submissions with the average score")
+    public ResponseEntity<ApiResponse<QuizResultsResponse>> getResults(@Parameter(description = "Quiz ID") @PathVariable Long quizId) {
+
+        QuizResultsResponse results = quizService.getResults(quizId);
+        ApiResponse<QuizResultsResponse> response = ApiResponse.success("Quiz results retrieved successfully", results);
+
+        return ResponseEntity.ok(response);
+    }
+}
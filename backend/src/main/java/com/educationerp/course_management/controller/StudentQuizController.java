@@ -0,0 +1,83 @@
+package com.educationerp.course_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.course_management.dto.QuizResponse;
+import com.educationerp.course_management.dto.QuizSubmissionRequest;
+import com.educationerp.course_management.dto.QuizSubmissionResponse;
+import com.educationerp.course_management.service.QuizService;
+import com.educationerp.course_management.service.QuizSubmissionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for taking online quizzes
+ * Submissions are acknowledged once journaled; scores follow asynchronously. User accounts are not linked
+ * to student records, so submissions and scores are handled by staff on behalf of the student.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/student/quizzes")
+@Tag(name = "Student Quizzes", description = "Taking online quizzes")
+public class StudentQuizController {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuizSubmissionService quizSubmissionService;
+
+    /**
+     * Get an open quiz without its answer key
+     */
+    @GetMapping("/{quizId}")
+    @PreAuthorize("hasRole('STUDENT') or hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER')")
+    @Operation(summary = "Get quiz", description = "Retrieve the questions of an open quiz")
+    public ResponseEntity<ApiResponse<QuizResponse>> getQuiz(@Parameter(description = "Quiz ID") @PathVariable Long quizId) {
+
+        QuizResponse quiz = quizService.getQuiz(quizId, false);
+        ApiResponse<QuizResponse> response = ApiResponse.success("Quiz retrieved successfully", quiz);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Submit answers to a quiz
+     */
+    @PostMapping("/{quizId}/submissions")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER')")
+    @Operation(summary = "Submit quiz", description = "Submit answers once; the receipt is returned when the submission is journaled")
+    public ResponseEntity<ApiResponse<QuizSubmissionResponse>> submit(
+            @Parameter(description = "Quiz ID") @PathVariable Long quizId,
+            @Valid @RequestBody QuizSubmissionRequest request) {
+
+        QuizSubmissionResponse receipt = quizSubmissionService.submit(quizId, request);
+        ApiResponse<QuizSubmissionResponse> response = ApiResponse.success("Quiz submission accepted", receipt);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get a student's submission and score
+     */
+    @GetMapping("/{quizId}/submissions/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Get quiz submission", description = "Retrieve a student's submission receipt and score once scored")
+    public ResponseEntity<ApiResponse<QuizSubmissionResponse>> getSubmission(
+            @Parameter(description = "Quiz ID") @PathVariable Long quizId,
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        QuizSubmissionResponse submission = quizSubmissionService.getSubmission(quizId, studentId);
+        ApiResponse<QuizSubmissionResponse> response = ApiResponse.success("Quiz submission retrieved successfully", submission);
+
+        return ResponseEntity.ok(response);
+    }
+}
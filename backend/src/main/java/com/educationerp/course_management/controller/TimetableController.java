@@ -0,0 +1,109 @@
+package com.educationerp.course_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.course_management.dto.GenerateTimetableRequest;
+import com.educationerp.course_management.dto.TimetableEntryResponse;
+import com.educationerp.course_management.dto.TimetableJobResponse;
+import com.educationerp.course_management.service.TimetableService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * REST controller for term timetable generation
+ * Generation runs as a background job; clients poll or stream its progress
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/course/timetables")
+@Tag(name = "Timetable Management", description = "Automatic term timetable generation")
+public class TimetableController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimetableController.class);
+
+    @Autowired
+    private TimetableService timetableService;
+
+    /**
+     * Start timetable generation for a term
+     */
+    @PostMapping("/generate")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Generate timetable", description = "Start a background job that places all course sessions of a term")
+    public ResponseEntity<ApiResponse<TimetableJobResponse>> generateTimetable(@Valid @RequestBody GenerateTimetableRequest request) {
+        logger.info("Timetable generation requested for institution: {}", request.getInstitutionId());
+
+        TimetableJobResponse job = timetableService.startGeneration(request);
+        ApiResponse<TimetableJobResponse> response = ApiResponse.success("Timetable generation started successfully", job);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get generation job status
+     */
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get timetable job", description = "Retrieve job status, best-so-far score and optionally the placed sessions")
+    public ResponseEntity<ApiResponse<TimetableJobResponse>> getJob(
+            @Parameter(description = "Job ID") @PathVariable String jobId,
+            @Parameter(description = "Include placed sessions") @RequestParam(defaultValue = "false") boolean includeEntries) {
+
+        TimetableJobResponse job = timetableService.getJob(jobId, includeEntries);
+        ApiResponse<TimetableJobResponse> response = ApiResponse.success("Timetable job retrieved successfully", job);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Stream generation job progress
+     */
+    @GetMapping(value = "/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Stream timetable job", description = "Server-sent events with best-so-far progress until the job finishes")
+    public SseEmitter streamJob(@Parameter(description = "Job ID") @PathVariable String jobId) {
+        return timetableService.subscribe(jobId);
+    }
+
+    /**
+     * Cancel generation job
+     */
+    @DeleteMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Cancel timetable job", description = "Stop the job and keep its best-so-far result without persisting it")
+    public ResponseEntity<ApiResponse<TimetableJobResponse>> cancelJob(@Parameter(description = "Job ID") @PathVariable String jobId) {
+        TimetableJobResponse job = timetableService.cancelJob(jobId);
+        ApiResponse<TimetableJobResponse> response = ApiResponse.success("Timetable job cancellation requested successfully", job);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get weekly timetable of a course
+     */
+    @GetMapping("/courses/{courseId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('COURSE_MANAGER')")
+    @Operation(summary = "Get course timetable", description = "Retrieve the persisted weekly sessions of a course")
+    public ResponseEntity<ApiResponse<List<TimetableEntryResponse>>> getCourseTimetable(
+            @Parameter(description = "Course ID") @PathVariable Long courseId) {
+
+        List<TimetableEntryResponse> entries = timetableService.getCourseTimetable(courseId);
+        ApiResponse<List<TimetableEntryResponse>> response = ApiResponse.success("Course timetable retrieved successfully", entries);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,57 @@
+package com.educationerp.course_management.dto;
+
+/**
+ * DTO for the subscription URLs of an iCalendar feed
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class CalendarSubscriptionResponse {
+
+    private CalendarFeedType feedType;
+    private Long ownerId;
+    private String url;
+    private String webcalUrl;
+
+    // Constructors
+    public CalendarSubscriptionResponse() {
+    }
+
+    // Getters and Setters
+    public CalendarFeedType getFeedType() {
+        return feedType;
+    }
+
+    public void setFeedType(CalendarFeedType feedType) {
+        this.feedType = feedType;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getWebcalUrl() {
+        return webcalUrl;
+    }
+
+    public void setWebcalUrl(String webcalUrl) {
+        this.webcalUrl = webcalUrl;
+    }
+
+    // Enums
+    public enum CalendarFeedType {
+        COURSE, STUDENT, TEACHER
+    }
+}
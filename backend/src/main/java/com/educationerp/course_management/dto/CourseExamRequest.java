@@ -0,0 +1,79 @@
+package com.educationerp.course_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for scheduling an exam of a course
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class CourseExamRequest {
+
+    @NotBlank(message = "Exam title is required")
+    @Size(max = 200, message = "Exam title must not exceed 200 characters")
+    private String title;
+
+    @NotNull(message = "Exam date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime examDate;
+
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    private Integer durationMinutes;
+
+    @Size(max = 500, message = "Room must not exceed 500 characters")
+    private String room;
+
+    private Boolean notifyStudents = true;
+
+    // Constructors
+    public CourseExamRequest() {
+    }
+
+    // Getters and Setters
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getExamDate() {
+        return examDate;
+    }
+
+    public void setExamDate(LocalDateTime examDate) {
+        this.examDate = examDate;
+    }
+
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public String getRoom() {
+        return room;
+    }
+
+    public void setRoom(String room) {
+        this.room = room;
+    }
+
+    public Boolean getNotifyStudents() {
+        return notifyStudents;
+    }
+
+    public void setNotifyStudents(Boolean notifyStudents) {
+        this.notifyStudents = notifyStudents;
+    }
+}
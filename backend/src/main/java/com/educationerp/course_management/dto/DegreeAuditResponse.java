@@ -0,0 +1,224 @@
+package com.educationerp.course_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a student's degree audit against curriculum credit requirements
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DegreeAuditResponse {
+
+    private Long studentId;
+    private Long institutionId;
+    private String studentNumber;
+    private String studentName;
+    private String program;
+    private Long curriculumId;
+    private String curriculumCode;
+    private Integer requiredCredits;
+    private Integer earnedCredits;
+    private Integer inProgressCredits;
+    private Integer failedCredits;
+    private Integer remainingCredits;
+    private Double completionPercentage;
+    private Integer plannedSemesters;
+    private Double semestersElapsed;
+    private Integer projectedSemestersRemaining;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate expectedCompletionDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate projectedCompletionDate;
+
+    private Double riskScore;
+    private RiskLevel riskLevel;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime auditedAt;
+
+    // Constructors
+    public DegreeAuditResponse() {
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public String getStudentNumber() {
+        return studentNumber;
+    }
+
+    public void setStudentNumber(String studentNumber) {
+        this.studentNumber = studentNumber;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public String getProgram() {
+        return program;
+    }
+
+    public void setProgram(String program) {
+        this.program = program;
+    }
+
+    public Long getCurriculumId() {
+        return curriculumId;
+    }
+
+    public void setCurriculumId(Long curriculumId) {
+        this.curriculumId = curriculumId;
+    }
+
+    public String getCurriculumCode() {
+        return curriculumCode;
+    }
+
+    public void setCurriculumCode(String curriculumCode) {
+        this.curriculumCode = curriculumCode;
+    }
+
+    public Integer getRequiredCredits() {
+        return requiredCredits;
+    }
+
+    public void setRequiredCredits(Integer requiredCredits) {
+        this.requiredCredits = requiredCredits;
+    }
+
+    public Integer getEarnedCredits() {
+        return earnedCredits;
+    }
+
+    public void setEarnedCredits(Integer earnedCredits) {
+        this.earnedCredits = earnedCredits;
+    }
+
+    public Integer getInProgressCredits() {
+        return inProgressCredits;
+    }
+
+    public void setInProgressCredits(Integer inProgressCredits) {
+        this.inProgressCredits = inProgressCredits;
+    }
+
+    public Integer getFailedCredits() {
+        return failedCredits;
+    }
+
+    public void setFailedCredits(Integer failedCredits) {
+        this.failedCredits = failedCredits;
+    }
+
+    public Integer getRemainingCredits() {
+        return remainingCredits;
+    }
+
+    public void setRemainingCredits(Integer remainingCredits) {
+        this.remainingCredits = remainingCredits;
+    }
+
+    public Double getCompletionPercentage() {
+        return completionPercentage;
+    }
+
+    public void setCompletionPercentage(Double completionPercentage) {
+        this.completionPercentage = completionPercentage;
+    }
+
+    public Integer getPlannedSemesters() {
+        return plannedSemesters;
+    }
+
+    public void setPlannedSemesters(Integer plannedSemesters) {
+        this.plannedSemesters = plannedSemesters;
+    }
+
+    public Double getSemestersElapsed() {
+        return semestersElapsed;
+    }
+
+    public void setSemestersElapsed(Double semestersElapsed) {
+        this.semestersElapsed = semestersElapsed;
+    }
+
+    public Integer getProjectedSemestersRemaining() {
+        return projectedSemestersRemaining;
+    }
+
+    public void setProjectedSemestersRemaining(Integer projectedSemestersRemaining) {
+        this.projectedSemestersRemaining = projectedSemestersRemaining;
+    }
+
+    public LocalDate getExpectedCompletionDate() {
+        return expectedCompletionDate;
+    }
+
+    public void setExpectedCompletionDate(LocalDate expectedCompletionDate) {
+        this.expectedCompletionDate = expectedCompletionDate;
+    }
+
+    public LocalDate getProjectedCompletionDate() {
+        return projectedCompletionDate;
+    }
+
+    public void setProjectedCompletionDate(LocalDate projectedCompletionDate) {
+        this.projectedCompletionDate = projectedCompletionDate;
+    }
+
+    public Double getRiskScore() {
+        return riskScore;
+    }
+
+    public void setRiskScore(Double riskScore) {
+        this.riskScore = riskScore;
+    }
+
+    public RiskLevel getRiskLevel() {
+        return riskLevel;
+    }
+
+    public void setRiskLevel(RiskLevel riskLevel) {
+        this.riskLevel = riskLevel;
+    }
+
+    public LocalDateTime getAuditedAt() {
+        return auditedAt;
+    }
+
+    public void setAuditedAt(LocalDateTime auditedAt) {
+        this.auditedAt = auditedAt;
+    }
+
+    // Enums
+    public enum RiskLevel {
+        COMPLETED, ON_TRACK, AT_RISK, CRITICAL, NO_CURRICULUM
+    }
+}
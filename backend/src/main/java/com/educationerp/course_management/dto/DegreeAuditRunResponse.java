@@ -0,0 +1,112 @@
+package com.educationerp.course_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the outcome of an institution-wide degree audit run
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class DegreeAuditRunResponse {
+
+    private Long institutionId;
+    private Integer auditedStudents;
+    private Integer partitions;
+    private Integer completed;
+    private Integer onTrack;
+    private Integer atRisk;
+    private Integer critical;
+    private Integer noCurriculum;
+    private Long elapsedMillis;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime auditedAt;
+
+    // Constructors
+    public DegreeAuditRunResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Integer getAuditedStudents() {
+        return auditedStudents;
+    }
+
+    public void setAuditedStudents(Integer auditedStudents) {
+        this.auditedStudents = auditedStudents;
+    }
+
+    public Integer getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(Integer partitions) {
+        this.partitions = partitions;
+    }
+
+    public Integer getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Integer completed) {
+        this.completed = completed;
+    }
+
+    public Integer getOnTrack() {
+        return onTrack;
+    }
+
+    public void setOnTrack(Integer onTrack) {
+        this.onTrack = onTrack;
+    }
+
+    public Integer getAtRisk() {
+        return atRisk;
+    }
+
+    public void setAtRisk(Integer atRisk) {
+        this.atRisk = atRisk;
+    }
+
+    public Integer getCritical() {
+        return critical;
+    }
+
+    public void setCritical(Integer critical) {
+        this.critical = critical;
+    }
+
+    public Integer getNoCurriculum() {
+        return noCurriculum;
+    }
+
+    public void setNoCurriculum(Integer noCurriculum) {
+        this.noCurriculum = noCurriculum;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public LocalDateTime getAuditedAt() {
+        return auditedAt;
+    }
+
+    public void setAuditedAt(LocalDateTime auditedAt) {
+        this.auditedAt = auditedAt;
+    }
+}
@@ -0,0 +1,196 @@
+package com.educationerp.course_management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for requesting automatic timetable generation for a term
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class GenerateTimetableRequest {
+
+    @NotNull(message = "Institution ID is required")
+    private Long institutionId;
+
+    private Long branchId;
+
+    @NotNull(message = "Term start date is required")
+    private LocalDate termStart;
+
+    @NotNull(message = "Term end date is required")
+    private LocalDate termEnd;
+
+    @Min(value = 1, message = "Days per week must be at least 1")
+    @Max(value = 7, message = "Days per week must not exceed 7")
+    private Integer daysPerWeek = 5;
+
+    @Min(value = 1, message = "Periods per day must be at least 1")
+    @Max(value = 24, message = "Periods per day must not exceed 24")
+    private Integer periodsPerDay = 8;
+
+    private LocalTime firstPeriodStart = LocalTime.of(8, 30);
+
+    @Min(value = 15, message = "Period length must be at least 15 minutes")
+    private Integer periodMinutes = 60;
+
+    @Min(value = 1, message = "Time budget must be at least 1 second")
+    private Integer timeBudgetSeconds;
+
+    private Boolean persist = true;
+
+    @Valid
+    private List<Room> rooms = new ArrayList<>();
+
+    // Constructors
+    public GenerateTimetableRequest() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getBranchId() {
+        return branchId;
+    }
+
+    public void setBranchId(Long branchId) {
+        this.branchId = branchId;
+    }
+
+    public LocalDate getTermStart() {
+        return termStart;
+    }
+
+    public void setTermStart(LocalDate termStart) {
+        this.termStart = termStart;
+    }
+
+    public LocalDate getTermEnd() {
+        return termEnd;
+    }
+
+    public void setTermEnd(LocalDate termEnd) {
+        this.termEnd = termEnd;
+    }
+
+    public Integer getDaysPerWeek() {
+        return daysPerWeek;
+    }
+
+    public void setDaysPerWeek(Integer daysPerWeek) {
+        this.daysPerWeek = daysPerWeek;
+    }
+
+    public Integer getPeriodsPerDay() {
+        return periodsPerDay;
+    }
+
+    public void setPeriodsPerDay(Integer periodsPerDay) {
+        this.periodsPerDay = periodsPerDay;
+    }
+
+    public LocalTime getFirstPeriodStart() {
+        return firstPeriodStart;
+    }
+
+    public void setFirstPeriodStart(LocalTime firstPeriodStart) {
+        this.firstPeriodStart = firstPeriodStart;
+    }
+
+    public Integer getPeriodMinutes() {
+        return periodMinutes;
+    }
+
+    public void setPeriodMinutes(Integer periodMinutes) {
+        this.periodMinutes = periodMinutes;
+    }
+
+    public Integer getTimeBudgetSeconds() {
+        return timeBudgetSeconds;
+    }
+
+    public void setTimeBudgetSeconds(Integer timeBudgetSeconds) {
+        this.timeBudgetSeconds = timeBudgetSeconds;
+    }
+
+    public Boolean getPersist() {
+        return persist;
+    }
+
+    public void setPersist(Boolean persist) {
+        this.persist = persist;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(List<Room> rooms) {
+        this.rooms = rooms;
+    }
+
+    /**
+     * Room available to the generator; when none are given rooms are derived from course locations
+     */
+    public static class Room {
+
+        @NotBlank(message = "Room name is required")
+        private String name;
+
+        @NotNull(message = "Room capacity is required")
+        @Min(value = 1, message = "Room capacity must be at least 1")
+        private Integer capacity;
+
+        public Room() {
+        }
+
+        public Room(String name, Integer capacity) {
+            this.name = name;
+            this.capacity = capacity;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GenerateTimetableRequest{" +
+                "institutionId=" + institutionId +
+                ", branchId=" + branchId +
+                ", termStart=" + termStart +
+                ", termEnd=" + termEnd +
+                ", daysPerWeek=" + daysPerWeek +
+                ", periodsPerDay=" + periodsPerDay +
+                ", timeBudgetSeconds=" + timeBudgetSeconds +
+                '}';
+    }
+}
@@ -0,0 +1,173 @@
+package com.educationerp.course_management.dto;
+
+import com.educationerp.course_management.entity.QuizQuestion;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for creating an online quiz of a course
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class QuizRequest {
+
+    @NotNull(message = "Course ID is required")
+    private Long courseId;
+
+    @NotBlank(message = "Quiz title is required")
+    @Size(max = 200, message = "Quiz title must not exceed 200 characters")
+    private String title;
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    private String description;
+
+    @NotNull(message = "Opening time is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime opensAt;
+
+    @NotNull(message = "Closing time is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime closesAt;
+
+    private Boolean recordAsCourseGrade = false;
+
+    @Valid
+    @NotEmpty(message = "At least one question is required")
+    private List<Question> questions = new ArrayList<>();
+
+    // Constructors
+    public QuizRequest() {
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getOpensAt() {
+        return opensAt;
+    }
+
+    public void setOpensAt(LocalDateTime opensAt) {
+        this.opensAt = opensAt;
+    }
+
+    public LocalDateTime getClosesAt() {
+        return closesAt;
+    }
+
+    public void setClosesAt(LocalDateTime closesAt) {
+        this.closesAt = closesAt;
+    }
+
+    public Boolean getRecordAsCourseGrade() {
+        return recordAsCourseGrade;
+    }
+
+    public void setRecordAsCourseGrade(Boolean recordAsCourseGrade) {
+        this.recordAsCourseGrade = recordAsCourseGrade;
+    }
+
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<Question> questions) {
+        this.questions = questions;
+    }
+
+    /**
+     * Question of the quiz with its answer key
+     */
+    public static class Question {
+
+        @NotNull(message = "Question type is required")
+        private QuizQuestion.QuestionType questionType;
+
+        @NotBlank(message = "Prompt is required")
+        @Size(max = 1000, message = "Prompt must not exceed 1000 characters")
+        private String prompt;
+
+        private List<String> options = new ArrayList<>();
+
+        @NotEmpty(message = "At least one correct answer is required")
+        private List<String> correctAnswers;
+
+        @NotNull(message = "Points are required")
+        @DecimalMin(value = "0.0", inclusive = false, message = "Points must be positive")
+        private Double points;
+
+        public Question() {
+        }
+
+        public QuizQuestion.QuestionType getQuestionType() {
+            return questionType;
+        }
+
+        public void setQuestionType(QuizQuestion.QuestionType questionType) {
+            this.questionType = questionType;
+        }
+
+        public String getPrompt() {
+            return prompt;
+        }
+
+        public void setPrompt(String prompt) {
+            this.prompt = prompt;
+        }
+
+        public List<String> getOptions() {
+            return options;
+        }
+
+        public void setOptions(List<String> options) {
+            this.options = options;
+        }
+
+        public List<String> getCorrectAnswers() {
+            return correctAnswers;
+        }
+
+        public void setCorrectAnswers(List<String> correctAnswers) {
+            this.correctAnswers = correctAnswers;
+        }
+
+        public Double getPoints() {
+            return points;
+        }
+
+        public void setPoints(Double points) {
+            this.points = points;
+        }
+    }
+}
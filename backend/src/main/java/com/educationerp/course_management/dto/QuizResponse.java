@@ -0,0 +1,182 @@
+package com.educationerp.course_management.dto;
+
+import com.educationerp.course_management.entity.Quiz;
+import com.educationerp.course_management.entity.QuizQuestion;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for an online quiz
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class QuizResponse {
+
+    private Long id;
+    private Long courseId;
+    private String title;
+    private String description;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime opensAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime closesAt;
+
+    private Double maxScore;
+    private Boolean recordAsCourseGrade;
+    private Quiz.QuizStatus status;
+    private List<Question> questions;
+
+    // Constructors
+    public QuizResponse() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getOpensAt() {
+        return opensAt;
+    }
+
+    public void setOpensAt(LocalDateTime opensAt) {
+        this.opensAt = opensAt;
+    }
+
+    public LocalDateTime getClosesAt() {
+        return closesAt;
+    }
+
+    public void setClosesAt(LocalDateTime closesAt) {
+        this.closesAt = closesAt;
+    }
+
+    public Double getMaxScore() {
+        return maxScore;
+    }
+
+    public void setMaxScore(Double maxScore) {
+        this.maxScore = maxScore;
+    }
+
+    public Boolean getRecordAsCourseGrade() {
+        return recordAsCourseGrade;
+    }
+
+    public void setRecordAsCourseGrade(Boolean recordAsCourseGrade) {
+        this.recordAsCourseGrade = recordAsCourseGrade;
+    }
+
+    public Quiz.QuizStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Quiz.QuizStatus status) {
+        this.status = status;
+    }
+
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<Question> questions) {
+        this.questions = questions;
+    }
+
+    /**
+     * Question of the quiz; the answer key is only included for staff
+     */
+    public static class Question {
+
+        private Integer questionNumber;
+        private QuizQuestion.QuestionType questionType;
+        private String prompt;
+        private List<String> options;
+        private List<String> correctAnswers;
+        private Double points;
+
+        public Question() {
+        }
+
+        public Integer getQuestionNumber() {
+            return questionNumber;
+        }
+
+        public void setQuestionNumber(Integer questionNumber) {
+            this.questionNumber = questionNumber;
+        }
+
+        public QuizQuestion.QuestionType getQuestionType() {
+            return questionType;
+        }
+
+        public void setQuestionType(QuizQuestion.QuestionType questionType) {
+            this.questionType = questionType;
+        }
+
+        public String getPrompt() {
+            return prompt;
+        }
+
+        public void setPrompt(String prompt) {
+            this.prompt = prompt;
+        }
+
+        public List<String> getOptions() {
+            return options;
+        }
+
+        public void setOptions(List<String> options) {
+            this.options = options;
+        }
+
+        public List<String> getCorrectAnswers() {
+            return correctAnswers;
+        }
+
+        public void setCorrectAnswers(List<String> correctAnswers) {
+            this.correctAnswers = correctAnswers;
+        }
+
+        public Double getPoints() {
+            return points;
+        }
+
+        public void setPoints(Double points) {
+            this.points = points;
+        }
+    }
+}
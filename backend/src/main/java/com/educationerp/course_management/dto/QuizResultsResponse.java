@@ -0,0 +1,104 @@
+package com.educationerp.course_management.dto;
+
+import com.educationerp.course_management.entity.Quiz;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the submission progress and results of a quiz
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class QuizResultsResponse {
+
+    private Long quizId;
+    private Quiz.QuizStatus status;
+    private Long acceptedSubmissions;
+    private Integer pendingSubmissions;
+    private Long storedSubmissions;
+    private Long scoredSubmissions;
+    private Double averageScore;
+    private Double maxScore;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public QuizResultsResponse() {
+    }
+
+    // Getters and Setters
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public void setQuizId(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    public Quiz.QuizStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Quiz.QuizStatus status) {
+        this.status = status;
+    }
+
+    public Long getAcceptedSubmissions() {
+        return acceptedSubmissions;
+    }
+
+    public void setAcceptedSubmissions(Long acceptedSubmissions) {
+        this.acceptedSubmissions = acceptedSubmissions;
+    }
+
+    public Integer getPendingSubmissions() {
+        return pendingSubmissions;
+    }
+
+    public void setPendingSubmissions(Integer pendingSubmissions) {
+        this.pendingSubmissions = pendingSubmissions;
+    }
+
+    public Long getStoredSubmissions() {
+        return storedSubmissions;
+    }
+
+    public void setStoredSubmissions(Long storedSubmissions) {
+        this.storedSubmissions = storedSubmissions;
+    }
+
+    public Long getScoredSubmissions() {
+        return scoredSubmissions;
+    }
+
+    public void setScoredSubmissions(Long scoredSubmissions) {
+        this.scoredSubmissions = scoredSubmissions;
+    }
+
+    public Double getAverageScore() {
+        return averageScore;
+    }
+
+    public void setAverageScore(Double averageScore) {
+        this.averageScore = averageScore;
+    }
+
+    public Double getMaxScore() {
+        return maxScore;
+    }
+
+    public void setMaxScore(Double maxScore) {
+        this.maxScore = maxScore;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
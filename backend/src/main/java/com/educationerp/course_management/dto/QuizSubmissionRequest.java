@@ -0,0 +1,43 @@
+package com.educationerp.course_management.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for a student's answers to a quiz
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class QuizSubmissionRequest {
+
+    @NotNull(message = "Student ID is required")
+    private Long studentId;
+
+    @NotNull(message = "Answers are required")
+    private Map<Integer, List<String>> answers = new HashMap<>();
+
+    // Constructors
+    public QuizSubmissionRequest() {
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Map<Integer, List<String>> getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(Map<Integer, List<String>> answers) {
+        this.answers = answers;
+    }
+}
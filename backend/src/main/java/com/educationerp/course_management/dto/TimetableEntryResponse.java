@@ -0,0 +1,131 @@
+package com.educationerp.course_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * DTO for a single placed weekly course session
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class TimetableEntryResponse {
+
+    private Long courseId;
+    private String courseCode;
+    private String courseName;
+    private Integer sessionNumber;
+    private DayOfWeek dayOfWeek;
+    private Integer period;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+
+    private String room;
+    private Long instructorId;
+
+    // Constructors
+    public TimetableEntryResponse() {
+    }
+
+    public TimetableEntryResponse(Long courseId, String courseCode, String courseName, Integer sessionNumber,
+                                  DayOfWeek dayOfWeek, Integer period, LocalTime startTime, LocalTime endTime,
+                                  String room, Long instructorId) {
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.courseName = courseName;
+        this.sessionNumber = sessionNumber;
+        this.dayOfWeek = dayOfWeek;
+        this.period = period;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.room = room;
+        this.instructorId = instructorId;
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public Integer getSessionNumber() {
+        return sessionNumber;
+    }
+
+    public void setSessionNumber(Integer sessionNumber) {
+        this.sessionNumber = sessionNumber;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getRoom() {
+        return room;
+    }
+
+    public void setRoom(String room) {
+        this.room = room;
+    }
+
+    public Long getInstructorId() {
+        return instructorId;
+    }
+
+    public void setInstructorId(Long instructorId) {
+        this.instructorId = instructorId;
+    }
+}
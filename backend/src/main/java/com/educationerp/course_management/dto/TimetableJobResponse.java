@@ -0,0 +1,172 @@
+package com.educationerp.course_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for timetable generation job status and best-so-far result
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimetableJobResponse {
+
+    private String jobId;
+    private Long institutionId;
+    private String status;
+    private String message;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime submittedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    private Integer courseCount;
+    private Integer sessionCount;
+    private Integer studentCount;
+    private Integer roomCount;
+    private Integer epochs;
+    private Long elapsedMillis;
+    private Long hardViolations;
+    private Long studentClashes;
+    private String lastImprovingNeighbourhood;
+    private List<TimetableEntryResponse> entries;
+
+    // Constructors
+    public TimetableJobResponse() {
+    }
+
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Integer getCourseCount() {
+        return courseCount;
+    }
+
+    public void setCourseCount(Integer courseCount) {
+        this.courseCount = courseCount;
+    }
+
+    public Integer getSessionCount() {
+        return sessionCount;
+    }
+
+    public void setSessionCount(Integer sessionCount) {
+        this.sessionCount = sessionCount;
+    }
+
+    public Integer getStudentCount() {
+        return studentCount;
+    }
+
+    public void setStudentCount(Integer studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public Integer getRoomCount() {
+        return roomCount;
+    }
+
+    public void setRoomCount(Integer roomCount) {
+        this.roomCount = roomCount;
+    }
+
+    public Integer getEpochs() {
+        return epochs;
+    }
+
+    public void setEpochs(Integer epochs) {
+        this.epochs = epochs;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public Long getHardViolations() {
+        return hardViolations;
+    }
+
+    public void setHardViolations(Long hardViolations) {
+        this.hardViolations = hardViolations;
+    }
+
+    public Long getStudentClashes() {
+        return studentClashes;
+    }
+
+    public void setStudentClashes(Long studentClashes) {
+        this.studentClashes = studentClashes;
+    }
+
+    public String getLastImprovingNeighbourhood() {
+        return lastImprovingNeighbourhood;
+    }
+
+    public void setLastImprovingNeighbourhood(String lastImprovingNeighbourhood) {
+        this.lastImprovingNeighbourhood = lastImprovingNeighbourhood;
+    }
+
+    public List<TimetableEntryResponse> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<TimetableEntryResponse> entries) {
+        this.entries = entries;
+    }
+}
@@ -1,6 +1,7 @@
 package com.educationerp.course_management.entity;
 
 import com.educationerp.core.entity.BaseEntity;
+import com.educationerp.course_management.event.CourseEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -18,6 +19,7 @@ import java.util.Objects;
  * @version 1.0.0
  */
 @Entity
+@EntityListeners(CourseEntityListener.class)
 @Table(name = "courses", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"institution_id", "course_code"})
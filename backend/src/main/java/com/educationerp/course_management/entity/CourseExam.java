@@ -0,0 +1,138 @@
+package com.educationerp.course_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Course Exam entity for the Education ERP System
+ * Represents a scheduled exam of a course
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "course_exams")
+public class CourseExam extends BaseEntity {
+
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @NotNull(message = "Course ID is required")
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @NotBlank(message = "Exam title is required")
+    @Size(max = 200, message = "Exam title must not exceed 200 characters")
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @NotNull(message = "Exam date is required")
+    @Column(name = "exam_date", nullable = false)
+    private LocalDateTime examDate;
+
+    @Column(name = "duration_minutes")
+    private Integer durationMinutes;
+
+    @Size(max = 500, message = "Room must not exceed 500 characters")
+    @Column(name = "room", length = 500)
+    private String room;
+
+    // Constructors
+    public CourseExam() {
+    }
+
+    public CourseExam(Long institutionId, Long courseId, String title, LocalDateTime examDate,
+                      Integer durationMinutes, String room) {
+        this.institutionId = institutionId;
+        this.courseId = courseId;
+        this.title = title;
+        this.examDate = examDate;
+        this.durationMinutes = durationMinutes;
+        this.room = room;
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getExamDate() {
+        return examDate;
+    }
+
+    public void setExamDate(LocalDateTime examDate) {
+        this.examDate = examDate;
+    }
+
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public String getRoom() {
+        return room;
+    }
+
+    public void setRoom(String room) {
+        this.room = room;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        CourseExam that = (CourseExam) o;
+        return Objects.equals(courseId, that.courseId) &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(examDate, that.examDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), courseId, title, examDate);
+    }
+
+    @Override
+    public String toString() {
+        return "CourseExam{" +
+                "id=" + getId() +
+                ", courseId=" + courseId +
+                ", title='" + title + '\'' +
+                ", examDate=" + examDate +
+                ", durationMinutes=" + durationMinutes +
+                ", room='" + room + '\'' +
+                '}';
+    }
+}
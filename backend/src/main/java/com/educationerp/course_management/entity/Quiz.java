@@ -0,0 +1,179 @@
+package com.educationerp.course_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Quiz entity for the Education ERP System
+ * Represents an online quiz or exam of a course that accepts submissions within a time window
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "quizzes")
+public class Quiz extends BaseEntity {
+
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @NotNull(message = "Course ID is required")
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @NotBlank(message = "Quiz title is required")
+    @Size(max = 200, message = "Quiz title must not exceed 200 characters")
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    @NotNull(message = "Opening time is required")
+    @Column(name = "opens_at", nullable = false)
+    private LocalDateTime opensAt;
+
+    @NotNull(message = "Closing time is required")
+    @Column(name = "closes_at", nullable = false)
+    private LocalDateTime closesAt;
+
+    @NotNull(message = "Maximum score is required")
+    @Column(name = "max_score", nullable = false)
+    private Double maxScore;
+
+    @Column(name = "record_as_course_grade", nullable = false)
+    private Boolean recordAsCourseGrade = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private QuizStatus status = QuizStatus.ACTIVE;
+
+    // Constructors
+    public Quiz() {
+    }
+
+    public Quiz(Long institutionId, Long courseId, String title, LocalDateTime opensAt, LocalDateTime closesAt,
+                Double maxScore) {
+        this.institutionId = institutionId;
+        this.courseId = courseId;
+        this.title = title;
+        this.opensAt = opensAt;
+        this.closesAt = closesAt;
+        this.maxScore = maxScore;
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getOpensAt() {
+        return opensAt;
+    }
+
+    public void setOpensAt(LocalDateTime opensAt) {
+        this.opensAt = opensAt;
+    }
+
+    public LocalDateTime getClosesAt() {
+        return closesAt;
+    }
+
+    public void setClosesAt(LocalDateTime closesAt) {
+        this.closesAt = closesAt;
+    }
+
+    public Double getMaxScore() {
+        return maxScore;
+    }
+
+    public void setMaxScore(Double maxScore) {
+        this.maxScore = maxScore;
+    }
+
+    public Boolean getRecordAsCourseGrade() {
+        return recordAsCourseGrade;
+    }
+
+    public void setRecordAsCourseGrade(Boolean recordAsCourseGrade) {
+        this.recordAsCourseGrade = recordAsCourseGrade;
+    }
+
+    public QuizStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(QuizStatus status) {
+        this.status = status;
+    }
+
+    // Enums
+    public enum QuizStatus {
+        ACTIVE, CLOSED
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        Quiz quiz = (Quiz) o;
+        return Objects.equals(courseId, quiz.courseId) &&
+                Objects.equals(title, quiz.title) &&
+                Objects.equals(opensAt, quiz.opensAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), courseId, title, opensAt);
+    }
+
+    @Override
+    public String toString() {
+        return "Quiz{" +
+                "id=" + getId() +
+                ", courseId=" + courseId +
+                ", title='" + title + '\'' +
+                ", opensAt=" + opensAt +
+                ", closesAt=" + closesAt +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,159 @@
+package com.educationerp.course_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Objects;
+
+/**
+ * Quiz Question entity for the Education ERP System
+ * Represents one question of a quiz with its answer key; options and correct answers are stored one per line
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "quiz_questions",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"quiz_id", "question_number"})
+       })
+public class QuizQuestion extends BaseEntity {
+
+    @NotNull(message = "Quiz ID is required")
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @NotNull(message = "Question number is required")
+    @Column(name = "question_number", nullable = false)
+    private Integer questionNumber;
+
+    @NotNull(message = "Question type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "question_type", nullable = false, length = 20)
+    private QuestionType questionType;
+
+    @NotBlank(message = "Prompt is required")
+    @Size(max = 1000, message = "Prompt must not exceed 1000 characters")
+    @Column(name = "prompt", nullable = false, length = 1000)
+    private String prompt;
+
+    @Size(max = 2000, message = "Options must not exceed 2000 characters")
+    @Column(name = "options", length = 2000)
+    private String options;
+
+    @NotBlank(message = "Correct answers are required")
+    @Size(max = 1000, message = "Correct answers must not exceed 1000 characters")
+    @Column(name = "correct_answers", nullable = false, length = 1000)
+    private String correctAnswers;
+
+    @NotNull(message = "Points are required")
+    @Column(name = "points", nullable = false)
+    private Double points;
+
+    // Constructors
+    public QuizQuestion() {
+    }
+
+    public QuizQuestion(Long quizId, Integer questionNumber, QuestionType questionType, String prompt,
+                        String options, String correctAnswers, Double points) {
+        this.quizId = quizId;
+        this.questionNumber = questionNumber;
+        this.questionType = questionType;
+        this.prompt = prompt;
+        this.options = options;
+        this.correctAnswers = correctAnswers;
+        this.points = points;
+    }
+
+    // Getters and Setters
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public void setQuizId(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    public Integer getQuestionNumber() {
+        return questionNumber;
+    }
+
+    public void setQuestionNumber(Integer questionNumber) {
+        this.questionNumber = questionNumber;
+    }
+
+    public QuestionType getQuestionType() {
+        return questionType;
+    }
+
+    public void setQuestionType(QuestionType questionType) {
+        this.questionType = questionType;
+    }
+
+    public String getPrompt() {
+        return prompt;
+    }
+
+    public void setPrompt(String prompt) {
+        this.prompt = prompt;
+    }
+
+    public String getOptions() {
+        return options;
+    }
+
+    public void setOptions(String options) {
+        this.options = options;
+    }
+
+    public String getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public void setCorrectAnswers(String correctAnswers) {
+        this.correctAnswers = correctAnswers;
+    }
+
+    public Double getPoints() {
+        return points;
+    }
+
+    public void setPoints(Double points) {
+        this.points = points;
+    }
+
+    // Enums
+    public enum QuestionType {
+        SINGLE_CHOICE, MULTIPLE_CHOICE, SHORT_ANSWER
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        QuizQuestion that = (QuizQuestion) o;
+        return Objects.equals(quizId, that.quizId) &&
+                Objects.equals(questionNumber, that.questionNumber);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), quizId, questionNumber);
+    }
+
+    @Override
+    public String toString() {
+        return "QuizQuestion{" +
+                "id=" + getId() +
+                ", quizId=" + quizId +
+                ", questionNumber=" + questionNumber +
+                ", questionType=" + questionType +
+                ", points=" + points +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.educationerp.course_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Quiz Submission entity for the Education ERP System
+ * Represents a student's answers to a quiz; rows are written in batches by the submission engine
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "quiz_submissions",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"quiz_id", "student_id"})
+       })
+public class QuizSubmission extends BaseEntity {
+
+    @NotNull(message = "Quiz ID is required")
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @NotNull(message = "Student ID is required")
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @NotNull(message = "Answers are required")
+    @Column(name = "answers", nullable = false, length = 4000)
+    private String answers;
+
+    @NotNull(message = "Submission date is required")
+    @Column(name = "submitted_date", nullable = false)
+    private LocalDateTime submittedDate;
+
+    @Column(name = "journal_sequence")
+    private Long journalSequence;
+
+    @Column(name = "score")
+    private Double score;
+
+    @Column(name = "scored_date")
+    private LocalDateTime scoredDate;
+
+    // Constructors
+    public QuizSubmission() {
+    }
+
+    // Getters and Setters
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public void setQuizId(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(String answers) {
+        this.answers = answers;
+    }
+
+    public LocalDateTime getSubmittedDate() {
+        return submittedDate;
+    }
+
+    public void setSubmittedDate(LocalDateTime submittedDate) {
+        this.submittedDate = submittedDate;
+    }
+
+    public Long getJournalSequence() {
+        return journalSequence;
+    }
+
+    public void setJournalSequence(Long journalSequence) {
+        this.journalSequence = journalSequence;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public LocalDateTime getScoredDate() {
+        return scoredDate;
+    }
+
+    public void setScoredDate(LocalDateTime scoredDate) {
+        this.scoredDate = scoredDate;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        QuizSubmission that = (QuizSubmission) o;
+        return Objects.equals(quizId, that.quizId) &&
+                Objects.equals(studentId, that.studentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), quizId, studentId);
+    }
+
+    @Override
+    public String toString() {
+        return "QuizSubmission{" +
+                "id=" + getId() +
+                ", quizId=" + quizId +
+                ", studentId=" + studentId +
+                ", submittedDate=" + submittedDate +
+                ", score=" + score +
+                '}';
+    }
+}
@@ -0,0 +1,175 @@
+package com.educationerp.course_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Timetable Entry entity for the Education ERP System
+ * Represents one weekly session of a course placed in a time slot and room
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "timetable_entries",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"course_id", "session_number"})
+       })
+public class TimetableEntry extends BaseEntity {
+
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @NotNull(message = "Course ID is required")
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @NotNull(message = "Session number is required")
+    @Column(name = "session_number", nullable = false)
+    private Integer sessionNumber;
+
+    @NotNull(message = "Day of week is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    @NotNull(message = "Period is required")
+    @Column(name = "period", nullable = false)
+    private Integer period;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    @Column(name = "room", length = 500)
+    private String room;
+
+    @Column(name = "instructor_id")
+    private Long instructorId;
+
+    // Constructors
+    public TimetableEntry() {
+    }
+
+    public TimetableEntry(Long institutionId, Long courseId, Integer sessionNumber, DayOfWeek dayOfWeek,
+                          Integer period, LocalTime startTime, LocalTime endTime, String room, Long instructorId) {
+        this.institutionId = institutionId;
+        this.courseId = courseId;
+        this.sessionNumber = sessionNumber;
+        this.dayOfWeek = dayOfWeek;
+        this.period = period;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.room = room;
+        this.instructorId = instructorId;
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getSessionNumber() {
+        return sessionNumber;
+    }
+
+    public void setSessionNumber(Integer sessionNumber) {
+        this.sessionNumber = sessionNumber;
+    }
+
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public Integer getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Integer period) {
+        this.period = period;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getRoom() {
+        return room;
+    }
+
+    public void setRoom(String room) {
+        this.room = room;
+    }
+
+    public Long getInstructorId() {
+        return instructorId;
+    }
+
+    public void setInstructorId(Long instructorId) {
+        this.instructorId = instructorId;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        TimetableEntry that = (TimetableEntry) o;
+        return Objects.equals(courseId, that.courseId) &&
+                Objects.equals(sessionNumber, that.sessionNumber);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), courseId, sessionNumber);
+    }
+
+    @Override
+    public String toString() {
+        return "TimetableEntry{" +
+                "id=" + getId() +
+                ", courseId=" + courseId +
+                ", sessionNumber=" + sessionNumber +
+                ", dayOfWeek=" + dayOfWeek +
+                ", period=" + period +
+                ", room='" + room + '\'' +
+                '}';
+    }
+}
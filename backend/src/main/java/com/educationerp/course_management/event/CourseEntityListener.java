@@ -0,0 +1,30 @@
+package com.educationerp.course_management.event;
+
+import com.educationerp.course_management.entity.Course;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes {@link CourseScheduleChangedEvent} for every course write
+ * Bulk JDBC updates bypass entity callbacks and must publish the event themselves
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+public class CourseEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCourseChanged(Course course) {
+        eventPublisher.publishEvent(new CourseScheduleChangedEvent(course.getId()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.educationerp.course_management.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Application event published when the dates, sessions or exams of courses change
+ * Listeners use it to regenerate schedule data derived from the courses
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class CourseScheduleChangedEvent {
+
+    private final Collection<Long> courseIds;
+
+    public CourseScheduleChangedEvent(Long courseId) {
+        this.courseIds = List.of(courseId);
+    }
+
+    public CourseScheduleChangedEvent(Collection<Long> courseIds) {
+        this.courseIds = List.copyOf(courseIds);
+    }
+
+    public Collection<Long> getCourseIds() {
+        return courseIds;
+    }
+
+    @Override
+    public String toString() {
+        return "CourseScheduleChangedEvent{" +
+                "courseIds=" + courseIds +
+                '}';
+    }
+}
@@ -0,0 +1,28 @@
+package com.educationerp.course_management.repository;
+
+import com.educationerp.course_management.entity.CourseExam;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for CourseExam entity
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface CourseExamRepository extends JpaRepository<CourseExam, Long> {
+
+    /**
+     * Find exams of a course ordered by date
+     */
+    List<CourseExam> findByCourseIdAndIsActiveTrueOrderByExamDate(Long courseId);
+
+    /**
+     * Find exams of the given courses
+     */
+    List<CourseExam> findByCourseIdInAndIsActiveTrue(Collection<Long> courseIds);
+}
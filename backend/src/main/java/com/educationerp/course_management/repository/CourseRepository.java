@@ -0,0 +1,57 @@
+package com.educationerp.course_management.repository;
+
+import com.educationerp.course_management.entity.Course;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for Course entity
+ * Provides data access methods for course management
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface CourseRepository extends JpaRepository<Course, Long> {
+
+    /**
+     * Find course by institution ID and course code
+     */
+    Optional<Course> findByInstitutionIdAndCourseCodeAndIsActiveTrue(Long institutionId, String courseCode);
+
+    /**
+     * Find courses by institution ID
+     */
+    List<Course> findByInstitutionIdAndIsActiveTrue(Long institutionId);
+
+    /**
+     * Find courses by branch ID
+     */
+    List<Course> findByBranchIdAndIsActiveTrue(Long branchId);
+
+    /**
+     * Find courses by instructor ID
+     */
+    List<Course> findByInstructorIdAndIsActiveTrue(Long instructorId);
+
+    /**
+     * Find schedulable courses of an institution running within a term
+     */
+    @Query("SELECT c FROM Course c WHERE c.institutionId = :institutionId " +
+           "AND (:branchId IS NULL OR c.branchId = :branchId) " +
+           "AND c.status IN :statuses " +
+           "AND c.startDate <= :termEnd AND (c.endDate IS NULL OR c.endDate >= :termStart) " +
+           "AND c.isActive = true ORDER BY c.id")
+    List<Course> findSchedulableCourses(@Param("institutionId") Long institutionId,
+                                        @Param("branchId") Long branchId,
+                                        @Param("termStart") LocalDate termStart,
+                                        @Param("termEnd") LocalDate termEnd,
+                                        @Param("statuses") Collection<Course.CourseStatus> statuses);
+}
@@ -0,0 +1,29 @@
+package com.educationerp.course_management.repository;
+
+import com.educationerp.course_management.entity.Curriculum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for Curriculum entity
+ * Provides data access methods for curriculum management
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface CurriculumRepository extends JpaRepository<Curriculum, Long> {
+
+    /**
+     * Find curriculum by institution ID and curriculum code
+     */
+    Optional<Curriculum> findByInstitutionIdAndCurriculumCodeAndIsActiveTrue(Long institutionId, String curriculumCode);
+
+    /**
+     * Find curricula by institution ID
+     */
+    List<Curriculum> findByInstitutionIdAndIsActiveTrue(Long institutionId);
+}
@@ -0,0 +1,22 @@
+package com.educationerp.course_management.repository;
+
+import com.educationerp.course_management.entity.QuizQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for QuizQuestion entity
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface QuizQuestionRepository extends JpaRepository<QuizQuestion, Long> {
+
+    /**
+     * Find questions of a quiz in order
+     */
+    List<QuizQuestion> findByQuizIdAndIsActiveTrueOrderByQuestionNumber(Long quizId);
+}
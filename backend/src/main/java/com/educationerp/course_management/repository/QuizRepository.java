@@ -0,0 +1,22 @@
+package com.educationerp.course_management.repository;
+
+import com.educationerp.course_management.entity.Quiz;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for Quiz entity
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface QuizRepository extends JpaRepository<Quiz, Long> {
+
+    /**
+     * Find quizzes of a course ordered by opening time
+     */
+    List<Quiz> findByCourseIdAndIsActiveTrueOrderByOpensAt(Long courseId);
+}
@@ -0,0 +1,38 @@
+package com.educationerp.course_management.repository;
+
+import com.educationerp.course_management.entity.QuizSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for QuizSubmission entity
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface QuizSubmissionRepository extends JpaRepository<QuizSubmission, Long> {
+
+    /**
+     * Find a student's submission to a quiz
+     */
+    Optional<QuizSubmission> findByQuizIdAndStudentId(Long quizId, Long studentId);
+
+    /**
+     * Find the IDs of students whose submissions to a quiz are stored
+     */
+    @Query("SELECT s.studentId FROM QuizSubmission s WHERE s.quizId = :quizId")
+    List<Long> findStudentIdsByQuizId(@Param("quizId") Long quizId);
+
+    /**
+     * Count stored and scored submissions of a quiz with their average score
+     * Returns [submissionCount, scoredCount, averageScore]
+     */
+    @Query("SELECT COUNT(s), COUNT(s.score), AVG(s.score) FROM QuizSubmission s WHERE s.quizId = :quizId")
+    List<Object[]> summarizeByQuizId(@Param("quizId") Long quizId);
+}
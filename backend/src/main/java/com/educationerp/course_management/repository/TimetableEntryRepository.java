@@ -0,0 +1,38 @@
+package com.educationerp.course_management.repository;
+
+import com.educationerp.course_management.entity.TimetableEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for TimetableEntry entity
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface TimetableEntryRepository extends JpaRepository<TimetableEntry, Long> {
+
+    /**
+     * Find timetable entries of a course ordered by session
+     */
+    List<TimetableEntry> findByCourseIdAndIsActiveTrueOrderBySessionNumber(Long courseId);
+
+    /**
+     * Find timetable entries for the given courses
+     */
+    List<TimetableEntry> findByCourseIdInAndIsActiveTrue(Collection<Long> courseIds);
+
+    /**
+     * Delete timetable entries of the given courses in one statement
+     */
+    @Modifying
+    @Query("DELETE FROM TimetableEntry t WHERE t.courseId IN :courseIds")
+    int deleteByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+}
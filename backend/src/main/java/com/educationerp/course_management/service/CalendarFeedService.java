@@ -0,0 +1,579 @@
+package com.educationerp.course_management.service;
+
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.dto.CalendarSubscriptionResponse;
+import com.educationerp.course_management.dto.CalendarSubscriptionResponse.CalendarFeedType;
+import com.educationerp.course_management.entity.Course;
+import com.educationerp.course_management.entity.CourseExam;
+import com.educationerp.course_management.entity.TimetableEntry;
+import com.educationerp.course_management.event.CourseScheduleChangedEvent;
+import com.educationerp.course_management.repository.CourseExamRepository;
+import com.educationerp.course_management.repository.CourseRepository;
+import com.educationerp.course_management.repository.TimetableEntryRepository;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.event.EnrollmentChangedEvent;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import com.educationerp.user_management.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for iCalendar feeds of course schedules
+ * Each course's dates, weekly sessions and exams are rendered once into iCalendar events and every
+ * course, student and teacher feed is assembled from those events into an immutable byte array with
+ * its ETag. Feeds are keyed by the set of courses they contain, so students sharing a schedule share
+ * one feed, and a calendar client's poll is a token check and a map lookup answered with a prebuilt
+ * 200 or 304 response. Schedule and enrollment changes drop the affected events and feeds, which are
+ * rendered again on the next poll.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarFeedService.class);
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final int LOCK_STRIPES = 64;
+    private static final int ETAG_BYTES = 16;
+    private static final int TOKEN_BYTES = 16;
+    private static final String UID_DOMAIN = "@education-erp";
+    private static final String FEED_PATH = "/api/public/calendar/";
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TimetableEntryRepository timetableEntryRepository;
+
+    @Autowired
+    private CourseExamRepository courseExamRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${education.erp.calendar.feed-secret}")
+    private String feedSecret;
+
+    @Value("${education.erp.calendar.public-base-url:}")
+    private String publicBaseUrl;
+
+    @Value("${education.erp.calendar.refresh-minutes:30}")
+    private int refreshMinutes;
+
+    @Value("${education.erp.calendar.max-feeds:20000}")
+    private int maxFeeds;
+
+    /** Rendered events of each course */
+    private final Map<Long, CourseEvents> courseEvents = new ConcurrentHashMap<>();
+
+    /** Assembled feeds keyed by feed type and course set */
+    private final Map<String, CalendarFeed> feeds = new ConcurrentHashMap<>();
+
+    /** Sorted course IDs of each student and teacher feed */
+    private final Map<String, long[]> memberCourses = new ConcurrentHashMap<>();
+
+    /**
+     * Invalidation counters per course and per student or teacher feed; data loaded before a bump of its
+     * counter is served but not cached. Cached entries are checked again after they are stored, so an
+     * invalidation racing the store cannot leave stale data behind.
+     */
+    private final Map<Long, Long> courseVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> memberVersions = new ConcurrentHashMap<>();
+
+    /** Bumped on schedule changes; a teacher's course set depends on the instructor of every course */
+    private final AtomicLong scheduleVersion = new AtomicLong();
+
+    /** Feed builds are serialized per feed key on one stripe; reads never lock */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public CalendarFeedService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Get the feed for a subscription token, building it on first use
+     */
+    public CalendarFeed getFeed(CalendarFeedType feedType, Long ownerId, String token) {
+        if (!MessageDigest.isEqual(token(feedType, ownerId).getBytes(StandardCharsets.US_ASCII),
+                token.getBytes(StandardCharsets.US_ASCII))) {
+            throw new ResourceNotFoundException("Calendar feed not found");
+        }
+
+        long[] courseIds = feedType == CalendarFeedType.COURSE ? new long[]{ownerId} : resolveMemberCourses(feedType, ownerId);
+        String key = feedKey(feedType, courseIds);
+        CalendarFeed feed = feeds.get(key);
+        if (feed == null) {
+            feed = buildFeed(key, feedType, courseIds);
+            evictIfNeeded();
+        }
+        feed.lastAccess = System.nanoTime();
+        return feed;
+    }
+
+    /**
+     * Get the subscription URLs of a course, student or teacher feed
+     */
+    public CalendarSubscriptionResponse getSubscription(CalendarFeedType feedType, Long ownerId) {
+        boolean exists = switch (feedType) {
+            case COURSE -> courseRepository.existsById(ownerId);
+            case STUDENT -> studentRepository.existsById(ownerId);
+            case TEACHER -> userRepository.existsById(ownerId);
+        };
+        if (!exists) {
+            String owner = feedType == CalendarFeedType.TEACHER ? "User" : feedType == CalendarFeedType.COURSE ? "Course" : "Student";
+            throw new ResourceNotFoundException(owner + " not found with ID: " + ownerId);
+        }
+
+        String path = FEED_PATH + feedType.name().toLowerCase(Locale.ROOT) + "s/" + ownerId + "/" + token(feedType, ownerId) + ".ics";
+        String url = publicBaseUrl == null || publicBaseUrl.isBlank()
+                ? ServletUriComponentsBuilder.fromCurrentContextPath().path(path).toUriString()
+                : publicBaseUrl.replaceAll("/+$", "") + path;
+
+        CalendarSubscriptionResponse response = new CalendarSubscriptionResponse();
+        response.setFeedType(feedType);
+        response.setOwnerId(ownerId);
+        response.setUrl(url);
+        response.setWebcalUrl(url.replaceFirst("^https?://", "webcal://"));
+        return response;
+    }
+
+    /**
+     * Drop the events of changed courses, every feed containing them and the course sets of their teachers
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(CourseScheduleChangedEvent event) {
+        scheduleVersion.incrementAndGet();
+        Set<Long> changed = new HashSet<>(event.getCourseIds());
+        changed.forEach(courseId -> courseVersions.merge(courseId, 1L, Long::sum));
+        changed.forEach(courseEvents::remove);
+        feeds.values().removeIf(feed -> feed.containsAny(changed));
+
+        // A changed course may have moved from one instructor to another
+        Set<String> teachers = new HashSet<>();
+        String teacherPrefix = CalendarFeedType.TEACHER.name() + ":";
+        memberCourses.forEach((key, courseIds) -> {
+            if (key.startsWith(teacherPrefix) && Arrays.stream(courseIds).anyMatch(changed::contains)) {
+                teachers.add(key);
+            }
+        });
+        for (Course course : courseRepository.findAllById(changed)) {
+            if (course.getInstructorId() != null) {
+                teachers.add(memberKey(CalendarFeedType.TEACHER, course.getInstructorId()));
+            }
+        }
+        teachers.forEach(this::invalidateMember);
+        logger.debug("Calendar feeds invalidated for courses {}", changed);
+    }
+
+    /**
+     * Drop the cached course set of a student whose enrollments changed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        if (event.getStudentId() != null) {
+            invalidateMember(memberKey(CalendarFeedType.STUDENT, event.getStudentId()));
+        }
+    }
+
+    private void invalidateMember(String key) {
+        memberVersions.merge(key, 1L, Long::sum);
+        memberCourses.remove(key);
+    }
+
+    private boolean isCurrent(String key, CalendarFeedType feedType, long loadedAt, long scheduleLoadedAt) {
+        return memberVersion(key) == loadedAt
+                && (feedType == CalendarFeedType.STUDENT || scheduleVersion.get() == scheduleLoadedAt);
+    }
+
+    private long memberVersion(String key) {
+        return memberVersions.getOrDefault(key, 0L);
+    }
+
+    /**
+     * Sum of the counters of the given courses; counters only grow, so any bump changes the sum
+     */
+    private long courseVersion(long[] courseIds) {
+        long sum = 0;
+        for (long courseId : courseIds) {
+            sum += courseVersions.getOrDefault(courseId, 0L);
+        }
+        return sum;
+    }
+
+    private long[] resolveMemberCourses(CalendarFeedType feedType, Long ownerId) {
+        String key = memberKey(feedType, ownerId);
+        long[] courseIds = memberCourses.get(key);
+        if (courseIds != null) {
+            return courseIds;
+        }
+
+        long loadedAt = memberVersion(key);
+        long scheduleLoadedAt = scheduleVersion.get();
+        if (feedType == CalendarFeedType.STUDENT) {
+            courseIds = enrollmentRepository.findByStudentIdAndIsActiveTrue(ownerId).stream()
+                    .filter(enrollment -> enrollment.getStatus() == Enrollment.EnrollmentStatus.ACTIVE)
+                    .mapToLong(Enrollment::getCourseId)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+        } else {
+            courseIds = courseRepository.findByInstructorIdAndIsActiveTrue(ownerId).stream()
+                    .filter(course -> course.getStatus() != Course.CourseStatus.CANCELLED)
+                    .mapToLong(Course::getId)
+                    .sorted()
+                    .toArray();
+        }
+        if (isCurrent(key, feedType, loadedAt, scheduleLoadedAt)) {
+            memberCourses.put(key, courseIds);
+            if (!isCurrent(key, feedType, loadedAt, scheduleLoadedAt)) {
+                memberCourses.remove(key, courseIds);
+            }
+        }
+        return courseIds;
+    }
+
+    private CalendarFeed buildFeed(String key, CalendarFeedType feedType, long[] courseIds) {
+        synchronized (lock(key)) {
+            CalendarFeed feed = feeds.get(key);
+            if (feed != null) {
+                return feed;
+            }
+
+            long loadedAt = courseVersion(courseIds);
+            Map<Long, CourseEvents> events = loadCourseEvents(courseIds);
+
+            String name = switch (feedType) {
+                case COURSE -> events.containsKey(courseIds[0]) ? events.get(courseIds[0]).name : "Course schedule";
+                case STUDENT -> "Class schedule";
+                case TEACHER -> "Teaching schedule";
+            };
+            ICalendarWriter writer = new ICalendarWriter(512 + events.values().stream().mapToInt(e -> e.events.length()).sum());
+            writer.property("BEGIN", "VCALENDAR")
+                    .property("VERSION", "2.0")
+                    .property("PRODID", "-//Education ERP//Course Schedule//EN")
+                    .property("CALSCALE", "GREGORIAN")
+                    .property("METHOD", "PUBLISH")
+                    .text("X-WR-CALNAME", name)
+                    .property("REFRESH-INTERVAL;VALUE=DURATION", "PT" + refreshMinutes + "M")
+                    .property("X-PUBLISHED-TTL", "PT" + refreshMinutes + "M");
+            StringBuilder content = new StringBuilder(writer.toString());
+            for (long courseId : courseIds) {
+                CourseEvents course = events.get(courseId);
+                if (course != null) {
+                    content.append(course.events);
+                }
+            }
+            content.append(new ICalendarWriter(32).property("END", "VCALENDAR"));
+
+            feed = new CalendarFeed(key, courseIds, content.toString().getBytes(StandardCharsets.UTF_8));
+            if (courseVersion(courseIds) == loadedAt) {
+                feeds.put(key, feed);
+                if (courseVersion(courseIds) != loadedAt) {
+                    feeds.remove(key, feed);
+                }
+            }
+            logger.debug("Built calendar feed {} of {} bytes", key, feed.body.length);
+            return feed;
+        }
+    }
+
+    /**
+     * Get the rendered events of the given courses, rendering those not cached yet
+     */
+    private Map<Long, CourseEvents> loadCourseEvents(long[] courseIds) {
+        Map<Long, CourseEvents> events = new HashMap<>(courseIds.length * 2);
+        List<Long> missing = new ArrayList<>();
+        for (long courseId : courseIds) {
+            CourseEvents cached = courseEvents.get(courseId);
+            if (cached != null) {
+                events.put(courseId, cached);
+            } else {
+                missing.add(courseId);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(from + QUERY_CHUNK_SIZE, missing.size()));
+            Map<Long, Long> loadedAt = new HashMap<>(chunk.size() * 2);
+            chunk.forEach(courseId -> loadedAt.put(courseId, courseVersions.getOrDefault(courseId, 0L)));
+            Map<Long, List<TimetableEntry>> sessions = timetableEntryRepository.findByCourseIdInAndIsActiveTrue(chunk).stream()
+                    .collect(Collectors.groupingBy(TimetableEntry::getCourseId));
+            Map<Long, List<CourseExam>> exams = courseExamRepository.findByCourseIdInAndIsActiveTrue(chunk).stream()
+                    .collect(Collectors.groupingBy(CourseExam::getCourseId));
+            for (Course course : courseRepository.findAllById(chunk)) {
+                CourseEvents rendered = render(course, sessions.getOrDefault(course.getId(), List.of()),
+                        exams.getOrDefault(course.getId(), List.of()));
+                events.put(course.getId(), rendered);
+                long version = loadedAt.get(course.getId());
+                if (courseVersions.getOrDefault(course.getId(), 0L) == version) {
+                    courseEvents.put(course.getId(), rendered);
+                    if (courseVersions.getOrDefault(course.getId(), 0L) != version) {
+                        courseEvents.remove(course.getId(), rendered);
+                    }
+                }
+            }
+        }
+        return events;
+    }
+
+    private CourseEvents render(Course course, List<TimetableEntry> sessions, List<CourseExam> exams) {
+        String name = course.getCourseCode() + " " + course.getCourseName();
+        if (!Boolean.TRUE.equals(course.getIsActive()) || course.getStatus() == Course.CourseStatus.CANCELLED) {
+            return new CourseEvents(name, "");
+        }
+
+        ICalendarWriter writer = new ICalendarWriter();
+
+        LocalDateTime courseStamp = course.getUpdatedDate() != null ? course.getUpdatedDate() : course.getCreatedDate();
+        LocalDate startDate = course.getStartDate();
+        LocalDate endDate = course.getEndDate();
+        if (startDate != null) {
+            writeDayEvent(writer, "course-" + course.getId() + "-start", courseStamp, startDate, "Course starts: " + name, course.getLocation());
+        }
+        if (endDate != null) {
+            writeDayEvent(writer, "course-" + course.getId() + "-end", courseStamp, endDate, "Course ends: " + name, course.getLocation());
+        }
+
+        List<TimetableEntry> ordered = new ArrayList<>(sessions);
+        ordered.sort(Comparator.comparing(TimetableEntry::getSessionNumber));
+        for (TimetableEntry session : ordered) {
+            if (startDate == null || session.getStartTime() == null || session.getEndTime() == null) {
+                continue;
+            }
+            LocalDate first = startDate.with(TemporalAdjusters.nextOrSame(session.getDayOfWeek()));
+            if (endDate != null && first.isAfter(endDate)) {
+                continue;
+            }
+            String rule = "FREQ=WEEKLY";
+            if (endDate != null) {
+                rule += ";UNTIL=" + ICalendarWriter.formatDateTime(endDate.atTime(LocalTime.MAX.withNano(0)));
+            }
+            writer.property("BEGIN", "VEVENT")
+                    .property("UID", "course-" + course.getId() + "-session-" + session.getSessionNumber() + UID_DOMAIN)
+                    .utcDateTime("DTSTAMP", stamp(session.getUpdatedDate(), session.getCreatedDate(), courseStamp))
+                    .dateTime("DTSTART", first.atTime(session.getStartTime()))
+                    .dateTime("DTEND", first.atTime(session.getEndTime()))
+                    .property("RRULE", rule)
+                    .text("SUMMARY", name);
+            if (session.getRoom() != null) {
+                writer.text("LOCATION", session.getRoom());
+            }
+            writer.property("END", "VEVENT");
+        }
+
+        List<CourseExam> orderedExams = new ArrayList<>(exams);
+        orderedExams.sort(Comparator.comparing(CourseExam::getExamDate).thenComparing(CourseExam::getId));
+        for (CourseExam exam : orderedExams) {
+            writer.property("BEGIN", "VEVENT")
+                    .property("UID", "exam-" + exam.getId() + UID_DOMAIN)
+                    .utcDateTime("DTSTAMP", stamp(exam.getUpdatedDate(), exam.getCreatedDate(), courseStamp))
+                    .dateTime("DTSTART", exam.getExamDate());
+            if (exam.getDurationMinutes() != null) {
+                writer.dateTime("DTEND", exam.getExamDate().plusMinutes(exam.getDurationMinutes()));
+            }
+            writer.text("SUMMARY", "Exam: " + exam.getTitle() + " (" + course.getCourseCode() + ")")
+                    .property("CATEGORIES", "EXAM");
+            if (exam.getRoom() != null) {
+                writer.text("LOCATION", exam.getRoom());
+            }
+            writer.property("END", "VEVENT");
+        }
+        return new CourseEvents(name, writer.toString());
+    }
+
+    private static void writeDayEvent(ICalendarWriter writer, String uid, LocalDateTime stamp, LocalDate date,
+                                      String summary, String location) {
+        writer.property("BEGIN", "VEVENT")
+                .property("UID", uid + UID_DOMAIN)
+                .utcDateTime("DTSTAMP", stamp)
+                .date("DTSTART", date)
+                .date("DTEND", date.plusDays(1))
+                .text("SUMMARY", summary)
+                .property("TRANSP", "TRANSPARENT");
+        if (location != null) {
+            writer.text("LOCATION", location);
+        }
+        writer.property("END", "VEVENT");
+    }
+
+    /**
+     * DTSTAMP comes from the source rows rather than the clock, so re-rendering an unchanged schedule
+     * produces identical bytes and clients keep their 304s
+     */
+    private static LocalDateTime stamp(LocalDateTime updated, LocalDateTime created, LocalDateTime fallback) {
+        if (updated != null) {
+            return updated;
+        }
+        return created != null ? created : fallback;
+    }
+
+    /**
+     * Drop the least recently polled feeds once the cache outgrows its limit
+     */
+    private void evictIfNeeded() {
+        int excess = feeds.size() - maxFeeds;
+        if (excess <= 0) {
+            return;
+        }
+        // Evict a tenth beyond the limit so the scan is not repeated on every new feed
+        int toEvict = excess + maxFeeds / 10;
+        List<CalendarFeed> candidates = new ArrayList<>(feeds.values());
+        candidates.sort(Comparator.comparingLong(feed -> feed.lastAccess));
+        for (int i = 0; i < toEvict && i < candidates.size(); i++) {
+            feeds.remove(candidates.get(i).key, candidates.get(i));
+        }
+        logger.debug("Evicted {} calendar feeds", Math.min(toEvict, candidates.size()));
+    }
+
+    private String token(CalendarFeedType feedType, Long ownerId) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(feedSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] digest = mac.doFinal((feedType.name() + ":" + ownerId).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TOKEN_BYTES));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private Object lock(String key) {
+        return locks[key.hashCode() & (LOCK_STRIPES - 1)];
+    }
+
+    private static String memberKey(CalendarFeedType feedType, Long ownerId) {
+        return feedType.name() + ":" + ownerId;
+    }
+
+    private static String feedKey(CalendarFeedType feedType, long[] courseIds) {
+        return feedType.name() + ":" + Arrays.stream(courseIds).mapToObj(Long::toString).collect(Collectors.joining(","));
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Rendered VEVENT lines of one course; never modified once created
+     */
+    private static final class CourseEvents {
+
+        private final String name;
+        private final String events;
+
+        private CourseEvents(String name, String events) {
+            this.name = name;
+            this.events = events;
+        }
+    }
+
+    /**
+     * Immutable rendered calendar with its prebuilt full and not-modified responses
+     */
+    public static final class CalendarFeed {
+
+        private final String key;
+        private final long[] courseIds;
+        private final byte[] body;
+        private final String etag;
+        private final ResponseEntity<byte[]> okResponse;
+        private final ResponseEntity<byte[]> notModifiedResponse;
+        private volatile long lastAccess = System.nanoTime();
+
+        private CalendarFeed(String key, long[] courseIds, byte[] body) {
+            this.key = key;
+            this.courseIds = courseIds;
+            this.body = body;
+            this.etag = etag(body);
+            this.okResponse = ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .contentType(TEXT_CALENDAR)
+                    .contentLength(body.length)
+                    .body(body);
+            this.notModifiedResponse = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        private boolean containsAny(Collection<Long> changed) {
+            for (long courseId : courseIds) {
+                if (changed.contains(courseId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * The prebuilt response for a request: 304 when the client's If-None-Match holds the current ETag
+         */
+        public ResponseEntity<byte[]> toResponse(String ifNoneMatch) {
+            if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || "*".equals(ifNoneMatch))) {
+                return notModifiedResponse;
+            }
+            return okResponse;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public int getSize() {
+            return body.length;
+        }
+    }
+}
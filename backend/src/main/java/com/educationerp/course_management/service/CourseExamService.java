@@ -0,0 +1,141 @@
+package com.educationerp.course_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.dto.CourseExamRequest;
+import com.educationerp.course_management.dto.CourseExamResponse;
+import com.educationerp.course_management.entity.Course;
+import com.educationerp.course_management.entity.CourseExam;
+import com.educationerp.course_management.event.CourseScheduleChangedEvent;
+import com.educationerp.course_management.repository.CourseExamRepository;
+import com.educationerp.course_management.repository.CourseRepository;
+import com.educationerp.notification.service.NotificationService;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Service class for course exams
+ * Exams are published to the course calendar feeds and announced to the enrolled students
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class CourseExamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseExamService.class);
+
+    @Autowired
+    private CourseExamRepository courseExamRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Schedule an exam for a course
+     */
+    public CourseExamResponse scheduleExam(Long courseId, CourseExamRequest request) {
+        logger.info("Scheduling exam '{}' for course: {}", request.getTitle(), courseId);
+
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + courseId));
+        if (course.getStatus() == Course.CourseStatus.CANCELLED) {
+            throw new BusinessException("Cannot schedule an exam for a cancelled course");
+        }
+
+        CourseExam exam = new CourseExam(course.getInstitutionId(), courseId, request.getTitle(),
+                request.getExamDate(), request.getDurationMinutes(), request.getRoom());
+        exam = courseExamRepository.save(exam);
+        eventPublisher.publishEvent(new CourseScheduleChangedEvent(courseId));
+
+        int notified = 0;
+        if (Boolean.TRUE.equals(request.getNotifyStudents())) {
+            notified = notifyStudents(exam);
+        }
+
+        logger.info("Exam {} scheduled for course {}, {} students notified", exam.getId(), courseId, notified);
+        CourseExamResponse response = mapToResponse(exam);
+        response.setNotifiedStudents(notified);
+        return response;
+    }
+
+    /**
+     * Get the exams of a course
+     */
+    @Transactional(readOnly = true)
+    public List<CourseExamResponse> getExams(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+        }
+        return courseExamRepository.findByCourseIdAndIsActiveTrueOrderByExamDate(courseId).stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    /**
+     * Cancel an exam
+     */
+    public void cancelExam(Long examId) {
+        logger.info("Cancelling exam: {}", examId);
+
+        CourseExam exam = courseExamRepository.findById(examId)
+                .filter(CourseExam::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Exam not found with ID: " + examId));
+        exam.setIsActive(false);
+        courseExamRepository.save(exam);
+        eventPublisher.publishEvent(new CourseScheduleChangedEvent(exam.getCourseId()));
+    }
+
+    private int notifyStudents(CourseExam exam) {
+        List<Long> studentIds = enrollmentRepository.findByCourseIdAndIsActiveTrue(exam.getCourseId()).stream()
+                .filter(enrollment -> enrollment.getStatus() == Enrollment.EnrollmentStatus.ACTIVE)
+                .map(Enrollment::getStudentId)
+                .toList();
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+
+        int notified = 0;
+        for (Student student : studentRepository.findAllById(studentIds)) {
+            notificationService.sendExamNotification(exam.getInstitutionId(), student.getBranchId(), student.getId(),
+                    student.getFullName(), student.getEmail(), student.getPhoneNumber(), exam.getTitle(), exam.getExamDate());
+            notified++;
+        }
+        return notified;
+    }
+
+    private CourseExamResponse mapToResponse(CourseExam exam) {
+        CourseExamResponse response = new CourseExamResponse();
+        response.setId(exam.getId());
+        response.setCourseId(exam.getCourseId());
+        response.setTitle(exam.getTitle());
+        response.setExamDate(exam.getExamDate());
+        response.setDurationMinutes(exam.getDurationMinutes());
+        response.setRoom(exam.getRoom());
+        response.setCreatedDate(exam.getCreatedDate());
+        return response;
+    }
+}
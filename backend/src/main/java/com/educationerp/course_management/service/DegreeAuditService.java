@@ -0,0 +1,536 @@
+package com.educationerp.course_management.service;
+
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.dto.DegreeAuditResponse;
+import com.educationerp.course_management.dto.DegreeAuditResponse.RiskLevel;
+import com.educationerp.course_management.dto.DegreeAuditRunResponse;
+import com.educationerp.course_management.entity.Curriculum;
+import com.educationerp.course_management.repository.CurriculumRepository;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.event.EnrollmentChangedEvent;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Service class for degree audits
+ * Computes earned and remaining credits against the student's curriculum and projects completion;
+ * results are cached per student and invalidated when the student's enrollments change
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class DegreeAuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DegreeAuditService.class);
+
+    private static final int MONTHS_PER_SEMESTER = 6;
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final double AT_RISK_THRESHOLD = 1.0;
+    private static final double CRITICAL_THRESHOLD = 1.25;
+    private static final double MAX_RISK_SCORE = 99.99;
+
+    private static final Comparator<DegreeAuditResponse> RISK_ORDER = Comparator
+            .comparingDouble((DegreeAuditResponse audit) -> audit.getRiskScore() != null ? audit.getRiskScore() : -1.0)
+            .reversed()
+            .thenComparing(audit -> audit.getRemainingCredits() != null ? audit.getRemainingCredits() : 0, Comparator.reverseOrder())
+            .thenComparing(DegreeAuditResponse::getStudentId);
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CurriculumRepository curriculumRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.degree-audit.passing-grade:50.0}")
+    private double passingGrade;
+
+    @Value("${education.erp.degree-audit.default-semesters:8}")
+    private int defaultSemesters;
+
+    @Value("${education.erp.degree-audit.partition-size:2000}")
+    private int partitionSize;
+
+    @Value("${education.erp.degree-audit.parallelism:4}")
+    private int parallelism;
+
+    private final Map<Long, InstitutionAudits> institutionAudits = new ConcurrentHashMap<>();
+    private final Map<Long, Long> studentInstitutions = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<DegreeAuditRunResponse>> runningAudits = new ConcurrentHashMap<>();
+
+    private TransactionTemplate readOnlyTransaction;
+    private ForkJoinPool auditPool;
+
+    @PostConstruct
+    void initialize() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        auditPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        auditPool.shutdownNow();
+    }
+
+    /**
+     * Get degree audit of a student, computing it when not cached
+     */
+    public DegreeAuditResponse getStudentAudit(Long studentId) {
+        Long institutionId = studentInstitutions.get(studentId);
+        if (institutionId != null) {
+            DegreeAuditResponse cached = audits(institutionId).get(studentId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Student student = studentRepository.findById(studentId)
+                .filter(Student::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + studentId));
+
+        List<DegreeAuditResponse> results = auditStudents(student.getInstitutionId(), List.of(studentId));
+        if (results.isEmpty()) {
+            throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+        }
+        return results.get(0);
+    }
+
+    /**
+     * Audit every active student of an institution in parallel partitions
+     * Concurrent requests for the same institution share one run
+     */
+    public DegreeAuditRunResponse runInstitutionAudit(Long institutionId) {
+        CompletableFuture<DegreeAuditRunResponse> run = new CompletableFuture<>();
+        CompletableFuture<DegreeAuditRunResponse> inFlight = runningAudits.putIfAbsent(institutionId, run);
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+        try {
+            DegreeAuditRunResponse response = executeInstitutionAudit(institutionId);
+            run.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            run.completeExceptionally(e);
+            throw e;
+        } finally {
+            runningAudits.remove(institutionId, run);
+        }
+    }
+
+    /**
+     * Get audits of an institution ordered by graduation risk, highest first
+     */
+    public Page<DegreeAuditResponse> getInstitutionAudits(Long institutionId, RiskLevel riskLevel, Pageable pageable) {
+        InstitutionAudits audits = audits(institutionId);
+        if (!audits.complete) {
+            runInstitutionAudit(institutionId);
+        }
+        refreshStale(institutionId, audits);
+
+        Stream<DegreeAuditResponse> stream = audits.results.values().stream();
+        if (riskLevel != null) {
+            stream = stream.filter(audit -> audit.getRiskLevel() == riskLevel);
+        }
+        List<DegreeAuditResponse> ordered = stream.sorted(RISK_ORDER).toList();
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(ordered.subList(from, to), pageable, ordered.size());
+    }
+
+    /**
+     * Invalidate cached audit once an enrollment change is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        invalidate(List.of(event.getStudentId()));
+    }
+
+    /**
+     * Invalidate cached audits once a student change is committed; new students join their institution's audits
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        invalidate(event.getStudentIds());
+    }
+
+    private void invalidate(Collection<Long> studentIds) {
+        List<Long> unknown = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            Long institutionId = studentInstitutions.get(studentId);
+            if (institutionId != null) {
+                audits(institutionId).invalidate(studentId);
+            } else {
+                unknown.add(studentId);
+            }
+        }
+        if (unknown.isEmpty() || institutionAudits.isEmpty()) {
+            return;
+        }
+        // Students not audited yet are added to institutions whose audits are already cached
+        for (int from = 0; from < unknown.size(); from += QUERY_CHUNK_SIZE) {
+            for (Object[] row : studentRepository.findInstitutionRowsByIds(
+                    unknown.subList(from, Math.min(from + QUERY_CHUNK_SIZE, unknown.size())))) {
+                InstitutionAudits audits = institutionAudits.get((Long) row[1]);
+                if (audits != null) {
+                    studentInstitutions.put((Long) row[0], (Long) row[1]);
+                    audits.invalidate((Long) row[0]);
+                }
+            }
+        }
+    }
+
+    private InstitutionAudits audits(Long institutionId) {
+        return institutionAudits.computeIfAbsent(institutionId, id -> new InstitutionAudits());
+    }
+
+    private DegreeAuditRunResponse executeInstitutionAudit(Long institutionId) {
+        long started = System.currentTimeMillis();
+        long[] studentIds = studentRepository.findActiveIdsByInstitutionId(institutionId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        Map<String, Curriculum> curricula = loadCurricula(institutionId);
+        InstitutionAudits audits = audits(institutionId);
+        Map<Long, Long> stamps = audits.stamps(new ArrayList<>(audits.stale.keySet()));
+        AtomicInteger partitions = new AtomicInteger();
+
+        if (studentIds.length > 0) {
+            auditPool.invoke(new PartitionTask(institutionId, studentIds, 0, studentIds.length,
+                    curricula, LocalDate.now(), LocalDateTime.now(), partitions));
+        }
+        audits.results.keySet().removeIf(studentId -> Arrays.binarySearch(studentIds, studentId) < 0);
+        stamps.forEach(audits::clear);
+        audits.complete = true;
+
+        DegreeAuditRunResponse response = new DegreeAuditRunResponse();
+        response.setInstitutionId(institutionId);
+        response.setAuditedStudents(studentIds.length);
+        response.setPartitions(partitions.get());
+        Map<RiskLevel, Integer> counts = new HashMap<>();
+        audits.results.values().forEach(audit -> counts.merge(audit.getRiskLevel(), 1, Integer::sum));
+        response.setCompleted(counts.getOrDefault(RiskLevel.COMPLETED, 0));
+        response.setOnTrack(counts.getOrDefault(RiskLevel.ON_TRACK, 0));
+        response.setAtRisk(counts.getOrDefault(RiskLevel.AT_RISK, 0));
+        response.setCritical(counts.getOrDefault(RiskLevel.CRITICAL, 0));
+        response.setNoCurriculum(counts.getOrDefault(RiskLevel.NO_CURRICULUM, 0));
+        response.setElapsedMillis(System.currentTimeMillis() - started);
+        response.setAuditedAt(LocalDateTime.now());
+
+        logger.info("Degree audit of institution {} finished: {} students in {} partitions, {} ms",
+                institutionId, studentIds.length, partitions.get(), response.getElapsedMillis());
+        return response;
+    }
+
+    private void refreshStale(Long institutionId, InstitutionAudits audits) {
+        if (audits.stale.isEmpty()) {
+            return;
+        }
+        // Previous results stay visible until the recomputed ones replace them
+        auditStudents(institutionId, new ArrayList<>(audits.stale.keySet()));
+    }
+
+    private List<DegreeAuditResponse> auditStudents(Long institutionId, Collection<Long> studentIds) {
+        InstitutionAudits audits = audits(institutionId);
+        Map<Long, Long> stamps = audits.stamps(studentIds);
+        Map<String, Curriculum> curricula = loadCurricula(institutionId);
+        List<Long> ids = new ArrayList<>(studentIds);
+        List<DegreeAuditResponse> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            StudentCredits credits = new StudentCredits(studentRepository.findAuditRowsByIds(institutionId, chunk));
+            enrollmentRepository.findCreditRowsByStudentIds(chunk).forEach(credits::accumulate);
+            results.addAll(credits.evaluate(institutionId, curricula, LocalDate.now(), LocalDateTime.now()));
+        }
+        store(institutionId, results);
+
+        // Students no longer active or no longer in the institution leave the audits
+        Set<Long> audited = new HashSet<>();
+        results.forEach(audit -> audited.add(audit.getStudentId()));
+        for (Long studentId : ids) {
+            if (!audited.contains(studentId)) {
+                audits.results.remove(studentId);
+                studentInstitutions.remove(studentId, institutionId);
+            }
+        }
+        stamps.forEach(audits::clear);
+        return results;
+    }
+
+    private void store(Long institutionId, List<DegreeAuditResponse> results) {
+        InstitutionAudits audits = audits(institutionId);
+        for (DegreeAuditResponse audit : results) {
+            studentInstitutions.put(audit.getStudentId(), institutionId);
+            audits.results.put(audit.getStudentId(), audit);
+        }
+    }
+
+    /**
+     * Curricula keyed by lower-case code and name; students reference them through their program
+     */
+    private Map<String, Curriculum> loadCurricula(Long institutionId) {
+        Map<String, Curriculum> curricula = new HashMap<>();
+        for (Curriculum curriculum : curriculumRepository.findByInstitutionIdAndIsActiveTrue(institutionId)) {
+            if (curriculum.getCurriculumName() != null) {
+                curricula.putIfAbsent(curriculum.getCurriculumName().trim().toLowerCase(Locale.ROOT), curriculum);
+            }
+            curricula.put(curriculum.getCurriculumCode().trim().toLowerCase(Locale.ROOT), curriculum);
+        }
+        return curricula;
+    }
+
+    private DegreeAuditResponse evaluate(Long institutionId, Object[] student, int earned, int inProgress, int failed,
+                                         Map<String, Curriculum> curricula, LocalDate today, LocalDateTime now) {
+        String program = (String) student[4];
+        Curriculum curriculum = program != null ? curricula.get(program.trim().toLowerCase(Locale.ROOT)) : null;
+
+        DegreeAuditResponse audit = new DegreeAuditResponse();
+        audit.setStudentId((Long) student[0]);
+        audit.setInstitutionId(institutionId);
+        audit.setStudentNumber((String) student[1]);
+        audit.setStudentName(student[2] + " " + student[3]);
+        audit.setProgram(program);
+        audit.setEarnedCredits(earned);
+        audit.setInProgressCredits(inProgress);
+        audit.setFailedCredits(failed);
+        audit.setAuditedAt(now);
+
+        if (curriculum == null || curriculum.getTotalCredits() == null || curriculum.getTotalCredits() <= 0) {
+            audit.setRiskLevel(RiskLevel.NO_CURRICULUM);
+            return audit;
+        }
+
+        int required = curriculum.getTotalCredits();
+        int planned = curriculum.getDurationSemesters() != null ? curriculum.getDurationSemesters()
+                : curriculum.getDurationYears() != null ? curriculum.getDurationYears() * 2 : defaultSemesters;
+        int remaining = Math.max(0, required - earned);
+        LocalDate enrolledOn = (LocalDate) student[5];
+        double elapsed = enrolledOn != null
+                ? Math.max(0, ChronoUnit.MONTHS.between(enrolledOn, today)) / (double) MONTHS_PER_SEMESTER
+                : 0.0;
+
+        audit.setCurriculumId(curriculum.getId());
+        audit.setCurriculumCode(curriculum.getCurriculumCode());
+        audit.setRequiredCredits(required);
+        audit.setRemainingCredits(remaining);
+        audit.setCompletionPercentage(round(Math.min(100.0, earned * 100.0 / required)));
+        audit.setPlannedSemesters(planned);
+        audit.setSemestersElapsed(round(elapsed));
+        if (enrolledOn != null) {
+            audit.setExpectedCompletionDate(enrolledOn.plusMonths((long) planned * MONTHS_PER_SEMESTER));
+        }
+
+        if (remaining == 0) {
+            audit.setProjectedSemestersRemaining(0);
+            audit.setProjectedCompletionDate(today);
+            audit.setRiskScore(0.0);
+            audit.setRiskLevel(RiskLevel.COMPLETED);
+            return audit;
+        }
+
+        // Students in their first semester are assumed to progress at the planned pace
+        double pace = elapsed >= 1.0 ? earned / elapsed : required / (double) planned;
+        if (pace > 0) {
+            int projectedSemesters = (int) Math.ceil(remaining / pace);
+            audit.setProjectedSemestersRemaining(projectedSemesters);
+            audit.setProjectedCompletionDate(today.plusMonths((long) projectedSemesters * MONTHS_PER_SEMESTER));
+        }
+
+        // Ratio of the pace needed to finish on plan to the pace achieved so far
+        double requiredPace = remaining / Math.max(planned - elapsed, 0.5);
+        double riskScore = pace > 0 ? Math.min(MAX_RISK_SCORE, requiredPace / pace) : MAX_RISK_SCORE;
+        audit.setRiskScore(round(riskScore));
+        audit.setRiskLevel(riskScore <= AT_RISK_THRESHOLD ? RiskLevel.ON_TRACK
+                : riskScore <= CRITICAL_THRESHOLD ? RiskLevel.AT_RISK : RiskLevel.CRITICAL);
+        return audit;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * Cached audits of one institution; stale entries are recomputed on the next listing
+     * Every invalidation is stamped, so recomputing a student only clears the stale flag when the student
+     * did not change again while the audit was being computed
+     */
+    private static final class InstitutionAudits {
+        final Map<Long, DegreeAuditResponse> results = new ConcurrentHashMap<>();
+        final Map<Long, Long> stale = new ConcurrentHashMap<>();
+        final AtomicLong invalidations = new AtomicLong();
+        volatile boolean complete;
+
+        DegreeAuditResponse get(Long studentId) {
+            return stale.containsKey(studentId) ? null : results.get(studentId);
+        }
+
+        void invalidate(Long studentId) {
+            stale.put(studentId, invalidations.incrementAndGet());
+        }
+
+        /**
+         * Current invalidation stamps of the given students that are stale
+         */
+        Map<Long, Long> stamps(Collection<Long> studentIds) {
+            Map<Long, Long> stamps = new HashMap<>();
+            for (Long studentId : studentIds) {
+                Long stamp = stale.get(studentId);
+                if (stamp != null) {
+                    stamps.put(studentId, stamp);
+                }
+            }
+            return stamps;
+        }
+
+        void clear(Long studentId, Long stamp) {
+            stale.remove(studentId, stamp);
+        }
+    }
+
+    /**
+     * Per-student credit totals for a sorted block of students, filled from enrollment rows
+     */
+    private final class StudentCredits {
+        private final List<Object[]> students;
+        private final long[] ids;
+        private final int[] earned;
+        private final int[] inProgress;
+        private final int[] failed;
+
+        StudentCredits(List<Object[]> students) {
+            this.students = students;
+            this.ids = students.stream().mapToLong(row -> (Long) row[0]).toArray();
+            this.earned = new int[ids.length];
+            this.inProgress = new int[ids.length];
+            this.failed = new int[ids.length];
+        }
+
+        void accumulate(Object[] row) {
+            int index = Arrays.binarySearch(ids, (Long) row[0]);
+            if (index < 0) {
+                return;
+            }
+            Enrollment.EnrollmentStatus status = (Enrollment.EnrollmentStatus) row[1];
+            int credits = row[2] != null ? ((Number) row[2]).intValue() : 0;
+            Double grade = (Double) row[3];
+            switch (status) {
+                case COMPLETED -> {
+                    if (grade == null || grade >= passingGrade) {
+                        earned[index] += credits;
+                    } else {
+                        failed[index] += credits;
+                    }
+                }
+                case FAILED -> failed[index] += credits;
+                case ACTIVE -> inProgress[index] += credits;
+                default -> {
+                }
+            }
+        }
+
+        List<DegreeAuditResponse> evaluate(Long institutionId, Map<String, Curriculum> curricula,
+                                           LocalDate today, LocalDateTime now) {
+            List<DegreeAuditResponse> results = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                results.add(DegreeAuditService.this.evaluate(institutionId, students.get(i), earned[i], inProgress[i],
+                        failed[i], curricula, today, now));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Fork/join task over a slice of the institution's sorted student IDs;
+     * each leaf streams the enrollments of its ID range in its own read-only transaction
+     */
+    private final class PartitionTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Long institutionId;
+        private final long[] studentIds;
+        private final int from;
+        private final int to;
+        private final transient Map<String, Curriculum> curricula;
+        private final LocalDate today;
+        private final LocalDateTime now;
+        private final AtomicInteger partitions;
+
+        PartitionTask(Long institutionId, long[] studentIds, int from, int to, Map<String, Curriculum> curricula,
+                      LocalDate today, LocalDateTime now, AtomicInteger partitions) {
+            this.institutionId = institutionId;
+            this.studentIds = studentIds;
+            this.from = from;
+            this.to = to;
+            this.curricula = curricula;
+            this.today = today;
+            this.now = now;
+            this.partitions = partitions;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > Math.max(1, partitionSize)) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(institutionId, studentIds, from, middle, curricula, today, now, partitions),
+                        new PartitionTask(institutionId, studentIds, middle, to, curricula, today, now, partitions));
+                return;
+            }
+
+            long fromId = studentIds[from];
+            long toId = studentIds[to - 1];
+            List<DegreeAuditResponse> results = readOnlyTransaction.execute(status -> {
+                StudentCredits credits = new StudentCredits(
+                        studentRepository.findAuditRowsByIdRange(institutionId, fromId, toId));
+                try (Stream<Object[]> rows = enrollmentRepository.streamCreditRowsByStudentIdRange(institutionId, fromId, toId)) {
+                    rows.forEach(credits::accumulate);
+                }
+                return credits.evaluate(institutionId, curricula, today, now);
+            });
+            store(institutionId, results);
+            partitions.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.educationerp.course_management.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal RFC 5545 content writer
+ * Appends content lines with text escaping and folds lines longer than 75 octets without splitting
+ * UTF-8 sequences. Date-times are written as floating local times, matching how schedules are stored.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public final class ICalendarWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String CRLF = "\r\n";
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final StringBuilder out;
+
+    public ICalendarWriter() {
+        this(1024);
+    }
+
+    public ICalendarWriter(int capacity) {
+        this.out = new StringBuilder(capacity);
+    }
+
+    /**
+     * Write a property whose value is already in iCalendar syntax
+     */
+    public ICalendarWriter property(String name, String value) {
+        String line = name + ":" + value;
+        int octets = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int width = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : Character.isLowSurrogate(c) ? 0 : 3;
+            if (octets + width > MAX_LINE_OCTETS) {
+                out.append(CRLF).append(' ');
+                // The folding space counts towards the continuation line
+                octets = 1;
+            }
+            out.append(c);
+            octets += width;
+        }
+        out.append(CRLF);
+        return this;
+    }
+
+    /**
+     * Write a TEXT property, escaping its value
+     */
+    public ICalendarWriter text(String name, String value) {
+        return property(name, escape(value));
+    }
+
+    public ICalendarWriter date(String name, LocalDate date) {
+        return property(name + ";VALUE=DATE", DATE.format(date));
+    }
+
+    public ICalendarWriter dateTime(String name, LocalDateTime dateTime) {
+        return property(name, DATE_TIME.format(dateTime));
+    }
+
+    /**
+     * Write a UTC date-time such as DTSTAMP, converting from the server's time zone
+     */
+    public ICalendarWriter utcDateTime(String name, LocalDateTime dateTime) {
+        return property(name, UTC_DATE_TIME.format(dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC)));
+    }
+
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return DATE_TIME.format(dateTime);
+    }
+
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    // Line breaks are normalized to \n
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    public int length() {
+        return out.length();
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
@@ -0,0 +1,207 @@
+package com.educationerp.course_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.dto.QuizRequest;
+import com.educationerp.course_management.dto.QuizResponse;
+import com.educationerp.course_management.dto.QuizResultsResponse;
+import com.educationerp.course_management.entity.Course;
+import com.educationerp.course_management.entity.Quiz;
+import com.educationerp.course_management.entity.QuizQuestion;
+import com.educationerp.course_management.repository.CourseRepository;
+import com.educationerp.course_management.repository.QuizQuestionRepository;
+import com.educationerp.course_management.repository.QuizRepository;
+import com.educationerp.course_management.repository.QuizSubmissionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Service class for online quizzes
+ * Manages quizzes and their questions; submissions are handled by {@link QuizSubmissionService}
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class QuizService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizService.class);
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuizQuestionRepository quizQuestionRepository;
+
+    @Autowired
+    private QuizSubmissionRepository quizSubmissionRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private QuizSubmissionService quizSubmissionService;
+
+    /**
+     * Create a quiz with its questions
+     */
+    public QuizResponse createQuiz(QuizRequest request) {
+        logger.info("Creating quiz '{}' for course: {}", request.getTitle(), request.getCourseId());
+
+        Course course = courseRepository.findById(request.getCourseId())
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + request.getCourseId()));
+        if (course.getStatus() == Course.CourseStatus.CANCELLED) {
+            throw new BusinessException("Cannot create a quiz for a cancelled course");
+        }
+        if (!request.getClosesAt().isAfter(request.getOpensAt())) {
+            throw new BusinessException("Quiz must close after it opens");
+        }
+
+        double maxScore = 0.0;
+        for (QuizRequest.Question question : request.getQuestions()) {
+            if (question.getQuestionType() != QuizQuestion.QuestionType.SHORT_ANSWER
+                    && (question.getOptions() == null || question.getOptions().size() < 2)) {
+                throw new BusinessException("Choice questions must have at least two options");
+            }
+            if (question.getQuestionType() == QuizQuestion.QuestionType.SINGLE_CHOICE
+                    && question.getCorrectAnswers().size() != 1) {
+                throw new BusinessException("Single choice questions must have exactly one correct answer");
+            }
+            maxScore += question.getPoints();
+        }
+
+        Quiz quiz = new Quiz(course.getInstitutionId(), course.getId(), request.getTitle(),
+                request.getOpensAt(), request.getClosesAt(), maxScore);
+        quiz.setDescription(request.getDescription());
+        quiz.setRecordAsCourseGrade(Boolean.TRUE.equals(request.getRecordAsCourseGrade()));
+        quiz = quizRepository.save(quiz);
+
+        List<QuizQuestion> questions = new ArrayList<>(request.getQuestions().size());
+        int questionNumber = 0;
+        for (QuizRequest.Question question : request.getQuestions()) {
+            List<String> options = question.getOptions() != null ? question.getOptions() : List.of();
+            questions.add(new QuizQuestion(quiz.getId(), ++questionNumber, question.getQuestionType(),
+                    question.getPrompt(), String.join("\n", options),
+                    String.join("\n", question.getCorrectAnswers()), question.getPoints()));
+        }
+        questions = quizQuestionRepository.saveAll(questions);
+
+        logger.info("Quiz {} created with {} questions", quiz.getId(), questions.size());
+        return mapToResponse(quiz, questions, true);
+    }
+
+    /**
+     * Get a quiz; students get it without the answer key
+     */
+    @Transactional(readOnly = true)
+    public QuizResponse getQuiz(Long quizId, boolean includeAnswers) {
+        Quiz quiz = findQuiz(quizId);
+        if (!includeAnswers && LocalDateTime.now().isBefore(quiz.getOpensAt())) {
+            throw new BusinessException("Quiz is not open yet");
+        }
+        return mapToResponse(quiz, quizQuestionRepository.findByQuizIdAndIsActiveTrueOrderByQuestionNumber(quizId), includeAnswers);
+    }
+
+    /**
+     * Get the quizzes of a course without their questions
+     */
+    @Transactional(readOnly = true)
+    public List<QuizResponse> getCourseQuizzes(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+        }
+        return quizRepository.findByCourseIdAndIsActiveTrueOrderByOpensAt(courseId).stream()
+                .map(quiz -> mapToResponse(quiz, null, false))
+                .toList();
+    }
+
+    /**
+     * Close a quiz before its scheduled end
+     */
+    public QuizResponse closeQuiz(Long quizId) {
+        logger.info("Closing quiz: {}", quizId);
+
+        Quiz quiz = findQuiz(quizId);
+        LocalDateTime now = LocalDateTime.now();
+        quiz.setStatus(Quiz.QuizStatus.CLOSED);
+        if (quiz.getClosesAt().isAfter(now)) {
+            quiz.setClosesAt(now);
+        }
+        quiz = quizRepository.save(quiz);
+        quizSubmissionService.close(quizId);
+        return mapToResponse(quiz, null, false);
+    }
+
+    /**
+     * Get submission and scoring progress of a quiz
+     */
+    @Transactional(readOnly = true)
+    public QuizResultsResponse getResults(Long quizId) {
+        Quiz quiz = findQuiz(quizId);
+        Object[] summary = quizSubmissionRepository.summarizeByQuizId(quizId).get(0);
+
+        QuizResultsResponse response = new QuizResultsResponse();
+        response.setQuizId(quizId);
+        response.setStatus(quiz.getStatus());
+        response.setStoredSubmissions(((Number) summary[0]).longValue());
+        response.setScoredSubmissions(((Number) summary[1]).longValue());
+        response.setAverageScore(summary[2] != null ? ((Number) summary[2]).doubleValue() : null);
+        response.setMaxScore(quiz.getMaxScore());
+        int pending = quizSubmissionService.getPendingCount(quizId);
+        response.setPendingSubmissions(pending);
+        response.setAcceptedSubmissions(Math.max(quizSubmissionService.getAcceptedCount(quizId), response.getStoredSubmissions()));
+        response.setGeneratedAt(LocalDateTime.now());
+        return response;
+    }
+
+    private Quiz findQuiz(Long quizId) {
+        return quizRepository.findById(quizId)
+                .filter(Quiz::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with ID: " + quizId));
+    }
+
+    private QuizResponse mapToResponse(Quiz quiz, List<QuizQuestion> questions, boolean includeAnswers) {
+        QuizResponse response = new QuizResponse();
+        response.setId(quiz.getId());
+        response.setCourseId(quiz.getCourseId());
+        response.setTitle(quiz.getTitle());
+        response.setDescription(quiz.getDescription());
+        response.setOpensAt(quiz.getOpensAt());
+        response.setClosesAt(quiz.getClosesAt());
+        response.setMaxScore(quiz.getMaxScore());
+        response.setRecordAsCourseGrade(quiz.getRecordAsCourseGrade());
+        response.setStatus(quiz.getStatus());
+        if (questions != null) {
+            response.setQuestions(questions.stream()
+                    .map(question -> mapQuestion(question, includeAnswers))
+                    .toList());
+        }
+        return response;
+    }
+
+    private QuizResponse.Question mapQuestion(QuizQuestion question, boolean includeAnswers) {
+        QuizResponse.Question response = new QuizResponse.Question();
+        response.setQuestionNumber(question.getQuestionNumber());
+        response.setQuestionType(question.getQuestionType());
+        response.setPrompt(question.getPrompt());
+        response.setOptions(splitLines(question.getOptions()));
+        if (includeAnswers) {
+            response.setCorrectAnswers(splitLines(question.getCorrectAnswers()));
+        }
+        response.setPoints(question.getPoints());
+        return response;
+    }
+
+    private static List<String> splitLines(String value) {
+        return value == null || value.isEmpty() ? List.of() : Arrays.asList(value.split("\n"));
+    }
+}
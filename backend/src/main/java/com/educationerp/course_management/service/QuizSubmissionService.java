@@ -0,0 +1,859 @@
+package com.educationerp.course_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.dto.QuizSubmissionRequest;
+import com.educationerp.course_management.dto.QuizSubmissionResponse;
+import com.educationerp.course_management.entity.Quiz;
+import com.educationerp.course_management.entity.QuizQuestion;
+import com.educationerp.course_management.entity.QuizSubmission;
+import com.educationerp.course_management.repository.QuizQuestionRepository;
+import com.educationerp.course_management.repository.QuizRepository;
+import com.educationerp.course_management.repository.QuizSubmissionRepository;
+import com.educationerp.student_management.dto.RosterGradeSubmissionRequest;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.event.EnrollmentChangedEvent;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.educationerp.student_management.service.GradebookService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Service class accepting quiz submissions at high concurrency
+ * Each open quiz has a bounded ring of incoming submissions drained by a single journal writer, which
+ * appends a batch to the quiz's local journal with one write and one fsync before acknowledging it.
+ * A flusher scores acknowledged submissions on a parallel pool and inserts them in JDBC batches, then
+ * feeds the scores into the enrollment grades when the quiz counts as the course grade. No request
+ * writes to the database, and journals left behind by a crash are replayed on startup.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class QuizSubmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuizSubmissionService.class);
+
+    private static final String JOURNAL_PREFIX = "quiz-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final int MAX_ANSWERS_LENGTH = 4000;
+    private static final int PARALLEL_SCORING_THRESHOLD = 256;
+    private static final long CLOSE_GRACE_SECONDS = 60;
+    private static final long MAX_RETRY_BACKOFF_MS = 60_000;
+
+    private static final String INSERT_SUBMISSION_SQL =
+            "INSERT INTO quiz_submissions (quiz_id, student_id, answers, submitted_date, journal_sequence, score, " +
+            "scored_date, created_date, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, true)";
+
+    private static final TypeReference<Map<Integer, List<String>>> ANSWERS_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuizQuestionRepository quizQuestionRepository;
+
+    @Autowired
+    private QuizSubmissionRepository quizSubmissionRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private GradebookService gradebookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${education.erp.quiz.journal-directory:${java.io.tmpdir}/quiz-journal}")
+    private String journalDirectoryPath;
+
+    @Value("${education.erp.quiz.ring-capacity:65536}")
+    private int ringCapacity;
+
+    @Value("${education.erp.quiz.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${education.erp.quiz.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${education.erp.quiz.durable-timeout-ms:5000}")
+    private long durableTimeoutMs;
+
+    @Value("${education.erp.quiz.journal-threads:2}")
+    private int journalThreads;
+
+    @Value("${education.erp.quiz.scoring-parallelism:0}")
+    private int scoringParallelism;
+
+    @Value("${education.erp.gradebook.grade-scale-max:100.0}")
+    private double gradeScaleMax;
+
+    private final Map<Long, QuizState> states = new ConcurrentHashMap<>();
+
+    private Path journalDirectory;
+    private ExecutorService journalExecutor;
+    private ScheduledExecutorService flushScheduler;
+    private ForkJoinPool scoringPool;
+
+    @PostConstruct
+    void initialize() throws IOException {
+        journalDirectory = Files.createDirectories(Paths.get(journalDirectoryPath));
+        AtomicInteger threadCounter = new AtomicInteger();
+        journalExecutor = Executors.newFixedThreadPool(Math.max(1, journalThreads), runnable -> {
+            Thread thread = new Thread(runnable, "quiz-journal-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quiz-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scoringPool = new ForkJoinPool(scoringParallelism > 0 ? scoringParallelism : Runtime.getRuntime().availableProcessors());
+        flushScheduler.scheduleWithFixedDelay(this::flushAll, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        flushScheduler.shutdown();
+        flushScheduler.awaitTermination(10, TimeUnit.SECONDS);
+        journalExecutor.shutdown();
+        journalExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        // Whatever is not flushed now stays in the journals and is replayed on the next start
+        flushAll();
+        scoringPool.shutdownNow();
+        for (QuizState state : states.values()) {
+            closeJournal(state);
+        }
+    }
+
+    /**
+     * Replay journals left behind by a crash
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverJournals() {
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(journalDirectory, JOURNAL_PREFIX + "*" + JOURNAL_SUFFIX)) {
+            for (Path journal : journals) {
+                try {
+                    recoverJournal(journal);
+                } catch (IOException | RuntimeException e) {
+                    logger.error("Failed to recover quiz journal {}", journal, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Failed to list quiz journals in {}", journalDirectory, e);
+        }
+    }
+
+    /**
+     * Accept a submission; returns once it is journaled, or after the durability timeout with durable=false
+     */
+    public QuizSubmissionResponse submit(Long quizId, QuizSubmissionRequest request) {
+        QuizState state = getState(quizId);
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(state.opensAt)) {
+            throw new BusinessException("Quiz is not open yet");
+        }
+        if (state.closed || now.isAfter(state.closesAt)) {
+            throw new BusinessException("Quiz is closed");
+        }
+
+        Long studentId = request.getStudentId();
+        if (state.recheckStudents.remove(studentId)) {
+            recheckEnrollment(state, studentId);
+        }
+        if (!state.enrolledStudents.contains(studentId)) {
+            throw new BusinessException("Student is not enrolled in the course of this quiz: " + studentId);
+        }
+
+        Map<Integer, List<String>> answers = request.getAnswers();
+        state.answerKey.validate(answers);
+        String answersJson;
+        try {
+            answersJson = objectMapper.writeValueAsString(answers);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Answers could not be read");
+        }
+        if (answersJson.length() > MAX_ANSWERS_LENGTH) {
+            throw new BusinessException("Answers must not exceed " + MAX_ANSWERS_LENGTH + " characters");
+        }
+
+        if (!state.acceptedStudents.add(studentId)) {
+            throw new BusinessException("Student has already submitted this quiz: " + studentId);
+        }
+        Submission submission = new Submission(studentId, answers, answersJson, now);
+        if (!state.ring.offer(submission)) {
+            state.acceptedStudents.remove(studentId);
+            throw new BusinessException("Quiz is receiving too many submissions, please retry");
+        }
+        scheduleWriter(state);
+
+        boolean durable = false;
+        try {
+            submission.journaled.get(durableTimeoutMs, TimeUnit.MILLISECONDS);
+            durable = true;
+        } catch (TimeoutException e) {
+            logger.warn("Submission of student {} to quiz {} not journaled within {} ms", studentId, quizId, durableTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new BusinessException("Submission could not be recorded, please retry");
+        }
+
+        QuizSubmissionResponse response = new QuizSubmissionResponse();
+        response.setQuizId(quizId);
+        response.setStudentId(studentId);
+        response.setSequence(durable ? submission.sequence : null);
+        response.setSubmittedAt(now);
+        response.setDurable(durable);
+        response.setMaxScore(state.maxScore);
+        return response;
+    }
+
+    /**
+     * Get a student's submission, including accepted submissions not stored yet
+     */
+    public QuizSubmissionResponse getSubmission(Long quizId, Long studentId) {
+        QuizSubmission stored = quizSubmissionRepository.findByQuizIdAndStudentId(quizId, studentId).orElse(null);
+        QuizState state = states.get(quizId);
+        if (stored == null && (state == null || !state.acceptedStudents.contains(studentId))) {
+            throw new ResourceNotFoundException("Quiz submission not found for student ID: " + studentId);
+        }
+
+        QuizSubmissionResponse response = new QuizSubmissionResponse();
+        response.setQuizId(quizId);
+        response.setStudentId(studentId);
+        response.setDurable(true);
+        if (stored != null) {
+            response.setSequence(stored.getJournalSequence());
+            response.setSubmittedAt(stored.getSubmittedDate());
+            response.setScore(stored.getScore());
+            response.setScoredAt(stored.getScoredDate());
+        }
+        if (state != null) {
+            response.setMaxScore(state.maxScore);
+        } else {
+            quizRepository.findById(quizId).ifPresent(quiz -> response.setMaxScore(quiz.getMaxScore()));
+        }
+        return response;
+    }
+
+    /**
+     * Stop accepting submissions for a quiz; accepted submissions are still stored
+     */
+    public void close(Long quizId) {
+        QuizState state = states.get(quizId);
+        if (state != null) {
+            state.closed = true;
+        }
+    }
+
+    /**
+     * Number of submissions accepted since the quiz was opened on this node
+     */
+    public long getAcceptedCount(Long quizId) {
+        QuizState state = states.get(quizId);
+        return state != null ? state.acceptedStudents.size() : 0;
+    }
+
+    /**
+     * Number of accepted submissions not stored in the database yet
+     */
+    public int getPendingCount(Long quizId) {
+        QuizState state = states.get(quizId);
+        return state != null ? state.ring.size() + state.unflushed.get() : 0;
+    }
+
+    /**
+     * Recheck students whose enrollments changed on their next submission
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        if (event.getStudentId() == null || states.isEmpty()) {
+            return;
+        }
+        for (QuizState state : states.values()) {
+            if (state.courseId.equals(event.getCourseId())) {
+                state.recheckStudents.add(event.getStudentId());
+            }
+        }
+    }
+
+    private QuizState getState(Long quizId) {
+        QuizState state = states.get(quizId);
+        if (state != null) {
+            return state;
+        }
+        synchronized (states) {
+            state = states.get(quizId);
+            if (state != null) {
+                return state;
+            }
+            Quiz quiz = quizRepository.findById(quizId)
+                    .filter(Quiz::getIsActive)
+                    .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with ID: " + quizId));
+            if (quiz.getStatus() == Quiz.QuizStatus.CLOSED) {
+                throw new BusinessException("Quiz is closed");
+            }
+            state = loadState(quiz);
+            states.put(quizId, state);
+            logger.info("Quiz {} opened for submissions with {} enrolled students", quizId, state.enrolledStudents.size());
+            return state;
+        }
+    }
+
+    private QuizState loadState(Quiz quiz) {
+        AnswerKey answerKey = new AnswerKey(quizQuestionRepository.findByQuizIdAndIsActiveTrueOrderByQuestionNumber(quiz.getId()));
+        QuizState state = new QuizState(quiz, answerKey, ringCapacity);
+        for (Object[] row : enrollmentRepository.findRosterRowsByCourseId(quiz.getCourseId())) {
+            if (row[6] == Enrollment.EnrollmentStatus.ACTIVE) {
+                state.enrolledStudents.add((Long) row[0]);
+            }
+        }
+        state.acceptedStudents.addAll(quizSubmissionRepository.findStudentIdsByQuizId(quiz.getId()));
+        return state;
+    }
+
+    private void recheckEnrollment(QuizState state, Long studentId) {
+        boolean enrolled = enrollmentRepository.findRosterRowsByCourseIdAndStudentIds(state.courseId, List.of(studentId)).stream()
+                .anyMatch(row -> row[6] == Enrollment.EnrollmentStatus.ACTIVE);
+        if (enrolled) {
+            state.enrolledStudents.add(studentId);
+        } else {
+            state.enrolledStudents.remove(studentId);
+        }
+    }
+
+    private void scheduleWriter(QuizState state) {
+        if (state.writerScheduled.compareAndSet(false, true)) {
+            journalExecutor.execute(() -> writeJournal(state));
+        }
+    }
+
+    /**
+     * Drain the quiz's ring into its journal; at most one writer runs per quiz
+     */
+    private void writeJournal(QuizState state) {
+        List<Submission> batch = new ArrayList<>(Math.min(batchSize, ringCapacity));
+        try {
+            while (state.ring.drainTo(batch, batchSize) > 0) {
+                appendToJournal(state, batch);
+                state.unflushed.addAndGet(batch.size());
+                for (Submission submission : batch) {
+                    state.journaled.add(submission);
+                    submission.journaled.complete(submission.sequence);
+                }
+                batch.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to journal {} submissions of quiz {}", batch.size(), state.quizId, e);
+            for (Submission submission : batch) {
+                state.acceptedStudents.remove(submission.studentId);
+                submission.journaled.completeExceptionally(e);
+            }
+        } finally {
+            state.writerScheduled.set(false);
+            if (!state.ring.isEmpty()) {
+                scheduleWriter(state);
+            }
+        }
+    }
+
+    private void appendToJournal(QuizState state, List<Submission> batch) throws IOException {
+        if (state.journal == null) {
+            state.journal = FileChannel.open(journalPath(state.quizId),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        StringBuilder lines = new StringBuilder(batch.size() * 128);
+        long sequence = state.sequence;
+        for (Submission submission : batch) {
+            submission.sequence = ++sequence;
+            lines.append("{\"seq\":").append(submission.sequence)
+                    .append(",\"studentId\":").append(submission.studentId)
+                    .append(",\"submittedAt\":\"").append(submission.submittedAt)
+                    .append("\",\"answers\":").append(submission.answersJson)
+                    .append("}\n");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            state.journal.write(buffer);
+        }
+        // One fsync per batch: every submission in it becomes durable together
+        state.journal.force(false);
+        state.sequence = sequence;
+    }
+
+    private void flushAll() {
+        for (QuizState state : states.values()) {
+            try {
+                flush(state);
+                finishIfDone(state);
+            } catch (RuntimeException e) {
+                logger.error("Failed to flush submissions of quiz {}", state.quizId, e);
+            }
+        }
+    }
+
+    /**
+     * Score and store journaled submissions, and failed ones due for another attempt, in batches; only the
+     * flusher thread touches the pending batch
+     */
+    private void flush(QuizState state) {
+        List<Submission> batch = state.pendingBatch;
+        while (true) {
+            long now = System.currentTimeMillis();
+            for (Iterator<Submission> retries = state.retrying.iterator(); retries.hasNext() && batch.size() < batchSize; ) {
+                Submission submission = retries.next();
+                if (submission.retryAt <= now) {
+                    retries.remove();
+                    batch.add(submission);
+                }
+            }
+            while (batch.size() < batchSize) {
+                Submission submission = state.journaled.poll();
+                if (submission == null) {
+                    break;
+                }
+                batch.add(submission);
+            }
+            if (batch.isEmpty()) {
+                submitGrades(state);
+                return;
+            }
+
+            LocalDateTime scoredAt = LocalDateTime.now();
+            score(state, batch);
+            List<Submission> stored = persist(state, batch, scoredAt);
+            recordGrades(state, stored);
+            batch.clear();
+        }
+    }
+
+    private void score(QuizState state, List<Submission> batch) {
+        if (batch.size() < PARALLEL_SCORING_THRESHOLD) {
+            batch.forEach(submission -> submission.score = state.answerKey.score(submission.answers));
+            return;
+        }
+        try {
+            scoringPool.submit(() -> batch.parallelStream()
+                    .forEach(submission -> submission.score = state.answerKey.score(submission.answers))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Quiz scoring was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Quiz scoring failed", e.getCause());
+        }
+    }
+
+    /**
+     * Insert a batch in one transaction; if the batch fails, rows are retried one by one. Rows that
+     * still fail stay pending and are retried with backoff, so their journal is kept until they are
+     * stored; rows already in the table are settled without being stored again. Returns the rows inserted.
+     */
+    private List<Submission> persist(QuizState state, List<Submission> batch, LocalDateTime scoredAt) {
+        Timestamp now = Timestamp.valueOf(scoredAt);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SUBMISSION_SQL, batch, batch.size(), (ps, submission) ->
+                            bindSubmission(ps, state, submission, now)));
+            state.unflushed.addAndGet(-batch.size());
+            return new ArrayList<>(batch);
+        } catch (RuntimeException e) {
+            logger.warn("Batch insert of {} submissions of quiz {} failed, retrying one by one", batch.size(), state.quizId, e);
+        }
+
+        List<Submission> stored = new ArrayList<>(batch.size());
+        for (Submission submission : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SUBMISSION_SQL, ps -> bindSubmission(ps, state, submission, now));
+                stored.add(submission);
+                state.unflushed.decrementAndGet();
+            } catch (DuplicateKeyException e) {
+                logger.info("Submission of student {} to quiz {} is already stored", submission.studentId, state.quizId);
+                state.unflushed.decrementAndGet();
+            } catch (RuntimeException e) {
+                submission.attempts++;
+                long backoff = Math.min(flushIntervalMs << Math.min(submission.attempts, 16), MAX_RETRY_BACKOFF_MS);
+                submission.retryAt = System.currentTimeMillis() + backoff;
+                state.retrying.add(submission);
+                logger.error("Failed to store submission of student {} to quiz {} (attempt {}), retrying in {} ms",
+                        submission.studentId, state.quizId, submission.attempts, backoff, e);
+            }
+        }
+        return stored;
+    }
+
+    private static void bindSubmission(PreparedStatement ps, QuizState state, Submission submission,
+                                       Timestamp now) throws SQLException {
+        ps.setLong(1, state.quizId);
+        ps.setLong(2, submission.studentId);
+        ps.setString(3, submission.answersJson);
+        ps.setTimestamp(4, Timestamp.valueOf(submission.submittedAt));
+        ps.setLong(5, submission.sequence);
+        ps.setDouble(6, submission.score);
+        ps.setTimestamp(7, now);
+        ps.setTimestamp(8, now);
+    }
+
+    private void recordGrades(QuizState state, List<Submission> stored) {
+        if (!state.recordAsCourseGrade || state.maxScore <= 0) {
+            return;
+        }
+        for (Submission submission : stored) {
+            double grade = Math.round(submission.score / state.maxScore * gradeScaleMax * 100.0) / 100.0;
+            state.ungraded.add(new RosterGradeSubmissionRequest.GradeEntry(submission.studentId, grade));
+        }
+    }
+
+    /**
+     * Record stored scores as course grades in batches. A failed batch stays pending and is retried with
+     * backoff, and the quiz is not released before all its grades are recorded; submitting the same grade
+     * again leaves the gradebook unchanged.
+     */
+    private void submitGrades(QuizState state) {
+        if (state.ungraded.isEmpty() || state.gradeRetryAt > System.currentTimeMillis()) {
+            return;
+        }
+        while (!state.ungraded.isEmpty()) {
+            List<RosterGradeSubmissionRequest.GradeEntry> grades =
+                    state.ungraded.subList(0, Math.min(batchSize, state.ungraded.size()));
+            RosterGradeSubmissionRequest request = new RosterGradeSubmissionRequest();
+            request.setGrades(new ArrayList<>(grades));
+            request.setComplete(false);
+            try {
+                gradebookService.submitRosterGrades(state.courseId, request);
+            } catch (ResourceNotFoundException e) {
+                logger.error("Course {} of quiz {} no longer exists; dropping {} course grades",
+                        state.courseId, state.quizId, state.ungraded.size(), e);
+                state.ungraded.clear();
+                return;
+            } catch (RuntimeException e) {
+                state.gradeAttempts++;
+                long backoff = Math.min(flushIntervalMs << Math.min(state.gradeAttempts, 16), MAX_RETRY_BACKOFF_MS);
+                state.gradeRetryAt = System.currentTimeMillis() + backoff;
+                logger.error("Failed to record {} quiz {} scores as course grades (attempt {}), retrying in {} ms",
+                        grades.size(), state.quizId, state.gradeAttempts, backoff, e);
+                return;
+            }
+            grades.clear();
+            state.gradeAttempts = 0;
+        }
+    }
+
+    /**
+     * Release a closed quiz once everything it accepted is stored, deleting its journal
+     */
+    private void finishIfDone(QuizState state) {
+        boolean windowOver = LocalDateTime.now().isAfter(state.closesAt.plusSeconds(CLOSE_GRACE_SECONDS));
+        if (!(state.closed || windowOver) || !state.ring.isEmpty() || state.writerScheduled.get()
+                || !state.journaled.isEmpty() || !state.pendingBatch.isEmpty() || !state.retrying.isEmpty()
+                || !state.ungraded.isEmpty()) {
+            return;
+        }
+        states.remove(state.quizId, state);
+        closeJournal(state);
+        try {
+            Files.deleteIfExists(journalPath(state.quizId));
+        } catch (IOException e) {
+            logger.warn("Failed to delete journal of quiz {}", state.quizId, e);
+        }
+        if (windowOver && !state.closed) {
+            quizRepository.findById(state.quizId).ifPresent(quiz -> {
+                quiz.setStatus(Quiz.QuizStatus.CLOSED);
+                quizRepository.save(quiz);
+            });
+        }
+        logger.info("Quiz {} finished: {} submissions stored", state.quizId, state.acceptedStudents.size());
+    }
+
+    private void recoverJournal(Path path) throws IOException {
+        String fileName = path.getFileName().toString();
+        Long quizId = Long.valueOf(fileName.substring(JOURNAL_PREFIX.length(), fileName.length() - JOURNAL_SUFFIX.length()));
+        Quiz quiz = quizRepository.findById(quizId).orElse(null);
+        if (quiz == null) {
+            logger.warn("Keeping journal {} of unknown quiz {}", path, quizId);
+            return;
+        }
+
+        List<Submission> entries = readJournal(path);
+        Set<Long> stored = new HashSet<>(quizSubmissionRepository.findStudentIdsByQuizId(quizId));
+        QuizState state = loadState(quiz);
+        state.closed = quiz.getStatus() == Quiz.QuizStatus.CLOSED;
+        int replayed = 0;
+        for (Submission entry : entries) {
+            state.sequence = Math.max(state.sequence, entry.sequence);
+            state.acceptedStudents.add(entry.studentId);
+            if (stored.add(entry.studentId)) {
+                state.journaled.add(entry);
+                replayed++;
+            } else if (state.recordAsCourseGrade) {
+                // Its course grade may not have been recorded before the crash; recording it again is harmless
+                entry.score = state.answerKey.score(entry.answers);
+                recordGrades(state, List.of(entry));
+            }
+        }
+        state.unflushed.addAndGet(replayed);
+        states.put(quizId, state);
+        logger.info("Recovered journal of quiz {}: {} entries, {} not yet stored", quizId, entries.size(), replayed);
+    }
+
+    /**
+     * Read a journal, truncating a partially written last line left by a crash
+     */
+    private List<Submission> readJournal(Path path) throws IOException {
+        byte[] content = Files.readAllBytes(path);
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        if (end < content.length) {
+            logger.warn("Truncating {} bytes of a partial entry from {}", content.length - end, path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+                channel.force(false);
+            }
+        }
+
+        List<Submission> entries = new ArrayList<>();
+        String[] lines = new String(content, 0, end, StandardCharsets.UTF_8).split("\n");
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                JsonNode answers = node.get("answers");
+                Submission entry = new Submission(node.get("studentId").asLong(),
+                        objectMapper.convertValue(answers, ANSWERS_TYPE), answers.toString(),
+                        LocalDateTime.parse(node.get("submittedAt").asText()));
+                entry.sequence = node.get("seq").asLong();
+                entries.add(entry);
+            } catch (JsonProcessingException | RuntimeException e) {
+                logger.warn("Skipping unreadable entry in {}: {}", path, line);
+            }
+        }
+        return entries;
+    }
+
+    private Path journalPath(Long quizId) {
+        return journalDirectory.resolve(JOURNAL_PREFIX + quizId + JOURNAL_SUFFIX);
+    }
+
+    private void closeJournal(QuizState state) {
+        if (state.journal != null) {
+            try {
+                state.journal.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close journal of quiz {}", state.quizId, e);
+            }
+        }
+    }
+
+    private static String normalize(String answer) {
+        return answer == null ? "" : answer.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Runtime state of a quiz open on this node
+     */
+    private static final class QuizState {
+
+        private final Long quizId;
+        private final Long courseId;
+        private final LocalDateTime opensAt;
+        private final LocalDateTime closesAt;
+        private final double maxScore;
+        private final boolean recordAsCourseGrade;
+        private final AnswerKey answerKey;
+        private final Set<Long> enrolledStudents = ConcurrentHashMap.newKeySet();
+        private final Set<Long> acceptedStudents = ConcurrentHashMap.newKeySet();
+        private final Set<Long> recheckStudents = ConcurrentHashMap.newKeySet();
+
+        /** Incoming submissions; drained only by the quiz's journal writer */
+        private final BlockingQueue<Submission> ring;
+        private final AtomicBoolean writerScheduled = new AtomicBoolean();
+
+        /** Journaled submissions waiting for the flusher */
+        private final Queue<Submission> journaled = new ConcurrentLinkedQueue<>();
+        private final List<Submission> pendingBatch = new ArrayList<>();
+
+        /** Submissions whose insert failed, waiting for their next attempt; only the flusher touches them */
+        private final List<Submission> retrying = new ArrayList<>();
+        private final AtomicInteger unflushed = new AtomicInteger();
+
+        /** Course grades of stored submissions not yet recorded in the gradebook; only the flusher touches them */
+        private final List<RosterGradeSubmissionRequest.GradeEntry> ungraded = new ArrayList<>();
+        private int gradeAttempts;
+        private long gradeRetryAt;
+
+        /** Owned by the journal writer; handed between writer threads through writerScheduled */
+        private FileChannel journal;
+        private long sequence;
+
+        private volatile boolean closed;
+
+        private QuizState(Quiz quiz, AnswerKey answerKey, int ringCapacity) {
+            this.quizId = quiz.getId();
+            this.courseId = quiz.getCourseId();
+            this.opensAt = quiz.getOpensAt();
+            this.closesAt = quiz.getClosesAt();
+            this.maxScore = quiz.getMaxScore();
+            this.recordAsCourseGrade = Boolean.TRUE.equals(quiz.getRecordAsCourseGrade());
+            this.answerKey = answerKey;
+            this.ring = new ArrayBlockingQueue<>(ringCapacity);
+        }
+    }
+
+    /**
+     * A submission on its way from the ring to the database
+     */
+    private static final class Submission {
+
+        private final Long studentId;
+        private final Map<Integer, List<String>> answers;
+        private final String answersJson;
+        private final LocalDateTime submittedAt;
+        private final CompletableFuture<Long> journaled = new CompletableFuture<>();
+        private long sequence;
+        private double score;
+        private int attempts;
+        private long retryAt;
+
+        private Submission(Long studentId, Map<Integer, List<String>> answers, String answersJson, LocalDateTime submittedAt) {
+            this.studentId = studentId;
+            this.answers = answers;
+            this.answersJson = answersJson;
+            this.submittedAt = submittedAt;
+        }
+    }
+
+    /**
+     * Immutable answer key of a quiz with normalized accepted answers
+     */
+    private static final class AnswerKey {
+
+        private final Map<Integer, QuestionKey> questions = new HashMap<>();
+
+        private AnswerKey(List<QuizQuestion> quizQuestions) {
+            for (QuizQuestion question : quizQuestions) {
+                Set<String> correct = Arrays.stream(question.getCorrectAnswers().split("\n"))
+                        .map(QuizSubmissionService::normalize)
+                        .filter(answer -> !answer.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet());
+                questions.put(question.getQuestionNumber(),
+                        new QuestionKey(question.getQuestionType(), correct, question.getPoints()));
+            }
+        }
+
+        private void validate(Map<Integer, List<String>> answers) {
+            for (Map.Entry<Integer, List<String>> answer : answers.entrySet()) {
+                QuestionKey question = questions.get(answer.getKey());
+                if (question == null) {
+                    throw new BusinessException("Quiz has no question number " + answer.getKey());
+                }
+                if (question.type != QuizQuestion.QuestionType.MULTIPLE_CHOICE
+                        && answer.getValue() != null && answer.getValue().size() > 1) {
+                    throw new BusinessException("Question " + answer.getKey() + " accepts a single answer");
+                }
+            }
+        }
+
+        private double score(Map<Integer, List<String>> answers) {
+            double score = 0.0;
+            for (Map.Entry<Integer, QuestionKey> question : questions.entrySet()) {
+                List<String> given = answers.get(question.getKey());
+                if (given != null && question.getValue().isCorrect(given)) {
+                    score += question.getValue().points;
+                }
+            }
+            return score;
+        }
+    }
+
+    private static final class QuestionKey {
+
+        private final QuizQuestion.QuestionType type;
+        private final Set<String> correct;
+        private final double points;
+
+        private QuestionKey(QuizQuestion.QuestionType type, Set<String> correct, double points) {
+            this.type = type;
+            this.correct = correct;
+            this.points = points;
+        }
+
+        private boolean isCorrect(List<String> given) {
+            Set<String> normalized = new HashSet<>(given.size() * 2);
+            for (String answer : given) {
+                normalized.add(normalize(answer));
+            }
+            if (type == QuizQuestion.QuestionType.MULTIPLE_CHOICE) {
+                return normalized.equals(correct);
+            }
+            return normalized.size() == 1 && correct.contains(normalized.iterator().next());
+        }
+    }
+}
@@ -0,0 +1,503 @@
+package com.educationerp.course_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.dto.GenerateTimetableRequest;
+import com.educationerp.course_management.dto.TimetableEntryResponse;
+import com.educationerp.course_management.dto.TimetableJobResponse;
+import com.educationerp.course_management.entity.Course;
+import com.educationerp.course_management.entity.TimetableEntry;
+import com.educationerp.course_management.event.CourseScheduleChangedEvent;
+import com.educationerp.course_management.repository.CourseRepository;
+import com.educationerp.course_management.repository.TimetableEntryRepository;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service class for automatic timetable generation
+ * Runs the local-search solver as a background job per request, exposes best-so-far progress
+ * and persists the final placement as timetable entries
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class TimetableService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimetableService.class);
+
+    private static final long JOB_RETENTION_MILLIS = 60 * 60 * 1000L;
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TimetableEntryRepository timetableEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${education.erp.timetable.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    @Value("${education.erp.timetable.default-budget-seconds:180}")
+    private int defaultBudgetSeconds;
+
+    @Value("${education.erp.timetable.max-budget-seconds:900}")
+    private int maxBudgetSeconds;
+
+    @Value("${education.erp.timetable.parallelism:0}")
+    private int parallelism;
+
+    private final Map<String, TimetableJob> jobs = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void startExecutor() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs), runnable -> {
+            Thread thread = new Thread(runnable, "timetable-job-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        jobs.values().forEach(job -> job.cancelled = true);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Submit a timetable generation job for a term
+     */
+    public TimetableJobResponse startGeneration(GenerateTimetableRequest request) {
+        logger.info("Submitting timetable generation: {}", request);
+
+        if (request.getTermEnd().isBefore(request.getTermStart())) {
+            throw new BusinessException("Term end date must not be before term start date");
+        }
+
+        purgeFinishedJobs();
+
+        TimetableJob job = new TimetableJob(UUID.randomUUID().toString(), request);
+        jobs.put(job.jobId, job);
+        executor.submit(() -> runJob(job));
+
+        return job.toResponse(false);
+    }
+
+    /**
+     * Get job status with the best-so-far placement
+     */
+    public TimetableJobResponse getJob(String jobId, boolean includeEntries) {
+        return findJob(jobId).toResponse(includeEntries);
+    }
+
+    /**
+     * Subscribe to job progress as server-sent events
+     */
+    public SseEmitter subscribe(String jobId) {
+        TimetableJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter((long) (maxBudgetSeconds + 120) * 1000L);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(error -> job.emitters.remove(emitter));
+        job.emitters.add(emitter);
+        if (job.isFinished()) {
+            job.publish(emitter, "completed", job.toResponse(false));
+            emitter.complete();
+        } else {
+            job.publish(emitter, "progress", job.toResponse(false));
+        }
+        return emitter;
+    }
+
+    /**
+     * Request cancellation; the job stops after the current epoch and keeps its best-so-far result
+     */
+    public TimetableJobResponse cancelJob(String jobId) {
+        TimetableJob job = findJob(jobId);
+        job.cancelled = true;
+        logger.info("Cancellation requested for timetable job: {}", jobId);
+        return job.toResponse(false);
+    }
+
+    /**
+     * Get the persisted weekly timetable of a course
+     */
+    @Transactional(readOnly = true)
+    public List<TimetableEntryResponse> getCourseTimetable(Long courseId) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + courseId));
+
+        return timetableEntryRepository.findByCourseIdAndIsActiveTrueOrderBySessionNumber(courseId).stream()
+                .map(entry -> mapToEntryResponse(entry, course))
+                .toList();
+    }
+
+    private TimetableJob findJob(String jobId) {
+        TimetableJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Timetable job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    private void purgeFinishedJobs() {
+        long cutoff = System.currentTimeMillis() - JOB_RETENTION_MILLIS;
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAtMillis < cutoff);
+    }
+
+    // Job execution
+
+    private void runJob(TimetableJob job) {
+        job.status = JobStatus.RUNNING;
+        GenerateTimetableRequest request = job.request;
+        try {
+            TimetableProblem problem = loadProblem(request);
+            job.courseCount = problem.courses.size();
+            job.sessionCount = problem.solver.getEventCount();
+            job.studentCount = problem.studentCount;
+            job.roomCount = problem.roomNames.size();
+
+            int budgetSeconds = request.getTimeBudgetSeconds() != null
+                    ? Math.min(request.getTimeBudgetSeconds(), maxBudgetSeconds)
+                    : defaultBudgetSeconds;
+            int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+            logger.info("Timetable job {} solving {} sessions of {} courses for {} students on {} workers",
+                    job.jobId, job.sessionCount, job.courseCount, job.studentCount, workers);
+
+            TimetableSolver.Solution solution = problem.solver.solve(budgetSeconds * 1000L, workers,
+                    job.jobId.hashCode(), progress -> job.onProgress(progress, problem), () -> job.cancelled);
+
+            job.entries = toEntries(problem, solution);
+            job.onProgress(solution, problem);
+
+            if (Boolean.TRUE.equals(request.getPersist()) && !job.cancelled) {
+                List<Long> courseIds = problem.courses.stream().map(Course::getId).toList();
+                transactionTemplate.executeWithoutResult(status -> {
+                    timetableEntryRepository.deleteByCourseIds(courseIds);
+                    timetableEntryRepository.saveAll(job.entries);
+                    eventPublisher.publishEvent(new CourseScheduleChangedEvent(courseIds));
+                });
+            }
+
+            job.finish(job.cancelled ? JobStatus.CANCELLED : JobStatus.COMPLETED, null);
+            logger.info("Timetable job {} finished: {} hard violations, {} student clashes",
+                    job.jobId, solution.getHardViolations(), solution.getStudentClashes());
+
+        } catch (BusinessException e) {
+            logger.warn("Timetable job {} rejected: {}", job.jobId, e.getMessage());
+            job.finish(JobStatus.FAILED, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Timetable job {} failed", job.jobId, e);
+            job.finish(JobStatus.FAILED, "Timetable generation failed: " + e.getMessage());
+        }
+    }
+
+    private TimetableProblem loadProblem(GenerateTimetableRequest request) {
+        List<Course> courses = courseRepository.findSchedulableCourses(request.getInstitutionId(),
+                request.getBranchId(), request.getTermStart(), request.getTermEnd(),
+                List.of(Course.CourseStatus.ACTIVE, Course.CourseStatus.DRAFT));
+        if (courses.isEmpty()) {
+            throw new BusinessException("No schedulable courses found for the requested term");
+        }
+
+        Map<Long, Integer> courseIndex = new HashMap<>();
+        for (int i = 0; i < courses.size(); i++) {
+            courseIndex.put(courses.get(i).getId(), i);
+        }
+
+        // Enrollment pairs, streamed in chunks to keep IN lists bounded
+        Map<Long, Integer> studentIndex = new HashMap<>();
+        int[] pairStudents = new int[1024];
+        int[] pairCourses = new int[1024];
+        int pairCount = 0;
+        int[] enrolled = new int[courses.size()];
+        List<Long> courseIds = new ArrayList<>(courseIndex.keySet());
+        for (int from = 0; from < courseIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = courseIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, courseIds.size()));
+            for (Object[] row : enrollmentRepository.findStudentCoursePairs(chunk,
+                    Enrollment.EnrollmentStatus.ACTIVE)) {
+                if (pairCount == pairStudents.length) {
+                    pairStudents = Arrays.copyOf(pairStudents, pairCount * 2);
+                    pairCourses = Arrays.copyOf(pairCourses, pairCount * 2);
+                }
+                int course = courseIndex.get((Long) row[1]);
+                pairStudents[pairCount] = studentIndex.computeIfAbsent((Long) row[0], id -> studentIndex.size());
+                pairCourses[pairCount] = course;
+                enrolled[course]++;
+                pairCount++;
+            }
+        }
+
+        int weeks = (int) Math.max(1, (ChronoUnit.DAYS.between(request.getTermStart(), request.getTermEnd()) + 7) / 7);
+        int periodMinutes = request.getPeriodMinutes();
+        int daysPerWeek = request.getDaysPerWeek();
+
+        // Rooms: explicit list, or one per distinct course location sized for its largest course
+        Map<String, Integer> roomCapacities = new LinkedHashMap<>();
+        boolean derivedRooms = request.getRooms() == null || request.getRooms().isEmpty();
+        if (!derivedRooms) {
+            request.getRooms().forEach(room -> roomCapacities.merge(room.getName().trim(), room.getCapacity(), Math::max));
+        } else {
+            for (int c = 0; c < courses.size(); c++) {
+                Course course = courses.get(c);
+                if (needsRoom(course) && course.getLocation() != null && !course.getLocation().isBlank()) {
+                    int capacity = Math.max(enrolled[c], course.getMaxStudents() != null ? course.getMaxStudents() : 0);
+                    roomCapacities.merge(course.getLocation().trim(), Math.max(1, capacity), Math::max);
+                }
+            }
+        }
+        List<String> roomNames = new ArrayList<>(roomCapacities.keySet());
+        Map<String, Integer> roomIndex = new HashMap<>();
+        int[] roomCapacity = new int[roomNames.size()];
+        for (int r = 0; r < roomNames.size(); r++) {
+            roomIndex.put(roomNames.get(r).toLowerCase(Locale.ROOT), r);
+            roomCapacity[r] = roomCapacities.get(roomNames.get(r));
+        }
+
+        int[] sessions = new int[courses.size()];
+        int[] instructors = new int[courses.size()];
+        boolean[] roomNeeded = new boolean[courses.size()];
+        int[] pinnedRoom = new int[courses.size()];
+        Map<Long, Integer> instructorIndex = new HashMap<>();
+        for (int c = 0; c < courses.size(); c++) {
+            Course course = courses.get(c);
+            int hours = course.getDurationHours() != null ? course.getDurationHours() : 0;
+            int perWeek = (int) Math.ceil(hours * 60.0 / ((double) periodMinutes * weeks));
+            sessions[c] = Math.max(1, Math.min(daysPerWeek, perWeek));
+            instructors[c] = course.getInstructorId() != null
+                    ? instructorIndex.computeIfAbsent(course.getInstructorId(), id -> instructorIndex.size())
+                    : -1;
+            roomNeeded[c] = needsRoom(course);
+            pinnedRoom[c] = TimetableSolver.NO_ROOM;
+            if (roomNeeded[c] && course.getLocation() != null) {
+                Integer room = roomIndex.get(course.getLocation().trim().toLowerCase(Locale.ROOT));
+                if (room != null) {
+                    pinnedRoom[c] = room;
+                }
+            }
+        }
+
+        TimetableSolver solver = new TimetableSolver(daysPerWeek * request.getPeriodsPerDay(), sessions,
+                instructors, roomNeeded, pinnedRoom, roomCapacity, studentIndex.size(),
+                Arrays.copyOf(pairStudents, pairCount), Arrays.copyOf(pairCourses, pairCount));
+
+        return new TimetableProblem(request, courses, roomNames, studentIndex.size(), solver);
+    }
+
+    private boolean needsRoom(Course course) {
+        return !Boolean.TRUE.equals(course.getIsOnline()) && course.getType() != Course.CourseType.ONLINE;
+    }
+
+    private List<TimetableEntry> toEntries(TimetableProblem problem, TimetableSolver.Solution solution) {
+        GenerateTimetableRequest request = problem.request;
+        int periodsPerDay = request.getPeriodsPerDay();
+        LocalTime firstStart = request.getFirstPeriodStart() != null ? request.getFirstPeriodStart() : LocalTime.of(8, 30);
+        int periodMinutes = request.getPeriodMinutes();
+
+        List<TimetableEntry> entries = new ArrayList<>(solution.getEventCount());
+        for (int e = 0; e < solution.getEventCount(); e++) {
+            Course course = problem.courses.get(solution.getCourse(e));
+            int slot = solution.getSlot(e);
+            int period = slot % periodsPerDay;
+            LocalTime start = firstStart.plusMinutes((long) period * periodMinutes);
+            int room = solution.getRoom(e);
+
+            TimetableEntry entry = new TimetableEntry(course.getInstitutionId(), course.getId(), solution.getSession(e),
+                    DayOfWeek.of(slot / periodsPerDay + 1), period + 1, start, start.plusMinutes(periodMinutes),
+                    room == TimetableSolver.NO_ROOM ? null : problem.roomNames.get(room), course.getInstructorId());
+            entries.add(entry);
+        }
+        entries.sort(Comparator.comparing(TimetableEntry::getDayOfWeek)
+                .thenComparing(TimetableEntry::getPeriod)
+                .thenComparing(TimetableEntry::getCourseId));
+        return entries;
+    }
+
+    private TimetableEntryResponse mapToEntryResponse(TimetableEntry entry, Course course) {
+        return new TimetableEntryResponse(entry.getCourseId(),
+                course != null ? course.getCourseCode() : null,
+                course != null ? course.getCourseName() : null,
+                entry.getSessionNumber(), entry.getDayOfWeek(), entry.getPeriod(),
+                entry.getStartTime(), entry.getEndTime(), entry.getRoom(), entry.getInstructorId());
+    }
+
+    // Job bookkeeping
+
+    private enum JobStatus {
+        QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    /**
+     * Loaded generation inputs with the index mappings needed to translate the solution back
+     */
+    private static final class TimetableProblem {
+        final GenerateTimetableRequest request;
+        final List<Course> courses;
+        final List<String> roomNames;
+        final int studentCount;
+        final TimetableSolver solver;
+
+        TimetableProblem(GenerateTimetableRequest request, List<Course> courses, List<String> roomNames,
+                         int studentCount, TimetableSolver solver) {
+            this.request = request;
+            this.courses = courses;
+            this.roomNames = roomNames;
+            this.studentCount = studentCount;
+            this.solver = solver;
+        }
+    }
+
+    private final class TimetableJob {
+        final String jobId;
+        final GenerateTimetableRequest request;
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        volatile JobStatus status = JobStatus.QUEUED;
+        volatile boolean cancelled;
+        volatile String message;
+        volatile LocalDateTime finishedAt;
+        volatile long finishedAtMillis;
+        volatile Integer courseCount;
+        volatile Integer sessionCount;
+        volatile Integer studentCount;
+        volatile Integer roomCount;
+        volatile int epochs;
+        volatile long elapsedMillis;
+        volatile Long hardViolations;
+        volatile Long studentClashes;
+        volatile String lastImprovingNeighbourhood;
+        volatile TimetableSolver.Solution bestSolution;
+        volatile TimetableProblem problem;
+        volatile List<TimetableEntry> entries;
+
+        TimetableJob(String jobId, GenerateTimetableRequest request) {
+            this.jobId = jobId;
+            this.request = request;
+        }
+
+        boolean isFinished() {
+            return status == JobStatus.COMPLETED || status == JobStatus.CANCELLED || status == JobStatus.FAILED;
+        }
+
+        void onProgress(TimetableSolver.Progress progress, TimetableProblem loaded) {
+            this.problem = loaded;
+            this.epochs = progress.getEpoch();
+            this.elapsedMillis = progress.getElapsedMillis();
+            this.hardViolations = progress.getHardViolations();
+            this.studentClashes = progress.getStudentClashes();
+            if (progress.getNeighbourhood() != null) {
+                this.lastImprovingNeighbourhood = progress.getNeighbourhood();
+            }
+            if (progress.getBest() != null) {
+                this.bestSolution = progress.getBest();
+            }
+            emitters.forEach(emitter -> publish(emitter, "progress", toResponse(false)));
+        }
+
+        void onProgress(TimetableSolver.Solution solution, TimetableProblem loaded) {
+            this.problem = loaded;
+            this.bestSolution = solution;
+            this.epochs = solution.getEpochs();
+            this.hardViolations = solution.getHardViolations();
+            this.studentClashes = solution.getStudentClashes();
+        }
+
+        void finish(JobStatus finalStatus, String finalMessage) {
+            this.status = finalStatus;
+            this.message = finalMessage;
+            this.finishedAt = LocalDateTime.now();
+            this.finishedAtMillis = System.currentTimeMillis();
+            TimetableJobResponse response = toResponse(false);
+            for (SseEmitter emitter : emitters) {
+                publish(emitter, "completed", response);
+                emitter.complete();
+            }
+            emitters.clear();
+        }
+
+        void publish(SseEmitter emitter, String eventName, TimetableJobResponse payload) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(payload));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+
+        TimetableJobResponse toResponse(boolean includeEntries) {
+            TimetableJobResponse response = new TimetableJobResponse();
+            response.setJobId(jobId);
+            response.setInstitutionId(request.getInstitutionId());
+            response.setStatus(status.name());
+            response.setMessage(message);
+            response.setSubmittedAt(submittedAt);
+            response.setFinishedAt(finishedAt);
+            response.setCourseCount(courseCount);
+            response.setSessionCount(sessionCount);
+            response.setStudentCount(studentCount);
+            response.setRoomCount(roomCount);
+            response.setEpochs(epochs);
+            response.setElapsedMillis(elapsedMillis);
+            response.setHardViolations(hardViolations);
+            response.setStudentClashes(studentClashes);
+            response.setLastImprovingNeighbourhood(lastImprovingNeighbourhood);
+            // A running job has no entries yet and shows the best timetable found so far
+            List<TimetableEntry> placed = entries;
+            TimetableSolver.Solution best = bestSolution;
+            if (includeEntries && placed == null && best != null && problem != null) {
+                placed = toEntries(problem, best);
+            }
+            if (includeEntries && placed != null && problem != null) {
+                Map<Long, Course> coursesById = new HashMap<>();
+                problem.courses.forEach(course -> coursesById.put(course.getId(), course));
+                response.setEntries(placed.stream()
+                        .map(entry -> mapToEntryResponse(entry, coursesById.get(entry.getCourseId())))
+                        .toList());
+            }
+            return response;
+        }
+    }
+}
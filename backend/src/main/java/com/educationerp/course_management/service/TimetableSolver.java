@@ -0,0 +1,675 @@
+package com.educationerp.course_management.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Parallel local-search solver for weekly course timetables
+ * Places every weekly session of every course into a time slot and a room, treating instructor,
+ * room and capacity conflicts as hard violations and shared students as the soft objective.
+ * Student-course membership is held as bitsets, so the clash weight between two courses is a popcount.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class TimetableSolver {
+
+    /**
+     * Penalty per instructor, room or capacity violation; dominates any realistic student clash count
+     */
+    static final long HARD_WEIGHT = 1_000_000L;
+
+    static final int NO_ROOM = -1;
+
+    private static final int NEIGHBOURHOOD_MOVE = 0;
+    private static final int NEIGHBOURHOOD_SWAP = 1;
+    private static final int NEIGHBOURHOOD_ROOM = 2;
+    private static final int NEIGHBOURHOOD_BEST_SLOT = 3;
+    private static final String[] NEIGHBOURHOOD_NAMES = {"MOVE", "SWAP", "ROOM", "BEST_SLOT"};
+
+    private static final double START_TEMPERATURE = 2.0;
+
+    private final int slotCount;
+    private final int roomCount;
+    private final int[] eventCourse;
+    private final int[] eventSession;
+    private final int[] courseInstructor;
+    private final int[] courseSize;
+    private final boolean[] courseNeedsRoom;
+    private final int[] coursePinnedRoom;
+    private final int[] roomCapacity;
+    private final int[][] conflictCourses;
+    private final int[][] conflictWeights;
+    private final long[] courseDegree;
+
+    /**
+     * @param slotCount        weekly slots (days x periods)
+     * @param sessionsPerCourse weekly sessions needed per course index
+     * @param courseInstructor instructor index per course, -1 when unassigned
+     * @param courseNeedsRoom  whether a course must be placed in a physical room
+     * @param coursePinnedRoom fixed room index per course, -1 when any room may be used
+     * @param roomCapacity     capacity per room index
+     * @param studentCount     number of distinct students
+     * @param pairStudents     student index of each enrollment pair
+     * @param pairCourses      course index of each enrollment pair
+     */
+    public TimetableSolver(int slotCount, int[] sessionsPerCourse, int[] courseInstructor,
+                           boolean[] courseNeedsRoom, int[] coursePinnedRoom, int[] roomCapacity,
+                           int studentCount, int[] pairStudents, int[] pairCourses) {
+        this.slotCount = slotCount;
+        this.roomCount = roomCapacity.length;
+        this.courseInstructor = courseInstructor;
+        this.courseNeedsRoom = courseNeedsRoom;
+        this.coursePinnedRoom = coursePinnedRoom;
+        this.roomCapacity = roomCapacity;
+
+        int courseCount = sessionsPerCourse.length;
+        int eventCount = Arrays.stream(sessionsPerCourse).sum();
+        this.eventCourse = new int[eventCount];
+        this.eventSession = new int[eventCount];
+        int event = 0;
+        for (int c = 0; c < courseCount; c++) {
+            for (int s = 0; s < sessionsPerCourse[c]; s++) {
+                eventCourse[event] = c;
+                eventSession[event] = s + 1;
+                event++;
+            }
+        }
+
+        // Membership bitsets, one bit per student
+        int words = (studentCount + 63) >>> 6;
+        long[][] members = new long[courseCount][words];
+        int[] studentDegree = new int[studentCount + 1];
+        for (int i = 0; i < pairStudents.length; i++) {
+            members[pairCourses[i]][pairStudents[i] >>> 6] |= 1L << pairStudents[i];
+            studentDegree[pairStudents[i] + 1]++;
+        }
+        this.courseSize = new int[courseCount];
+        for (int c = 0; c < courseCount; c++) {
+            courseSize[c] = popcount(members[c]);
+        }
+
+        // Student -> courses adjacency, used only to find candidate conflict pairs
+        int[] studentOffset = new int[studentCount + 1];
+        for (int s = 0; s < studentCount; s++) {
+            studentOffset[s + 1] = studentOffset[s] + studentDegree[s + 1];
+        }
+        int[] fill = Arrays.copyOf(studentOffset, studentCount);
+        int[] studentCourses = new int[pairStudents.length];
+        for (int i = 0; i < pairStudents.length; i++) {
+            studentCourses[fill[pairStudents[i]]++] = pairCourses[i];
+        }
+
+        this.conflictCourses = new int[courseCount][];
+        this.conflictWeights = new int[courseCount][];
+        ThreadLocal<int[]> stamps = ThreadLocal.withInitial(() -> new int[courseCount]);
+        IntStream.range(0, courseCount).parallel().forEach(c -> {
+            int[] stamp = stamps.get();
+            int[] candidates = new int[16];
+            int candidateCount = 0;
+            long[] bits = members[c];
+            for (int w = 0; w < bits.length; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    int student = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    for (int k = studentOffset[student]; k < studentOffset[student + 1]; k++) {
+                        int other = studentCourses[k];
+                        if (other != c && stamp[other] != c + 1) {
+                            stamp[other] = c + 1;
+                            if (candidateCount == candidates.length) {
+                                candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                            }
+                            candidates[candidateCount++] = other;
+                        }
+                    }
+                }
+            }
+            int[] neighbours = Arrays.copyOf(candidates, candidateCount);
+            Arrays.sort(neighbours);
+            int[] weights = new int[candidateCount];
+            for (int i = 0; i < candidateCount; i++) {
+                weights[i] = intersectionCount(bits, members[neighbours[i]]);
+            }
+            conflictCourses[c] = neighbours;
+            conflictWeights[c] = weights;
+        });
+
+        this.courseDegree = new long[courseCount];
+        for (int c = 0; c < courseCount; c++) {
+            long degree = courseSize[c];
+            for (int w : conflictWeights[c]) {
+                degree += w;
+            }
+            courseDegree[c] = degree * sessionsPerCourse[c];
+        }
+    }
+
+    /**
+     * Run the search until the budget elapses, the timetable is clash-free or the caller cancels
+     * Progress is reported after the initial construction and after every epoch
+     */
+    public Solution solve(long budgetMillis, int parallelism, long seed,
+                          Consumer<Progress> listener, BooleanSupplier cancelled) {
+        long started = System.currentTimeMillis();
+        long deadline = started + budgetMillis;
+
+        Assignment best = construct(new SplittableRandom(seed));
+        int epoch = 0;
+        listener.accept(progress(epoch, started, best, true, null));
+
+        long epochMillis = Math.max(50L, Math.min(2_000L, budgetMillis / 40));
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            while (best.score > 0 && !cancelled.getAsBoolean()) {
+                long now = System.currentTimeMillis();
+                if (now >= deadline) {
+                    break;
+                }
+                epoch++;
+                long epochDeadline = Math.min(deadline, now + epochMillis);
+                double temperature = START_TEMPERATURE * (deadline - now) / (double) budgetMillis;
+
+                List<SearchTask> tasks = new ArrayList<>(parallelism);
+                for (int worker = 0; worker < Math.max(1, parallelism); worker++) {
+                    SearchTask task = new SearchTask(best, worker % NEIGHBOURHOOD_NAMES.length,
+                            seed + epoch * 7_919L + worker, epochDeadline, temperature);
+                    tasks.add(task);
+                    pool.execute(task);
+                }
+
+                Assignment epochBest = best;
+                int winner = -1;
+                for (SearchTask task : tasks) {
+                    Assignment candidate = task.join();
+                    if (candidate.score < epochBest.score) {
+                        epochBest = candidate;
+                        winner = task.neighbourhood;
+                    }
+                }
+                boolean improved = epochBest != best;
+                best = epochBest;
+                listener.accept(progress(epoch, started, best, improved,
+                        improved ? NEIGHBOURHOOD_NAMES[winner] : null));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long[] breakdown = evaluate(best);
+        return new Solution(eventCourse, eventSession, best.slot.clone(), best.room.clone(),
+                breakdown[0], breakdown[1], epoch);
+    }
+
+    public int getEventCount() {
+        return eventCourse.length;
+    }
+
+    public int[] getCourseSizes() {
+        return courseSize.clone();
+    }
+
+    // Construction
+
+    private Assignment construct(SplittableRandom random) {
+        Assignment state = new Assignment();
+        Integer[] order = new Integer[eventCourse.length];
+        for (int e = 0; e < order.length; e++) {
+            order[e] = e;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(courseDegree[eventCourse[b]], courseDegree[eventCourse[a]]));
+
+        for (int e : order) {
+            int bestSlot = 0;
+            int bestRoom = NO_ROOM;
+            long bestCost = Long.MAX_VALUE;
+            int offset = random.nextInt(slotCount);
+            for (int i = 0; i < slotCount; i++) {
+                int slot = (offset + i) % slotCount;
+                int room = chooseRoom(state, e, slot);
+                long cost = cost(state, e, slot, room);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestSlot = slot;
+                    bestRoom = room;
+                }
+            }
+            state.place(e, bestSlot, bestRoom);
+        }
+        long[] breakdown = evaluate(state);
+        state.score = breakdown[0] * HARD_WEIGHT + breakdown[1];
+        return state;
+    }
+
+    private int chooseRoom(Assignment state, int event, int slot) {
+        int course = eventCourse[event];
+        if (!courseNeedsRoom[course] || roomCount == 0) {
+            return NO_ROOM;
+        }
+        if (coursePinnedRoom[course] != NO_ROOM) {
+            return coursePinnedRoom[course];
+        }
+        boolean[] used = new boolean[roomCount];
+        for (int i = 0; i < state.slotFill[slot]; i++) {
+            int room = state.room[state.slotEvents[slot][i]];
+            if (room != NO_ROOM) {
+                used[room] = true;
+            }
+        }
+        int chosen = NO_ROOM;
+        for (int r = 0; r < roomCount; r++) {
+            if (!used[r] && roomCapacity[r] >= courseSize[course]
+                    && (chosen == NO_ROOM || roomCapacity[r] < roomCapacity[chosen])) {
+                chosen = r;
+            }
+        }
+        if (chosen == NO_ROOM) {
+            for (int r = 0; r < roomCount; r++) {
+                if (chosen == NO_ROOM || roomCapacity[r] > roomCapacity[chosen]) {
+                    chosen = r;
+                }
+            }
+        }
+        return chosen;
+    }
+
+    // Scoring
+
+    /**
+     * Cost contributed by placing an event in a slot and room, against every other event in that slot
+     */
+    private long cost(Assignment state, int event, int slot, int room) {
+        int course = eventCourse[event];
+        int instructor = courseInstructor[course];
+        long hard = unaryViolations(course, room);
+        long soft = 0;
+        int[] events = state.slotEvents[slot];
+        for (int i = 0; i < state.slotFill[slot]; i++) {
+            int other = events[i];
+            if (other == event) {
+                continue;
+            }
+            int otherCourse = eventCourse[other];
+            soft += weight(course, otherCourse);
+            if (instructor >= 0 && courseInstructor[otherCourse] == instructor) {
+                hard++;
+            }
+            if (room != NO_ROOM && state.room[other] == room) {
+                hard++;
+            }
+        }
+        return hard * HARD_WEIGHT + soft;
+    }
+
+    private long unaryViolations(int course, int room) {
+        if (room == NO_ROOM) {
+            return courseNeedsRoom[course] && roomCount > 0 ? 1 : 0;
+        }
+        return roomCapacity[room] < courseSize[course] ? 1 : 0;
+    }
+
+    /**
+     * Full recomputation returning {hard violations, student clashes}
+     */
+    private long[] evaluate(Assignment state) {
+        long hard = 0;
+        long soft = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int[] events = state.slotEvents[slot];
+            int fill = state.slotFill[slot];
+            for (int i = 0; i < fill; i++) {
+                int a = events[i];
+                int courseA = eventCourse[a];
+                hard += unaryViolations(courseA, state.room[a]);
+                for (int j = i + 1; j < fill; j++) {
+                    int b = events[j];
+                    int courseB = eventCourse[b];
+                    soft += weight(courseA, courseB);
+                    if (courseInstructor[courseA] >= 0 && courseInstructor[courseA] == courseInstructor[courseB]) {
+                        hard++;
+                    }
+                    if (state.room[a] != NO_ROOM && state.room[a] == state.room[b]) {
+                        hard++;
+                    }
+                }
+            }
+        }
+        return new long[]{hard, soft};
+    }
+
+    private int weight(int courseA, int courseB) {
+        if (courseA == courseB) {
+            return courseSize[courseA];
+        }
+        int index = Arrays.binarySearch(conflictCourses[courseA], courseB);
+        return index >= 0 ? conflictWeights[courseA][index] : 0;
+    }
+
+    private static int popcount(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static int intersectionCount(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private Progress progress(int epoch, long started, Assignment state, boolean improved, String neighbourhood) {
+        long[] breakdown = evaluate(state);
+        // Only an improved state is copied out; the others equal the best already reported
+        Solution best = improved ? new Solution(eventCourse, eventSession, state.slot.clone(), state.room.clone(),
+                breakdown[0], breakdown[1], epoch) : null;
+        return new Progress(epoch, System.currentTimeMillis() - started, breakdown[0], breakdown[1],
+                improved, neighbourhood, best);
+    }
+
+    // Search state
+
+    private final class Assignment {
+        final int[] slot;
+        final int[] room;
+        final int[][] slotEvents;
+        final int[] slotFill;
+        final int[] position;
+        long score;
+
+        Assignment() {
+            this.slot = new int[eventCourse.length];
+            this.room = new int[eventCourse.length];
+            this.slotEvents = new int[slotCount][8];
+            this.slotFill = new int[slotCount];
+            this.position = new int[eventCourse.length];
+            Arrays.fill(slot, -1);
+            Arrays.fill(room, NO_ROOM);
+        }
+
+        Assignment(Assignment other) {
+            this.slot = other.slot.clone();
+            this.room = other.room.clone();
+            this.slotEvents = new int[slotCount][];
+            for (int s = 0; s < slotCount; s++) {
+                slotEvents[s] = other.slotEvents[s].clone();
+            }
+            this.slotFill = other.slotFill.clone();
+            this.position = other.position.clone();
+            this.score = other.score;
+        }
+
+        void place(int event, int newSlot, int newRoom) {
+            if (slotFill[newSlot] == slotEvents[newSlot].length) {
+                slotEvents[newSlot] = Arrays.copyOf(slotEvents[newSlot], slotEvents[newSlot].length * 2);
+            }
+            position[event] = slotFill[newSlot];
+            slotEvents[newSlot][slotFill[newSlot]++] = event;
+            slot[event] = newSlot;
+            room[event] = newRoom;
+        }
+
+        void remove(int event) {
+            int oldSlot = slot[event];
+            int last = slotEvents[oldSlot][--slotFill[oldSlot]];
+            slotEvents[oldSlot][position[event]] = last;
+            position[last] = position[event];
+            slot[event] = -1;
+        }
+
+        /**
+         * Move an event and return the change in score
+         */
+        long move(int event, int newSlot, int newRoom) {
+            long before = cost(this, event, slot[event], room[event]);
+            remove(event);
+            long after = cost(this, event, newSlot, newRoom);
+            place(event, newSlot, newRoom);
+            score += after - before;
+            return after - before;
+        }
+    }
+
+    /**
+     * One worker exploring a single neighbourhood from the current best state until the epoch ends
+     */
+    private final class SearchTask extends RecursiveTask<Assignment> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Assignment start;
+        private final int neighbourhood;
+        private final long seed;
+        private final long deadline;
+        private final double temperature;
+
+        SearchTask(Assignment start, int neighbourhood, long seed, long deadline, double temperature) {
+            this.start = start;
+            this.neighbourhood = neighbourhood;
+            this.seed = seed;
+            this.deadline = deadline;
+            this.temperature = temperature;
+        }
+
+        /**
+         * Anneal from the start state and return the best state visited, which annealing may have moved away from
+         */
+        @Override
+        protected Assignment compute() {
+            Assignment state = new Assignment(start);
+            Assignment best = start;
+            SplittableRandom random = new SplittableRandom(seed);
+            int events = eventCourse.length;
+            if (events == 0) {
+                return start;
+            }
+            long iteration = 0;
+            while ((++iteration & 255) != 0 || System.currentTimeMillis() < deadline) {
+                if (state.score == 0) {
+                    break;
+                }
+                switch (neighbourhood) {
+                    case NEIGHBOURHOOD_MOVE -> {
+                        int event = random.nextInt(events);
+                        int oldSlot = state.slot[event];
+                        int oldRoom = state.room[event];
+                        int newSlot = random.nextInt(slotCount);
+                        if (newSlot != oldSlot) {
+                            long delta = state.move(event, newSlot, oldRoom);
+                            if (!accept(delta, random)) {
+                                state.move(event, oldSlot, oldRoom);
+                            }
+                        }
+                    }
+                    case NEIGHBOURHOOD_SWAP -> {
+                        int first = random.nextInt(events);
+                        int second = random.nextInt(events);
+                        int firstSlot = state.slot[first];
+                        int secondSlot = state.slot[second];
+                        if (firstSlot != secondSlot) {
+                            long delta = state.move(first, secondSlot, state.room[first]);
+                            delta += state.move(second, firstSlot, state.room[second]);
+                            if (!accept(delta, random)) {
+                                state.move(second, secondSlot, state.room[second]);
+                                state.move(first, firstSlot, state.room[first]);
+                            }
+                        }
+                    }
+                    case NEIGHBOURHOOD_ROOM -> {
+                        int event = random.nextInt(events);
+                        int course = eventCourse[event];
+                        if (roomCount > 1 && courseNeedsRoom[course] && coursePinnedRoom[course] == NO_ROOM) {
+                            int oldRoom = state.room[event];
+                            int newRoom = random.nextInt(roomCount);
+                            if (newRoom != oldRoom) {
+                                long delta = state.move(event, state.slot[event], newRoom);
+                                if (!accept(delta, random)) {
+                                    state.move(event, state.slot[event], oldRoom);
+                                }
+                            }
+                        }
+                    }
+                    default -> {
+                        int event = random.nextInt(events);
+                        int oldSlot = state.slot[event];
+                        int oldRoom = state.room[event];
+                        long current = cost(state, event, oldSlot, oldRoom);
+                        int bestSlot = oldSlot;
+                        long bestCost = current;
+                        int offset = random.nextInt(slotCount);
+                        for (int i = 0; i < slotCount; i++) {
+                            int candidate = (offset + i) % slotCount;
+                            if (candidate != oldSlot) {
+                                long candidateCost = cost(state, event, candidate, oldRoom);
+                                if (candidateCost < bestCost) {
+                                    bestCost = candidateCost;
+                                    bestSlot = candidate;
+                                }
+                            }
+                        }
+                        if (bestSlot != oldSlot) {
+                            state.move(event, bestSlot, oldRoom);
+                        }
+                    }
+                }
+                if (state.score < best.score) {
+                    best = new Assignment(state);
+                }
+            }
+            return best;
+        }
+
+        private boolean accept(long delta, SplittableRandom random) {
+            if (delta <= 0) {
+                return true;
+            }
+            if (delta >= HARD_WEIGHT || temperature <= 0) {
+                return false;
+            }
+            return random.nextDouble() < Math.exp(-delta / temperature);
+        }
+    }
+
+    // Result types
+
+    /**
+     * Snapshot of search progress after an epoch
+     */
+    public static final class Progress {
+        private final int epoch;
+        private final long elapsedMillis;
+        private final long hardViolations;
+        private final long studentClashes;
+        private final boolean improved;
+        private final String neighbourhood;
+        private final Solution best;
+
+        Progress(int epoch, long elapsedMillis, long hardViolations, long studentClashes,
+                 boolean improved, String neighbourhood, Solution best) {
+            this.epoch = epoch;
+            this.elapsedMillis = elapsedMillis;
+            this.hardViolations = hardViolations;
+            this.studentClashes = studentClashes;
+            this.improved = improved;
+            this.neighbourhood = neighbourhood;
+            this.best = best;
+        }
+
+        public int getEpoch() {
+            return epoch;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public long getHardViolations() {
+            return hardViolations;
+        }
+
+        public long getStudentClashes() {
+            return studentClashes;
+        }
+
+        public boolean isImproved() {
+            return improved;
+        }
+
+        public String getNeighbourhood() {
+            return neighbourhood;
+        }
+
+        /**
+         * Best timetable so far when this epoch improved it, otherwise null
+         */
+        public Solution getBest() {
+            return best;
+        }
+    }
+
+    /**
+     * Best timetable found; arrays are indexed by event
+     */
+    public static final class Solution {
+        private final int[] eventCourse;
+        private final int[] eventSession;
+        private final int[] eventSlot;
+        private final int[] eventRoom;
+        private final long hardViolations;
+        private final long studentClashes;
+        private final int epochs;
+
+        Solution(int[] eventCourse, int[] eventSession, int[] eventSlot, int[] eventRoom,
+                 long hardViolations, long studentClashes, int epochs) {
+            this.eventCourse = eventCourse;
+            this.eventSession = eventSession;
+            this.eventSlot = eventSlot;
+            this.eventRoom = eventRoom;
+            this.hardViolations = hardViolations;
+            this.studentClashes = studentClashes;
+            this.epochs = epochs;
+        }
+
+        public int getEventCount() {
+            return eventSlot.length;
+        }
+
+        public int getCourse(int event) {
+            return eventCourse[event];
+        }
+
+        public int getSession(int event) {
+            return eventSession[event];
+        }
+
+        public int getSlot(int event) {
+            return eventSlot[event];
+        }
+
+        public int getRoom(int event) {
+            return eventRoom[event];
+        }
+
+        public long getHardViolations() {
+            return hardViolations;
+        }
+
+        public long getStudentClashes() {
+            return studentClashes;
+        }
+
+        public int getEpochs() {
+            return epochs;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.educationerp.institution_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.institution_management.dto.AcademicRolloverJobResponse;
+import com.educationerp.institution_management.dto.AcademicRolloverPreviewResponse;
+import com.educationerp.institution_management.dto.AcademicRolloverRequest;
+import com.educationerp.institution_management.service.AcademicRolloverService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for academic-year rollovers
+ * Rollovers run as background jobs that clients poll for progress; a dry-run preview is available
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/institution/rollovers")
+@Tag(name = "Academic Rollover", description = "Year-end grade advancement and course cloning")
+public class AcademicRolloverController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AcademicRolloverController.class);
+
+    @Autowired
+    private AcademicRolloverService academicRolloverService;
+
+    /**
+     * Preview a rollover without changing any data
+     */
+    @PostMapping("/institutions/{institutionId}/preview")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Preview academic rollover", description = "Dry run: counts of students per grade transition, graduates and courses to clone")
+    public ResponseEntity<ApiResponse<AcademicRolloverPreviewResponse>> previewRollover(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Valid @RequestBody AcademicRolloverRequest request) {
+
+        AcademicRolloverPreviewResponse preview = academicRolloverService.previewRollover(institutionId, request);
+        ApiResponse<AcademicRolloverPreviewResponse> response = ApiResponse.success("Academic rollover preview retrieved successfully", preview);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Start a rollover
+     */
+    @PostMapping("/institutions/{institutionId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Start academic rollover", description = "Advance grade levels, graduate final-year students and clone the term's courses in a background job")
+    public ResponseEntity<ApiResponse<AcademicRolloverJobResponse>> startRollover(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Valid @RequestBody AcademicRolloverRequest request) {
+        logger.info("Academic rollover requested for institution: {}", institutionId);
+
+        AcademicRolloverJobResponse job = academicRolloverService.startRollover(institutionId, request);
+        ApiResponse<AcademicRolloverJobResponse> response = ApiResponse.success("Academic rollover started successfully", job);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get rollover job progress
+     */
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get academic rollover job", description = "Retrieve status and counts of a rollover")
+    public ResponseEntity<ApiResponse<AcademicRolloverJobResponse>> getJob(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+
+        AcademicRolloverJobResponse job = academicRolloverService.getJob(jobId);
+        ApiResponse<AcademicRolloverJobResponse> response = ApiResponse.success("Academic rollover job retrieved successfully", job);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get rollover jobs of an institution
+     */
+    @GetMapping("/institutions/{institutionId}/jobs")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get academic rollover jobs", description = "Retrieve paginated rollover jobs of an institution")
+    public ResponseEntity<ApiResponse<Page<AcademicRolloverJobResponse>>> getJobs(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            Pageable pageable) {
+
+        Page<AcademicRolloverJobResponse> jobs = academicRolloverService.getJobsByInstitution(institutionId, pageable);
+        ApiResponse<Page<AcademicRolloverJobResponse>> response = ApiResponse.success("Academic rollover jobs retrieved successfully", jobs);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Resume a failed or cancelled rollover
+     */
+    @PostMapping("/jobs/{jobId}/resume")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Resume academic rollover", description = "Continue a failed or cancelled rollover after its last committed chunk")
+    public ResponseEntity<ApiResponse<AcademicRolloverJobResponse>> resumeRollover(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+
+        AcademicRolloverJobResponse job = academicRolloverService.resumeRollover(jobId);
+        ApiResponse<AcademicRolloverJobResponse> response = ApiResponse.success("Academic rollover resumed successfully", job);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Roll back a rollover
+     */
+    @PostMapping("/jobs/{jobId}/rollback")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Roll back academic rollover", description = "Restore changed students and courses from the rollover snapshot and remove unused cloned courses")
+    public ResponseEntity<ApiResponse<AcademicRolloverJobResponse>> rollbackRollover(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+        logger.info("Rollback requested for academic rollover: {}", jobId);
+
+        AcademicRolloverJobResponse job = academicRolloverService.rollbackRollover(jobId);
+        ApiResponse<AcademicRolloverJobResponse> response = ApiResponse.success("Academic rollover rollback started successfully", job);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Cancel a rollover
+     */
+    @DeleteMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Cancel academic rollover", description = "Stop a rollover after its current chunk; committed chunks are kept")
+    public ResponseEntity<ApiResponse<AcademicRolloverJobResponse>> cancelRollover(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+
+        AcademicRolloverJobResponse job = academicRolloverService.cancelRollover(jobId);
+        ApiResponse<AcademicRolloverJobResponse> response = ApiResponse.success("Academic rollover cancellation requested successfully", job);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,212 @@
+package com.educationerp.institution_management.dto;
+
+import com.educationerp.institution_management.entity.AcademicRolloverJob;
+import com.educationerp.student_management.entity.Student;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the status and progress of an academic-year rollover
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class AcademicRolloverJobResponse {
+
+    private Long id;
+    private Long institutionId;
+    private AcademicRolloverJob.RolloverStatus status;
+    private List<String> gradeLevels;
+    private Student.EnrollmentStatus graduationStatus;
+    private LocalDate sourceTermStart;
+    private LocalDate sourceTermEnd;
+    private LocalDate targetTermStart;
+    private String courseCodeSuffix;
+    private Integer advancedStudents;
+    private Integer graduatedStudents;
+    private Integer clonedCourses;
+    private Integer restoredStudents;
+    private Integer restoredCourses;
+    private Integer retainedCourses;
+    private String errorMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime rolledBackDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdDate;
+
+    // Constructors
+    public AcademicRolloverJobResponse() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public AcademicRolloverJob.RolloverStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AcademicRolloverJob.RolloverStatus status) {
+        this.status = status;
+    }
+
+    public List<String> getGradeLevels() {
+        return gradeLevels;
+    }
+
+    public void setGradeLevels(List<String> gradeLevels) {
+        this.gradeLevels = gradeLevels;
+    }
+
+    public Student.EnrollmentStatus getGraduationStatus() {
+        return graduationStatus;
+    }
+
+    public void setGraduationStatus(Student.EnrollmentStatus graduationStatus) {
+        this.graduationStatus = graduationStatus;
+    }
+
+    public LocalDate getSourceTermStart() {
+        return sourceTermStart;
+    }
+
+    public void setSourceTermStart(LocalDate sourceTermStart) {
+        this.sourceTermStart = sourceTermStart;
+    }
+
+    public LocalDate getSourceTermEnd() {
+        return sourceTermEnd;
+    }
+
+    public void setSourceTermEnd(LocalDate sourceTermEnd) {
+        this.sourceTermEnd = sourceTermEnd;
+    }
+
+    public LocalDate getTargetTermStart() {
+        return targetTermStart;
+    }
+
+    public void setTargetTermStart(LocalDate targetTermStart) {
+        this.targetTermStart = targetTermStart;
+    }
+
+    public String getCourseCodeSuffix() {
+        return courseCodeSuffix;
+    }
+
+    public void setCourseCodeSuffix(String courseCodeSuffix) {
+        this.courseCodeSuffix = courseCodeSuffix;
+    }
+
+    public Integer getAdvancedStudents() {
+        return advancedStudents;
+    }
+
+    public void setAdvancedStudents(Integer advancedStudents) {
+        this.advancedStudents = advancedStudents;
+    }
+
+    public Integer getGraduatedStudents() {
+        return graduatedStudents;
+    }
+
+    public void setGraduatedStudents(Integer graduatedStudents) {
+        this.graduatedStudents = graduatedStudents;
+    }
+
+    public Integer getClonedCourses() {
+        return clonedCourses;
+    }
+
+    public void setClonedCourses(Integer clonedCourses) {
+        this.clonedCourses = clonedCourses;
+    }
+
+    public Integer getRestoredStudents() {
+        return restoredStudents;
+    }
+
+    public void setRestoredStudents(Integer restoredStudents) {
+        this.restoredStudents = restoredStudents;
+    }
+
+    public Integer getRestoredCourses() {
+        return restoredCourses;
+    }
+
+    public void setRestoredCourses(Integer restoredCourses) {
+        this.restoredCourses = restoredCourses;
+    }
+
+    public Integer getRetainedCourses() {
+        return retainedCourses;
+    }
+
+    public void setRetainedCourses(Integer retainedCourses) {
+        this.retainedCourses = retainedCourses;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedDate() {
+        return startedDate;
+    }
+
+    public void setStartedDate(LocalDateTime startedDate) {
+        this.startedDate = startedDate;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    public LocalDateTime getRolledBackDate() {
+        return rolledBackDate;
+    }
+
+    public void setRolledBackDate(LocalDateTime rolledBackDate) {
+        this.rolledBackDate = rolledBackDate;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,153 @@
+package com.educationerp.institution_management.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the dry-run preview of an academic-year rollover
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class AcademicRolloverPreviewResponse {
+
+    private Long institutionId;
+    private List<GradeTransition> transitions;
+    private Long studentsToAdvance;
+    private Long studentsToGraduate;
+    private Map<String, Long> unmatchedGradeLevels;
+    private Long coursesToClone;
+    private Long conflictingCourses;
+    private List<String> conflictingCourseCodes;
+    private Integer dateShiftDays;
+
+    // Constructors
+    public AcademicRolloverPreviewResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public List<GradeTransition> getTransitions() {
+        return transitions;
+    }
+
+    public void setTransitions(List<GradeTransition> transitions) {
+        this.transitions = transitions;
+    }
+
+    public Long getStudentsToAdvance() {
+        return studentsToAdvance;
+    }
+
+    public void setStudentsToAdvance(Long studentsToAdvance) {
+        this.studentsToAdvance = studentsToAdvance;
+    }
+
+    public Long getStudentsToGraduate() {
+        return studentsToGraduate;
+    }
+
+    public void setStudentsToGraduate(Long studentsToGraduate) {
+        this.studentsToGraduate = studentsToGraduate;
+    }
+
+    public Map<String, Long> getUnmatchedGradeLevels() {
+        return unmatchedGradeLevels;
+    }
+
+    public void setUnmatchedGradeLevels(Map<String, Long> unmatchedGradeLevels) {
+        this.unmatchedGradeLevels = unmatchedGradeLevels;
+    }
+
+    public Long getCoursesToClone() {
+        return coursesToClone;
+    }
+
+    public void setCoursesToClone(Long coursesToClone) {
+        this.coursesToClone = coursesToClone;
+    }
+
+    public Long getConflictingCourses() {
+        return conflictingCourses;
+    }
+
+    public void setConflictingCourses(Long conflictingCourses) {
+        this.conflictingCourses = conflictingCourses;
+    }
+
+    public List<String> getConflictingCourseCodes() {
+        return conflictingCourseCodes;
+    }
+
+    public void setConflictingCourseCodes(List<String> conflictingCourseCodes) {
+        this.conflictingCourseCodes = conflictingCourseCodes;
+    }
+
+    public Integer getDateShiftDays() {
+        return dateShiftDays;
+    }
+
+    public void setDateShiftDays(Integer dateShiftDays) {
+        this.dateShiftDays = dateShiftDays;
+    }
+
+    /**
+     * Students moving from one grade level to the next, or graduating
+     */
+    public static class GradeTransition {
+
+        private String fromGradeLevel;
+        private String toGradeLevel;
+        private Boolean graduating;
+        private Long students;
+
+        public GradeTransition() {
+        }
+
+        public GradeTransition(String fromGradeLevel, String toGradeLevel, Boolean graduating, Long students) {
+            this.fromGradeLevel = fromGradeLevel;
+            this.toGradeLevel = toGradeLevel;
+            this.graduating = graduating;
+            this.students = students;
+        }
+
+        public String getFromGradeLevel() {
+            return fromGradeLevel;
+        }
+
+        public void setFromGradeLevel(String fromGradeLevel) {
+            this.fromGradeLevel = fromGradeLevel;
+        }
+
+        public String getToGradeLevel() {
+            return toGradeLevel;
+        }
+
+        public void setToGradeLevel(String toGradeLevel) {
+            this.toGradeLevel = toGradeLevel;
+        }
+
+        public Boolean getGraduating() {
+            return graduating;
+        }
+
+        public void setGraduating(Boolean graduating) {
+            this.graduating = graduating;
+        }
+
+        public Long getStudents() {
+            return students;
+        }
+
+        public void setStudents(Long students) {
+            this.students = students;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.educationerp.institution_management.dto;
+
+import com.educationerp.student_management.entity.Student;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for previewing or starting an academic-year rollover of an institution
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class AcademicRolloverRequest {
+
+    @NotNull(message = "Grade levels are required")
+    @Size(min = 2, message = "At least two grade levels are required")
+    private List<String> gradeLevels;
+
+    private Student.EnrollmentStatus graduationStatus = Student.EnrollmentStatus.GRADUATED;
+
+    @NotNull(message = "Source term start is required")
+    private LocalDate sourceTermStart;
+
+    @NotNull(message = "Source term end is required")
+    private LocalDate sourceTermEnd;
+
+    @NotNull(message = "Target term start is required")
+    private LocalDate targetTermStart;
+
+    @NotBlank(message = "Course code suffix is required")
+    @Size(max = 10, message = "Course code suffix must not exceed 10 characters")
+    private String courseCodeSuffix;
+
+    // Constructors
+    public AcademicRolloverRequest() {
+    }
+
+    // Getters and Setters
+    public List<String> getGradeLevels() {
+        return gradeLevels;
+    }
+
+    public void setGradeLevels(List<String> gradeLevels) {
+        this.gradeLevels = gradeLevels;
+    }
+
+    public Student.EnrollmentStatus getGraduationStatus() {
+        return graduationStatus;
+    }
+
+    public void setGraduationStatus(Student.EnrollmentStatus graduationStatus) {
+        this.graduationStatus = graduationStatus;
+    }
+
+    public LocalDate getSourceTermStart() {
+        return sourceTermStart;
+    }
+
+    public void setSourceTermStart(LocalDate sourceTermStart) {
+        this.sourceTermStart = sourceTermStart;
+    }
+
+    public LocalDate getSourceTermEnd() {
+        return sourceTermEnd;
+    }
+
+    public void setSourceTermEnd(LocalDate sourceTermEnd) {
+        this.sourceTermEnd = sourceTermEnd;
+    }
+
+    public LocalDate getTargetTermStart() {
+        return targetTermStart;
+    }
+
+    public void setTargetTermStart(LocalDate targetTermStart) {
+        this.targetTermStart = targetTermStart;
+    }
+
+    public String getCourseCodeSuffix() {
+        return courseCodeSuffix;
+    }
+
+    public void setCourseCodeSuffix(String courseCodeSuffix) {
+        this.courseCodeSuffix = courseCodeSuffix;
+    }
+}
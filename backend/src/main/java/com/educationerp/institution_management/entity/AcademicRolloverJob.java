@@ -0,0 +1,282 @@
+package com.educationerp.institution_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import com.educationerp.student_management.entity.Student;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Academic Rollover Job entity for the Education ERP System
+ * Tracks an institution's year-end rollover: grade level advancement, graduation and cloning of the
+ * term's courses; progress keys are committed with each chunk so an interrupted job resumes where it stopped
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "academic_rollover_jobs")
+public class AcademicRolloverJob extends BaseEntity {
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RolloverStatus status = RolloverStatus.QUEUED;
+
+    @NotNull(message = "Grade levels are required")
+    @Column(name = "grade_levels", nullable = false, length = 500)
+    private String gradeLevels;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "graduation_status", nullable = false, length = 20)
+    private Student.EnrollmentStatus graduationStatus = Student.EnrollmentStatus.GRADUATED;
+
+    @NotNull(message = "Source term start is required")
+    @Column(name = "source_term_start", nullable = false)
+    private LocalDate sourceTermStart;
+
+    @NotNull(message = "Source term end is required")
+    @Column(name = "source_term_end", nullable = false)
+    private LocalDate sourceTermEnd;
+
+    @NotNull(message = "Target term start is required")
+    @Column(name = "target_term_start", nullable = false)
+    private LocalDate targetTermStart;
+
+    @NotNull(message = "Course code suffix is required")
+    @Column(name = "course_code_suffix", nullable = false, length = 10)
+    private String courseCodeSuffix;
+
+    @Column(name = "max_student_id", nullable = false)
+    private Long maxStudentId = 0L;
+
+    @Column(name = "max_course_id", nullable = false)
+    private Long maxCourseId = 0L;
+
+    @Column(name = "last_student_id", nullable = false)
+    private Long lastStudentId = 0L;
+
+    @Column(name = "last_course_id", nullable = false)
+    private Long lastCourseId = 0L;
+
+    @Column(name = "advanced_students", nullable = false)
+    private Integer advancedStudents = 0;
+
+    @Column(name = "graduated_students", nullable = false)
+    private Integer graduatedStudents = 0;
+
+    @Column(name = "cloned_courses", nullable = false)
+    private Integer clonedCourses = 0;
+
+    @Column(name = "restored_students", nullable = false)
+    private Integer restoredStudents = 0;
+
+    @Column(name = "restored_courses", nullable = false)
+    private Integer restoredCourses = 0;
+
+    @Column(name = "retained_courses", nullable = false)
+    private Integer retainedCourses = 0;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_date")
+    private LocalDateTime startedDate;
+
+    @Column(name = "completed_date")
+    private LocalDateTime completedDate;
+
+    @Column(name = "rolled_back_date")
+    private LocalDateTime rolledBackDate;
+
+    // Constructors
+    public AcademicRolloverJob() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public RolloverStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RolloverStatus status) {
+        this.status = status;
+    }
+
+    public String getGradeLevels() {
+        return gradeLevels;
+    }
+
+    public void setGradeLevels(String gradeLevels) {
+        this.gradeLevels = gradeLevels;
+    }
+
+    public Student.EnrollmentStatus getGraduationStatus() {
+        return graduationStatus;
+    }
+
+    public void setGraduationStatus(Student.EnrollmentStatus graduationStatus) {
+        this.graduationStatus = graduationStatus;
+    }
+
+    public LocalDate getSourceTermStart() {
+        return sourceTermStart;
+    }
+
+    public void setSourceTermStart(LocalDate sourceTermStart) {
+        this.sourceTermStart = sourceTermStart;
+    }
+
+    public LocalDate getSourceTermEnd() {
+        return sourceTermEnd;
+    }
+
+    public void setSourceTermEnd(LocalDate sourceTermEnd) {
+        this.sourceTermEnd = sourceTermEnd;
+    }
+
+    public LocalDate getTargetTermStart() {
+        return targetTermStart;
+    }
+
+    public void setTargetTermStart(LocalDate targetTermStart) {
+        this.targetTermStart = targetTermStart;
+    }
+
+    public String getCourseCodeSuffix() {
+        return courseCodeSuffix;
+    }
+
+    public void setCourseCodeSuffix(String courseCodeSuffix) {
+        this.courseCodeSuffix = courseCodeSuffix;
+    }
+
+    public Long getMaxStudentId() {
+        return maxStudentId;
+    }
+
+    public void setMaxStudentId(Long maxStudentId) {
+        this.maxStudentId = maxStudentId;
+    }
+
+    public Long getMaxCourseId() {
+        return maxCourseId;
+    }
+
+    public void setMaxCourseId(Long maxCourseId) {
+        this.maxCourseId = maxCourseId;
+    }
+
+    public Long getLastStudentId() {
+        return lastStudentId;
+    }
+
+    public void setLastStudentId(Long lastStudentId) {
+        this.lastStudentId = lastStudentId;
+    }
+
+    public Long getLastCourseId() {
+        return lastCourseId;
+    }
+
+    public void setLastCourseId(Long lastCourseId) {
+        this.lastCourseId = lastCourseId;
+    }
+
+    public Integer getAdvancedStudents() {
+        return advancedStudents;
+    }
+
+    public void setAdvancedStudents(Integer advancedStudents) {
+        this.advancedStudents = advancedStudents;
+    }
+
+    public Integer getGraduatedStudents() {
+        return graduatedStudents;
+    }
+
+    public void setGraduatedStudents(Integer graduatedStudents) {
+        this.graduatedStudents = graduatedStudents;
+    }
+
+    public Integer getClonedCourses() {
+        return clonedCourses;
+    }
+
+    public void setClonedCourses(Integer clonedCourses) {
+        this.clonedCourses = clonedCourses;
+    }
+
+    public Integer getRestoredStudents() {
+        return restoredStudents;
+    }
+
+    public void setRestoredStudents(Integer restoredStudents) {
+        this.restoredStudents = restoredStudents;
+    }
+
+    public Integer getRestoredCourses() {
+        return restoredCourses;
+    }
+
+    public void setRestoredCourses(Integer restoredCourses) {
+        this.restoredCourses = restoredCourses;
+    }
+
+    public Integer getRetainedCourses() {
+        return retainedCourses;
+    }
+
+    public void setRetainedCourses(Integer retainedCourses) {
+        this.retainedCourses = retainedCourses;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedDate() {
+        return startedDate;
+    }
+
+    public void setStartedDate(LocalDateTime startedDate) {
+        this.startedDate = startedDate;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    public LocalDateTime getRolledBackDate() {
+        return rolledBackDate;
+    }
+
+    public void setRolledBackDate(LocalDateTime rolledBackDate) {
+        this.rolledBackDate = rolledBackDate;
+    }
+
+    // Enums
+    public enum RolloverStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED, ROLLING_BACK, ROLLED_BACK
+    }
+}
@@ -0,0 +1,99 @@
+package com.educationerp.institution_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Academic Rollover Snapshot entity for the Education ERP System
+ * Keeps the previous values of a student or course changed by a rollover job so the job can be rolled back;
+ * rows are written in bulk by the rollover job
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "academic_rollover_snapshots",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"job_id", "entity_type", "entity_id"})
+       })
+public class AcademicRolloverSnapshot extends BaseEntity {
+    @NotNull(message = "Job ID is required")
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+
+    @NotNull(message = "Entity ID is required")
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "cloned_entity_id")
+    private Long clonedEntityId;
+
+    @Column(name = "previous_grade_level", length = 50)
+    private String previousGradeLevel;
+
+    @Column(name = "previous_status", length = 20)
+    private String previousStatus;
+
+    // Constructors
+    public AcademicRolloverSnapshot() {
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(EntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Long getClonedEntityId() {
+        return clonedEntityId;
+    }
+
+    public void setClonedEntityId(Long clonedEntityId) {
+        this.clonedEntityId = clonedEntityId;
+    }
+
+    public String getPreviousGradeLevel() {
+        return previousGradeLevel;
+    }
+
+    public void setPreviousGradeLevel(String previousGradeLevel) {
+        this.previousGradeLevel = previousGradeLevel;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(String previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    // Enums
+    public enum EntityType {
+        STUDENT, COURSE
+    }
+}
@@ -0,0 +1,42 @@
+package com.educationerp.institution_management.repository;
+
+import com.educationerp.institution_management.entity.AcademicRolloverJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for AcademicRolloverJob entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface AcademicRolloverJobRepository extends JpaRepository<AcademicRolloverJob, Long> {
+
+    /**
+     * Find rollover jobs of an institution
+     */
+    Page<AcademicRolloverJob> findByInstitutionId(Long institutionId, Pageable pageable);
+
+    /**
+     * Find rollover jobs in the given statuses
+     */
+    List<AcademicRolloverJob> findByStatusIn(Collection<AcademicRolloverJob.RolloverStatus> statuses);
+
+    /**
+     * Check if an institution has a rollover job in the given statuses
+     */
+    boolean existsByInstitutionIdAndStatusIn(Long institutionId, Collection<AcademicRolloverJob.RolloverStatus> statuses);
+
+    /**
+     * Check if an institution has a rollover job of a source term in the given statuses
+     */
+    boolean existsByInstitutionIdAndSourceTermStartAndStatusIn(Long institutionId, LocalDate sourceTermStart,
+                                                                Collection<AcademicRolloverJob.RolloverStatus> statuses);
+}
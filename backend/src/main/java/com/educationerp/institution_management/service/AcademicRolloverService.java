@@ -0,0 +1,678 @@
+package com.educationerp.institution_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.entity.Course;
+import com.educationerp.institution_management.dto.AcademicRolloverJobResponse;
+import com.educationerp.institution_management.dto.AcademicRolloverPreviewResponse;
+import com.educationerp.institution_management.dto.AcademicRolloverRequest;
+import com.educationerp.institution_management.entity.AcademicRolloverJob;
+import com.educationerp.institution_management.entity.AcademicRolloverSnapshot;
+import com.educationerp.institution_management.repository.AcademicRolloverJobRepository;
+import com.educationerp.institution_management.repository.InstitutionRepository;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service class for academic-year rollovers
+ * Advances student grade levels, graduates final-year students and clones the term's courses with
+ * set-based SQL in committed chunks; previous values are snapshotted so a rollover can be rolled back
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class AcademicRolloverService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AcademicRolloverService.class);
+
+    private static final int MAX_COURSE_CODE_LENGTH = 20;
+    private static final int MAX_LISTED_CONFLICTS = 50;
+
+    private static final List<AcademicRolloverJob.RolloverStatus> ACTIVE_STATUSES = List.of(
+            AcademicRolloverJob.RolloverStatus.QUEUED, AcademicRolloverJob.RolloverStatus.RUNNING,
+            AcademicRolloverJob.RolloverStatus.ROLLING_BACK);
+
+    private static final List<AcademicRolloverJob.RolloverStatus> APPLIED_STATUSES = List.of(
+            AcademicRolloverJob.RolloverStatus.QUEUED, AcademicRolloverJob.RolloverStatus.RUNNING,
+            AcademicRolloverJob.RolloverStatus.COMPLETED, AcademicRolloverJob.RolloverStatus.FAILED,
+            AcademicRolloverJob.RolloverStatus.CANCELLED, AcademicRolloverJob.RolloverStatus.ROLLING_BACK);
+
+    private static final String STUDENT = AcademicRolloverSnapshot.EntityType.STUDENT.name();
+    private static final String COURSE = AcademicRolloverSnapshot.EntityType.COURSE.name();
+
+    private static final String SELECT_STUDENT_CHUNK_SQL =
+            "SELECT id FROM students WHERE institution_id = ? AND id > ? AND id <= ? ORDER BY id FETCH FIRST ? ROWS ONLY";
+
+    private static final String SELECT_COURSE_CHUNK_SQL =
+            "SELECT id FROM courses WHERE institution_id = ? AND id > ? AND id <= ? ORDER BY id FETCH FIRST ? ROWS ONLY";
+
+    private static final String SNAPSHOT_STUDENTS_SQL =
+            "INSERT INTO academic_rollover_snapshots (job_id, entity_type, entity_id, previous_grade_level, previous_status, " +
+            "created_date, is_active) SELECT ?, ?, s.id, s.grade_level, s.enrollment_status, ?, true FROM students s " +
+            "WHERE s.institution_id = ? AND s.id > ? AND s.id <= ? AND s.is_active = true AND s.enrollment_status = ? " +
+            "AND s.grade_level IN (%s)";
+
+    private static final String ADVANCE_STUDENTS_SQL =
+            "UPDATE students SET grade_level = CASE grade_level %s ELSE grade_level END, " +
+            "enrollment_status = CASE WHEN grade_level = ? THEN ? ELSE enrollment_status END, updated_date = ?, updated_by = ? " +
+            "WHERE id IN (SELECT entity_id FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? " +
+            "AND entity_id > ? AND entity_id <= ?)";
+
+    private static final String COUNT_GRADUATED_SQL =
+            "SELECT COUNT(*) FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? " +
+            "AND entity_id > ? AND entity_id <= ? AND previous_grade_level = ?";
+
+    private static final String SELECT_SNAPSHOT_IDS_SQL =
+            "SELECT entity_id FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? " +
+            "AND entity_id > ? AND entity_id <= ? ORDER BY entity_id";
+
+    private static final String ELIGIBLE_COURSE_CONDITION =
+            "c.institution_id = ? AND c.start_date BETWEEN ? AND ? AND c.status <> ? AND c.is_active = true";
+
+    private static final String CLONE_COURSES_SQL =
+            "INSERT INTO courses (institution_id, branch_id, course_code, course_name, description, subject, grade_level, " +
+            "credits, duration_hours, max_students, current_students, start_date, end_date, status, type, fee, is_online, " +
+            "location, instructor_name, instructor_id, prerequisites, learning_objectives, course_materials, " +
+            "assessment_methods, notes, created_date, created_by, is_active) " +
+            "SELECT c.institution_id, c.branch_id, c.course_code || ?, c.course_name, c.description, c.subject, c.grade_level, " +
+            "c.credits, c.duration_hours, c.max_students, 0, c.start_date + CAST(? AS INTEGER), c.end_date + CAST(? AS INTEGER), " +
+            "CASE WHEN c.status = ? THEN ? ELSE c.status END, c.type, c.fee, c.is_online, c.location, c.instructor_name, " +
+            "c.instructor_id, c.prerequisites, c.learning_objectives, c.course_materials, c.assessment_methods, c.notes, ?, ?, true " +
+            "FROM courses c WHERE " + ELIGIBLE_COURSE_CONDITION + " AND c.id > ? AND c.id <= ? " +
+            "AND LENGTH(c.course_code) + ? <= " + MAX_COURSE_CODE_LENGTH + " " +
+            "AND NOT EXISTS (SELECT 1 FROM courses t WHERE t.institution_id = c.institution_id AND t.course_code = c.course_code || ?)";
+
+    private static final String SNAPSHOT_COURSES_SQL =
+            "INSERT INTO academic_rollover_snapshots (job_id, entity_type, entity_id, cloned_entity_id, previous_status, " +
+            "created_date, is_active) SELECT ?, ?, c.id, t.id, c.status, ?, true FROM courses c " +
+            "JOIN courses t ON t.institution_id = c.institution_id AND t.course_code = c.course_code || ? " +
+            "WHERE c.institution_id = ? AND c.id > ? AND c.id <= ? AND t.id > ?";
+
+    private static final String COMPLETE_SOURCE_COURSES_SQL =
+            "UPDATE courses SET status = ?, updated_date = ?, updated_by = ? " +
+            "WHERE id IN (SELECT entity_id FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? " +
+            "AND entity_id > ? AND entity_id <= ?)";
+
+    private static final String SELECT_ROLLBACK_CHUNK_SQL =
+            "SELECT entity_id FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? " +
+            "ORDER BY entity_id FETCH FIRST ? ROWS ONLY";
+
+    private static final String RESTORE_STUDENTS_SQL =
+            "UPDATE students s SET " +
+            "grade_level = (SELECT r.previous_grade_level FROM academic_rollover_snapshots r " +
+            "WHERE r.job_id = ? AND r.entity_type = ? AND r.entity_id = s.id), " +
+            "enrollment_status = (SELECT r.previous_status FROM academic_rollover_snapshots r " +
+            "WHERE r.job_id = ? AND r.entity_type = ? AND r.entity_id = s.id), updated_date = ?, updated_by = ? " +
+            "WHERE s.id IN (SELECT entity_id FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? " +
+            "AND entity_id BETWEEN ? AND ?)";
+
+    private static final String DELETE_CLONED_COURSES_SQL =
+            "DELETE FROM courses WHERE id IN (SELECT cloned_entity_id FROM academic_rollover_snapshots " +
+            "WHERE job_id = ? AND entity_type = ? AND entity_id BETWEEN ? AND ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM enrollments e WHERE e.course_id = courses.id) " +
+            "AND NOT EXISTS (SELECT 1 FROM timetable_entries t WHERE t.course_id = courses.id)";
+
+    private static final String RESTORE_COURSES_SQL =
+            "UPDATE courses c SET status = (SELECT r.previous_status FROM academic_rollover_snapshots r " +
+            "WHERE r.job_id = ? AND r.entity_type = ? AND r.entity_id = c.id), updated_date = ?, updated_by = ? " +
+            "WHERE c.id IN (SELECT entity_id FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? " +
+            "AND entity_id BETWEEN ? AND ?)";
+
+    private static final String DELETE_SNAPSHOTS_SQL =
+            "DELETE FROM academic_rollover_snapshots WHERE job_id = ? AND entity_type = ? AND entity_id BETWEEN ? AND ?";
+
+    @Autowired
+    private AcademicRolloverJobRepository academicRolloverJobRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.rollover.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${education.erp.rollover.throttle-ms:50}")
+    private long throttleMillis;
+
+    @Value("${education.erp.rollover.max-concurrent-jobs:1}")
+    private int maxConcurrentJobs;
+
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> cancelRequests = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate chunkTransaction;
+    private ExecutorService jobExecutor;
+
+    @PostConstruct
+    void initialize() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        jobExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted jobs keep their status and are resumed on the next startup
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * Resume rollovers and rollbacks that were in progress when the application stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRollovers() {
+        for (AcademicRolloverJob job : academicRolloverJobRepository.findByStatusIn(ACTIVE_STATUSES)) {
+            logger.info("Resuming academic rollover {} in status {}", job.getId(), job.getStatus());
+            submit(job.getId());
+        }
+    }
+
+    /**
+     * Preview what a rollover would change without modifying any data
+     */
+    public AcademicRolloverPreviewResponse previewRollover(Long institutionId, AcademicRolloverRequest request) {
+        validateRequest(institutionId, request);
+
+        List<String> gradeLevels = request.getGradeLevels();
+        String finalGradeLevel = gradeLevels.get(gradeLevels.size() - 1);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT grade_level, COUNT(*) FROM students WHERE institution_id = ? AND is_active = true " +
+                        "AND enrollment_status = ? GROUP BY grade_level ORDER BY grade_level",
+                rs -> {
+                    counts.put(rs.getString(1), rs.getLong(2));
+                }, institutionId, Student.EnrollmentStatus.ACTIVE.name());
+
+        List<AcademicRolloverPreviewResponse.GradeTransition> transitions = new ArrayList<>();
+        long studentsToAdvance = 0;
+        for (int i = 0; i < gradeLevels.size(); i++) {
+            String gradeLevel = gradeLevels.get(i);
+            long students = counts.getOrDefault(gradeLevel, 0L);
+            boolean graduating = gradeLevel.equals(finalGradeLevel);
+            transitions.add(new AcademicRolloverPreviewResponse.GradeTransition(gradeLevel,
+                    graduating ? null : gradeLevels.get(i + 1), graduating, students));
+            if (!graduating) {
+                studentsToAdvance += students;
+            }
+        }
+        Map<String, Long> unmatched = new LinkedHashMap<>(counts);
+        unmatched.keySet().removeAll(gradeLevels);
+
+        String suffix = request.getCourseCodeSuffix();
+        Long eligibleCourses = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM courses c WHERE " + ELIGIBLE_COURSE_CONDITION,
+                Long.class, institutionId, Date.valueOf(request.getSourceTermStart()), Date.valueOf(request.getSourceTermEnd()),
+                Course.CourseStatus.CANCELLED.name());
+        List<String> conflicts = jdbcTemplate.queryForList("SELECT c.course_code FROM courses c WHERE " + ELIGIBLE_COURSE_CONDITION +
+                        " AND (LENGTH(c.course_code) + ? > " + MAX_COURSE_CODE_LENGTH + " OR EXISTS (SELECT 1 FROM courses t " +
+                        "WHERE t.institution_id = c.institution_id AND t.course_code = c.course_code || ?)) ORDER BY c.course_code",
+                String.class, institutionId, Date.valueOf(request.getSourceTermStart()), Date.valueOf(request.getSourceTermEnd()),
+                Course.CourseStatus.CANCELLED.name(), suffix.length(), suffix);
+
+        AcademicRolloverPreviewResponse response = new AcademicRolloverPreviewResponse();
+        response.setInstitutionId(institutionId);
+        response.setTransitions(transitions);
+        response.setStudentsToAdvance(studentsToAdvance);
+        response.setStudentsToGraduate(counts.getOrDefault(finalGradeLevel, 0L));
+        response.setUnmatchedGradeLevels(unmatched);
+        response.setCoursesToClone(eligibleCourses - conflicts.size());
+        response.setConflictingCourses((long) conflicts.size());
+        response.setConflictingCourseCodes(conflicts.subList(0, Math.min(conflicts.size(), MAX_LISTED_CONFLICTS)));
+        response.setDateShiftDays((int) ChronoUnit.DAYS.between(request.getSourceTermStart(), request.getTargetTermStart()));
+        return response;
+    }
+
+    /**
+     * Create a rollover job and queue it for processing
+     */
+    public AcademicRolloverJobResponse startRollover(Long institutionId, AcademicRolloverRequest request) {
+        logger.info("Starting academic rollover for institution: {}", institutionId);
+
+        validateRequest(institutionId, request);
+        if (academicRolloverJobRepository.existsByInstitutionIdAndStatusIn(institutionId, ACTIVE_STATUSES)) {
+            throw new BusinessException("An academic rollover is already in progress for institution ID: " + institutionId);
+        }
+        if (academicRolloverJobRepository.existsByInstitutionIdAndSourceTermStartAndStatusIn(
+                institutionId, request.getSourceTermStart(), APPLIED_STATUSES)) {
+            throw new BusinessException("Term starting " + request.getSourceTermStart() +
+                    " has already been rolled over; roll back or resume the existing job instead");
+        }
+
+        AcademicRolloverJob job = new AcademicRolloverJob();
+        job.setInstitutionId(institutionId);
+        job.setGradeLevels(String.join(",", request.getGradeLevels()));
+        job.setGraduationStatus(request.getGraduationStatus());
+        job.setSourceTermStart(request.getSourceTermStart());
+        job.setSourceTermEnd(request.getSourceTermEnd());
+        job.setTargetTermStart(request.getTargetTermStart());
+        job.setCourseCodeSuffix(request.getCourseCodeSuffix());
+        // Rows created after this point are outside the rollover, including the cloned courses
+        job.setMaxStudentId(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM students WHERE institution_id = ?", Long.class, institutionId));
+        job.setMaxCourseId(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM courses WHERE institution_id = ?", Long.class, institutionId));
+        job = academicRolloverJobRepository.save(job);
+
+        submit(job.getId());
+        return mapToJobResponse(job);
+    }
+
+    /**
+     * Get rollover job by ID
+     */
+    public AcademicRolloverJobResponse getJob(Long jobId) {
+        return mapToJobResponse(findJob(jobId));
+    }
+
+    /**
+     * Get rollover jobs of an institution
+     */
+    public Page<AcademicRolloverJobResponse> getJobsByInstitution(Long institutionId, Pageable pageable) {
+        return academicRolloverJobRepository.findByInstitutionId(institutionId, pageable).map(this::mapToJobResponse);
+    }
+
+    /**
+     * Resume a failed or cancelled rollover from its last committed chunk
+     */
+    public AcademicRolloverJobResponse resumeRollover(Long jobId) {
+        AcademicRolloverJob job = findJob(jobId);
+        if (job.getStatus() != AcademicRolloverJob.RolloverStatus.FAILED
+                && job.getStatus() != AcademicRolloverJob.RolloverStatus.CANCELLED) {
+            throw new BusinessException("Only failed or cancelled rollovers can be resumed");
+        }
+
+        job.setStatus(AcademicRolloverJob.RolloverStatus.QUEUED);
+        job.setErrorMessage(null);
+        job = academicRolloverJobRepository.save(job);
+
+        logger.info("Resuming academic rollover {} after student {} and course {}", jobId, job.getLastStudentId(), job.getLastCourseId());
+        submit(jobId);
+        return mapToJobResponse(job);
+    }
+
+    /**
+     * Cancel a queued or running rollover; committed chunks are kept and can be resumed or rolled back
+     */
+    public AcademicRolloverJobResponse cancelRollover(Long jobId) {
+        AcademicRolloverJob job = findJob(jobId);
+        if (job.getStatus() != AcademicRolloverJob.RolloverStatus.QUEUED
+                && job.getStatus() != AcademicRolloverJob.RolloverStatus.RUNNING) {
+            throw new BusinessException("Academic rollover is not in progress: " + jobId);
+        }
+
+        cancelRequests.add(jobId);
+        if (!runningJobs.contains(jobId)) {
+            cancelRequests.remove(jobId);
+            job.setStatus(AcademicRolloverJob.RolloverStatus.CANCELLED);
+            job.setCompletedDate(LocalDateTime.now());
+            job = academicRolloverJobRepository.save(job);
+        }
+        return mapToJobResponse(job);
+    }
+
+    /**
+     * Restore students and courses changed by a rollover from its snapshot
+     * Cloned courses that already have enrollments or timetable entries are kept
+     */
+    public AcademicRolloverJobResponse rollbackRollover(Long jobId) {
+        AcademicRolloverJob job = findJob(jobId);
+        AcademicRolloverJob.RolloverStatus status = job.getStatus();
+        boolean retry = status == AcademicRolloverJob.RolloverStatus.ROLLING_BACK && !runningJobs.contains(jobId);
+        if (status != AcademicRolloverJob.RolloverStatus.COMPLETED && status != AcademicRolloverJob.RolloverStatus.FAILED
+                && status != AcademicRolloverJob.RolloverStatus.CANCELLED && !retry) {
+            throw new BusinessException("Only completed, failed or cancelled rollovers can be rolled back");
+        }
+
+        job.setStatus(AcademicRolloverJob.RolloverStatus.ROLLING_BACK);
+        job.setErrorMessage(null);
+        job = academicRolloverJobRepository.save(job);
+
+        logger.info("Rolling back academic rollover {}", jobId);
+        submit(jobId);
+        return mapToJobResponse(job);
+    }
+
+    private void submit(Long jobId) {
+        if (!runningJobs.add(jobId)) {
+            return;
+        }
+        jobExecutor.execute(() -> {
+            try {
+                AcademicRolloverJob job = academicRolloverJobRepository.findById(jobId).orElse(null);
+                if (job == null) {
+                    return;
+                }
+                if (job.getStatus() == AcademicRolloverJob.RolloverStatus.ROLLING_BACK) {
+                    runRollback(job);
+                } else if (job.getStatus() == AcademicRolloverJob.RolloverStatus.QUEUED
+                        || job.getStatus() == AcademicRolloverJob.RolloverStatus.RUNNING) {
+                    runRollover(job);
+                }
+            } finally {
+                runningJobs.remove(jobId);
+                cancelRequests.remove(jobId);
+            }
+        });
+    }
+
+    private void runRollover(AcademicRolloverJob job) {
+        Long jobId = job.getId();
+        long started = System.currentTimeMillis();
+        job.setStatus(AcademicRolloverJob.RolloverStatus.RUNNING);
+        if (job.getStartedDate() == null) {
+            job.setStartedDate(LocalDateTime.now());
+        }
+        job = academicRolloverJobRepository.save(job);
+
+        try {
+            List<String> gradeLevels = Arrays.asList(job.getGradeLevels().split(","));
+            String advanceSql = String.format(ADVANCE_STUDENTS_SQL, String.join(" ", Collections.nCopies(gradeLevels.size() - 1, "WHEN ? THEN ?")));
+            String snapshotSql = String.format(SNAPSHOT_STUDENTS_SQL, String.join(", ", Collections.nCopies(gradeLevels.size(), "?")));
+
+            while (job.getLastStudentId() < job.getMaxStudentId()) {
+                if (cancelled(job)) {
+                    return;
+                }
+                job = commitStudentChunk(job, gradeLevels, snapshotSql, advanceSql);
+                throttle();
+            }
+            while (job.getLastCourseId() < job.getMaxCourseId()) {
+                if (cancelled(job)) {
+                    return;
+                }
+                job = commitCourseChunk(job);
+                throttle();
+            }
+
+            job.setStatus(AcademicRolloverJob.RolloverStatus.COMPLETED);
+            job.setCompletedDate(LocalDateTime.now());
+            academicRolloverJobRepository.save(job);
+            logger.info("Academic rollover {} completed in {} ms: {} advanced, {} graduated, {} courses cloned",
+                    jobId, System.currentTimeMillis() - started, job.getAdvancedStudents(), job.getGraduatedStudents(), job.getClonedCourses());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Academic rollover {} interrupted; it resumes on the next startup", jobId);
+        } catch (RuntimeException e) {
+            logger.error("Academic rollover {} failed", jobId, e);
+            markFailed(jobId, e);
+        }
+    }
+
+    private AcademicRolloverJob commitStudentChunk(AcademicRolloverJob job, List<String> gradeLevels,
+                                                   String snapshotSql, String advanceSql) {
+        return chunkTransaction.execute(status -> {
+            Long institutionId = job.getInstitutionId();
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_STUDENT_CHUNK_SQL, Long.class,
+                    institutionId, job.getLastStudentId(), job.getMaxStudentId(), chunkSize);
+            long from = job.getLastStudentId();
+            long to = ids.isEmpty() ? job.getMaxStudentId() : ids.get(ids.size() - 1);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            String finalGradeLevel = gradeLevels.get(gradeLevels.size() - 1);
+
+            List<Object> snapshotParams = new ArrayList<>(List.of(job.getId(), STUDENT, now, institutionId, from, to,
+                    Student.EnrollmentStatus.ACTIVE.name()));
+            snapshotParams.addAll(gradeLevels);
+            int changed = jdbcTemplate.update(snapshotSql, snapshotParams.toArray());
+
+            if (changed > 0) {
+                List<Object> advanceParams = new ArrayList<>();
+                for (int i = 0; i < gradeLevels.size() - 1; i++) {
+                    advanceParams.add(gradeLevels.get(i));
+                    advanceParams.add(gradeLevels.get(i + 1));
+                }
+                advanceParams.addAll(List.of(finalGradeLevel, job.getGraduationStatus().name(), now, updatedBy(job),
+                        job.getId(), STUDENT, from, to));
+                jdbcTemplate.update(advanceSql, advanceParams.toArray());
+
+                Integer graduated = jdbcTemplate.queryForObject(COUNT_GRADUATED_SQL, Integer.class,
+                        job.getId(), STUDENT, from, to, finalGradeLevel);
+                job.setGraduatedStudents(job.getGraduatedStudents() + graduated);
+                job.setAdvancedStudents(job.getAdvancedStudents() + changed - graduated);
+
+                // Bulk SQL updates bypass the student entity listener
+                eventPublisher.publishEvent(new StudentChangedEvent(
+                        jdbcTemplate.queryForList(SELECT_SNAPSHOT_IDS_SQL, Long.class, job.getId(), STUDENT, from, to)));
+            }
+
+            job.setLastStudentId(to);
+            return academicRolloverJobRepository.save(job);
+        });
+    }
+
+    private AcademicRolloverJob commitCourseChunk(AcademicRolloverJob job) {
+        return chunkTransaction.execute(status -> {
+            Long institutionId = job.getInstitutionId();
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_COURSE_CHUNK_SQL, Long.class,
+                    institutionId, job.getLastCourseId(), job.getMaxCourseId(), chunkSize);
+            long from = job.getLastCourseId();
+            long to = ids.isEmpty() ? job.getMaxCourseId() : ids.get(ids.size() - 1);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            String suffix = job.getCourseCodeSuffix();
+            int shiftDays = (int) ChronoUnit.DAYS.between(job.getSourceTermStart(), job.getTargetTermStart());
+
+            int cloned = jdbcTemplate.update(CLONE_COURSES_SQL, suffix, shiftDays, shiftDays,
+                    Course.CourseStatus.COMPLETED.name(), Course.CourseStatus.ACTIVE.name(), now, updatedBy(job),
+                    institutionId, Date.valueOf(job.getSourceTermStart()), Date.valueOf(job.getSourceTermEnd()),
+                    Course.CourseStatus.CANCELLED.name(), from, to, suffix.length(), suffix);
+
+            if (cloned > 0) {
+                jdbcTemplate.update(SNAPSHOT_COURSES_SQL, job.getId(), COURSE, now, suffix, institutionId, from, to, job.getMaxCourseId());
+                jdbcTemplate.update(COMPLETE_SOURCE_COURSES_SQL, Course.CourseStatus.COMPLETED.name(), now, updatedBy(job),
+                        job.getId(), COURSE, from, to);
+                job.setClonedCourses(job.getClonedCourses() + cloned);
+            }
+
+            job.setLastCourseId(to);
+            return academicRolloverJobRepository.save(job);
+        });
+    }
+
+    private void runRollback(AcademicRolloverJob job) {
+        Long jobId = job.getId();
+        long started = System.currentTimeMillis();
+        try {
+            while (true) {
+                AcademicRolloverJob restored = restoreStudentChunk(job);
+                if (restored == null) {
+                    break;
+                }
+                job = restored;
+                throttle();
+            }
+            while (true) {
+                AcademicRolloverJob restored = restoreCourseChunk(job);
+                if (restored == null) {
+                    break;
+                }
+                job = restored;
+                throttle();
+            }
+
+            job.setStatus(AcademicRolloverJob.RolloverStatus.ROLLED_BACK);
+            job.setRolledBackDate(LocalDateTime.now());
+            academicRolloverJobRepository.save(job);
+            logger.info("Academic rollover {} rolled back in {} ms: {} students and {} courses restored, {} cloned courses retained",
+                    jobId, System.currentTimeMillis() - started, job.getRestoredStudents(), job.getRestoredCourses(), job.getRetainedCourses());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.info("Rollback of academic rollover {} interrupted; it resumes on the next startup", jobId);
+        } catch (RuntimeException e) {
+            // The job stays ROLLING_BACK so the rollback can be retried
+            logger.error("Rollback of academic rollover {} failed", jobId, e);
+            academicRolloverJobRepository.findById(jobId).ifPresent(failed -> {
+                failed.setErrorMessage(truncate(e.getMessage()));
+                academicRolloverJobRepository.save(failed);
+            });
+        }
+    }
+
+    private AcademicRolloverJob restoreStudentChunk(AcademicRolloverJob job) {
+        return chunkTransaction.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_ROLLBACK_CHUNK_SQL, Long.class, job.getId(), STUDENT, chunkSize);
+            if (ids.isEmpty()) {
+                return null;
+            }
+            long from = ids.get(0);
+            long to = ids.get(ids.size() - 1);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            int restored = jdbcTemplate.update(RESTORE_STUDENTS_SQL, job.getId(), STUDENT, job.getId(), STUDENT,
+                    now, updatedBy(job), job.getId(), STUDENT, from, to);
+            jdbcTemplate.update(DELETE_SNAPSHOTS_SQL, job.getId(), STUDENT, from, to);
+            eventPublisher.publishEvent(new StudentChangedEvent(ids));
+
+            job.setRestoredStudents(job.getRestoredStudents() + restored);
+            return academicRolloverJobRepository.save(job);
+        });
+    }
+
+    private AcademicRolloverJob restoreCourseChunk(AcademicRolloverJob job) {
+        return chunkTransaction.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_ROLLBACK_CHUNK_SQL, Long.class, job.getId(), COURSE, chunkSize);
+            if (ids.isEmpty()) {
+                return null;
+            }
+            long from = ids.get(0);
+            long to = ids.get(ids.size() - 1);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            int removed = jdbcTemplate.update(DELETE_CLONED_COURSES_SQL, job.getId(), COURSE, from, to);
+            int restored = jdbcTemplate.update(RESTORE_COURSES_SQL, job.getId(), COURSE, now, updatedBy(job),
+                    job.getId(), COURSE, from, to);
+            jdbcTemplate.update(DELETE_SNAPSHOTS_SQL, job.getId(), COURSE, from, to);
+
+            job.setRestoredCourses(job.getRestoredCourses() + restored);
+            job.setRetainedCourses(job.getRetainedCourses() + ids.size() - removed);
+            return academicRolloverJobRepository.save(job);
+        });
+    }
+
+    private boolean cancelled(AcademicRolloverJob job) {
+        if (!cancelRequests.remove(job.getId())) {
+            return false;
+        }
+        job.setStatus(AcademicRolloverJob.RolloverStatus.CANCELLED);
+        job.setCompletedDate(LocalDateTime.now());
+        academicRolloverJobRepository.save(job);
+        logger.info("Academic rollover {} cancelled after student {} and course {}", job.getId(), job.getLastStudentId(), job.getLastCourseId());
+        return true;
+    }
+
+    private void throttle() throws InterruptedException {
+        if (throttleMillis > 0) {
+            Thread.sleep(throttleMillis);
+        }
+    }
+
+    private void markFailed(Long jobId, RuntimeException e) {
+        academicRolloverJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(AcademicRolloverJob.RolloverStatus.FAILED);
+            job.setErrorMessage(truncate(e.getMessage()));
+            job.setCompletedDate(LocalDateTime.now());
+            academicRolloverJobRepository.save(job);
+        });
+    }
+
+    private void validateRequest(Long institutionId, AcademicRolloverRequest request) {
+        if (!institutionRepository.existsById(institutionId)) {
+            throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+        }
+
+        Set<String> distinct = new HashSet<>();
+        for (String gradeLevel : request.getGradeLevels()) {
+            if (gradeLevel == null || gradeLevel.isBlank() || gradeLevel.contains(",")) {
+                throw new BusinessException("Grade levels must be non-blank and must not contain commas");
+            }
+            if (!distinct.add(gradeLevel)) {
+                throw new BusinessException("Grade level is listed more than once: " + gradeLevel);
+            }
+        }
+        if (request.getGraduationStatus() == null || request.getGraduationStatus() == Student.EnrollmentStatus.ACTIVE) {
+            throw new BusinessException("Graduation status must not be ACTIVE");
+        }
+        if (request.getSourceTermEnd().isBefore(request.getSourceTermStart())) {
+            throw new BusinessException("Source term end must not be before source term start");
+        }
+        if (!request.getTargetTermStart().isAfter(request.getSourceTermEnd())) {
+            throw new BusinessException("Target term must start after the source term ends");
+        }
+    }
+
+    private AcademicRolloverJob findJob(Long jobId) {
+        return academicRolloverJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Academic rollover job not found with ID: " + jobId));
+    }
+
+    private static String updatedBy(AcademicRolloverJob job) {
+        return job.getCreatedBy() != null ? job.getCreatedBy() : "rollover-" + job.getId();
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    /**
+     * Map AcademicRolloverJob entity to AcademicRolloverJobResponse DTO
+     */
+    private AcademicRolloverJobResponse mapToJobResponse(AcademicRolloverJob job) {
+        AcademicRolloverJobResponse response = new AcademicRolloverJobResponse();
+        response.setId(job.getId());
+        response.setInstitutionId(job.getInstitutionId());
+        response.setStatus(job.getStatus());
+        response.setGradeLevels(Arrays.asList(job.getGradeLevels().split(",")));
+        response.setGraduationStatus(job.getGraduationStatus());
+        response.setSourceTermStart(job.getSourceTermStart());
+        response.setSourceTermEnd(job.getSourceTermEnd());
+        response.setTargetTermStart(job.getTargetTermStart());
+        response.setCourseCodeSuffix(job.getCourseCodeSuffix());
+        response.setAdvancedStudents(job.getAdvancedStudents());
+        response.setGraduatedStudents(job.getGraduatedStudents());
+        response.setClonedCourses(job.getClonedCourses());
+        response.setRestoredStudents(job.getRestoredStudents());
+        response.setRestoredCourses(job.getRestoredCourses());
+        response.setRetainedCourses(job.getRetainedCourses());
+        response.setErrorMessage(job.getErrorMessage());
+        response.setStartedDate(job.getStartedDate());
+        response.setCompletedDate(job.getCompletedDate());
+        response.setRolledBackDate(job.getRolledBackDate());
+        response.setCreatedDate(job.getCreatedDate());
+        return response;
+    }
+}
@@ -1,6 +1,7 @@
 package com.educationerp.inventory.entity;
 
 import com.educationerp.core.entity.BaseEntity;
+import com.educationerp.inventory.event.StudentProductDistributionEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
@@ -16,6 +17,7 @@ import java.util.Objects;
  * @version 1.0.0
  */
 @Entity
+@EntityListeners(StudentProductDistributionEntityListener.class)
 @Table(name = "student_product_distributions", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"student_id", "product_id", "distribution_date"})
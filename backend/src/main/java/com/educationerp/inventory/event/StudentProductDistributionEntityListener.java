@@ -0,0 +1,32 @@
+package com.educationerp.inventory.event;
+
+import com.educationerp.inventory.entity.StudentProductDistribution;
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.event.LedgerSourceChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes {@link LedgerSourceChangedEvent} for every product distribution write
+ * Bulk updates bypass entity callbacks and must publish the event themselves
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+public class StudentProductDistributionEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onStudentProductDistributionChanged(StudentProductDistribution distribution) {
+        eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.PRODUCT_DISTRIBUTION, distribution.getId(), distribution.getStudentId()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.educationerp.inventory.repository;
+
+import com.educationerp.inventory.entity.StudentProductDistribution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for StudentProductDistribution entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface StudentProductDistributionRepository extends JpaRepository<StudentProductDistribution, Long> {
+
+    /**
+     * Find active product distributions of a student
+     */
+    List<StudentProductDistribution> findByStudentIdAndIsActiveTrue(Long studentId);
+
+    /**
+     * Find active unpaid product distributions of the given students
+     */
+    List<StudentProductDistribution> findByStudentIdInAndIsPaidFalseAndIsActiveTrue(Collection<Long> studentIds);
+}
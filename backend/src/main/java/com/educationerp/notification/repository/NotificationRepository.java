@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -67,5 +68,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * Count unread active notifications by recipient ID
      */
     long countByRecipientIdAndIsReadFalseAndIsActiveTrue(Long recipientId);
-}
 
+    /**
+     * Count unread active notifications of a recipient of the given type
+     */
+    long countByRecipientIdAndRecipientTypeAndIsReadFalseAndIsActiveTrue(Long recipientId, String recipientType);
+
+    /**
+     * Count unread active notifications of recipients of the given type
+     * Returns rows of [recipientId, count]
+     */
+    @Query("SELECT n.recipientId, COUNT(n) FROM Notification n WHERE n.recipientId IN :recipientIds " +
+           "AND n.recipientType = :recipientType AND n.isRead = false AND n.isActive = true GROUP BY n.recipientId")
+    List<Object[]> countUnreadByRecipientIds(@Param("recipientIds") Collection<Long> recipientIds,
+                                             @Param("recipientType") String recipientType);
+}
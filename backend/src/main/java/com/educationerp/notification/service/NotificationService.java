@@ -198,13 +198,21 @@ public class NotificationService {
      */
     public void sendExamNotification(Long studentId, String studentName, String studentEmail, 
                                     String studentPhone, String examName, LocalDateTime examDate) {
+        sendExamNotification(null, null, studentId, studentName, studentEmail, studentPhone, examName, examDate);
+    }
+
+    /**
+     * Send exam notification on behalf of an institution
+     */
+    public void sendExamNotification(Long institutionId, Long branchId, Long studentId, String studentName,
+                                    String studentEmail, String studentPhone, String examName, LocalDateTime examDate) {
         
         String title = "Exam Notification";
         String message = ("Dear %s, you have an exam '%s' scheduled on %s. " +
                 "Please arrive 15 minutes early and bring your student ID.").formatted(
                 studentName, examName, examDate.toLocalDate());
 
-        createAndSendNotification(null, null, studentId, "STUDENT", title, message, 
+        createAndSendNotification(institutionId, branchId, studentId, "STUDENT", title, message, 
                                 Notification.NotificationType.EXAM_NOTIFICATION, 
                                 Notification.NotificationChannel.EMAIL, 
                                 "System", null, studentEmail, studentPhone);
@@ -0,0 +1,73 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.ArAgingResponse;
+import com.educationerp.payment_management.dto.ArAgingVerificationResponse;
+import com.educationerp.payment_management.service.ArAgingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for accounts-receivable aging
+ * Bucket totals are kept in memory and served without scanning the payments
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/payment/aging")
+@Tag(name = "AR Aging", description = "Open payments by days past due")
+public class ArAgingController {
+
+    @Autowired
+    private ArAgingService arAgingService;
+
+    /**
+     * Get the aging of an institution
+     */
+    @GetMapping("/institutions/{institutionId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Get institution aging", description = "Open payment totals per aging bucket with the students owing the most past due")
+    public ResponseEntity<ApiResponse<ArAgingResponse>> getInstitutionAging(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Maximum number of students to list") @RequestParam(defaultValue = "50") int limit) {
+
+        ArAgingResponse aging = arAgingService.getInstitutionAging(institutionId, limit);
+        ApiResponse<ArAgingResponse> response = ApiResponse.success("AR aging retrieved successfully", aging);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the aging of a student
+     */
+    @GetMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Get student aging", description = "Open payment totals of a student per aging bucket")
+    public ResponseEntity<ApiResponse<ArAgingResponse>> getStudentAging(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        ArAgingResponse aging = arAgingService.getStudentAging(studentId);
+        ApiResponse<ArAgingResponse> response = ApiResponse.success("AR aging retrieved successfully", aging);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Compare the aging with the payments
+     */
+    @PostMapping("/verify")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Verify AR aging", description = "Compare the in-memory bucket totals with the payments and rebuild them on drift")
+    public ResponseEntity<ApiResponse<ArAgingVerificationResponse>> verify() {
+        ArAgingVerificationResponse verification = arAgingService.verify();
+        ApiResponse<ArAgingVerificationResponse> response = ApiResponse.success("AR aging verified successfully", verification);
+
+        return ResponseEntity.ok(response);
+    }
+}
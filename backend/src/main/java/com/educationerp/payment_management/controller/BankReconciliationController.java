@@ -0,0 +1,110 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.BankReconciliationJobResponse;
+import com.educationerp.payment_management.service.BankReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * REST controller for bank statement reconciliation
+ * Statements are streamed to disk and matched against pending bank transfers by a background job
+ * that clients poll for its outcome
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/payment/bank-reconciliations")
+@Tag(name = "Bank Reconciliation", description = "Matching of bank statements against pending bank transfers")
+public class BankReconciliationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BankReconciliationController.class);
+
+    @Autowired
+    private BankReconciliationService bankReconciliationService;
+
+    /**
+     * Upload a bank statement and start reconciling it
+     */
+    @PostMapping(value = "/institutions/{institutionId}", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Start bank reconciliation",
+            description = "Stream a CSV statement with a header row naming date, amount and optionally reference, description " +
+                    "and transactionId columns; matched pending bank transfers are completed by a background job")
+    public ResponseEntity<ApiResponse<BankReconciliationJobResponse>> startReconciliation(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Original file name") @RequestParam(required = false) String fileName,
+            @Parameter(description = "Days a statement date may differ from the payment due date") @RequestParam(required = false) Integer dateWindowDays,
+            InputStream content) {
+        logger.info("Bank statement upload received for institution: {}", institutionId);
+
+        BankReconciliationJobResponse job = bankReconciliationService.startReconciliation(institutionId, fileName, dateWindowDays, content);
+        ApiResponse<BankReconciliationJobResponse> response = ApiResponse.success("Bank reconciliation started successfully", job);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get reconciliation job outcome
+     */
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get bank reconciliation job", description = "Retrieve status and match counts of a reconciliation")
+    public ResponseEntity<ApiResponse<BankReconciliationJobResponse>> getJob(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+
+        BankReconciliationJobResponse job = bankReconciliationService.getJob(jobId);
+        ApiResponse<BankReconciliationJobResponse> response = ApiResponse.success("Bank reconciliation job retrieved successfully", job);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get reconciliation jobs of an institution
+     */
+    @GetMapping("/institutions/{institutionId}/jobs")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get bank reconciliation jobs", description = "Retrieve paginated reconciliation jobs of an institution")
+    public ResponseEntity<ApiResponse<Page<BankReconciliationJobResponse>>> getJobs(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            Pageable pageable) {
+
+        Page<BankReconciliationJobResponse> jobs = bankReconciliationService.getJobsByInstitution(institutionId, pageable);
+        ApiResponse<Page<BankReconciliationJobResponse>> response = ApiResponse.success("Bank reconciliation jobs retrieved successfully", jobs);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Download the unmatched statement lines of a reconciliation job
+     */
+    @GetMapping(value = "/jobs/{jobId}/unmatched", produces = "text/csv")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Download unmatched items", description = "CSV of statement lines that matched no pending payment, with the reason")
+    public ResponseEntity<Resource> downloadUnmatched(@Parameter(description = "Job ID") @PathVariable Long jobId) {
+        Path report = bankReconciliationService.getUnmatchedReport(jobId);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"bank-reconciliation-" + jobId + "-unmatched.csv\"")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(new FileSystemResource(report));
+    }
+}
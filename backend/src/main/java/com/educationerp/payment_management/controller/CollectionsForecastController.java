@@ -0,0 +1,55 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.CollectionsForecastResponse;
+import com.educationerp.payment_management.service.CollectionsForecastService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for collections forecasts
+ * Forecasts are computed for all institutions at once and served from memory until plans change
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/payment/collections-forecast")
+@Tag(name = "Collections Forecast", description = "Projected installment receipts and revenue at risk")
+public class CollectionsForecastController {
+
+    @Autowired
+    private CollectionsForecastService collectionsForecastService;
+
+    /**
+     * Get the collections forecast of an institution
+     */
+    @GetMapping("/institutions/{institutionId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Get collections forecast",
+            description = "Scheduled and expected installment receipts per week and month, discounted by the students' payment history")
+    public ResponseEntity<ApiResponse<CollectionsForecastResponse>> getInstitutionForecast(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId) {
+
+        CollectionsForecastResponse forecast = collectionsForecastService.getInstitutionForecast(institutionId);
+        ApiResponse<CollectionsForecastResponse> response = ApiResponse.success("Collections forecast retrieved successfully", forecast);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recompute the collections forecast
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Rebuild collections forecast", description = "Recompute the forecast of all institutions from the active plans")
+    public ResponseEntity<ApiResponse<Void>> rebuild() {
+        collectionsForecastService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success("Collections forecast rebuilt successfully", null));
+    }
+}
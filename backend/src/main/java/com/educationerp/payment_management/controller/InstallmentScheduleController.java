@@ -0,0 +1,106 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.InstallmentScheduleBatchRequest;
+import com.educationerp.payment_management.dto.InstallmentScheduleBatchResponse;
+import com.educationerp.payment_management.dto.InstallmentScheduleResponse;
+import com.educationerp.payment_management.dto.InstallmentWhatIfRequest;
+import com.educationerp.payment_management.service.InstallmentScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for installment schedules
+ * Schedules are amortized from a plan's terms and materialized as installment payments; what-if schedules
+ * are only computed
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/payment/installment-schedules")
+@Tag(name = "Installment Schedules", description = "Amortized installment schedules of installment plans")
+public class InstallmentScheduleController {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstallmentScheduleController.class);
+
+    @Autowired
+    private InstallmentScheduleService installmentScheduleService;
+
+    /**
+     * Get installment schedule of a plan
+     */
+    @GetMapping("/plans/{planId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get installment schedule", description = "Retrieve the dated installments of a plan with their principal and interest")
+    public ResponseEntity<ApiResponse<InstallmentScheduleResponse>> getSchedule(
+            @Parameter(description = "Installment plan ID") @PathVariable Long planId) {
+
+        InstallmentScheduleResponse schedule = installmentScheduleService.getSchedule(planId);
+        ApiResponse<InstallmentScheduleResponse> response = ApiResponse.success("Installment schedule retrieved successfully", schedule);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Materialize installment schedule of a plan
+     */
+    @PostMapping("/plans/{planId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Materialize installment schedule",
+            description = "Create a pending installment payment for every unpaid installment of the plan's schedule")
+    public ResponseEntity<ApiResponse<InstallmentScheduleResponse>> materializeSchedule(
+            @Parameter(description = "Installment plan ID") @PathVariable Long planId) {
+        logger.info("Installment schedule materialization request received for plan: {}", planId);
+
+        InstallmentScheduleResponse schedule = installmentScheduleService.materializeSchedule(planId);
+        ApiResponse<InstallmentScheduleResponse> response = ApiResponse.success("Installment schedule created successfully", schedule);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Materialize installment schedules of many plans
+     */
+    @PostMapping("/plans")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Materialize installment schedules",
+            description = "Schedule many plans at once; plans that already have a schedule or cannot be scheduled are skipped")
+    public ResponseEntity<ApiResponse<InstallmentScheduleBatchResponse>> materializeSchedules(
+            @Valid @RequestBody InstallmentScheduleBatchRequest request) {
+        logger.info("Installment schedule materialization request received for {} plans", request.getPlanIds().size());
+
+        InstallmentScheduleBatchResponse result = installmentScheduleService.materializeSchedules(request);
+        ApiResponse<InstallmentScheduleBatchResponse> response = ApiResponse.success("Installment schedules created successfully", result);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Compute what-if installment schedules
+     */
+    @PostMapping("/what-if")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Compute what-if schedules",
+            description = "Compare the schedule of the base terms with alternative down payments, rates, frequencies and " +
+                    "installment counts; nothing is saved")
+    public ResponseEntity<ApiResponse<List<InstallmentScheduleResponse>>> whatIf(
+            @Valid @RequestBody InstallmentWhatIfRequest request) {
+
+        List<InstallmentScheduleResponse> schedules = installmentScheduleService.whatIf(request);
+        ApiResponse<List<InstallmentScheduleResponse>> response = ApiResponse.success("What-if schedules computed successfully", schedules);
+
+        return ResponseEntity.ok(response);
+    }
+}
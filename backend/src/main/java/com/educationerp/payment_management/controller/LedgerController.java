@@ -0,0 +1,83 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.LedgerBalanceResponse;
+import com.educationerp.payment_management.dto.LedgerStatementResponse;
+import com.educationerp.payment_management.service.LedgerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST controller for student ledgers
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/payment/ledger")
+@Tag(name = "Student Ledger", description = "Student account balances and statements")
+public class LedgerController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerController.class);
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    /**
+     * Get the balance of a student
+     */
+    @GetMapping("/students/{studentId}/balance")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Get student balance", description = "Current receivable balance from the latest ledger snapshot and the entries after it")
+    public ResponseEntity<ApiResponse<LedgerBalanceResponse>> getBalance(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        LedgerBalanceResponse balance = ledgerService.getBalance(studentId);
+        ApiResponse<LedgerBalanceResponse> response = ApiResponse.success("Student balance retrieved successfully", balance);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get a statement of a student's ledger
+     */
+    @GetMapping("/students/{studentId}/statement")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Get student statement", description = "Ledger entries of a date range with opening, running and closing balances")
+    public ResponseEntity<ApiResponse<LedgerStatementResponse>> getStatement(
+            @Parameter(description = "Student ID") @PathVariable Long studentId,
+            @Parameter(description = "First day of the statement") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the statement") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LedgerStatementResponse statement = ledgerService.getStatement(studentId, from, to);
+        ApiResponse<LedgerStatementResponse> response = ApiResponse.success("Student statement retrieved successfully", statement);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reconcile a student's ledger with the payment records
+     */
+    @PostMapping("/students/{studentId}/reconcile")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Reconcile student ledger", description = "Append the entries missing for the student's payments, installment plans and product sales")
+    public ResponseEntity<ApiResponse<LedgerBalanceResponse>> reconcile(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+        logger.info("Ledger reconciliation requested for student: {}", studentId);
+
+        LedgerBalanceResponse balance = ledgerService.reconcileStudent(studentId);
+        ApiResponse<LedgerBalanceResponse> response = ApiResponse.success("Student ledger reconciled successfully", balance);
+
+        return ResponseEntity.ok(response);
+    }
+}
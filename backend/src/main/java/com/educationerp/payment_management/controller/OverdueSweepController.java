@@ -0,0 +1,62 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.OverdueSweepResponse;
+import com.educationerp.payment_management.service.OverdueSweepService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for overdue installment sweeps
+ * Sweeps run on their own as due dates expire; these endpoints show their outcome and rerun a day
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/payment/overdue-sweeps")
+@Tag(name = "Overdue Sweeps", description = "Overdue installment plans and late fees by due date")
+public class OverdueSweepController {
+
+    @Autowired
+    private OverdueSweepService overdueSweepService;
+
+    /**
+     * Get the latest overdue sweeps
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Get overdue sweeps", description = "Leases and outcomes of the latest sweeps by due date")
+    public ResponseEntity<ApiResponse<List<OverdueSweepResponse>>> getRecentSweeps(
+            @Parameter(description = "Maximum number of sweeps") @RequestParam(defaultValue = "30") int limit) {
+
+        List<OverdueSweepResponse> sweeps = overdueSweepService.getRecentSweeps(limit);
+        ApiResponse<List<OverdueSweepResponse>> response = ApiResponse.success("Overdue sweeps retrieved successfully", sweeps);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Sweep the installments due on a day
+     */
+    @PostMapping("/{dueDate}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Sweep a due date", description = "Mark the plans of a past due date's open installments overdue and charge missing late fees")
+    public ResponseEntity<ApiResponse<OverdueSweepResponse>> sweep(
+            @Parameter(description = "Due date") @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDate) {
+
+        OverdueSweepResponse sweep = overdueSweepService.sweep(dueDate);
+        ApiResponse<OverdueSweepResponse> response = ApiResponse.success("Overdue sweep completed successfully", sweep);
+
+        return ResponseEntity.ok(response);
+    }
+}
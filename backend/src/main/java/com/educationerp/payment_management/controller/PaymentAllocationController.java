@@ -0,0 +1,87 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.PaymentAllocationRequest;
+import com.educationerp.payment_management.dto.PaymentAllocationResponse;
+import com.educationerp.payment_management.dto.ReceiptAllocationRequest;
+import com.educationerp.payment_management.service.PaymentAllocationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for allocating lump-sum payments across installments, product distributions and open payments
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/payment/allocations")
+@Tag(name = "Payment Allocation", description = "Allocation of received payments across open obligations")
+public class PaymentAllocationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentAllocationController.class);
+
+    @Autowired
+    private PaymentAllocationService paymentAllocationService;
+
+    /**
+     * Allocate a student's lump-sum payment
+     */
+    @PostMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Allocate student payment",
+            description = "Settle the student's open installments, product distributions and payments in the order of the " +
+                    "allocation policy; with preview set the allocation is returned without being applied")
+    public ResponseEntity<ApiResponse<PaymentAllocationResponse>> allocateStudentPayment(
+            @Parameter(description = "Student ID") @PathVariable Long studentId,
+            @Valid @RequestBody PaymentAllocationRequest request) {
+        logger.info("Payment allocation request received for student: {}", studentId);
+
+        PaymentAllocationResponse allocation = paymentAllocationService.allocateStudentPayment(studentId, request);
+        ApiResponse<PaymentAllocationResponse> response = ApiResponse.success("Payment allocated successfully", allocation);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Allocate a branch's day of cash receipts
+     */
+    @PostMapping("/branches/{branchId}/receipts")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Allocate branch receipts",
+            description = "Allocate a batch of receipts of the branch's students in one pass; receipts are applied in request order")
+    public ResponseEntity<ApiResponse<PaymentAllocationResponse>> allocateBranchReceipts(
+            @Parameter(description = "Branch ID") @PathVariable Long branchId,
+            @Valid @RequestBody ReceiptAllocationRequest request) {
+        logger.info("Receipt allocation request received for branch: {}", branchId);
+
+        PaymentAllocationResponse allocation = paymentAllocationService.allocateBranchReceipts(branchId, request);
+        ApiResponse<PaymentAllocationResponse> response = ApiResponse.success("Receipts allocated successfully", allocation);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get available allocation policies
+     */
+    @GetMapping("/policies")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get allocation policies", description = "Retrieve the names of the available allocation policies")
+    public ResponseEntity<ApiResponse<List<String>>> getPolicies() {
+
+        List<String> policies = paymentAllocationService.getPolicyNames();
+        ApiResponse<List<String>> response = ApiResponse.success("Allocation policies retrieved successfully", policies);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,63 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.payment_management.dto.GatewayCallbackAck;
+import com.educationerp.payment_management.service.PaymentGatewayCallbackService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller receiving payment gateway callbacks
+ * Gateways cannot send user credentials, so the endpoint is public and callbacks are authenticated
+ * by the HMAC-SHA256 signature of their body
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/public/payment-gateway")
+@Tag(name = "Payment Gateway", description = "Callbacks of online and mobile payment gateways")
+public class PaymentGatewayCallbackController {
+
+    private static final String SIGNATURE_HEADER = "X-Gateway-Signature";
+
+    @Autowired
+    private PaymentGatewayCallbackService paymentGatewayCallbackService;
+
+    /**
+     * Receive a gateway callback
+     */
+    @PostMapping("/callbacks")
+    @Operation(summary = "Receive gateway callback", description = "Acknowledge a signed transaction outcome once it is journaled; duplicates are acknowledged without being applied again")
+    public ResponseEntity<ApiResponse<GatewayCallbackAck>> receiveCallback(
+            @Parameter(description = "Hex HMAC-SHA256 of the body") @RequestHeader(value = SIGNATURE_HEADER, required = false) String signature,
+            @RequestBody String body) {
+
+        if (!paymentGatewayCallbackService.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("Payment gateway callbacks are not configured"));
+        }
+        if (!paymentGatewayCallbackService.isSignatureValid(body, signature)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.error("Invalid gateway signature"));
+        }
+
+        GatewayCallbackAck ack;
+        try {
+            ack = paymentGatewayCallbackService.ingest(body);
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+
+        if (ack.getStatus() == GatewayCallbackAck.AckStatus.RETRY) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("Callback could not be recorded, please retry"));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Callback received", ack));
+    }
+}
@@ -0,0 +1,93 @@
+package com.educationerp.payment_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.payment_management.dto.RevenueRollupRebuildResponse;
+import com.educationerp.payment_management.dto.RevenueRollupResponse;
+import com.educationerp.payment_management.dto.RevenueRollupResponse.Dimension;
+import com.educationerp.payment_management.dto.RevenueRollupResponse.Granularity;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.service.RevenueRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for revenue reports
+ * Totals of any period are combined from the daily revenue rollups
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/reports/revenue")
+@Tag(name = "Revenue Reports", description = "Payment totals by period, branch, type, method and status")
+public class RevenueRollupController {
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    /**
+     * Get payment totals of an institution
+     */
+    @GetMapping("/institutions/{institutionId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('ACCOUNTANT') or hasRole('REPORT_VIEWER')")
+    @Operation(summary = "Get revenue", description = "Payment counts and amounts of a date range per day, month or year, optionally grouped by dimensions")
+    public ResponseEntity<ApiResponse<RevenueRollupResponse>> getRevenue(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "First payment date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment date") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Period of the rows; TOTAL combines the whole range") @RequestParam(defaultValue = "MONTH") Granularity granularity,
+            @Parameter(description = "Dimensions to group by") @RequestParam(required = false) List<Dimension> groupBy,
+            @Parameter(description = "Branch ID") @RequestParam(required = false) Long branchId,
+            @Parameter(description = "Payment type") @RequestParam(required = false) Payment.PaymentType paymentType,
+            @Parameter(description = "Payment method") @RequestParam(required = false) Payment.PaymentMethod paymentMethod,
+            @Parameter(description = "Payment status") @RequestParam(required = false) Payment.PaymentStatus status) {
+
+        RevenueRollupResponse revenue = revenueRollupService.getRevenue(institutionId, from, to, granularity, groupBy,
+                branchId, paymentType, paymentMethod, status);
+        ApiResponse<RevenueRollupResponse> response = ApiResponse.success("Revenue retrieved successfully", revenue);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuild the revenue rollups of an institution
+     */
+    @PostMapping("/institutions/{institutionId}/rebuild")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Rebuild revenue rollups", description = "Recompute the daily rollups from the payments; the whole payment history when no range is given")
+    public ResponseEntity<ApiResponse<RevenueRollupRebuildResponse>> rebuild(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "First payment date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last payment date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        RevenueRollupRebuildResponse rebuild = revenueRollupService.rebuild(institutionId, from, to);
+        ApiResponse<RevenueRollupRebuildResponse> response = ApiResponse.success("Revenue rollup rebuild started", rebuild);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get the progress of the latest revenue rollup rebuild
+     */
+    @GetMapping("/institutions/{institutionId}/rebuild")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('ACCOUNTANT')")
+    @Operation(summary = "Get rebuild progress", description = "Status and progress of the institution's latest rollup rebuild")
+    public ResponseEntity<ApiResponse<RevenueRollupRebuildResponse>> getRebuild(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId) {
+
+        RevenueRollupRebuildResponse rebuild = revenueRollupService.getRebuild(institutionId);
+        ApiResponse<RevenueRollupRebuildResponse> response = ApiResponse.success("Revenue rollup rebuild retrieved successfully", rebuild);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,215 @@
+package com.educationerp.payment_management.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for accounts-receivable aging of an institution or a student by days past the payment due date
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class ArAgingResponse {
+
+    private Long institutionId;
+    private Long studentId;
+    private LocalDate asOf;
+    private List<BucketTotal> buckets;
+    private BigDecimal totalAmount;
+    private BigDecimal pastDueAmount;
+    private Integer openItems;
+    private Integer studentCount;
+    private List<StudentAging> students;
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public ArAgingResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+
+    public List<BucketTotal> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<BucketTotal> buckets) {
+        this.buckets = buckets;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public BigDecimal getPastDueAmount() {
+        return pastDueAmount;
+    }
+
+    public void setPastDueAmount(BigDecimal pastDueAmount) {
+        this.pastDueAmount = pastDueAmount;
+    }
+
+    public Integer getOpenItems() {
+        return openItems;
+    }
+
+    public void setOpenItems(Integer openItems) {
+        this.openItems = openItems;
+    }
+
+    public Integer getStudentCount() {
+        return studentCount;
+    }
+
+    public void setStudentCount(Integer studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public List<StudentAging> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentAging> students) {
+        this.students = students;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * Open items and amount of one aging bucket
+     */
+    public static class BucketTotal {
+
+        private Bucket bucket;
+        private Integer itemCount;
+        private BigDecimal amount;
+
+        public BucketTotal() {
+        }
+
+        public BucketTotal(Bucket bucket, Integer itemCount, BigDecimal amount) {
+            this.bucket = bucket;
+            this.itemCount = itemCount;
+            this.amount = amount;
+        }
+
+        public Bucket getBucket() {
+            return bucket;
+        }
+
+        public void setBucket(Bucket bucket) {
+            this.bucket = bucket;
+        }
+
+        public Integer getItemCount() {
+            return itemCount;
+        }
+
+        public void setItemCount(Integer itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * Aging of one student's open items
+     */
+    public static class StudentAging {
+
+        private Long studentId;
+        private Map<Bucket, BigDecimal> amounts;
+        private BigDecimal totalAmount;
+        private BigDecimal pastDueAmount;
+        private Integer openItems;
+
+        public StudentAging() {
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public void setStudentId(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        public Map<Bucket, BigDecimal> getAmounts() {
+            return amounts;
+        }
+
+        public void setAmounts(Map<Bucket, BigDecimal> amounts) {
+            this.amounts = amounts;
+        }
+
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        public void setTotalAmount(BigDecimal totalAmount) {
+            this.totalAmount = totalAmount;
+        }
+
+        public BigDecimal getPastDueAmount() {
+            return pastDueAmount;
+        }
+
+        public void setPastDueAmount(BigDecimal pastDueAmount) {
+            this.pastDueAmount = pastDueAmount;
+        }
+
+        public Integer getOpenItems() {
+            return openItems;
+        }
+
+        public void setOpenItems(Integer openItems) {
+            this.openItems = openItems;
+        }
+    }
+
+    // Enums
+    public enum Bucket {
+        CURRENT, DAYS_1_30, DAYS_31_60, DAYS_61_90, DAYS_OVER_90
+    }
+}
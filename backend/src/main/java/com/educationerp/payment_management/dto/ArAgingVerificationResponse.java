@@ -0,0 +1,77 @@
+package com.educationerp.payment_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the outcome of an aging consistency check against the payments table
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class ArAgingVerificationResponse {
+
+    private Integer checkedInstitutions;
+    private Integer openItems;
+    private List<Long> driftedInstitutionIds;
+    private Boolean rebuilt;
+    private Long elapsedMillis;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime verifiedAt;
+
+    // Constructors
+    public ArAgingVerificationResponse() {
+    }
+
+    // Getters and Setters
+    public Integer getCheckedInstitutions() {
+        return checkedInstitutions;
+    }
+
+    public void setCheckedInstitutions(Integer checkedInstitutions) {
+        this.checkedInstitutions = checkedInstitutions;
+    }
+
+    public Integer getOpenItems() {
+        return openItems;
+    }
+
+    public void setOpenItems(Integer openItems) {
+        this.openItems = openItems;
+    }
+
+    public List<Long> getDriftedInstitutionIds() {
+        return driftedInstitutionIds;
+    }
+
+    public void setDriftedInstitutionIds(List<Long> driftedInstitutionIds) {
+        this.driftedInstitutionIds = driftedInstitutionIds;
+    }
+
+    public Boolean getRebuilt() {
+        return rebuilt;
+    }
+
+    public void setRebuilt(Boolean rebuilt) {
+        this.rebuilt = rebuilt;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public LocalDateTime getVerifiedAt() {
+        return verifiedAt;
+    }
+
+    public void setVerifiedAt(LocalDateTime verifiedAt) {
+        this.verifiedAt = verifiedAt;
+    }
+}
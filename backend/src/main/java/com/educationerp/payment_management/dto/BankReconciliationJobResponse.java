@@ -0,0 +1,172 @@
+package com.educationerp.payment_management.dto;
+
+import com.educationerp.payment_management.entity.BankReconciliationJob;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the status and outcome of a bank statement reconciliation
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class BankReconciliationJobResponse {
+
+    private Long id;
+    private Long institutionId;
+    private String fileName;
+    private BankReconciliationJob.ReconciliationStatus status;
+    private Integer dateWindowDays;
+    private Long fileSize;
+    private Integer statementLines;
+    private Integer exactMatches;
+    private Integer fuzzyMatches;
+    private Integer unmatchedLines;
+    private BigDecimal matchedAmount;
+    private Boolean reportAvailable;
+    private String errorMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdDate;
+
+    // Constructors
+    public BankReconciliationJobResponse() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public BankReconciliationJob.ReconciliationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BankReconciliationJob.ReconciliationStatus status) {
+        this.status = status;
+    }
+
+    public Integer getDateWindowDays() {
+        return dateWindowDays;
+    }
+
+    public void setDateWindowDays(Integer dateWindowDays) {
+        this.dateWindowDays = dateWindowDays;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Integer getStatementLines() {
+        return statementLines;
+    }
+
+    public void setStatementLines(Integer statementLines) {
+        this.statementLines = statementLines;
+    }
+
+    public Integer getExactMatches() {
+        return exactMatches;
+    }
+
+    public void setExactMatches(Integer exactMatches) {
+        this.exactMatches = exactMatches;
+    }
+
+    public Integer getFuzzyMatches() {
+        return fuzzyMatches;
+    }
+
+    public void setFuzzyMatches(Integer fuzzyMatches) {
+        this.fuzzyMatches = fuzzyMatches;
+    }
+
+    public Integer getUnmatchedLines() {
+        return unmatchedLines;
+    }
+
+    public void setUnmatchedLines(Integer unmatchedLines) {
+        this.unmatchedLines = unmatchedLines;
+    }
+
+    public BigDecimal getMatchedAmount() {
+        return matchedAmount;
+    }
+
+    public void setMatchedAmount(BigDecimal matchedAmount) {
+        this.matchedAmount = matchedAmount;
+    }
+
+    public Boolean getReportAvailable() {
+        return reportAvailable;
+    }
+
+    public void setReportAvailable(Boolean reportAvailable) {
+        this.reportAvailable = reportAvailable;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedDate() {
+        return startedDate;
+    }
+
+    public void setStartedDate(LocalDateTime startedDate) {
+        this.startedDate = startedDate;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,201 @@
+package com.educationerp.payment_management.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the projected installment receipts of an institution per week and month, with the share at risk from students' payment history
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class CollectionsForecastResponse {
+
+    private Long institutionId;
+    private LocalDate asOf;
+    private Integer horizonMonths;
+    private Integer planCount;
+    private Integer studentCount;
+    private BigDecimal scheduledAmount;
+    private BigDecimal expectedAmount;
+    private BigDecimal revenueAtRisk;
+    private BigDecimal arrearsAmount;
+    private List<Period> weeks;
+    private List<Period> months;
+    private Boolean stale;
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public CollectionsForecastResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+
+    public Integer getHorizonMonths() {
+        return horizonMonths;
+    }
+
+    public void setHorizonMonths(Integer horizonMonths) {
+        this.horizonMonths = horizonMonths;
+    }
+
+    public Integer getPlanCount() {
+        return planCount;
+    }
+
+    public void setPlanCount(Integer planCount) {
+        this.planCount = planCount;
+    }
+
+    public Integer getStudentCount() {
+        return studentCount;
+    }
+
+    public void setStudentCount(Integer studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public BigDecimal getScheduledAmount() {
+        return scheduledAmount;
+    }
+
+    public void setScheduledAmount(BigDecimal scheduledAmount) {
+        this.scheduledAmount = scheduledAmount;
+    }
+
+    public BigDecimal getExpectedAmount() {
+        return expectedAmount;
+    }
+
+    public void setExpectedAmount(BigDecimal expectedAmount) {
+        this.expectedAmount = expectedAmount;
+    }
+
+    public BigDecimal getRevenueAtRisk() {
+        return revenueAtRisk;
+    }
+
+    public void setRevenueAtRisk(BigDecimal revenueAtRisk) {
+        this.revenueAtRisk = revenueAtRisk;
+    }
+
+    public BigDecimal getArrearsAmount() {
+        return arrearsAmount;
+    }
+
+    public void setArrearsAmount(BigDecimal arrearsAmount) {
+        this.arrearsAmount = arrearsAmount;
+    }
+
+    public List<Period> getWeeks() {
+        return weeks;
+    }
+
+    public void setWeeks(List<Period> weeks) {
+        this.weeks = weeks;
+    }
+
+    public List<Period> getMonths() {
+        return months;
+    }
+
+    public void setMonths(List<Period> months) {
+        this.months = months;
+    }
+
+    public Boolean getStale() {
+        return stale;
+    }
+
+    public void setStale(Boolean stale) {
+        this.stale = stale;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * Scheduled and expected receipts of one week or month of the horizon
+     */
+    public static class Period {
+
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private BigDecimal scheduledAmount;
+        private BigDecimal expectedAmount;
+        private BigDecimal atRiskAmount;
+
+        public Period() {
+        }
+
+        public Period(LocalDate startDate, LocalDate endDate, BigDecimal scheduledAmount, BigDecimal expectedAmount, BigDecimal atRiskAmount) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.scheduledAmount = scheduledAmount;
+            this.expectedAmount = expectedAmount;
+            this.atRiskAmount = atRiskAmount;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public void setStartDate(LocalDate startDate) {
+            this.startDate = startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public void setEndDate(LocalDate endDate) {
+            this.endDate = endDate;
+        }
+
+        public BigDecimal getScheduledAmount() {
+            return scheduledAmount;
+        }
+
+        public void setScheduledAmount(BigDecimal scheduledAmount) {
+            this.scheduledAmount = scheduledAmount;
+        }
+
+        public BigDecimal getExpectedAmount() {
+            return expectedAmount;
+        }
+
+        public void setExpectedAmount(BigDecimal expectedAmount) {
+            this.expectedAmount = expectedAmount;
+        }
+
+        public BigDecimal getAtRiskAmount() {
+            return atRiskAmount;
+        }
+
+        public void setAtRiskAmount(BigDecimal atRiskAmount) {
+            this.atRiskAmount = atRiskAmount;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.educationerp.payment_management.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO acknowledging a payment gateway callback
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class GatewayCallbackAck {
+
+    private String transactionId;
+    private AckStatus status;
+    private Long sequence;
+    private LocalDateTime receivedAt;
+
+    // Constructors
+    public GatewayCallbackAck() {
+    }
+
+    // Getters and Setters
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public AckStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AckStatus status) {
+        this.status = status;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(LocalDateTime receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    // Enums
+    public enum AckStatus {
+        ACCEPTED, DUPLICATE, RETRY
+    }
+}
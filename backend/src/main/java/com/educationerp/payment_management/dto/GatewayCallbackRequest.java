@@ -0,0 +1,89 @@
+package com.educationerp.payment_management.dto;
+
+import com.educationerp.payment_management.entity.Payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a payment gateway callback reporting the outcome of a transaction
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class GatewayCallbackRequest {
+
+    private String transactionId;
+    private Long institutionId;
+    private String paymentReference;
+    private CallbackStatus status;
+    private BigDecimal amount;
+    private Payment.PaymentMethod paymentMethod;
+    private LocalDateTime occurredAt;
+
+    // Constructors
+    public GatewayCallbackRequest() {
+    }
+
+    // Getters and Setters
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public String getPaymentReference() {
+        return paymentReference;
+    }
+
+    public void setPaymentReference(String paymentReference) {
+        this.paymentReference = paymentReference;
+    }
+
+    public CallbackStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CallbackStatus status) {
+        this.status = status;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Payment.PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(Payment.PaymentMethod paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    // Enums
+    public enum CallbackStatus {
+        SUCCEEDED, FAILED, REFUNDED
+    }
+}
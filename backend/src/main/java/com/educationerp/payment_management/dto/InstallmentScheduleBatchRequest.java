@@ -0,0 +1,30 @@
+package com.educationerp.payment_management.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * DTO for materializing the installment schedules of many plans at once
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class InstallmentScheduleBatchRequest {
+
+    @NotEmpty(message = "At least one plan ID is required")
+    private List<Long> planIds;
+
+    // Constructors
+    public InstallmentScheduleBatchRequest() {
+    }
+
+    // Getters and Setters
+    public List<Long> getPlanIds() {
+        return planIds;
+    }
+
+    public void setPlanIds(List<Long> planIds) {
+        this.planIds = planIds;
+    }
+}
@@ -0,0 +1,61 @@
+package com.educationerp.payment_management.dto;
+
+/**
+ * DTO for the outcome of a bulk installment schedule materialization
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class InstallmentScheduleBatchResponse {
+
+    private Integer requestedPlans;
+    private Integer scheduledPlans;
+    private Integer skippedPlans;
+    private Integer installmentsCreated;
+    private Long durationMs;
+
+    // Constructors
+    public InstallmentScheduleBatchResponse() {
+    }
+
+    // Getters and Setters
+    public Integer getRequestedPlans() {
+        return requestedPlans;
+    }
+
+    public void setRequestedPlans(Integer requestedPlans) {
+        this.requestedPlans = requestedPlans;
+    }
+
+    public Integer getScheduledPlans() {
+        return scheduledPlans;
+    }
+
+    public void setScheduledPlans(Integer scheduledPlans) {
+        this.scheduledPlans = scheduledPlans;
+    }
+
+    public Integer getSkippedPlans() {
+        return skippedPlans;
+    }
+
+    public void setSkippedPlans(Integer skippedPlans) {
+        this.skippedPlans = skippedPlans;
+    }
+
+    public Integer getInstallmentsCreated() {
+        return installmentsCreated;
+    }
+
+    public void setInstallmentsCreated(Integer installmentsCreated) {
+        this.installmentsCreated = installmentsCreated;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
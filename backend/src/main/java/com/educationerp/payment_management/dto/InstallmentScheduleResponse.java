@@ -0,0 +1,230 @@
+package com.educationerp.payment_management.dto;
+
+import com.educationerp.payment_management.entity.InstallmentPlan;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for the dated installment schedule of a plan or what-if scenario
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class InstallmentScheduleResponse {
+
+    private Long planId;
+    private String planCode;
+    private String scenario;
+    private BigDecimal principal;
+    private BigDecimal downPayment;
+    private BigDecimal interestRate;
+    private InstallmentPlan.InstallmentFrequency frequency;
+    private Integer numberOfInstallments;
+    private BigDecimal installmentAmount;
+    private BigDecimal totalInterest;
+    private BigDecimal totalPayable;
+    private LocalDate firstDueDate;
+    private LocalDate lastDueDate;
+    private Boolean materialized;
+    private List<Installment> installments;
+
+    // Constructors
+    public InstallmentScheduleResponse() {
+    }
+
+    // Getters and Setters
+    public Long getPlanId() {
+        return planId;
+    }
+
+    public void setPlanId(Long planId) {
+        this.planId = planId;
+    }
+
+    public String getPlanCode() {
+        return planCode;
+    }
+
+    public void setPlanCode(String planCode) {
+        this.planCode = planCode;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public void setScenario(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    public void setPrincipal(BigDecimal principal) {
+        this.principal = principal;
+    }
+
+    public BigDecimal getDownPayment() {
+        return downPayment;
+    }
+
+    public void setDownPayment(BigDecimal downPayment) {
+        this.downPayment = downPayment;
+    }
+
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    public void setInterestRate(BigDecimal interestRate) {
+        this.interestRate = interestRate;
+    }
+
+    public InstallmentPlan.InstallmentFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(InstallmentPlan.InstallmentFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public Integer getNumberOfInstallments() {
+        return numberOfInstallments;
+    }
+
+    public void setNumberOfInstallments(Integer numberOfInstallments) {
+        this.numberOfInstallments = numberOfInstallments;
+    }
+
+    public BigDecimal getInstallmentAmount() {
+        return installmentAmount;
+    }
+
+    public void setInstallmentAmount(BigDecimal installmentAmount) {
+        this.installmentAmount = installmentAmount;
+    }
+
+    public BigDecimal getTotalInterest() {
+        return totalInterest;
+    }
+
+    public void setTotalInterest(BigDecimal totalInterest) {
+        this.totalInterest = totalInterest;
+    }
+
+    public BigDecimal getTotalPayable() {
+        return totalPayable;
+    }
+
+    public void setTotalPayable(BigDecimal totalPayable) {
+        this.totalPayable = totalPayable;
+    }
+
+    public LocalDate getFirstDueDate() {
+        return firstDueDate;
+    }
+
+    public void setFirstDueDate(LocalDate firstDueDate) {
+        this.firstDueDate = firstDueDate;
+    }
+
+    public LocalDate getLastDueDate() {
+        return lastDueDate;
+    }
+
+    public void setLastDueDate(LocalDate lastDueDate) {
+        this.lastDueDate = lastDueDate;
+    }
+
+    public Boolean getMaterialized() {
+        return materialized;
+    }
+
+    public void setMaterialized(Boolean materialized) {
+        this.materialized = materialized;
+    }
+
+    public List<Installment> getInstallments() {
+        return installments;
+    }
+
+    public void setInstallments(List<Installment> installments) {
+        this.installments = installments;
+    }
+
+    /**
+     * One dated installment of a schedule
+     */
+    public static class Installment {
+
+        private Integer number;
+        private LocalDate dueDate;
+        private BigDecimal amount;
+        private BigDecimal principal;
+        private BigDecimal interest;
+        private BigDecimal remainingBalance;
+        private Boolean paid;
+
+        public Installment() {
+        }
+
+        public Integer getNumber() {
+            return number;
+        }
+
+        public void setNumber(Integer number) {
+            this.number = number;
+        }
+
+        public LocalDate getDueDate() {
+            return dueDate;
+        }
+
+        public void setDueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public BigDecimal getPrincipal() {
+            return principal;
+        }
+
+        public void setPrincipal(BigDecimal principal) {
+            this.principal = principal;
+        }
+
+        public BigDecimal getInterest() {
+            return interest;
+        }
+
+        public void setInterest(BigDecimal interest) {
+            this.interest = interest;
+        }
+
+        public BigDecimal getRemainingBalance() {
+            return remainingBalance;
+        }
+
+        public void setRemainingBalance(BigDecimal remainingBalance) {
+            this.remainingBalance = remainingBalance;
+        }
+
+        public Boolean getPaid() {
+            return paid;
+        }
+
+        public void setPaid(Boolean paid) {
+            this.paid = paid;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.educationerp.payment_management.dto;
+
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for computing alternative installment schedules without saving them
+ * Base terms are taken from the plan when a plan ID is given, otherwise they must be supplied
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class InstallmentWhatIfRequest {
+
+    private Long planId;
+
+    @DecimalMin(value = "0.01", message = "Total amount must be greater than zero")
+    private BigDecimal totalAmount;
+
+    @DecimalMin(value = "0.00", message = "Down payment must not be negative")
+    private BigDecimal downPayment;
+
+    @DecimalMin(value = "0.00", message = "Interest rate must not be negative")
+    @DecimalMax(value = "999.99", message = "Interest rate must not exceed 999.99")
+    private BigDecimal interestRate;
+
+    @Min(value = 1, message = "Number of installments must be at least 1")
+    @Max(value = 520, message = "Number of installments must not exceed 520")
+    private Integer numberOfInstallments;
+
+    private InstallmentPlan.InstallmentFrequency frequency;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @Valid
+    @Size(max = 20, message = "At most 20 scenarios can be compared")
+    private List<Scenario> scenarios;
+
+    // Constructors
+    public InstallmentWhatIfRequest() {
+    }
+
+    // Getters and Setters
+    public Long getPlanId() {
+        return planId;
+    }
+
+    public void setPlanId(Long planId) {
+        this.planId = planId;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public BigDecimal getDownPayment() {
+        return downPayment;
+    }
+
+    public void setDownPayment(BigDecimal downPayment) {
+        this.downPayment = downPayment;
+    }
+
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    public void setInterestRate(BigDecimal interestRate) {
+        this.interestRate = interestRate;
+    }
+
+    public Integer getNumberOfInstallments() {
+        return numberOfInstallments;
+    }
+
+    public void setNumberOfInstallments(Integer numberOfInstallments) {
+        this.numberOfInstallments = numberOfInstallments;
+    }
+
+    public InstallmentPlan.InstallmentFrequency getFrequency() {
+        return frequency;
+    }
+
+    public void setFrequency(InstallmentPlan.InstallmentFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public List<Scenario> getScenarios() {
+        return scenarios;
+    }
+
+    public void setScenarios(List<Scenario> scenarios) {
+        this.scenarios = scenarios;
+    }
+
+    /**
+     * Alternative terms; fields left empty keep the base terms
+     */
+    public static class Scenario {
+
+        @Size(max = 100, message = "Scenario name must not exceed 100 characters")
+        private String name;
+
+        @DecimalMin(value = "0.00", message = "Down payment must not be negative")
+        private BigDecimal downPayment;
+
+        @DecimalMin(value = "0.00", message = "Interest rate must not be negative")
+        @DecimalMax(value = "999.99", message = "Interest rate must not exceed 999.99")
+        private BigDecimal interestRate;
+
+        @Min(value = 1, message = "Number of installments must be at least 1")
+        @Max(value = 520, message = "Number of installments must not exceed 520")
+        private Integer numberOfInstallments;
+
+        private InstallmentPlan.InstallmentFrequency frequency;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate startDate;
+
+        public Scenario() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public BigDecimal getDownPayment() {
+            return downPayment;
+        }
+
+        public void setDownPayment(BigDecimal downPayment) {
+            this.downPayment = downPayment;
+        }
+
+        public BigDecimal getInterestRate() {
+            return interestRate;
+        }
+
+        public void setInterestRate(BigDecimal interestRate) {
+            this.interestRate = interestRate;
+        }
+
+        public Integer getNumberOfInstallments() {
+            return numberOfInstallments;
+        }
+
+        public void setNumberOfInstallments(Integer numberOfInstallments) {
+            this.numberOfInstallments = numberOfInstallments;
+        }
+
+        public InstallmentPlan.InstallmentFrequency getFrequency() {
+            return frequency;
+        }
+
+        public void setFrequency(InstallmentPlan.InstallmentFrequency frequency) {
+            this.frequency = frequency;
+        }
+
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public void setStartDate(LocalDate startDate) {
+            this.startDate = startDate;
+        }
+    }
+}
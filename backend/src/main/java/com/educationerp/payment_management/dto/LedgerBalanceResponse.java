@@ -0,0 +1,106 @@
+package com.educationerp.payment_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a student's ledger balance
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class LedgerBalanceResponse {
+
+    private Long studentId;
+    private BigDecimal balance;
+    private BigDecimal totalCharged;
+    private BigDecimal totalPaid;
+    private Long throughSequence;
+    private Long snapshotSequence;
+    private Long tailEntries;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime lastPostedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public LedgerBalanceResponse() {
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public BigDecimal getTotalCharged() {
+        return totalCharged;
+    }
+
+    public void setTotalCharged(BigDecimal totalCharged) {
+        this.totalCharged = totalCharged;
+    }
+
+    public BigDecimal getTotalPaid() {
+        return totalPaid;
+    }
+
+    public void setTotalPaid(BigDecimal totalPaid) {
+        this.totalPaid = totalPaid;
+    }
+
+    public Long getThroughSequence() {
+        return throughSequence;
+    }
+
+    public void setThroughSequence(Long throughSequence) {
+        this.throughSequence = throughSequence;
+    }
+
+    public Long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    public void setSnapshotSequence(Long snapshotSequence) {
+        this.snapshotSequence = snapshotSequence;
+    }
+
+    public Long getTailEntries() {
+        return tailEntries;
+    }
+
+    public void setTailEntries(Long tailEntries) {
+        this.tailEntries = tailEntries;
+    }
+
+    public LocalDateTime getLastPostedAt() {
+        return lastPostedAt;
+    }
+
+    public void setLastPostedAt(LocalDateTime lastPostedAt) {
+        this.lastPostedAt = lastPostedAt;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+}
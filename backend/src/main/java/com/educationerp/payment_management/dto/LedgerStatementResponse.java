@@ -0,0 +1,215 @@
+package com.educationerp.payment_management.dto;
+
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a student's ledger statement over a date range
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class LedgerStatementResponse {
+
+    private Long studentId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fromDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate toDate;
+
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private List<Line> lines;
+    private Long snapshotSequence;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public LedgerStatementResponse() {
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public void setOpeningBalance(BigDecimal openingBalance) {
+        this.openingBalance = openingBalance;
+    }
+
+    public BigDecimal getClosingBalance() {
+        return closingBalance;
+    }
+
+    public void setClosingBalance(BigDecimal closingBalance) {
+        this.closingBalance = closingBalance;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<Line> lines) {
+        this.lines = lines;
+    }
+
+    public Long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    public void setSnapshotSequence(Long snapshotSequence) {
+        this.snapshotSequence = snapshotSequence;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * Statement line with the balance after the entry
+     */
+    public static class Line {
+
+        private Long sequence;
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime postedDate;
+
+        private LedgerEntry.EntryType entryType;
+        private LedgerEntry.LedgerAccount debitAccount;
+        private LedgerEntry.LedgerAccount creditAccount;
+        private BigDecimal amount;
+        private BigDecimal balanceChange;
+        private BigDecimal runningBalance;
+        private LedgerEntry.SourceType sourceType;
+        private Long sourceId;
+        private String description;
+
+        public Line() {
+        }
+
+        public Long getSequence() {
+            return sequence;
+        }
+
+        public void setSequence(Long sequence) {
+            this.sequence = sequence;
+        }
+
+        public LocalDateTime getPostedDate() {
+            return postedDate;
+        }
+
+        public void setPostedDate(LocalDateTime postedDate) {
+            this.postedDate = postedDate;
+        }
+
+        public LedgerEntry.EntryType getEntryType() {
+            return entryType;
+        }
+
+        public void setEntryType(LedgerEntry.EntryType entryType) {
+            this.entryType = entryType;
+        }
+
+        public LedgerEntry.LedgerAccount getDebitAccount() {
+            return debitAccount;
+        }
+
+        public void setDebitAccount(LedgerEntry.LedgerAccount debitAccount) {
+            this.debitAccount = debitAccount;
+        }
+
+        public LedgerEntry.LedgerAccount getCreditAccount() {
+            return creditAccount;
+        }
+
+        public void setCreditAccount(LedgerEntry.LedgerAccount creditAccount) {
+            this.creditAccount = creditAccount;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public BigDecimal getBalanceChange() {
+            return balanceChange;
+        }
+
+        public void setBalanceChange(BigDecimal balanceChange) {
+            this.balanceChange = balanceChange;
+        }
+
+        public BigDecimal getRunningBalance() {
+            return runningBalance;
+        }
+
+        public void setRunningBalance(BigDecimal runningBalance) {
+            this.runningBalance = runningBalance;
+        }
+
+        public LedgerEntry.SourceType getSourceType() {
+            return sourceType;
+        }
+
+        public void setSourceType(LedgerEntry.SourceType sourceType) {
+            this.sourceType = sourceType;
+        }
+
+        public Long getSourceId() {
+            return sourceId;
+        }
+
+        public void setSourceId(Long sourceId) {
+            this.sourceId = sourceId;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.educationerp.payment_management.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the lease and outcome of an overdue installment sweep
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class OverdueSweepResponse {
+
+    private LocalDate dueDate;
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastCompletedAt;
+    private Integer overduePlans;
+    private Integer lateFees;
+
+    // Constructors
+    public OverdueSweepResponse() {
+    }
+
+    // Getters and Setters
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public LocalDateTime getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public void setLastStartedAt(LocalDateTime lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public LocalDateTime getLastCompletedAt() {
+        return lastCompletedAt;
+    }
+
+    public void setLastCompletedAt(LocalDateTime lastCompletedAt) {
+        this.lastCompletedAt = lastCompletedAt;
+    }
+
+    public Integer getOverduePlans() {
+        return overduePlans;
+    }
+
+    public void setOverduePlans(Integer overduePlans) {
+        this.overduePlans = overduePlans;
+    }
+
+    public Integer getLateFees() {
+        return lateFees;
+    }
+
+    public void setLateFees(Integer lateFees) {
+        this.lateFees = lateFees;
+    }
+}
@@ -0,0 +1,73 @@
+package com.educationerp.payment_management.dto;
+
+import com.educationerp.payment_management.entity.Payment;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for allocating a lump-sum payment of a student across their open obligations
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class PaymentAllocationRequest {
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be at least 0.01")
+    private BigDecimal amount;
+
+    @Size(max = 100, message = "Receipt number must not exceed 100 characters")
+    private String receiptNumber;
+
+    private String policy;
+    private Payment.PaymentMethod paymentMethod;
+    private Boolean preview = false;
+
+    // Constructors
+    public PaymentAllocationRequest() {
+    }
+
+    // Getters and Setters
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getReceiptNumber() {
+        return receiptNumber;
+    }
+
+    public void setReceiptNumber(String receiptNumber) {
+        this.receiptNumber = receiptNumber;
+    }
+
+    public String getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(String policy) {
+        this.policy = policy;
+    }
+
+    public Payment.PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(Payment.PaymentMethod paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public Boolean getPreview() {
+        return preview;
+    }
+
+    public void setPreview(Boolean preview) {
+        this.preview = preview;
+    }
+}
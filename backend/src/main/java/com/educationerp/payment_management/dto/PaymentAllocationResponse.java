@@ -0,0 +1,243 @@
+package com.educationerp.payment_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the outcome of allocating receipts across open obligations
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class PaymentAllocationResponse {
+
+    private String policy;
+    private Boolean applied;
+    private Integer receiptCount;
+    private Integer settledObligations;
+    private BigDecimal totalReceived;
+    private BigDecimal totalAllocated;
+    private BigDecimal totalUnallocated;
+    private List<ReceiptAllocation> receipts;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public PaymentAllocationResponse() {
+    }
+
+    // Getters and Setters
+    public String getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(String policy) {
+        this.policy = policy;
+    }
+
+    public Boolean getApplied() {
+        return applied;
+    }
+
+    public void setApplied(Boolean applied) {
+        this.applied = applied;
+    }
+
+    public Integer getReceiptCount() {
+        return receiptCount;
+    }
+
+    public void setReceiptCount(Integer receiptCount) {
+        this.receiptCount = receiptCount;
+    }
+
+    public Integer getSettledObligations() {
+        return settledObligations;
+    }
+
+    public void setSettledObligations(Integer settledObligations) {
+        this.settledObligations = settledObligations;
+    }
+
+    public BigDecimal getTotalReceived() {
+        return totalReceived;
+    }
+
+    public void setTotalReceived(BigDecimal totalReceived) {
+        this.totalReceived = totalReceived;
+    }
+
+    public BigDecimal getTotalAllocated() {
+        return totalAllocated;
+    }
+
+    public void setTotalAllocated(BigDecimal totalAllocated) {
+        this.totalAllocated = totalAllocated;
+    }
+
+    public BigDecimal getTotalUnallocated() {
+        return totalUnallocated;
+    }
+
+    public void setTotalUnallocated(BigDecimal totalUnallocated) {
+        this.totalUnallocated = totalUnallocated;
+    }
+
+    public List<ReceiptAllocation> getReceipts() {
+        return receipts;
+    }
+
+    public void setReceipts(List<ReceiptAllocation> receipts) {
+        this.receipts = receipts;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * Allocation of one receipt
+     */
+    public static class ReceiptAllocation {
+
+        private Long studentId;
+        private String receiptNumber;
+        private BigDecimal amount;
+        private BigDecimal allocatedAmount;
+        private BigDecimal unallocatedAmount;
+        private List<Line> lines;
+
+        public ReceiptAllocation() {
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public void setStudentId(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        public String getReceiptNumber() {
+            return receiptNumber;
+        }
+
+        public void setReceiptNumber(String receiptNumber) {
+            this.receiptNumber = receiptNumber;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public BigDecimal getAllocatedAmount() {
+            return allocatedAmount;
+        }
+
+        public void setAllocatedAmount(BigDecimal allocatedAmount) {
+            this.allocatedAmount = allocatedAmount;
+        }
+
+        public BigDecimal getUnallocatedAmount() {
+            return unallocatedAmount;
+        }
+
+        public void setUnallocatedAmount(BigDecimal unallocatedAmount) {
+            this.unallocatedAmount = unallocatedAmount;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * Obligation settled by a receipt
+     */
+    public static class Line {
+
+        private AllocationTargetType targetType;
+        private Long targetId;
+        private Integer installmentNumber;
+        private String description;
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate dueDate;
+
+        private BigDecimal amount;
+
+        public Line() {
+        }
+
+        public AllocationTargetType getTargetType() {
+            return targetType;
+        }
+
+        public void setTargetType(AllocationTargetType targetType) {
+            this.targetType = targetType;
+        }
+
+        public Long getTargetId() {
+            return targetId;
+        }
+
+        public void setTargetId(Long targetId) {
+            this.targetId = targetId;
+        }
+
+        public Integer getInstallmentNumber() {
+            return installmentNumber;
+        }
+
+        public void setInstallmentNumber(Integer installmentNumber) {
+            this.installmentNumber = installmentNumber;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+
+        public LocalDate getDueDate() {
+            return dueDate;
+        }
+
+        public void setDueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * Kind of obligation a receipt settles
+     */
+    public enum AllocationTargetType {
+        INSTALLMENT, PRODUCT_DISTRIBUTION, PAYMENT
+    }
+}
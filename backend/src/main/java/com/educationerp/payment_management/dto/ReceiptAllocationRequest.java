@@ -0,0 +1,128 @@
+package com.educationerp.payment_management.dto;
+
+import com.educationerp.payment_management.entity.Payment;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for allocating a branch's day of cash receipts in one pass
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class ReceiptAllocationRequest {
+
+    @NotNull(message = "Receipt date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate receiptDate;
+
+    @NotEmpty(message = "At least one receipt is required")
+    @Valid
+    private List<Receipt> receipts;
+
+    private String policy;
+    private Payment.PaymentMethod paymentMethod;
+    private Boolean preview = false;
+
+    // Constructors
+    public ReceiptAllocationRequest() {
+    }
+
+    // Getters and Setters
+    public LocalDate getReceiptDate() {
+        return receiptDate;
+    }
+
+    public void setReceiptDate(LocalDate receiptDate) {
+        this.receiptDate = receiptDate;
+    }
+
+    public List<Receipt> getReceipts() {
+        return receipts;
+    }
+
+    public void setReceipts(List<Receipt> receipts) {
+        this.receipts = receipts;
+    }
+
+    public String getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(String policy) {
+        this.policy = policy;
+    }
+
+    public Payment.PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(Payment.PaymentMethod paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public Boolean getPreview() {
+        return preview;
+    }
+
+    public void setPreview(Boolean preview) {
+        this.preview = preview;
+    }
+
+    /**
+     * Cash receipt of one student
+     */
+    public static class Receipt {
+
+        @NotNull(message = "Student ID is required")
+        private Long studentId;
+
+        @NotNull(message = "Amount is required")
+        @DecimalMin(value = "0.01", message = "Amount must be at least 0.01")
+        private BigDecimal amount;
+
+        @Size(max = 100, message = "Receipt number must not exceed 100 characters")
+        private String receiptNumber;
+
+        public Receipt() {
+        }
+
+        public Receipt(Long studentId, BigDecimal amount, String receiptNumber) {
+            this.studentId = studentId;
+            this.amount = amount;
+            this.receiptNumber = receiptNumber;
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public void setStudentId(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public String getReceiptNumber() {
+            return receiptNumber;
+        }
+
+        public void setReceiptNumber(String receiptNumber) {
+            this.receiptNumber = receiptNumber;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.educationerp.payment_management.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the progress of a revenue rollup rebuild
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class RevenueRollupRebuildResponse {
+
+    private Long institutionId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private RebuildStatus status;
+    private Integer totalPartitions;
+    private Integer completedPartitions;
+    private Long rollupRows;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String errorMessage;
+
+    // Constructors
+    public RevenueRollupRebuildResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public RebuildStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RebuildStatus status) {
+        this.status = status;
+    }
+
+    public Integer getTotalPartitions() {
+        return totalPartitions;
+    }
+
+    public void setTotalPartitions(Integer totalPartitions) {
+        this.totalPartitions = totalPartitions;
+    }
+
+    public Integer getCompletedPartitions() {
+        return completedPartitions;
+    }
+
+    public void setCompletedPartitions(Integer completedPartitions) {
+        this.completedPartitions = completedPartitions;
+    }
+
+    public Long getRollupRows() {
+        return rollupRows;
+    }
+
+    public void setRollupRows(Long rollupRows) {
+        this.rollupRows = rollupRows;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    // Enums
+    public enum RebuildStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,203 @@
+package com.educationerp.payment_management.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for payment totals of a date range combined from the daily revenue rollups
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class RevenueRollupResponse {
+
+    private Long institutionId;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private Granularity granularity;
+    private List<Dimension> groupBy;
+    private Map<Dimension, String> filters;
+    private Row total;
+    private List<Row> rows;
+    private Integer rollupRows;
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public RevenueRollupResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public List<Dimension> getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(List<Dimension> groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public Map<Dimension, String> getFilters() {
+        return filters;
+    }
+
+    public void setFilters(Map<Dimension, String> filters) {
+        this.filters = filters;
+    }
+
+    public Row getTotal() {
+        return total;
+    }
+
+    public void setTotal(Row total) {
+        this.total = total;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    public Integer getRollupRows() {
+        return rollupRows;
+    }
+
+    public void setRollupRows(Integer rollupRows) {
+        this.rollupRows = rollupRows;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * Payment totals of one period and combination of the grouped dimensions
+     */
+    public static class Row {
+
+        private LocalDate periodStart;
+        private Map<Dimension, String> values;
+        private Long paymentCount;
+        private BigDecimal grossAmount;
+        private BigDecimal discountAmount;
+        private BigDecimal taxAmount;
+        private BigDecimal finalAmount;
+        private BigDecimal refundAmount;
+
+        public Row() {
+        }
+
+        public LocalDate getPeriodStart() {
+            return periodStart;
+        }
+
+        public void setPeriodStart(LocalDate periodStart) {
+            this.periodStart = periodStart;
+        }
+
+        public Map<Dimension, String> getValues() {
+            return values;
+        }
+
+        public void setValues(Map<Dimension, String> values) {
+            this.values = values;
+        }
+
+        public Long getPaymentCount() {
+            return paymentCount;
+        }
+
+        public void setPaymentCount(Long paymentCount) {
+            this.paymentCount = paymentCount;
+        }
+
+        public BigDecimal getGrossAmount() {
+            return grossAmount;
+        }
+
+        public void setGrossAmount(BigDecimal grossAmount) {
+            this.grossAmount = grossAmount;
+        }
+
+        public BigDecimal getDiscountAmount() {
+            return discountAmount;
+        }
+
+        public void setDiscountAmount(BigDecimal discountAmount) {
+            this.discountAmount = discountAmount;
+        }
+
+        public BigDecimal getTaxAmount() {
+            return taxAmount;
+        }
+
+        public void setTaxAmount(BigDecimal taxAmount) {
+            this.taxAmount = taxAmount;
+        }
+
+        public BigDecimal getFinalAmount() {
+            return finalAmount;
+        }
+
+        public void setFinalAmount(BigDecimal finalAmount) {
+            this.finalAmount = finalAmount;
+        }
+
+        public BigDecimal getRefundAmount() {
+            return refundAmount;
+        }
+
+        public void setRefundAmount(BigDecimal refundAmount) {
+            this.refundAmount = refundAmount;
+        }
+    }
+
+    // Enums
+    public enum Granularity {
+        DAY, MONTH, YEAR, TOTAL
+    }
+
+    public enum Dimension {
+        BRANCH, PAYMENT_TYPE, PAYMENT_METHOD, STATUS
+    }
+}
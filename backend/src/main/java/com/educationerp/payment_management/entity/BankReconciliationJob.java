@@ -0,0 +1,239 @@
+package com.educationerp.payment_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Bank Reconciliation Job entity for the Education ERP System
+ * Tracks the matching of an uploaded bank statement against pending bank transfer payments; lines
+ * that match no payment are written to the job's unmatched-items report
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "bank_reconciliation_jobs")
+public class BankReconciliationJob extends BaseEntity {
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @NotNull(message = "Source path is required")
+    @Column(name = "source_path", nullable = false, length = 500)
+    private String sourcePath;
+
+    @Column(name = "report_path", length = 500)
+    private String reportPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReconciliationStatus status = ReconciliationStatus.QUEUED;
+
+    @Column(name = "date_window_days", nullable = false)
+    private Integer dateWindowDays = 0;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "statement_lines", nullable = false)
+    private Integer statementLines = 0;
+
+    @Column(name = "exact_matches", nullable = false)
+    private Integer exactMatches = 0;
+
+    @Column(name = "fuzzy_matches", nullable = false)
+    private Integer fuzzyMatches = 0;
+
+    @Column(name = "unmatched_lines", nullable = false)
+    private Integer unmatchedLines = 0;
+
+    @Column(name = "matched_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal matchedAmount = BigDecimal.ZERO;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_date")
+    private LocalDateTime startedDate;
+
+    @Column(name = "completed_date")
+    private LocalDateTime completedDate;
+
+    // Constructors
+    public BankReconciliationJob() {
+    }
+
+    public BankReconciliationJob(Long institutionId, String fileName, String sourcePath) {
+        this.institutionId = institutionId;
+        this.fileName = fileName;
+        this.sourcePath = sourcePath;
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    public void setSourcePath(String sourcePath) {
+        this.sourcePath = sourcePath;
+    }
+
+    public String getReportPath() {
+        return reportPath;
+    }
+
+    public void setReportPath(String reportPath) {
+        this.reportPath = reportPath;
+    }
+
+    public ReconciliationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReconciliationStatus status) {
+        this.status = status;
+    }
+
+    public Integer getDateWindowDays() {
+        return dateWindowDays;
+    }
+
+    public void setDateWindowDays(Integer dateWindowDays) {
+        this.dateWindowDays = dateWindowDays;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Integer getStatementLines() {
+        return statementLines;
+    }
+
+    public void setStatementLines(Integer statementLines) {
+        this.statementLines = statementLines;
+    }
+
+    public Integer getExactMatches() {
+        return exactMatches;
+    }
+
+    public void setExactMatches(Integer exactMatches) {
+        this.exactMatches = exactMatches;
+    }
+
+    public Integer getFuzzyMatches() {
+        return fuzzyMatches;
+    }
+
+    public void setFuzzyMatches(Integer fuzzyMatches) {
+        this.fuzzyMatches = fuzzyMatches;
+    }
+
+    public Integer getUnmatchedLines() {
+        return unmatchedLines;
+    }
+
+    public void setUnmatchedLines(Integer unmatchedLines) {
+        this.unmatchedLines = unmatchedLines;
+    }
+
+    public BigDecimal getMatchedAmount() {
+        return matchedAmount;
+    }
+
+    public void setMatchedAmount(BigDecimal matchedAmount) {
+        this.matchedAmount = matchedAmount;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedDate() {
+        return startedDate;
+    }
+
+    public void setStartedDate(LocalDateTime startedDate) {
+        this.startedDate = startedDate;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    // Business methods
+    public boolean isFinished() {
+        return status == ReconciliationStatus.COMPLETED || status == ReconciliationStatus.FAILED;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        BankReconciliationJob that = (BankReconciliationJob) o;
+        return Objects.equals(sourcePath, that.sourcePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), sourcePath);
+    }
+
+    @Override
+    public String toString() {
+        return "BankReconciliationJob{" +
+                "id=" + getId() +
+                ", institutionId=" + institutionId +
+                ", fileName='" + fileName + '\'' +
+                ", status=" + status +
+                ", statementLines=" + statementLines +
+                ", exactMatches=" + exactMatches +
+                ", fuzzyMatches=" + fuzzyMatches +
+                ", unmatchedLines=" + unmatchedLines +
+                '}';
+    }
+
+    // Enums
+    public enum ReconciliationStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
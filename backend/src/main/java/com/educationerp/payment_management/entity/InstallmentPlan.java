@@ -1,6 +1,7 @@
 package com.educationerp.payment_management.entity;
 
 import com.educationerp.core.entity.BaseEntity;
+import com.educationerp.payment_management.event.InstallmentPlanEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -19,6 +20,7 @@ import java.util.Objects;
  * @version 1.0.0
  */
 @Entity
+@EntityListeners(InstallmentPlanEntityListener.class)
 @Table(name = "installment_plans", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"institution_id", "plan_code"})
@@ -356,7 +358,18 @@ public class InstallmentPlan extends BaseEntity {
                paidInstallments >= numberOfInstallments;
     }
 
+    /**
+     * Amount owed over the life of the plan, the price plus the interest of its schedule
+     */
+    public BigDecimal getTotalPayable() {
+        return totalInterest != null ? totalAmount.add(totalInterest) : totalAmount;
+    }
+
     public BigDecimal getPaidAmount() {
+        // The last installment absorbs the rounding of the others, so a paid-off plan has paid exactly what it owed
+        if (isPaidOff() && totalAmount != null) {
+            return getTotalPayable();
+        }
         BigDecimal paidAmount = BigDecimal.ZERO;
         if (downPayment != null) {
             paidAmount = paidAmount.add(downPayment);
@@ -368,7 +381,7 @@ public class InstallmentPlan extends BaseEntity {
     }
 
     public BigDecimal getRemainingAmount() {
-        return totalAmount.subtract(getPaidAmount());
+        return getTotalPayable().subtract(getPaidAmount());
     }
 
     public void incrementPaidInstallments() {
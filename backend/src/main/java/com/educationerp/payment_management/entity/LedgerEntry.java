@@ -0,0 +1,257 @@
+package com.educationerp.payment_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Ledger Entry entity for the Education ERP System
+ * Represents an append-only, balanced double-entry posting on a student account;
+ * amounts are stored in minor units and corrections are posted as reversing entries
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "student_ledger_entries",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"student_id", "entry_sequence"})
+       })
+public class LedgerEntry extends BaseEntity {
+
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @NotNull(message = "Student ID is required")
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @NotNull(message = "Entry sequence is required")
+    @Column(name = "entry_sequence", nullable = false)
+    private Long entrySequence;
+
+    @NotNull(message = "Entry type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private EntryType entryType;
+
+    @NotNull(message = "Debit account is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "debit_account", nullable = false, length = 20)
+    private LedgerAccount debitAccount;
+
+    @NotNull(message = "Credit account is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "credit_account", nullable = false, length = 20)
+    private LedgerAccount creditAccount;
+
+    @NotNull(message = "Amount is required")
+    @Column(name = "amount_minor", nullable = false)
+    private Long amountMinor;
+
+    @NotNull(message = "Source type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type", nullable = false, length = 30)
+    private SourceType sourceType;
+
+    @Column(name = "source_id")
+    private Long sourceId;
+
+    @NotNull(message = "Posted date is required")
+    @Column(name = "posted_date", nullable = false)
+    private LocalDateTime postedDate;
+
+    @Size(max = 500, message = "Description must not exceed 500 characters")
+    @Column(name = "description", length = 500)
+    private String description;
+
+    // Constructors
+    public LedgerEntry() {
+    }
+
+    public LedgerEntry(Long institutionId, Long studentId, Long entrySequence, EntryType entryType,
+                       LedgerAccount debitAccount, LedgerAccount creditAccount, Long amountMinor,
+                       SourceType sourceType, Long sourceId, LocalDateTime postedDate) {
+        this.institutionId = institutionId;
+        this.studentId = studentId;
+        this.entrySequence = entrySequence;
+        this.entryType = entryType;
+        this.debitAccount = debitAccount;
+        this.creditAccount = creditAccount;
+        this.amountMinor = amountMinor;
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+        this.postedDate = postedDate;
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getEntrySequence() {
+        return entrySequence;
+    }
+
+    public void setEntrySequence(Long entrySequence) {
+        this.entrySequence = entrySequence;
+    }
+
+    public EntryType getEntryType() {
+        return entryType;
+    }
+
+    public void setEntryType(EntryType entryType) {
+        this.entryType = entryType;
+    }
+
+    public LedgerAccount getDebitAccount() {
+        return debitAccount;
+    }
+
+    public void setDebitAccount(LedgerAccount debitAccount) {
+        this.debitAccount = debitAccount;
+    }
+
+    public LedgerAccount getCreditAccount() {
+        return creditAccount;
+    }
+
+    public void setCreditAccount(LedgerAccount creditAccount) {
+        this.creditAccount = creditAccount;
+    }
+
+    public Long getAmountMinor() {
+        return amountMinor;
+    }
+
+    public void setAmountMinor(Long amountMinor) {
+        this.amountMinor = amountMinor;
+    }
+
+    public SourceType getSourceType() {
+        return sourceType;
+    }
+
+    public void setSourceType(SourceType sourceType) {
+        this.sourceType = sourceType;
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public void setSourceId(Long sourceId) {
+        this.sourceId = sourceId;
+    }
+
+    public LocalDateTime getPostedDate() {
+        return postedDate;
+    }
+
+    public void setPostedDate(LocalDateTime postedDate) {
+        this.postedDate = postedDate;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    // Business methods
+    /**
+     * Change of the student's receivable balance caused by this entry, in minor units
+     */
+    public long getReceivableDelta() {
+        long delta = 0;
+        if (debitAccount == LedgerAccount.RECEIVABLE) {
+            delta += amountMinor;
+        }
+        if (creditAccount == LedgerAccount.RECEIVABLE) {
+            delta -= amountMinor;
+        }
+        return delta;
+    }
+
+    // Enums
+    public enum EntryType {
+        CHARGE(LedgerAccount.RECEIVABLE, LedgerAccount.REVENUE),
+        PAYMENT(LedgerAccount.CASH, LedgerAccount.RECEIVABLE),
+        REFUND(LedgerAccount.REVENUE, LedgerAccount.CASH);
+
+        private final LedgerAccount debitAccount;
+        private final LedgerAccount creditAccount;
+
+        EntryType(LedgerAccount debitAccount, LedgerAccount creditAccount) {
+            this.debitAccount = debitAccount;
+            this.creditAccount = creditAccount;
+        }
+
+        public LedgerAccount getDebitAccount() {
+            return debitAccount;
+        }
+
+        public LedgerAccount getCreditAccount() {
+            return creditAccount;
+        }
+    }
+
+    public enum LedgerAccount {
+        RECEIVABLE, REVENUE, CASH
+    }
+
+    public enum SourceType {
+        PAYMENT, INSTALLMENT_PLAN, PRODUCT_DISTRIBUTION
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        LedgerEntry that = (LedgerEntry) o;
+        return Objects.equals(studentId, that.studentId) &&
+                Objects.equals(entrySequence, that.entrySequence);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), studentId, entrySequence);
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerEntry{" +
+                "id=" + getId() +
+                ", studentId=" + studentId +
+                ", entrySequence=" + entrySequence +
+                ", entryType=" + entryType +
+                ", debitAccount=" + debitAccount +
+                ", creditAccount=" + creditAccount +
+                ", amountMinor=" + amountMinor +
+                ", sourceType=" + sourceType +
+                ", sourceId=" + sourceId +
+                '}';
+    }
+}
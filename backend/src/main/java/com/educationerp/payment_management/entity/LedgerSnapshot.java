@@ -0,0 +1,138 @@
+package com.educationerp.payment_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Ledger Snapshot entity for the Education ERP System
+ * Represents a student's ledger balance through an entry sequence; the current balance is
+ * the latest snapshot plus the entries posted after it
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "student_ledger_snapshots",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"student_id", "through_sequence"})
+       })
+public class LedgerSnapshot extends BaseEntity {
+
+    @NotNull(message = "Student ID is required")
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @NotNull(message = "Through sequence is required")
+    @Column(name = "through_sequence", nullable = false)
+    private Long throughSequence;
+
+    @NotNull(message = "Balance is required")
+    @Column(name = "balance_minor", nullable = false)
+    private Long balanceMinor;
+
+    @NotNull(message = "Charged amount is required")
+    @Column(name = "charged_minor", nullable = false)
+    private Long chargedMinor;
+
+    @NotNull(message = "Paid amount is required")
+    @Column(name = "paid_minor", nullable = false)
+    private Long paidMinor;
+
+    @NotNull(message = "Through date is required")
+    @Column(name = "through_date", nullable = false)
+    private LocalDateTime throughDate;
+
+    // Constructors
+    public LedgerSnapshot() {
+    }
+
+    public LedgerSnapshot(Long studentId, Long throughSequence, Long balanceMinor, Long chargedMinor, Long paidMinor,
+                          LocalDateTime throughDate) {
+        this.studentId = studentId;
+        this.throughSequence = throughSequence;
+        this.balanceMinor = balanceMinor;
+        this.chargedMinor = chargedMinor;
+        this.paidMinor = paidMinor;
+        this.throughDate = throughDate;
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getThroughSequence() {
+        return throughSequence;
+    }
+
+    public void setThroughSequence(Long throughSequence) {
+        this.throughSequence = throughSequence;
+    }
+
+    public Long getBalanceMinor() {
+        return balanceMinor;
+    }
+
+    public void setBalanceMinor(Long balanceMinor) {
+        this.balanceMinor = balanceMinor;
+    }
+
+    public Long getChargedMinor() {
+        return chargedMinor;
+    }
+
+    public void setChargedMinor(Long chargedMinor) {
+        this.chargedMinor = chargedMinor;
+    }
+
+    public Long getPaidMinor() {
+        return paidMinor;
+    }
+
+    public void setPaidMinor(Long paidMinor) {
+        this.paidMinor = paidMinor;
+    }
+
+    public LocalDateTime getThroughDate() {
+        return throughDate;
+    }
+
+    public void setThroughDate(LocalDateTime throughDate) {
+        this.throughDate = throughDate;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        LedgerSnapshot that = (LedgerSnapshot) o;
+        return Objects.equals(studentId, that.studentId) &&
+                Objects.equals(throughSequence, that.throughSequence);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), studentId, throughSequence);
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerSnapshot{" +
+                "id=" + getId() +
+                ", studentId=" + studentId +
+                ", throughSequence=" + throughSequence +
+                ", balanceMinor=" + balanceMinor +
+                ", throughDate=" + throughDate +
+                '}';
+    }
+}
@@ -0,0 +1,136 @@
+package com.educationerp.payment_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Overdue Sweep entity for the Education ERP System
+ * Represents the lease and outcome of sweeping one due date for overdue installments; a node owns the
+ * sweep while its lease has not expired, and a completed sweep holds no lease
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "payment_overdue_sweeps",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"due_date"})
+       })
+public class OverdueSweep extends BaseEntity {
+
+    @NotNull(message = "Due date is required")
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_started_at")
+    private LocalDateTime lastStartedAt;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "overdue_plans", nullable = false)
+    private Integer overduePlans = 0;
+
+    @Column(name = "late_fees", nullable = false)
+    private Integer lateFees = 0;
+
+    // Constructors
+    public OverdueSweep() {
+    }
+
+    // Getters and Setters
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public LocalDateTime getLastStartedAt() {
+        return lastStartedAt;
+    }
+
+    public void setLastStartedAt(LocalDateTime lastStartedAt) {
+        this.lastStartedAt = lastStartedAt;
+    }
+
+    public LocalDateTime getLastCompletedAt() {
+        return lastCompletedAt;
+    }
+
+    public void setLastCompletedAt(LocalDateTime lastCompletedAt) {
+        this.lastCompletedAt = lastCompletedAt;
+    }
+
+    public Integer getOverduePlans() {
+        return overduePlans;
+    }
+
+    public void setOverduePlans(Integer overduePlans) {
+        this.overduePlans = overduePlans;
+    }
+
+    public Integer getLateFees() {
+        return lateFees;
+    }
+
+    public void setLateFees(Integer lateFees) {
+        this.lateFees = lateFees;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        OverdueSweep that = (OverdueSweep) o;
+        return Objects.equals(dueDate, that.dueDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), dueDate);
+    }
+
+    @Override
+    public String toString() {
+        return "OverdueSweep{" +
+                "id=" + getId() +
+                ", dueDate=" + dueDate +
+                ", leaseOwner='" + leaseOwner + '\'' +
+                ", leaseExpiresAt=" + leaseExpiresAt +
+                ", lastCompletedAt=" + lastCompletedAt +
+                ", overduePlans=" + overduePlans +
+                ", lateFees=" + lateFees +
+                '}';
+    }
+}
@@ -1,6 +1,8 @@
 package com.educationerp.payment_management.entity;
 
 import com.educationerp.core.entity.BaseEntity;
+import com.educationerp.payment_management.event.PaymentEntityListener;
+import com.educationerp.payment_management.event.PaymentRevenueChangedEvent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -19,6 +21,7 @@ import java.util.Objects;
  * @version 1.0.0
  */
 @Entity
+@EntityListeners(PaymentEntityListener.class)
 @Table(name = "payments", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"institution_id", "payment_reference"})
@@ -121,6 +124,9 @@ public class Payment extends BaseEntity {
     @Column(name = "refund_reason", length = 1000)
     private String refundReason;
 
+    @Transient
+    private PaymentRevenueChangedEvent.Contribution revenueContribution;
+
     // Constructors
     public Payment() {
     }
@@ -365,6 +371,14 @@ public class Payment extends BaseEntity {
         this.refundReason = refundReason;
     }
 
+    public PaymentRevenueChangedEvent.Contribution getRevenueContribution() {
+        return revenueContribution;
+    }
+
+    public void setRevenueContribution(PaymentRevenueChangedEvent.Contribution revenueContribution) {
+        this.revenueContribution = revenueContribution;
+    }
+
     // Business methods
     public boolean isPaid() {
         return status == PaymentStatus.COMPLETED;
@@ -0,0 +1,208 @@
+package com.educationerp.payment_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Revenue Rollup entity for the Education ERP System
+ * Represents the daily totals of one institution's payments sharing a branch, type, method and status;
+ * payments without a branch are counted under branch {@link #NO_BRANCH}
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "payment_revenue_rollups",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"institution_id", "branch_id", "rollup_date", "payment_type", "payment_method", "status"})
+       })
+public class RevenueRollup extends BaseEntity {
+
+    /**
+     * Branch key of payments that are not assigned to a branch
+     */
+    public static final long NO_BRANCH = 0L;
+
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @NotNull(message = "Branch ID is required")
+    @Column(name = "branch_id", nullable = false)
+    private Long branchId = NO_BRANCH;
+
+    @NotNull(message = "Rollup date is required")
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_type", nullable = false)
+    private Payment.PaymentType paymentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method", nullable = false)
+    private Payment.PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Payment.PaymentStatus status;
+
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount = 0L;
+
+    @Column(name = "gross_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal grossAmount = BigDecimal.ZERO;
+
+    @Column(name = "discount_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal discountAmount = BigDecimal.ZERO;
+
+    @Column(name = "tax_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal taxAmount = BigDecimal.ZERO;
+
+    @Column(name = "final_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal finalAmount = BigDecimal.ZERO;
+
+    @Column(name = "refund_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal refundAmount = BigDecimal.ZERO;
+
+    // Constructors
+    public RevenueRollup() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getBranchId() {
+        return branchId;
+    }
+
+    public void setBranchId(Long branchId) {
+        this.branchId = branchId;
+    }
+
+    public LocalDate getRollupDate() {
+        return rollupDate;
+    }
+
+    public void setRollupDate(LocalDate rollupDate) {
+        this.rollupDate = rollupDate;
+    }
+
+    public Payment.PaymentType getPaymentType() {
+        return paymentType;
+    }
+
+    public void setPaymentType(Payment.PaymentType paymentType) {
+        this.paymentType = paymentType;
+    }
+
+    public Payment.PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public void setPaymentMethod(Payment.PaymentMethod paymentMethod) {
+        this.paymentMethod = paymentMethod;
+    }
+
+    public Payment.PaymentStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Payment.PaymentStatus status) {
+        this.status = status;
+    }
+
+    public Long getPaymentCount() {
+        return paymentCount;
+    }
+
+    public void setPaymentCount(Long paymentCount) {
+        this.paymentCount = paymentCount;
+    }
+
+    public BigDecimal getGrossAmount() {
+        return grossAmount;
+    }
+
+    public void setGrossAmount(BigDecimal grossAmount) {
+        this.grossAmount = grossAmount;
+    }
+
+    public BigDecimal getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public void setDiscountAmount(BigDecimal discountAmount) {
+        this.discountAmount = discountAmount;
+    }
+
+    public BigDecimal getTaxAmount() {
+        return taxAmount;
+    }
+
+    public void setTaxAmount(BigDecimal taxAmount) {
+        this.taxAmount = taxAmount;
+    }
+
+    public BigDecimal getFinalAmount() {
+        return finalAmount;
+    }
+
+    public void setFinalAmount(BigDecimal finalAmount) {
+        this.finalAmount = finalAmount;
+    }
+
+    public BigDecimal getRefundAmount() {
+        return refundAmount;
+    }
+
+    public void setRefundAmount(BigDecimal refundAmount) {
+        this.refundAmount = refundAmount;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        RevenueRollup that = (RevenueRollup) o;
+        return Objects.equals(institutionId, that.institutionId) &&
+                Objects.equals(branchId, that.branchId) &&
+                Objects.equals(rollupDate, that.rollupDate) &&
+                paymentType == that.paymentType &&
+                paymentMethod == that.paymentMethod &&
+                status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), institutionId, branchId, rollupDate, paymentType, paymentMethod, status);
+    }
+
+    @Override
+    public String toString() {
+        return "RevenueRollup{" +
+                "id=" + getId() +
+                ", institutionId=" + institutionId +
+                ", branchId=" + branchId +
+                ", rollupDate=" + rollupDate +
+                ", paymentType=" + paymentType +
+                ", paymentMethod=" + paymentMethod +
+                ", status=" + status +
+                ", paymentCount=" + paymentCount +
+                ", finalAmount=" + finalAmount +
+                '}';
+    }
+}
@@ -0,0 +1,31 @@
+package com.educationerp.payment_management.event;
+
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes {@link LedgerSourceChangedEvent} for every installment plan write
+ * Bulk updates bypass entity callbacks and must publish the event themselves
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+public class InstallmentPlanEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onInstallmentPlanChanged(InstallmentPlan installmentPlan) {
+        eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.INSTALLMENT_PLAN, installmentPlan.getId(), installmentPlan.getStudentId()));
+    }
+}
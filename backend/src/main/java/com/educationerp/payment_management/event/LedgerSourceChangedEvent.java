@@ -0,0 +1,44 @@
+package com.educationerp.payment_management.event;
+
+import com.educationerp.payment_management.entity.LedgerEntry;
+
+/**
+ * Application event published when a record that posts to the student ledger is written
+ * The ledger reconciles its postings for the record after the writing transaction commits
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class LedgerSourceChangedEvent {
+
+    private final LedgerEntry.SourceType sourceType;
+    private final Long sourceId;
+    private final Long studentId;
+
+    public LedgerSourceChangedEvent(LedgerEntry.SourceType sourceType, Long sourceId, Long studentId) {
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+        this.studentId = studentId;
+    }
+
+    public LedgerEntry.SourceType getSourceType() {
+        return sourceType;
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerSourceChangedEvent{" +
+                "sourceType=" + sourceType +
+                ", sourceId=" + sourceId +
+                ", studentId=" + studentId +
+                '}';
+    }
+}
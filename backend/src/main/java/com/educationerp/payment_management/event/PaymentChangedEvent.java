@@ -0,0 +1,35 @@
+package com.educationerp.payment_management.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Application event published when payments are created, updated or removed
+ * Listeners reload the affected payments to refresh derived in-memory data
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class PaymentChangedEvent {
+
+    private final Collection<Long> paymentIds;
+
+    public PaymentChangedEvent(Long paymentId) {
+        this.paymentIds = List.of(paymentId);
+    }
+
+    public PaymentChangedEvent(Collection<Long> paymentIds) {
+        this.paymentIds = List.copyOf(paymentIds);
+    }
+
+    public Collection<Long> getPaymentIds() {
+        return paymentIds;
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentChangedEvent{" +
+                "paymentIds=" + paymentIds +
+                '}';
+    }
+}
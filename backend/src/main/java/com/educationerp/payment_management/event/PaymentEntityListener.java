@@ -0,0 +1,56 @@
+package com.educationerp.payment_management.event;
+
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.entity.Payment;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * JPA entity listener that publishes {@link PaymentChangedEvent}, {@link LedgerSourceChangedEvent} and
+ * {@link PaymentRevenueChangedEvent} for every payment write
+ * Bulk updates bypass entity callbacks and must publish the events themselves
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+public class PaymentEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onPaymentLoaded(Payment payment) {
+        payment.setRevenueContribution(PaymentRevenueChangedEvent.Contribution.of(payment));
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onPaymentChanged(Payment payment) {
+        publishRevenueChange(payment, PaymentRevenueChangedEvent.Contribution.of(payment));
+        eventPublisher.publishEvent(new PaymentChangedEvent(payment.getId()));
+        eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.PAYMENT, payment.getId(), payment.getStudentId()));
+    }
+
+    @PostRemove
+    public void onPaymentRemoved(Payment payment) {
+        publishRevenueChange(payment, null);
+        eventPublisher.publishEvent(new PaymentChangedEvent(payment.getId()));
+        eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.PAYMENT, payment.getId(), payment.getStudentId()));
+    }
+
+    private void publishRevenueChange(Payment payment, PaymentRevenueChangedEvent.Contribution current) {
+        PaymentRevenueChangedEvent.Contribution previous = payment.getRevenueContribution();
+        payment.setRevenueContribution(current);
+        if (!Objects.equals(previous, current)) {
+            eventPublisher.publishEvent(new PaymentRevenueChangedEvent(previous, current));
+        }
+    }
+}
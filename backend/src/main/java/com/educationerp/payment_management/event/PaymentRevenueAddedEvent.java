@@ -0,0 +1,32 @@
+package com.educationerp.payment_management.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Application event published when payments are inserted in bulk, bypassing the payment entity listener,
+ * carrying what each new payment contributes to the revenue rollups
+ * The rollups add the contributions per cell instead of one payment at a time
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class PaymentRevenueAddedEvent {
+
+    private final Collection<PaymentRevenueChangedEvent.Contribution> contributions;
+
+    public PaymentRevenueAddedEvent(Collection<PaymentRevenueChangedEvent.Contribution> contributions) {
+        this.contributions = List.copyOf(contributions);
+    }
+
+    public Collection<PaymentRevenueChangedEvent.Contribution> getContributions() {
+        return contributions;
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentRevenueAddedEvent{" +
+                "contributions=" + contributions.size() +
+                '}';
+    }
+}
@@ -0,0 +1,179 @@
+package com.educationerp.payment_management.event;
+
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.entity.RevenueRollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Application event published while a payment write is flushed, carrying what the payment
+ * contributed to the revenue rollups before and after the write
+ * A missing contribution means the payment did not count (new, removed or inactive)
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class PaymentRevenueChangedEvent {
+
+    private final Contribution previous;
+    private final Contribution current;
+
+    public PaymentRevenueChangedEvent(Contribution previous, Contribution current) {
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public Contribution getPrevious() {
+        return previous;
+    }
+
+    public Contribution getCurrent() {
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "PaymentRevenueChangedEvent{" +
+                "previous=" + previous +
+                ", current=" + current +
+                '}';
+    }
+
+    /**
+     * The rollup cell a payment counts in and the amounts it adds to it
+     */
+    public static final class Contribution {
+
+        private final Long institutionId;
+        private final Long branchId;
+        private final LocalDate rollupDate;
+        private final Payment.PaymentType paymentType;
+        private final Payment.PaymentMethod paymentMethod;
+        private final Payment.PaymentStatus status;
+        private final BigDecimal grossAmount;
+        private final BigDecimal discountAmount;
+        private final BigDecimal taxAmount;
+        private final BigDecimal finalAmount;
+        private final BigDecimal refundAmount;
+
+        private Contribution(Payment payment) {
+            this.institutionId = payment.getInstitutionId();
+            this.branchId = payment.getBranchId() != null ? payment.getBranchId() : RevenueRollup.NO_BRANCH;
+            this.rollupDate = payment.getPaymentDate();
+            this.paymentType = payment.getPaymentType();
+            this.paymentMethod = payment.getPaymentMethod();
+            this.status = payment.getStatus();
+            this.grossAmount = amountOf(payment.getAmount());
+            this.discountAmount = amountOf(payment.getDiscountAmount());
+            this.taxAmount = amountOf(payment.getTaxAmount());
+            this.finalAmount = payment.getFinalAmount() != null ? payment.getFinalAmount() : grossAmount;
+            this.refundAmount = amountOf(payment.getRefundAmount());
+        }
+
+        /**
+         * Contribution of a payment in its current state, or null when it does not count
+         */
+        public static Contribution of(Payment payment) {
+            if (!Boolean.TRUE.equals(payment.getIsActive()) || payment.getInstitutionId() == null
+                    || payment.getPaymentDate() == null) {
+                return null;
+            }
+            return new Contribution(payment);
+        }
+
+        private static BigDecimal amountOf(BigDecimal amount) {
+            return amount != null ? amount : BigDecimal.ZERO;
+        }
+
+        public Long getInstitutionId() {
+            return institutionId;
+        }
+
+        public Long getBranchId() {
+            return branchId;
+        }
+
+        public LocalDate getRollupDate() {
+            return rollupDate;
+        }
+
+        public Payment.PaymentType getPaymentType() {
+            return paymentType;
+        }
+
+        public Payment.PaymentMethod getPaymentMethod() {
+            return paymentMethod;
+        }
+
+        public Payment.PaymentStatus getStatus() {
+            return status;
+        }
+
+        public BigDecimal getGrossAmount() {
+            return grossAmount;
+        }
+
+        public BigDecimal getDiscountAmount() {
+            return discountAmount;
+        }
+
+        public BigDecimal getTaxAmount() {
+            return taxAmount;
+        }
+
+        public BigDecimal getFinalAmount() {
+            return finalAmount;
+        }
+
+        public BigDecimal getRefundAmount() {
+            return refundAmount;
+        }
+
+        /**
+         * Whether both contributions count in the same rollup cell
+         */
+        public boolean isSameCell(Contribution other) {
+            return other != null &&
+                    Objects.equals(institutionId, other.institutionId) &&
+                    Objects.equals(branchId, other.branchId) &&
+                    Objects.equals(rollupDate, other.rollupDate) &&
+                    paymentType == other.paymentType &&
+                    paymentMethod == other.paymentMethod &&
+                    status == other.status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Contribution that = (Contribution) o;
+            return isSameCell(that) &&
+                    grossAmount.compareTo(that.grossAmount) == 0 &&
+                    discountAmount.compareTo(that.discountAmount) == 0 &&
+                    taxAmount.compareTo(that.taxAmount) == 0 &&
+                    finalAmount.compareTo(that.finalAmount) == 0 &&
+                    refundAmount.compareTo(that.refundAmount) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(institutionId, branchId, rollupDate, paymentType, paymentMethod, status,
+                    finalAmount.stripTrailingZeros());
+        }
+
+        @Override
+        public String toString() {
+            return "Contribution{" +
+                    "institutionId=" + institutionId +
+                    ", branchId=" + branchId +
+                    ", rollupDate=" + rollupDate +
+                    ", paymentType=" + paymentType +
+                    ", paymentMethod=" + paymentMethod +
+                    ", status=" + status +
+                    ", finalAmount=" + finalAmount +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.educationerp.payment_management.repository;
+
+import com.educationerp.payment_management.entity.BankReconciliationJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for BankReconciliationJob entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface BankReconciliationJobRepository extends JpaRepository<BankReconciliationJob, Long> {
+
+    /**
+     * Find reconciliation jobs of an institution
+     */
+    Page<BankReconciliationJob> findByInstitutionId(Long institutionId, Pageable pageable);
+
+    /**
+     * Find reconciliation jobs in the given statuses
+     */
+    List<BankReconciliationJob> findByStatusIn(Collection<BankReconciliationJob.ReconciliationStatus> statuses);
+
+    /**
+     * Check if an institution has a reconciliation job in the given statuses
+     */
+    boolean existsByInstitutionIdAndStatusIn(Long institutionId, Collection<BankReconciliationJob.ReconciliationStatus> statuses);
+}
@@ -0,0 +1,75 @@
+package com.educationerp.payment_management.repository;
+
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for InstallmentPlan entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface InstallmentPlanRepository extends JpaRepository<InstallmentPlan, Long> {
+
+    /**
+     * Find active installment plans of a student
+     */
+    List<InstallmentPlan> findByStudentIdAndIsActiveTrue(Long studentId);
+
+    /**
+     * Find active installment plans of the given students in the given statuses
+     */
+    List<InstallmentPlan> findByStudentIdInAndStatusInAndIsActiveTrue(Collection<Long> studentIds,
+                                                                      Collection<InstallmentPlan.InstallmentStatus> statuses);
+
+    /**
+     * Find the distinct end dates from the given day on of plans with the given status
+     */
+    @Query("SELECT DISTINCT ip.endDate FROM InstallmentPlan ip WHERE ip.endDate >= :fromDate AND ip.status = :status " +
+           "AND ip.isActive = true")
+    List<LocalDate> findEndDatesFrom(@Param("fromDate") LocalDate fromDate,
+                                     @Param("status") InstallmentPlan.InstallmentStatus status);
+
+    /**
+     * Find the distinct end dates of a date range of plans with the given status
+     */
+    @Query("SELECT DISTINCT ip.endDate FROM InstallmentPlan ip WHERE ip.endDate >= :fromDate AND ip.endDate < :toDate " +
+           "AND ip.status = :status AND ip.isActive = true")
+    List<LocalDate> findEndDatesBetween(@Param("fromDate") LocalDate fromDate,
+                                        @Param("toDate") LocalDate toDate,
+                                        @Param("status") InstallmentPlan.InstallmentStatus status);
+
+    /**
+     * Find the distinct end dates of the given plans with the given status
+     */
+    @Query("SELECT DISTINCT ip.endDate FROM InstallmentPlan ip WHERE ip.id IN :ids AND ip.endDate IS NOT NULL " +
+           "AND ip.status = :status AND ip.isActive = true")
+    List<LocalDate> findEndDatesByIds(@Param("ids") Collection<Long> ids,
+                                      @Param("status") InstallmentPlan.InstallmentStatus status);
+
+    /**
+     * Find the plans with the given status that end on the given day
+     */
+    List<InstallmentPlan> findByEndDateAndStatusAndIsActiveTrue(LocalDate endDate, InstallmentPlan.InstallmentStatus status);
+
+    /**
+     * Move the given plans from one status to another
+     * Bulk updates bypass the entity listener; callers publish the ledger events themselves
+     */
+    @Modifying
+    @Query("UPDATE InstallmentPlan ip SET ip.status = :toStatus, ip.updatedDate = :now WHERE ip.id IN :ids AND ip.status = :fromStatus")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("fromStatus") InstallmentPlan.InstallmentStatus fromStatus,
+                          @Param("toStatus") InstallmentPlan.InstallmentStatus toStatus,
+                          @Param("now") LocalDateTime now);
+}
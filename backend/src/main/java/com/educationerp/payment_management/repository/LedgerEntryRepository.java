@@ -0,0 +1,73 @@
+package com.educationerp.payment_management.repository;
+
+import com.educationerp.payment_management.entity.LedgerEntry;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository for LedgerEntry entity
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    /**
+     * Find the last entry sequence of a student, 0 when the ledger is empty
+     */
+    @Query("SELECT COALESCE(MAX(e.entrySequence), 0) FROM LedgerEntry e WHERE e.studentId = :studentId")
+    Long findLastSequenceByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Sum the postings of a source record
+     * Returns rows of [studentId, entryType, debitAccount, sum(amountMinor)]
+     */
+    @Query("SELECT e.studentId, e.entryType, e.debitAccount, SUM(e.amountMinor) FROM LedgerEntry e " +
+           "WHERE e.sourceType = :sourceType AND e.sourceId = :sourceId " +
+           "GROUP BY e.studentId, e.entryType, e.debitAccount")
+    List<Object[]> sumBySource(@Param("sourceType") LedgerEntry.SourceType sourceType, @Param("sourceId") Long sourceId);
+
+    /**
+     * Find the source records a student has postings from
+     * Returns rows of [sourceType, sourceId]
+     */
+    @Query("SELECT DISTINCT e.sourceType, e.sourceId FROM LedgerEntry e WHERE e.studentId = :studentId")
+    List<Object[]> findSourcesByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Sum the entries of the given students posted after their latest snapshot
+     * Returns rows of [studentId, count, sum(receivable change), sum(charge change), sum(payment change), max(sequence), max(postedDate)]
+     */
+    @Query("SELECT e.studentId, COUNT(e), " +
+           "SUM(CASE WHEN e.debitAccount = :receivable THEN e.amountMinor WHEN e.creditAccount = :receivable THEN -e.amountMinor ELSE 0 END), " +
+           "SUM(CASE WHEN e.entryType = :charge AND e.debitAccount = :receivable THEN e.amountMinor " +
+           "WHEN e.entryType = :charge THEN -e.amountMinor ELSE 0 END), " +
+           "SUM(CASE WHEN e.entryType = :payment AND e.creditAccount = :receivable THEN e.amountMinor " +
+           "WHEN e.entryType = :payment THEN -e.amountMinor ELSE 0 END), " +
+           "MAX(e.entrySequence), MAX(e.postedDate) FROM LedgerEntry e " +
+           "WHERE e.studentId IN :studentIds AND e.entrySequence > COALESCE(" +
+           "(SELECT MAX(s.throughSequence) FROM LedgerSnapshot s WHERE s.studentId = e.studentId), 0) " +
+           "GROUP BY e.studentId")
+    List<Object[]> sumTailsByStudentIds(@Param("studentIds") Collection<Long> studentIds,
+                                        @Param("receivable") LedgerEntry.LedgerAccount receivable,
+                                        @Param("charge") LedgerEntry.EntryType charge,
+                                        @Param("payment") LedgerEntry.EntryType payment);
+
+    /**
+     * Stream a student's entries after a sequence in posting order
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT e FROM LedgerEntry e WHERE e.studentId = :studentId AND e.entrySequence > :afterSequence " +
+           "ORDER BY e.entrySequence")
+    Stream<LedgerEntry> streamByStudentIdAfterSequence(@Param("studentId") Long studentId,
+                                                       @Param("afterSequence") Long afterSequence);
+}
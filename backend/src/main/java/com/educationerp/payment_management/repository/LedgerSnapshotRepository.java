@@ -0,0 +1,40 @@
+package com.educationerp.payment_management.repository;
+
+import com.educationerp.payment_management.entity.LedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for LedgerSnapshot entity
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface LedgerSnapshotRepository extends JpaRepository<LedgerSnapshot, Long> {
+
+    /**
+     * Find the latest snapshot of a student
+     */
+    Optional<LedgerSnapshot> findFirstByStudentIdOrderByThroughSequenceDesc(Long studentId);
+
+    /**
+     * Find the latest snapshot of a student taken through entries posted before a date
+     */
+    Optional<LedgerSnapshot> findFirstByStudentIdAndThroughDateBeforeOrderByThroughSequenceDesc(Long studentId,
+                                                                                             LocalDateTime throughDate);
+
+    /**
+     * Find the latest snapshots of the given students
+     */
+    @Query("SELECT s FROM LedgerSnapshot s WHERE s.studentId IN :studentIds AND s.throughSequence = " +
+           "(SELECT MAX(l.throughSequence) FROM LedgerSnapshot l WHERE l.studentId = s.studentId)")
+    List<LedgerSnapshot> findLatestByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+}
@@ -0,0 +1,40 @@
+package com.educationerp.payment_management.repository;
+
+import com.educationerp.payment_management.entity.OverdueSweep;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for OverdueSweep entity
+ * Leases are claimed and released with JDBC by the overdue sweep service; this repository only reads them
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface OverdueSweepRepository extends JpaRepository<OverdueSweep, Long> {
+
+    /**
+     * Find the sweep of a due date
+     */
+    Optional<OverdueSweep> findByDueDate(LocalDate dueDate);
+
+    /**
+     * Find the latest sweeps by due date
+     */
+    List<OverdueSweep> findAllByOrderByDueDateDesc(Pageable pageable);
+
+    /**
+     * Find the due dates whose sweep lease expired before completing
+     */
+    @Query("SELECT s.dueDate FROM OverdueSweep s WHERE s.leaseExpiresAt < :now ORDER BY s.dueDate")
+    List<LocalDate> findDueDatesWithExpiredLease(@Param("now") LocalDateTime now);
+}
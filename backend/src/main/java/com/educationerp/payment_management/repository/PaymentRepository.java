@@ -0,0 +1,172 @@
+package com.educationerp.payment_management.repository;
+
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.Payment;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository for Payment entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    /**
+     * Find active payments of a student, newest first
+     */
+    List<Payment> findByStudentIdAndIsActiveTrueOrderByCreatedDateDesc(Long studentId);
+
+    /**
+     * Find payments of an institution by reference
+     */
+    List<Payment> findByInstitutionIdAndPaymentReferenceIn(Long institutionId, Collection<String> paymentReferences);
+
+    /**
+     * Find active payments of the given students in the given statuses
+     */
+    List<Payment> findByStudentIdInAndStatusInAndIsActiveTrue(Collection<Long> studentIds, Collection<Payment.PaymentStatus> statuses);
+
+    /**
+     * Sum open balances of the given students; amounts due before the given date count as overdue
+     * Returns rows of [studentId, sum(outstanding), sum(overdue), min(dueDate)]
+     */
+    @Query("SELECT p.studentId, SUM(COALESCE(p.finalAmount, p.amount)), " +
+           "SUM(CASE WHEN p.dueDate < :today THEN COALESCE(p.finalAmount, p.amount) ELSE 0 END), MIN(p.dueDate) " +
+           "FROM Payment p WHERE p.studentId IN :studentIds AND p.status IN :openStatuses AND p.isActive = true " +
+           "GROUP BY p.studentId")
+    List<Object[]> sumOpenBalancesByStudentIds(@Param("studentIds") Collection<Long> studentIds,
+                                               @Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses,
+                                               @Param("today") LocalDate today);
+
+    /**
+     * Find the institutions that have active payments
+     */
+    @Query("SELECT DISTINCT p.institutionId FROM Payment p WHERE p.isActive = true")
+    List<Long> findInstitutionIdsWithActivePayments();
+
+    /**
+     * Find the first and last payment date of an institution's active payments
+     * Returns a single row of [min(paymentDate), max(paymentDate)]
+     */
+    @Query("SELECT MIN(p.paymentDate), MAX(p.paymentDate) FROM Payment p " +
+           "WHERE p.institutionId = :institutionId AND p.isActive = true")
+    List<Object[]> findPaymentDateRangeByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * Stream the open items of all institutions
+     * Returns rows of [id, institutionId, studentId, dueDate, COALESCE(finalAmount, amount)]
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT p.id, p.institutionId, p.studentId, p.dueDate, COALESCE(p.finalAmount, p.amount) FROM Payment p " +
+           "WHERE p.status IN :openStatuses AND p.isActive = true")
+    Stream<Object[]> streamOpenItemRows(@Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses);
+
+    /**
+     * Find the given payments that are open items
+     * Returns rows of [id, institutionId, studentId, dueDate, COALESCE(finalAmount, amount)]
+     */
+    @Query("SELECT p.id, p.institutionId, p.studentId, p.dueDate, COALESCE(p.finalAmount, p.amount) FROM Payment p " +
+           "WHERE p.id IN :ids AND p.status IN :openStatuses AND p.isActive = true")
+    List<Object[]> findOpenItemRowsByIds(@Param("ids") Collection<Long> ids,
+                                         @Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses);
+
+    /**
+     * Sum open items per institution into aging buckets by the due date thresholds of the given day
+     * Returns rows of [institutionId, count, current, 1-30, 31-60, 61-90, over 90]
+     */
+    @Query("SELECT p.institutionId, COUNT(p), " +
+           "SUM(CASE WHEN p.dueDate IS NULL OR p.dueDate >= :today THEN COALESCE(p.finalAmount, p.amount) ELSE 0 END), " +
+           "SUM(CASE WHEN p.dueDate < :today AND p.dueDate >= :days30 THEN COALESCE(p.finalAmount, p.amount) ELSE 0 END), " +
+           "SUM(CASE WHEN p.dueDate < :days30 AND p.dueDate >= :days60 THEN COALESCE(p.finalAmount, p.amount) ELSE 0 END), " +
+           "SUM(CASE WHEN p.dueDate < :days60 AND p.dueDate >= :days90 THEN COALESCE(p.finalAmount, p.amount) ELSE 0 END), " +
+           "SUM(CASE WHEN p.dueDate < :days90 THEN COALESCE(p.finalAmount, p.amount) ELSE 0 END) " +
+           "FROM Payment p WHERE p.status IN :openStatuses AND p.isActive = true GROUP BY p.institutionId")
+    List<Object[]> sumOpenItemAgingByInstitution(@Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses,
+                                                 @Param("today") LocalDate today,
+                                                 @Param("days30") LocalDate days30,
+                                                 @Param("days60") LocalDate days60,
+                                                 @Param("days90") LocalDate days90);
+
+    /**
+     * Find the distinct due dates from the given day on of open installments
+     */
+    @Query("SELECT DISTINCT p.dueDate FROM Payment p WHERE p.dueDate >= :fromDate AND p.installmentPlanId IS NOT NULL " +
+           "AND p.paymentType <> :feeType AND p.status IN :openStatuses AND p.isActive = true")
+    List<LocalDate> findInstallmentDueDatesFrom(@Param("fromDate") LocalDate fromDate,
+                                                @Param("feeType") Payment.PaymentType feeType,
+                                                @Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses);
+
+    /**
+     * Find the distinct due dates of the given payments that are open installments
+     */
+    @Query("SELECT DISTINCT p.dueDate FROM Payment p WHERE p.id IN :ids AND p.dueDate IS NOT NULL " +
+           "AND p.installmentPlanId IS NOT NULL AND p.paymentType <> :feeType AND p.status IN :openStatuses " +
+           "AND p.isActive = true")
+    List<LocalDate> findInstallmentDueDatesByIds(@Param("ids") Collection<Long> ids,
+                                                 @Param("feeType") Payment.PaymentType feeType,
+                                                 @Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses);
+
+    /**
+     * Find the distinct due dates of a date range with open installments whose plan is still active
+     * or has a late fee that has not been charged yet
+     */
+    @Query("SELECT DISTINCT p.dueDate FROM Payment p, InstallmentPlan ip WHERE ip.id = p.installmentPlanId " +
+           "AND p.dueDate >= :fromDate AND p.dueDate < :toDate AND p.paymentType <> :feeType " +
+           "AND p.status IN :openStatuses AND p.isActive = true AND (ip.status = :activeStatus " +
+           "OR ((ip.lateFeeAmount > 0 OR ip.lateFeePercentage > 0) AND NOT EXISTS (SELECT f.id FROM Payment f " +
+           "WHERE f.institutionId = p.institutionId AND f.paymentReference = CONCAT(:feePrefix, CAST(p.id AS String)))))")
+    List<LocalDate> findUnsweptInstallmentDueDates(@Param("fromDate") LocalDate fromDate,
+                                                   @Param("toDate") LocalDate toDate,
+                                                   @Param("feeType") Payment.PaymentType feeType,
+                                                   @Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses,
+                                                   @Param("activeStatus") InstallmentPlan.InstallmentStatus activeStatus,
+                                                   @Param("feePrefix") String feePrefix);
+
+    /**
+     * Find the open installments due on the given day
+     */
+    @Query("SELECT p FROM Payment p WHERE p.dueDate = :dueDate AND p.installmentPlanId IS NOT NULL " +
+           "AND p.paymentType <> :feeType AND p.status IN :openStatuses AND p.isActive = true")
+    List<Payment> findInstallmentsDueOn(@Param("dueDate") LocalDate dueDate,
+                                        @Param("feeType") Payment.PaymentType feeType,
+                                        @Param("openStatuses") Collection<Payment.PaymentStatus> openStatuses);
+
+    /**
+     * Find which of the given payment references exist
+     */
+    @Query("SELECT p.paymentReference FROM Payment p WHERE p.paymentReference IN :references")
+    List<String> findExistingPaymentReferences(@Param("references") Collection<String> references);
+
+    /**
+     * Find which of the given installment plans already have scheduled installment rows
+     */
+    @Query("SELECT DISTINCT p.installmentPlanId FROM Payment p WHERE p.installmentPlanId IN :planIds " +
+           "AND p.installmentNumber IS NOT NULL AND p.isActive = true")
+    List<Long> findScheduledPlanIds(@Param("planIds") Collection<Long> planIds);
+
+    /**
+     * Find the scheduled installment rows of the given plans
+     */
+    @Query("SELECT p FROM Payment p WHERE p.installmentPlanId IN :planIds AND p.installmentNumber IS NOT NULL " +
+           "AND p.isActive = true ORDER BY p.installmentPlanId, p.installmentNumber")
+    List<Payment> findScheduledInstallments(@Param("planIds") Collection<Long> planIds);
+
+    /**
+     * Find the IDs of the scheduled installment rows of the given plans
+     */
+    @Query("SELECT p.id FROM Payment p WHERE p.installmentPlanId IN :planIds AND p.installmentNumber IS NOT NULL " +
+           "AND p.isActive = true")
+    List<Long> findScheduledInstallmentIds(@Param("planIds") Collection<Long> planIds);
+}
@@ -0,0 +1,73 @@
+package com.educationerp.payment_management.repository;
+
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.entity.RevenueRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for RevenueRollup entity
+ * Rollup cells are written with JDBC by the revenue rollup service; this repository only reads them
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, Long> {
+
+    /**
+     * Check whether an institution has any rollup cells
+     */
+    boolean existsByInstitutionId(Long institutionId);
+
+    /**
+     * Find the first and last day of an institution's rollup cells
+     * Returns a single row of [min(rollupDate), max(rollupDate)]
+     */
+    @Query("SELECT MIN(r.rollupDate), MAX(r.rollupDate) FROM RevenueRollup r WHERE r.institutionId = :institutionId")
+    List<Object[]> findRollupDateRangeByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * Combine the daily cells of a date range into one row per day and cell key; null filters match everything
+     * Returns rows of [rollupDate, branchId, paymentType, paymentMethod, status, count, gross, discount, tax, final, refund]
+     */
+    @Query("SELECT r.rollupDate, r.branchId, r.paymentType, r.paymentMethod, r.status, SUM(r.paymentCount), " +
+           "SUM(r.grossAmount), SUM(r.discountAmount), SUM(r.taxAmount), SUM(r.finalAmount), SUM(r.refundAmount) " +
+           "FROM RevenueRollup r WHERE r.institutionId = :institutionId AND r.rollupDate BETWEEN :fromDate AND :toDate " +
+           "AND (:branchId IS NULL OR r.branchId = :branchId) AND (:paymentType IS NULL OR r.paymentType = :paymentType) " +
+           "AND (:paymentMethod IS NULL OR r.paymentMethod = :paymentMethod) AND (:status IS NULL OR r.status = :status) " +
+           "AND r.paymentCount > 0 " +
+           "GROUP BY r.rollupDate, r.branchId, r.paymentType, r.paymentMethod, r.status")
+    List<Object[]> sumByDay(@Param("institutionId") Long institutionId,
+                            @Param("fromDate") LocalDate fromDate,
+                            @Param("toDate") LocalDate toDate,
+                            @Param("branchId") Long branchId,
+                            @Param("paymentType") Payment.PaymentType paymentType,
+                            @Param("paymentMethod") Payment.PaymentMethod paymentMethod,
+                            @Param("status") Payment.PaymentStatus status);
+
+    /**
+     * Combine the daily cells of a date range into one row per month and cell key; null filters match everything
+     * Returns rows of [year, month, branchId, paymentType, paymentMethod, status, count, gross, discount, tax, final, refund]
+     */
+    @Query("SELECT YEAR(r.rollupDate), MONTH(r.rollupDate), r.branchId, r.paymentType, r.paymentMethod, r.status, " +
+           "SUM(r.paymentCount), SUM(r.grossAmount), SUM(r.discountAmount), SUM(r.taxAmount), SUM(r.finalAmount), " +
+           "SUM(r.refundAmount) " +
+           "FROM RevenueRollup r WHERE r.institutionId = :institutionId AND r.rollupDate BETWEEN :fromDate AND :toDate " +
+           "AND (:branchId IS NULL OR r.branchId = :branchId) AND (:paymentType IS NULL OR r.paymentType = :paymentType) " +
+           "AND (:paymentMethod IS NULL OR r.paymentMethod = :paymentMethod) AND (:status IS NULL OR r.status = :status) " +
+           "AND r.paymentCount > 0 " +
+           "GROUP BY YEAR(r.rollupDate), MONTH(r.rollupDate), r.branchId, r.paymentType, r.paymentMethod, r.status")
+    List<Object[]> sumByMonth(@Param("institutionId") Long institutionId,
+                              @Param("fromDate") LocalDate fromDate,
+                              @Param("toDate") LocalDate toDate,
+                              @Param("branchId") Long branchId,
+                              @Param("paymentType") Payment.PaymentType paymentType,
+                              @Param("paymentMethod") Payment.PaymentMethod paymentMethod,
+                              @Param("status") Payment.PaymentStatus status);
+}
@@ -0,0 +1,33 @@
+package com.educationerp.payment_management.service;
+
+import java.util.Comparator;
+
+/**
+ * Order in which a receipt settles a student's open obligations
+ * Policies are Spring beans picked by name; a receipt settles obligations whole in this order
+ * and stops at the first one it cannot cover
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+interface AllocationPolicy {
+
+    /**
+     * Name clients select the policy by
+     */
+    String getName();
+
+    /**
+     * Settlement order; installments of a plan must stay in installment order
+     */
+    Comparator<AllocationTarget> getOrder();
+
+    /**
+     * Oldest due date first; obligations without a due date come last and ties keep installments in order
+     */
+    Comparator<AllocationTarget> OLDEST_FIRST = Comparator
+            .comparing(AllocationTarget::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(AllocationTarget::getType)
+            .thenComparing(AllocationTarget::getTargetId)
+            .thenComparing(AllocationTarget::getInstallmentNumber, Comparator.nullsFirst(Comparator.naturalOrder()));
+}
@@ -0,0 +1,77 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.payment_management.dto.PaymentAllocationResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Open obligation of a student that a receipt can settle: one unpaid installment of a plan,
+ * an unpaid product distribution or an open payment, priced in minor units
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+final class AllocationTarget {
+
+    private final PaymentAllocationResponse.AllocationTargetType type;
+    private final Long targetId;
+    private final Integer installmentNumber;
+    private final LocalDate dueDate;
+    private final long amountMinor;
+    private final boolean mandatory;
+    private final String description;
+    private boolean settled;
+
+    AllocationTarget(PaymentAllocationResponse.AllocationTargetType type, Long targetId, Integer installmentNumber,
+                     LocalDate dueDate, long amountMinor, boolean mandatory, String description) {
+        this.type = type;
+        this.targetId = targetId;
+        this.installmentNumber = installmentNumber;
+        this.dueDate = dueDate;
+        this.amountMinor = amountMinor;
+        this.mandatory = mandatory;
+        this.description = description;
+    }
+
+    PaymentAllocationResponse.AllocationTargetType getType() {
+        return type;
+    }
+
+    Long getTargetId() {
+        return targetId;
+    }
+
+    Integer getInstallmentNumber() {
+        return installmentNumber;
+    }
+
+    /**
+     * Due date, or null when the obligation has none
+     */
+    LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    long getAmountMinor() {
+        return amountMinor;
+    }
+
+    /**
+     * Whether the obligation is tuition-like rather than an optional purchase
+     */
+    boolean isMandatory() {
+        return mandatory;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    boolean isSettled() {
+        return settled;
+    }
+
+    void settle() {
+        this.settled = true;
+    }
+}
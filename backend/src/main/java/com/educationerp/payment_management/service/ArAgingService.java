@@ -0,0 +1,483 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.payment_management.dto.ArAgingResponse;
+import com.educationerp.payment_management.dto.ArAgingResponse.Bucket;
+import com.educationerp.payment_management.dto.ArAgingVerificationResponse;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.event.PaymentChangedEvent;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Service class for accounts-receivable aging
+ * Keeps every open payment in memory with per-institution and per-student totals for the buckets current,
+ * 1-30, 31-60, 61-90 and over 90 days past due. Items are indexed by the day they enter their next bucket,
+ * so the daily tick only touches the items that move instead of rescanning all of them; payment changes
+ * adjust the totals as soon as they are committed. A scheduled check compares the totals with SQL and
+ * rebuilds them on drift.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class ArAgingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArAgingService.class);
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final List<Payment.PaymentStatus> OPEN_PAYMENT_STATUSES =
+            List.of(Payment.PaymentStatus.PENDING, Payment.PaymentStatus.PARTIAL);
+    private static final Bucket[] BUCKETS = Bucket.values();
+
+    /** Last day past due of every bucket but the last */
+    private static final int[] BUCKET_LAST_DAY = {0, 30, 60, 90};
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private AgingBook book = new AgingBook(LocalDate.now());
+    private Set<Long> changedDuringRebuild;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initialize() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Load the open items once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the aging from the database; changes committed meanwhile are replayed afterwards
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        AgingBook built = new AgingBook(LocalDate.now());
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = paymentRepository.streamOpenItemRows(OPEN_PAYMENT_STATUSES)) {
+                rows.forEach(built::add);
+            }
+        });
+
+        Set<Long> replay;
+        lock.writeLock().lock();
+        try {
+            book = built;
+            replay = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!replay.isEmpty()) {
+            refresh(replay);
+        }
+
+        logger.info("AR aging built: {} open items in {} institutions, {} ms",
+                built.items.size(), built.institutions.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Apply committed payment changes to the aging
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentChanged(PaymentChangedEvent event) {
+        refresh(event.getPaymentIds());
+    }
+
+    /**
+     * Move the items whose next bucket starts today
+     */
+    @Scheduled(cron = "${education.erp.ar-aging.tick-cron:0 0 0 * * *}")
+    public void dailyTick() {
+        advanceTo(LocalDate.now());
+    }
+
+    /**
+     * Get the aging of an institution with its students ordered by past due amount
+     */
+    public ArAgingResponse getInstitutionAging(Long institutionId, int studentLimit) {
+        advanceTo(LocalDate.now());
+
+        lock.readLock().lock();
+        try {
+            InstitutionAging institution = book.institutions.get(institutionId);
+            ArAgingResponse response = mapToResponse(institution != null ? institution.totals : new AgingTotals(institutionId));
+            response.setInstitutionId(institutionId);
+            response.setStudentCount(institution != null ? institution.students.size() : 0);
+
+            List<ArAgingResponse.StudentAging> students = new ArrayList<>();
+            if (institution != null && studentLimit > 0) {
+                institution.students.entrySet().stream()
+                        .sorted(Comparator.comparingLong((Map.Entry<Long, AgingTotals> entry) -> entry.getValue().pastDue())
+                                .thenComparingLong(entry -> entry.getValue().total())
+                                .reversed())
+                        .limit(studentLimit)
+                        .forEach(entry -> students.add(mapToStudentAging(entry.getKey(), entry.getValue())));
+            }
+            response.setStudents(students);
+            return response;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the aging of a student's open items
+     */
+    public ArAgingResponse getStudentAging(Long studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+        }
+        advanceTo(LocalDate.now());
+
+        lock.readLock().lock();
+        try {
+            AgingTotals totals = book.students.get(studentId);
+            ArAgingResponse response = mapToResponse(totals != null ? totals : new AgingTotals(null));
+            response.setInstitutionId(totals != null ? totals.institutionId : null);
+            response.setStudentId(studentId);
+            return response;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Nightly comparison of the in-memory totals with SQL
+     */
+    @Scheduled(cron = "${education.erp.ar-aging.verification-cron:0 15 3 * * *}")
+    public void scheduledVerification() {
+        verify();
+    }
+
+    /**
+     * Compare the bucket totals of every institution with SQL and rebuild the aging on drift
+     */
+    public ArAgingVerificationResponse verify() {
+        long started = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        advanceTo(today);
+
+        List<Object[]> rows = paymentRepository.sumOpenItemAgingByInstitution(OPEN_PAYMENT_STATUSES, today,
+                today.minusDays(BUCKET_LAST_DAY[1]), today.minusDays(BUCKET_LAST_DAY[2]), today.minusDays(BUCKET_LAST_DAY[3]));
+
+        List<Long> drifted = new ArrayList<>();
+        int openItems = 0;
+        lock.readLock().lock();
+        try {
+            Set<Long> unchecked = new HashSet<>(book.institutions.keySet());
+            for (Object[] row : rows) {
+                Long institutionId = (Long) row[0];
+                unchecked.remove(institutionId);
+                InstitutionAging institution = book.institutions.get(institutionId);
+                long count = ((Number) row[1]).longValue();
+                openItems += (int) count;
+                boolean matches = institution != null && institution.totals.items == count;
+                for (int bucket = 0; matches && bucket < BUCKETS.length; bucket++) {
+                    matches = institution.totals.amounts[bucket] == MinorUnits.of((BigDecimal) row[bucket + 2]);
+                }
+                if (!matches) {
+                    drifted.add(institutionId);
+                }
+            }
+            drifted.addAll(unchecked);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        boolean rebuilt = false;
+        if (!drifted.isEmpty()) {
+            logger.warn("AR aging drifted from the payments of institutions {}; rebuilding", drifted);
+            rebuild();
+            rebuilt = true;
+        }
+
+        ArAgingVerificationResponse response = new ArAgingVerificationResponse();
+        response.setCheckedInstitutions(rows.size());
+        response.setOpenItems(openItems);
+        response.setDriftedInstitutionIds(drifted);
+        response.setRebuilt(rebuilt);
+        response.setElapsedMillis(System.currentTimeMillis() - started);
+        response.setVerifiedAt(LocalDateTime.now());
+        return response;
+    }
+
+    private void advanceTo(LocalDate today) {
+        lock.readLock().lock();
+        try {
+            if (!today.isAfter(book.agedThrough)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            int moved = book.advance(today);
+            if (moved > 0) {
+                logger.debug("AR aging advanced to {}: {} items changed bucket", today, moved);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refresh(Collection<Long> paymentIds) {
+        List<Long> ids = new ArrayList<>(paymentIds);
+        Map<Long, Object[]> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            for (Object[] row : paymentRepository.findOpenItemRowsByIds(
+                    ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size())), OPEN_PAYMENT_STATUSES)) {
+                loaded.put((Long) row[0], row);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(ids);
+            }
+            for (Long paymentId : ids) {
+                OpenItem previous = book.items.get(paymentId);
+                if (previous != null) {
+                    book.remove(previous);
+                }
+                Object[] row = loaded.get(paymentId);
+                if (row != null) {
+                    book.add(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int bucketOf(LocalDate dueDate, LocalDate asOf) {
+        if (dueDate == null) {
+            return 0;
+        }
+        long daysPastDue = ChronoUnit.DAYS.between(dueDate, asOf);
+        for (int bucket = 0; bucket < BUCKET_LAST_DAY.length; bucket++) {
+            if (daysPastDue <= BUCKET_LAST_DAY[bucket]) {
+                return bucket;
+            }
+        }
+        return BUCKETS.length - 1;
+    }
+
+    private ArAgingResponse mapToResponse(AgingTotals totals) {
+        ArAgingResponse response = new ArAgingResponse();
+        List<ArAgingResponse.BucketTotal> buckets = new ArrayList<>(BUCKETS.length);
+        for (Bucket bucket : BUCKETS) {
+            buckets.add(new ArAgingResponse.BucketTotal(bucket, totals.counts[bucket.ordinal()],
+                    MinorUnits.toAmount(totals.amounts[bucket.ordinal()])));
+        }
+        response.setAsOf(book.agedThrough);
+        response.setBuckets(buckets);
+        response.setTotalAmount(MinorUnits.toAmount(totals.total()));
+        response.setPastDueAmount(MinorUnits.toAmount(totals.pastDue()));
+        response.setOpenItems(totals.items);
+        response.setGeneratedAt(LocalDateTime.now());
+        return response;
+    }
+
+    private static ArAgingResponse.StudentAging mapToStudentAging(Long studentId, AgingTotals totals) {
+        ArAgingResponse.StudentAging student = new ArAgingResponse.StudentAging();
+        Map<Bucket, BigDecimal> amounts = new EnumMap<>(Bucket.class);
+        for (Bucket bucket : BUCKETS) {
+            amounts.put(bucket, MinorUnits.toAmount(totals.amounts[bucket.ordinal()]));
+        }
+        student.setStudentId(studentId);
+        student.setAmounts(amounts);
+        student.setTotalAmount(MinorUnits.toAmount(totals.total()));
+        student.setPastDueAmount(MinorUnits.toAmount(totals.pastDue()));
+        student.setOpenItems(totals.items);
+        return student;
+    }
+
+    /**
+     * Open items with their totals and the index of the day each item enters its next bucket
+     */
+    private static final class AgingBook {
+        final Map<Long, OpenItem> items = new HashMap<>();
+        final Map<Long, InstitutionAging> institutions = new HashMap<>();
+        final Map<Long, AgingTotals> students = new HashMap<>();
+        final TreeMap<LocalDate, Set<Long>> transitions = new TreeMap<>();
+        LocalDate agedThrough;
+
+        AgingBook(LocalDate agedThrough) {
+            this.agedThrough = agedThrough;
+        }
+
+        /**
+         * Add an open item row of [id, institutionId, studentId, dueDate, amount]
+         */
+        void add(Object[] row) {
+            LocalDate dueDate = (LocalDate) row[3];
+            OpenItem item = new OpenItem((Long) row[0], (Long) row[1], (Long) row[2], dueDate,
+                    MinorUnits.of((BigDecimal) row[4]), bucketOf(dueDate, agedThrough));
+            items.put(item.paymentId, item);
+            count(item, 1);
+            schedule(item);
+        }
+
+        void remove(OpenItem item) {
+            items.remove(item.paymentId);
+            count(item, -1);
+            if (item.nextTransition != null) {
+                Set<Long> due = transitions.get(item.nextTransition);
+                due.remove(item.paymentId);
+                if (due.isEmpty()) {
+                    transitions.remove(item.nextTransition);
+                }
+            }
+        }
+
+        /**
+         * Move the items whose next bucket starts on or before the given day
+         */
+        int advance(LocalDate today) {
+            int moved = 0;
+            while (!transitions.isEmpty() && !transitions.firstKey().isAfter(today)) {
+                for (Long paymentId : transitions.pollFirstEntry().getValue()) {
+                    OpenItem item = items.get(paymentId);
+                    count(item, -1);
+                    item.bucket = bucketOf(item.dueDate, today);
+                    count(item, 1);
+                    schedule(item);
+                    moved++;
+                }
+            }
+            agedThrough = today;
+            return moved;
+        }
+
+        private void schedule(OpenItem item) {
+            item.nextTransition = null;
+            if (item.dueDate == null || item.bucket >= BUCKET_LAST_DAY.length) {
+                return;
+            }
+            item.nextTransition = item.dueDate.plusDays(BUCKET_LAST_DAY[item.bucket] + 1L);
+            transitions.computeIfAbsent(item.nextTransition, day -> new HashSet<>()).add(item.paymentId);
+        }
+
+        private void count(OpenItem item, int sign) {
+            InstitutionAging institution = institutions.computeIfAbsent(item.institutionId, InstitutionAging::new);
+            institution.totals.add(item, sign);
+            AgingTotals student = students.computeIfAbsent(item.studentId, id -> new AgingTotals(item.institutionId));
+            student.add(item, sign);
+
+            if (student.items == 0) {
+                students.remove(item.studentId);
+                institution.students.remove(item.studentId);
+            } else {
+                institution.students.put(item.studentId, student);
+            }
+            if (institution.totals.items == 0) {
+                institutions.remove(item.institutionId);
+            }
+        }
+    }
+
+    private static final class InstitutionAging {
+        final AgingTotals totals;
+        final Map<Long, AgingTotals> students = new HashMap<>();
+
+        InstitutionAging(Long institutionId) {
+            this.totals = new AgingTotals(institutionId);
+        }
+    }
+
+    /**
+     * Item counts and amounts in minor units per bucket
+     */
+    private static final class AgingTotals {
+        final Long institutionId;
+        final long[] amounts = new long[BUCKETS.length];
+        final int[] counts = new int[BUCKETS.length];
+        int items;
+
+        AgingTotals(Long institutionId) {
+            this.institutionId = institutionId;
+        }
+
+        void add(OpenItem item, int sign) {
+            amounts[item.bucket] += sign * item.amountMinor;
+            counts[item.bucket] += sign;
+            items += sign;
+        }
+
+        long total() {
+            long total = 0;
+            for (long amount : amounts) {
+                total += amount;
+            }
+            return total;
+        }
+
+        long pastDue() {
+            return total() - amounts[0];
+        }
+    }
+
+    private static final class OpenItem {
+        final Long paymentId;
+        final Long institutionId;
+        final Long studentId;
+        final LocalDate dueDate;
+        final long amountMinor;
+        int bucket;
+        LocalDate nextTransition;
+
+        OpenItem(Long paymentId, Long institutionId, Long studentId, LocalDate dueDate, long amountMinor, int bucket) {
+            this.paymentId = paymentId;
+            this.institutionId = institutionId;
+            this.studentId = studentId;
+            this.dueDate = dueDate;
+            this.amountMinor = amountMinor;
+            this.bucket = bucket;
+        }
+    }
+}
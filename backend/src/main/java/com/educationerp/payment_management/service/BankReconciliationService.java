@@ -0,0 +1,735 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.institution_management.repository.InstitutionRepository;
+import com.educationerp.payment_management.dto.BankReconciliationJobResponse;
+import com.educationerp.payment_management.entity.BankReconciliationJob;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.repository.BankReconciliationJobRepository;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.educationerp.student_management.service.CsvRecordReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service class for bank statement reconciliation
+ * Pending bank transfer payments of the institution are loaded once into hash indexes keyed by
+ * reference and amount, then the uploaded statement is streamed against them: an exact pass matches
+ * reference and amount inside the date window as lines are read, and a fuzzy pass matches the
+ * remaining lines on amount and a contained or nearly equal reference. Matches complete their
+ * payments in batched transactions and every line left over goes to the unmatched-items report.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class BankReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BankReconciliationService.class);
+
+    private static final String PROCESSED_BY = "bank-reconciliation";
+    private static final String REPORT_HEADER = "line,date,amount,reference,description,reason\n";
+    private static final int MAX_DATE_WINDOW_DAYS = 366;
+    private static final int MIN_CONTAINED_REFERENCE_LENGTH = 4;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("date", "amount");
+
+    private static final Map<String, String> COLUMN_ALIASES = Map.of(
+            "date", "date", "valuedate", "date", "bookingdate", "date",
+            "amount", "amount", "credit", "amount",
+            "reference", "reference",
+            "description", "description", "narrative", "description",
+            "transactionid", "transactionId");
+
+    private static final List<BankReconciliationJob.ReconciliationStatus> ACTIVE_STATUSES =
+            List.of(BankReconciliationJob.ReconciliationStatus.QUEUED, BankReconciliationJob.ReconciliationStatus.RUNNING);
+
+    private static final String OPEN_BANK_TRANSFERS_SQL =
+            "SELECT id, payment_reference, COALESCE(final_amount, amount) AS amount_due, " +
+            "COALESCE(due_date, payment_date) AS expected_date FROM payments " +
+            "WHERE institution_id = ? AND payment_method = 'BANK_TRANSFER' AND status = 'PENDING' AND is_active = true";
+
+    @Autowired
+    private BankReconciliationJobRepository bankReconciliationJobRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.bank-reconciliation.directory:${java.io.tmpdir}/bank-reconciliations}")
+    private String reconciliationDirectory;
+
+    @Value("${education.erp.bank-reconciliation.date-window-days:7}")
+    private int defaultDateWindowDays;
+
+    @Value("${education.erp.bank-reconciliation.fuzzy-max-edits:1}")
+    private int fuzzyMaxEdits;
+
+    @Value("${education.erp.bank-reconciliation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${education.erp.bank-reconciliation.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate batchTransaction;
+    private ExecutorService jobExecutor;
+
+    @PostConstruct
+    void initialize() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+        jobExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * Fail reconciliations that were queued or running when the application stopped
+     * Their completed payments are kept; re-running the statement would report those lines as unmatched,
+     * so the job is left for review instead of being restarted
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedReconciliations() {
+        for (BankReconciliationJob job : bankReconciliationJobRepository.findByStatusIn(ACTIVE_STATUSES)) {
+            logger.warn("Bank reconciliation {} was interrupted after {} statement lines", job.getId(), job.getStatementLines());
+            job.setStatus(BankReconciliationJob.ReconciliationStatus.FAILED);
+            job.setErrorMessage("Interrupted by an application restart after " + job.getStatementLines() + " statement lines");
+            job.setCompletedDate(LocalDateTime.now());
+            bankReconciliationJobRepository.save(job);
+        }
+    }
+
+    /**
+     * Spool an uploaded statement to disk and queue its reconciliation
+     */
+    public BankReconciliationJobResponse startReconciliation(Long institutionId, String fileName, Integer dateWindowDays,
+                                                             InputStream content) {
+        logger.info("Starting bank reconciliation for institution: {}", institutionId);
+
+        int window = dateWindowDays != null ? dateWindowDays : defaultDateWindowDays;
+        if (window < 0 || window > MAX_DATE_WINDOW_DAYS) {
+            throw new BusinessException("Date window must be between 0 and " + MAX_DATE_WINDOW_DAYS + " days");
+        }
+        if (!institutionRepository.existsById(institutionId)) {
+            throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+        }
+        if (bankReconciliationJobRepository.existsByInstitutionIdAndStatusIn(institutionId, ACTIVE_STATUSES)) {
+            throw new BusinessException("A bank reconciliation is already in progress for institution ID: " + institutionId);
+        }
+
+        String name = UUID.randomUUID().toString();
+        Path source = Paths.get(reconciliationDirectory, name + ".csv");
+        long size;
+        try {
+            Files.createDirectories(source.getParent());
+            size = Files.copy(content, source);
+        } catch (IOException e) {
+            throw new BusinessException("Could not store statement file: " + e.getMessage());
+        }
+        if (size == 0) {
+            deleteQuietly(source);
+            throw new BusinessException("Statement file is empty");
+        }
+
+        BankReconciliationJob job = new BankReconciliationJob(institutionId, fileName, source.toString());
+        job.setReportPath(Paths.get(reconciliationDirectory, name + "-unmatched.csv").toString());
+        job.setDateWindowDays(window);
+        job.setFileSize(size);
+        job = bankReconciliationJobRepository.save(job);
+
+        submit(job.getId());
+        return mapToJobResponse(job);
+    }
+
+    /**
+     * Get reconciliation job by ID
+     */
+    public BankReconciliationJobResponse getJob(Long jobId) {
+        return mapToJobResponse(findJob(jobId));
+    }
+
+    /**
+     * Get reconciliation jobs of an institution
+     */
+    public Page<BankReconciliationJobResponse> getJobsByInstitution(Long institutionId, Pageable pageable) {
+        return bankReconciliationJobRepository.findByInstitutionId(institutionId, pageable).map(this::mapToJobResponse);
+    }
+
+    /**
+     * Get the unmatched-items report of a finished reconciliation
+     */
+    public Path getUnmatchedReport(Long jobId) {
+        BankReconciliationJob job = findJob(jobId);
+        Path reportPath = job.getReportPath() != null ? Paths.get(job.getReportPath()) : null;
+        if (!job.isFinished() || reportPath == null || !Files.exists(reportPath)) {
+            throw new ResourceNotFoundException("Unmatched report not found for reconciliation job with ID: " + jobId);
+        }
+        return reportPath;
+    }
+
+    private void submit(Long jobId) {
+        if (!runningJobs.add(jobId)) {
+            return;
+        }
+        jobExecutor.execute(() -> {
+            try {
+                runReconciliation(jobId);
+            } finally {
+                runningJobs.remove(jobId);
+            }
+        });
+    }
+
+    private void runReconciliation(Long jobId) {
+        BankReconciliationJob job = bankReconciliationJobRepository.findById(jobId).orElse(null);
+        if (job == null || !ACTIVE_STATUSES.contains(job.getStatus())) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        job.setStatus(BankReconciliationJob.ReconciliationStatus.RUNNING);
+        job.setStartedDate(LocalDateTime.now());
+        job = bankReconciliationJobRepository.save(job);
+
+        Path source = Paths.get(job.getSourcePath());
+        try (CsvRecordReader reader = new CsvRecordReader(
+                     new InputStreamReader(Files.newInputStream(source), StandardCharsets.UTF_8), ',');
+             BufferedWriter report = Files.newBufferedWriter(Paths.get(job.getReportPath()), StandardCharsets.UTF_8)) {
+
+            report.write(REPORT_HEADER);
+            Map<String, Integer> columns = mapColumns(reader.readRecord());
+            OpenPaymentIndex index = loadOpenPayments(job.getInstitutionId());
+            long indexed = System.currentTimeMillis();
+
+            // Exact pass while streaming; everything it cannot match is kept for the fuzzy pass
+            Reconciliation run = new Reconciliation(job, report);
+            List<StatementLine> residual = new ArrayList<>();
+            List<String> record;
+            int lineNumber = 1;
+            while ((record = reader.readRecord()) != null) {
+                StatementLine line = parseLine(++lineNumber, record, columns);
+                run.lines++;
+                if (line.error != null) {
+                    run.reject(line, line.error);
+                    continue;
+                }
+                OpenPayment payment = index.findExact(line, job.getDateWindowDays());
+                if (payment == null) {
+                    residual.add(line);
+                    continue;
+                }
+                payment.claimed = true;
+                run.add(new Match(line, payment, false));
+            }
+            run.flush();
+
+            for (StatementLine line : residual) {
+                List<OpenPayment> candidates = index.findFuzzy(line, job.getDateWindowDays(), fuzzyMaxEdits);
+                if (candidates.size() == 1) {
+                    candidates.get(0).claimed = true;
+                    run.add(new Match(line, candidates.get(0), true));
+                } else if (candidates.size() > 1) {
+                    run.reject(line, "Ambiguous: " + candidates.size() + " pending payments with this amount and a similar reference");
+                } else {
+                    run.reject(line, index.hasAmount(line.amountMinor)
+                            ? "No pending payment with a matching reference" : "No pending payment with this amount");
+                }
+            }
+            run.flush();
+            report.flush();
+
+            job = run.job;
+            job.setStatus(BankReconciliationJob.ReconciliationStatus.COMPLETED);
+            job.setCompletedDate(LocalDateTime.now());
+            bankReconciliationJobRepository.save(job);
+            deleteQuietly(source);
+
+            logger.info("Bank reconciliation {} completed in {} ms ({} ms indexing {} pending payments): {} lines, " +
+                            "{} exact, {} fuzzy, {} unmatched", jobId, System.currentTimeMillis() - started, indexed - started,
+                    index.size, job.getStatementLines(), job.getExactMatches(), job.getFuzzyMatches(), job.getUnmatchedLines());
+        } catch (Exception e) {
+            logger.error("Bank reconciliation {} failed: {}", jobId, e.getMessage());
+            BankReconciliationJob failed = bankReconciliationJobRepository.findById(jobId).orElse(job);
+            failed.setStatus(BankReconciliationJob.ReconciliationStatus.FAILED);
+            String message = String.valueOf(e.getMessage());
+            failed.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+            failed.setCompletedDate(LocalDateTime.now());
+            bankReconciliationJobRepository.save(failed);
+        }
+    }
+
+    private OpenPaymentIndex loadOpenPayments(Long institutionId) {
+        OpenPaymentIndex index = new OpenPaymentIndex();
+        jdbcTemplate.query(OPEN_BANK_TRANSFERS_SQL, rs -> {
+            Date expected = rs.getDate("expected_date");
+            index.add(new OpenPayment(rs.getLong("id"), normalizeReference(rs.getString("payment_reference")),
+                    MinorUnits.of(rs.getBigDecimal("amount_due")),
+                    expected != null ? expected.toLocalDate().toEpochDay() : OpenPayment.UNDATED));
+        }, institutionId);
+        index.sort();
+        return index;
+    }
+
+    /**
+     * Complete the payments of a batch of matches in one transaction together with the job's counters
+     * Matches whose payment stopped being pending since the index was loaded are added to the stale list
+     */
+    private BankReconciliationJob applyMatches(BankReconciliationJob job, List<Match> matches, List<Match> stale) {
+        return batchTransaction.execute(status -> {
+            Map<Long, Payment> payments = new HashMap<>();
+            paymentRepository.findAllById(matches.stream().map(match -> match.payment.id).toList())
+                    .forEach(payment -> payments.put(payment.getId(), payment));
+
+            List<Long> planIds = payments.values().stream()
+                    .filter(Payment::isInstallment).map(Payment::getInstallmentPlanId).distinct().toList();
+            Map<Long, InstallmentPlan> plans = new HashMap<>();
+            installmentPlanRepository.findAllById(planIds).forEach(plan -> plans.put(plan.getId(), plan));
+
+            int exact = 0;
+            int fuzzy = 0;
+            BigDecimal matchedAmount = BigDecimal.ZERO;
+            for (Match match : matches) {
+                Payment payment = payments.get(match.payment.id);
+                if (payment == null || !payment.isPending()) {
+                    stale.add(match);
+                    continue;
+                }
+                payment.markAsCompleted();
+                payment.setPaymentDate(match.line.date);
+                payment.setTransactionId(match.line.transactionId != null
+                        ? match.line.transactionId : "BANK-" + job.getId() + "-" + match.line.lineNumber);
+                payment.setProcessedBy(PROCESSED_BY);
+                InstallmentPlan plan = payment.isInstallment() ? plans.get(payment.getInstallmentPlanId()) : null;
+                if (plan != null && !plan.isCompleted()) {
+                    plan.incrementPaidInstallments();
+                    if (plan.isPaidOff()) {
+                        plan.markAsCompleted();
+                    }
+                }
+                if (match.fuzzy) {
+                    fuzzy++;
+                } else {
+                    exact++;
+                }
+                matchedAmount = matchedAmount.add(match.line.amount);
+            }
+
+            job.setExactMatches(job.getExactMatches() + exact);
+            job.setFuzzyMatches(job.getFuzzyMatches() + fuzzy);
+            job.setMatchedAmount(job.getMatchedAmount().add(matchedAmount));
+            return bankReconciliationJobRepository.save(job);
+        });
+    }
+
+    private Map<String, Integer> mapColumns(List<String> header) {
+        if (header == null) {
+            throw new BusinessException("Statement file has no header row");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = COLUMN_ALIASES.get(header.get(i).replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT));
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Statement file is missing required columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private StatementLine parseLine(int lineNumber, List<String> fields, Map<String, Integer> columns) {
+        StatementLine line = new StatementLine(lineNumber);
+        line.rawDate = value(fields, columns, "date");
+        line.rawAmount = value(fields, columns, "amount");
+        line.reference = value(fields, columns, "reference");
+        line.description = value(fields, columns, "description");
+        line.transactionId = value(fields, columns, "transactionId");
+
+        try {
+            line.date = line.rawDate != null ? LocalDate.parse(line.rawDate) : null;
+        } catch (DateTimeParseException e) {
+            line.error = "Invalid date, expected yyyy-MM-dd";
+            return line;
+        }
+        try {
+            line.amount = line.rawAmount != null ? new BigDecimal(line.rawAmount) : null;
+        } catch (NumberFormatException e) {
+            line.error = "Invalid amount";
+            return line;
+        }
+        if (line.date == null || line.amount == null) {
+            line.error = "Date and amount are required";
+        } else if (line.amount.signum() <= 0) {
+            line.error = "Not a credit";
+        } else if (line.amount.stripTrailingZeros().scale() > 2) {
+            line.error = "Amount has more than two decimals";
+        } else {
+            line.amountMinor = MinorUnits.of(line.amount);
+            line.normalizedReference = normalizeReference(line.reference);
+            line.normalizedText = line.description != null
+                    ? line.normalizedReference + normalizeReference(line.description) : line.normalizedReference;
+        }
+        return line;
+    }
+
+    private static String value(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Upper-case a reference and drop everything but letters and digits, so "pay-2024/001" equals "PAY2024001"
+     */
+    private static String normalizeReference(String reference) {
+        if (reference == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(reference.length());
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toUpperCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Levenshtein distance of two strings, or limit + 1 once it is known to exceed the limit
+     */
+    static int editDistance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete statement file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private BankReconciliationJob findJob(Long jobId) {
+        return bankReconciliationJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bank reconciliation job not found with ID: " + jobId));
+    }
+
+    /**
+     * Map BankReconciliationJob entity to BankReconciliationJobResponse DTO
+     */
+    private BankReconciliationJobResponse mapToJobResponse(BankReconciliationJob job) {
+        BankReconciliationJobResponse response = new BankReconciliationJobResponse();
+        response.setId(job.getId());
+        response.setInstitutionId(job.getInstitutionId());
+        response.setFileName(job.getFileName());
+        response.setStatus(job.getStatus());
+        response.setDateWindowDays(job.getDateWindowDays());
+        response.setFileSize(job.getFileSize());
+        response.setStatementLines(job.getStatementLines());
+        response.setExactMatches(job.getExactMatches());
+        response.setFuzzyMatches(job.getFuzzyMatches());
+        response.setUnmatchedLines(job.getUnmatchedLines());
+        response.setMatchedAmount(job.getMatchedAmount());
+        response.setReportAvailable(job.isFinished() && job.getReportPath() != null);
+        response.setErrorMessage(job.getErrorMessage());
+        response.setStartedDate(job.getStartedDate());
+        response.setCompletedDate(job.getCompletedDate());
+        response.setCreatedDate(job.getCreatedDate());
+        return response;
+    }
+
+    /**
+     * Progress of one reconciliation run: buffers matches into batches and writes rejected lines to the report
+     */
+    private final class Reconciliation {
+        private BankReconciliationJob job;
+        private final BufferedWriter report;
+        private final List<Match> pending = new ArrayList<>();
+        private int lines;
+
+        Reconciliation(BankReconciliationJob job, BufferedWriter report) {
+            this.job = job;
+            this.report = report;
+            job.setStatementLines(0);
+            job.setExactMatches(0);
+            job.setFuzzyMatches(0);
+            job.setUnmatchedLines(0);
+            job.setMatchedAmount(BigDecimal.ZERO);
+        }
+
+        void add(Match match) throws IOException {
+            pending.add(match);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(StatementLine line, String reason) throws IOException {
+            report.write(line.lineNumber + "," + csvField(line.rawDate) + "," + csvField(line.rawAmount) + ","
+                    + csvField(line.reference) + "," + csvField(line.description) + "," + csvField(reason) + "\n");
+            job.setUnmatchedLines(job.getUnmatchedLines() + 1);
+        }
+
+        void flush() throws IOException {
+            List<Match> stale = new ArrayList<>();
+            job.setStatementLines(lines);
+            job = pending.isEmpty() ? bankReconciliationJobRepository.save(job) : applyMatches(job, pending, stale);
+            pending.clear();
+            for (Match match : stale) {
+                reject(match.line, "Payment " + match.payment.reference + " is no longer pending");
+            }
+        }
+    }
+
+    /**
+     * Pending bank transfers indexed by normalized reference and amount for the exact pass and by amount,
+     * sorted by expected date, for the fuzzy pass
+     */
+    private static final class OpenPaymentIndex {
+        private final Map<String, List<OpenPayment>> byReferenceAndAmount = new HashMap<>();
+        private final Map<Long, List<OpenPayment>> byAmount = new HashMap<>();
+        private int size;
+
+        void add(OpenPayment payment) {
+            if (!payment.reference.isEmpty()) {
+                byReferenceAndAmount.computeIfAbsent(payment.reference + ':' + payment.amountMinor, key -> new ArrayList<>(1))
+                        .add(payment);
+            }
+            byAmount.computeIfAbsent(payment.amountMinor, key -> new ArrayList<>()).add(payment);
+            size++;
+        }
+
+        void sort() {
+            byAmount.values().forEach(payments -> payments.sort(Comparator.comparingLong(payment -> payment.expectedDay)));
+        }
+
+        boolean hasAmount(long amountMinor) {
+            return byAmount.containsKey(amountMinor);
+        }
+
+        OpenPayment findExact(StatementLine line, int window) {
+            if (line.normalizedReference.isEmpty()) {
+                return null;
+            }
+            List<OpenPayment> payments = byReferenceAndAmount.get(line.normalizedReference + ':' + line.amountMinor);
+            if (payments == null) {
+                return null;
+            }
+            long day = line.date.toEpochDay();
+            for (OpenPayment payment : payments) {
+                if (!payment.claimed && payment.isWithin(day, window)) {
+                    return payment;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Unclaimed payments of the line's amount inside the date window whose reference the line contains,
+         * or failing that, whose reference is closest to the line's within the edit limit
+         */
+        List<OpenPayment> findFuzzy(StatementLine line, int window, int maxEdits) {
+            List<OpenPayment> payments = byAmount.get(line.amountMinor);
+            if (payments == null) {
+                return List.of();
+            }
+            // Undated payments sort first and are always inside the window
+            long day = line.date.toEpochDay();
+            int undated = 0;
+            while (undated < payments.size() && payments.get(undated).expectedDay == OpenPayment.UNDATED) {
+                undated++;
+            }
+            List<OpenPayment> inWindow = new ArrayList<>(payments.subList(0, undated));
+            for (int i = firstOnOrAfter(payments, undated, day - window); i < payments.size(); i++) {
+                if (payments.get(i).expectedDay > day + window) {
+                    break;
+                }
+                inWindow.add(payments.get(i));
+            }
+
+            List<OpenPayment> contained = new ArrayList<>();
+            List<OpenPayment> closest = new ArrayList<>();
+            int closestDistance = maxEdits + 1;
+            for (OpenPayment payment : inWindow) {
+                if (payment.claimed || payment.reference.isEmpty()) {
+                    continue;
+                }
+                if (payment.reference.length() >= MIN_CONTAINED_REFERENCE_LENGTH && line.normalizedText.contains(payment.reference)) {
+                    contained.add(payment);
+                } else if (contained.isEmpty() && !line.normalizedReference.isEmpty()) {
+                    int distance = editDistance(line.normalizedReference, payment.reference, Math.min(closestDistance, maxEdits));
+                    if (distance < closestDistance) {
+                        closestDistance = distance;
+                        closest.clear();
+                        closest.add(payment);
+                    } else if (distance == closestDistance && distance <= maxEdits) {
+                        closest.add(payment);
+                    }
+                }
+            }
+            return !contained.isEmpty() ? contained : closest;
+        }
+
+        private static int firstOnOrAfter(List<OpenPayment> payments, int from, long day) {
+            int low = from;
+            int high = payments.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (payments.get(middle).expectedDay < day) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Pending bank transfer as held by the index
+     */
+    private static final class OpenPayment {
+        private static final long UNDATED = Long.MIN_VALUE;
+
+        private final long id;
+        private final String reference;
+        private final long amountMinor;
+        private final long expectedDay;
+        private boolean claimed;
+
+        OpenPayment(long id, String reference, long amountMinor, long expectedDay) {
+            this.id = id;
+            this.reference = reference;
+            this.amountMinor = amountMinor;
+            this.expectedDay = expectedDay;
+        }
+
+        boolean isWithin(long day, int window) {
+            return expectedDay == UNDATED || Math.abs(day - expectedDay) <= window;
+        }
+    }
+
+    /**
+     * One statement line with its parsed values
+     */
+    private static final class StatementLine {
+        private final int lineNumber;
+        private String rawDate;
+        private String rawAmount;
+        private String reference;
+        private String description;
+        private String transactionId;
+        private LocalDate date;
+        private BigDecimal amount;
+        private long amountMinor;
+        private String normalizedReference;
+        private String normalizedText;
+        private String error;
+
+        StatementLine(int lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+    }
+
+    /**
+     * Statement line matched to a pending payment
+     */
+    private record Match(StatementLine line, OpenPayment payment, boolean fuzzy) {
+    }
+}
@@ -0,0 +1,548 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.institution_management.repository.InstitutionRepository;
+import com.educationerp.payment_management.dto.CollectionsForecastResponse;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.event.LedgerSourceChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Service class for collections forecasts over installment plans
+ * Projects the unpaid installments of every active plan onto the weeks and months of the horizon and discounts
+ * them by the student's payment history: receipts are expected the student's average number of days late after
+ * the due date, and only in the share of due payments the student has settled. Whatever is not expected in the
+ * period it falls due is at risk.
+ *
+ * The forecast is computed for all institutions at once by a parallel pass over the plans into arrays of minor
+ * units indexed by week and month of the horizon, and cached until plans change or the day rolls over. Plan
+ * changes refresh it in the background; until the refresh is done, the previous forecast is served as stale.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class CollectionsForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollectionsForecastService.class);
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int PLANS_PER_TASK = 2048;
+
+    private static final String PLAN_ROWS_SQL =
+            "SELECT institution_id, student_id, total_amount, down_payment, interest_rate, number_of_installments, " +
+            "paid_installments, frequency, start_date FROM installment_plans WHERE status IN (?, ?) AND is_active = true " +
+            "ORDER BY institution_id, student_id";
+
+    private static final String PAYMENT_HISTORY_SQL =
+            "SELECT student_id, due_date, status, processed_date, payment_date FROM payments " +
+            "WHERE due_date >= ? AND due_date < ? AND status IN (?, ?, ?) AND is_active = true";
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${education.erp.collections-forecast.horizon-months:12}")
+    private int horizonMonths;
+
+    @Value("${education.erp.collections-forecast.lookback-months:24}")
+    private int lookbackMonths;
+
+    @Value("${education.erp.collections-forecast.parallelism:4}")
+    private int parallelism;
+
+    private final AtomicLong planVersion = new AtomicLong();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private final Object buildLock = new Object();
+    private volatile Forecast forecast;
+
+    private ExecutorService refreshExecutor;
+    private ForkJoinPool projectionPool;
+
+    @PostConstruct
+    void initialize() {
+        refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "collections-forecast-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        projectionPool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+        projectionPool.shutdownNow();
+    }
+
+    /**
+     * Compute the forecast once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRefresh();
+    }
+
+    /**
+     * Mark the forecast stale when a committed write changed an installment plan
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerSourceChanged(LedgerSourceChangedEvent event) {
+        if (event.getSourceType() == LedgerEntry.SourceType.INSTALLMENT_PLAN) {
+            planVersion.incrementAndGet();
+            scheduleRefresh();
+        }
+    }
+
+    /**
+     * Get the forecast of an institution's installment receipts per week and month of the horizon
+     */
+    public CollectionsForecastResponse getInstitutionForecast(Long institutionId) {
+        if (!institutionRepository.existsById(institutionId)) {
+            throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+        }
+        Forecast current = currentForecast();
+        return mapToResponse(current, institutionId, current.institutions.get(institutionId));
+    }
+
+    /**
+     * Recompute the forecast of all institutions from the active plans and the payment history
+     */
+    public void rebuild() {
+        synchronized (buildLock) {
+            long started = System.currentTimeMillis();
+            // Read the version first, so a plan change during the build leaves the result stale
+            long version = planVersion.get();
+            Forecast built = build(LocalDate.now(), version);
+            forecast = built;
+            logger.info("Collections forecast built: {} plans in {} institutions, {} ms",
+                    built.planCount, built.institutions.size(), System.currentTimeMillis() - started);
+        }
+    }
+
+    private Forecast currentForecast() {
+        Forecast current = forecast;
+        LocalDate today = LocalDate.now();
+        if (current != null && current.asOf.equals(today)) {
+            return current;
+        }
+        synchronized (buildLock) {
+            current = forecast;
+            if (current == null || !current.asOf.equals(today)) {
+                rebuild();
+                current = forecast;
+            }
+            return current;
+        }
+    }
+
+    private void scheduleRefresh() {
+        // Plan writes come in bursts; one queued refresh covers all of them
+        if (refreshQueued.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                refreshQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    logger.error("Collections forecast refresh failed", e);
+                }
+            });
+        }
+    }
+
+    private Forecast build(LocalDate asOf, long version) {
+        Horizon horizon = new Horizon(asOf, horizonMonths);
+        Map<Long, Lateness> history = loadHistory(asOf);
+        Plans plans = loadPlans(history);
+
+        Projection[] projections = new Projection[plans.institutionIds.length];
+        for (int index = 0; index < projections.length; index++) {
+            projections[index] = new Projection(horizon, plans.planCounts[index], plans.studentCounts[index]);
+        }
+        int tasks = (plans.size + PLANS_PER_TASK - 1) / PLANS_PER_TASK;
+        try {
+            projectionPool.submit(() -> IntStream.range(0, tasks).parallel()
+                    .forEach(task -> project(plans, horizon, task * PLANS_PER_TASK,
+                            Math.min(plans.size, (task + 1) * PLANS_PER_TASK), projections))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Collections forecast interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Collections forecast failed", e.getCause());
+        }
+
+        Map<Long, Projection> institutions = new HashMap<>();
+        for (int index = 0; index < projections.length; index++) {
+            institutions.put(plans.institutionIds[index], projections[index]);
+        }
+        return new Forecast(horizon, version, plans.size, institutions);
+    }
+
+    /**
+     * Project a range of plans into partial arrays and add them to the institutions' projections
+     * Plans are ordered by institution, so a range only touches a few projections
+     */
+    private static void project(Plans plans, Horizon horizon, int from, int to, Projection[] projections) {
+        int institution = plans.institutionIndex[from];
+        Projection partial = new Projection(horizon, 0, 0);
+        for (int plan = from; plan < to; plan++) {
+            if (plans.institutionIndex[plan] != institution) {
+                projections[institution].add(partial);
+                institution = plans.institutionIndex[plan];
+                partial = new Projection(horizon, 0, 0);
+            }
+            List<InstallmentScheduleCalculator.ScheduledInstallment> schedule = InstallmentScheduleCalculator.amortize(
+                    plans.principalMinor[plan], plans.interestRate[plan], plans.installments[plan],
+                    plans.frequency[plan], plans.startDate[plan]);
+            for (int number = plans.paidInstallments[plan]; number < schedule.size(); number++) {
+                InstallmentScheduleCalculator.ScheduledInstallment installment = schedule.get(number);
+                partial.addInstallment(installment.getDueDate().toEpochDay(), installment.getAmountMinor(),
+                        plans.collectionRate[plan], plans.delayDays[plan]);
+            }
+        }
+        projections[institution].add(partial);
+    }
+
+    private Map<Long, Lateness> loadHistory(LocalDate asOf) {
+        Map<Long, Lateness> history = new HashMap<>();
+        long today = asOf.toEpochDay();
+        jdbcTemplate.query(PAYMENT_HISTORY_SQL, rs -> {
+            long dueDay = rs.getDate(2).toLocalDate().toEpochDay();
+            Lateness lateness = history.computeIfAbsent(rs.getLong(1), id -> new Lateness());
+            if (Payment.PaymentStatus.COMPLETED.name().equals(rs.getString(3))) {
+                Timestamp processed = rs.getTimestamp(4);
+                long settledDay = processed != null
+                        ? processed.toLocalDateTime().toLocalDate().toEpochDay()
+                        : rs.getDate(5).toLocalDate().toEpochDay();
+                lateness.settled++;
+                lateness.lateDays += Math.max(0L, settledDay - dueDay);
+            } else if (dueDay < today) {
+                lateness.missed++;
+            }
+        }, Date.valueOf(asOf.minusMonths(lookbackMonths)), Date.valueOf(asOf),
+                Payment.PaymentStatus.COMPLETED.name(), Payment.PaymentStatus.PENDING.name(),
+                Payment.PaymentStatus.PARTIAL.name());
+        return history;
+    }
+
+    private Plans loadPlans(Map<Long, Lateness> history) {
+        Plans plans = new Plans();
+        List<Long> institutionIds = new ArrayList<>();
+        List<int[]> counts = new ArrayList<>();
+        int[] skipped = new int[1];
+        jdbcTemplate.query(PLAN_ROWS_SQL, rs -> {
+            int installments = rs.getInt(6);
+            Date startDate = rs.getDate(9);
+            long principal = MinorUnits.of(rs.getBigDecimal(3)) - MinorUnits.of(rs.getBigDecimal(4));
+            if (installments <= 0 || startDate == null || principal < 0) {
+                skipped[0]++;
+                return;
+            }
+            Long institutionId = rs.getLong(1);
+            long studentId = rs.getLong(2);
+            boolean newInstitution = institutionIds.isEmpty() || !institutionIds.get(institutionIds.size() - 1).equals(institutionId);
+            if (newInstitution) {
+                institutionIds.add(institutionId);
+                counts.add(new int[2]);
+            }
+            int[] institutionCounts = counts.get(counts.size() - 1);
+            if (newInstitution || plans.studentIds[plans.size - 1] != studentId) {
+                institutionCounts[1]++;
+            }
+            institutionCounts[0]++;
+
+            Lateness lateness = history.get(studentId);
+            String frequency = rs.getString(8);
+            plans.append(institutionIds.size() - 1, studentId, principal, rs.getBigDecimal(5), installments,
+                    Math.min(rs.getInt(7), installments),
+                    frequency != null ? InstallmentPlan.InstallmentFrequency.valueOf(frequency) : null,
+                    startDate.toLocalDate(),
+                    lateness != null ? lateness.collectionRate() : 1.0, lateness != null ? lateness.delayDays() : 0);
+        }, InstallmentPlan.InstallmentStatus.ACTIVE.name(), InstallmentPlan.InstallmentStatus.OVERDUE.name());
+
+        if (skipped[0] > 0) {
+            logger.debug("Collections forecast skipped {} plans without complete terms", skipped[0]);
+        }
+        plans.institutionIds = institutionIds.stream().mapToLong(Long::longValue).toArray();
+        plans.planCounts = counts.stream().mapToInt(institutionCounts -> institutionCounts[0]).toArray();
+        plans.studentCounts = counts.stream().mapToInt(institutionCounts -> institutionCounts[1]).toArray();
+        return plans;
+    }
+
+    private CollectionsForecastResponse mapToResponse(Forecast current, Long institutionId, Projection projection) {
+        Horizon horizon = current.horizon;
+        if (projection == null) {
+            projection = new Projection(horizon, 0, 0);
+        }
+        List<CollectionsForecastResponse.Period> weeks = new ArrayList<>(horizon.weeks);
+        for (int week = 0; week < horizon.weeks; week++) {
+            LocalDate start = horizon.asOf.plusDays((long) week * DAYS_PER_WEEK);
+            LocalDate end = start.plusDays(DAYS_PER_WEEK - 1L);
+            weeks.add(mapToPeriod(start, end.isBefore(horizon.end) ? end : horizon.end.minusDays(1),
+                    projection.scheduledWeeks[week], projection.expectedWeeks[week], projection.atRiskWeeks[week]));
+        }
+        List<CollectionsForecastResponse.Period> months = new ArrayList<>(horizon.months);
+        for (int month = 0; month < horizon.months; month++) {
+            YearMonth yearMonth = YearMonth.from(horizon.asOf).plusMonths(month);
+            months.add(mapToPeriod(month == 0 ? horizon.asOf : yearMonth.atDay(1), yearMonth.atEndOfMonth(),
+                    projection.scheduledMonths[month], projection.expectedMonths[month], projection.atRiskMonths[month]));
+        }
+
+        long scheduled = sum(projection.scheduledMonths);
+        long expected = sum(projection.expectedMonths);
+        CollectionsForecastResponse response = new CollectionsForecastResponse();
+        response.setInstitutionId(institutionId);
+        response.setAsOf(horizon.asOf);
+        response.setHorizonMonths(horizon.months);
+        response.setPlanCount(projection.planCount);
+        response.setStudentCount(projection.studentCount);
+        response.setScheduledAmount(MinorUnits.toAmount(scheduled));
+        response.setExpectedAmount(MinorUnits.toAmount(expected));
+        response.setRevenueAtRisk(MinorUnits.toAmount(scheduled - expected));
+        response.setArrearsAmount(MinorUnits.toAmount(projection.arrearsMinor));
+        response.setWeeks(weeks);
+        response.setMonths(months);
+        response.setStale(current.version != planVersion.get());
+        response.setGeneratedAt(current.generatedAt);
+        return response;
+    }
+
+    private static CollectionsForecastResponse.Period mapToPeriod(LocalDate start, LocalDate end, long scheduled,
+                                                                  long expected, long atRisk) {
+        return new CollectionsForecastResponse.Period(start, end, MinorUnits.toAmount(scheduled),
+                MinorUnits.toAmount(expected), MinorUnits.toAmount(atRisk));
+    }
+
+    private static long sum(long[] amounts) {
+        long total = 0;
+        for (long amount : amounts) {
+            total += amount;
+        }
+        return total;
+    }
+
+    /**
+     * Forecast of all institutions computed on one day
+     */
+    private static final class Forecast {
+        final Horizon horizon;
+        final LocalDate asOf;
+        final long version;
+        final int planCount;
+        final Map<Long, Projection> institutions;
+        final LocalDateTime generatedAt = LocalDateTime.now();
+
+        Forecast(Horizon horizon, long version, int planCount, Map<Long, Projection> institutions) {
+            this.horizon = horizon;
+            this.asOf = horizon.asOf;
+            this.version = version;
+            this.planCount = planCount;
+            this.institutions = institutions;
+        }
+    }
+
+    /**
+     * Weeks and months from the forecast day to the end of the last month of the horizon, with the month of
+     * every day so that the projection does not need date arithmetic per installment
+     */
+    private static final class Horizon {
+        final LocalDate asOf;
+        final LocalDate end;
+        final long firstDay;
+        final int days;
+        final int weeks;
+        final int months;
+        final int[] monthOfDay;
+
+        Horizon(LocalDate asOf, int horizonMonths) {
+            this.asOf = asOf;
+            this.months = Math.max(1, horizonMonths);
+            this.end = YearMonth.from(asOf).plusMonths(months).atDay(1);
+            this.firstDay = asOf.toEpochDay();
+            this.days = (int) (end.toEpochDay() - firstDay);
+            this.weeks = (days + DAYS_PER_WEEK - 1) / DAYS_PER_WEEK;
+            this.monthOfDay = new int[days];
+            int month = 0;
+            LocalDate monthEnd = YearMonth.from(asOf).atEndOfMonth();
+            for (int day = 0; day < days; day++) {
+                if (asOf.plusDays(day).isAfter(monthEnd)) {
+                    month++;
+                    monthEnd = YearMonth.from(asOf).plusMonths(month).atEndOfMonth();
+                }
+                monthOfDay[day] = month;
+            }
+        }
+    }
+
+    /**
+     * Receipts of one institution in minor units per week and month of the horizon
+     */
+    private static final class Projection {
+        final long[] scheduledWeeks;
+        final long[] expectedWeeks;
+        final long[] atRiskWeeks;
+        final long[] scheduledMonths;
+        final long[] expectedMonths;
+        final long[] atRiskMonths;
+        final Horizon horizon;
+        final int planCount;
+        final int studentCount;
+        long arrearsMinor;
+
+        Projection(Horizon horizon, int planCount, int studentCount) {
+            this.horizon = horizon;
+            this.planCount = planCount;
+            this.studentCount = studentCount;
+            scheduledWeeks = new long[horizon.weeks];
+            expectedWeeks = new long[horizon.weeks];
+            atRiskWeeks = new long[horizon.weeks];
+            scheduledMonths = new long[horizon.months];
+            expectedMonths = new long[horizon.months];
+            atRiskMonths = new long[horizon.months];
+        }
+
+        /**
+         * Add an installment falling due on an epoch day; arrears count as due on the forecast day
+         * The amount not expected in the week or month it is due is at risk for that period
+         */
+        void addInstallment(long dueDay, long amountMinor, double collectionRate, int delayDays) {
+            int due = (int) Math.max(0L, dueDay - horizon.firstDay);
+            if (dueDay < horizon.firstDay) {
+                arrearsMinor += amountMinor;
+            }
+            if (due >= horizon.days) {
+                return;
+            }
+            long expected = Math.round(amountMinor * collectionRate);
+            long received = Math.max(0L, dueDay + delayDays - horizon.firstDay);
+            int dueWeek = due / DAYS_PER_WEEK;
+            int dueMonth = horizon.monthOfDay[due];
+            scheduledWeeks[dueWeek] += amountMinor;
+            scheduledMonths[dueMonth] += amountMinor;
+
+            int receivedWeek = -1;
+            int receivedMonth = -1;
+            if (received < horizon.days) {
+                receivedWeek = (int) received / DAYS_PER_WEEK;
+                receivedMonth = horizon.monthOfDay[(int) received];
+                expectedWeeks[receivedWeek] += expected;
+                expectedMonths[receivedMonth] += expected;
+            }
+            atRiskWeeks[dueWeek] += receivedWeek == dueWeek ? amountMinor - expected : amountMinor;
+            atRiskMonths[dueMonth] += receivedMonth == dueMonth ? amountMinor - expected : amountMinor;
+        }
+
+        synchronized void add(Projection partial) {
+            for (int week = 0; week < scheduledWeeks.length; week++) {
+                scheduledWeeks[week] += partial.scheduledWeeks[week];
+                expectedWeeks[week] += partial.expectedWeeks[week];
+                atRiskWeeks[week] += partial.atRiskWeeks[week];
+            }
+            for (int month = 0; month < scheduledMonths.length; month++) {
+                scheduledMonths[month] += partial.scheduledMonths[month];
+                expectedMonths[month] += partial.expectedMonths[month];
+                atRiskMonths[month] += partial.atRiskMonths[month];
+            }
+            arrearsMinor += partial.arrearsMinor;
+        }
+    }
+
+    /**
+     * Active plans in parallel arrays, ordered by institution and student
+     */
+    private static final class Plans {
+        int size;
+        long[] institutionIds;
+        int[] planCounts;
+        int[] studentCounts;
+        int[] institutionIndex = new int[1024];
+        long[] studentIds = new long[1024];
+        long[] principalMinor = new long[1024];
+        BigDecimal[] interestRate = new BigDecimal[1024];
+        int[] installments = new int[1024];
+        int[] paidInstallments = new int[1024];
+        InstallmentPlan.InstallmentFrequency[] frequency = new InstallmentPlan.InstallmentFrequency[1024];
+        LocalDate[] startDate = new LocalDate[1024];
+        double[] collectionRate = new double[1024];
+        int[] delayDays = new int[1024];
+
+        void append(int institution, long studentId, long principal, BigDecimal rate, int numberOfInstallments,
+                    int paid, InstallmentPlan.InstallmentFrequency planFrequency, LocalDate start, double rateCollected,
+                    int delay) {
+            if (size == studentIds.length) {
+                int capacity = size * 2;
+                institutionIndex = Arrays.copyOf(institutionIndex, capacity);
+                studentIds = Arrays.copyOf(studentIds, capacity);
+                principalMinor = Arrays.copyOf(principalMinor, capacity);
+                interestRate = Arrays.copyOf(interestRate, capacity);
+                installments = Arrays.copyOf(installments, capacity);
+                paidInstallments = Arrays.copyOf(paidInstallments, capacity);
+                frequency = Arrays.copyOf(frequency, capacity);
+                startDate = Arrays.copyOf(startDate, capacity);
+                collectionRate = Arrays.copyOf(collectionRate, capacity);
+                delayDays = Arrays.copyOf(delayDays, capacity);
+            }
+            institutionIndex[size] = institution;
+            studentIds[size] = studentId;
+            principalMinor[size] = principal;
+            interestRate[size] = rate;
+            installments[size] = numberOfInstallments;
+            paidInstallments[size] = paid;
+            frequency[size] = planFrequency;
+            startDate[size] = start;
+            collectionRate[size] = rateCollected;
+            delayDays[size] = delay;
+            size++;
+        }
+    }
+
+    /**
+     * Payment history of a student over the lookback period
+     */
+    private static final class Lateness {
+        int settled;
+        int missed;
+        long lateDays;
+
+        /**
+         * Share of due payments the student settled, counting one settled payment in advance so that a single
+         * missed payment does not write a student off
+         */
+        double collectionRate() {
+            return (settled + 1.0) / (settled + missed + 1.0);
+        }
+
+        int delayDays() {
+            return settled > 0 ? (int) Math.round((double) lateDays / settled) : 0;
+        }
+    }
+}
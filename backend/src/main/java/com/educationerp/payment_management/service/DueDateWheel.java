@@ -0,0 +1,125 @@
+package com.educationerp.payment_management.service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Hierarchical timing wheel of days
+ * Level 0 has a slot per day and every higher level a slot per turn of the level below, so scheduling and
+ * expiring a day are constant time however far ahead it lies. Days of a higher level cascade down when the
+ * wheel reaches their span; days beyond the last level wait in an overflow set.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+final class DueDateWheel {
+
+    private static final int SLOTS = 32;
+    private static final int LEVELS = 3;
+
+    private final List<List<Set<Long>>> levels = new ArrayList<>(LEVELS);
+    private final Set<Long> overflow = new HashSet<>();
+    private final Set<Long> scheduled = new HashSet<>();
+    private long current;
+
+    /**
+     * Create a wheel whose days up to and including the given one have expired
+     */
+    DueDateWheel(LocalDate expiredThrough) {
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Long>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new HashSet<>());
+            }
+            levels.add(slots);
+        }
+        this.current = expiredThrough.toEpochDay();
+    }
+
+    /**
+     * Schedule a day; returns false when the day has already expired
+     */
+    synchronized boolean schedule(LocalDate day) {
+        long epochDay = day.toEpochDay();
+        if (epochDay <= current) {
+            return false;
+        }
+        if (scheduled.add(epochDay)) {
+            place(epochDay);
+        }
+        return true;
+    }
+
+    /**
+     * Turn the wheel to the given day and return the scheduled days that expired, in order
+     */
+    synchronized List<LocalDate> advanceTo(LocalDate day) {
+        List<LocalDate> expired = new ArrayList<>();
+        long target = day.toEpochDay();
+        while (current < target) {
+            current++;
+            long span = spanOf(LEVELS - 1);
+            if (current % (span * SLOTS) == 0) {
+                cascadeOverflow();
+            }
+            for (int level = LEVELS - 1; level > 0; level--) {
+                span = spanOf(level);
+                if (current % span == 0) {
+                    cascade(levels.get(level).get((int) ((current / span) % SLOTS)));
+                }
+            }
+            Set<Long> slot = levels.get(0).get((int) (current % SLOTS));
+            if (!slot.isEmpty()) {
+                expired.add(LocalDate.ofEpochDay(current));
+                scheduled.removeAll(slot);
+                slot.clear();
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Last expired day
+     */
+    synchronized LocalDate expiredThrough() {
+        return LocalDate.ofEpochDay(current);
+    }
+
+    /**
+     * Number of scheduled days
+     */
+    synchronized int size() {
+        return scheduled.size();
+    }
+
+    private void place(long epochDay) {
+        for (int level = 0; level < LEVELS; level++) {
+            long span = spanOf(level);
+            if (epochDay / span - current / span < SLOTS) {
+                levels.get(level).get((int) ((epochDay / span) % SLOTS)).add(epochDay);
+                return;
+            }
+        }
+        overflow.add(epochDay);
+    }
+
+    private void cascade(Set<Long> slot) {
+        List<Long> days = new ArrayList<>(slot);
+        slot.clear();
+        days.forEach(this::place);
+    }
+
+    private void cascadeOverflow() {
+        List<Long> days = new ArrayList<>(overflow);
+        overflow.clear();
+        days.forEach(this::place);
+    }
+
+    private static long spanOf(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span *= SLOTS;
+        }
+        return span;
+    }
+}
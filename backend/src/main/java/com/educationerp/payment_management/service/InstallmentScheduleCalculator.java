@@ -0,0 +1,145 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.payment_management.entity.InstallmentPlan;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Amortization of installment plans in minor units
+ * The periodic rate is the annual interest rate divided by the installments per year of the frequency.
+ * Every installment but the last pays the same level amount; interest of each period is rounded half up
+ * on the open balance and the last installment pays off whatever balance the rounding left.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public final class InstallmentScheduleCalculator {
+
+    /** Interest rates are kept as hundredths of a percent, so a whole rate is this many units */
+    private static final long RATE_UNITS = 10_000L;
+
+    private InstallmentScheduleCalculator() {
+    }
+
+    /**
+     * Compute the schedule of a principal repaid in the given number of installments
+     */
+    public static List<ScheduledInstallment> amortize(long principalMinor, BigDecimal annualInterestRate,
+                                                      int numberOfInstallments, InstallmentPlan.InstallmentFrequency frequency,
+                                                      LocalDate startDate) {
+        if (principalMinor < 0 || numberOfInstallments <= 0) {
+            throw new IllegalArgumentException("Principal must not be negative and installments must be positive");
+        }
+        long rateUnits = annualInterestRate != null ? MinorUnits.of(annualInterestRate) : 0L;
+        long divisor = RATE_UNITS * periodsPerYear(frequency);
+        long level = levelPayment(principalMinor, rateUnits, divisor, numberOfInstallments);
+
+        List<ScheduledInstallment> schedule = new ArrayList<>(numberOfInstallments);
+        long balance = principalMinor;
+        for (int number = 1; number <= numberOfInstallments; number++) {
+            long interest = rateUnits > 0 ? divideHalfUp(Math.multiplyExact(balance, rateUnits), divisor) : 0L;
+            long principal = number < numberOfInstallments ? Math.min(level - interest, balance) : balance;
+            balance -= principal;
+            schedule.add(new ScheduledInstallment(number, dueDate(startDate, frequency, number),
+                    principal + interest, principal, interest, balance));
+        }
+        return schedule;
+    }
+
+    /**
+     * Due date of an installment counted from the start date, the first installment falling on the start date
+     * Every date is derived from the start so month ends do not drift
+     */
+    public static LocalDate dueDate(LocalDate startDate, InstallmentPlan.InstallmentFrequency frequency, int number) {
+        if (startDate == null) {
+            return null;
+        }
+        long periods = number - 1L;
+        return switch (frequency != null ? frequency : InstallmentPlan.InstallmentFrequency.MONTHLY) {
+            case WEEKLY -> startDate.plusWeeks(periods);
+            case MONTHLY -> startDate.plusMonths(periods);
+            case QUARTERLY -> startDate.plusMonths(3 * periods);
+            case SEMESTERLY -> startDate.plusMonths(6 * periods);
+            case YEARLY -> startDate.plusYears(periods);
+        };
+    }
+
+    public static int periodsPerYear(InstallmentPlan.InstallmentFrequency frequency) {
+        return switch (frequency != null ? frequency : InstallmentPlan.InstallmentFrequency.MONTHLY) {
+            case WEEKLY -> 52;
+            case MONTHLY -> 12;
+            case QUARTERLY -> 4;
+            case SEMESTERLY -> 2;
+            case YEARLY -> 1;
+        };
+    }
+
+    /**
+     * Level installment of an annuity, P * r / (1 - (1 + r)^-n), or P / n without interest
+     * Rounded up to a minor unit, so the last installment is never larger than the others
+     */
+    private static long levelPayment(long principalMinor, long rateUnits, long divisor, int numberOfInstallments) {
+        if (rateUnits == 0) {
+            return (principalMinor + numberOfInstallments - 1) / numberOfInstallments;
+        }
+        double rate = (double) rateUnits / divisor;
+        double factor = rate / (1 - Math.pow(1 + rate, -numberOfInstallments));
+        return (long) Math.ceil(principalMinor * factor);
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        return (dividend + divisor / 2) / divisor;
+    }
+
+    /**
+     * One dated installment of a schedule, amounts in minor units
+     */
+    public static final class ScheduledInstallment {
+        private final int number;
+        private final LocalDate dueDate;
+        private final long amountMinor;
+        private final long principalMinor;
+        private final long interestMinor;
+        private final long balanceMinor;
+
+        ScheduledInstallment(int number, LocalDate dueDate, long amountMinor, long principalMinor,
+                             long interestMinor, long balanceMinor) {
+            this.number = number;
+            this.dueDate = dueDate;
+            this.amountMinor = amountMinor;
+            this.principalMinor = principalMinor;
+            this.interestMinor = interestMinor;
+            this.balanceMinor = balanceMinor;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public LocalDate getDueDate() {
+            return dueDate;
+        }
+
+        public long getAmountMinor() {
+            return amountMinor;
+        }
+
+        public long getPrincipalMinor() {
+            return principalMinor;
+        }
+
+        public long getInterestMinor() {
+            return interestMinor;
+        }
+
+        /**
+         * Principal still open after this installment
+         */
+        public long getBalanceMinor() {
+            return balanceMinor;
+        }
+    }
+}
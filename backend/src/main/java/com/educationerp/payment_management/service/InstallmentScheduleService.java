@@ -0,0 +1,468 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.payment_management.dto.InstallmentScheduleBatchRequest;
+import com.educationerp.payment_management.dto.InstallmentScheduleBatchResponse;
+import com.educationerp.payment_management.dto.InstallmentScheduleResponse;
+import com.educationerp.payment_management.dto.InstallmentWhatIfRequest;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.event.LedgerSourceChangedEvent;
+import com.educationerp.payment_management.event.PaymentChangedEvent;
+import com.educationerp.payment_management.event.PaymentRevenueAddedEvent;
+import com.educationerp.payment_management.event.PaymentRevenueChangedEvent;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for installment schedules
+ * A plan's schedule is amortized in minor units from its price, down payment, interest rate, frequency and
+ * start date, and materialized as one pending installment payment per unpaid installment. The overdue sweep,
+ * gateway callbacks, bank reconciliation and payment allocation all work on these rows. Bulk materialization
+ * computes schedules outside the write transaction and inserts the rows with batched statements; what-if
+ * schedules are computed without touching the database.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class InstallmentScheduleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstallmentScheduleService.class);
+
+    public static final String INSTALLMENT_REFERENCE_PREFIX = "INST-";
+
+    private static final String SCHEDULED_BY = "installment-schedule";
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final Set<InstallmentPlan.InstallmentStatus> SCHEDULABLE_STATUSES =
+            Set.of(InstallmentPlan.InstallmentStatus.ACTIVE, InstallmentPlan.InstallmentStatus.OVERDUE);
+
+    private static final String INSERT_INSTALLMENT_SQL =
+            "INSERT INTO payments (institution_id, branch_id, student_id, payment_reference, amount, final_amount, " +
+            "payment_type, payment_method, status, payment_date, due_date, installment_plan_id, installment_number, " +
+            "total_installments, course_id, product_id, package_id, description, created_date, created_by, is_active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true)";
+
+    private static final String UPDATE_PLAN_SQL =
+            "UPDATE installment_plans SET installment_amount = ?, total_interest = ?, remaining_installments = ?, " +
+            "end_date = ?, updated_date = ?, updated_by = ? WHERE id = ? AND paid_installments = ? AND is_active = true";
+
+    @Autowired
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.installment-schedule.batch-size:500}")
+    private int batchSize;
+
+    @Value("${education.erp.installment-schedule.max-plans-per-request:10000}")
+    private int maxPlansPerRequest;
+
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @PostConstruct
+    void initialize() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Get the schedule of a plan, with the amounts and due dates of its installment rows once materialized
+     */
+    public InstallmentScheduleResponse getSchedule(Long planId) {
+        logger.info("Fetching installment schedule for plan: {}", planId);
+
+        InstallmentPlan plan = findPlan(planId);
+        String reason = incompleteTermsReason(plan);
+        if (reason != null) {
+            throw new BusinessException("Installment plan " + planId + " has no schedule: " + reason);
+        }
+        Map<Integer, Payment> rows = new HashMap<>();
+        paymentRepository.findScheduledInstallments(List.of(planId)).forEach(row -> rows.putIfAbsent(row.getInstallmentNumber(), row));
+
+        Terms terms = Terms.of(plan);
+        int paid = plan.getPaidInstallments() != null ? plan.getPaidInstallments() : 0;
+        InstallmentScheduleResponse response = mapToResponse(terms, terms.amortize(), plan, rows, paid);
+        response.setMaterialized(!rows.isEmpty());
+        return response;
+    }
+
+    /**
+     * Materialize the schedule of a plan as installment payments
+     */
+    public InstallmentScheduleResponse materializeSchedule(Long planId) {
+        logger.info("Materializing installment schedule for plan: {}", planId);
+
+        InstallmentPlan plan = findPlan(planId);
+        String reason = unschedulableReason(plan);
+        if (reason != null) {
+            throw new BusinessException("Installment plan " + planId + " cannot be scheduled: " + reason);
+        }
+        if (!paymentRepository.findScheduledPlanIds(List.of(planId)).isEmpty()) {
+            throw new BusinessException("Installment plan " + planId + " already has a schedule");
+        }
+        materializeChunk(List.of(planId));
+        return getSchedule(planId);
+    }
+
+    /**
+     * Materialize the schedules of many plans, skipping plans that already have one or cannot be scheduled
+     */
+    public InstallmentScheduleBatchResponse materializeSchedules(InstallmentScheduleBatchRequest request) {
+        long started = System.currentTimeMillis();
+        List<Long> planIds = new ArrayList<>(new LinkedHashSet<>(request.getPlanIds()));
+        if (planIds.size() > maxPlansPerRequest) {
+            throw new BusinessException("At most " + maxPlansPerRequest + " plans can be scheduled per request");
+        }
+        logger.info("Materializing installment schedules for {} plans", planIds.size());
+
+        int scheduled = 0;
+        int installments = 0;
+        for (int from = 0; from < planIds.size(); from += QUERY_CHUNK_SIZE) {
+            int[] counts = materializeChunk(planIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, planIds.size())));
+            scheduled += counts[0];
+            installments += counts[1];
+        }
+
+        InstallmentScheduleBatchResponse response = new InstallmentScheduleBatchResponse();
+        response.setRequestedPlans(planIds.size());
+        response.setScheduledPlans(scheduled);
+        response.setSkippedPlans(planIds.size() - scheduled);
+        response.setInstallmentsCreated(installments);
+        response.setDurationMs(System.currentTimeMillis() - started);
+        logger.info("Materialized {} installment schedules with {} installments in {} ms", scheduled, installments,
+                response.getDurationMs());
+        return response;
+    }
+
+    /**
+     * Compute the schedule of the base terms and of every scenario without saving anything
+     */
+    public List<InstallmentScheduleResponse> whatIf(InstallmentWhatIfRequest request) {
+        InstallmentPlan plan = request.getPlanId() != null ? findPlan(request.getPlanId()) : null;
+        Terms base = plan != null ? Terms.of(plan) : new Terms();
+        base.name = "Base";
+        base.override(request.getTotalAmount(), request.getDownPayment(), request.getInterestRate(),
+                request.getNumberOfInstallments(), request.getFrequency(), request.getStartDate());
+        if (base.totalAmount == null || base.numberOfInstallments == null || base.startDate == null) {
+            throw new BusinessException("Total amount, number of installments and start date are required when the plan does not set them");
+        }
+
+        List<Terms> alternatives = new ArrayList<>();
+        alternatives.add(base);
+        if (request.getScenarios() != null) {
+            int index = 1;
+            for (InstallmentWhatIfRequest.Scenario scenario : request.getScenarios()) {
+                Terms terms = base.copy();
+                terms.name = scenario.getName() != null ? scenario.getName() : "Scenario " + index;
+                terms.override(null, scenario.getDownPayment(), scenario.getInterestRate(),
+                        scenario.getNumberOfInstallments(), scenario.getFrequency(), scenario.getStartDate());
+                alternatives.add(terms);
+                index++;
+            }
+        }
+
+        List<InstallmentScheduleResponse> schedules = new ArrayList<>();
+        for (Terms terms : alternatives) {
+            if (terms.numberOfInstallments <= 0) {
+                throw new BusinessException("Number of installments must be at least 1 in " + terms.name);
+            }
+            if (terms.principalMinor() < 0) {
+                throw new BusinessException("Down payment must not exceed the total amount in " + terms.name);
+            }
+            InstallmentScheduleResponse response = mapToResponse(terms, terms.amortize(), plan, Map.of(), 0);
+            response.setMaterialized(false);
+            schedules.add(response);
+        }
+        return schedules;
+    }
+
+    private InstallmentPlan findPlan(Long planId) {
+        return installmentPlanRepository.findById(planId)
+                .orElseThrow(() -> new ResourceNotFoundException("Installment plan not found with ID: " + planId));
+    }
+
+    private static String unschedulableReason(InstallmentPlan plan) {
+        if (!Boolean.TRUE.equals(plan.getIsActive()) || !SCHEDULABLE_STATUSES.contains(plan.getStatus())) {
+            return "plan is " + plan.getStatus();
+        }
+        return incompleteTermsReason(plan);
+    }
+
+    private static String incompleteTermsReason(InstallmentPlan plan) {
+        if (plan.getNumberOfInstallments() == null || plan.getNumberOfInstallments() <= 0 || plan.getStartDate() == null) {
+            return "number of installments and start date are required";
+        }
+        if (Terms.of(plan).principalMinor() < 0) {
+            return "down payment exceeds the total amount";
+        }
+        return null;
+    }
+
+    /**
+     * Schedule a chunk of plans, returning the number of plans scheduled and installment rows created
+     */
+    private int[] materializeChunk(List<Long> planIds) {
+        List<InstallmentPlan> plans = new ArrayList<>();
+        readTransaction.executeWithoutResult(status -> {
+            Set<Long> scheduled = new HashSet<>(paymentRepository.findScheduledPlanIds(planIds));
+            installmentPlanRepository.findAllById(planIds).forEach(plan -> {
+                if (!scheduled.contains(plan.getId()) && unschedulableReason(plan) == null) {
+                    plans.add(plan);
+                }
+            });
+        });
+        if (plans.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        // Schedules are computed on the detached plans before the write transaction starts
+        List<Payment> installments = new ArrayList<>();
+        Map<Long, Integer> expectedPaid = new HashMap<>();
+        for (InstallmentPlan plan : plans) {
+            List<InstallmentScheduleCalculator.ScheduledInstallment> schedule = Terms.of(plan).amortize();
+            long totalInterest = schedule.stream().mapToLong(InstallmentScheduleCalculator.ScheduledInstallment::getInterestMinor).sum();
+            int paid = plan.getPaidInstallments() != null ? plan.getPaidInstallments() : 0;
+            expectedPaid.put(plan.getId(), paid);
+            plan.setInstallmentAmount(MinorUnits.toAmount(schedule.get(0).getAmountMinor()));
+            plan.setTotalInterest(MinorUnits.toAmount(totalInterest));
+            plan.setPaidInstallments(paid);
+            plan.updateRemainingInstallments();
+            plan.setEndDate(schedule.get(schedule.size() - 1).getDueDate());
+            for (InstallmentScheduleCalculator.ScheduledInstallment installment : schedule) {
+                if (installment.getNumber() > paid) {
+                    installments.add(newInstallment(plan, installment));
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdDate = Timestamp.valueOf(now);
+        try {
+            writeTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_INSTALLMENT_SQL, installments, batchSize, (ps, payment) -> {
+                    ps.setLong(1, payment.getInstitutionId());
+                    ps.setObject(2, payment.getBranchId(), Types.BIGINT);
+                    ps.setLong(3, payment.getStudentId());
+                    ps.setString(4, payment.getPaymentReference());
+                    ps.setBigDecimal(5, payment.getAmount());
+                    ps.setBigDecimal(6, payment.getFinalAmount());
+                    ps.setString(7, payment.getPaymentType().name());
+                    ps.setString(8, payment.getPaymentMethod().name());
+                    ps.setString(9, payment.getStatus().name());
+                    ps.setDate(10, Date.valueOf(payment.getPaymentDate()));
+                    ps.setDate(11, Date.valueOf(payment.getDueDate()));
+                    ps.setLong(12, payment.getInstallmentPlanId());
+                    ps.setInt(13, payment.getInstallmentNumber());
+                    ps.setInt(14, payment.getTotalInstallments());
+                    ps.setObject(15, payment.getCourseId(), Types.BIGINT);
+                    ps.setObject(16, payment.getProductId(), Types.BIGINT);
+                    ps.setObject(17, payment.getPackageId(), Types.BIGINT);
+                    ps.setString(18, payment.getDescription());
+                    ps.setTimestamp(19, createdDate);
+                    ps.setString(20, SCHEDULED_BY);
+                });
+
+                int[][] counts = jdbcTemplate.batchUpdate(UPDATE_PLAN_SQL, plans, batchSize, (ps, plan) -> {
+                    ps.setBigDecimal(1, plan.getInstallmentAmount());
+                    ps.setBigDecimal(2, plan.getTotalInterest());
+                    ps.setObject(3, plan.getRemainingInstallments(), Types.INTEGER);
+                    ps.setDate(4, Date.valueOf(plan.getEndDate()));
+                    ps.setTimestamp(5, createdDate);
+                    ps.setString(6, SCHEDULED_BY);
+                    ps.setLong(7, plan.getId());
+                    ps.setInt(8, expectedPaid.get(plan.getId()));
+                });
+                for (int[] batch : counts) {
+                    for (int count : batch) {
+                        if (count == 0) {
+                            throw new BusinessException("Installment plans changed while scheduling; please retry");
+                        }
+                    }
+                }
+
+                publishEvents(plans, installments);
+            });
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException("Installment schedules were created concurrently; please retry");
+        }
+        return new int[]{plans.size(), installments.size()};
+    }
+
+    /**
+     * Publish the events the payment and installment plan entity listeners would
+     */
+    private void publishEvents(List<InstallmentPlan> plans, List<Payment> installments) {
+        // Batched inserts and bulk updates bypass the payment and installment plan entity listeners; the
+        // inserted rows are exactly the installments built in memory, so their contributions come from those
+        List<PaymentRevenueChangedEvent.Contribution> contributions = new ArrayList<>(installments.size());
+        for (Payment installment : installments) {
+            PaymentRevenueChangedEvent.Contribution contribution = PaymentRevenueChangedEvent.Contribution.of(installment);
+            if (contribution != null) {
+                contributions.add(contribution);
+            }
+        }
+        eventPublisher.publishEvent(new PaymentRevenueAddedEvent(contributions));
+        // Installment rows post nothing to the ledger; their plan carries them
+        List<Long> planIds = plans.stream().map(InstallmentPlan::getId).toList();
+        eventPublisher.publishEvent(new PaymentChangedEvent(paymentRepository.findScheduledInstallmentIds(planIds)));
+        for (InstallmentPlan plan : plans) {
+            eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.INSTALLMENT_PLAN,
+                    plan.getId(), plan.getStudentId()));
+        }
+    }
+
+    private static Payment newInstallment(InstallmentPlan plan, InstallmentScheduleCalculator.ScheduledInstallment installment) {
+        BigDecimal amount = MinorUnits.toAmount(installment.getAmountMinor());
+        Payment payment = new Payment();
+        payment.setInstitutionId(plan.getInstitutionId());
+        payment.setBranchId(plan.getBranchId());
+        payment.setStudentId(plan.getStudentId());
+        payment.setPaymentReference(INSTALLMENT_REFERENCE_PREFIX + plan.getId() + "-" + installment.getNumber());
+        payment.setAmount(amount);
+        payment.setFinalAmount(amount);
+        payment.setPaymentType(plan.getCourseId() != null ? Payment.PaymentType.COURSE_FEE : Payment.PaymentType.OTHER);
+        payment.setPaymentMethod(Payment.PaymentMethod.INSTALLMENT);
+        payment.setStatus(Payment.PaymentStatus.PENDING);
+        payment.setPaymentDate(installment.getDueDate());
+        payment.setDueDate(installment.getDueDate());
+        payment.setInstallmentPlanId(plan.getId());
+        payment.setInstallmentNumber(installment.getNumber());
+        payment.setTotalInstallments(plan.getNumberOfInstallments());
+        payment.setCourseId(plan.getCourseId());
+        payment.setProductId(plan.getProductId());
+        payment.setPackageId(plan.getPackageId());
+        payment.setDescription("Installment " + installment.getNumber() + " of " + plan.getNumberOfInstallments() +
+                " of plan " + plan.getPlanCode() + " (principal " + MinorUnits.toAmount(installment.getPrincipalMinor()) +
+                ", interest " + MinorUnits.toAmount(installment.getInterestMinor()) + ")");
+        return payment;
+    }
+
+    /**
+     * Map a computed schedule to InstallmentScheduleResponse DTO
+     */
+    private InstallmentScheduleResponse mapToResponse(Terms terms, List<InstallmentScheduleCalculator.ScheduledInstallment> schedule,
+                                                      InstallmentPlan plan, Map<Integer, Payment> rows, int paid) {
+        long totalInterest = 0;
+        long totalPayable = 0;
+        List<InstallmentScheduleResponse.Installment> installments = new ArrayList<>(schedule.size());
+        for (InstallmentScheduleCalculator.ScheduledInstallment scheduled : schedule) {
+            Payment row = rows.get(scheduled.getNumber());
+            InstallmentScheduleResponse.Installment installment = new InstallmentScheduleResponse.Installment();
+            installment.setNumber(scheduled.getNumber());
+            installment.setDueDate(row != null && row.getDueDate() != null ? row.getDueDate() : scheduled.getDueDate());
+            installment.setAmount(row != null ? row.getAmount() : MinorUnits.toAmount(scheduled.getAmountMinor()));
+            installment.setPrincipal(MinorUnits.toAmount(scheduled.getPrincipalMinor()));
+            installment.setInterest(MinorUnits.toAmount(scheduled.getInterestMinor()));
+            installment.setRemainingBalance(MinorUnits.toAmount(scheduled.getBalanceMinor()));
+            installment.setPaid(row != null ? row.getStatus() == Payment.PaymentStatus.COMPLETED : scheduled.getNumber() <= paid);
+            installments.add(installment);
+            totalInterest += scheduled.getInterestMinor();
+            totalPayable += scheduled.getAmountMinor();
+        }
+
+        InstallmentScheduleResponse response = new InstallmentScheduleResponse();
+        if (plan != null) {
+            response.setPlanId(plan.getId());
+            response.setPlanCode(plan.getPlanCode());
+        }
+        response.setScenario(terms.name);
+        response.setPrincipal(MinorUnits.toAmount(terms.principalMinor()));
+        response.setDownPayment(terms.downPayment);
+        response.setInterestRate(terms.interestRate);
+        response.setFrequency(terms.frequency);
+        response.setNumberOfInstallments(terms.numberOfInstallments);
+        response.setInstallmentAmount(installments.isEmpty() ? null : MinorUnits.toAmount(schedule.get(0).getAmountMinor()));
+        response.setTotalInterest(MinorUnits.toAmount(totalInterest));
+        response.setTotalPayable(MinorUnits.toAmount(totalPayable));
+        response.setFirstDueDate(installments.isEmpty() ? null : installments.get(0).getDueDate());
+        response.setLastDueDate(installments.isEmpty() ? null : installments.get(installments.size() - 1).getDueDate());
+        response.setInstallments(installments);
+        return response;
+    }
+
+    /**
+     * Terms a schedule is computed from
+     */
+    private static final class Terms {
+        private String name;
+        private BigDecimal totalAmount;
+        private BigDecimal downPayment;
+        private BigDecimal interestRate;
+        private Integer numberOfInstallments;
+        private InstallmentPlan.InstallmentFrequency frequency = InstallmentPlan.InstallmentFrequency.MONTHLY;
+        private LocalDate startDate;
+
+        static Terms of(InstallmentPlan plan) {
+            Terms terms = new Terms();
+            terms.name = plan.getPlanCode();
+            terms.override(plan.getTotalAmount(), plan.getDownPayment(), plan.getInterestRate(),
+                    plan.getNumberOfInstallments(), plan.getFrequency(), plan.getStartDate());
+            return terms;
+        }
+
+        void override(BigDecimal totalAmount, BigDecimal downPayment, BigDecimal interestRate, Integer numberOfInstallments,
+                      InstallmentPlan.InstallmentFrequency frequency, LocalDate startDate) {
+            this.totalAmount = totalAmount != null ? totalAmount : this.totalAmount;
+            this.downPayment = downPayment != null ? downPayment : this.downPayment;
+            this.interestRate = interestRate != null ? interestRate : this.interestRate;
+            this.numberOfInstallments = numberOfInstallments != null ? numberOfInstallments : this.numberOfInstallments;
+            this.frequency = frequency != null ? frequency : this.frequency;
+            this.startDate = startDate != null ? startDate : this.startDate;
+        }
+
+        Terms copy() {
+            Terms terms = new Terms();
+            terms.name = name;
+            terms.override(totalAmount, downPayment, interestRate, numberOfInstallments, frequency, startDate);
+            return terms;
+        }
+
+        long principalMinor() {
+            return MinorUnits.of(totalAmount) - MinorUnits.of(downPayment);
+        }
+
+        List<InstallmentScheduleCalculator.ScheduledInstallment> amortize() {
+            return InstallmentScheduleCalculator.amortize(principalMinor(), interestRate, numberOfInstallments, frequency, startDate);
+        }
+    }
+}
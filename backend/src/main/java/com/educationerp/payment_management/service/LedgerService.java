@@ -0,0 +1,448 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.inventory.entity.StudentProductDistribution;
+import com.educationerp.inventory.repository.StudentProductDistributionRepository;
+import com.educationerp.payment_management.dto.LedgerBalanceResponse;
+import com.educationerp.payment_management.dto.LedgerStatementResponse;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.entity.LedgerSnapshot;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.event.LedgerSourceChangedEvent;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import com.educationerp.payment_management.repository.LedgerEntryRepository;
+import com.educationerp.payment_management.repository.LedgerSnapshotRepository;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Service class for the append-only student ledger
+ * Payments, installment plans and product sales post balanced entries in minor units. Each write to
+ * one of them reconciles the postings of that record: the difference between what the record owes now
+ * and what has been posted for it is appended, so corrections become reversing entries and history is
+ * never rewritten. Every few entries a balance snapshot is taken, and a balance is the latest snapshot
+ * plus the short tail of entries after it.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class LedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerService.class);
+
+    private static final String LOCK_STUDENT_SQL = "SELECT institution_id FROM students WHERE id = ? FOR UPDATE";
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private static final Set<Payment.PaymentStatus> CHARGED_PAYMENT_STATUSES = Set.of(
+            Payment.PaymentStatus.PENDING, Payment.PaymentStatus.PARTIAL,
+            Payment.PaymentStatus.COMPLETED, Payment.PaymentStatus.REFUNDED);
+    private static final Set<Payment.PaymentStatus> SETTLED_PAYMENT_STATUSES = Set.of(
+            Payment.PaymentStatus.COMPLETED, Payment.PaymentStatus.REFUNDED);
+    private static final Set<StudentProductDistribution.DistributionType> CHARGED_DISTRIBUTION_TYPES = Set.of(
+            StudentProductDistribution.DistributionType.SALE, StudentProductDistribution.DistributionType.RENTAL);
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private LedgerSnapshotRepository ledgerSnapshotRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private StudentProductDistributionRepository studentProductDistributionRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.ledger.snapshot-interval:32}")
+    private int snapshotInterval;
+
+    private TransactionTemplate postingTransaction;
+
+    @PostConstruct
+    void initialize() {
+        postingTransaction = new TransactionTemplate(transactionManager);
+        postingTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Post the changes of a record once the transaction that wrote it has committed
+     * A failed posting is logged; reconciling the student's ledger repairs it
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSourceChanged(LedgerSourceChangedEvent event) {
+        try {
+            postingTransaction.executeWithoutResult(status ->
+                    syncSource(event.getSourceType(), event.getSourceId(), event.getStudentId()));
+        } catch (RuntimeException e) {
+            logger.error("Failed to post ledger entries for {} {}", event.getSourceType(), event.getSourceId(), e);
+        }
+    }
+
+    /**
+     * Append the entries that bring a record's postings in line with its current state
+     */
+    public int syncSource(LedgerEntry.SourceType sourceType, Long sourceId, Long studentId) {
+        // Students the record posts to now or has posted to before, locked in ID order
+        Set<Long> studentIds = new LinkedHashSet<>();
+        if (studentId != null) {
+            studentIds.add(studentId);
+        }
+        for (Object[] row : ledgerEntryRepository.sumBySource(sourceType, sourceId)) {
+            studentIds.add((Long) row[0]);
+        }
+        Map<Long, Long> institutions = new TreeMap<>();
+        for (Long id : studentIds.stream().sorted().toList()) {
+            List<Long> institution = jdbcTemplate.queryForList(LOCK_STUDENT_SQL, Long.class, id);
+            if (!institution.isEmpty()) {
+                institutions.put(id, institution.get(0));
+            }
+        }
+
+        // Read the record and its postings only once the ledgers are locked
+        SourcePosting source = loadSource(sourceType, sourceId);
+        Map<Long, Map<LedgerEntry.EntryType, Long>> posted = new HashMap<>();
+        for (Object[] row : ledgerEntryRepository.sumBySource(sourceType, sourceId)) {
+            LedgerEntry.EntryType type = (LedgerEntry.EntryType) row[1];
+            long amount = ((Number) row[3]).longValue();
+            long signed = row[2] == type.getDebitAccount() ? amount : -amount;
+            posted.computeIfAbsent((Long) row[0], id -> new EnumMap<>(LedgerEntry.EntryType.class))
+                    .merge(type, signed, Long::sum);
+        }
+
+        int appended = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, Long> student : institutions.entrySet()) {
+            Long id = student.getKey();
+            Map<LedgerEntry.EntryType, Long> target = source != null && id.equals(source.studentId)
+                    ? source.amounts : Map.of();
+            Map<LedgerEntry.EntryType, Long> current = posted.getOrDefault(id, Map.of());
+
+            long sequence = -1;
+            for (LedgerEntry.EntryType type : LedgerEntry.EntryType.values()) {
+                long delta = target.getOrDefault(type, 0L) - current.getOrDefault(type, 0L);
+                if (delta == 0) {
+                    continue;
+                }
+                if (sequence < 0) {
+                    sequence = ledgerEntryRepository.findLastSequenceByStudentId(id);
+                }
+                LedgerEntry entry = new LedgerEntry(student.getValue(), id, ++sequence, type,
+                        delta > 0 ? type.getDebitAccount() : type.getCreditAccount(),
+                        delta > 0 ? type.getCreditAccount() : type.getDebitAccount(),
+                        Math.abs(delta), sourceType, sourceId, now);
+                String label = source != null ? source.label : sourceType + " " + sourceId;
+                entry.setDescription(delta > 0 ? label : label + " (reversal)");
+                ledgerEntryRepository.save(entry);
+                appended++;
+            }
+            if (sequence >= 0) {
+                snapshotIfDue(id, sequence);
+            }
+        }
+
+        if (appended > 0) {
+            logger.debug("Posted {} ledger entries for {} {}", appended, sourceType, sourceId);
+        }
+        return appended;
+    }
+
+    /**
+     * Get the current balance of a student
+     */
+    @Transactional(readOnly = true)
+    public LedgerBalanceResponse getBalance(Long studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+        }
+        return getBalances(List.of(studentId)).get(studentId);
+    }
+
+    /**
+     * Get the current balances of many students with two queries per thousand students
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, LedgerBalanceResponse> getBalances(Collection<Long> studentIds) {
+        Map<Long, LedgerBalanceResponse> balances = new HashMap<>();
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            Map<Long, LedgerSnapshot> snapshots = new HashMap<>();
+            for (LedgerSnapshot snapshot : ledgerSnapshotRepository.findLatestByStudentIds(chunk)) {
+                snapshots.put(snapshot.getStudentId(), snapshot);
+            }
+            Map<Long, Object[]> tails = new HashMap<>();
+            for (Object[] row : ledgerEntryRepository.sumTailsByStudentIds(chunk, LedgerEntry.LedgerAccount.RECEIVABLE,
+                    LedgerEntry.EntryType.CHARGE, LedgerEntry.EntryType.PAYMENT)) {
+                tails.put((Long) row[0], row);
+            }
+            for (Long id : chunk) {
+                balances.put(id, mapToBalance(id, snapshots.get(id), tails.get(id), now));
+            }
+        }
+        return balances;
+    }
+
+    /**
+     * Get a statement of a student's ledger, streaming entries from the last snapshot before the range
+     */
+    @Transactional(readOnly = true)
+    public LedgerStatementResponse getStatement(Long studentId, LocalDate fromDate, LocalDate toDate) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+        }
+        if (toDate.isBefore(fromDate)) {
+            throw new BusinessException("Statement end date must not be before its start date");
+        }
+
+        LocalDateTime start = fromDate.atStartOfDay();
+        LocalDateTime end = toDate.plusDays(1).atStartOfDay();
+        LedgerSnapshot snapshot = ledgerSnapshotRepository
+                .findFirstByStudentIdAndThroughDateBeforeOrderByThroughSequenceDesc(studentId, start)
+                .orElse(null);
+        long balance = snapshot != null ? snapshot.getBalanceMinor() : 0L;
+        long opening = balance;
+
+        List<LedgerStatementResponse.Line> lines = new ArrayList<>();
+        try (Stream<LedgerEntry> entries = ledgerEntryRepository.streamByStudentIdAfterSequence(
+                studentId, snapshot != null ? snapshot.getThroughSequence() : 0L)) {
+            Iterator<LedgerEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                LedgerEntry entry = iterator.next();
+                if (!entry.getPostedDate().isBefore(end)) {
+                    break;
+                }
+                long change = entry.getReceivableDelta();
+                balance += change;
+                if (entry.getPostedDate().isBefore(start)) {
+                    opening = balance;
+                    continue;
+                }
+                lines.add(mapToLine(entry, change, balance));
+            }
+        }
+
+        LedgerStatementResponse response = new LedgerStatementResponse();
+        response.setStudentId(studentId);
+        response.setFromDate(fromDate);
+        response.setToDate(toDate);
+        response.setOpeningBalance(MinorUnits.toAmount(opening));
+        response.setClosingBalance(MinorUnits.toAmount(balance));
+        response.setLines(lines);
+        response.setSnapshotSequence(snapshot != null ? snapshot.getThroughSequence() : null);
+        response.setGeneratedAt(LocalDateTime.now());
+        return response;
+    }
+
+    /**
+     * Reconcile every record of a student with the ledger, repairing postings missed after a failure
+     */
+    public LedgerBalanceResponse reconcileStudent(Long studentId) {
+        logger.info("Reconciling ledger of student: {}", studentId);
+
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+        }
+
+        Map<LedgerEntry.SourceType, Set<Long>> sources = new EnumMap<>(LedgerEntry.SourceType.class);
+        for (LedgerEntry.SourceType type : LedgerEntry.SourceType.values()) {
+            sources.put(type, new LinkedHashSet<>());
+        }
+        paymentRepository.findByStudentIdAndIsActiveTrueOrderByCreatedDateDesc(studentId)
+                .forEach(payment -> sources.get(LedgerEntry.SourceType.PAYMENT).add(payment.getId()));
+        installmentPlanRepository.findByStudentIdAndIsActiveTrue(studentId)
+                .forEach(plan -> sources.get(LedgerEntry.SourceType.INSTALLMENT_PLAN).add(plan.getId()));
+        studentProductDistributionRepository.findByStudentIdAndIsActiveTrue(studentId)
+                .forEach(distribution -> sources.get(LedgerEntry.SourceType.PRODUCT_DISTRIBUTION).add(distribution.getId()));
+        for (Object[] row : ledgerEntryRepository.findSourcesByStudentId(studentId)) {
+            sources.get((LedgerEntry.SourceType) row[0]).add((Long) row[1]);
+        }
+
+        int appended = 0;
+        for (Map.Entry<LedgerEntry.SourceType, Set<Long>> type : sources.entrySet()) {
+            for (Long sourceId : type.getValue()) {
+                appended += syncSource(type.getKey(), sourceId, studentId);
+            }
+        }
+        logger.info("Ledger of student {} reconciled, {} entries appended", studentId, appended);
+        return getBalances(List.of(studentId)).get(studentId);
+    }
+
+    private void snapshotIfDue(Long studentId, long lastSequence) {
+        LedgerSnapshot latest = ledgerSnapshotRepository.findFirstByStudentIdOrderByThroughSequenceDesc(studentId).orElse(null);
+        if (lastSequence - (latest != null ? latest.getThroughSequence() : 0L) < snapshotInterval) {
+            return;
+        }
+        List<Object[]> tails = ledgerEntryRepository.sumTailsByStudentIds(List.of(studentId),
+                LedgerEntry.LedgerAccount.RECEIVABLE, LedgerEntry.EntryType.CHARGE, LedgerEntry.EntryType.PAYMENT);
+        if (tails.isEmpty()) {
+            return;
+        }
+        Object[] tail = tails.get(0);
+        LedgerSnapshot snapshot = new LedgerSnapshot(studentId, (Long) tail[5],
+                (latest != null ? latest.getBalanceMinor() : 0L) + ((Number) tail[2]).longValue(),
+                (latest != null ? latest.getChargedMinor() : 0L) + ((Number) tail[3]).longValue(),
+                (latest != null ? latest.getPaidMinor() : 0L) + ((Number) tail[4]).longValue(),
+                (LocalDateTime) tail[6]);
+        ledgerSnapshotRepository.save(snapshot);
+    }
+
+    /**
+     * What a record owes in each entry type, or null when the record no longer exists
+     */
+    private SourcePosting loadSource(LedgerEntry.SourceType sourceType, Long sourceId) {
+        Map<LedgerEntry.EntryType, Long> amounts = new EnumMap<>(LedgerEntry.EntryType.class);
+        switch (sourceType) {
+            case PAYMENT -> {
+                Payment payment = paymentRepository.findById(sourceId).orElse(null);
+                if (payment == null) {
+                    return null;
+                }
+                // Installments are carried by their plan's paid counters
+                if (payment.getIsActive() && !payment.isInstallment()) {
+                    long amount = MinorUnits.of(payment.getFinalAmount() != null ? payment.getFinalAmount() : payment.getAmount());
+                    if (CHARGED_PAYMENT_STATUSES.contains(payment.getStatus())) {
+                        amounts.put(LedgerEntry.EntryType.CHARGE, amount);
+                    }
+                    if (SETTLED_PAYMENT_STATUSES.contains(payment.getStatus())) {
+                        amounts.put(LedgerEntry.EntryType.PAYMENT, amount);
+                    }
+                    if (payment.getStatus() == Payment.PaymentStatus.REFUNDED) {
+                        amounts.put(LedgerEntry.EntryType.REFUND, MinorUnits.of(payment.getRefundAmount()));
+                    }
+                }
+                return new SourcePosting(payment.getStudentId(), "Payment " + payment.getPaymentReference(), amounts);
+            }
+            case INSTALLMENT_PLAN -> {
+                InstallmentPlan plan = installmentPlanRepository.findById(sourceId).orElse(null);
+                if (plan == null) {
+                    return null;
+                }
+                if (plan.getIsActive()) {
+                    long paid = MinorUnits.of(plan.getPaidAmount());
+                    // A cancelled plan forgives what is still unpaid
+                    amounts.put(LedgerEntry.EntryType.CHARGE, plan.getStatus() == InstallmentPlan.InstallmentStatus.CANCELLED
+                            ? paid : MinorUnits.of(plan.getTotalPayable()));
+                    amounts.put(LedgerEntry.EntryType.PAYMENT, paid);
+                }
+                return new SourcePosting(plan.getStudentId(), "Installment plan " + plan.getPlanCode(), amounts);
+            }
+            case PRODUCT_DISTRIBUTION -> {
+                StudentProductDistribution distribution = studentProductDistributionRepository.findById(sourceId).orElse(null);
+                if (distribution == null) {
+                    return null;
+                }
+                if (distribution.getIsActive() && CHARGED_DISTRIBUTION_TYPES.contains(distribution.getDistributionType())
+                        && distribution.getStatus() != StudentProductDistribution.DistributionStatus.CANCELLED) {
+                    long price = MinorUnits.of(distribution.getFinalPrice());
+                    amounts.put(LedgerEntry.EntryType.CHARGE, price);
+                    if (Boolean.TRUE.equals(distribution.getIsPaid())) {
+                        amounts.put(LedgerEntry.EntryType.PAYMENT, price);
+                    }
+                }
+                return new SourcePosting(distribution.getStudentId(), "Product distribution " + distribution.getId(), amounts);
+            }
+            default -> throw new IllegalArgumentException("Unknown ledger source type: " + sourceType);
+        }
+    }
+
+    private LedgerBalanceResponse mapToBalance(Long studentId, LedgerSnapshot snapshot, Object[] tail, LocalDateTime now) {
+        long balance = snapshot != null ? snapshot.getBalanceMinor() : 0L;
+        long charged = snapshot != null ? snapshot.getChargedMinor() : 0L;
+        long paid = snapshot != null ? snapshot.getPaidMinor() : 0L;
+        Long throughSequence = snapshot != null ? snapshot.getThroughSequence() : 0L;
+        LocalDateTime lastPostedAt = snapshot != null ? snapshot.getThroughDate() : null;
+        long tailEntries = 0;
+        if (tail != null) {
+            tailEntries = ((Number) tail[1]).longValue();
+            balance += ((Number) tail[2]).longValue();
+            charged += ((Number) tail[3]).longValue();
+            paid += ((Number) tail[4]).longValue();
+            throughSequence = (Long) tail[5];
+            lastPostedAt = (LocalDateTime) tail[6];
+        }
+
+        LedgerBalanceResponse response = new LedgerBalanceResponse();
+        response.setStudentId(studentId);
+        response.setBalance(MinorUnits.toAmount(balance));
+        response.setTotalCharged(MinorUnits.toAmount(charged));
+        response.setTotalPaid(MinorUnits.toAmount(paid));
+        response.setThroughSequence(throughSequence);
+        response.setSnapshotSequence(snapshot != null ? snapshot.getThroughSequence() : null);
+        response.setTailEntries(tailEntries);
+        response.setLastPostedAt(lastPostedAt);
+        response.setGeneratedAt(now);
+        return response;
+    }
+
+    private LedgerStatementResponse.Line mapToLine(LedgerEntry entry, long change, long balance) {
+        LedgerStatementResponse.Line line = new LedgerStatementResponse.Line();
+        line.setSequence(entry.getEntrySequence());
+        line.setPostedDate(entry.getPostedDate());
+        line.setEntryType(entry.getEntryType());
+        line.setDebitAccount(entry.getDebitAccount());
+        line.setCreditAccount(entry.getCreditAccount());
+        line.setAmount(MinorUnits.toAmount(entry.getAmountMinor()));
+        line.setBalanceChange(MinorUnits.toAmount(change));
+        line.setRunningBalance(MinorUnits.toAmount(balance));
+        line.setSourceType(entry.getSourceType());
+        line.setSourceId(entry.getSourceId());
+        line.setDescription(entry.getDescription());
+        return line;
+    }
+
+    private static final class SourcePosting {
+
+        private final Long studentId;
+        private final String label;
+        private final Map<LedgerEntry.EntryType, Long> amounts;
+
+        private SourcePosting(Long studentId, String label, Map<LedgerEntry.EntryType, Long> amounts) {
+            this.studentId = studentId;
+            this.label = label;
+            this.amounts = amounts;
+        }
+    }
+}
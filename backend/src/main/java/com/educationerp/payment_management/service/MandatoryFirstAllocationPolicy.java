@@ -0,0 +1,29 @@
+package com.educationerp.payment_management.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * Allocation policy settling installments and tuition-like fees before optional purchases,
+ * oldest first within each group
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+class MandatoryFirstAllocationPolicy implements AllocationPolicy {
+
+    private static final Comparator<AllocationTarget> ORDER =
+            Comparator.comparing((AllocationTarget target) -> !target.isMandatory()).thenComparing(OLDEST_FIRST);
+
+    @Override
+    public String getName() {
+        return "MANDATORY_FIRST";
+    }
+
+    @Override
+    public Comparator<AllocationTarget> getOrder() {
+        return ORDER;
+    }
+}
@@ -0,0 +1,33 @@
+package com.educationerp.payment_management.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversion between decimal amounts and minor currency units
+ * Amounts are stored with two decimal places throughout the payment tables, so one unit is a hundredth.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * Convert an amount to minor units, rounding half up; null counts as zero
+     */
+    public static long of(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+}
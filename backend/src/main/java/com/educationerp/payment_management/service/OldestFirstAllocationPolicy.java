@@ -0,0 +1,25 @@
+package com.educationerp.payment_management.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * Allocation policy settling the oldest obligations first, whatever their kind
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+class OldestFirstAllocationPolicy implements AllocationPolicy {
+
+    @Override
+    public String getName() {
+        return "OLDEST_FIRST";
+    }
+
+    @Override
+    public Comparator<AllocationTarget> getOrder() {
+        return OLDEST_FIRST;
+    }
+}
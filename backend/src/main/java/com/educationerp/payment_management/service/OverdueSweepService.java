@@ -0,0 +1,377 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.payment_management.dto.OverdueSweepResponse;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.entity.OverdueSweep;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.event.LedgerSourceChangedEvent;
+import com.educationerp.payment_management.event.PaymentChangedEvent;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import com.educationerp.payment_management.repository.OverdueSweepRepository;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for overdue installments and late fees
+ * The due dates of open installments and the end dates of active plans are kept in a {@link DueDateWheel};
+ * when a day expires its installments are swept in one transaction: their plans are marked overdue with a
+ * bulk update and a late fee is charged once per installment. Each due date is swept under a lease in
+ * payment_overdue_sweeps so only one node works on it at a time, and due dates left unswept while the
+ * application was down are caught up at startup.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class OverdueSweepService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueSweepService.class);
+
+    /**
+     * Reference prefix of late fees; the fee of an installment is referenced by prefix and installment ID
+     */
+    public static final String LATE_FEE_REFERENCE_PREFIX = "LATE-";
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final int HUNDRED = 100;
+    private static final List<Payment.PaymentStatus> OPEN_PAYMENT_STATUSES =
+            List.of(Payment.PaymentStatus.PENDING, Payment.PaymentStatus.PARTIAL);
+
+    private static final String INSERT_SWEEP_SQL =
+            "INSERT INTO payment_overdue_sweeps (due_date, overdue_plans, late_fees, created_date, is_active) " +
+            "VALUES (?, 0, 0, ?, true)";
+
+    private static final String CLAIM_SWEEP_SQL =
+            "UPDATE payment_overdue_sweeps SET lease_owner = ?, lease_expires_at = ?, last_started_at = ?, updated_date = ? " +
+            "WHERE due_date = ? AND (lease_expires_at IS NULL OR lease_expires_at < ?)";
+
+    private static final String COMPLETE_SWEEP_SQL =
+            "UPDATE payment_overdue_sweeps SET lease_expires_at = NULL, last_completed_at = ?, " +
+            "overdue_plans = overdue_plans + ?, late_fees = late_fees + ?, updated_date = ? " +
+            "WHERE due_date = ? AND lease_owner = ? AND lease_expires_at IS NOT NULL";
+
+    private static final String EXPIRE_SWEEP_SQL =
+            "UPDATE payment_overdue_sweeps SET lease_expires_at = ?, updated_date = ? WHERE due_date = ? AND lease_owner = ?";
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private OverdueSweepRepository overdueSweepRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${education.erp.overdue-sweep.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${education.erp.overdue-sweep.catch-up-days:400}")
+    private int catchUpDays;
+
+    @Value("${education.erp.overdue-sweep.node-id:}")
+    private String nodeId;
+
+    private DueDateWheel wheel;
+    private TransactionTemplate leaseTransaction;
+    private TransactionTemplate sweepTransaction;
+
+    @PostConstruct
+    void initialize() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        wheel = new DueDateWheel(LocalDate.now().minusDays(1));
+        leaseTransaction = new TransactionTemplate(transactionManager);
+        leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        sweepTransaction = new TransactionTemplate(transactionManager);
+        sweepTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Load the upcoming due dates and catch up on the ones that expired while the application was down
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        LocalDate today = LocalDate.now();
+        paymentRepository.findInstallmentDueDatesFrom(today, Payment.PaymentType.LATE_FEE, OPEN_PAYMENT_STATUSES)
+                .forEach(wheel::schedule);
+        installmentPlanRepository.findEndDatesFrom(today, InstallmentPlan.InstallmentStatus.ACTIVE)
+                .forEach(wheel::schedule);
+        logger.info("Overdue sweep wheel loaded with {} due dates on node {}", wheel.size(), nodeId);
+
+        catchUp(today);
+    }
+
+    /**
+     * Sweep the due dates that expired since the last tick and the sweeps whose lease expired
+     */
+    @Scheduled(cron = "${education.erp.overdue-sweep.tick-cron:0 5 * * * *}")
+    public void tick() {
+        wheel.advanceTo(LocalDate.now().minusDays(1)).forEach(this::sweepQuietly);
+        overdueSweepRepository.findDueDatesWithExpiredLease(LocalDateTime.now()).forEach(this::sweepQuietly);
+    }
+
+    /**
+     * Schedule the due dates of changed installments; installments already past due are swept at once
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentChanged(PaymentChangedEvent event) {
+        List<Long> ids = new ArrayList<>(event.getPaymentIds());
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            schedule(paymentRepository.findInstallmentDueDatesByIds(ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size())),
+                    Payment.PaymentType.LATE_FEE, OPEN_PAYMENT_STATUSES));
+        }
+    }
+
+    /**
+     * Schedule the end date of a changed installment plan
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInstallmentPlanChanged(LedgerSourceChangedEvent event) {
+        if (event.getSourceType() != LedgerEntry.SourceType.INSTALLMENT_PLAN) {
+            return;
+        }
+        schedule(installmentPlanRepository.findEndDatesByIds(List.of(event.getSourceId()), InstallmentPlan.InstallmentStatus.ACTIVE));
+    }
+
+    /**
+     * Sweep the installments due on a day; does nothing while another node holds the day's lease
+     */
+    public OverdueSweepResponse sweep(LocalDate dueDate) {
+        if (!dueDate.isBefore(LocalDate.now())) {
+            throw new BusinessException("Installments due on " + dueDate + " are not overdue yet");
+        }
+
+        if (claim(dueDate)) {
+            try {
+                sweepTransaction.executeWithoutResult(status -> sweepClaimed(dueDate));
+            } catch (RuntimeException e) {
+                // Let the next tick on any node retry the sweep
+                leaseTransaction.executeWithoutResult(status -> {
+                    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                    jdbcTemplate.update(EXPIRE_SWEEP_SQL, now, now, Date.valueOf(dueDate), nodeId);
+                });
+                throw e;
+            }
+        } else {
+            logger.debug("Overdue sweep of {} is leased by another node", dueDate);
+        }
+
+        return mapToResponse(overdueSweepRepository.findByDueDate(dueDate).orElse(null));
+    }
+
+    /**
+     * Get the latest sweeps by due date
+     */
+    public List<OverdueSweepResponse> getRecentSweeps(int limit) {
+        return overdueSweepRepository.findAllByOrderByDueDateDesc(PageRequest.of(0, limit)).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private void catchUp(LocalDate today) {
+        LocalDate fromDate = today.minusDays(catchUpDays);
+        TreeSet<LocalDate> dueDates = new TreeSet<>(paymentRepository.findUnsweptInstallmentDueDates(fromDate, today,
+                Payment.PaymentType.LATE_FEE, OPEN_PAYMENT_STATUSES, InstallmentPlan.InstallmentStatus.ACTIVE,
+                LATE_FEE_REFERENCE_PREFIX));
+        dueDates.addAll(installmentPlanRepository.findEndDatesBetween(fromDate, today, InstallmentPlan.InstallmentStatus.ACTIVE));
+        if (dueDates.isEmpty()) {
+            return;
+        }
+
+        logger.info("Catching up on {} overdue sweeps from {} to {}", dueDates.size(), dueDates.first(), dueDates.last());
+        dueDates.forEach(this::sweepQuietly);
+    }
+
+    private void schedule(Collection<LocalDate> dueDates) {
+        for (LocalDate dueDate : dueDates) {
+            if (!wheel.schedule(dueDate)) {
+                sweepQuietly(dueDate);
+            }
+        }
+    }
+
+    private void sweepQuietly(LocalDate dueDate) {
+        try {
+            sweep(dueDate);
+        } catch (RuntimeException e) {
+            logger.error("Overdue sweep of {} failed", dueDate, e);
+        }
+    }
+
+    /**
+     * Take the day's lease unless another node holds an unexpired one
+     */
+    private boolean claim(LocalDate dueDate) {
+        Date day = Date.valueOf(dueDate);
+        try {
+            leaseTransaction.executeWithoutResult(status -> {
+                Integer existing = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM payment_overdue_sweeps WHERE due_date = ?", Integer.class, day);
+                if (existing == 0) {
+                    jdbcTemplate.update(INSERT_SWEEP_SQL, day, Timestamp.valueOf(LocalDateTime.now()));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Overdue sweep of {} created concurrently", dueDate);
+        }
+
+        return Boolean.TRUE.equals(leaseTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return jdbcTemplate.update(CLAIM_SWEEP_SQL, nodeId, Timestamp.valueOf(now.plusSeconds(leaseSeconds)),
+                    Timestamp.valueOf(now), Timestamp.valueOf(now), day, Timestamp.valueOf(now)) == 1;
+        }));
+    }
+
+    /**
+     * Mark the plans of the day's installments overdue and charge their late fees, then release the lease
+     */
+    private void sweepClaimed(LocalDate dueDate) {
+        long started = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        List<Payment> installments = paymentRepository.findInstallmentsDueOn(dueDate, Payment.PaymentType.LATE_FEE,
+                OPEN_PAYMENT_STATUSES);
+
+        Map<Long, InstallmentPlan> plans = new HashMap<>();
+        List<Long> planIds = installments.stream().map(Payment::getInstallmentPlanId).distinct().collect(Collectors.toList());
+        for (int from = 0; from < planIds.size(); from += QUERY_CHUNK_SIZE) {
+            installmentPlanRepository.findAllById(planIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, planIds.size())))
+                    .forEach(plan -> plans.put(plan.getId(), plan));
+        }
+        installmentPlanRepository.findByEndDateAndStatusAndIsActiveTrue(dueDate, InstallmentPlan.InstallmentStatus.ACTIVE)
+                .forEach(plan -> plans.put(plan.getId(), plan));
+
+        int overduePlans = markPlansOverdue(plans.values());
+        int lateFees = chargeLateFees(installments, plans, today);
+
+        LocalDateTime now = LocalDateTime.now();
+        int completed = jdbcTemplate.update(COMPLETE_SWEEP_SQL, Timestamp.valueOf(now), overduePlans, lateFees,
+                Timestamp.valueOf(now), Date.valueOf(dueDate), nodeId);
+        if (completed == 0) {
+            throw new IllegalStateException("Lease of the overdue sweep of " + dueDate + " was lost");
+        }
+
+        logger.info("Overdue sweep of {}: {} installments, {} plans marked overdue, {} late fees, {} ms",
+                dueDate, installments.size(), overduePlans, lateFees, System.currentTimeMillis() - started);
+    }
+
+    private int markPlansOverdue(Collection<InstallmentPlan> plans) {
+        List<InstallmentPlan> active = plans.stream()
+                .filter(plan -> plan.getStatus() == InstallmentPlan.InstallmentStatus.ACTIVE && Boolean.TRUE.equals(plan.getIsActive()))
+                .collect(Collectors.toList());
+        int marked = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < active.size(); from += QUERY_CHUNK_SIZE) {
+            List<InstallmentPlan> chunk = active.subList(from, Math.min(from + QUERY_CHUNK_SIZE, active.size()));
+            marked += installmentPlanRepository.updateStatusByIds(chunk.stream().map(InstallmentPlan::getId).collect(Collectors.toList()),
+                    InstallmentPlan.InstallmentStatus.ACTIVE, InstallmentPlan.InstallmentStatus.OVERDUE, now);
+        }
+
+        // Bulk updates bypass the installment plan entity listener
+        active.forEach(plan -> eventPublisher.publishEvent(new LedgerSourceChangedEvent(
+                LedgerEntry.SourceType.INSTALLMENT_PLAN, plan.getId(), plan.getStudentId())));
+        return marked;
+    }
+
+    private int chargeLateFees(List<Payment> installments, Map<Long, InstallmentPlan> plans, LocalDate today) {
+        Map<String, Payment> fees = new LinkedHashMap<>();
+        for (Payment installment : installments) {
+            InstallmentPlan plan = plans.get(installment.getInstallmentPlanId());
+            BigDecimal fee = plan != null ? lateFeeOf(plan, installment) : null;
+            if (fee != null) {
+                fees.put(LATE_FEE_REFERENCE_PREFIX + installment.getId(), newLateFee(installment, fee, today));
+            }
+        }
+
+        List<String> references = new ArrayList<>(fees.keySet());
+        for (int from = 0; from < references.size(); from += QUERY_CHUNK_SIZE) {
+            paymentRepository.findExistingPaymentReferences(references.subList(from, Math.min(from + QUERY_CHUNK_SIZE, references.size())))
+                    .forEach(fees::remove);
+        }
+        paymentRepository.saveAll(fees.values());
+        return fees.size();
+    }
+
+    /**
+     * Late fee of an installment: the plan's fixed fee, or else its percentage of the installment amount
+     */
+    private static BigDecimal lateFeeOf(InstallmentPlan plan, Payment installment) {
+        BigDecimal fee = null;
+        if (plan.getLateFeeAmount() != null && plan.getLateFeeAmount().signum() > 0) {
+            fee = plan.getLateFeeAmount();
+        } else if (plan.getLateFeePercentage() != null && plan.getLateFeePercentage().signum() > 0) {
+            BigDecimal amount = installment.getFinalAmount() != null ? installment.getFinalAmount() : installment.getAmount();
+            fee = amount.multiply(plan.getLateFeePercentage())
+                    .divide(BigDecimal.valueOf(HUNDRED), 2, RoundingMode.HALF_UP);
+        }
+        return fee != null && fee.signum() > 0 ? fee : null;
+    }
+
+    private static Payment newLateFee(Payment installment, BigDecimal fee, LocalDate today) {
+        Payment lateFee = new Payment();
+        lateFee.setInstitutionId(installment.getInstitutionId());
+        lateFee.setBranchId(installment.getBranchId());
+        lateFee.setStudentId(installment.getStudentId());
+        lateFee.setPaymentReference(LATE_FEE_REFERENCE_PREFIX + installment.getId());
+        lateFee.setAmount(fee);
+        lateFee.setPaymentType(Payment.PaymentType.LATE_FEE);
+        lateFee.setPaymentMethod(installment.getPaymentMethod());
+        lateFee.setPaymentDate(today);
+        lateFee.setDueDate(today);
+        lateFee.setDescription("Late fee for installment " + installment.getPaymentReference() +
+                " due on " + installment.getDueDate());
+        lateFee.calculateFinalAmount();
+        return lateFee;
+    }
+
+    private OverdueSweepResponse mapToResponse(OverdueSweep sweep) {
+        if (sweep == null) {
+            return null;
+        }
+        OverdueSweepResponse response = new OverdueSweepResponse();
+        response.setDueDate(sweep.getDueDate());
+        response.setLeaseOwner(sweep.getLeaseOwner());
+        response.setLeaseExpiresAt(sweep.getLeaseExpiresAt());
+        response.setLastStartedAt(sweep.getLastStartedAt());
+        response.setLastCompletedAt(sweep.getLastCompletedAt());
+        response.setOverduePlans(sweep.getOverduePlans());
+        response.setLateFees(sweep.getLateFees());
+        return response;
+    }
+}
@@ -0,0 +1,578 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.entity.BusinessSequence;
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.core.service.BusinessNumberService;
+import com.educationerp.institution_management.entity.Branch;
+import com.educationerp.institution_management.repository.BranchRepository;
+import com.educationerp.inventory.entity.StudentProductDistribution;
+import com.educationerp.inventory.repository.StudentProductDistributionRepository;
+import com.educationerp.payment_management.dto.PaymentAllocationRequest;
+import com.educationerp.payment_management.dto.PaymentAllocationResponse;
+import com.educationerp.payment_management.dto.ReceiptAllocationRequest;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.LedgerEntry;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.event.LedgerSourceChangedEvent;
+import com.educationerp.payment_management.event.PaymentChangedEvent;
+import com.educationerp.payment_management.event.PaymentRevenueChangedEvent;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Service class for allocating lump-sum receipts across a student's open obligations
+ * Unpaid plan installments, unpaid product distributions and open payments of every student in a batch
+ * are loaded once and the receipts are allocated in memory in minor units, in the order of the chosen
+ * policy. The result is written in one transaction with batched updates that only match rows still in
+ * the state the allocation was computed from; if another writer got there first, the batch is rolled
+ * back, reloaded and allocated again.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class PaymentAllocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentAllocationService.class);
+
+    private static final String PROCESSED_BY = "payment-allocation";
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private static final List<Payment.PaymentStatus> OPEN_PAYMENT_STATUSES =
+            List.of(Payment.PaymentStatus.PENDING, Payment.PaymentStatus.PARTIAL);
+    private static final List<InstallmentPlan.InstallmentStatus> OPEN_PLAN_STATUSES =
+            List.of(InstallmentPlan.InstallmentStatus.ACTIVE, InstallmentPlan.InstallmentStatus.OVERDUE);
+    private static final Set<Payment.PaymentType> MANDATORY_PAYMENT_TYPES = Set.of(
+            Payment.PaymentType.COURSE_FEE, Payment.PaymentType.EXAM_FEE,
+            Payment.PaymentType.LATE_FEE, Payment.PaymentType.PENALTY);
+    private static final Set<StudentProductDistribution.DistributionType> CHARGED_DISTRIBUTION_TYPES = Set.of(
+            StudentProductDistribution.DistributionType.SALE, StudentProductDistribution.DistributionType.RENTAL);
+
+    private static final String UPDATE_PLAN_SQL =
+            "UPDATE installment_plans SET paid_installments = ?, remaining_installments = ?, status = ?, end_date = ?, " +
+            "updated_date = ?, updated_by = ? WHERE id = ? AND paid_installments = ? AND status = ? AND is_active = true";
+
+    private static final String UPDATE_DISTRIBUTION_SQL =
+            "UPDATE student_product_distributions SET is_paid = true, payment_date = ?, updated_date = ?, updated_by = ? " +
+            "WHERE id = ? AND is_paid = false AND is_active = true";
+
+    private static final String UPDATE_PAYMENT_SQL =
+            "UPDATE payments SET status = ?, payment_method = ?, payment_date = ?, processed_date = ?, receipt_number = ?, " +
+            "processed_by = ?, updated_date = ?, updated_by = ? WHERE id = ? AND status = ? AND is_active = true";
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private StudentProductDistributionRepository studentProductDistributionRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private BranchRepository branchRepository;
+
+    @Autowired
+    private BusinessNumberService businessNumberService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private List<AllocationPolicy> allocationPolicies;
+
+    @Value("${education.erp.payment-allocation.default-policy:OLDEST_FIRST}")
+    private String defaultPolicy;
+
+    @Value("${education.erp.payment-allocation.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${education.erp.payment-allocation.batch-size:500}")
+    private int batchSize;
+
+    private final Map<String, AllocationPolicy> policies = new TreeMap<>();
+
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate applyTransaction;
+
+    @PostConstruct
+    void initialize() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        applyTransaction = new TransactionTemplate(transactionManager);
+        allocationPolicies.forEach(policy -> policies.put(policy.getName(), policy));
+    }
+
+    /**
+     * Get the names of the available allocation policies
+     */
+    public List<String> getPolicyNames() {
+        return new ArrayList<>(policies.keySet());
+    }
+
+    /**
+     * Allocate a lump-sum payment of a student across their open obligations
+     */
+    public PaymentAllocationResponse allocateStudentPayment(Long studentId, PaymentAllocationRequest request) {
+        logger.info("Allocating payment of {} for student: {}", request.getAmount(), studentId);
+
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + studentId));
+        ReceiptAllocationRequest.Receipt receipt =
+                new ReceiptAllocationRequest.Receipt(studentId, request.getAmount(), request.getReceiptNumber());
+        return allocate(student.getInstitutionId(), List.of(receipt), LocalDate.now(), request.getPolicy(),
+                request.getPaymentMethod(), Boolean.TRUE.equals(request.getPreview()));
+    }
+
+    /**
+     * Allocate a branch's day of cash receipts in one pass
+     */
+    public PaymentAllocationResponse allocateBranchReceipts(Long branchId, ReceiptAllocationRequest request) {
+        logger.info("Allocating {} receipts of {} for branch: {}", request.getReceipts().size(), request.getReceiptDate(), branchId);
+
+        Branch branch = branchRepository.findById(branchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Branch not found with ID: " + branchId));
+        Set<Long> studentIds = new TreeSet<>();
+        request.getReceipts().forEach(receipt -> studentIds.add(receipt.getStudentId()));
+        Map<Long, Student> students = new HashMap<>();
+        studentRepository.findAllById(studentIds).forEach(student -> students.put(student.getId(), student));
+        for (Long studentId : studentIds) {
+            Student student = students.get(studentId);
+            if (student == null) {
+                throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+            }
+            if (!branch.getInstitutionId().equals(student.getInstitutionId())) {
+                throw new BusinessException("Student " + studentId + " does not belong to the institution of branch " + branchId);
+            }
+        }
+
+        return allocate(branch.getInstitutionId(), request.getReceipts(), request.getReceiptDate(), request.getPolicy(),
+                request.getPaymentMethod(), Boolean.TRUE.equals(request.getPreview()));
+    }
+
+    private PaymentAllocationResponse allocate(Long institutionId, List<ReceiptAllocationRequest.Receipt> receipts,
+                                               LocalDate receiptDate, String policyName, Payment.PaymentMethod paymentMethod,
+                                               boolean preview) {
+        AllocationPolicy policy = resolvePolicy(policyName);
+        Payment.PaymentMethod method = paymentMethod != null ? paymentMethod : Payment.PaymentMethod.CASH;
+        if (!preview) {
+            // Numbered once, so that retried attempts print the same receipt
+            for (ReceiptAllocationRequest.Receipt receipt : receipts) {
+                if (receipt.getReceiptNumber() == null || receipt.getReceiptNumber().isBlank()) {
+                    receipt.setReceiptNumber(businessNumberService.next(institutionId, BusinessSequence.SequenceKind.RECEIPT_NUMBER));
+                }
+            }
+        }
+
+        for (int attempt = 1; attempt <= Math.max(1, maxAttempts); attempt++) {
+            Allocation allocation = readTransaction.execute(status -> computeAllocation(receipts, policy));
+            if (preview) {
+                return mapToResponse(allocation, policy, false);
+            }
+            try {
+                applyTransaction.executeWithoutResult(status -> applyAllocation(allocation, receiptDate, method));
+                logger.info("Allocated {} receipts with {}: {} obligations settled", receipts.size(), policy.getName(),
+                        allocation.settlements.size());
+                return mapToResponse(allocation, policy, true);
+            } catch (StaleAllocationException e) {
+                logger.info("Allocation attempt {} found a changed {}, reallocating", attempt, e.getMessage());
+            }
+        }
+        throw new BusinessException("Obligations changed while allocating the receipts; please retry");
+    }
+
+    private AllocationPolicy resolvePolicy(String policyName) {
+        String name = policyName != null && !policyName.isBlank() ? policyName.trim().toUpperCase(Locale.ROOT) : defaultPolicy;
+        AllocationPolicy policy = policies.get(name);
+        if (policy == null) {
+            throw new BusinessException("Unknown allocation policy: " + name + "; available policies: " + String.join(", ", policies.keySet()));
+        }
+        return policy;
+    }
+
+    /**
+     * Load the open obligations of every student in the batch and allocate the receipts in request order
+     */
+    private Allocation computeAllocation(List<ReceiptAllocationRequest.Receipt> receipts, AllocationPolicy policy) {
+        Allocation allocation = new Allocation();
+        List<Long> studentIds = new ArrayList<>(new TreeSet<>(receipts.stream().map(ReceiptAllocationRequest.Receipt::getStudentId).toList()));
+        for (int from = 0; from < studentIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = studentIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, studentIds.size()));
+            installmentPlanRepository.findByStudentIdInAndStatusInAndIsActiveTrue(chunk, OPEN_PLAN_STATUSES)
+                    .forEach(plan -> allocation.plans.put(plan.getId(), plan));
+            studentProductDistributionRepository.findByStudentIdInAndIsPaidFalseAndIsActiveTrue(chunk)
+                    .forEach(distribution -> allocation.distributions.put(distribution.getId(), distribution));
+            paymentRepository.findByStudentIdInAndStatusInAndIsActiveTrue(chunk, OPEN_PAYMENT_STATUSES)
+                    .forEach(payment -> allocation.payments.put(payment.getId(), payment));
+        }
+
+        Map<Long, List<AllocationTarget>> targets = new HashMap<>();
+        for (InstallmentPlan plan : allocation.plans.values()) {
+            addInstallmentTargets(plan, allocation, targets.computeIfAbsent(plan.getStudentId(), id -> new ArrayList<>()));
+        }
+        for (StudentProductDistribution distribution : allocation.distributions.values()) {
+            long price = MinorUnits.of(distribution.getFinalPrice());
+            if (CHARGED_DISTRIBUTION_TYPES.contains(distribution.getDistributionType()) && price > 0
+                    && distribution.getStatus() != StudentProductDistribution.DistributionStatus.CANCELLED) {
+                targets.computeIfAbsent(distribution.getStudentId(), id -> new ArrayList<>()).add(new AllocationTarget(
+                        PaymentAllocationResponse.AllocationTargetType.PRODUCT_DISTRIBUTION, distribution.getId(), null,
+                        distribution.getPaymentDueDate() != null ? distribution.getPaymentDueDate() : distribution.getDistributionDate(),
+                        price, false, "Product distribution " + distribution.getId()));
+            }
+        }
+        for (Payment payment : allocation.payments.values()) {
+            // Installment payments are settled through their plan's installments
+            long amountDue = MinorUnits.of(payment.getFinalAmount() != null ? payment.getFinalAmount() : payment.getAmount());
+            if (!payment.isInstallment() && amountDue > 0) {
+                targets.computeIfAbsent(payment.getStudentId(), id -> new ArrayList<>()).add(new AllocationTarget(
+                        PaymentAllocationResponse.AllocationTargetType.PAYMENT, payment.getId(), null,
+                        payment.getDueDate() != null ? payment.getDueDate() : payment.getPaymentDate(),
+                        amountDue, MANDATORY_PAYMENT_TYPES.contains(payment.getPaymentType()),
+                        "Payment " + payment.getPaymentReference()));
+            }
+        }
+        targets.values().forEach(list -> list.sort(policy.getOrder()));
+
+        for (ReceiptAllocationRequest.Receipt receipt : receipts) {
+            ReceiptResult result = new ReceiptResult(receipt, MinorUnits.of(receipt.getAmount()));
+            long remaining = result.amountMinor;
+            for (AllocationTarget target : targets.getOrDefault(receipt.getStudentId(), List.of())) {
+                if (target.isSettled()) {
+                    continue;
+                }
+                if (target.getAmountMinor() > remaining) {
+                    break;
+                }
+                target.settle();
+                remaining -= target.getAmountMinor();
+                result.targets.add(target);
+                allocation.settlements.add(new Settlement(target, receipt));
+            }
+            result.allocatedMinor = result.amountMinor - remaining;
+            allocation.results.add(result);
+        }
+        return allocation;
+    }
+
+    private void addInstallmentTargets(InstallmentPlan plan, Allocation allocation, List<AllocationTarget> targets) {
+        long installment = MinorUnits.of(plan.getInstallmentAmount());
+        int paid = plan.getPaidInstallments() != null ? plan.getPaidInstallments() : 0;
+        if (installment <= 0 || plan.getNumberOfInstallments() == null) {
+            return;
+        }
+        LocalDate previousDue = null;
+        for (int number = paid + 1; number <= plan.getNumberOfInstallments(); number++) {
+            Payment linked = allocation.findInstallmentPayment(plan.getId(), number);
+            LocalDate due = linked != null && linked.getDueDate() != null ? linked.getDueDate()
+                    : InstallmentScheduleCalculator.dueDate(plan.getStartDate(), plan.getFrequency(), number);
+            // Installments are paid in order, so their due dates never run backwards
+            if (due != null && previousDue != null && due.isBefore(previousDue)) {
+                due = previousDue;
+            }
+            previousDue = due != null ? due : previousDue;
+            // A materialized schedule row carries its own amount, the last one absorbing the rounding
+            long amountDue = linked != null ? MinorUnits.of(linked.getFinalAmount() != null ? linked.getFinalAmount() : linked.getAmount())
+                    : installment;
+            targets.add(new AllocationTarget(PaymentAllocationResponse.AllocationTargetType.INSTALLMENT, plan.getId(), number,
+                    due, amountDue, true, "Installment " + number + " of plan " + plan.getPlanCode()));
+        }
+    }
+
+    /**
+     * Write an allocation with batched compare-and-set updates and publish the events the entity listeners would
+     */
+    private void applyAllocation(Allocation allocation, LocalDate receiptDate, Payment.PaymentMethod method) {
+        Map<Long, Integer> settledInstallments = new TreeMap<>();
+        List<StudentProductDistribution> distributions = new ArrayList<>();
+        Map<Long, String> paymentReceipts = new TreeMap<>();
+        for (Settlement settlement : allocation.settlements) {
+            AllocationTarget target = settlement.target;
+            switch (target.getType()) {
+                case INSTALLMENT -> {
+                    settledInstallments.merge(target.getTargetId(), 1, Integer::sum);
+                    Payment linked = allocation.findInstallmentPayment(target.getTargetId(), target.getInstallmentNumber());
+                    if (linked != null) {
+                        paymentReceipts.put(linked.getId(), settlement.receipt.getReceiptNumber());
+                    }
+                }
+                case PRODUCT_DISTRIBUTION -> distributions.add(allocation.distributions.get(target.getTargetId()));
+                case PAYMENT -> paymentReceipts.put(target.getTargetId(), settlement.receipt.getReceiptNumber());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp updatedDate = Timestamp.valueOf(now);
+
+        List<PlanChange> planChanges = new ArrayList<>();
+        settledInstallments.forEach((planId, count) -> {
+            InstallmentPlan plan = allocation.plans.get(planId);
+            PlanChange change = new PlanChange(plan);
+            for (int i = 0; i < count; i++) {
+                plan.incrementPaidInstallments();
+            }
+            if (plan.isPaidOff()) {
+                plan.markAsCompleted();
+            }
+            planChanges.add(change);
+        });
+        verify(jdbcTemplate.batchUpdate(UPDATE_PLAN_SQL, planChanges, batchSize, (ps, change) -> {
+            ps.setInt(1, change.plan.getPaidInstallments());
+            ps.setObject(2, change.plan.getRemainingInstallments());
+            ps.setString(3, change.plan.getStatus().name());
+            ps.setDate(4, change.plan.getEndDate() != null ? Date.valueOf(change.plan.getEndDate()) : null);
+            ps.setTimestamp(5, updatedDate);
+            ps.setString(6, PROCESSED_BY);
+            ps.setLong(7, change.plan.getId());
+            ps.setInt(8, change.expectedPaid);
+            ps.setString(9, change.expectedStatus.name());
+        }), "installment plan");
+
+        for (StudentProductDistribution distribution : distributions) {
+            distribution.markAsPaid();
+            distribution.setPaymentDate(receiptDate);
+        }
+        verify(jdbcTemplate.batchUpdate(UPDATE_DISTRIBUTION_SQL, distributions, batchSize, (ps, distribution) -> {
+            ps.setDate(1, Date.valueOf(distribution.getPaymentDate()));
+            ps.setTimestamp(2, updatedDate);
+            ps.setString(3, PROCESSED_BY);
+            ps.setLong(4, distribution.getId());
+        }), "product distribution");
+
+        List<PaymentChange> paymentChanges = new ArrayList<>();
+        paymentReceipts.forEach((paymentId, receiptNumber) -> {
+            Payment payment = allocation.payments.get(paymentId);
+            PaymentChange change = new PaymentChange(payment);
+            payment.markAsCompleted();
+            payment.setPaymentMethod(method);
+            payment.setPaymentDate(receiptDate);
+            payment.setProcessedBy(PROCESSED_BY);
+            if (receiptNumber != null) {
+                payment.setReceiptNumber(receiptNumber);
+            }
+            paymentChanges.add(change);
+        });
+        verify(jdbcTemplate.batchUpdate(UPDATE_PAYMENT_SQL, paymentChanges, batchSize, (ps, change) -> {
+            Payment payment = change.payment;
+            ps.setString(1, payment.getStatus().name());
+            ps.setString(2, payment.getPaymentMethod().name());
+            ps.setDate(3, Date.valueOf(payment.getPaymentDate()));
+            ps.setTimestamp(4, Timestamp.valueOf(payment.getProcessedDate()));
+            ps.setString(5, payment.getReceiptNumber());
+            ps.setString(6, PROCESSED_BY);
+            ps.setTimestamp(7, updatedDate);
+            ps.setString(8, PROCESSED_BY);
+            ps.setLong(9, payment.getId());
+            ps.setString(10, change.expectedStatus.name());
+        }), "payment");
+
+        // Bulk updates bypass the installment plan, product distribution and payment entity listeners
+        for (PlanChange change : planChanges) {
+            eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.INSTALLMENT_PLAN,
+                    change.plan.getId(), change.plan.getStudentId()));
+        }
+        for (StudentProductDistribution distribution : distributions) {
+            eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.PRODUCT_DISTRIBUTION,
+                    distribution.getId(), distribution.getStudentId()));
+        }
+        for (PaymentChange change : paymentChanges) {
+            Payment payment = change.payment;
+            PaymentRevenueChangedEvent.Contribution current = PaymentRevenueChangedEvent.Contribution.of(payment);
+            if (!Objects.equals(change.previousContribution, current)) {
+                eventPublisher.publishEvent(new PaymentRevenueChangedEvent(change.previousContribution, current));
+            }
+            eventPublisher.publishEvent(new PaymentChangedEvent(payment.getId()));
+            eventPublisher.publishEvent(new LedgerSourceChangedEvent(LedgerEntry.SourceType.PAYMENT, payment.getId(), payment.getStudentId()));
+        }
+    }
+
+    /**
+     * Fail the allocation when any row no longer matched the state it was allocated from
+     */
+    private static void verify(int[][] counts, String kind) {
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    throw new StaleAllocationException(kind);
+                }
+            }
+        }
+    }
+
+    /**
+     * Map an allocation to PaymentAllocationResponse DTO
+     */
+    private PaymentAllocationResponse mapToResponse(Allocation allocation, AllocationPolicy policy, boolean applied) {
+        long received = 0;
+        long allocated = 0;
+        List<PaymentAllocationResponse.ReceiptAllocation> receipts = new ArrayList<>();
+        for (ReceiptResult result : allocation.results) {
+            PaymentAllocationResponse.ReceiptAllocation receipt = new PaymentAllocationResponse.ReceiptAllocation();
+            receipt.setStudentId(result.receipt.getStudentId());
+            receipt.setReceiptNumber(result.receipt.getReceiptNumber());
+            receipt.setAmount(MinorUnits.toAmount(result.amountMinor));
+            receipt.setAllocatedAmount(MinorUnits.toAmount(result.allocatedMinor));
+            receipt.setUnallocatedAmount(MinorUnits.toAmount(result.amountMinor - result.allocatedMinor));
+            receipt.setLines(result.targets.stream().map(this::mapToLine).toList());
+            receipts.add(receipt);
+            received += result.amountMinor;
+            allocated += result.allocatedMinor;
+        }
+
+        PaymentAllocationResponse response = new PaymentAllocationResponse();
+        response.setPolicy(policy.getName());
+        response.setApplied(applied);
+        response.setReceiptCount(receipts.size());
+        response.setSettledObligations(allocation.settlements.size());
+        response.setTotalReceived(MinorUnits.toAmount(received));
+        response.setTotalAllocated(MinorUnits.toAmount(allocated));
+        response.setTotalUnallocated(MinorUnits.toAmount(received - allocated));
+        response.setReceipts(receipts);
+        response.setGeneratedAt(LocalDateTime.now());
+        return response;
+    }
+
+    private PaymentAllocationResponse.Line mapToLine(AllocationTarget target) {
+        PaymentAllocationResponse.Line line = new PaymentAllocationResponse.Line();
+        line.setTargetType(target.getType());
+        line.setTargetId(target.getTargetId());
+        line.setInstallmentNumber(target.getInstallmentNumber());
+        line.setDescription(target.getDescription());
+        line.setDueDate(target.getDueDate());
+        line.setAmount(MinorUnits.toAmount(target.getAmountMinor()));
+        return line;
+    }
+
+    /**
+     * Obligations loaded for a batch of receipts and what the receipts settle
+     */
+    private static final class Allocation {
+        private final Map<Long, InstallmentPlan> plans = new LinkedHashMap<>();
+        private final Map<Long, StudentProductDistribution> distributions = new LinkedHashMap<>();
+        private final Map<Long, Payment> payments = new LinkedHashMap<>();
+        private final List<Settlement> settlements = new ArrayList<>();
+        private final List<ReceiptResult> results = new ArrayList<>();
+        private Map<String, Payment> installmentPayments;
+
+        /**
+         * Open payment row of a plan installment, if the plan has one
+         */
+        Payment findInstallmentPayment(Long planId, Integer number) {
+            if (installmentPayments == null) {
+                installmentPayments = new HashMap<>();
+                for (Payment payment : payments.values()) {
+                    if (payment.isInstallment()) {
+                        installmentPayments.putIfAbsent(payment.getInstallmentPlanId() + ":" + payment.getInstallmentNumber(), payment);
+                    }
+                }
+            }
+            return installmentPayments.get(planId + ":" + number);
+        }
+    }
+
+    /**
+     * Obligation settled by a receipt
+     */
+    private static final class Settlement {
+        private final AllocationTarget target;
+        private final ReceiptAllocationRequest.Receipt receipt;
+
+        Settlement(AllocationTarget target, ReceiptAllocationRequest.Receipt receipt) {
+            this.target = target;
+            this.receipt = receipt;
+        }
+    }
+
+    /**
+     * Amount of one receipt and the obligations it settled
+     */
+    private static final class ReceiptResult {
+        private final ReceiptAllocationRequest.Receipt receipt;
+        private final long amountMinor;
+        private final List<AllocationTarget> targets = new ArrayList<>();
+        private long allocatedMinor;
+
+        ReceiptResult(ReceiptAllocationRequest.Receipt receipt, long amountMinor) {
+            this.receipt = receipt;
+            this.amountMinor = amountMinor;
+        }
+    }
+
+    /**
+     * Installment plan with the counters it was allocated from
+     */
+    private static final class PlanChange {
+        private final InstallmentPlan plan;
+        private final int expectedPaid;
+        private final InstallmentPlan.InstallmentStatus expectedStatus;
+
+        PlanChange(InstallmentPlan plan) {
+            this.plan = plan;
+            this.expectedPaid = plan.getPaidInstallments() != null ? plan.getPaidInstallments() : 0;
+            this.expectedStatus = plan.getStatus();
+        }
+    }
+
+    /**
+     * Payment with the status and revenue contribution it was allocated from
+     */
+    private static final class PaymentChange {
+        private final Payment payment;
+        private final Payment.PaymentStatus expectedStatus;
+        private final PaymentRevenueChangedEvent.Contribution previousContribution;
+
+        PaymentChange(Payment payment) {
+            this.payment = payment;
+            this.expectedStatus = payment.getStatus();
+            this.previousContribution = payment.getRevenueContribution();
+        }
+    }
+
+    /**
+     * Raised inside the apply transaction when a row changed since it was loaded
+     */
+    private static final class StaleAllocationException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StaleAllocationException(String kind) {
+            super(kind);
+        }
+    }
+}
@@ -0,0 +1,725 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.payment_management.dto.GatewayCallbackAck;
+import com.educationerp.payment_management.dto.GatewayCallbackRequest;
+import com.educationerp.payment_management.dto.GatewayCallbackRequest.CallbackStatus;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service class ingesting payment gateway callbacks
+ * A callback is verified by its HMAC signature, deduplicated by transaction ID and outcome through a
+ * bounded in-memory cache, and acknowledged once a single journal writer has appended it to the local
+ * journal with one fsync per batch. A flusher applies journaled callbacks to their payments and
+ * installment plans in batched transactions; the payment row is the durable idempotency check, so a
+ * callback already reflected in its payment is skipped. Journal segments are deleted once every
+ * callback in them is applied, and segments left behind by a crash are replayed on startup.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class PaymentGatewayCallbackService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentGatewayCallbackService.class);
+
+    private static final String JOURNAL_PREFIX = "callbacks-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final String PROCESSED_BY = "payment-gateway";
+    private static final long MAX_RETRY_BACKOFF_MS = 60_000;
+    private static final int MAX_NOTES_LENGTH = 1000;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Shared with the gateway only; callbacks are refused while it is not configured */
+    @Value("${education.erp.payment-gateway.secret:}")
+    private String gatewaySecret;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    @Value("${education.erp.payment-gateway.journal-directory:${java.io.tmpdir}/payment-gateway-journal}")
+    private String journalDirectoryPath;
+
+    @Value("${education.erp.payment-gateway.ring-capacity:65536}")
+    private int ringCapacity;
+
+    @Value("${education.erp.payment-gateway.batch-size:500}")
+    private int batchSize;
+
+    @Value("${education.erp.payment-gateway.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    @Value("${education.erp.payment-gateway.durable-timeout-ms:2000}")
+    private long durableTimeoutMs;
+
+    @Value("${education.erp.payment-gateway.segment-entries:10000}")
+    private int segmentEntries;
+
+    @Value("${education.erp.payment-gateway.idempotency-cache-size:100000}")
+    private int idempotencyCacheSize;
+
+    /** Idempotency keys of recent callbacks, evicted oldest first */
+    private final Set<String> recentKeys = ConcurrentHashMap.newKeySet();
+    private final Queue<String> recentOrder = new ConcurrentLinkedQueue<>();
+
+    /** Journaled callbacks waiting for the flusher */
+    private final Queue<Callback> journaled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger unapplied = new AtomicInteger();
+
+    /**
+     * Callbacks that failed to apply, in arrival order, waiting for their next attempt; later callbacks of
+     * the same payment wait behind them so a payment sees its callbacks in order. Only the flusher touches them.
+     */
+    private final List<Callback> retrying = new ArrayList<>();
+    private final AtomicBoolean writerScheduled = new AtomicBoolean();
+
+    /** Incoming callbacks; drained only by the journal writer */
+    private BlockingQueue<Callback> ring;
+
+    /** Owned by the journal writer; handed between writer runs through writerScheduled */
+    private Segment segment;
+    private long sequence;
+    private long nextSegmentNumber;
+
+    private Path journalDirectory;
+    private ExecutorService journalExecutor;
+    private ScheduledExecutorService flushScheduler;
+
+    @PostConstruct
+    void initialize() throws IOException {
+        if (gatewaySecret.isBlank()) {
+            logger.warn("PAYMENT_GATEWAY_SECRET is not set; payment gateway callbacks are disabled");
+        } else if (gatewaySecret.equals(jwtSecret)) {
+            throw new IllegalStateException("The payment gateway secret must not be the JWT signing secret");
+        }
+        journalDirectory = Files.createDirectories(Paths.get(journalDirectoryPath));
+        ring = new ArrayBlockingQueue<>(ringCapacity);
+        recoverJournals();
+        journalExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gateway-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gateway-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        flushScheduler.shutdown();
+        flushScheduler.awaitTermination(10, TimeUnit.SECONDS);
+        journalExecutor.shutdown();
+        journalExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        // Whatever is not applied now stays in the journal and is replayed on the next start
+        flush();
+        if (segment != null) {
+            closeSegment(segment);
+        }
+    }
+
+    /**
+     * Start applying journaled callbacks, including the ones recovered from a crash
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startFlusher() {
+        flushScheduler.scheduleWithFixedDelay(this::flushQuietly, 0, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Whether a gateway secret is configured, without which no callback can be verified
+     */
+    public boolean isEnabled() {
+        return !gatewaySecret.isBlank();
+    }
+
+    /**
+     * Check the hex HMAC-SHA256 signature of a callback body
+     */
+    public boolean isSignatureValid(String body, String signature) {
+        if (!isEnabled() || body == null || signature == null) {
+            return false;
+        }
+        String expected = sign(body);
+        String given = signature.trim().toLowerCase(Locale.ROOT);
+        if (given.startsWith(SIGNATURE_PREFIX)) {
+            given = given.substring(SIGNATURE_PREFIX.length());
+        }
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), given.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Accept a verified callback; returns once it is journaled, or RETRY when it could not be journaled in time
+     */
+    public GatewayCallbackAck ingest(String body) {
+        GatewayCallbackRequest request = parse(body);
+        LocalDateTime now = LocalDateTime.now();
+
+        GatewayCallbackAck ack = new GatewayCallbackAck();
+        ack.setTransactionId(request.getTransactionId());
+        ack.setReceivedAt(now);
+
+        String key = idempotencyKey(request.getTransactionId(), request.getStatus());
+        if (!remember(key)) {
+            ack.setStatus(GatewayCallbackAck.AckStatus.DUPLICATE);
+            return ack;
+        }
+
+        Callback callback;
+        try {
+            callback = new Callback(request, objectMapper.writeValueAsString(request), now);
+        } catch (JsonProcessingException e) {
+            recentKeys.remove(key);
+            throw new BusinessException("Callback could not be read");
+        }
+        if (!ring.offer(callback)) {
+            recentKeys.remove(key);
+            logger.warn("Gateway callback ring is full, asking for a retry of transaction {}", request.getTransactionId());
+            ack.setStatus(GatewayCallbackAck.AckStatus.RETRY);
+            return ack;
+        }
+        scheduleWriter();
+
+        try {
+            ack.setSequence(callback.journaled.get(durableTimeoutMs, TimeUnit.MILLISECONDS));
+            ack.setStatus(GatewayCallbackAck.AckStatus.ACCEPTED);
+        } catch (TimeoutException e) {
+            // Still queued: the gateway's retry is acknowledged as a duplicate once it is journaled
+            logger.warn("Gateway callback of transaction {} not journaled within {} ms", request.getTransactionId(), durableTimeoutMs);
+            ack.setStatus(GatewayCallbackAck.AckStatus.RETRY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ack.setStatus(GatewayCallbackAck.AckStatus.RETRY);
+        } catch (ExecutionException e) {
+            ack.setStatus(GatewayCallbackAck.AckStatus.RETRY);
+        }
+        return ack;
+    }
+
+    /**
+     * Number of accepted callbacks not applied to their payments yet
+     */
+    public int getPendingCount() {
+        return ring.size() + unapplied.get();
+    }
+
+    private GatewayCallbackRequest parse(String body) {
+        GatewayCallbackRequest request;
+        try {
+            request = objectMapper.readValue(body, GatewayCallbackRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Callback could not be read");
+        }
+        if (request.getTransactionId() == null || request.getTransactionId().isBlank()) {
+            throw new BusinessException("Transaction ID is required");
+        }
+        if (request.getInstitutionId() == null || request.getPaymentReference() == null || request.getStatus() == null) {
+            throw new BusinessException("Institution ID, payment reference and status are required");
+        }
+        if (request.getAmount() != null && request.getAmount().signum() < 0) {
+            throw new BusinessException("Amount must not be negative");
+        }
+        return request;
+    }
+
+    /**
+     * Add an idempotency key; returns false when it is already known
+     */
+    private boolean remember(String key) {
+        if (!recentKeys.add(key)) {
+            return false;
+        }
+        recentOrder.add(key);
+        while (recentKeys.size() > idempotencyCacheSize) {
+            String oldest = recentOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            recentKeys.remove(oldest);
+        }
+        return true;
+    }
+
+    private void scheduleWriter() {
+        if (writerScheduled.compareAndSet(false, true)) {
+            journalExecutor.execute(this::writeJournal);
+        }
+    }
+
+    /**
+     * Drain the ring into the journal; at most one writer runs at a time
+     */
+    private void writeJournal() {
+        List<Callback> batch = new ArrayList<>(Math.min(batchSize, ringCapacity));
+        try {
+            while (ring.drainTo(batch, batchSize) > 0) {
+                appendToJournal(batch);
+                unapplied.addAndGet(batch.size());
+                for (Callback callback : batch) {
+                    journaled.add(callback);
+                    callback.journaled.complete(callback.sequence);
+                }
+                batch.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to journal {} gateway callbacks", batch.size(), e);
+            for (Callback callback : batch) {
+                recentKeys.remove(idempotencyKey(callback.request.getTransactionId(), callback.request.getStatus()));
+                callback.journaled.completeExceptionally(e);
+            }
+        } finally {
+            writerScheduled.set(false);
+            if (!ring.isEmpty()) {
+                scheduleWriter();
+            }
+        }
+    }
+
+    private void appendToJournal(List<Callback> batch) throws IOException {
+        if (segment == null || segment.written >= segmentEntries) {
+            rollSegment();
+        }
+        StringBuilder lines = new StringBuilder(batch.size() * 256);
+        long next = sequence;
+        for (Callback callback : batch) {
+            callback.sequence = ++next;
+            callback.segment = segment;
+            lines.append("{\"seq\":").append(callback.sequence)
+                    .append(",\"receivedAt\":\"").append(callback.receivedAt)
+                    .append("\",\"callback\":").append(callback.json)
+                    .append("}\n");
+        }
+        segment.pending.addAndGet(batch.size());
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            while (buffer.hasRemaining()) {
+                segment.channel.write(buffer);
+            }
+            // One fsync per batch: every callback in it becomes durable together
+            segment.channel.force(false);
+        } catch (IOException e) {
+            segment.pending.addAndGet(-batch.size());
+            throw e;
+        }
+        segment.written += batch.size();
+        sequence = next;
+    }
+
+    private void rollSegment() throws IOException {
+        if (segment != null) {
+            closeSegment(segment);
+        }
+        Path path = journalDirectory.resolve(JOURNAL_PREFIX + nextSegmentNumber++ + JOURNAL_SUFFIX);
+        Segment next = new Segment(path);
+        next.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segment = next;
+    }
+
+    private void closeSegment(Segment closing) {
+        try {
+            closing.channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close gateway journal {}", closing.path, e);
+        }
+        closing.sealed = true;
+        deleteIfApplied(closing);
+    }
+
+    /**
+     * Delete a sealed segment once every callback in it is applied
+     */
+    private void deleteIfApplied(Segment applied) {
+        if (!applied.sealed || applied.pending.get() > 0) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(applied.path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete gateway journal {}", applied.path, e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.error("Failed to apply gateway callbacks", e);
+        }
+    }
+
+    /**
+     * Apply journaled callbacks, and failed ones due for another attempt, in batches; only the flusher
+     * thread calls this while the application runs
+     */
+    private void flush() {
+        List<Callback> batch = new ArrayList<>(batchSize);
+        while (true) {
+            long now = System.currentTimeMillis();
+            Set<String> waiting = new HashSet<>();
+            for (Iterator<Callback> retries = retrying.iterator(); retries.hasNext(); ) {
+                Callback callback = retries.next();
+                String key = paymentKey(callback.request.getInstitutionId(), callback.request.getPaymentReference());
+                if (batch.size() < batchSize && callback.retryAt <= now && !waiting.contains(key)) {
+                    retries.remove();
+                    batch.add(callback);
+                } else {
+                    waiting.add(key);
+                }
+            }
+            while (batch.size() < batchSize) {
+                Callback callback = journaled.poll();
+                if (callback == null) {
+                    break;
+                }
+                if (waiting.contains(paymentKey(callback.request.getInstitutionId(), callback.request.getPaymentReference()))) {
+                    retrying.add(callback);
+                } else {
+                    batch.add(callback);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            for (Callback callback : apply(batch)) {
+                callback.segment.pending.decrementAndGet();
+                deleteIfApplied(callback.segment);
+                unapplied.decrementAndGet();
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Apply a batch in one transaction; if the batch fails, callbacks are retried one by one. Callbacks
+     * that still fail stay in their journal segment and are retried with backoff, together with the later
+     * callbacks of their payment. Returns the callbacks that are settled: applied, already reflected in
+     * their payment, or for a payment that does not exist.
+     */
+    private List<Callback> apply(List<Callback> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyInTransaction(batch));
+            return batch;
+        } catch (RuntimeException e) {
+            logger.warn("Applying {} gateway callbacks failed, retrying one by one", batch.size(), e);
+        }
+
+        List<Callback> settled = new ArrayList<>(batch.size());
+        Set<String> failed = new HashSet<>();
+        for (Callback callback : batch) {
+            String key = paymentKey(callback.request.getInstitutionId(), callback.request.getPaymentReference());
+            if (failed.contains(key)) {
+                callback.retryAt = 0;
+                retrying.add(callback);
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyInTransaction(List.of(callback)));
+                settled.add(callback);
+            } catch (RuntimeException e) {
+                failed.add(key);
+                callback.attempts++;
+                long backoff = Math.min(flushIntervalMs << Math.min(callback.attempts, 16), MAX_RETRY_BACKOFF_MS);
+                callback.retryAt = System.currentTimeMillis() + backoff;
+                retrying.add(callback);
+                logger.error("Failed to apply gateway callback {} (attempt {}), retrying in {} ms",
+                        callback.json, callback.attempts, backoff, e);
+            }
+        }
+        return settled;
+    }
+
+    private void applyInTransaction(List<Callback> batch) {
+        Map<Long, Set<String>> referencesByInstitution = new HashMap<>();
+        for (Callback callback : batch) {
+            referencesByInstitution.computeIfAbsent(callback.request.getInstitutionId(), id -> new HashSet<>())
+                    .add(callback.request.getPaymentReference());
+        }
+        Map<String, Payment> payments = new HashMap<>();
+        referencesByInstitution.forEach((institutionId, references) ->
+                paymentRepository.findByInstitutionIdAndPaymentReferenceIn(institutionId, references)
+                        .forEach(payment -> payments.put(paymentKey(institutionId, payment.getPaymentReference()), payment)));
+
+        Set<Long> planIds = new HashSet<>();
+        payments.values().forEach(payment -> {
+            if (payment.isInstallment()) {
+                planIds.add(payment.getInstallmentPlanId());
+            }
+        });
+        Map<Long, InstallmentPlan> plans = new HashMap<>();
+        installmentPlanRepository.findAllById(planIds).forEach(plan -> plans.put(plan.getId(), plan));
+
+        for (Callback callback : batch) {
+            GatewayCallbackRequest request = callback.request;
+            Payment payment = payments.get(paymentKey(request.getInstitutionId(), request.getPaymentReference()));
+            if (payment == null) {
+                logger.warn("No payment {} in institution {} for gateway transaction {}",
+                        request.getPaymentReference(), request.getInstitutionId(), request.getTransactionId());
+                continue;
+            }
+            if (!applyCallback(request, payment, plans)) {
+                logger.debug("Gateway callback {} already reflected in payment {}", request.getTransactionId(), payment.getId());
+            }
+        }
+    }
+
+    /**
+     * Apply a callback to its payment; returns false when the payment already reflects it
+     * A success below the amount due is rejected: payments record no captured amount to accumulate partial
+     * captures into, so the payment stays due and the capture is noted on it for reconciliation. A failed
+     * attempt never undoes a payment.
+     */
+    private boolean applyCallback(GatewayCallbackRequest request, Payment payment, Map<Long, InstallmentPlan> plans) {
+        BigDecimal amountDue = payment.getFinalAmount() != null ? payment.getFinalAmount() : payment.getAmount();
+        switch (request.getStatus()) {
+            case SUCCEEDED -> {
+                if (payment.isPaid() || payment.isRefunded()) {
+                    return false;
+                }
+                if (request.getAmount() != null && request.getAmount().compareTo(amountDue) < 0) {
+                    return rejectPartialCapture(request, payment, amountDue);
+                }
+                recordTransaction(request, payment);
+                payment.markAsCompleted();
+                InstallmentPlan plan = payment.isInstallment() ? plans.get(payment.getInstallmentPlanId()) : null;
+                if (plan != null && !plan.isCompleted()) {
+                    plan.incrementPaidInstallments();
+                    if (plan.isPaidOff()) {
+                        plan.markAsCompleted();
+                    }
+                }
+                return true;
+            }
+            case FAILED -> {
+                if (payment.getStatus() != Payment.PaymentStatus.PENDING) {
+                    return false;
+                }
+                recordTransaction(request, payment);
+                payment.markAsFailed();
+                return true;
+            }
+            case REFUNDED -> {
+                if (!payment.isPaid() && payment.getStatus() != Payment.PaymentStatus.PARTIAL) {
+                    return false;
+                }
+                payment.markAsRefunded(request.getAmount() != null ? request.getAmount() : amountDue,
+                        "Refunded by payment gateway transaction " + request.getTransactionId());
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private static boolean rejectPartialCapture(GatewayCallbackRequest request, Payment payment, BigDecimal amountDue) {
+        String note = "Gateway transaction " + request.getTransactionId() + " captured " + request.getAmount()
+                + " of " + amountDue + "; partial captures are not applied";
+        if (payment.getNotes() != null && payment.getNotes().contains(note)) {
+            return false;
+        }
+        logger.error("Rejected partial capture of payment {}: {}", payment.getId(), note);
+        String notes = payment.getNotes() == null ? note : payment.getNotes() + "\n" + note;
+        payment.setNotes(notes.length() > MAX_NOTES_LENGTH ? notes.substring(notes.length() - MAX_NOTES_LENGTH) : notes);
+        return true;
+    }
+
+    private static void recordTransaction(GatewayCallbackRequest request, Payment payment) {
+        payment.setTransactionId(request.getTransactionId());
+        payment.setProcessedBy(PROCESSED_BY);
+        if (request.getPaymentMethod() != null) {
+            payment.setPaymentMethod(request.getPaymentMethod());
+        }
+    }
+
+    private void recoverJournals() {
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(journalDirectory, JOURNAL_PREFIX + "*" + JOURNAL_SUFFIX)) {
+            journals.forEach(paths::add);
+        } catch (IOException e) {
+            logger.error("Failed to list gateway journals in {}", journalDirectory, e);
+        }
+        paths.sort(Comparator.comparingLong(PaymentGatewayCallbackService::segmentNumber));
+
+        for (Path path : paths) {
+            nextSegmentNumber = Math.max(nextSegmentNumber, segmentNumber(path) + 1);
+            try {
+                recoverJournal(path);
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to recover gateway journal {}", path, e);
+            }
+        }
+    }
+
+    private void recoverJournal(Path path) throws IOException {
+        Segment recovered = new Segment(path);
+        recovered.sealed = true;
+        List<Callback> entries = readJournal(path, recovered);
+        for (Callback entry : entries) {
+            sequence = Math.max(sequence, entry.sequence);
+            remember(idempotencyKey(entry.request.getTransactionId(), entry.request.getStatus()));
+            journaled.add(entry);
+        }
+        recovered.pending.addAndGet(entries.size());
+        unapplied.addAndGet(entries.size());
+        deleteIfApplied(recovered);
+        logger.info("Recovered gateway journal {}: {} callbacks to apply", path.getFileName(), entries.size());
+    }
+
+    /**
+     * Read a journal, truncating a partially written last line left by a crash
+     */
+    private List<Callback> readJournal(Path path, Segment recovered) throws IOException {
+        byte[] content = Files.readAllBytes(path);
+        int end = content.length;
+        while (end > 0 && content[end - 1] != '\n') {
+            end--;
+        }
+        if (end < content.length) {
+            logger.warn("Truncating {} bytes of a partial entry from {}", content.length - end, path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+                channel.force(false);
+            }
+        }
+
+        List<Callback> entries = new ArrayList<>();
+        for (String line : new String(content, 0, end, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                GatewayCallbackRequest request = objectMapper.treeToValue(node.get("callback"), GatewayCallbackRequest.class);
+                Callback entry = new Callback(request, node.get("callback").toString(),
+                        LocalDateTime.parse(node.get("receivedAt").asText()));
+                entry.sequence = node.get("seq").asLong();
+                entry.segment = recovered;
+                entries.add(entry);
+            } catch (JsonProcessingException | RuntimeException e) {
+                logger.warn("Skipping unreadable entry in {}: {}", path, line);
+            }
+        }
+        return entries;
+    }
+
+    private String sign(String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(gatewaySecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    private static long segmentNumber(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(JOURNAL_PREFIX.length(), fileName.length() - JOURNAL_SUFFIX.length()));
+    }
+
+    private static String idempotencyKey(String transactionId, CallbackStatus status) {
+        return transactionId + ":" + status;
+    }
+
+    private static String paymentKey(Long institutionId, String paymentReference) {
+        return institutionId + ":" + paymentReference;
+    }
+
+    /**
+     * A journal segment; deleted once sealed and every callback in it is applied
+     */
+    private static final class Segment {
+
+        private final Path path;
+        private final AtomicInteger pending = new AtomicInteger();
+        private FileChannel channel;
+        private int written;
+        private volatile boolean sealed;
+
+        private Segment(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * A callback on its way from the ring to its payment
+     */
+    private static final class Callback {
+
+        private final GatewayCallbackRequest request;
+        private final String json;
+        private final LocalDateTime receivedAt;
+        private final CompletableFuture<Long> journaled = new CompletableFuture<>();
+        private long sequence;
+        private Segment segment;
+        private int attempts;
+        private long retryAt;
+
+        private Callback(GatewayCallbackRequest request, String json, LocalDateTime receivedAt) {
+            this.request = request;
+            this.json = json;
+            this.receivedAt = receivedAt;
+        }
+    }
+}
@@ -0,0 +1,601 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.institution_management.repository.InstitutionRepository;
+import com.educationerp.payment_management.dto.RevenueRollupRebuildResponse;
+import com.educationerp.payment_management.dto.RevenueRollupResponse;
+import com.educationerp.payment_management.dto.RevenueRollupResponse.Dimension;
+import com.educationerp.payment_management.dto.RevenueRollupResponse.Granularity;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.entity.RevenueRollup;
+import com.educationerp.payment_management.event.PaymentRevenueAddedEvent;
+import com.educationerp.payment_management.event.PaymentRevenueChangedEvent;
+import com.educationerp.payment_management.event.PaymentRevenueChangedEvent.Contribution;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.educationerp.payment_management.repository.RevenueRollupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Service class for daily revenue rollups
+ * Payment writes adjust their rollup cells in the writing transaction, so rollups commit and roll back
+ * with the payments; a rebuild recomputes an institution's cells from the payments one month at a time
+ * on a parallel pool. Dashboards combine the daily cells of a month, term or year instead of the payments.
+ *
+ * Every institution month is a partition guarded by a striped read/write lock: payment writes hold the
+ * read lock of their partitions until their transaction completes and a rebuild takes the write lock,
+ * so a rebuilt partition neither misses nor double counts a concurrent payment write.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class RevenueRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevenueRollupService.class);
+
+    private static final int PARTITION_LOCK_STRIPES = 64;
+
+    private static final Comparator<Contribution> CELL_ORDER = Comparator
+            .comparing(Contribution::getInstitutionId)
+            .thenComparing(Contribution::getBranchId)
+            .thenComparing(Contribution::getRollupDate)
+            .thenComparing(Contribution::getPaymentType)
+            .thenComparing(Contribution::getPaymentMethod)
+            .thenComparing(Contribution::getStatus);
+
+    private static final String UPDATE_CELL_SQL =
+            "UPDATE payment_revenue_rollups SET payment_count = payment_count + ?, gross_amount = gross_amount + ?, " +
+            "discount_amount = discount_amount + ?, tax_amount = tax_amount + ?, final_amount = final_amount + ?, " +
+            "refund_amount = refund_amount + ?, updated_date = CURRENT_TIMESTAMP " +
+            "WHERE institution_id = ? AND branch_id = ? AND rollup_date = ? AND payment_type = ? " +
+            "AND payment_method = ? AND status = ?";
+
+    private static final String INSERT_CELL_SQL =
+            "INSERT INTO payment_revenue_rollups (institution_id, branch_id, rollup_date, payment_type, payment_method, " +
+            "status, payment_count, gross_amount, discount_amount, tax_amount, final_amount, refund_amount, " +
+            "created_date, is_active) VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP, true)";
+
+    private static final String DELETE_PARTITION_SQL =
+            "DELETE FROM payment_revenue_rollups WHERE institution_id = ? AND rollup_date BETWEEN ? AND ?";
+
+    private static final String BRANCH_KEY_SQL = "COALESCE(branch_id, " + RevenueRollup.NO_BRANCH + ")";
+
+    private static final String REBUILD_PARTITION_SQL =
+            "INSERT INTO payment_revenue_rollups (institution_id, branch_id, rollup_date, payment_type, payment_method, " +
+            "status, payment_count, gross_amount, discount_amount, tax_amount, final_amount, refund_amount, " +
+            "created_date, is_active) " +
+            "SELECT institution_id, " + BRANCH_KEY_SQL + ", payment_date, payment_type, payment_method, status, " +
+            "COUNT(*), SUM(amount), SUM(COALESCE(discount_amount, 0)), SUM(COALESCE(tax_amount, 0)), " +
+            "SUM(COALESCE(final_amount, amount)), SUM(COALESCE(refund_amount, 0)), CURRENT_TIMESTAMP, true " +
+            "FROM payments WHERE institution_id = ? AND payment_date BETWEEN ? AND ? AND is_active = true " +
+            "GROUP BY institution_id, " + BRANCH_KEY_SQL + ", payment_date, payment_type, payment_method, status";
+
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.revenue-rollup.rebuild-parallelism:4}")
+    private int rebuildParallelism;
+
+    @Value("${education.erp.revenue-rollup.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    private final ReentrantReadWriteLock[] partitionLocks = new ReentrantReadWriteLock[PARTITION_LOCK_STRIPES];
+    private final Object heldPartitionsKey = new Object();
+    private final Map<Long, RebuildState> rebuilds = new ConcurrentHashMap<>();
+
+    private TransactionTemplate cellTransaction;
+    private TransactionTemplate partitionTransaction;
+    private ExecutorService rebuildExecutor;
+    private ForkJoinPool partitionPool;
+
+    @PostConstruct
+    void initialize() {
+        for (int stripe = 0; stripe < partitionLocks.length; stripe++) {
+            partitionLocks[stripe] = new ReentrantReadWriteLock();
+        }
+        cellTransaction = new TransactionTemplate(transactionManager);
+        cellTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        partitionTransaction = new TransactionTemplate(transactionManager);
+        rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "revenue-rollup-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        partitionPool = new ForkJoinPool(Math.max(1, rebuildParallelism));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+        partitionPool.shutdownNow();
+    }
+
+    /**
+     * Rebuild the rollups of institutions that have payments but no rollup cells yet
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void backfillMissingRollups() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        for (Long institutionId : paymentRepository.findInstitutionIdsWithActivePayments()) {
+            if (!revenueRollupRepository.existsByInstitutionId(institutionId)) {
+                logger.info("Backfilling revenue rollups of institution: {}", institutionId);
+                submitRebuild(institutionId, null, null);
+            }
+        }
+    }
+
+    /**
+     * Move a payment's contribution between rollup cells as part of the transaction writing it
+     */
+    @EventListener
+    public void onPaymentRevenueChanged(PaymentRevenueChangedEvent event) {
+        Contribution previous = event.getPrevious();
+        Contribution current = event.getCurrent();
+
+        holdPartitions(previous, current);
+        if (previous != null && previous.isSameCell(current)) {
+            adjustCell(current, 0,
+                    current.getGrossAmount().subtract(previous.getGrossAmount()),
+                    current.getDiscountAmount().subtract(previous.getDiscountAmount()),
+                    current.getTaxAmount().subtract(previous.getTaxAmount()),
+                    current.getFinalAmount().subtract(previous.getFinalAmount()),
+                    current.getRefundAmount().subtract(previous.getRefundAmount()));
+            return;
+        }
+        // Cells are updated in key order so that opposite moves cannot deadlock on the rows
+        boolean currentFirst = previous != null && current != null && CELL_ORDER.compare(current, previous) < 0;
+        if (currentFirst) {
+            addContribution(current);
+        }
+        if (previous != null) {
+            adjustCell(previous, -1, previous.getGrossAmount().negate(), previous.getDiscountAmount().negate(),
+                    previous.getTaxAmount().negate(), previous.getFinalAmount().negate(),
+                    previous.getRefundAmount().negate());
+        }
+        if (current != null && !currentFirst) {
+            addContribution(current);
+        }
+    }
+
+    /**
+     * Add the contributions of payments inserted in bulk as part of the transaction inserting them, summed
+     * per cell and written in one batch
+     */
+    @EventListener
+    public void onPaymentRevenueAdded(PaymentRevenueAddedEvent event) {
+        // Sorted in key order, as single moves update their cells, so concurrent writers cannot deadlock
+        Map<Contribution, CellDelta> cells = new TreeMap<>(CELL_ORDER);
+        for (Contribution contribution : event.getContributions()) {
+            cells.computeIfAbsent(contribution, cell -> new CellDelta()).add(contribution);
+        }
+        if (cells.isEmpty()) {
+            return;
+        }
+        holdPartitions(cells.keySet().toArray(new Contribution[0]));
+
+        List<Map.Entry<Contribution, CellDelta>> entries = new ArrayList<>(cells.entrySet());
+        List<Map.Entry<Contribution, CellDelta>> missing = new ArrayList<>();
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_CELL_SQL, entries, entries.size(), (ps, entry) -> {
+            CellDelta delta = entry.getValue();
+            new ArgumentPreparedStatementSetter(cellArgs(entry.getKey(), delta.count, delta.gross, delta.discount,
+                    delta.tax, delta.finalAmount, delta.refund)).setValues(ps);
+        });
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                Map.Entry<Contribution, CellDelta> entry = entries.get(index++);
+                if (count == 0) {
+                    missing.add(entry);
+                }
+            }
+        }
+        for (Map.Entry<Contribution, CellDelta> entry : missing) {
+            CellDelta delta = entry.getValue();
+            adjustCell(entry.getKey(), delta.count, delta.gross, delta.discount, delta.tax, delta.finalAmount, delta.refund);
+        }
+    }
+
+    /**
+     * Get the payment totals of a date range combined per period and grouped dimensions
+     */
+    @Transactional(readOnly = true)
+    public RevenueRollupResponse getRevenue(Long institutionId, LocalDate fromDate, LocalDate toDate, Granularity granularity,
+                                            List<Dimension> groupBy, Long branchId, Payment.PaymentType paymentType,
+                                            Payment.PaymentMethod paymentMethod, Payment.PaymentStatus status) {
+        if (!institutionRepository.existsById(institutionId)) {
+            throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+        }
+        if (fromDate.isAfter(toDate)) {
+            throw new BusinessException("Start date must not be after end date");
+        }
+        Granularity period = granularity != null ? granularity : Granularity.MONTH;
+        List<Dimension> dimensions = groupBy != null ? groupBy.stream().distinct().toList() : List.of();
+
+        List<Object[]> cells;
+        int keyOffset;
+        if (period == Granularity.DAY) {
+            cells = revenueRollupRepository.sumByDay(institutionId, fromDate, toDate, branchId, paymentType, paymentMethod, status);
+            keyOffset = 1;
+        } else {
+            cells = revenueRollupRepository.sumByMonth(institutionId, fromDate, toDate, branchId, paymentType, paymentMethod, status);
+            keyOffset = 2;
+        }
+
+        Map<List<Object>, RevenueRollupResponse.Row> rows = new HashMap<>();
+        RevenueRollupResponse.Row total = newRow(null, null);
+        for (Object[] cell : cells) {
+            LocalDate periodStart = periodStart(period, cell, fromDate);
+            Map<Dimension, String> values = new EnumMap<>(Dimension.class);
+            for (Dimension dimension : dimensions) {
+                values.put(dimension, dimensionValue(dimension, cell, keyOffset));
+            }
+            List<Object> key = new ArrayList<>(values.values());
+            key.add(0, periodStart);
+            RevenueRollupResponse.Row row = rows.computeIfAbsent(key, ignored -> newRow(periodStart, values));
+            addCell(row, cell, keyOffset + 4);
+            addCell(total, cell, keyOffset + 4);
+        }
+
+        Map<Dimension, String> filters = new EnumMap<>(Dimension.class);
+        filters.put(Dimension.BRANCH, branchId != null ? branchId.toString() : null);
+        filters.put(Dimension.PAYMENT_TYPE, paymentType != null ? paymentType.name() : null);
+        filters.put(Dimension.PAYMENT_METHOD, paymentMethod != null ? paymentMethod.name() : null);
+        filters.put(Dimension.STATUS, status != null ? status.name() : null);
+
+        RevenueRollupResponse response = new RevenueRollupResponse();
+        response.setInstitutionId(institutionId);
+        response.setFromDate(fromDate);
+        response.setToDate(toDate);
+        response.setGranularity(period);
+        response.setGroupBy(dimensions);
+        response.setFilters(filters);
+        response.setTotal(total);
+        response.setRows(rows.values().stream()
+                .sorted(Comparator.comparing(RevenueRollupResponse.Row::getPeriodStart)
+                        .thenComparing(row -> row.getValues().toString()))
+                .toList());
+        response.setRollupRows(cells.size());
+        response.setGeneratedAt(LocalDateTime.now());
+        return response;
+    }
+
+    /**
+     * Recompute an institution's rollups from its payments; the whole payment history when no range is given
+     */
+    public RevenueRollupRebuildResponse rebuild(Long institutionId, LocalDate fromDate, LocalDate toDate) {
+        logger.info("Revenue rollup rebuild requested for institution {} from {} to {}", institutionId, fromDate, toDate);
+
+        if (!institutionRepository.existsById(institutionId)) {
+            throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+        }
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new BusinessException("Start date must not be after end date");
+        }
+        RebuildState state = submitRebuild(institutionId, fromDate, toDate);
+        if (state == null) {
+            throw new BusinessException("A revenue rollup rebuild is already running for institution: " + institutionId);
+        }
+        return mapToRebuildResponse(institutionId, state);
+    }
+
+    /**
+     * Get the progress of an institution's latest rollup rebuild
+     */
+    public RevenueRollupRebuildResponse getRebuild(Long institutionId) {
+        RebuildState state = rebuilds.get(institutionId);
+        if (state == null) {
+            throw new ResourceNotFoundException("Revenue rollup rebuild not found for institution: " + institutionId);
+        }
+        return mapToRebuildResponse(institutionId, state);
+    }
+
+    private RebuildState submitRebuild(Long institutionId, LocalDate fromDate, LocalDate toDate) {
+        RebuildState state = new RebuildState(fromDate, toDate);
+        RebuildState existing = rebuilds.compute(institutionId, (id, previous) ->
+                previous != null && previous.isActive() ? previous : state);
+        if (existing != state) {
+            return null;
+        }
+        rebuildExecutor.execute(() -> runRebuild(institutionId, state));
+        return state;
+    }
+
+    private void runRebuild(Long institutionId, RebuildState state) {
+        state.status = RevenueRollupRebuildResponse.RebuildStatus.RUNNING;
+        state.startedAt = LocalDateTime.now();
+        try {
+            if (state.fromDate == null || state.toDate == null) {
+                // Cover the cells left behind by payments that moved or were removed as well
+                LocalDate first = null;
+                LocalDate last = null;
+                for (Object[] range : List.of(paymentRepository.findPaymentDateRangeByInstitutionId(institutionId).get(0),
+                        revenueRollupRepository.findRollupDateRangeByInstitutionId(institutionId).get(0))) {
+                    if (range[0] != null && (first == null || first.isAfter((LocalDate) range[0]))) {
+                        first = (LocalDate) range[0];
+                    }
+                    if (range[1] != null && (last == null || last.isBefore((LocalDate) range[1]))) {
+                        last = (LocalDate) range[1];
+                    }
+                }
+                if (state.fromDate == null) {
+                    state.fromDate = first != null ? first : LocalDate.now();
+                }
+                if (state.toDate == null) {
+                    state.toDate = last != null && !last.isBefore(state.fromDate) ? last : state.fromDate;
+                }
+            }
+
+            List<LocalDate[]> partitions = new ArrayList<>();
+            for (YearMonth month = YearMonth.from(state.fromDate); !month.atDay(1).isAfter(state.toDate); month = month.plusMonths(1)) {
+                LocalDate start = month.atDay(1).isBefore(state.fromDate) ? state.fromDate : month.atDay(1);
+                LocalDate end = month.atEndOfMonth().isAfter(state.toDate) ? state.toDate : month.atEndOfMonth();
+                partitions.add(new LocalDate[] {start, end});
+            }
+            state.totalPartitions = partitions.size();
+
+            partitionPool.submit(() -> partitions.parallelStream()
+                    .forEach(partition -> rebuildPartition(institutionId, partition[0], partition[1], state)))
+                    .get();
+
+            state.status = RevenueRollupRebuildResponse.RebuildStatus.COMPLETED;
+            logger.info("Revenue rollups of institution {} rebuilt from {} to {}: {} partitions, {} cells",
+                    institutionId, state.fromDate, state.toDate, state.totalPartitions, state.rollupRows.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state.status = RevenueRollupRebuildResponse.RebuildStatus.FAILED;
+            state.errorMessage = "Rebuild interrupted";
+        } catch (Exception e) {
+            logger.error("Revenue rollup rebuild of institution {} failed", institutionId, e);
+            state.status = RevenueRollupRebuildResponse.RebuildStatus.FAILED;
+            state.errorMessage = e.getMessage();
+        } finally {
+            state.completedAt = LocalDateTime.now();
+        }
+    }
+
+    private void rebuildPartition(Long institutionId, LocalDate start, LocalDate end, RebuildState state) {
+        ReentrantReadWriteLock.WriteLock lock = partitionLocks[stripe(institutionId, YearMonth.from(start))].writeLock();
+        lock.lock();
+        try {
+            Integer cells = partitionTransaction.execute(status -> {
+                jdbcTemplate.update(DELETE_PARTITION_SQL, institutionId, Date.valueOf(start), Date.valueOf(end));
+                return jdbcTemplate.update(REBUILD_PARTITION_SQL, institutionId, Date.valueOf(start), Date.valueOf(end));
+            });
+            state.rollupRows.addAndGet(cells != null ? cells : 0);
+            state.completedPartitions.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the read locks of the partitions a payment write touches and hold them until its transaction completes
+     */
+    @SuppressWarnings("unchecked")
+    private void holdPartitions(Contribution... contributions) {
+        Set<Integer> held = (Set<Integer>) TransactionSynchronizationManager.getResource(heldPartitionsKey);
+        if (held == null) {
+            Set<Integer> transactionStripes = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(heldPartitionsKey, transactionStripes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(heldPartitionsKey);
+                    transactionStripes.forEach(stripe -> partitionLocks[stripe].readLock().unlock());
+                }
+            });
+            held = transactionStripes;
+        }
+        for (Contribution contribution : contributions) {
+            if (contribution != null) {
+                int stripe = stripe(contribution.getInstitutionId(), YearMonth.from(contribution.getRollupDate()));
+                if (held.add(stripe)) {
+                    lockShared(partitionLocks[stripe].readLock());
+                }
+            }
+        }
+    }
+
+    /**
+     * Payment writes already hold row locks when they get here, so they only wait for a rebuild that is
+     * running and never queue behind one that is waiting for the partition
+     */
+    private static void lockShared(ReentrantReadWriteLock.ReadLock lock) {
+        if (!lock.tryLock()) {
+            lock.lock();
+        }
+    }
+
+    private int stripe(Long institutionId, YearMonth month) {
+        return Math.floorMod(Objects.hash(institutionId, month), partitionLocks.length);
+    }
+
+    private void addContribution(Contribution cell) {
+        adjustCell(cell, 1, cell.getGrossAmount(), cell.getDiscountAmount(), cell.getTaxAmount(),
+                cell.getFinalAmount(), cell.getRefundAmount());
+    }
+
+    private void adjustCell(Contribution cell, long count, BigDecimal gross, BigDecimal discount, BigDecimal tax,
+                            BigDecimal finalAmount, BigDecimal refund) {
+        Object[] args = cellArgs(cell, count, gross, discount, tax, finalAmount, refund);
+        if (jdbcTemplate.update(UPDATE_CELL_SQL, args) == 0) {
+            createCell(cell);
+            jdbcTemplate.update(UPDATE_CELL_SQL, args);
+        }
+    }
+
+    private static Object[] cellArgs(Contribution cell, long count, BigDecimal gross, BigDecimal discount, BigDecimal tax,
+                                     BigDecimal finalAmount, BigDecimal refund) {
+        return new Object[]{count, gross, discount, tax, finalAmount, refund, cell.getInstitutionId(), cell.getBranchId(),
+                Date.valueOf(cell.getRollupDate()), cell.getPaymentType().name(), cell.getPaymentMethod().name(),
+                cell.getStatus().name()};
+    }
+
+    /**
+     * Create an empty cell in its own transaction so that concurrent writers of a new cell do not
+     * fail the payment transactions on the unique key
+     */
+    private void createCell(Contribution cell) {
+        try {
+            cellTransaction.executeWithoutResult(status -> jdbcTemplate.update(INSERT_CELL_SQL, cell.getInstitutionId(),
+                    cell.getBranchId(), Date.valueOf(cell.getRollupDate()), cell.getPaymentType().name(),
+                    cell.getPaymentMethod().name(), cell.getStatus().name()));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Revenue rollup cell created concurrently: {}", cell);
+        }
+    }
+
+    private static LocalDate periodStart(Granularity granularity, Object[] cell, LocalDate fromDate) {
+        return switch (granularity) {
+            case DAY -> (LocalDate) cell[0];
+            case MONTH -> LocalDate.of(((Number) cell[0]).intValue(), ((Number) cell[1]).intValue(), 1);
+            case YEAR -> LocalDate.of(((Number) cell[0]).intValue(), 1, 1);
+            case TOTAL -> fromDate;
+        };
+    }
+
+    private static String dimensionValue(Dimension dimension, Object[] cell, int keyOffset) {
+        return switch (dimension) {
+            case BRANCH -> {
+                Long branchId = (Long) cell[keyOffset];
+                yield branchId == RevenueRollup.NO_BRANCH ? null : branchId.toString();
+            }
+            case PAYMENT_TYPE -> ((Payment.PaymentType) cell[keyOffset + 1]).name();
+            case PAYMENT_METHOD -> ((Payment.PaymentMethod) cell[keyOffset + 2]).name();
+            case STATUS -> ((Payment.PaymentStatus) cell[keyOffset + 3]).name();
+        };
+    }
+
+    private static RevenueRollupResponse.Row newRow(LocalDate periodStart, Map<Dimension, String> values) {
+        RevenueRollupResponse.Row row = new RevenueRollupResponse.Row();
+        row.setPeriodStart(periodStart);
+        row.setValues(values);
+        row.setPaymentCount(0L);
+        row.setGrossAmount(BigDecimal.ZERO);
+        row.setDiscountAmount(BigDecimal.ZERO);
+        row.setTaxAmount(BigDecimal.ZERO);
+        row.setFinalAmount(BigDecimal.ZERO);
+        row.setRefundAmount(BigDecimal.ZERO);
+        return row;
+    }
+
+    private static void addCell(RevenueRollupResponse.Row row, Object[] cell, int measureOffset) {
+        row.setPaymentCount(row.getPaymentCount() + ((Number) cell[measureOffset]).longValue());
+        row.setGrossAmount(row.getGrossAmount().add((BigDecimal) cell[measureOffset + 1]));
+        row.setDiscountAmount(row.getDiscountAmount().add((BigDecimal) cell[measureOffset + 2]));
+        row.setTaxAmount(row.getTaxAmount().add((BigDecimal) cell[measureOffset + 3]));
+        row.setFinalAmount(row.getFinalAmount().add((BigDecimal) cell[measureOffset + 4]));
+        row.setRefundAmount(row.getRefundAmount().add((BigDecimal) cell[measureOffset + 5]));
+    }
+
+    private static RevenueRollupRebuildResponse mapToRebuildResponse(Long institutionId, RebuildState state) {
+        RevenueRollupRebuildResponse response = new RevenueRollupRebuildResponse();
+        response.setInstitutionId(institutionId);
+        response.setFromDate(state.fromDate);
+        response.setToDate(state.toDate);
+        response.setStatus(state.status);
+        response.setTotalPartitions(state.totalPartitions);
+        response.setCompletedPartitions(state.completedPartitions.get());
+        response.setRollupRows(state.rollupRows.get());
+        response.setStartedAt(state.startedAt);
+        response.setCompletedAt(state.completedAt);
+        response.setErrorMessage(state.errorMessage);
+        return response;
+    }
+
+    /**
+     * Summed amounts of the contributions added to one cell
+     */
+    private static final class CellDelta {
+
+        private long count;
+        private BigDecimal gross = BigDecimal.ZERO;
+        private BigDecimal discount = BigDecimal.ZERO;
+        private BigDecimal tax = BigDecimal.ZERO;
+        private BigDecimal finalAmount = BigDecimal.ZERO;
+        private BigDecimal refund = BigDecimal.ZERO;
+
+        private void add(Contribution contribution) {
+            count++;
+            gross = gross.add(contribution.getGrossAmount());
+            discount = discount.add(contribution.getDiscountAmount());
+            tax = tax.add(contribution.getTaxAmount());
+            finalAmount = finalAmount.add(contribution.getFinalAmount());
+            refund = refund.add(contribution.getRefundAmount());
+        }
+    }
+
+    /**
+     * Progress of a rebuild; a new rebuild of the institution replaces it once it has finished
+     */
+    private static final class RebuildState {
+
+        private volatile LocalDate fromDate;
+        private volatile LocalDate toDate;
+        private volatile RevenueRollupRebuildResponse.RebuildStatus status = RevenueRollupRebuildResponse.RebuildStatus.QUEUED;
+        private volatile Integer totalPartitions;
+        private final AtomicInteger completedPartitions = new AtomicInteger();
+        private final AtomicLong rollupRows = new AtomicLong();
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile String errorMessage;
+
+        private RebuildState(LocalDate fromDate, LocalDate toDate) {
+            this.fromDate = fromDate;
+            this.toDate = toDate;
+        }
+
+        private boolean isActive() {
+            return status == RevenueRollupRebuildResponse.RebuildStatus.QUEUED
+                    || status == RevenueRollupRebuildResponse.RebuildStatus.RUNNING;
+        }
+    }
+}
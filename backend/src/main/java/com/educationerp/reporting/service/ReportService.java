@@ -1,5 +1,7 @@
 package com.educationerp.reporting.service;
 
+import com.educationerp.core.entity.BusinessSequence;
+import com.educationerp.core.service.BusinessNumberService;
 import com.educationerp.reporting.entity.Report;
 import com.educationerp.reporting.repository.ReportRepository;
 import org.slf4j.Logger;
@@ -27,6 +29,9 @@ public class ReportService {
     @Autowired
     private ReportRepository reportRepository;
 
+    @Autowired
+    private BusinessNumberService businessNumberService;
+
     /**
      * Generate student enrollment report
      */
@@ -43,7 +48,7 @@ public class ReportService {
             Report report = new Report();
             report.setInstitutionId(institutionId);
             report.setBranchId(branchId);
-            report.setReportCode("STU_ENROLL_" + System.currentTimeMillis());
+            report.setReportCode("STU_ENROLL_" + businessNumberService.next(institutionId, BusinessSequence.SequenceKind.REPORT_CODE));
             report.setReportName("Student Enrollment Report");
             report.setDescription("Report showing student enrollment statistics");
             report.setReportType(Report.ReportType.STANDARD);
@@ -84,7 +89,7 @@ public class ReportService {
             Report report = new Report();
             report.setInstitutionId(institutionId);
             report.setBranchId(branchId);
-            report.setReportCode("PAY_REPORT_" + System.currentTimeMillis());
+            report.setReportCode("PAY_REPORT_" + businessNumberService.next(institutionId, BusinessSequence.SequenceKind.REPORT_CODE));
             report.setReportName("Payment Report");
             report.setDescription("Report showing payment statistics and trends");
             report.setReportType(Report.ReportType.STANDARD);
@@ -125,7 +130,7 @@ public class ReportService {
             Report report = new Report();
             report.setInstitutionId(institutionId);
             report.setBranchId(branchId);
-            report.setReportCode("COURSE_PERF_" + System.currentTimeMillis());
+            report.setReportCode("COURSE_PERF_" + businessNumberService.next(institutionId, BusinessSequence.SequenceKind.REPORT_CODE));
             report.setReportName("Course Performance Report");
             report.setDescription("Report showing course performance metrics and analytics");
             report.setReportType(Report.ReportType.ANALYTICS);
@@ -166,7 +171,7 @@ public class ReportService {
             Report report = new Report();
             report.setInstitutionId(institutionId);
             report.setBranchId(branchId);
-            report.setReportCode("INV_REPORT_" + System.currentTimeMillis());
+            report.setReportCode("INV_REPORT_" + businessNumberService.next(institutionId, BusinessSequence.SequenceKind.REPORT_CODE));
             report.setReportName("Inventory Report");
             report.setDescription("Report showing inventory levels and stock status");
             report.setReportType(Report.ReportType.STANDARD);
@@ -207,7 +212,7 @@ public class ReportService {
             Report report = new Report();
             report.setInstitutionId(institutionId);
             report.setBranchId(branchId);
-            report.setReportCode("FIN_REPORT_" + System.currentTimeMillis());
+            report.setReportCode("FIN_REPORT_" + businessNumberService.next(institutionId, BusinessSequence.SequenceKind.REPORT_CODE));
             report.setReportName("Financial Report");
             report.setDescription("Report showing financial metrics and revenue analysis");
             report.setReportType(Report.ReportType.ANALYTICS);
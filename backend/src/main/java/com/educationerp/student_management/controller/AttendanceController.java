@@ -0,0 +1,79 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.student_management.dto.AttendanceMarkRequest;
+import com.educationerp.student_management.dto.AttendanceMarkResponse;
+import com.educationerp.student_management.dto.CourseAttendanceReportResponse;
+import com.educationerp.student_management.dto.StudentAttendanceResponse;
+import com.educationerp.student_management.service.AttendanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for attendance tracking
+ * Provides roster-wide session marking and bitmap-based attendance reports
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/teacher/attendance")
+@Tag(name = "Attendance", description = "Session attendance marking and reports")
+public class AttendanceController {
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    /**
+     * Mark attendance of a course roster for a session
+     */
+    @PostMapping("/courses/{courseId}/sessions/{sessionNumber}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Mark session attendance", description = "Mark listed students present or absent and apply the roster default to everyone else")
+    public ResponseEntity<ApiResponse<AttendanceMarkResponse>> markSession(
+            @Parameter(description = "Course ID") @PathVariable Long courseId,
+            @Parameter(description = "Session number, starting at 1") @PathVariable int sessionNumber,
+            @RequestBody AttendanceMarkRequest request) {
+
+        AttendanceMarkResponse marking = attendanceService.markSession(courseId, sessionNumber, request);
+        ApiResponse<AttendanceMarkResponse> response = ApiResponse.success("Attendance marked successfully", marking);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get attendance report of a course
+     */
+    @GetMapping("/courses/{courseId}/report")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Get course attendance report", description = "Attendance percentage and consecutive absences per student and presence per session")
+    public ResponseEntity<ApiResponse<CourseAttendanceReportResponse>> getCourseReport(
+            @Parameter(description = "Course ID") @PathVariable Long courseId) {
+
+        CourseAttendanceReportResponse report = attendanceService.getCourseReport(courseId);
+        ApiResponse<CourseAttendanceReportResponse> response = ApiResponse.success("Attendance report retrieved successfully", report);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get a student's attendance in a course
+     */
+    @GetMapping("/courses/{courseId}/students/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Get student attendance", description = "Attendance figures and absent sessions of a student in a course")
+    public ResponseEntity<ApiResponse<StudentAttendanceResponse>> getStudentAttendance(
+            @Parameter(description = "Course ID") @PathVariable Long courseId,
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        StudentAttendanceResponse attendance = attendanceService.getStudentAttendance(courseId, studentId);
+        ApiResponse<StudentAttendanceResponse> response = ApiResponse.success("Student attendance retrieved successfully", attendance);
+
+        return ResponseEntity.ok(response);
+    }
+}
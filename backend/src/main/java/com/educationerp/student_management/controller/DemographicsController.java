@@ -0,0 +1,70 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.student_management.dto.DemographicsResponse;
+import com.educationerp.student_management.dto.DemographicsResponse.Dimension;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.service.StudentDemographicsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for student demographics
+ * Counts, slices and roll-ups are answered from the in-memory demographics cube
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/reports/demographics")
+@Tag(name = "Student Demographics", description = "Student counts by grade level, program, major, gender, status and location")
+public class DemographicsController {
+
+    @Autowired
+    private StudentDemographicsService studentDemographicsService;
+
+    /**
+     * Get student counts of an institution
+     */
+    @GetMapping("/institutions/{institutionId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('REPORT_VIEWER')")
+    @Operation(summary = "Get student demographics", description = "Number of active students matching the filters, optionally grouped by one or more dimensions")
+    public ResponseEntity<ApiResponse<DemographicsResponse>> getDemographics(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Dimensions to group by") @RequestParam(required = false) List<Dimension> groupBy,
+            @Parameter(description = "Branch ID") @RequestParam(required = false) Long branchId,
+            @Parameter(description = "Grade level") @RequestParam(required = false) String gradeLevel,
+            @Parameter(description = "Program") @RequestParam(required = false) String program,
+            @Parameter(description = "Major") @RequestParam(required = false) String major,
+            @Parameter(description = "Gender") @RequestParam(required = false) Student.Gender gender,
+            @Parameter(description = "Enrollment status") @RequestParam(required = false) Student.EnrollmentStatus enrollmentStatus,
+            @Parameter(description = "City") @RequestParam(required = false) String city,
+            @Parameter(description = "State") @RequestParam(required = false) String state,
+            @Parameter(description = "Country") @RequestParam(required = false) String country) {
+
+        Map<Dimension, String> filters = new EnumMap<>(Dimension.class);
+        filters.put(Dimension.BRANCH, branchId != null ? branchId.toString() : null);
+        filters.put(Dimension.GRADE_LEVEL, gradeLevel);
+        filters.put(Dimension.PROGRAM, program);
+        filters.put(Dimension.MAJOR, major);
+        filters.put(Dimension.GENDER, gender != null ? gender.name() : null);
+        filters.put(Dimension.ENROLLMENT_STATUS, enrollmentStatus != null ? enrollmentStatus.name() : null);
+        filters.put(Dimension.CITY, city);
+        filters.put(Dimension.STATE, state);
+        filters.put(Dimension.COUNTRY, country);
+
+        DemographicsResponse demographics = studentDemographicsService.getDemographics(institutionId, filters, groupBy);
+        ApiResponse<DemographicsResponse> response = ApiResponse.success("Student demographics retrieved successfully", demographics);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,137 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.student_management.dto.DuplicateMatchResponse;
+import com.educationerp.student_management.dto.DuplicateScanResponse;
+import com.educationerp.student_management.entity.DuplicateStudentMatch;
+import com.educationerp.student_management.service.DuplicateStudentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * REST controller for duplicate student detection
+ * Full institution scans run in the background; newly created students are checked automatically
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/institution/duplicate-students")
+@Tag(name = "Duplicate Students", description = "Fuzzy duplicate student detection and review")
+public class DuplicateStudentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateStudentController.class);
+
+    @Autowired
+    private DuplicateStudentService duplicateStudentService;
+
+    /**
+     * Start a full duplicate scan of an institution
+     */
+    @PostMapping("/institutions/{institutionId}/scan")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Start duplicate scan", description = "Compare all active students of an institution in the background")
+    public ResponseEntity<ApiResponse<DuplicateScanResponse>> startScan(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId) {
+        logger.info("Duplicate student scan requested for institution: {}", institutionId);
+
+        DuplicateScanResponse scan = duplicateStudentService.startScan(institutionId);
+        ApiResponse<DuplicateScanResponse> response = ApiResponse.success("Duplicate scan started successfully", scan);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get the running or latest duplicate scan of an institution
+     */
+    @GetMapping("/institutions/{institutionId}/scan")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get duplicate scan", description = "Retrieve status and counts of the latest duplicate scan")
+    public ResponseEntity<ApiResponse<DuplicateScanResponse>> getScan(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId) {
+
+        DuplicateScanResponse scan = duplicateStudentService.getScan(institutionId);
+        ApiResponse<DuplicateScanResponse> response = ApiResponse.success("Duplicate scan retrieved successfully", scan);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get duplicate matches of an institution
+     */
+    @GetMapping("/institutions/{institutionId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get duplicate matches", description = "Retrieve paginated duplicate matches, optionally filtered by review status")
+    public ResponseEntity<ApiResponse<Page<DuplicateMatchResponse>>> getMatches(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Review status") @RequestParam(required = false) DuplicateStudentMatch.MatchStatus status,
+            Pageable pageable) {
+
+        Page<DuplicateMatchResponse> matches = duplicateStudentService.getMatches(institutionId, status, pageable);
+        ApiResponse<Page<DuplicateMatchResponse>> response = ApiResponse.success("Duplicate matches retrieved successfully", matches);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Check a student for duplicates
+     */
+    @PostMapping("/students/{studentId}/check")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Check student for duplicates", description = "Compare a student with related students now and return all of its matches")
+    public ResponseEntity<ApiResponse<List<DuplicateMatchResponse>>> checkStudent(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        List<DuplicateMatchResponse> matches = duplicateStudentService.checkStudent(studentId);
+        ApiResponse<List<DuplicateMatchResponse>> response = ApiResponse.success("Duplicate check completed successfully", matches);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Confirm a duplicate match
+     */
+    @PutMapping("/matches/{matchId}/confirm")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Confirm duplicate match", description = "Mark a match as the same person")
+    public ResponseEntity<ApiResponse<DuplicateMatchResponse>> confirmMatch(
+            @Parameter(description = "Match ID") @PathVariable Long matchId,
+            Principal principal) {
+
+        DuplicateMatchResponse match = duplicateStudentService.reviewMatch(matchId,
+                DuplicateStudentMatch.MatchStatus.CONFIRMED, principal != null ? principal.getName() : null);
+        ApiResponse<DuplicateMatchResponse> response = ApiResponse.success("Duplicate match confirmed successfully", match);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Dismiss a duplicate match
+     */
+    @PutMapping("/matches/{matchId}/dismiss")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Dismiss duplicate match", description = "Mark a match as different people; later scans will not report it again")
+    public ResponseEntity<ApiResponse<DuplicateMatchResponse>> dismissMatch(
+            @Parameter(description = "Match ID") @PathVariable Long matchId,
+            Principal principal) {
+
+        DuplicateMatchResponse match = duplicateStudentService.reviewMatch(matchId,
+                DuplicateStudentMatch.MatchStatus.DISMISSED, principal != null ? principal.getName() : null);
+        ApiResponse<DuplicateMatchResponse> response = ApiResponse.success("Duplicate match dismissed successfully", match);
+
+        return ResponseEntity.ok(response);
+    }
+}
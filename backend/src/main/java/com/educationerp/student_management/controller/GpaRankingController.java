@@ -0,0 +1,102 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.student_management.dto.GpaHistogramResponse;
+import com.educationerp.student_management.dto.GpaRankResponse;
+import com.educationerp.student_management.service.GpaRankingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for GPA rankings
+ * Provides class rank, percentile, top-N and distribution queries per cohort
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/reports/gpa-rankings")
+@Tag(name = "GPA Ranking", description = "GPA rank, percentile and distribution queries")
+public class GpaRankingController {
+
+    @Autowired
+    private GpaRankingService gpaRankingService;
+
+    /**
+     * Get a student's rank within a cohort
+     */
+    @GetMapping("/students/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('REPORT_VIEWER')")
+    @Operation(summary = "Get student GPA rank", description = "Rank and percentile of a student within the institution, program or grade level")
+    public ResponseEntity<ApiResponse<GpaRankResponse>> getStudentRank(
+            @Parameter(description = "Student ID") @PathVariable Long studentId,
+            @Parameter(description = "Ranking scope") @RequestParam(defaultValue = "INSTITUTION") GpaRankResponse.Scope scope) {
+
+        GpaRankResponse rank = gpaRankingService.getStudentRank(studentId, scope);
+        ApiResponse<GpaRankResponse> response = ApiResponse.success("GPA rank retrieved successfully", rank);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get top students of a cohort
+     */
+    @GetMapping("/institutions/{institutionId}/top")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('REPORT_VIEWER')")
+    @Operation(summary = "Get top students", description = "Highest GPAs of a cohort for honour rolls and scholarship shortlists")
+    public ResponseEntity<ApiResponse<List<GpaRankResponse>>> getTopStudents(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Ranking scope") @RequestParam(defaultValue = "INSTITUTION") GpaRankResponse.Scope scope,
+            @Parameter(description = "Program or grade level for narrower scopes") @RequestParam(required = false) String value,
+            @Parameter(description = "Number of students") @RequestParam(defaultValue = "10") int limit) {
+
+        List<GpaRankResponse> top = gpaRankingService.getTopStudents(institutionId, scope, value, limit);
+        ApiResponse<List<GpaRankResponse>> response = ApiResponse.success("Top students retrieved successfully", top);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Count students of a cohort within a GPA range
+     */
+    @GetMapping("/institutions/{institutionId}/count")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('REPORT_VIEWER')")
+    @Operation(summary = "Count students by GPA range", description = "Number of students of a cohort with a GPA between the given bounds")
+    public ResponseEntity<ApiResponse<Integer>> countStudents(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Ranking scope") @RequestParam(defaultValue = "INSTITUTION") GpaRankResponse.Scope scope,
+            @Parameter(description = "Program or grade level for narrower scopes") @RequestParam(required = false) String value,
+            @Parameter(description = "Minimum GPA, inclusive") @RequestParam(required = false) Double minGpa,
+            @Parameter(description = "Maximum GPA, inclusive") @RequestParam(required = false) Double maxGpa) {
+
+        int count = gpaRankingService.countStudents(institutionId, scope, value, minGpa, maxGpa);
+        ApiResponse<Integer> response = ApiResponse.success("Student count retrieved successfully", count);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get GPA distribution of a cohort
+     */
+    @GetMapping("/institutions/{institutionId}/histogram")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('REPORT_VIEWER')")
+    @Operation(summary = "Get GPA histogram", description = "Number of students per GPA range of the given width")
+    public ResponseEntity<ApiResponse<GpaHistogramResponse>> getHistogram(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Ranking scope") @RequestParam(defaultValue = "INSTITUTION") GpaRankResponse.Scope scope,
+            @Parameter(description = "Program or grade level for narrower scopes") @RequestParam(required = false) String value,
+            @Parameter(description = "Width of each GPA range") @RequestParam(defaultValue = "0.5") double bucketWidth) {
+
+        GpaHistogramResponse histogram = gpaRankingService.getHistogram(institutionId, scope, value, bucketWidth);
+        ApiResponse<GpaHistogramResponse> response = ApiResponse.success("GPA histogram retrieved successfully", histogram);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,66 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.student_management.dto.GpaVerificationResponse;
+import com.educationerp.student_management.dto.RosterGradeSubmissionRequest;
+import com.educationerp.student_management.dto.RosterGradeSubmissionResponse;
+import com.educationerp.student_management.service.GradebookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for gradebook operations
+ * Provides roster-wide grade submission and GPA verification
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/teacher/gradebook")
+@Tag(name = "Gradebook", description = "Roster grade entry and GPA maintenance")
+public class GradebookController {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradebookController.class);
+
+    @Autowired
+    private GradebookService gradebookService;
+
+    /**
+     * Submit grades for a whole course roster
+     */
+    @PostMapping("/courses/{courseId}/grades")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Submit roster grades", description = "Write grades for all listed students of a course and update their GPAs")
+    public ResponseEntity<ApiResponse<RosterGradeSubmissionResponse>> submitRosterGrades(
+            @Parameter(description = "Course ID") @PathVariable Long courseId,
+            @Valid @RequestBody RosterGradeSubmissionRequest request) {
+
+        RosterGradeSubmissionResponse submission = gradebookService.submitRosterGrades(courseId, request);
+        ApiResponse<RosterGradeSubmissionResponse> response = ApiResponse.success("Grades submitted successfully", submission);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recompute and verify all students' GPAs
+     */
+    @PostMapping("/gpa/verify")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Operation(summary = "Verify GPAs", description = "Recompute every student's GPA from enrollments and repair drifted running sums")
+    public ResponseEntity<ApiResponse<GpaVerificationResponse>> verifyGpas() {
+        logger.info("Manual GPA verification requested");
+
+        GpaVerificationResponse verification = gradebookService.verifyAllGpas();
+        ApiResponse<GpaVerificationResponse> response = ApiResponse.success("GPA verification completed successfully", verification);
+
+        return ResponseEntity.ok(response);
+    }
+}
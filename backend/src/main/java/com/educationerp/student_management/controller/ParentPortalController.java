@@ -0,0 +1,113 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.security.service.CustomUserDetailsService;
+import com.educationerp.student_management.dto.ParentDashboardResponse;
+import com.educationerp.student_management.dto.ParentLinkRequest;
+import com.educationerp.student_management.dto.ParentLinkResponse;
+import com.educationerp.student_management.service.ParentPortalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the parent portal
+ * Parents see a dashboard of all their linked children; administrators manage the links
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/parent")
+@Tag(name = "Parent Portal", description = "Parent dashboard and parent-child links")
+public class ParentPortalController {
+
+    @Autowired
+    private ParentPortalService parentPortalService;
+
+    /**
+     * Get the dashboard of the signed-in parent
+     */
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasRole('PARENT')")
+    @Operation(summary = "Get parent dashboard", description = "Enrollments, grades, balance and unread notifications of every linked child")
+    public ResponseEntity<ApiResponse<ParentDashboardResponse>> getDashboard(
+            @AuthenticationPrincipal CustomUserDetailsService.CustomUserPrincipal principal) {
+
+        ParentDashboardResponse dashboard = parentPortalService.getDashboard(principal.getUser().getId());
+        ApiResponse<ParentDashboardResponse> response = ApiResponse.success("Parent dashboard retrieved successfully", dashboard);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the dashboard of a parent
+     */
+    @GetMapping("/parents/{parentUserId}/dashboard")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER')")
+    @Operation(summary = "Get dashboard of a parent", description = "The dashboard a parent sees, for support staff")
+    public ResponseEntity<ApiResponse<ParentDashboardResponse>> getParentDashboard(
+            @Parameter(description = "Parent user ID") @PathVariable Long parentUserId) {
+
+        ParentDashboardResponse dashboard = parentPortalService.getDashboard(parentUserId);
+        ApiResponse<ParentDashboardResponse> response = ApiResponse.success("Parent dashboard retrieved successfully", dashboard);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the children linked to a parent
+     */
+    @GetMapping("/parents/{parentUserId}/children")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER')")
+    @Operation(summary = "Get linked children", description = "Retrieve the children linked to a parent")
+    public ResponseEntity<ApiResponse<List<ParentLinkResponse>>> getLinks(
+            @Parameter(description = "Parent user ID") @PathVariable Long parentUserId) {
+
+        List<ParentLinkResponse> links = parentPortalService.getLinks(parentUserId);
+        ApiResponse<List<ParentLinkResponse>> response = ApiResponse.success("Linked children retrieved successfully", links);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Link a child to a parent
+     */
+    @PostMapping("/parents/{parentUserId}/children")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER')")
+    @Operation(summary = "Link child", description = "Link a student to a user with the parent role")
+    public ResponseEntity<ApiResponse<ParentLinkResponse>> linkStudent(
+            @Parameter(description = "Parent user ID") @PathVariable Long parentUserId,
+            @Valid @RequestBody ParentLinkRequest request) {
+
+        ParentLinkResponse link = parentPortalService.linkStudent(parentUserId, request);
+        ApiResponse<ParentLinkResponse> response = ApiResponse.success("Child linked successfully", link);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Unlink a child from a parent
+     */
+    @DeleteMapping("/parents/{parentUserId}/children/{studentId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER')")
+    @Operation(summary = "Unlink child", description = "Remove a student from a parent's dashboard")
+    public ResponseEntity<ApiResponse<Void>> unlinkStudent(
+            @Parameter(description = "Parent user ID") @PathVariable Long parentUserId,
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        parentPortalService.unlinkStudent(parentUserId, studentId);
+        ApiResponse<Void> response = ApiResponse.success("Child unlinked successfully", null);
+
+        return ResponseEntity.ok(response);
+    }
+}
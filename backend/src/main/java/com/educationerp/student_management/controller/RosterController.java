@@ -0,0 +1,41 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.student_management.service.RosterSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for teacher course rosters
+ * Rosters are served from pre-serialized snapshots; clients polling with If-None-Match get 304 until the roster changes
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/teacher/rosters")
+@Tag(name = "Rosters", description = "Course rosters for teachers")
+public class RosterController {
+
+    @Autowired
+    private RosterSnapshotService rosterSnapshotService;
+
+    /**
+     * Get the roster of a course
+     */
+    @GetMapping(value = "/courses/{courseId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Get course roster", description = "Retrieve the enrolled students of a course; returns 304 when the If-None-Match ETag is current")
+    public ResponseEntity<byte[]> getCourseRoster(
+            @Parameter(description = "Course ID") @PathVariable Long courseId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return rosterSnapshotService.getRoster(courseId).toResponse(ifNoneMatch);
+    }
+}
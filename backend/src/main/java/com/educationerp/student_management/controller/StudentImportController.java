@@ -0,0 +1,136 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.student_management.dto.StudentImportJobResponse;
+import com.educationerp.student_management.service.StudentImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * REST controller for bulk student imports
+ * Uploads are streamed to disk and imported by a background job that clients poll for progress
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/institution/student-imports")
+@Tag(name = "Student Import", description = "Bulk CSV student onboarding")
+public class StudentImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportController.class);
+
+    @Autowired
+    private StudentImportService studentImportService;
+
+    /**
+     * Upload a CSV file and start importing its students
+     */
+    @PostMapping(value = "/institutions/{institutionId}", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Start student import", description = "Stream a CSV with a header row as the request body; rows are imported by a background job")
+    public ResponseEntity<ApiResponse<StudentImportJobResponse>> startImport(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            @Parameter(description = "Original file name") @RequestParam(required = false) String fileName,
+            InputStream content) {
+        logger.info("Student import upload received for institution: {}", institutionId);
+
+        StudentImportJobResponse job = studentImportService.startImport(institutionId, fileName, content);
+        ApiResponse<StudentImportJobResponse> response = ApiResponse.success("Student import started successfully", job);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get import job progress
+     */
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get student import job", description = "Retrieve status, progress and row counts of an import")
+    public ResponseEntity<ApiResponse<StudentImportJobResponse>> getJob(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+
+        StudentImportJobResponse job = studentImportService.getJob(jobId);
+        ApiResponse<StudentImportJobResponse> response = ApiResponse.success("Student import job retrieved successfully", job);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get import jobs of an institution
+     */
+    @GetMapping("/institutions/{institutionId}/jobs")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Get student import jobs", description = "Retrieve paginated import jobs of an institution")
+    public ResponseEntity<ApiResponse<Page<StudentImportJobResponse>>> getJobs(
+            @Parameter(description = "Institution ID") @PathVariable Long institutionId,
+            Pageable pageable) {
+
+        Page<StudentImportJobResponse> jobs = studentImportService.getJobsByInstitution(institutionId, pageable);
+        ApiResponse<Page<StudentImportJobResponse>> response = ApiResponse.success("Student import jobs retrieved successfully", jobs);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Download rejected rows of an import job
+     */
+    @GetMapping(value = "/jobs/{jobId}/errors", produces = "text/csv")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Download import errors", description = "CSV of rejected rows with their row numbers and validation errors")
+    public ResponseEntity<Resource> downloadErrors(@Parameter(description = "Job ID") @PathVariable Long jobId) {
+        Path errorFile = studentImportService.getErrorFile(jobId);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"student-import-" + jobId + "-errors.csv\"")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(new FileSystemResource(errorFile));
+    }
+
+    /**
+     * Resume a failed or cancelled import
+     */
+    @PostMapping("/jobs/{jobId}/resume")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Resume student import", description = "Continue a failed or cancelled import from its first uncommitted row")
+    public ResponseEntity<ApiResponse<StudentImportJobResponse>> resumeImport(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+
+        StudentImportJobResponse job = studentImportService.resumeImport(jobId);
+        ApiResponse<StudentImportJobResponse> response = ApiResponse.success("Student import resumed successfully", job);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Cancel an import job
+     */
+    @DeleteMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN')")
+    @Operation(summary = "Cancel student import", description = "Stop an import after its current chunk; committed rows are kept")
+    public ResponseEntity<ApiResponse<StudentImportJobResponse>> cancelImport(
+            @Parameter(description = "Job ID") @PathVariable Long jobId) {
+
+        StudentImportJobResponse job = studentImportService.cancelImport(jobId);
+        ApiResponse<StudentImportJobResponse> response = ApiResponse.success("Student import cancellation requested successfully", job);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,43 @@
+package com.educationerp.student_management.controller;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.student_management.dto.StudentOverviewResponse;
+import com.educationerp.student_management.service.StudentOverviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the student overview
+ * Provides everything a student detail page needs in a single call
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/student")
+@Tag(name = "Student Overview", description = "Combined student profile, enrollment, payment and inventory view")
+public class StudentOverviewController {
+
+    @Autowired
+    private StudentOverviewService studentOverviewService;
+
+    /**
+     * Get overview of a student
+     */
+    @GetMapping("/{studentId}/overview")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('INSTITUTION_ADMIN') or hasRole('BRANCH_MANAGER') or hasRole('TEACHER')")
+    @Operation(summary = "Get student overview", description = "Profile, enrollments, payments, installment plans, products and unread notifications loaded in parallel")
+    public ResponseEntity<ApiResponse<StudentOverviewResponse>> getOverview(
+            @Parameter(description = "Student ID") @PathVariable Long studentId) {
+
+        StudentOverviewResponse overview = studentOverviewService.getOverview(studentId);
+        ApiResponse<StudentOverviewResponse> response = ApiResponse.success("Student overview retrieved successfully", overview);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,50 @@
+package com.educationerp.student_management.dto;
+
+import java.util.List;
+
+/**
+ * DTO for marking attendance of a course roster for one session
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class AttendanceMarkRequest {
+
+    private List<Long> presentStudentIds;
+    private List<Long> absentStudentIds;
+    private RosterDefault rosterDefault = RosterDefault.UNCHANGED;
+
+    // Constructors
+    public AttendanceMarkRequest() {
+    }
+
+    // Getters and Setters
+    public List<Long> getPresentStudentIds() {
+        return presentStudentIds;
+    }
+
+    public void setPresentStudentIds(List<Long> presentStudentIds) {
+        this.presentStudentIds = presentStudentIds;
+    }
+
+    public List<Long> getAbsentStudentIds() {
+        return absentStudentIds;
+    }
+
+    public void setAbsentStudentIds(List<Long> absentStudentIds) {
+        this.absentStudentIds = absentStudentIds;
+    }
+
+    public RosterDefault getRosterDefault() {
+        return rosterDefault;
+    }
+
+    public void setRosterDefault(RosterDefault rosterDefault) {
+        this.rosterDefault = rosterDefault;
+    }
+
+    // Enums
+    public enum RosterDefault {
+        PRESENT, ABSENT, UNCHANGED
+    }
+}
@@ -0,0 +1,99 @@
+package com.educationerp.student_management.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a roster attendance marking
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class AttendanceMarkResponse {
+
+    private Long courseId;
+    private Integer sessionNumber;
+    private Integer rosterSize;
+    private Integer markedPresent;
+    private Integer markedAbsent;
+    private Integer updated;
+    private List<Long> notEnrolledStudentIds;
+    private List<Long> withdrawnStudentIds;
+    private Long elapsedMillis;
+
+    // Constructors
+    public AttendanceMarkResponse() {
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getSessionNumber() {
+        return sessionNumber;
+    }
+
+    public void setSessionNumber(Integer sessionNumber) {
+        this.sessionNumber = sessionNumber;
+    }
+
+    public Integer getRosterSize() {
+        return rosterSize;
+    }
+
+    public void setRosterSize(Integer rosterSize) {
+        this.rosterSize = rosterSize;
+    }
+
+    public Integer getMarkedPresent() {
+        return markedPresent;
+    }
+
+    public void setMarkedPresent(Integer markedPresent) {
+        this.markedPresent = markedPresent;
+    }
+
+    public Integer getMarkedAbsent() {
+        return markedAbsent;
+    }
+
+    public void setMarkedAbsent(Integer markedAbsent) {
+        this.markedAbsent = markedAbsent;
+    }
+
+    public Integer getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(Integer updated) {
+        this.updated = updated;
+    }
+
+    public List<Long> getNotEnrolledStudentIds() {
+        return notEnrolledStudentIds;
+    }
+
+    public void setNotEnrolledStudentIds(List<Long> notEnrolledStudentIds) {
+        this.notEnrolledStudentIds = notEnrolledStudentIds;
+    }
+
+    public List<Long> getWithdrawnStudentIds() {
+        return withdrawnStudentIds;
+    }
+
+    public void setWithdrawnStudentIds(List<Long> withdrawnStudentIds) {
+        this.withdrawnStudentIds = withdrawnStudentIds;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,165 @@
+package com.educationerp.student_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the attendance report of a whole course
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class CourseAttendanceReportResponse {
+
+    private Long courseId;
+    private Integer rosterSize;
+    private Integer sessionsRecorded;
+    private Double averageAttendancePercentage;
+    private Double thresholdPercentage;
+    private Integer studentsBelowThreshold;
+    private Long storedBytes;
+    private List<StudentAttendanceResponse> students;
+    private List<SessionSummary> sessions;
+    private Long computedMillis;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public CourseAttendanceReportResponse() {
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getRosterSize() {
+        return rosterSize;
+    }
+
+    public void setRosterSize(Integer rosterSize) {
+        this.rosterSize = rosterSize;
+    }
+
+    public Integer getSessionsRecorded() {
+        return sessionsRecorded;
+    }
+
+    public void setSessionsRecorded(Integer sessionsRecorded) {
+        this.sessionsRecorded = sessionsRecorded;
+    }
+
+    public Double getAverageAttendancePercentage() {
+        return averageAttendancePercentage;
+    }
+
+    public void setAverageAttendancePercentage(Double averageAttendancePercentage) {
+        this.averageAttendancePercentage = averageAttendancePercentage;
+    }
+
+    public Double getThresholdPercentage() {
+        return thresholdPercentage;
+    }
+
+    public void setThresholdPercentage(Double thresholdPercentage) {
+        this.thresholdPercentage = thresholdPercentage;
+    }
+
+    public Integer getStudentsBelowThreshold() {
+        return studentsBelowThreshold;
+    }
+
+    public void setStudentsBelowThreshold(Integer studentsBelowThreshold) {
+        this.studentsBelowThreshold = studentsBelowThreshold;
+    }
+
+    public Long getStoredBytes() {
+        return storedBytes;
+    }
+
+    public void setStoredBytes(Long storedBytes) {
+        this.storedBytes = storedBytes;
+    }
+
+    public List<StudentAttendanceResponse> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<StudentAttendanceResponse> students) {
+        this.students = students;
+    }
+
+    public List<SessionSummary> getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(List<SessionSummary> sessions) {
+        this.sessions = sessions;
+    }
+
+    public Long getComputedMillis() {
+        return computedMillis;
+    }
+
+    public void setComputedMillis(Long computedMillis) {
+        this.computedMillis = computedMillis;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * Attendance of the roster in one session
+     */
+    public static class SessionSummary {
+
+        private Integer sessionNumber;
+        private Integer recorded;
+        private Integer present;
+
+        public SessionSummary() {
+        }
+
+        public SessionSummary(Integer sessionNumber, Integer recorded, Integer present) {
+            this.sessionNumber = sessionNumber;
+            this.recorded = recorded;
+            this.present = present;
+        }
+
+        public Integer getSessionNumber() {
+            return sessionNumber;
+        }
+
+        public void setSessionNumber(Integer sessionNumber) {
+            this.sessionNumber = sessionNumber;
+        }
+
+        public Integer getRecorded() {
+            return recorded;
+        }
+
+        public void setRecorded(Integer recorded) {
+            this.recorded = recorded;
+        }
+
+        public Integer getPresent() {
+            return present;
+        }
+
+        public void setPresent(Integer present) {
+            this.present = present;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.educationerp.student_management.dto;
+
+import com.educationerp.student_management.entity.Enrollment;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the roster of a course as served to teachers
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class CourseRosterResponse {
+
+    private Long courseId;
+    private Integer studentCount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    private List<RosterEntry> students;
+
+    // Constructors
+    public CourseRosterResponse() {
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getStudentCount() {
+        return studentCount;
+    }
+
+    public void setStudentCount(Integer studentCount) {
+        this.studentCount = studentCount;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public List<RosterEntry> getStudents() {
+        return students;
+    }
+
+    public void setStudents(List<RosterEntry> students) {
+        this.students = students;
+    }
+
+    /**
+     * One enrolled student of the roster
+     */
+    public static class RosterEntry {
+
+        private Long studentId;
+        private String studentNumber;
+        private String fullName;
+        private String profilePictureUrl;
+        private Enrollment.EnrollmentStatus status;
+
+        public RosterEntry() {
+        }
+
+        public RosterEntry(Long studentId, String studentNumber, String fullName, String profilePictureUrl,
+                           Enrollment.EnrollmentStatus status) {
+            this.studentId = studentId;
+            this.studentNumber = studentNumber;
+            this.fullName = fullName;
+            this.profilePictureUrl = profilePictureUrl;
+            this.status = status;
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public void setStudentId(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        public String getStudentNumber() {
+            return studentNumber;
+        }
+
+        public void setStudentNumber(String studentNumber) {
+            this.studentNumber = studentNumber;
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        public void setFullName(String fullName) {
+            this.fullName = fullName;
+        }
+
+        public String getProfilePictureUrl() {
+            return profilePictureUrl;
+        }
+
+        public void setProfilePictureUrl(String profilePictureUrl) {
+            this.profilePictureUrl = profilePictureUrl;
+        }
+
+        public Enrollment.EnrollmentStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(Enrollment.EnrollmentStatus status) {
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.educationerp.student_management.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for a slice of the student demographics cube, optionally grouped by dimensions
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class DemographicsResponse {
+
+    private Long institutionId;
+    private Map<Dimension, String> filters;
+    private List<Dimension> groupBy;
+    private Long total;
+    private List<Group> groups;
+
+    // Constructors
+    public DemographicsResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Map<Dimension, String> getFilters() {
+        return filters;
+    }
+
+    public void setFilters(Map<Dimension, String> filters) {
+        this.filters = filters;
+    }
+
+    public List<Dimension> getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(List<Dimension> groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    /**
+     * Student count of one combination of the grouped dimensions
+     */
+    public static class Group {
+
+        private Map<Dimension, String> values;
+        private Long count;
+
+        public Group() {
+        }
+
+        public Group(Map<Dimension, String> values, Long count) {
+            this.values = values;
+            this.count = count;
+        }
+
+        public Map<Dimension, String> getValues() {
+            return values;
+        }
+
+        public void setValues(Map<Dimension, String> values) {
+            this.values = values;
+        }
+
+        public Long getCount() {
+            return count;
+        }
+
+        public void setCount(Long count) {
+            this.count = count;
+        }
+    }
+
+    // Enums
+    public enum Dimension {
+        BRANCH, GRADE_LEVEL, PROGRAM, MAJOR, GENDER, ENROLLMENT_STATUS, CITY, STATE, COUNTRY
+    }
+}
@@ -0,0 +1,179 @@
+package com.educationerp.student_management.dto;
+
+import com.educationerp.student_management.entity.DuplicateStudentMatch;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a probable duplicate student pair
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class DuplicateMatchResponse {
+
+    private Long id;
+    private Long institutionId;
+    private Long studentId;
+    private String studentNumber;
+    private String studentName;
+    private Long matchedStudentId;
+    private String matchedStudentNumber;
+    private String matchedStudentName;
+    private Double score;
+    private Double nameSimilarity;
+    private Double dateOfBirthSimilarity;
+    private Boolean phoneMatch;
+    private Double addressSimilarity;
+    private DuplicateStudentMatch.MatchStatus status;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime detectedDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime reviewedDate;
+
+    private String reviewedBy;
+
+    // Constructors
+    public DuplicateMatchResponse() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getStudentNumber() {
+        return studentNumber;
+    }
+
+    public void setStudentNumber(String studentNumber) {
+        this.studentNumber = studentNumber;
+    }
+
+    public String getStudentName() {
+        return studentName;
+    }
+
+    public void setStudentName(String studentName) {
+        this.studentName = studentName;
+    }
+
+    public Long getMatchedStudentId() {
+        return matchedStudentId;
+    }
+
+    public void setMatchedStudentId(Long matchedStudentId) {
+        this.matchedStudentId = matchedStudentId;
+    }
+
+    public String getMatchedStudentNumber() {
+        return matchedStudentNumber;
+    }
+
+    public void setMatchedStudentNumber(String matchedStudentNumber) {
+        this.matchedStudentNumber = matchedStudentNumber;
+    }
+
+    public String getMatchedStudentName() {
+        return matchedStudentName;
+    }
+
+    public void setMatchedStudentName(String matchedStudentName) {
+        this.matchedStudentName = matchedStudentName;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public Double getNameSimilarity() {
+        return nameSimilarity;
+    }
+
+    public void setNameSimilarity(Double nameSimilarity) {
+        this.nameSimilarity = nameSimilarity;
+    }
+
+    public Double getDateOfBirthSimilarity() {
+        return dateOfBirthSimilarity;
+    }
+
+    public void setDateOfBirthSimilarity(Double dateOfBirthSimilarity) {
+        this.dateOfBirthSimilarity = dateOfBirthSimilarity;
+    }
+
+    public Boolean getPhoneMatch() {
+        return phoneMatch;
+    }
+
+    public void setPhoneMatch(Boolean phoneMatch) {
+        this.phoneMatch = phoneMatch;
+    }
+
+    public Double getAddressSimilarity() {
+        return addressSimilarity;
+    }
+
+    public void setAddressSimilarity(Double addressSimilarity) {
+        this.addressSimilarity = addressSimilarity;
+    }
+
+    public DuplicateStudentMatch.MatchStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DuplicateStudentMatch.MatchStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDetectedDate() {
+        return detectedDate;
+    }
+
+    public void setDetectedDate(LocalDateTime detectedDate) {
+        this.detectedDate = detectedDate;
+    }
+
+    public LocalDateTime getReviewedDate() {
+        return reviewedDate;
+    }
+
+    public void setReviewedDate(LocalDateTime reviewedDate) {
+        this.reviewedDate = reviewedDate;
+    }
+
+    public String getReviewedBy() {
+        return reviewedBy;
+    }
+
+    public void setReviewedBy(String reviewedBy) {
+        this.reviewedBy = reviewedBy;
+    }
+}
@@ -0,0 +1,138 @@
+package com.educationerp.student_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the progress and outcome of an institution-wide duplicate student scan
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class DuplicateScanResponse {
+
+    private Long institutionId;
+    private ScanStatus status;
+    private Integer scannedStudents;
+    private Integer blocks;
+    private Integer oversizedBlocks;
+    private Long comparedPairs;
+    private Integer matchesFound;
+    private Integer newMatches;
+    private Long elapsedMillis;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedAt;
+
+    private String errorMessage;
+
+    // Constructors
+    public DuplicateScanResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public ScanStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ScanStatus status) {
+        this.status = status;
+    }
+
+    public Integer getScannedStudents() {
+        return scannedStudents;
+    }
+
+    public void setScannedStudents(Integer scannedStudents) {
+        this.scannedStudents = scannedStudents;
+    }
+
+    public Integer getBlocks() {
+        return blocks;
+    }
+
+    public void setBlocks(Integer blocks) {
+        this.blocks = blocks;
+    }
+
+    public Integer getOversizedBlocks() {
+        return oversizedBlocks;
+    }
+
+    public void setOversizedBlocks(Integer oversizedBlocks) {
+        this.oversizedBlocks = oversizedBlocks;
+    }
+
+    public Long getComparedPairs() {
+        return comparedPairs;
+    }
+
+    public void setComparedPairs(Long comparedPairs) {
+        this.comparedPairs = comparedPairs;
+    }
+
+    public Integer getMatchesFound() {
+        return matchesFound;
+    }
+
+    public void setMatchesFound(Integer matchesFound) {
+        this.matchesFound = matchesFound;
+    }
+
+    public Integer getNewMatches() {
+        return newMatches;
+    }
+
+    public void setNewMatches(Integer newMatches) {
+        this.newMatches = newMatches;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    // Enums
+    public enum ScanStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,106 @@
+package com.educationerp.student_management.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the GPA distribution of a cohort
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class GpaHistogramResponse {
+
+    private Long institutionId;
+    private GpaRankResponse.Scope scope;
+    private String scopeValue;
+    private Integer cohortSize;
+    private List<Bucket> buckets;
+
+    // Constructors
+    public GpaHistogramResponse() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public GpaRankResponse.Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(GpaRankResponse.Scope scope) {
+        this.scope = scope;
+    }
+
+    public String getScopeValue() {
+        return scopeValue;
+    }
+
+    public void setScopeValue(String scopeValue) {
+        this.scopeValue = scopeValue;
+    }
+
+    public Integer getCohortSize() {
+        return cohortSize;
+    }
+
+    public void setCohortSize(Integer cohortSize) {
+        this.cohortSize = cohortSize;
+    }
+
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<Bucket> buckets) {
+        this.buckets = buckets;
+    }
+
+    /**
+     * Number of students with a GPA in [from, to]
+     */
+    public static class Bucket {
+
+        private Double from;
+        private Double to;
+        private Integer count;
+
+        public Bucket() {
+        }
+
+        public Bucket(Double from, Double to, Integer count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        public Double getFrom() {
+            return from;
+        }
+
+        public void setFrom(Double from) {
+            this.from = from;
+        }
+
+        public Double getTo() {
+            return to;
+        }
+
+        public void setTo(Double to) {
+            this.to = to;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public void setCount(Integer count) {
+            this.count = count;
+        }
+    }
+}
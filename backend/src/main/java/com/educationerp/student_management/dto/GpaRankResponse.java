@@ -0,0 +1,96 @@
+package com.educationerp.student_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO for a student's GPA rank within a cohort
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GpaRankResponse {
+
+    private Long studentId;
+    private Long institutionId;
+    private Scope scope;
+    private String scopeValue;
+    private Double gpa;
+    private Integer rank;
+    private Integer cohortSize;
+    private Double percentile;
+
+    // Constructors
+    public GpaRankResponse() {
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public String getScopeValue() {
+        return scopeValue;
+    }
+
+    public void setScopeValue(String scopeValue) {
+        this.scopeValue = scopeValue;
+    }
+
+    public Double getGpa() {
+        return gpa;
+    }
+
+    public void setGpa(Double gpa) {
+        this.gpa = gpa;
+    }
+
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public Integer getCohortSize() {
+        return cohortSize;
+    }
+
+    public void setCohortSize(Integer cohortSize) {
+        this.cohortSize = cohortSize;
+    }
+
+    public Double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(Double percentile) {
+        this.percentile = percentile;
+    }
+
+    // Enums
+    public enum Scope {
+        INSTITUTION, PROGRAM, GRADE_LEVEL
+    }
+}
@@ -0,0 +1,67 @@
+package com.educationerp.student_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the outcome of a full GPA verification run
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class GpaVerificationResponse {
+
+    private Integer checkedStudents;
+    private Integer partitions;
+    private Integer correctedStudents;
+    private Long elapsedMillis;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime verifiedAt;
+
+    // Constructors
+    public GpaVerificationResponse() {
+    }
+
+    // Getters and Setters
+    public Integer getCheckedStudents() {
+        return checkedStudents;
+    }
+
+    public void setCheckedStudents(Integer checkedStudents) {
+        this.checkedStudents = checkedStudents;
+    }
+
+    public Integer getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(Integer partitions) {
+        this.partitions = partitions;
+    }
+
+    public Integer getCorrectedStudents() {
+        return correctedStudents;
+    }
+
+    public void setCorrectedStudents(Integer correctedStudents) {
+        this.correctedStudents = correctedStudents;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public LocalDateTime getVerifiedAt() {
+        return verifiedAt;
+    }
+
+    public void setVerifiedAt(LocalDateTime verifiedAt) {
+        this.verifiedAt = verifiedAt;
+    }
+}
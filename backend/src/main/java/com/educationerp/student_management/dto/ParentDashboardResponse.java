@@ -0,0 +1,272 @@
+package com.educationerp.student_management.dto;
+
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.entity.Student;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the parent portal dashboard covering every linked child
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class ParentDashboardResponse {
+
+    private Long parentUserId;
+    private List<ChildSummary> children;
+    private BigDecimal totalOutstanding;
+    private BigDecimal totalOverdue;
+    private Long unreadNotifications;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public ParentDashboardResponse() {
+    }
+
+    // Getters and Setters
+    public Long getParentUserId() {
+        return parentUserId;
+    }
+
+    public void setParentUserId(Long parentUserId) {
+        this.parentUserId = parentUserId;
+    }
+
+    public List<ChildSummary> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<ChildSummary> children) {
+        this.children = children;
+    }
+
+    public BigDecimal getTotalOutstanding() {
+        return totalOutstanding;
+    }
+
+    public void setTotalOutstanding(BigDecimal totalOutstanding) {
+        this.totalOutstanding = totalOutstanding;
+    }
+
+    public BigDecimal getTotalOverdue() {
+        return totalOverdue;
+    }
+
+    public void setTotalOverdue(BigDecimal totalOverdue) {
+        this.totalOverdue = totalOverdue;
+    }
+
+    public Long getUnreadNotifications() {
+        return unreadNotifications;
+    }
+
+    public void setUnreadNotifications(Long unreadNotifications) {
+        this.unreadNotifications = unreadNotifications;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * One linked child with enrollments, balance and unread notifications
+     */
+    public static class ChildSummary {
+
+        private Long studentId;
+        private String studentNumber;
+        private String fullName;
+        private String relationship;
+        private String gradeLevel;
+        private String profilePictureUrl;
+        private Student.EnrollmentStatus enrollmentStatus;
+        private List<EnrollmentSummary> enrollments;
+        private Double averageGrade;
+        private BigDecimal outstandingAmount;
+        private BigDecimal overdueAmount;
+        private LocalDate nextDueDate;
+        private Long unreadNotifications;
+
+        public ChildSummary() {
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public void setStudentId(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        public String getStudentNumber() {
+            return studentNumber;
+        }
+
+        public void setStudentNumber(String studentNumber) {
+            this.studentNumber = studentNumber;
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        public void setFullName(String fullName) {
+            this.fullName = fullName;
+        }
+
+        public String getRelationship() {
+            return relationship;
+        }
+
+        public void setRelationship(String relationship) {
+            this.relationship = relationship;
+        }
+
+        public String getGradeLevel() {
+            return gradeLevel;
+        }
+
+        public void setGradeLevel(String gradeLevel) {
+            this.gradeLevel = gradeLevel;
+        }
+
+        public String getProfilePictureUrl() {
+            return profilePictureUrl;
+        }
+
+        public void setProfilePictureUrl(String profilePictureUrl) {
+            this.profilePictureUrl = profilePictureUrl;
+        }
+
+        public Student.EnrollmentStatus getEnrollmentStatus() {
+            return enrollmentStatus;
+        }
+
+        public void setEnrollmentStatus(Student.EnrollmentStatus enrollmentStatus) {
+            this.enrollmentStatus = enrollmentStatus;
+        }
+
+        public List<EnrollmentSummary> getEnrollments() {
+            return enrollments;
+        }
+
+        public void setEnrollments(List<EnrollmentSummary> enrollments) {
+            this.enrollments = enrollments;
+        }
+
+        public Double getAverageGrade() {
+            return averageGrade;
+        }
+
+        public void setAverageGrade(Double averageGrade) {
+            this.averageGrade = averageGrade;
+        }
+
+        public BigDecimal getOutstandingAmount() {
+            return outstandingAmount;
+        }
+
+        public void setOutstandingAmount(BigDecimal outstandingAmount) {
+            this.outstandingAmount = outstandingAmount;
+        }
+
+        public BigDecimal getOverdueAmount() {
+            return overdueAmount;
+        }
+
+        public void setOverdueAmount(BigDecimal overdueAmount) {
+            this.overdueAmount = overdueAmount;
+        }
+
+        public LocalDate getNextDueDate() {
+            return nextDueDate;
+        }
+
+        public void setNextDueDate(LocalDate nextDueDate) {
+            this.nextDueDate = nextDueDate;
+        }
+
+        public Long getUnreadNotifications() {
+            return unreadNotifications;
+        }
+
+        public void setUnreadNotifications(Long unreadNotifications) {
+            this.unreadNotifications = unreadNotifications;
+        }
+    }
+
+    /**
+     * Enrollment of a child with its course
+     */
+    public static class EnrollmentSummary {
+
+        private Long courseId;
+        private String courseCode;
+        private String courseName;
+        private Enrollment.EnrollmentStatus status;
+        private Double grade;
+        private Integer credits;
+
+        public EnrollmentSummary() {
+        }
+
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        public void setCourseId(Long courseId) {
+            this.courseId = courseId;
+        }
+
+        public String getCourseCode() {
+            return courseCode;
+        }
+
+        public void setCourseCode(String courseCode) {
+            this.courseCode = courseCode;
+        }
+
+        public String getCourseName() {
+            return courseName;
+        }
+
+        public void setCourseName(String courseName) {
+            this.courseName = courseName;
+        }
+
+        public Enrollment.EnrollmentStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(Enrollment.EnrollmentStatus status) {
+            this.status = status;
+        }
+
+        public Double getGrade() {
+            return grade;
+        }
+
+        public void setGrade(Double grade) {
+            this.grade = grade;
+        }
+
+        public Integer getCredits() {
+            return credits;
+        }
+
+        public void setCredits(Integer credits) {
+            this.credits = credits;
+        }
+    }
+}
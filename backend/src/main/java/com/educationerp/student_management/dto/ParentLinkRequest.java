@@ -0,0 +1,40 @@
+package com.educationerp.student_management.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for linking a child to a parent portal user
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class ParentLinkRequest {
+
+    @NotNull(message = "Student ID is required")
+    private Long studentId;
+
+    @Size(max = 50, message = "Relationship must not exceed 50 characters")
+    private String relationship;
+
+    // Constructors
+    public ParentLinkRequest() {
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getRelationship() {
+        return relationship;
+    }
+
+    public void setRelationship(String relationship) {
+        this.relationship = relationship;
+    }
+}
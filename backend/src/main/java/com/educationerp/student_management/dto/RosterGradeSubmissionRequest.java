@@ -0,0 +1,81 @@
+package com.educationerp.student_management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO for submitting grades of a whole course roster at once
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class RosterGradeSubmissionRequest {
+
+    @NotEmpty(message = "At least one grade is required")
+    @Valid
+    private List<GradeEntry> grades;
+
+    private Boolean complete = false;
+
+    // Constructors
+    public RosterGradeSubmissionRequest() {
+    }
+
+    // Getters and Setters
+    public List<GradeEntry> getGrades() {
+        return grades;
+    }
+
+    public void setGrades(List<GradeEntry> grades) {
+        this.grades = grades;
+    }
+
+    public Boolean getComplete() {
+        return complete;
+    }
+
+    public void setComplete(Boolean complete) {
+        this.complete = complete;
+    }
+
+    /**
+     * Grade of one student on the roster
+     */
+    public static class GradeEntry {
+
+        @NotNull(message = "Student ID is required")
+        private Long studentId;
+
+        @NotNull(message = "Grade is required")
+        @DecimalMin(value = "0.0", message = "Grade must not be negative")
+        private Double grade;
+
+        public GradeEntry() {
+        }
+
+        public GradeEntry(Long studentId, Double grade) {
+            this.studentId = studentId;
+            this.grade = grade;
+        }
+
+        public Long getStudentId() {
+            return studentId;
+        }
+
+        public void setStudentId(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        public Double getGrade() {
+            return grade;
+        }
+
+        public void setGrade(Double grade) {
+            this.grade = grade;
+        }
+    }
+}
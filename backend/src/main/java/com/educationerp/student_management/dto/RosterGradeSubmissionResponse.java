@@ -0,0 +1,90 @@
+package com.educationerp.student_management.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a roster grade submission
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class RosterGradeSubmissionResponse {
+
+    private Long courseId;
+    private Integer submitted;
+    private Integer updated;
+    private Integer unchanged;
+    private Integer affectedStudents;
+    private List<Long> notEnrolledStudentIds;
+    private List<Long> withdrawnStudentIds;
+    private Long elapsedMillis;
+
+    // Constructors
+    public RosterGradeSubmissionResponse() {
+    }
+
+    // Getters and Setters
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(Integer submitted) {
+        this.submitted = submitted;
+    }
+
+    public Integer getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(Integer updated) {
+        this.updated = updated;
+    }
+
+    public Integer getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(Integer unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public Integer getAffectedStudents() {
+        return affectedStudents;
+    }
+
+    public void setAffectedStudents(Integer affectedStudents) {
+        this.affectedStudents = affectedStudents;
+    }
+
+    public List<Long> getNotEnrolledStudentIds() {
+        return notEnrolledStudentIds;
+    }
+
+    public void setNotEnrolledStudentIds(List<Long> notEnrolledStudentIds) {
+        this.notEnrolledStudentIds = notEnrolledStudentIds;
+    }
+
+    public List<Long> getWithdrawnStudentIds() {
+        return withdrawnStudentIds;
+    }
+
+    public void setWithdrawnStudentIds(List<Long> withdrawnStudentIds) {
+        this.withdrawnStudentIds = withdrawnStudentIds;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
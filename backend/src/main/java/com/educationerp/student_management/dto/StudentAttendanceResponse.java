@@ -0,0 +1,126 @@
+package com.educationerp.student_management.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a student's attendance in one course
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class StudentAttendanceResponse {
+
+    private Long enrollmentId;
+    private Long studentId;
+    private Long courseId;
+    private Integer sessionsRecorded;
+    private Integer sessionsAttended;
+    private Integer absences;
+    private Double attendancePercentage;
+    private Integer currentConsecutiveAbsences;
+    private Integer longestConsecutiveAbsences;
+    private Integer lastRecordedSession;
+    private Boolean belowThreshold;
+    private List<Integer> absentSessions;
+
+    // Constructors
+    public StudentAttendanceResponse() {
+    }
+
+    // Getters and Setters
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public void setEnrollmentId(Long enrollmentId) {
+        this.enrollmentId = enrollmentId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public Integer getSessionsRecorded() {
+        return sessionsRecorded;
+    }
+
+    public void setSessionsRecorded(Integer sessionsRecorded) {
+        this.sessionsRecorded = sessionsRecorded;
+    }
+
+    public Integer getSessionsAttended() {
+        return sessionsAttended;
+    }
+
+    public void setSessionsAttended(Integer sessionsAttended) {
+        this.sessionsAttended = sessionsAttended;
+    }
+
+    public Integer getAbsences() {
+        return absences;
+    }
+
+    public void setAbsences(Integer absences) {
+        this.absences = absences;
+    }
+
+    public Double getAttendancePercentage() {
+        return attendancePercentage;
+    }
+
+    public void setAttendancePercentage(Double attendancePercentage) {
+        this.attendancePercentage = attendancePercentage;
+    }
+
+    public Integer getCurrentConsecutiveAbsences() {
+        return currentConsecutiveAbsences;
+    }
+
+    public void setCurrentConsecutiveAbsences(Integer currentConsecutiveAbsences) {
+        this.currentConsecutiveAbsences = currentConsecutiveAbsences;
+    }
+
+    public Integer getLongestConsecutiveAbsences() {
+        return longestConsecutiveAbsences;
+    }
+
+    public void setLongestConsecutiveAbsences(Integer longestConsecutiveAbsences) {
+        this.longestConsecutiveAbsences = longestConsecutiveAbsences;
+    }
+
+    public Integer getLastRecordedSession() {
+        return lastRecordedSession;
+    }
+
+    public void setLastRecordedSession(Integer lastRecordedSession) {
+        this.lastRecordedSession = lastRecordedSession;
+    }
+
+    public Boolean getBelowThreshold() {
+        return belowThreshold;
+    }
+
+    public void setBelowThreshold(Boolean belowThreshold) {
+        this.belowThreshold = belowThreshold;
+    }
+
+    public List<Integer> getAbsentSessions() {
+        return absentSessions;
+    }
+
+    public void setAbsentSessions(List<Integer> absentSessions) {
+        this.absentSessions = absentSessions;
+    }
+}
@@ -0,0 +1,162 @@
+package com.educationerp.student_management.dto;
+
+import com.educationerp.student_management.entity.StudentImportJob;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the status and progress of a bulk student import
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class StudentImportJobResponse {
+
+    private Long id;
+    private Long institutionId;
+    private String fileName;
+    private StudentImportJob.ImportStatus status;
+    private Long fileSize;
+    private Long bytesProcessed;
+    private Double progressPercentage;
+    private Integer processedRows;
+    private Integer importedRows;
+    private Integer rejectedRows;
+    private Boolean errorFileAvailable;
+    private String errorMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startedDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime completedDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdDate;
+
+    // Constructors
+    public StudentImportJobResponse() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public StudentImportJob.ImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(StudentImportJob.ImportStatus status) {
+        this.status = status;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Long getBytesProcessed() {
+        return bytesProcessed;
+    }
+
+    public void setBytesProcessed(Long bytesProcessed) {
+        this.bytesProcessed = bytesProcessed;
+    }
+
+    public Double getProgressPercentage() {
+        return progressPercentage;
+    }
+
+    public void setProgressPercentage(Double progressPercentage) {
+        this.progressPercentage = progressPercentage;
+    }
+
+    public Integer getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(Integer processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public Integer getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(Integer importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public Integer getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(Integer rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public Boolean getErrorFileAvailable() {
+        return errorFileAvailable;
+    }
+
+    public void setErrorFileAvailable(Boolean errorFileAvailable) {
+        this.errorFileAvailable = errorFileAvailable;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedDate() {
+        return startedDate;
+    }
+
+    public void setStartedDate(LocalDateTime startedDate) {
+        this.startedDate = startedDate;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,550 @@
+package com.educationerp.student_management.dto;
+
+import com.educationerp.inventory.entity.StudentProductDistribution;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.student_management.entity.Enrollment;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the combined student detail page, assembled from independently loaded sections
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class StudentOverviewResponse {
+
+    private Long studentId;
+    private StudentResponse student;
+    private List<EnrollmentSummary> enrollments;
+    private List<PaymentSummary> payments;
+    private List<InstallmentPlanSummary> installmentPlans;
+    private List<ProductDistributionSummary> productDistributions;
+    private BigDecimal balance;
+    private Long unreadNotifications;
+    private Boolean partial;
+    private List<SectionStatus> sections;
+    private Long elapsedMillis;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public StudentOverviewResponse() {
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public StudentResponse getStudent() {
+        return student;
+    }
+
+    public void setStudent(StudentResponse student) {
+        this.student = student;
+    }
+
+    public List<EnrollmentSummary> getEnrollments() {
+        return enrollments;
+    }
+
+    public void setEnrollments(List<EnrollmentSummary> enrollments) {
+        this.enrollments = enrollments;
+    }
+
+    public List<PaymentSummary> getPayments() {
+        return payments;
+    }
+
+    public void setPayments(List<PaymentSummary> payments) {
+        this.payments = payments;
+    }
+
+    public List<InstallmentPlanSummary> getInstallmentPlans() {
+        return installmentPlans;
+    }
+
+    public void setInstallmentPlans(List<InstallmentPlanSummary> installmentPlans) {
+        this.installmentPlans = installmentPlans;
+    }
+
+    public List<ProductDistributionSummary> getProductDistributions() {
+        return productDistributions;
+    }
+
+    public void setProductDistributions(List<ProductDistributionSummary> productDistributions) {
+        this.productDistributions = productDistributions;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public Long getUnreadNotifications() {
+        return unreadNotifications;
+    }
+
+    public void setUnreadNotifications(Long unreadNotifications) {
+        this.unreadNotifications = unreadNotifications;
+    }
+
+    public Boolean getPartial() {
+        return partial;
+    }
+
+    public void setPartial(Boolean partial) {
+        this.partial = partial;
+    }
+
+    public List<SectionStatus> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<SectionStatus> sections) {
+        this.sections = sections;
+    }
+
+    public Long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(Long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    /**
+     * Outcome and latency of one section of the overview
+     */
+    public static class SectionStatus {
+
+        private Section section;
+        private Status status;
+        private Long latencyMillis;
+        private String error;
+
+        public SectionStatus() {
+        }
+
+        public Section getSection() {
+            return section;
+        }
+
+        public void setSection(Section section) {
+            this.section = section;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Long getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        public void setLatencyMillis(Long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Enrollment of the student in a course
+     */
+    public static class EnrollmentSummary {
+
+        private Long id;
+        private Long courseId;
+        private Enrollment.EnrollmentStatus status;
+        private Double grade;
+        private Integer credits;
+        private Boolean isPaid;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate enrollmentDate;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate completionDate;
+
+        public EnrollmentSummary() {
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        public void setCourseId(Long courseId) {
+            this.courseId = courseId;
+        }
+
+        public Enrollment.EnrollmentStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(Enrollment.EnrollmentStatus status) {
+            this.status = status;
+        }
+
+        public Double getGrade() {
+            return grade;
+        }
+
+        public void setGrade(Double grade) {
+            this.grade = grade;
+        }
+
+        public Integer getCredits() {
+            return credits;
+        }
+
+        public void setCredits(Integer credits) {
+            this.credits = credits;
+        }
+
+        public Boolean getIsPaid() {
+            return isPaid;
+        }
+
+        public void setIsPaid(Boolean isPaid) {
+            this.isPaid = isPaid;
+        }
+
+        public LocalDate getEnrollmentDate() {
+            return enrollmentDate;
+        }
+
+        public void setEnrollmentDate(LocalDate enrollmentDate) {
+            this.enrollmentDate = enrollmentDate;
+        }
+
+        public LocalDate getCompletionDate() {
+            return completionDate;
+        }
+
+        public void setCompletionDate(LocalDate completionDate) {
+            this.completionDate = completionDate;
+        }
+    }
+
+    /**
+     * Payment made or owed by the student
+     */
+    public static class PaymentSummary {
+
+        private Long id;
+        private String paymentReference;
+        private Payment.PaymentType paymentType;
+        private Payment.PaymentStatus status;
+        private BigDecimal finalAmount;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate dueDate;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate paymentDate;
+        private Long installmentPlanId;
+
+        public PaymentSummary() {
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getPaymentReference() {
+            return paymentReference;
+        }
+
+        public void setPaymentReference(String paymentReference) {
+            this.paymentReference = paymentReference;
+        }
+
+        public Payment.PaymentType getPaymentType() {
+            return paymentType;
+        }
+
+        public void setPaymentType(Payment.PaymentType paymentType) {
+            this.paymentType = paymentType;
+        }
+
+        public Payment.PaymentStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(Payment.PaymentStatus status) {
+            this.status = status;
+        }
+
+        public BigDecimal getFinalAmount() {
+            return finalAmount;
+        }
+
+        public void setFinalAmount(BigDecimal finalAmount) {
+            this.finalAmount = finalAmount;
+        }
+
+        public LocalDate getDueDate() {
+            return dueDate;
+        }
+
+        public void setDueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+        }
+
+        public LocalDate getPaymentDate() {
+            return paymentDate;
+        }
+
+        public void setPaymentDate(LocalDate paymentDate) {
+            this.paymentDate = paymentDate;
+        }
+
+        public Long getInstallmentPlanId() {
+            return installmentPlanId;
+        }
+
+        public void setInstallmentPlanId(Long installmentPlanId) {
+            this.installmentPlanId = installmentPlanId;
+        }
+    }
+
+    /**
+     * Installment plan of the student
+     */
+    public static class InstallmentPlanSummary {
+
+        private Long id;
+        private String planCode;
+        private String planName;
+        private InstallmentPlan.InstallmentStatus status;
+        private BigDecimal totalAmount;
+        private BigDecimal installmentAmount;
+        private Integer paidInstallments;
+        private Integer remainingInstallments;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate endDate;
+
+        public InstallmentPlanSummary() {
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getPlanCode() {
+            return planCode;
+        }
+
+        public void setPlanCode(String planCode) {
+            this.planCode = planCode;
+        }
+
+        public String getPlanName() {
+            return planName;
+        }
+
+        public void setPlanName(String planName) {
+            this.planName = planName;
+        }
+
+        public InstallmentPlan.InstallmentStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(InstallmentPlan.InstallmentStatus status) {
+            this.status = status;
+        }
+
+        public BigDecimal getTotalAmount() {
+            return totalAmount;
+        }
+
+        public void setTotalAmount(BigDecimal totalAmount) {
+            this.totalAmount = totalAmount;
+        }
+
+        public BigDecimal getInstallmentAmount() {
+            return installmentAmount;
+        }
+
+        public void setInstallmentAmount(BigDecimal installmentAmount) {
+            this.installmentAmount = installmentAmount;
+        }
+
+        public Integer getPaidInstallments() {
+            return paidInstallments;
+        }
+
+        public void setPaidInstallments(Integer paidInstallments) {
+            this.paidInstallments = paidInstallments;
+        }
+
+        public Integer getRemainingInstallments() {
+            return remainingInstallments;
+        }
+
+        public void setRemainingInstallments(Integer remainingInstallments) {
+            this.remainingInstallments = remainingInstallments;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public void setEndDate(LocalDate endDate) {
+            this.endDate = endDate;
+        }
+    }
+
+    /**
+     * Product handed out to the student
+     */
+    public static class ProductDistributionSummary {
+
+        private Long id;
+        private Long productId;
+        private Long packageId;
+        private StudentProductDistribution.DistributionType distributionType;
+        private StudentProductDistribution.DistributionStatus status;
+        private Integer quantity;
+        private BigDecimal finalPrice;
+        private Boolean isPaid;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate distributionDate;
+
+        public ProductDistributionSummary() {
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public void setProductId(Long productId) {
+            this.productId = productId;
+        }
+
+        public Long getPackageId() {
+            return packageId;
+        }
+
+        public void setPackageId(Long packageId) {
+            this.packageId = packageId;
+        }
+
+        public StudentProductDistribution.DistributionType getDistributionType() {
+            return distributionType;
+        }
+
+        public void setDistributionType(StudentProductDistribution.DistributionType distributionType) {
+            this.distributionType = distributionType;
+        }
+
+        public StudentProductDistribution.DistributionStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(StudentProductDistribution.DistributionStatus status) {
+            this.status = status;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public BigDecimal getFinalPrice() {
+            return finalPrice;
+        }
+
+        public void setFinalPrice(BigDecimal finalPrice) {
+            this.finalPrice = finalPrice;
+        }
+
+        public Boolean getIsPaid() {
+            return isPaid;
+        }
+
+        public void setIsPaid(Boolean isPaid) {
+            this.isPaid = isPaid;
+        }
+
+        public LocalDate getDistributionDate() {
+            return distributionDate;
+        }
+
+        public void setDistributionDate(LocalDate distributionDate) {
+            this.distributionDate = distributionDate;
+        }
+    }
+
+    // Enums
+    public enum Section {
+        STUDENT, ENROLLMENTS, PAYMENTS, INSTALLMENT_PLANS, PRODUCT_DISTRIBUTIONS, BALANCE, NOTIFICATIONS
+    }
+
+    public enum Status {
+        OK, TIMED_OUT, FAILED
+    }
+}
@@ -0,0 +1,197 @@
+package com.educationerp.student_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Duplicate Student Match entity for the Education ERP System
+ * Represents a pair of students of one institution that probably describe the same person;
+ * the pair is stored with the lower student ID first
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "duplicate_student_matches",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"student_id", "matched_student_id"})
+       })
+public class DuplicateStudentMatch extends BaseEntity {
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @NotNull(message = "Student ID is required")
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @NotNull(message = "Matched student ID is required")
+    @Column(name = "matched_student_id", nullable = false)
+    private Long matchedStudentId;
+
+    @NotNull(message = "Score is required")
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "name_similarity")
+    private Double nameSimilarity;
+
+    @Column(name = "date_of_birth_similarity")
+    private Double dateOfBirthSimilarity;
+
+    @Column(name = "phone_match")
+    private Boolean phoneMatch;
+
+    @Column(name = "address_similarity")
+    private Double addressSimilarity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private MatchStatus status = MatchStatus.OPEN;
+
+    @Column(name = "detected_date", nullable = false)
+    private LocalDateTime detectedDate;
+
+    @Column(name = "reviewed_date")
+    private LocalDateTime reviewedDate;
+
+    @Column(name = "reviewed_by", length = 100)
+    private String reviewedBy;
+
+    // Constructors
+    public DuplicateStudentMatch() {
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getMatchedStudentId() {
+        return matchedStudentId;
+    }
+
+    public void setMatchedStudentId(Long matchedStudentId) {
+        this.matchedStudentId = matchedStudentId;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public Double getNameSimilarity() {
+        return nameSimilarity;
+    }
+
+    public void setNameSimilarity(Double nameSimilarity) {
+        this.nameSimilarity = nameSimilarity;
+    }
+
+    public Double getDateOfBirthSimilarity() {
+        return dateOfBirthSimilarity;
+    }
+
+    public void setDateOfBirthSimilarity(Double dateOfBirthSimilarity) {
+        this.dateOfBirthSimilarity = dateOfBirthSimilarity;
+    }
+
+    public Boolean getPhoneMatch() {
+        return phoneMatch;
+    }
+
+    public void setPhoneMatch(Boolean phoneMatch) {
+        this.phoneMatch = phoneMatch;
+    }
+
+    public Double getAddressSimilarity() {
+        return addressSimilarity;
+    }
+
+    public void setAddressSimilarity(Double addressSimilarity) {
+        this.addressSimilarity = addressSimilarity;
+    }
+
+    public MatchStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MatchStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDetectedDate() {
+        return detectedDate;
+    }
+
+    public void setDetectedDate(LocalDateTime detectedDate) {
+        this.detectedDate = detectedDate;
+    }
+
+    public LocalDateTime getReviewedDate() {
+        return reviewedDate;
+    }
+
+    public void setReviewedDate(LocalDateTime reviewedDate) {
+        this.reviewedDate = reviewedDate;
+    }
+
+    public String getReviewedBy() {
+        return reviewedBy;
+    }
+
+    public void setReviewedBy(String reviewedBy) {
+        this.reviewedBy = reviewedBy;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        DuplicateStudentMatch that = (DuplicateStudentMatch) o;
+        return Objects.equals(studentId, that.studentId) &&
+                Objects.equals(matchedStudentId, that.matchedStudentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), studentId, matchedStudentId);
+    }
+
+    @Override
+    public String toString() {
+        return "DuplicateStudentMatch{" +
+                "id=" + getId() +
+                ", studentId=" + studentId +
+                ", matchedStudentId=" + matchedStudentId +
+                ", score=" + score +
+                ", status=" + status +
+                '}';
+    }
+
+    // Enums
+    public enum MatchStatus {
+        OPEN, CONFIRMED, DISMISSED
+    }
+}
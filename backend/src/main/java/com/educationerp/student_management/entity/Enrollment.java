@@ -1,6 +1,7 @@
 package com.educationerp.student_management.entity;
 
 import com.educationerp.core.entity.BaseEntity;
+import com.educationerp.student_management.event.EnrollmentEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
@@ -15,6 +16,7 @@ import java.util.Objects;
  * @version 1.0.0
  */
 @Entity
+@EntityListeners(EnrollmentEntityListener.class)
 @Table(name = "enrollments", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"student_id", "course_id"})
@@ -55,6 +57,13 @@ public class Enrollment extends BaseEntity {
     @Column(name = "notes", length = 1000)
     private String notes;
 
+    // Attendance bitmaps are written only by AttendanceService in JDBC batches
+    @Column(name = "attended_sessions", length = 65536, insertable = false, updatable = false)
+    private byte[] attendedSessions;
+
+    @Column(name = "recorded_sessions", length = 65536, insertable = false, updatable = false)
+    private byte[] recordedSessions;
+
     // Constructors
     public Enrollment() {
     }
@@ -150,6 +159,22 @@ public class Enrollment extends BaseEntity {
         this.notes = notes;
     }
 
+    public byte[] getAttendedSessions() {
+        return attendedSessions;
+    }
+
+    public void setAttendedSessions(byte[] attendedSessions) {
+        this.attendedSessions = attendedSessions;
+    }
+
+    public byte[] getRecordedSessions() {
+        return recordedSessions;
+    }
+
+    public void setRecordedSessions(byte[] recordedSessions) {
+        this.recordedSessions = recordedSessions;
+    }
+
     // Business methods
     public boolean isCompleted() {
         return status == EnrollmentStatus.COMPLETED && completionDate != null;
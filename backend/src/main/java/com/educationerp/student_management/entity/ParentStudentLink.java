@@ -0,0 +1,95 @@
+package com.educationerp.student_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Objects;
+
+/**
+ * Parent Student Link entity for the Education ERP System
+ * Links a user with the PARENT role to one of their children
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "parent_student_links",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"parent_user_id", "student_id"})
+       })
+public class ParentStudentLink extends BaseEntity {
+    @NotNull(message = "Parent user ID is required")
+    @Column(name = "parent_user_id", nullable = false)
+    private Long parentUserId;
+
+    @NotNull(message = "Student ID is required")
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Size(max = 50, message = "Relationship must not exceed 50 characters")
+    @Column(name = "relationship", length = 50)
+    private String relationship;
+
+    // Constructors
+    public ParentStudentLink() {
+    }
+
+    public ParentStudentLink(Long parentUserId, Long studentId, String relationship) {
+        this.parentUserId = parentUserId;
+        this.studentId = studentId;
+        this.relationship = relationship;
+    }
+
+    // Getters and Setters
+    public Long getParentUserId() {
+        return parentUserId;
+    }
+
+    public void setParentUserId(Long parentUserId) {
+        this.parentUserId = parentUserId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getRelationship() {
+        return relationship;
+    }
+
+    public void setRelationship(String relationship) {
+        this.relationship = relationship;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        ParentStudentLink that = (ParentStudentLink) o;
+        return Objects.equals(parentUserId, that.parentUserId) &&
+                Objects.equals(studentId, that.studentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), parentUserId, studentId);
+    }
+
+    @Override
+    public String toString() {
+        return "ParentStudentLink{" +
+                "id=" + getId() +
+                ", parentUserId=" + parentUserId +
+                ", studentId=" + studentId +
+                ", relationship='" + relationship + '\'' +
+                '}';
+    }
+}
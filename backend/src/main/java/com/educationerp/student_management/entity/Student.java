@@ -1,6 +1,7 @@
 package com.educationerp.student_management.entity;
 
 import com.educationerp.core.entity.BaseEntity;
+import com.educationerp.student_management.event.StudentEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -18,6 +19,7 @@ import java.util.Objects;
  * @version 1.0.0
  */
 @Entity
+@EntityListeners(StudentEntityListener.class)
 @Table(name = "students", 
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"institution_id", "student_number"}),
@@ -112,6 +114,13 @@ public class Student extends BaseEntity {
     @Column(name = "gpa")
     private Double gpa;
 
+    // GPA running sums are written only by GradebookService in JDBC updates
+    @Column(name = "gpa_weighted_sum", insertable = false, updatable = false)
+    private Double gpaWeightedSum;
+
+    @Column(name = "gpa_credits", insertable = false, updatable = false)
+    private Integer gpaCredits;
+
     @Size(max = 500, message = "Profile picture URL must not exceed 500 characters")
     @Column(name = "profile_picture_url", length = 500)
     private String profilePictureUrl;
@@ -332,6 +341,22 @@ public class Student extends BaseEntity {
         this.gpa = gpa;
     }
 
+    public Double getGpaWeightedSum() {
+        return gpaWeightedSum;
+    }
+
+    public void setGpaWeightedSum(Double gpaWeightedSum) {
+        this.gpaWeightedSum = gpaWeightedSum;
+    }
+
+    public Integer getGpaCredits() {
+        return gpaCredits;
+    }
+
+    public void setGpaCredits(Integer gpaCredits) {
+        this.gpaCredits = gpaCredits;
+    }
+
     public String getProfilePictureUrl() {
         return profilePictureUrl;
     }
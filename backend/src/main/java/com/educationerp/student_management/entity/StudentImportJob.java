@@ -0,0 +1,226 @@
+package com.educationerp.student_management.entity;
+
+import com.educationerp.core.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Student Import Job entity for the Education ERP System
+ * Tracks a bulk CSV student import; processed rows are committed together with the imported
+ * students so an interrupted job resumes from the first uncommitted row
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "student_import_jobs")
+public class StudentImportJob extends BaseEntity {
+    @NotNull(message = "Institution ID is required")
+    @Column(name = "institution_id", nullable = false)
+    private Long institutionId;
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @NotNull(message = "Source path is required")
+    @Column(name = "source_path", nullable = false, length = 500)
+    private String sourcePath;
+
+    @Column(name = "error_path", length = 500)
+    private String errorPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ImportStatus status = ImportStatus.QUEUED;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "bytes_processed", nullable = false)
+    private Long bytesProcessed = 0L;
+
+    @Column(name = "processed_rows", nullable = false)
+    private Integer processedRows = 0;
+
+    @Column(name = "imported_rows", nullable = false)
+    private Integer importedRows = 0;
+
+    @Column(name = "rejected_rows", nullable = false)
+    private Integer rejectedRows = 0;
+
+    @Column(name = "error_file_size", nullable = false)
+    private Long errorFileSize = 0L;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_date")
+    private LocalDateTime startedDate;
+
+    @Column(name = "completed_date")
+    private LocalDateTime completedDate;
+
+    // Constructors
+    public StudentImportJob() {
+    }
+
+    public StudentImportJob(Long institutionId, String fileName, String sourcePath) {
+        this.institutionId = institutionId;
+        this.fileName = fileName;
+        this.sourcePath = sourcePath;
+    }
+
+    // Getters and Setters
+    public Long getInstitutionId() {
+        return institutionId;
+    }
+
+    public void setInstitutionId(Long institutionId) {
+        this.institutionId = institutionId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getSourcePath() {
+        return sourcePath;
+    }
+
+    public void setSourcePath(String sourcePath) {
+        this.sourcePath = sourcePath;
+    }
+
+    public String getErrorPath() {
+        return errorPath;
+    }
+
+    public void setErrorPath(String errorPath) {
+        this.errorPath = errorPath;
+    }
+
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportStatus status) {
+        this.status = status;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Long getBytesProcessed() {
+        return bytesProcessed;
+    }
+
+    public void setBytesProcessed(Long bytesProcessed) {
+        this.bytesProcessed = bytesProcessed;
+    }
+
+    public Integer getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(Integer processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public Integer getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(Integer importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public Integer getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(Integer rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public Long getErrorFileSize() {
+        return errorFileSize;
+    }
+
+    public void setErrorFileSize(Long errorFileSize) {
+        this.errorFileSize = errorFileSize;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getStartedDate() {
+        return startedDate;
+    }
+
+    public void setStartedDate(LocalDateTime startedDate) {
+        this.startedDate = startedDate;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    // Business methods
+    public boolean isFinished() {
+        return status == ImportStatus.COMPLETED || status == ImportStatus.CANCELLED;
+    }
+
+    // equals, hashCode, and toString
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        StudentImportJob that = (StudentImportJob) o;
+        return Objects.equals(sourcePath, that.sourcePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), sourcePath);
+    }
+
+    @Override
+    public String toString() {
+        return "StudentImportJob{" +
+                "id=" + getId() +
+                ", institutionId=" + institutionId +
+                ", fileName='" + fileName + '\'' +
+                ", status=" + status +
+                ", processedRows=" + processedRows +
+                ", importedRows=" + importedRows +
+                ", rejectedRows=" + rejectedRows +
+                '}';
+    }
+
+    // Enums
+    public enum ImportStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+}
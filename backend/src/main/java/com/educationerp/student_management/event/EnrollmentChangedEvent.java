@@ -0,0 +1,35 @@
+package com.educationerp.student_management.event;
+
+/**
+ * Application event published when an enrollment is created, updated or removed
+ * Listeners use it to invalidate per-student derived data
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class EnrollmentChangedEvent {
+
+    private final Long studentId;
+    private final Long courseId;
+
+    public EnrollmentChangedEvent(Long studentId, Long courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    @Override
+    public String toString() {
+        return "EnrollmentChangedEvent{" +
+                "studentId=" + studentId +
+                ", courseId=" + courseId +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package com.educationerp.student_management.event;
+
+import com.educationerp.student_management.entity.Enrollment;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes {@link EnrollmentChangedEvent} for every enrollment write
+ * Bulk JPQL updates bypass entity callbacks and must publish the event themselves
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+public class EnrollmentEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onEnrollmentChanged(Enrollment enrollment) {
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(enrollment.getStudentId(), enrollment.getCourseId()));
+    }
+}
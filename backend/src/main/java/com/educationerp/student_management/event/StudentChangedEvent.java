@@ -0,0 +1,51 @@
+package com.educationerp.student_management.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Application event published when students are created, updated or removed
+ * Listeners reload the affected students to refresh derived in-memory data
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public class StudentChangedEvent {
+
+    private final Collection<Long> studentIds;
+    private final boolean created;
+
+    public StudentChangedEvent(Long studentId) {
+        this(studentId, false);
+    }
+
+    public StudentChangedEvent(Long studentId, boolean created) {
+        this.studentIds = List.of(studentId);
+        this.created = created;
+    }
+
+    public StudentChangedEvent(Collection<Long> studentIds) {
+        this(studentIds, false);
+    }
+
+    public StudentChangedEvent(Collection<Long> studentIds, boolean created) {
+        this.studentIds = List.copyOf(studentIds);
+        this.created = created;
+    }
+
+    public Collection<Long> getStudentIds() {
+        return studentIds;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentChangedEvent{" +
+                "studentIds=" + studentIds +
+                ", created=" + created +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package com.educationerp.student_management.event;
+
+import com.educationerp.student_management.entity.Student;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that publishes {@link StudentChangedEvent} for every student write
+ * Bulk JDBC updates bypass entity callbacks and must publish the event themselves
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Component
+public class StudentEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onStudentCreated(Student student) {
+        eventPublisher.publishEvent(new StudentChangedEvent(student.getId(), true));
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onStudentChanged(Student student) {
+        eventPublisher.publishEvent(new StudentChangedEvent(student.getId()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.educationerp.student_management.repository;
+
+import com.educationerp.student_management.entity.DuplicateStudentMatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for DuplicateStudentMatch entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface DuplicateStudentMatchRepository extends JpaRepository<DuplicateStudentMatch, Long> {
+
+    /**
+     * Find matches of an institution in a review status
+     */
+    Page<DuplicateStudentMatch> findByInstitutionIdAndStatus(Long institutionId, DuplicateStudentMatch.MatchStatus status, Pageable pageable);
+
+    /**
+     * Find matches of an institution in any review status
+     */
+    Page<DuplicateStudentMatch> findByInstitutionId(Long institutionId, Pageable pageable);
+
+    /**
+     * Find matches involving a student
+     */
+    @Query("SELECT m FROM DuplicateStudentMatch m " +
+           "WHERE m.studentId = :studentId OR m.matchedStudentId = :studentId ORDER BY m.score DESC")
+    List<DuplicateStudentMatch> findByStudent(@Param("studentId") Long studentId);
+
+    /**
+     * Find all recorded pairs of an institution, whatever their review status
+     * Returns rows of [studentId, matchedStudentId]
+     */
+    @Query("SELECT m.studentId, m.matchedStudentId FROM DuplicateStudentMatch m WHERE m.institutionId = :institutionId")
+    List<Object[]> findPairsByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * Find recorded pairs involving any of the given students
+     * Returns rows of [studentId, matchedStudentId]
+     */
+    @Query("SELECT m.studentId, m.matchedStudentId FROM DuplicateStudentMatch m " +
+           "WHERE m.studentId IN :studentIds OR m.matchedStudentId IN :studentIds")
+    List<Object[]> findPairsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+}
@@ -0,0 +1,152 @@
+package com.educationerp.student_management.repository;
+
+import com.educationerp.student_management.entity.Enrollment;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for Enrollment entity
+ * Provides data access methods for student course enrollments
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    /**
+     * Find enrollment by student and course
+     */
+    Optional<Enrollment> findByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    /**
+     * Find enrollments by student ID
+     */
+    List<Enrollment> findByStudentIdAndIsActiveTrue(Long studentId);
+
+    /**
+     * Find enrollments by course ID
+     */
+    List<Enrollment> findByCourseIdAndIsActiveTrue(Long courseId);
+
+    /**
+     * Find student-course pairs with the given status for the given courses
+     * Returns rows of [studentId, courseId] without loading enrollment entities
+     */
+    @Query("SELECT e.studentId, e.courseId FROM Enrollment e WHERE e.courseId IN :courseIds " +
+           "AND e.status = :status AND e.isActive = true")
+    List<Object[]> findStudentCoursePairs(@Param("courseIds") Collection<Long> courseIds,
+                                          @Param("status") Enrollment.EnrollmentStatus status);
+
+    /**
+     * Count enrollments by course ID
+     */
+    long countByCourseIdAndIsActiveTrue(Long courseId);
+
+    /**
+     * Stream credit rows of enrollments for an institution's students in an ID range
+     * Returns rows of [studentId, status, credits (course credits when not set), grade]
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT e.studentId, e.status, COALESCE(e.credits, c.credits), e.grade FROM Enrollment e " +
+           "JOIN Student s ON s.id = e.studentId LEFT JOIN Course c ON c.id = e.courseId " +
+           "WHERE s.institutionId = :institutionId AND e.studentId BETWEEN :fromId AND :toId AND e.isActive = true")
+    Stream<Object[]> streamCreditRowsByStudentIdRange(@Param("institutionId") Long institutionId,
+                                                      @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Find credit rows of enrollments for the given students
+     * Returns rows of [studentId, status, credits (course credits when not set), grade]
+     */
+    @Query("SELECT e.studentId, e.status, COALESCE(e.credits, c.credits), e.grade FROM Enrollment e " +
+           "LEFT JOIN Course c ON c.id = e.courseId " +
+           "WHERE e.studentId IN :studentIds AND e.isActive = true")
+    List<Object[]> findCreditRowsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find grade rows of a course's enrollments for the given students
+     * Returns rows of [id, studentId, status, grade, credits (course credits when not set)]
+     */
+    @Query("SELECT e.id, e.studentId, e.status, e.grade, COALESCE(e.credits, c.credits) FROM Enrollment e " +
+           "LEFT JOIN Course c ON c.id = e.courseId " +
+           "WHERE e.courseId = :courseId AND e.studentId IN :studentIds AND e.isActive = true")
+    List<Object[]> findGradeRowsByCourseIdAndStudentIds(@Param("courseId") Long courseId,
+                                                        @Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Sum credit-weighted grades of graded enrollments for students in an ID range
+     * Returns rows of [studentId, sum(credits * grade), sum(credits)]
+     */
+    @Query("SELECT e.studentId, SUM(COALESCE(e.credits, c.credits) * e.grade), SUM(COALESCE(e.credits, c.credits)) " +
+           "FROM Enrollment e LEFT JOIN Course c ON c.id = e.courseId " +
+           "WHERE e.studentId BETWEEN :fromId AND :toId AND e.grade IS NOT NULL AND e.status <> :excludedStatus " +
+           "AND COALESCE(e.credits, c.credits) > 0 AND e.isActive = true GROUP BY e.studentId")
+    List<Object[]> sumWeightedGradesByStudentIdRange(@Param("fromId") Long fromId,
+                                                     @Param("toId") Long toId,
+                                                     @Param("excludedStatus") Enrollment.EnrollmentStatus excludedStatus);
+
+    /**
+     * Sum credit-weighted grades of graded enrollments for the given students
+     * Returns rows of [studentId, sum(credits * grade), sum(credits)]
+     */
+    @Query("SELECT e.studentId, SUM(COALESCE(e.credits, c.credits) * e.grade), SUM(COALESCE(e.credits, c.credits)) " +
+           "FROM Enrollment e LEFT JOIN Course c ON c.id = e.courseId " +
+           "WHERE e.studentId IN :studentIds AND e.grade IS NOT NULL AND e.status <> :excludedStatus " +
+           "AND COALESCE(e.credits, c.credits) > 0 AND e.isActive = true GROUP BY e.studentId")
+    List<Object[]> sumWeightedGradesByStudentIds(@Param("studentIds") Collection<Long> studentIds,
+                                                 @Param("excludedStatus") Enrollment.EnrollmentStatus excludedStatus);
+
+    /**
+     * Find attendance rows of a course's enrollments
+     * Returns rows of [id, studentId, status, attendedSessions, recordedSessions]
+     */
+    @Query("SELECT e.id, e.studentId, e.status, e.attendedSessions, e.recordedSessions FROM Enrollment e " +
+           "WHERE e.courseId = :courseId AND e.isActive = true ORDER BY e.studentId")
+    List<Object[]> findAttendanceRowsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Find the attendance row of a student's enrollment in a course
+     * Returns rows of [id, studentId, status, attendedSessions, recordedSessions]
+     */
+    @Query("SELECT e.id, e.studentId, e.status, e.attendedSessions, e.recordedSessions FROM Enrollment e " +
+           "WHERE e.courseId = :courseId AND e.studentId = :studentId AND e.isActive = true")
+    List<Object[]> findAttendanceRowsByCourseIdAndStudentId(@Param("courseId") Long courseId,
+                                                            @Param("studentId") Long studentId);
+
+    /**
+     * Find roster rows of a course's enrollments
+     * Returns rows of [studentId, studentNumber, firstName, middleName, lastName, profilePictureUrl, status]
+     */
+    @Query("SELECT e.studentId, s.studentNumber, s.firstName, s.middleName, s.lastName, s.profilePictureUrl, e.status " +
+           "FROM Enrollment e JOIN Student s ON s.id = e.studentId " +
+           "WHERE e.courseId = :courseId AND e.isActive = true AND s.isActive = true")
+    List<Object[]> findRosterRowsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Find roster rows of the given students' enrollments in a course
+     * Returns rows of [studentId, studentNumber, firstName, middleName, lastName, profilePictureUrl, status]
+     */
+    @Query("SELECT e.studentId, s.studentNumber, s.firstName, s.middleName, s.lastName, s.profilePictureUrl, e.status " +
+           "FROM Enrollment e JOIN Student s ON s.id = e.studentId " +
+           "WHERE e.courseId = :courseId AND e.studentId IN :studentIds AND e.isActive = true AND s.isActive = true")
+    List<Object[]> findRosterRowsByCourseIdAndStudentIds(@Param("courseId") Long courseId,
+                                                         @Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find enrollment summaries of the given students with their course codes and names
+     * Returns rows of [studentId, courseId, courseCode, courseName, status, grade, credits]
+     */
+    @Query("SELECT e.studentId, e.courseId, c.courseCode, c.courseName, e.status, e.grade, COALESCE(e.credits, c.credits) " +
+           "FROM Enrollment e JOIN Course c ON c.id = e.courseId " +
+           "WHERE e.studentId IN :studentIds AND e.isActive = true ORDER BY e.studentId, c.courseCode")
+    List<Object[]> findEnrollmentSummaryRowsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+}
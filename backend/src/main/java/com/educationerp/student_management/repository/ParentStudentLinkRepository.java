@@ -0,0 +1,44 @@
+package com.educationerp.student_management.repository;
+
+import com.educationerp.student_management.entity.ParentStudentLink;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for ParentStudentLink entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ParentStudentLinkRepository extends JpaRepository<ParentStudentLink, Long> {
+
+    /**
+     * Find the link between a parent and a student, active or not
+     */
+    Optional<ParentStudentLink> findByParentUserIdAndStudentId(Long parentUserId, Long studentId);
+
+    /**
+     * Find active links of a parent
+     */
+    List<ParentStudentLink> findByParentUserIdAndIsActiveTrue(Long parentUserId);
+
+    /**
+     * Find active links of a student
+     */
+    List<ParentStudentLink> findByStudentIdAndIsActiveTrue(Long studentId);
+
+    /**
+     * Find the active children of a parent with their student details
+     * Returns rows of [studentId, relationship, studentNumber, firstName, middleName, lastName, gradeLevel, profilePictureUrl, enrollmentStatus]
+     */
+    @Query("SELECT l.studentId, l.relationship, s.studentNumber, s.firstName, s.middleName, s.lastName, s.gradeLevel, " +
+           "s.profilePictureUrl, s.enrollmentStatus FROM ParentStudentLink l JOIN Student s ON s.id = l.studentId " +
+           "WHERE l.parentUserId = :parentUserId AND l.isActive = true AND s.isActive = true ORDER BY s.firstName, s.id")
+    List<Object[]> findChildRowsByParentUserId(@Param("parentUserId") Long parentUserId);
+}
@@ -0,0 +1,35 @@
+package com.educationerp.student_management.repository;
+
+import com.educationerp.student_management.entity.StudentImportJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for StudentImportJob entity
+ * 
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Repository
+public interface StudentImportJobRepository extends JpaRepository<StudentImportJob, Long> {
+
+    /**
+     * Find import jobs of an institution
+     */
+    Page<StudentImportJob> findByInstitutionId(Long institutionId, Pageable pageable);
+
+    /**
+     * Find import jobs in the given statuses
+     */
+    List<StudentImportJob> findByStatusIn(Collection<StudentImportJob.ImportStatus> statuses);
+
+    /**
+     * Check if an institution has an import job in the given statuses
+     */
+    boolean existsByInstitutionIdAndStatusIn(Long institutionId, Collection<StudentImportJob.ImportStatus> statuses);
+}
@@ -1,16 +1,20 @@
 package com.educationerp.student_management.repository;
 
 import com.educationerp.student_management.entity.Student;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Student entity
@@ -245,4 +249,149 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     @Query("SELECT COUNT(s) FROM Student s WHERE LOWER(s.country) = LOWER(:country) AND s.isActive = true")
     long countByCountryIgnoreCase(@Param("country") String country);
+
+    /**
+     * Find active student IDs of an institution in ascending order
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.institutionId = :institutionId AND s.isActive = true ORDER BY s.id")
+    List<Long> findActiveIdsByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * Find degree audit rows of institution students in an ID range
+     * Returns rows of [id, studentNumber, firstName, lastName, program, enrollmentDate]
+     */
+    @Query("SELECT s.id, s.studentNumber, s.firstName, s.lastName, s.program, s.enrollmentDate FROM Student s " +
+           "WHERE s.institutionId = :institutionId AND s.id BETWEEN :fromId AND :toId AND s.isActive = true ORDER BY s.id")
+    List<Object[]> findAuditRowsByIdRange(@Param("institutionId") Long institutionId,
+                                          @Param("fromId") Long fromId,
+                                          @Param("toId") Long toId);
+
+    /**
+     * Find degree audit rows of the given institution students
+     * Returns rows of [id, studentNumber, firstName, lastName, program, enrollmentDate]
+     */
+    @Query("SELECT s.id, s.studentNumber, s.firstName, s.lastName, s.program, s.enrollmentDate FROM Student s " +
+           "WHERE s.institutionId = :institutionId AND s.id IN :studentIds AND s.isActive = true ORDER BY s.id")
+    List<Object[]> findAuditRowsByIds(@Param("institutionId") Long institutionId,
+                                      @Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find the institutions of the given students
+     * Returns rows of [id, institutionId]
+     */
+    @Query("SELECT s.id, s.institutionId FROM Student s WHERE s.id IN :studentIds")
+    List<Object[]> findInstitutionRowsByIds(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find all active student IDs in ascending order
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.isActive = true ORDER BY s.id")
+    List<Long> findActiveIds();
+
+    /**
+     * Find IDs of the given students whose GPA running sums were never computed
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :studentIds AND s.gpaCredits IS NULL")
+    List<Long> findIdsWithoutGpaSums(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find GPA running sums of students in an ID range
+     * Returns rows of [id, gpaWeightedSum, gpaCredits]
+     */
+    @Query("SELECT s.id, s.gpaWeightedSum, s.gpaCredits FROM Student s " +
+           "WHERE s.id BETWEEN :fromId AND :toId AND s.isActive = true")
+    List<Object[]> findGpaSumsByIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Stream ranking rows of all active students with a GPA
+     * Returns rows of [id, institutionId, program, gradeLevel, gpa]
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT s.id, s.institutionId, s.program, s.gradeLevel, s.gpa FROM Student s " +
+           "WHERE s.gpa IS NOT NULL AND s.isActive = true")
+    Stream<Object[]> streamGpaRankingRows();
+
+    /**
+     * Find ranking rows of the given active students with a GPA
+     * Returns rows of [id, institutionId, program, gradeLevel, gpa]
+     */
+    @Query("SELECT s.id, s.institutionId, s.program, s.gradeLevel, s.gpa FROM Student s " +
+           "WHERE s.id IN :studentIds AND s.gpa IS NOT NULL AND s.isActive = true")
+    List<Object[]> findGpaRankingRowsByIds(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find all student numbers of an institution
+     */
+    @Query("SELECT s.studentNumber FROM Student s WHERE s.institutionId = :institutionId")
+    List<String> findStudentNumbersByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * Find lower-cased emails of an institution's students
+     */
+    @Query("SELECT LOWER(s.email) FROM Student s WHERE s.institutionId = :institutionId AND s.email IS NOT NULL")
+    List<String> findLowerCaseEmailsByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * Find which of the given emails are already used by any student
+     */
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Find the highest student ID, or 0 when there are no students
+     */
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Student s")
+    Long findMaxId();
+
+    /**
+     * Find IDs of an institution's students created after the given ID
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.id > :id AND s.institutionId = :institutionId")
+    List<Long> findIdsByInstitutionIdAndIdGreaterThan(@Param("institutionId") Long institutionId, @Param("id") Long id);
+
+    /**
+     * Stream duplicate detection rows of an institution's active students in ID order
+     * Returns rows of [id, firstName, middleName, lastName, dateOfBirth, phoneNumber, address, city]
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT s.id, s.firstName, s.middleName, s.lastName, s.dateOfBirth, s.phoneNumber, s.address, s.city " +
+           "FROM Student s WHERE s.institutionId = :institutionId AND s.isActive = true ORDER BY s.id")
+    Stream<Object[]> streamDuplicateRowsByInstitutionId(@Param("institutionId") Long institutionId);
+
+    /**
+     * Find duplicate detection rows of the given active students
+     * Returns rows of [id, firstName, middleName, lastName, dateOfBirth, phoneNumber, address, city, institutionId]
+     */
+    @Query("SELECT s.id, s.firstName, s.middleName, s.lastName, s.dateOfBirth, s.phoneNumber, s.address, s.city, s.institutionId " +
+           "FROM Student s WHERE s.id IN :studentIds AND s.isActive = true")
+    List<Object[]> findDuplicateRowsByIds(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find duplicate detection candidates of an institution: active students born on one of the given dates
+     * or sharing one of the given phone numbers
+     * Returns rows of [id, firstName, middleName, lastName, dateOfBirth, phoneNumber, address, city]
+     */
+    @Query("SELECT s.id, s.firstName, s.middleName, s.lastName, s.dateOfBirth, s.phoneNumber, s.address, s.city " +
+           "FROM Student s WHERE s.institutionId = :institutionId " +
+           "AND (s.dateOfBirth IN :datesOfBirth OR s.phoneNumber IN :phoneNumbers) AND s.isActive = true")
+    List<Object[]> findDuplicateCandidateRows(@Param("institutionId") Long institutionId,
+                                              @Param("datesOfBirth") Collection<LocalDate> datesOfBirth,
+                                              @Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    /**
+     * Stream demographic rows of all active students
+     * Returns rows of [id, institutionId, branchId, gradeLevel, program, major, gender, enrollmentStatus, city, state, country]
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT s.id, s.institutionId, s.branchId, s.gradeLevel, s.program, s.major, s.gender, s.enrollmentStatus, " +
+           "s.city, s.state, s.country FROM Student s WHERE s.isActive = true")
+    Stream<Object[]> streamDemographicRows();
+
+    /**
+     * Find demographic rows of the given active students
+     * Returns rows of [id, institutionId, branchId, gradeLevel, program, major, gender, enrollmentStatus, city, state, country]
+     */
+    @Query("SELECT s.id, s.institutionId, s.branchId, s.gradeLevel, s.program, s.major, s.gender, s.enrollmentStatus, " +
+           "s.city, s.state, s.country FROM Student s WHERE s.id IN :studentIds AND s.isActive = true")
+    List<Object[]> findDemographicRowsByIds(@Param("studentIds") Collection<Long> studentIds);
 }
@@ -0,0 +1,532 @@
+package com.educationerp.student_management.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of session numbers in the style of a roaring bitmap
+ * Values are split by their high 16 bits into containers that are kept either as a sorted array
+ * (sparse) or a 65536-bit bitmap (dense); on serialization each container is written in the
+ * smallest of array, bitmap or run-length form, so mostly-present attendance costs a few bytes
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public final class AttendanceBitmap {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUN = 2;
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+
+    public AttendanceBitmap() {
+    }
+
+    /**
+     * Deserialize a bitmap; null or empty input yields an empty bitmap
+     */
+    public static AttendanceBitmap fromBytes(byte[] bytes) {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        if (bytes == null || bytes.length == 0) {
+            return bitmap;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported attendance bitmap format: " + version);
+        }
+        int count = buffer.getChar();
+        bitmap.keys = new char[count];
+        bitmap.containers = new Container[count];
+        for (int i = 0; i < count; i++) {
+            bitmap.keys[i] = buffer.getChar();
+            byte type = buffer.get();
+            int size = buffer.getChar() + 1;
+            bitmap.containers[i] = switch (type) {
+                case ARRAY -> {
+                    char[] values = new char[size];
+                    buffer.asCharBuffer().get(values);
+                    buffer.position(buffer.position() + size * 2);
+                    yield new Container(values, size);
+                }
+                case BITMAP -> {
+                    long[] words = new long[BITMAP_WORDS];
+                    buffer.asLongBuffer().get(words);
+                    buffer.position(buffer.position() + BITMAP_WORDS * 8);
+                    yield new Container(words, size);
+                }
+                case RUN -> {
+                    char[] runs = new char[size * 2];
+                    buffer.asCharBuffer().get(runs);
+                    buffer.position(buffer.position() + size * 4);
+                    yield Container.fromRuns(runs, size);
+                }
+                default -> throw new IllegalArgumentException("Unknown attendance container type: " + type);
+            };
+        }
+        return bitmap;
+    }
+
+    /**
+     * Serialize the bitmap choosing the smallest encoding per container
+     */
+    public byte[] toBytes() {
+        int length = 3;
+        byte[] types = new byte[containers.length];
+        int[] runCounts = new int[containers.length];
+        for (int i = 0; i < containers.length; i++) {
+            Container container = containers[i];
+            runCounts[i] = container.runCount();
+            int arrayBytes = container.cardinality * 2;
+            int runBytes = runCounts[i] * 4;
+            int bitmapBytes = BITMAP_WORDS * 8;
+            if (runBytes < arrayBytes && runBytes < bitmapBytes) {
+                types[i] = RUN;
+                length += 5 + runBytes;
+            } else if (arrayBytes <= bitmapBytes) {
+                types[i] = ARRAY;
+                length += 5 + arrayBytes;
+            } else {
+                types[i] = BITMAP;
+                length += 5 + bitmapBytes;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(FORMAT_VERSION);
+        buffer.putChar((char) containers.length);
+        for (int i = 0; i < containers.length; i++) {
+            Container container = containers[i];
+            buffer.putChar(keys[i]);
+            buffer.put(types[i]);
+            switch (types[i]) {
+                case RUN -> {
+                    buffer.putChar((char) (runCounts[i] - 1));
+                    container.forEachRun((start, end) -> {
+                        buffer.putChar((char) start);
+                        buffer.putChar((char) (end - start));
+                    });
+                }
+                case ARRAY -> {
+                    buffer.putChar((char) (container.cardinality - 1));
+                    container.forEach(value -> buffer.putChar((char) value));
+                }
+                default -> {
+                    buffer.putChar((char) (container.cardinality - 1));
+                    long[] words = container.toWords();
+                    for (long word : words) {
+                        buffer.putLong(word);
+                    }
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    public boolean add(int value) {
+        checkValue(value);
+        char key = (char) (value >>> 16);
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            index = -index - 1;
+            keys = insert(keys, index, key);
+            Container[] grown = new Container[containers.length + 1];
+            System.arraycopy(containers, 0, grown, 0, index);
+            System.arraycopy(containers, index, grown, index + 1, containers.length - index);
+            grown[index] = new Container(new char[4], 0);
+            containers = grown;
+        }
+        return containers[index].add((char) value);
+    }
+
+    public boolean remove(int value) {
+        checkValue(value);
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        boolean removed = containers[index].remove((char) value);
+        if (containers[index].cardinality == 0) {
+            keys = delete(keys, index);
+            Container[] shrunk = new Container[containers.length - 1];
+            System.arraycopy(containers, 0, shrunk, 0, index);
+            System.arraycopy(containers, index + 1, shrunk, index, containers.length - index - 1);
+            containers = shrunk;
+        }
+        return removed;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (Container container : containers) {
+            cardinality += container.cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return containers.length == 0;
+    }
+
+    /**
+     * Highest value in the bitmap, or -1 when empty
+     */
+    public int last() {
+        if (containers.length == 0) {
+            return -1;
+        }
+        return (keys[keys.length - 1] << 16) | containers[containers.length - 1].last();
+    }
+
+    /**
+     * Number of values present in both bitmaps
+     */
+    public int andCardinality(AttendanceBitmap other) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] == other.keys[j]) {
+                cardinality += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            } else if (keys[i] < other.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * New bitmap with the values of this bitmap that are not in the other
+     */
+    public AttendanceBitmap andNot(AttendanceBitmap other) {
+        AttendanceBitmap result = new AttendanceBitmap();
+        char[] resultKeys = new char[keys.length];
+        Container[] resultContainers = new Container[keys.length];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container container = j < other.keys.length && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            if (container.cardinality > 0) {
+                resultKeys[count] = keys[i];
+                resultContainers[count] = container;
+                count++;
+            }
+        }
+        result.keys = Arrays.copyOf(resultKeys, count);
+        result.containers = Arrays.copyOf(resultContainers, count);
+        return result;
+    }
+
+    /**
+     * Visit all values in ascending order
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            int high = keys[i] << 16;
+            containers[i].forEach(low -> consumer.accept(high | low));
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] position = new int[1];
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Attendance bitmap values must not be negative: " + value);
+        }
+    }
+
+    private static char[] insert(char[] array, int index, char value) {
+        char[] grown = new char[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(array, index, grown, index + 1, array.length - index);
+        return grown;
+    }
+
+    private static char[] delete(char[] array, int index) {
+        char[] shrunk = new char[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, index);
+        System.arraycopy(array, index + 1, shrunk, index, array.length - index - 1);
+        return shrunk;
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(int start, int end);
+    }
+
+    /**
+     * Values sharing the same high 16 bits; a sorted char array up to 4096 values, a bitmap beyond
+     */
+    private static final class Container {
+        private char[] values;
+        private long[] words;
+        private int cardinality;
+
+        Container(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        Container(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static Container fromRuns(char[] runs, int runCount) {
+            int cardinality = 0;
+            for (int r = 0; r < runCount; r++) {
+                cardinality += runs[2 * r + 1] + 1;
+            }
+            if (cardinality <= ARRAY_MAX) {
+                char[] values = new char[cardinality];
+                int position = 0;
+                for (int r = 0; r < runCount; r++) {
+                    for (int v = runs[2 * r]; v <= runs[2 * r] + runs[2 * r + 1]; v++) {
+                        values[position++] = (char) v;
+                    }
+                }
+                return new Container(values, cardinality);
+            }
+            long[] words = new long[BITMAP_WORDS];
+            for (int r = 0; r < runCount; r++) {
+                for (int v = runs[2 * r]; v <= runs[2 * r] + runs[2 * r + 1]; v++) {
+                    words[v >>> 6] |= 1L << v;
+                }
+            }
+            return new Container(words, cardinality);
+        }
+
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        boolean add(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before | (1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                cardinality++;
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_MAX) {
+                words = toWords();
+                values = null;
+                return add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before & ~(1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                cardinality--;
+                if (cardinality <= ARRAY_MAX) {
+                    values = toValues();
+                    words = null;
+                }
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        int last() {
+            if (words != null) {
+                for (int w = BITMAP_WORDS - 1; w >= 0; w--) {
+                    if (words[w] != 0) {
+                        return (w << 6) + 63 - Long.numberOfLeadingZeros(words[w]);
+                    }
+                }
+            }
+            return values[cardinality - 1];
+        }
+
+        int andCardinality(Container other) {
+            if (words != null && other.words != null) {
+                int count = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    count += Long.bitCount(words[w] & other.words[w]);
+                }
+                return count;
+            }
+            if (words != null) {
+                return other.andCardinality(this);
+            }
+            int count = 0;
+            if (other.words != null) {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < other.cardinality) {
+                if (values[i] == other.values[j]) {
+                    count++;
+                    i++;
+                    j++;
+                } else if (values[i] < other.values[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        Container andNot(Container other) {
+            if (words != null) {
+                long[] result = words.clone();
+                int count = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    if (other.words != null) {
+                        result[w] &= ~other.words[w];
+                    }
+                    count += Long.bitCount(result[w]);
+                }
+                if (other.words == null) {
+                    for (int j = 0; j < other.cardinality; j++) {
+                        char value = other.values[j];
+                        if ((result[value >>> 6] & (1L << value)) != 0) {
+                            result[value >>> 6] &= ~(1L << value);
+                            count--;
+                        }
+                    }
+                }
+                Container container = new Container(result, count);
+                if (count <= ARRAY_MAX) {
+                    container.values = container.toValues();
+                    container.words = null;
+                }
+                return container;
+            }
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new Container(result, count);
+        }
+
+        Container copy() {
+            return words != null ? new Container(words.clone(), cardinality) : new Container(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        void forEach(IntConsumer consumer) {
+            if (words != null) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        consumer.accept((w << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+                return;
+            }
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(values[i]);
+            }
+        }
+
+        void forEachRun(RunConsumer consumer) {
+            int[] run = {-2, -2};
+            forEach(value -> {
+                if (value == run[1] + 1) {
+                    run[1] = value;
+                } else {
+                    if (run[0] >= 0) {
+                        consumer.accept(run[0], run[1]);
+                    }
+                    run[0] = value;
+                    run[1] = value;
+                }
+            });
+            if (run[0] >= 0) {
+                consumer.accept(run[0], run[1]);
+            }
+        }
+
+        int runCount() {
+            int[] count = {0};
+            forEachRun((start, end) -> count[0]++);
+            return count[0];
+        }
+
+        long[] toWords() {
+            if (words != null) {
+                return words;
+            }
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+
+        char[] toValues() {
+            char[] result = new char[cardinality];
+            int[] position = {0};
+            forEach(value -> result[position[0]++] = (char) value);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.repository.CourseRepository;
+import com.educationerp.student_management.dto.AttendanceMarkRequest;
+import com.educationerp.student_management.dto.AttendanceMarkResponse;
+import com.educationerp.student_management.dto.CourseAttendanceReportResponse;
+import com.educationerp.student_management.dto.StudentAttendanceResponse;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service class for attendance tracking
+ * Keeps one compressed bitmap of recorded and one of attended session numbers per enrollment,
+ * so a full year of attendance costs a few dozen bytes per enrollment and reports are bitmap operations
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class AttendanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceService.class);
+
+    private static final String LOCK_ROSTER_SQL =
+            "SELECT id, student_id, status, attended_sessions, recorded_sessions FROM enrollments " +
+            "WHERE course_id = ? AND is_active = true ORDER BY id FOR UPDATE";
+
+    private static final String UPDATE_ATTENDANCE_SQL =
+            "UPDATE enrollments SET attended_sessions = ?, recorded_sessions = ?, updated_date = ? WHERE id = ?";
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${education.erp.attendance.max-session-number:10000}")
+    private int maxSessionNumber;
+
+    @Value("${education.erp.attendance.warning-threshold:75.0}")
+    private double warningThreshold;
+
+    @Value("${education.erp.attendance.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Mark attendance of a course roster for one session
+     * Listed students are marked explicitly; the rest of the roster follows the requested default
+     */
+    public AttendanceMarkResponse markSession(Long courseId, int sessionNumber, AttendanceMarkRequest request) {
+        long started = System.currentTimeMillis();
+
+        if (sessionNumber < 1 || sessionNumber > maxSessionNumber) {
+            throw new BusinessException("Session number must be between 1 and " + maxSessionNumber);
+        }
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+        }
+
+        Set<Long> present = request.getPresentStudentIds() != null ? new HashSet<>(request.getPresentStudentIds()) : Set.of();
+        Set<Long> absent = request.getAbsentStudentIds() != null ? new HashSet<>(request.getAbsentStudentIds()) : Set.of();
+        for (Long studentId : present) {
+            if (absent.contains(studentId)) {
+                throw new BusinessException("Student cannot be marked both present and absent: " + studentId);
+            }
+        }
+        AttendanceMarkRequest.RosterDefault rosterDefault = request.getRosterDefault() != null
+                ? request.getRosterDefault() : AttendanceMarkRequest.RosterDefault.UNCHANGED;
+
+        logger.info("Marking session {} of course {}: {} present, {} absent, roster default {}",
+                sessionNumber, courseId, present.size(), absent.size(), rosterDefault);
+
+        // Row locks keep concurrent markings of other sessions from overwriting each other's bitmaps
+        List<Object[]> roster = jdbcTemplate.query(LOCK_ROSTER_SQL, (rs, rowNum) -> new Object[]{
+                rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getBytes(4), rs.getBytes(5)}, courseId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        Set<Long> enrolled = new HashSet<>();
+        List<Long> withdrawn = new ArrayList<>();
+        int markedPresent = 0;
+        int markedAbsent = 0;
+
+        for (Object[] row : roster) {
+            Long studentId = (Long) row[1];
+            enrolled.add(studentId);
+
+            boolean attended;
+            if (present.contains(studentId)) {
+                attended = true;
+            } else if (absent.contains(studentId)) {
+                attended = false;
+            } else if (rosterDefault == AttendanceMarkRequest.RosterDefault.UNCHANGED) {
+                continue;
+            } else {
+                attended = rosterDefault == AttendanceMarkRequest.RosterDefault.PRESENT;
+            }
+
+            if (Enrollment.EnrollmentStatus.WITHDRAWN.name().equals(row[2])) {
+                if (present.contains(studentId) || absent.contains(studentId)) {
+                    withdrawn.add(studentId);
+                }
+                continue;
+            }
+
+            AttendanceBitmap attendedSessions = AttendanceBitmap.fromBytes((byte[]) row[3]);
+            AttendanceBitmap recordedSessions = AttendanceBitmap.fromBytes((byte[]) row[4]);
+            boolean changed = recordedSessions.add(sessionNumber);
+            changed |= attended ? attendedSessions.add(sessionNumber) : attendedSessions.remove(sessionNumber);
+            if (attended) {
+                markedPresent++;
+            } else {
+                markedAbsent++;
+            }
+            if (changed) {
+                updates.add(new Object[]{attendedSessions.toBytes(), recordedSessions.toBytes(), row[0]});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_ATTENDANCE_SQL, updates, batchSize, (ps, update) -> {
+            ps.setBytes(1, (byte[]) update[0]);
+            ps.setBytes(2, (byte[]) update[1]);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, (Long) update[2]);
+        });
+
+        List<Long> notEnrolled = new ArrayList<>();
+        for (Set<Long> listed : List.of(present, absent)) {
+            listed.stream().filter(id -> !enrolled.contains(id)).sorted().forEach(notEnrolled::add);
+        }
+
+        AttendanceMarkResponse response = new AttendanceMarkResponse();
+        response.setCourseId(courseId);
+        response.setSessionNumber(sessionNumber);
+        response.setRosterSize(roster.size());
+        response.setMarkedPresent(markedPresent);
+        response.setMarkedAbsent(markedAbsent);
+        response.setUpdated(updates.size());
+        response.setNotEnrolledStudentIds(notEnrolled);
+        response.setWithdrawnStudentIds(withdrawn);
+        response.setElapsedMillis(System.currentTimeMillis() - started);
+
+        logger.info("Session {} of course {} marked: {} present, {} absent, {} enrollments updated",
+                sessionNumber, courseId, markedPresent, markedAbsent, updates.size());
+        return response;
+    }
+
+    /**
+     * Get attendance report of a whole course with per-student and per-session figures
+     */
+    @Transactional(readOnly = true)
+    public CourseAttendanceReportResponse getCourseReport(Long courseId) {
+        long started = System.currentTimeMillis();
+
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+        }
+
+        List<Object[]> rows = enrollmentRepository.findAttendanceRowsByCourseId(courseId);
+        List<StudentAttendanceResponse> students = new ArrayList<>(rows.size());
+        Map<Integer, int[]> sessions = new TreeMap<>();
+        long storedBytes = 0;
+        double percentageSum = 0.0;
+        int withPercentage = 0;
+        int belowThreshold = 0;
+
+        for (Object[] row : rows) {
+            byte[] attendedBytes = (byte[]) row[3];
+            byte[] recordedBytes = (byte[]) row[4];
+            storedBytes += (attendedBytes != null ? attendedBytes.length : 0) + (recordedBytes != null ? recordedBytes.length : 0);
+
+            AttendanceBitmap attended = AttendanceBitmap.fromBytes(attendedBytes);
+            AttendanceBitmap recorded = AttendanceBitmap.fromBytes(recordedBytes);
+            StudentAttendanceResponse student = summarize(row, courseId, attended, recorded, false);
+            students.add(student);
+
+            recorded.forEach(session -> sessions.computeIfAbsent(session, s -> new int[2])[0]++);
+            attended.forEach(session -> {
+                int[] counts = sessions.get(session);
+                if (counts != null) {
+                    counts[1]++;
+                }
+            });
+
+            if (student.getAttendancePercentage() != null) {
+                percentageSum += student.getAttendancePercentage();
+                withPercentage++;
+            }
+            if (Boolean.TRUE.equals(student.getBelowThreshold())) {
+                belowThreshold++;
+            }
+        }
+
+        List<CourseAttendanceReportResponse.SessionSummary> sessionSummaries = new ArrayList<>(sessions.size());
+        sessions.forEach((session, counts) ->
+                sessionSummaries.add(new CourseAttendanceReportResponse.SessionSummary(session, counts[0], counts[1])));
+
+        CourseAttendanceReportResponse response = new CourseAttendanceReportResponse();
+        response.setCourseId(courseId);
+        response.setRosterSize(rows.size());
+        response.setSessionsRecorded(sessions.size());
+        response.setAverageAttendancePercentage(withPercentage > 0 ? round(percentageSum / withPercentage) : null);
+        response.setThresholdPercentage(warningThreshold);
+        response.setStudentsBelowThreshold(belowThreshold);
+        response.setStoredBytes(storedBytes);
+        response.setStudents(students);
+        response.setSessions(sessionSummaries);
+        response.setComputedMillis(System.currentTimeMillis() - started);
+        response.setGeneratedAt(LocalDateTime.now());
+
+        logger.debug("Attendance report for course {} computed over {} enrollments in {} ms",
+                courseId, rows.size(), response.getComputedMillis());
+        return response;
+    }
+
+    /**
+     * Get a student's attendance in a course including the absent session numbers
+     */
+    @Transactional(readOnly = true)
+    public StudentAttendanceResponse getStudentAttendance(Long courseId, Long studentId) {
+        List<Object[]> rows = enrollmentRepository.findAttendanceRowsByCourseIdAndStudentId(courseId, studentId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Enrollment not found for student ID: " + studentId + " in course ID: " + courseId);
+        }
+
+        Object[] row = rows.get(0);
+        return summarize(row, courseId, AttendanceBitmap.fromBytes((byte[]) row[3]),
+                AttendanceBitmap.fromBytes((byte[]) row[4]), true);
+    }
+
+    private StudentAttendanceResponse summarize(Object[] row, Long courseId, AttendanceBitmap attended,
+                                                AttendanceBitmap recorded, boolean includeSessions) {
+        int sessionsRecorded = recorded.cardinality();
+        int sessionsAttended = attended.andCardinality(recorded);
+        AttendanceBitmap absences = recorded.andNot(attended);
+
+        // Absences are consecutive when no recorded session lies between them
+        int[] recordedSessions = recorded.toArray();
+        int[] absentSessions = absences.toArray();
+        int current = 0;
+        int longest = 0;
+        int a = 0;
+        for (int session : recordedSessions) {
+            if (a < absentSessions.length && absentSessions[a] == session) {
+                a++;
+                current++;
+                longest = Math.max(longest, current);
+            } else {
+                current = 0;
+            }
+        }
+
+        StudentAttendanceResponse response = new StudentAttendanceResponse();
+        response.setEnrollmentId((Long) row[0]);
+        response.setStudentId((Long) row[1]);
+        response.setCourseId(courseId);
+        response.setSessionsRecorded(sessionsRecorded);
+        response.setSessionsAttended(sessionsAttended);
+        response.setAbsences(absentSessions.length);
+        if (sessionsRecorded > 0) {
+            double percentage = round(100.0 * sessionsAttended / sessionsRecorded);
+            response.setAttendancePercentage(percentage);
+            response.setBelowThreshold(percentage < warningThreshold);
+        } else {
+            response.setBelowThreshold(false);
+        }
+        response.setCurrentConsecutiveAbsences(current);
+        response.setLongestConsecutiveAbsences(longest);
+        response.setLastRecordedSession(sessionsRecorded > 0 ? recorded.last() : null);
+        if (includeSessions) {
+            response.setAbsentSessions(Arrays.stream(absentSessions).boxed().toList());
+        }
+        return response;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
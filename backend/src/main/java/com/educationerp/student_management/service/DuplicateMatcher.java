@@ -0,0 +1,229 @@
+package com.educationerp.student_management.service;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures and pair scoring for duplicate student detection
+ * Names and addresses are reduced to character 3-gram shingles whose MinHash signatures estimate
+ * Jaccard similarity; bands of the name signature serve as locality-sensitive blocking keys
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+public final class DuplicateMatcher {
+
+    public static final int NAME_HASHES = 32;
+    public static final int ADDRESS_HASHES = 16;
+    public static final int SIGNATURE_LENGTH = NAME_HASHES + ADDRESS_HASHES;
+    public static final int BANDS = 8;
+    public static final int ROWS_PER_BAND = NAME_HASHES / BANDS;
+
+    /** Signature slot value of a field without shingles */
+    private static final int EMPTY = Integer.MAX_VALUE;
+    private static final int SHINGLE_SIZE = 3;
+    private static final long SEED = 0x5DEECE66DL;
+
+    private static final double NAME_WEIGHT = 0.45;
+    private static final double DATE_OF_BIRTH_WEIGHT = 0.30;
+    private static final double PHONE_WEIGHT = 0.10;
+    private static final double ADDRESS_WEIGHT = 0.15;
+
+    private final long[] multipliers = new long[SIGNATURE_LENGTH];
+    private final long[] increments = new long[SIGNATURE_LENGTH];
+
+    public DuplicateMatcher() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            increments[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Write the name and address MinHash signatures of a student into the target array
+     */
+    public void sign(String firstName, String middleName, String lastName, String address, String city,
+                     int[] target, int offset) {
+        // Name tokens are sorted so swapped first and last names still match
+        String[] tokens = (normalize(firstName) + " " + normalize(middleName) + " " + normalize(lastName)).trim().split(" +");
+        Arrays.sort(tokens);
+        minHash(String.join(" ", tokens), target, offset, 0, NAME_HASHES);
+        minHash((normalize(address) + " " + normalize(city)).trim(), target, offset + NAME_HASHES, NAME_HASHES, ADDRESS_HASHES);
+    }
+
+    /**
+     * Blocking key of one band of the name signature, salted with the birth year
+     */
+    public long bandKey(int[] signatures, int offset, int band, int birthYear) {
+        long hash = mix(band * 0x9E3779B97F4A7C15L + birthYear);
+        int from = offset + band * ROWS_PER_BAND;
+        for (int i = from; i < from + ROWS_PER_BAND; i++) {
+            hash = mix(hash ^ signatures[i]);
+        }
+        return hash;
+    }
+
+    /**
+     * Score a pair of students; returns null when the names are too different to be the same person
+     */
+    public Score score(int[] signatures, int offsetA, int offsetB, int birthDayA, int birthDayB,
+                       long phoneA, long phoneB, double minimumNameSimilarity) {
+        double name = similarity(signatures, offsetA, offsetB, 0, NAME_HASHES);
+        if (name < minimumNameSimilarity) {
+            return null;
+        }
+
+        double dateOfBirth = dateOfBirthSimilarity(birthDayA, birthDayB);
+        double weighted = NAME_WEIGHT * name + DATE_OF_BIRTH_WEIGHT * dateOfBirth;
+        double weights = NAME_WEIGHT + DATE_OF_BIRTH_WEIGHT;
+
+        Boolean phoneMatch = null;
+        if (phoneA > 0 && phoneB > 0) {
+            phoneMatch = phoneA == phoneB;
+            weighted += phoneMatch ? PHONE_WEIGHT : 0.0;
+            weights += PHONE_WEIGHT;
+        }
+
+        Double address = null;
+        if (signatures[offsetA + NAME_HASHES] != EMPTY && signatures[offsetB + NAME_HASHES] != EMPTY) {
+            address = similarity(signatures, offsetA, offsetB, NAME_HASHES, ADDRESS_HASHES);
+            weighted += ADDRESS_WEIGHT * address;
+            weights += ADDRESS_WEIGHT;
+        }
+
+        return new Score(weighted / weights, name, dateOfBirth, phoneMatch, address);
+    }
+
+    /**
+     * Phone number reduced to its last ten digits, or 0 when it has fewer than seven digits
+     */
+    public static long phoneKey(String phoneNumber) {
+        if (phoneNumber == null) {
+            return 0;
+        }
+        long key = 0;
+        long scale = 1;
+        int digits = 0;
+        for (int i = phoneNumber.length() - 1; i >= 0 && digits < 10; i--) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                key += (c - '0') * scale;
+                scale *= 10;
+                digits++;
+            }
+        }
+        return digits >= 7 ? key + scale : 0;
+    }
+
+    /**
+     * Similarity of two birth dates: exact, transposed day and month, or a single differing field
+     */
+    public static double dateOfBirthSimilarity(int birthDayA, int birthDayB) {
+        if (birthDayA == birthDayB) {
+            return 1.0;
+        }
+        LocalDate a = LocalDate.ofEpochDay(birthDayA);
+        LocalDate b = LocalDate.ofEpochDay(birthDayB);
+        boolean sameYear = a.getYear() == b.getYear();
+        boolean sameMonth = a.getMonthValue() == b.getMonthValue();
+        boolean sameDay = a.getDayOfMonth() == b.getDayOfMonth();
+        if (sameYear && a.getMonthValue() == b.getDayOfMonth() && a.getDayOfMonth() == b.getMonthValue()) {
+            return 0.8;
+        }
+        if ((sameYear && (sameMonth || sameDay)) || (sameMonth && sameDay && Math.abs(a.getYear() - b.getYear()) == 1)) {
+            return 0.6;
+        }
+        return 0.0;
+    }
+
+    private void minHash(String text, int[] target, int offset, int firstHash, int hashes) {
+        Arrays.fill(target, offset, offset + hashes, EMPTY);
+        if (text.isEmpty()) {
+            return;
+        }
+        String padded = " " + text + " ";
+        for (int start = 0; start + SHINGLE_SIZE <= padded.length(); start++) {
+            long shingle = 0;
+            for (int i = start; i < start + SHINGLE_SIZE; i++) {
+                shingle = shingle * 31 + padded.charAt(i);
+            }
+            for (int h = 0; h < hashes; h++) {
+                int value = (int) (mix(shingle * multipliers[firstHash + h] + increments[firstHash + h]) >>> 33);
+                if (value < target[offset + h]) {
+                    target[offset + h] = value;
+                }
+            }
+        }
+    }
+
+    private static double similarity(int[] signatures, int offsetA, int offsetB, int from, int hashes) {
+        int equal = 0;
+        for (int h = from; h < from + hashes; h++) {
+            if (signatures[offsetA + h] == signatures[offsetB + h]) {
+                equal++;
+            }
+        }
+        return (double) equal / hashes;
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        String folded = Normalizer.normalize(value.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)
+                .replace('ı', 'i')
+                .replaceAll("\\p{M}", "");
+        return folded.replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Outcome of comparing two students
+     */
+    public static final class Score {
+
+        private final double score;
+        private final double nameSimilarity;
+        private final double dateOfBirthSimilarity;
+        private final Boolean phoneMatch;
+        private final Double addressSimilarity;
+
+        private Score(double score, double nameSimilarity, double dateOfBirthSimilarity,
+                      Boolean phoneMatch, Double addressSimilarity) {
+            this.score = score;
+            this.nameSimilarity = nameSimilarity;
+            this.dateOfBirthSimilarity = dateOfBirthSimilarity;
+            this.phoneMatch = phoneMatch;
+            this.addressSimilarity = addressSimilarity;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public double getNameSimilarity() {
+            return nameSimilarity;
+        }
+
+        public double getDateOfBirthSimilarity() {
+            return dateOfBirthSimilarity;
+        }
+
+        public Boolean getPhoneMatch() {
+            return phoneMatch;
+        }
+
+        public Double getAddressSimilarity() {
+            return addressSimilarity;
+        }
+    }
+}
@@ -0,0 +1,606 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.institution_management.repository.InstitutionRepository;
+import com.educationerp.student_management.dto.DuplicateMatchResponse;
+import com.educationerp.student_management.dto.DuplicateScanResponse;
+import com.educationerp.student_management.entity.DuplicateStudentMatch;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import com.educationerp.student_management.repository.DuplicateStudentMatchRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service class for fuzzy duplicate student detection
+ * Students are blocked by locality-sensitive bands of their name MinHash signature salted with the
+ * birth year, and by normalized phone number, so only students sharing a block are compared;
+ * newly created students are checked incrementally against candidates with related birth dates or phones
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class DuplicateStudentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateStudentService.class);
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final int INDEX_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long PHONE_SALT = 0x632BE59BD9B4E019L;
+
+    private static final String INSERT_MATCH_SQL =
+            "INSERT INTO duplicate_student_matches (institution_id, student_id, matched_student_id, score, " +
+            "name_similarity, date_of_birth_similarity, phone_match, address_similarity, status, detected_date, " +
+            "created_date, is_active) SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true " +
+            "WHERE NOT EXISTS (SELECT 1 FROM duplicate_student_matches WHERE student_id = ? AND matched_student_id = ?)";
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DuplicateStudentMatchRepository duplicateStudentMatchRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.duplicate-detection.threshold:0.85}")
+    private double threshold;
+
+    @Value("${education.erp.duplicate-detection.min-name-similarity:0.5}")
+    private double minNameSimilarity;
+
+    @Value("${education.erp.duplicate-detection.max-block-size:500}")
+    private int maxBlockSize;
+
+    @Value("${education.erp.duplicate-detection.parallelism:4}")
+    private int parallelism;
+
+    @Value("${education.erp.duplicate-detection.batch-size:500}")
+    private int batchSize;
+
+    @Value("${education.erp.duplicate-detection.check-on-create:true}")
+    private boolean checkOnCreate;
+
+    private final DuplicateMatcher matcher = new DuplicateMatcher();
+    private final Map<Long, DuplicateScanResponse> scans = new ConcurrentHashMap<>();
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+    private ExecutorService scanExecutor;
+    private ExecutorService checkExecutor;
+    private ForkJoinPool comparePool;
+
+    @PostConstruct
+    void initialize() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        scanExecutor = Executors.newSingleThreadExecutor();
+        checkExecutor = Executors.newSingleThreadExecutor();
+        comparePool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scanExecutor.shutdownNow();
+        checkExecutor.shutdownNow();
+        comparePool.shutdownNow();
+    }
+
+    /**
+     * Start a full duplicate scan of an institution in the background
+     * Returns the running scan when one is already in progress for the institution
+     */
+    public DuplicateScanResponse startScan(Long institutionId) {
+        if (!institutionRepository.existsById(institutionId)) {
+            throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+        }
+
+        DuplicateScanResponse scan = new DuplicateScanResponse();
+        scan.setInstitutionId(institutionId);
+        scan.setStatus(DuplicateScanResponse.ScanStatus.RUNNING);
+        scan.setStartedAt(LocalDateTime.now());
+
+        DuplicateScanResponse current = scans.compute(institutionId, (id, previous) ->
+                previous != null && previous.getStatus() == DuplicateScanResponse.ScanStatus.RUNNING ? previous : scan);
+        if (current != scan) {
+            return current;
+        }
+
+        logger.info("Starting duplicate student scan for institution: {}", institutionId);
+        scanExecutor.execute(() -> {
+            try {
+                executeScan(scan);
+                scan.setCompletedAt(LocalDateTime.now());
+                scan.setStatus(DuplicateScanResponse.ScanStatus.COMPLETED);
+                logger.info("Duplicate student scan for institution {} compared {} pairs of {} students and found {} new matches in {} ms",
+                        institutionId, scan.getComparedPairs(), scan.getScannedStudents(), scan.getNewMatches(), scan.getElapsedMillis());
+            } catch (RuntimeException e) {
+                logger.error("Duplicate student scan failed for institution: {}", institutionId, e);
+                scan.setErrorMessage(e.getMessage());
+                scan.setCompletedAt(LocalDateTime.now());
+                scan.setStatus(DuplicateScanResponse.ScanStatus.FAILED);
+            }
+        });
+        return scan;
+    }
+
+    /**
+     * Get the running or latest duplicate scan of an institution
+     */
+    public DuplicateScanResponse getScan(Long institutionId) {
+        DuplicateScanResponse scan = scans.get(institutionId);
+        if (scan == null) {
+            throw new ResourceNotFoundException("Duplicate scan not found for institution ID: " + institutionId);
+        }
+        return scan;
+    }
+
+    /**
+     * Get duplicate matches of an institution, optionally filtered by review status
+     */
+    @Transactional(readOnly = true)
+    public Page<DuplicateMatchResponse> getMatches(Long institutionId, DuplicateStudentMatch.MatchStatus status, Pageable pageable) {
+        Page<DuplicateStudentMatch> matches = status != null
+                ? duplicateStudentMatchRepository.findByInstitutionIdAndStatus(institutionId, status, pageable)
+                : duplicateStudentMatchRepository.findByInstitutionId(institutionId, pageable);
+        Map<Long, Student> students = loadStudents(matches.getContent());
+        return matches.map(match -> mapToMatchResponse(match, students));
+    }
+
+    /**
+     * Check a student against the institution's students now and return all of its matches
+     */
+    public List<DuplicateMatchResponse> checkStudent(Long studentId) {
+        Student student = studentRepository.findById(studentId)
+                .filter(Student::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with ID: " + studentId));
+
+        checkStudents(List.of(student.getId()));
+
+        List<DuplicateStudentMatch> matches = duplicateStudentMatchRepository.findByStudent(studentId);
+        Map<Long, Student> students = loadStudents(matches);
+        return matches.stream().map(match -> mapToMatchResponse(match, students)).toList();
+    }
+
+    /**
+     * Record the review outcome of a duplicate match
+     */
+    @Transactional
+    public DuplicateMatchResponse reviewMatch(Long matchId, DuplicateStudentMatch.MatchStatus status, String reviewedBy) {
+        if (status == DuplicateStudentMatch.MatchStatus.OPEN) {
+            throw new BusinessException("A duplicate match can only be confirmed or dismissed");
+        }
+        DuplicateStudentMatch match = duplicateStudentMatchRepository.findById(matchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Duplicate match not found with ID: " + matchId));
+
+        match.setStatus(status);
+        match.setReviewedDate(LocalDateTime.now());
+        match.setReviewedBy(reviewedBy);
+        match.setUpdatedBy(reviewedBy);
+        DuplicateStudentMatch saved = duplicateStudentMatchRepository.save(match);
+
+        logger.info("Duplicate match {} marked {} by {}", matchId, status, reviewedBy);
+        return mapToMatchResponse(saved, loadStudents(List.of(saved)));
+    }
+
+    /**
+     * Check newly created students for duplicates once their creation is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (!checkOnCreate || !event.isCreated()) {
+            return;
+        }
+        List<Long> studentIds = List.copyOf(event.getStudentIds());
+        checkExecutor.execute(() -> {
+            try {
+                checkStudents(studentIds);
+            } catch (RuntimeException e) {
+                logger.error("Duplicate check failed for {} created students", studentIds.size(), e);
+            }
+        });
+    }
+
+    private void executeScan(DuplicateScanResponse scan) {
+        long started = System.currentTimeMillis();
+        Long institutionId = scan.getInstitutionId();
+
+        SignedStudents students = readOnlyTransaction.execute(status -> {
+            SignedStudents signed = new SignedStudents(matcher);
+            try (Stream<Object[]> rows = studentRepository.streamDuplicateRowsByInstitutionId(institutionId)) {
+                rows.forEach(signed::add);
+            }
+            return signed;
+        });
+        if (students.size > INDEX_MASK) {
+            throw new BusinessException("Institution has too many students for a duplicate scan: " + students.size);
+        }
+        scan.setScannedStudents(students.size);
+
+        // Each student lands in one block per name band and one per phone number; a block key
+        // carries the block hash in its high bits and the student index in the low bits
+        long[] keys = new long[students.size * (DuplicateMatcher.BANDS + 1)];
+        int keyCount = 0;
+        for (int i = 0; i < students.size; i++) {
+            int birthYear = LocalDate.ofEpochDay(students.birthDays[i]).getYear();
+            int offset = i * DuplicateMatcher.SIGNATURE_LENGTH;
+            for (int band = 0; band < DuplicateMatcher.BANDS; band++) {
+                keys[keyCount++] = (matcher.bandKey(students.signatures, offset, band, birthYear) & ~INDEX_MASK) | i;
+            }
+            if (students.phones[i] > 0) {
+                keys[keyCount++] = (mixPhone(students.phones[i]) & ~INDEX_MASK) | i;
+            }
+        }
+        keys = Arrays.copyOf(keys, keyCount);
+        Arrays.parallelSort(keys);
+
+        List<int[]> blocks = new ArrayList<>();
+        int oversized = 0;
+        for (int start = 0; start < keyCount; ) {
+            int end = start + 1;
+            while (end < keyCount && (keys[end] & ~INDEX_MASK) == (keys[start] & ~INDEX_MASK)) {
+                end++;
+            }
+            if (end - start > maxBlockSize) {
+                oversized++;
+            } else if (end - start > 1) {
+                blocks.add(new int[] {start, end});
+            }
+            start = end;
+        }
+        scan.setBlocks(blocks.size());
+        scan.setOversizedBlocks(oversized);
+
+        Map<Long, DuplicateMatcher.Score> matches = new ConcurrentHashMap<>();
+        LongAdder compared = new LongAdder();
+        long[] blockKeys = keys;
+        comparePool.submit(() -> blocks.parallelStream().forEach(block -> {
+            long pairs = 0;
+            for (int a = block[0]; a < block[1]; a++) {
+                int i = (int) (blockKeys[a] & INDEX_MASK);
+                for (int b = a + 1; b < block[1]; b++) {
+                    int j = (int) (blockKeys[b] & INDEX_MASK);
+                    long pair = pairKey(i, j);
+                    if (matches.containsKey(pair)) {
+                        continue;
+                    }
+                    pairs++;
+                    DuplicateMatcher.Score score = compare(students, i, students, j);
+                    if (score != null) {
+                        matches.put(pair, score);
+                    }
+                }
+            }
+            compared.add(pairs);
+        })).join();
+        scan.setComparedPairs(compared.sum());
+        scan.setMatchesFound(matches.size());
+
+        // Students are indexed in ID order, so recorded pairs map back to indexes by binary search
+        for (Object[] row : duplicateStudentMatchRepository.findPairsByInstitutionId(institutionId)) {
+            int i = Arrays.binarySearch(students.ids, 0, students.size, (Long) row[0]);
+            int j = Arrays.binarySearch(students.ids, 0, students.size, (Long) row[1]);
+            if (i >= 0 && j >= 0) {
+                matches.remove(pairKey(i, j));
+            }
+        }
+
+        List<PendingMatch> pending = new ArrayList<>(matches.size());
+        matches.forEach((pair, score) -> pending.add(new PendingMatch(institutionId,
+                students.ids[(int) (pair >>> 32)], students.ids[(int) (long) pair], score)));
+        scan.setNewMatches(saveMatches(pending));
+        scan.setElapsedMillis(System.currentTimeMillis() - started);
+    }
+
+    private void checkStudents(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        Map<Long, List<Object[]>> rowsByInstitution = new LinkedHashMap<>();
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            for (Object[] row : studentRepository.findDuplicateRowsByIds(chunk)) {
+                rowsByInstitution.computeIfAbsent((Long) row[8], id -> new ArrayList<>()).add(row);
+            }
+        }
+
+        int found = 0;
+        for (Map.Entry<Long, List<Object[]>> entry : rowsByInstitution.entrySet()) {
+            // Every new student contributes up to four birth dates to the candidate query
+            List<Object[]> rows = entry.getValue();
+            int chunkSize = QUERY_CHUNK_SIZE / 4;
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                found += checkChunk(entry.getKey(), rows.subList(from, Math.min(from + chunkSize, rows.size())));
+            }
+        }
+        if (found > 0) {
+            logger.info("Duplicate check of {} students found {} new matches", ids.size(), found);
+        }
+    }
+
+    private int checkChunk(Long institutionId, List<Object[]> rows) {
+        SignedStudents created = new SignedStudents(matcher);
+        Set<LocalDate> datesOfBirth = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        for (Object[] row : rows) {
+            created.add(row);
+            datesOfBirth.addAll(relatedDates((LocalDate) row[4]));
+            if (row[5] != null) {
+                phoneNumbers.add((String) row[5]);
+            }
+        }
+
+        SignedStudents candidates = new SignedStudents(matcher);
+        studentRepository.findDuplicateCandidateRows(institutionId, datesOfBirth, phoneNumbers).forEach(candidates::add);
+
+        Map<Integer, List<Integer>> byBirthDay = new HashMap<>();
+        Map<Long, List<Integer>> byPhone = new HashMap<>();
+        for (int c = 0; c < candidates.size; c++) {
+            byBirthDay.computeIfAbsent(candidates.birthDays[c], day -> new ArrayList<>()).add(c);
+            if (candidates.phones[c] > 0) {
+                byPhone.computeIfAbsent(candidates.phones[c], phone -> new ArrayList<>()).add(c);
+            }
+        }
+
+        Map<List<Long>, DuplicateMatcher.Score> matches = new HashMap<>();
+        for (int i = 0; i < created.size; i++) {
+            Set<Integer> related = new HashSet<>(byPhone.getOrDefault(created.phones[i], List.of()));
+            for (LocalDate date : relatedDates(LocalDate.ofEpochDay(created.birthDays[i]))) {
+                related.addAll(byBirthDay.getOrDefault((int) date.toEpochDay(), List.of()));
+            }
+            for (int c : related) {
+                long studentId = created.ids[i];
+                long candidateId = candidates.ids[c];
+                List<Long> pair = List.of(Math.min(studentId, candidateId), Math.max(studentId, candidateId));
+                if (studentId == candidateId || matches.containsKey(pair)) {
+                    continue;
+                }
+                DuplicateMatcher.Score score = compare(created, i, candidates, c);
+                if (score != null) {
+                    matches.put(pair, score);
+                }
+            }
+        }
+        if (matches.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> involved = matches.keySet().stream().flatMap(List::stream).collect(Collectors.toSet());
+        for (Object[] row : duplicateStudentMatchRepository.findPairsByStudentIds(involved)) {
+            matches.remove(List.of((Long) row[0], (Long) row[1]));
+        }
+
+        List<PendingMatch> pending = new ArrayList<>(matches.size());
+        matches.forEach((pair, score) -> pending.add(new PendingMatch(institutionId, pair.get(0), pair.get(1), score)));
+        return saveMatches(pending);
+    }
+
+    private DuplicateMatcher.Score compare(SignedStudents left, int i, SignedStudents right, int j) {
+        DuplicateMatcher.Score score;
+        if (left == right) {
+            score = matcher.score(left.signatures, i * DuplicateMatcher.SIGNATURE_LENGTH, j * DuplicateMatcher.SIGNATURE_LENGTH,
+                    left.birthDays[i], left.birthDays[j], left.phones[i], left.phones[j], minNameSimilarity);
+        } else {
+            // Copy the right-hand signature next to the left one so the matcher compares within one array
+            int[] pair = new int[2 * DuplicateMatcher.SIGNATURE_LENGTH];
+            System.arraycopy(left.signatures, i * DuplicateMatcher.SIGNATURE_LENGTH, pair, 0, DuplicateMatcher.SIGNATURE_LENGTH);
+            System.arraycopy(right.signatures, j * DuplicateMatcher.SIGNATURE_LENGTH, pair,
+                    DuplicateMatcher.SIGNATURE_LENGTH, DuplicateMatcher.SIGNATURE_LENGTH);
+            score = matcher.score(pair, 0, DuplicateMatcher.SIGNATURE_LENGTH,
+                    left.birthDays[i], right.birthDays[j], left.phones[i], right.phones[j], minNameSimilarity);
+        }
+        return score != null && score.getScore() >= threshold ? score : null;
+    }
+
+    /**
+     * Insert matches, skipping pairs that are already recorded; returns the inserted count
+     * The NOT EXISTS guard only sees committed pairs, so when a concurrent scan or check commits the same
+     * pair first the batch fails on the unique constraint and the matches are inserted one by one instead
+     */
+    private int saveMatches(List<PendingMatch> matches) {
+        if (matches.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return writeTransaction.execute(status -> {
+                int[][] counts = jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, matches, batchSize,
+                        (ps, match) -> bindMatch(ps, match, now));
+                return Arrays.stream(counts).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+            });
+        } catch (DuplicateKeyException e) {
+            logger.info("Duplicate matches recorded concurrently; inserting {} matches one by one", matches.size());
+        }
+
+        int inserted = 0;
+        for (PendingMatch match : matches) {
+            try {
+                inserted += writeTransaction.execute(status -> jdbcTemplate.update(INSERT_MATCH_SQL, ps -> bindMatch(ps, match, now)));
+            } catch (DuplicateKeyException e) {
+                // Recorded by the concurrent scan or check
+            }
+        }
+        return inserted;
+    }
+
+    private void bindMatch(PreparedStatement ps, PendingMatch match, Timestamp now) throws SQLException {
+        ps.setLong(1, match.institutionId);
+        ps.setLong(2, match.studentId);
+        ps.setLong(3, match.matchedStudentId);
+        ps.setDouble(4, round(match.score.getScore()));
+        ps.setDouble(5, round(match.score.getNameSimilarity()));
+        ps.setDouble(6, round(match.score.getDateOfBirthSimilarity()));
+        ps.setObject(7, match.score.getPhoneMatch(), Types.BOOLEAN);
+        ps.setObject(8, match.score.getAddressSimilarity() != null ? round(match.score.getAddressSimilarity()) : null, Types.DOUBLE);
+        ps.setString(9, DuplicateStudentMatch.MatchStatus.OPEN.name());
+        ps.setTimestamp(10, now);
+        ps.setTimestamp(11, now);
+        ps.setLong(12, match.studentId);
+        ps.setLong(13, match.matchedStudentId);
+    }
+
+    /**
+     * Birth dates a mistyped date of birth could have been entered as
+     */
+    private static Set<LocalDate> relatedDates(LocalDate dateOfBirth) {
+        Set<LocalDate> dates = new HashSet<>();
+        dates.add(dateOfBirth);
+        dates.add(dateOfBirth.minusYears(1));
+        dates.add(dateOfBirth.plusYears(1));
+        if (dateOfBirth.getDayOfMonth() <= 12) {
+            dates.add(LocalDate.of(dateOfBirth.getYear(), dateOfBirth.getDayOfMonth(), dateOfBirth.getMonthValue()));
+        }
+        return dates;
+    }
+
+    private Map<Long, Student> loadStudents(List<DuplicateStudentMatch> matches) {
+        Set<Long> ids = new HashSet<>();
+        for (DuplicateStudentMatch match : matches) {
+            ids.add(match.getStudentId());
+            ids.add(match.getMatchedStudentId());
+        }
+        return studentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+    }
+
+    private static long pairKey(int i, int j) {
+        return i < j ? ((long) i << 32) | j : ((long) j << 32) | i;
+    }
+
+    private static long mixPhone(long phone) {
+        long value = phone ^ PHONE_SALT;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10000.0) / 10000.0;
+    }
+
+    private DuplicateMatchResponse mapToMatchResponse(DuplicateStudentMatch match, Map<Long, Student> students) {
+        DuplicateMatchResponse response = new DuplicateMatchResponse();
+        response.setId(match.getId());
+        response.setInstitutionId(match.getInstitutionId());
+        response.setStudentId(match.getStudentId());
+        response.setMatchedStudentId(match.getMatchedStudentId());
+        response.setScore(match.getScore());
+        response.setNameSimilarity(match.getNameSimilarity());
+        response.setDateOfBirthSimilarity(match.getDateOfBirthSimilarity());
+        response.setPhoneMatch(match.getPhoneMatch());
+        response.setAddressSimilarity(match.getAddressSimilarity());
+        response.setStatus(match.getStatus());
+        response.setDetectedDate(match.getDetectedDate());
+        response.setReviewedDate(match.getReviewedDate());
+        response.setReviewedBy(match.getReviewedBy());
+
+        Student student = students.get(match.getStudentId());
+        if (student != null) {
+            response.setStudentNumber(student.getStudentNumber());
+            response.setStudentName(student.getFullName());
+        }
+        Student matched = students.get(match.getMatchedStudentId());
+        if (matched != null) {
+            response.setMatchedStudentNumber(matched.getStudentNumber());
+            response.setMatchedStudentName(matched.getFullName());
+        }
+        return response;
+    }
+
+    /**
+     * Students with their MinHash signatures, birth days and phone keys in flat arrays
+     */
+    private static final class SignedStudents {
+
+        private final DuplicateMatcher matcher;
+        private long[] ids = new long[1024];
+        private int[] birthDays = new int[1024];
+        private long[] phones = new long[1024];
+        private int[] signatures = new int[1024 * DuplicateMatcher.SIGNATURE_LENGTH];
+        private int size;
+
+        private SignedStudents(DuplicateMatcher matcher) {
+            this.matcher = matcher;
+        }
+
+        /**
+         * Add a row of [id, firstName, middleName, lastName, dateOfBirth, phoneNumber, address, city, ...]
+         */
+        private void add(Object[] row) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                birthDays = Arrays.copyOf(birthDays, capacity);
+                phones = Arrays.copyOf(phones, capacity);
+                signatures = Arrays.copyOf(signatures, capacity * DuplicateMatcher.SIGNATURE_LENGTH);
+            }
+            ids[size] = (Long) row[0];
+            birthDays[size] = (int) ((LocalDate) row[4]).toEpochDay();
+            phones[size] = DuplicateMatcher.phoneKey((String) row[5]);
+            matcher.sign((String) row[1], (String) row[2], (String) row[3], (String) row[6], (String) row[7],
+                    signatures, size * DuplicateMatcher.SIGNATURE_LENGTH);
+            size++;
+        }
+    }
+
+    private static final class PendingMatch {
+
+        private final Long institutionId;
+        private final Long studentId;
+        private final Long matchedStudentId;
+        private final DuplicateMatcher.Score score;
+
+        private PendingMatch(Long institutionId, Long studentId, Long matchedStudentId, DuplicateMatcher.Score score) {
+            this.institutionId = institutionId;
+            this.studentId = studentId;
+            this.matchedStudentId = matchedStudentId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.student_management.dto.GpaHistogramResponse;
+import com.educationerp.student_management.dto.GpaRankResponse;
+import com.educationerp.student_management.dto.GpaRankResponse.Scope;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service class for GPA rankings
+ * Keeps an in-memory order-statistics index per institution, program and grade level:
+ * a Fenwick tree of student counts over 0.01-wide GPA buckets, updated as GPAs change
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class GpaRankingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GpaRankingService.class);
+
+    private static final int BUCKETS_PER_POINT = 100;
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final int MAX_TOP_LIMIT = 1000;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.gpa-ranking.max-gpa:4.0}")
+    private double maxGpa;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, CohortIndex> cohorts = new HashMap<>();
+    private Map<Long, RankedStudent> students = new HashMap<>();
+    private Set<Long> changedDuringRebuild;
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicInteger refreshesInFlight = new AtomicInteger();
+    private final Map<Long, Long> refreshedByLoad = new HashMap<>();
+    private long builtFromLoad;
+    private TransactionTemplate readOnlyTransaction;
+    private int maxBucket;
+
+    @PostConstruct
+    void initialize() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        maxBucket = (int) Math.round(maxGpa * BUCKETS_PER_POINT);
+    }
+
+    /**
+     * Build the index once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the whole index from the database; changes committed meanwhile are replayed afterwards
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        long load;
+        lock.writeLock().lock();
+        try {
+            load = loads.incrementAndGet();
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, CohortIndex> builtCohorts = new HashMap<>();
+        Map<Long, RankedStudent> builtStudents = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = studentRepository.streamGpaRankingRows()) {
+                rows.forEach(row -> {
+                    RankedStudent student = toRankedStudent(row);
+                    builtStudents.put(student.studentId, student);
+                    forEachCohort(builtCohorts, student, true, cohort -> cohort.add(student.bucket, student.studentId));
+                });
+            }
+        });
+
+        Set<Long> replay;
+        lock.writeLock().lock();
+        try {
+            // A rebuild that started before the current index was built is discarded
+            if (load < builtFromLoad) {
+                logger.info("GPA ranking rebuild superseded by a newer one; discarded");
+                return;
+            }
+            cohorts = builtCohorts;
+            students = builtStudents;
+            builtFromLoad = load;
+            replay = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (replay != null && !replay.isEmpty()) {
+            refresh(replay);
+        }
+
+        logger.info("GPA ranking index built: {} students in {} cohorts, {} ms",
+                builtStudents.size(), builtCohorts.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Apply committed student changes to the index
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        refresh(event.getStudentIds());
+    }
+
+    /**
+     * Get a student's rank and percentile within a cohort
+     */
+    public GpaRankResponse getStudentRank(Long studentId, Scope scope) {
+        lock.readLock().lock();
+        try {
+            RankedStudent student = students.get(studentId);
+            if (student == null) {
+                throw new ResourceNotFoundException("No ranked GPA found for student with ID: " + studentId);
+            }
+            String scopeValue = scopeValue(student, scope);
+            CohortIndex cohort = cohorts.get(cohortKey(student.institutionId, scope, scopeValue));
+            if (cohort == null) {
+                throw new BusinessException("Student with ID " + studentId + " has no " + scope.name().toLowerCase(Locale.ROOT));
+            }
+            return toRankResponse(student, scope, scopeValue, cohort);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the top students of a cohort, highest GPA first
+     */
+    public List<GpaRankResponse> getTopStudents(Long institutionId, Scope scope, String scopeValue, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_TOP_LIMIT);
+        lock.readLock().lock();
+        try {
+            CohortIndex cohort = cohorts.get(cohortKey(institutionId, scope, requireScopeValue(scope, scopeValue)));
+            List<GpaRankResponse> top = new ArrayList<>(size);
+            if (cohort == null) {
+                return top;
+            }
+            for (int bucket = maxBucket; bucket >= 0 && top.size() < size; bucket--) {
+                TreeSet<Long> members = cohort.members.get(bucket);
+                if (members == null) {
+                    continue;
+                }
+                for (Long studentId : members) {
+                    if (top.size() == size) {
+                        break;
+                    }
+                    top.add(toRankResponse(students.get(studentId), scope, scopeValue, cohort));
+                }
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count students of a cohort with a GPA in the given range
+     */
+    public int countStudents(Long institutionId, Scope scope, String scopeValue, Double minGpa, Double maxGpaValue) {
+        lock.readLock().lock();
+        try {
+            CohortIndex cohort = cohorts.get(cohortKey(institutionId, scope, requireScopeValue(scope, scopeValue)));
+            if (cohort == null) {
+                return 0;
+            }
+            int from = minGpa != null ? (int) Math.ceil(minGpa * BUCKETS_PER_POINT - 1e-9) : 0;
+            int to = maxGpaValue != null ? (int) Math.floor(maxGpaValue * BUCKETS_PER_POINT + 1e-9) : maxBucket;
+            return cohort.countBetween(Math.max(from, 0), Math.min(to, maxBucket));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the GPA distribution of a cohort in buckets of the given width
+     */
+    public GpaHistogramResponse getHistogram(Long institutionId, Scope scope, String scopeValue, double bucketWidth) {
+        int step = Math.max(1, (int) Math.round(bucketWidth * BUCKETS_PER_POINT));
+        GpaHistogramResponse response = new GpaHistogramResponse();
+        response.setInstitutionId(institutionId);
+        response.setScope(scope);
+        response.setScopeValue(scopeValue);
+
+        lock.readLock().lock();
+        try {
+            CohortIndex cohort = cohorts.get(cohortKey(institutionId, scope, requireScopeValue(scope, scopeValue)));
+            List<GpaHistogramResponse.Bucket> buckets = new ArrayList<>();
+            for (int from = 0; from <= maxBucket; from += step) {
+                int to = Math.min(from + step - 1, maxBucket);
+                int count = cohort != null ? cohort.countBetween(from, to) : 0;
+                buckets.add(new GpaHistogramResponse.Bucket(toGpa(from), toGpa(to), count));
+            }
+            response.setCohortSize(cohort != null ? cohort.size : 0);
+            response.setBuckets(buckets);
+            return response;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reload students and apply them to the index
+     * Rows are loaded outside the lock, so every load is numbered and a student is only replaced by a load
+     * newer than the one the index already holds for that student
+     */
+    private void refresh(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        refreshesInFlight.incrementAndGet();
+        long load = loads.incrementAndGet();
+        Map<Long, RankedStudent> loaded = new HashMap<>();
+        try {
+            for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+                for (Object[] row : studentRepository.findGpaRankingRowsByIds(ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size())))) {
+                    RankedStudent student = toRankedStudent(row);
+                    loaded.put(student.studentId, student);
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                finishRefresh();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(ids);
+            }
+            for (Long studentId : ids) {
+                Long applied = refreshedByLoad.get(studentId);
+                if (load < builtFromLoad || (applied != null && applied > load)) {
+                    continue;
+                }
+                refreshedByLoad.put(studentId, load);
+                RankedStudent previous = students.remove(studentId);
+                if (previous != null) {
+                    forEachCohort(cohorts, previous, false, cohort -> cohort.remove(previous.bucket, studentId));
+                }
+                RankedStudent current = loaded.get(studentId);
+                if (current != null) {
+                    students.put(studentId, current);
+                    forEachCohort(cohorts, current, true, cohort -> cohort.add(current.bucket, studentId));
+                }
+            }
+        } finally {
+            finishRefresh();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forget the loads applied per student once no refresh is in flight; called under the write lock
+     */
+    private void finishRefresh() {
+        if (refreshesInFlight.decrementAndGet() == 0) {
+            refreshedByLoad.clear();
+        }
+    }
+
+    private void forEachCohort(Map<String, CohortIndex> target, RankedStudent student, boolean create,
+                               Consumer<CohortIndex> action) {
+        for (Scope scope : Scope.values()) {
+            String scopeValue = scopeValue(student, scope);
+            if (scope != Scope.INSTITUTION && scopeValue == null) {
+                continue;
+            }
+            String key = cohortKey(student.institutionId, scope, scopeValue);
+            CohortIndex cohort = create ? target.computeIfAbsent(key, k -> new CohortIndex(maxBucket)) : target.get(key);
+            if (cohort != null) {
+                action.accept(cohort);
+                if (cohort.size == 0) {
+                    target.remove(key);
+                }
+            }
+        }
+    }
+
+    private GpaRankResponse toRankResponse(RankedStudent student, Scope scope, String scopeValue, CohortIndex cohort) {
+        int below = cohort.countBetween(0, student.bucket - 1);
+        int equal = cohort.countBetween(student.bucket, student.bucket);
+        int above = cohort.size - below - equal;
+
+        GpaRankResponse response = new GpaRankResponse();
+        response.setStudentId(student.studentId);
+        response.setInstitutionId(student.institutionId);
+        response.setScope(scope);
+        response.setScopeValue(scopeValue);
+        response.setGpa(student.gpa);
+        response.setRank(above + 1);
+        response.setCohortSize(cohort.size);
+        response.setPercentile(Math.round((below + equal / 2.0) * 10000.0 / cohort.size) / 100.0);
+        return response;
+    }
+
+    private RankedStudent toRankedStudent(Object[] row) {
+        double gpa = ((Number) row[4]).doubleValue();
+        int bucket = (int) Math.min(Math.max(Math.round(gpa * BUCKETS_PER_POINT), 0), maxBucket);
+        return new RankedStudent((Long) row[0], (Long) row[1], normalize((String) row[2]), normalize((String) row[3]), gpa, bucket);
+    }
+
+    private String scopeValue(RankedStudent student, Scope scope) {
+        return switch (scope) {
+            case INSTITUTION -> null;
+            case PROGRAM -> student.program;
+            case GRADE_LEVEL -> student.gradeLevel;
+        };
+    }
+
+    private String requireScopeValue(Scope scope, String scopeValue) {
+        if (scope != Scope.INSTITUTION && (scopeValue == null || scopeValue.isBlank())) {
+            throw new BusinessException("A value is required for scope " + scope);
+        }
+        return normalize(scopeValue);
+    }
+
+    private String cohortKey(Long institutionId, Scope scope, String scopeValue) {
+        return institutionId + "|" + scope + "|" + (scopeValue != null ? scopeValue.toLowerCase(Locale.ROOT) : "");
+    }
+
+    private double toGpa(int bucket) {
+        return bucket / (double) BUCKETS_PER_POINT;
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * Indexed GPA of one student
+     */
+    private static final class RankedStudent {
+        final Long studentId;
+        final Long institutionId;
+        final String program;
+        final String gradeLevel;
+        final double gpa;
+        final int bucket;
+
+        RankedStudent(Long studentId, Long institutionId, String program, String gradeLevel, double gpa, int bucket) {
+            this.studentId = studentId;
+            this.institutionId = institutionId;
+            this.program = program;
+            this.gradeLevel = gradeLevel;
+            this.gpa = gpa;
+            this.bucket = bucket;
+        }
+    }
+
+    /**
+     * Fenwick tree of student counts per GPA bucket with the students of each bucket
+     */
+    private static final class CohortIndex {
+        final int[] tree;
+        final List<TreeSet<Long>> members;
+        int size;
+
+        CohortIndex(int maxBucket) {
+            this.tree = new int[maxBucket + 2];
+            this.members = new ArrayList<>(Collections.nCopies(maxBucket + 1, null));
+        }
+
+        void add(int bucket, Long studentId) {
+            if (members.get(bucket) == null) {
+                members.set(bucket, new TreeSet<>());
+            }
+            if (members.get(bucket).add(studentId)) {
+                update(bucket, 1);
+                size++;
+            }
+        }
+
+        void remove(int bucket, Long studentId) {
+            if (members.get(bucket) != null && members.get(bucket).remove(studentId)) {
+                update(bucket, -1);
+                size--;
+                if (members.get(bucket).isEmpty()) {
+                    members.set(bucket, null);
+                }
+            }
+        }
+
+        int countBetween(int fromBucket, int toBucket) {
+            if (toBucket < fromBucket) {
+                return 0;
+            }
+            return prefix(toBucket) - prefix(fromBucket - 1);
+        }
+
+        private void update(int bucket, int delta) {
+            for (int i = bucket + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private int prefix(int bucket) {
+            int sum = 0;
+            for (int i = Math.min(bucket + 1, tree.length - 1); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.repository.CourseRepository;
+import com.educationerp.student_management.dto.GpaVerificationResponse;
+import com.educationerp.student_management.dto.RosterGradeSubmissionRequest;
+import com.educationerp.student_management.dto.RosterGradeSubmissionResponse;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.event.EnrollmentChangedEvent;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Service class for gradebook operations
+ * Writes roster grades in JDBC batches and keeps each student's GPA current through
+ * running sums of credit-weighted grade points instead of re-reading every enrollment
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class GradebookService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GradebookService.class);
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final double GPA_SCALE = 4.0;
+    private static final double SUM_TOLERANCE = 0.0001;
+
+    private static final String LOCK_ROSTER_SQL =
+            "SELECT id FROM enrollments WHERE course_id = ? AND is_active = true ORDER BY id FOR UPDATE";
+
+    private static final String UPDATE_ENROLLMENT_GRADE_SQL =
+            "UPDATE enrollments SET grade = ?, status = ?, completion_date = COALESCE(?, completion_date), " +
+            "updated_date = ? WHERE id = ? AND grade IS NOT DISTINCT FROM ?";
+
+    private static final String INCREMENT_GPA_SUMS_SQL =
+            "UPDATE students SET gpa_weighted_sum = gpa_weighted_sum + ?, gpa_credits = gpa_credits + ?, " +
+            "gpa = CASE WHEN gpa_credits + ? > 0 THEN (gpa_weighted_sum + ?) / (gpa_credits + ?) ELSE NULL END, " +
+            "updated_date = ? WHERE id = ? AND gpa_credits IS NOT NULL";
+
+    private static final String SET_GPA_SUMS_SQL =
+            "UPDATE students SET gpa_weighted_sum = ?, gpa_credits = ?, gpa = ?, updated_date = ? WHERE id = ?";
+
+    private static final String CORRECT_GPA_SUMS_SQL = SET_GPA_SUMS_SQL +
+            " AND gpa_credits IS NOT DISTINCT FROM ? AND gpa_weighted_sum IS NOT DISTINCT FROM ?";
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${education.erp.gradebook.grade-scale-max:100.0}")
+    private double gradeScaleMax;
+
+    @Value("${education.erp.degree-audit.passing-grade:50.0}")
+    private double passingGrade;
+
+    @Value("${education.erp.gradebook.batch-size:500}")
+    private int batchSize;
+
+    @Value("${education.erp.gradebook.verification-partition-size:2000}")
+    private int verificationPartitionSize;
+
+    @Value("${education.erp.gradebook.verification-parallelism:4}")
+    private int verificationParallelism;
+
+    private TransactionTemplate partitionTransaction;
+    private ForkJoinPool verificationPool;
+
+    @PostConstruct
+    void initialize() {
+        partitionTransaction = new TransactionTemplate(transactionManager);
+        verificationPool = new ForkJoinPool(verificationParallelism > 0
+                ? verificationParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        verificationPool.shutdownNow();
+    }
+
+    /**
+     * Submit grades for a course roster and update affected students' GPAs incrementally
+     */
+    public RosterGradeSubmissionResponse submitRosterGrades(Long courseId, RosterGradeSubmissionRequest request) {
+        long started = System.currentTimeMillis();
+        logger.info("Submitting {} grades for course: {}", request.getGrades().size(), courseId);
+
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+        }
+
+        Map<Long, Double> grades = new LinkedHashMap<>();
+        for (RosterGradeSubmissionRequest.GradeEntry entry : request.getGrades()) {
+            if (entry.getGrade() > gradeScaleMax) {
+                throw new BusinessException("Grade must not exceed " + gradeScaleMax + " for student ID: " + entry.getStudentId());
+            }
+            grades.put(entry.getStudentId(), entry.getGrade());
+        }
+
+        boolean complete = Boolean.TRUE.equals(request.getComplete());
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        Map<Long, double[]> deltas = new HashMap<>();
+        List<Long> withdrawn = new ArrayList<>();
+        Set<Long> enrolled = new HashSet<>();
+        Set<Long> changedStudents = new HashSet<>();
+        int updated = 0;
+        int unchanged = 0;
+
+        // The roster is locked in ID order, as attendance does, so concurrent submissions for the same course
+        // read each old grade only after the previous submission committed and cannot deadlock
+        jdbcTemplate.queryForList(LOCK_ROSTER_SQL, Long.class, courseId);
+
+        List<GradeUpdate> updates = new ArrayList<>();
+        List<Long> studentIds = new ArrayList<>(grades.keySet());
+        for (int from = 0; from < studentIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = studentIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, studentIds.size()));
+            for (Object[] row : enrollmentRepository.findGradeRowsByCourseIdAndStudentIds(courseId, chunk)) {
+                Long enrollmentId = (Long) row[0];
+                Long studentId = (Long) row[1];
+                Enrollment.EnrollmentStatus status = (Enrollment.EnrollmentStatus) row[2];
+                Double oldGrade = (Double) row[3];
+                int credits = row[4] != null ? ((Number) row[4]).intValue() : 0;
+                enrolled.add(studentId);
+
+                if (status == Enrollment.EnrollmentStatus.WITHDRAWN) {
+                    withdrawn.add(studentId);
+                    continue;
+                }
+
+                double newGrade = grades.get(studentId);
+                Enrollment.EnrollmentStatus newStatus = complete
+                        ? (newGrade >= passingGrade ? Enrollment.EnrollmentStatus.COMPLETED : Enrollment.EnrollmentStatus.FAILED)
+                        : status;
+                if (oldGrade != null && oldGrade == newGrade && newStatus == status) {
+                    unchanged++;
+                    continue;
+                }
+
+                GradeUpdate update = new GradeUpdate(studentId, enrollmentId, oldGrade, newGrade, newStatus);
+                if (credits > 0) {
+                    update.pointsDelta = credits * gradePoints(newGrade) - (oldGrade != null ? credits * gradePoints(oldGrade) : 0.0);
+                    update.creditsDelta = oldGrade != null ? 0 : credits;
+                }
+                updates.add(update);
+            }
+        }
+
+        // Each update only applies to the grade it was computed from, so a GPA delta is never applied
+        // on top of a grade written by someone else
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_ENROLLMENT_GRADE_SQL, updates, batchSize, (ps, update) -> {
+            ps.setDouble(1, update.newGrade);
+            ps.setString(2, update.newStatus.name());
+            ps.setObject(3, complete ? Date.valueOf(today) : null, Types.DATE);
+            ps.setTimestamp(4, now);
+            ps.setLong(5, update.enrollmentId);
+            ps.setObject(6, update.oldGrade, Types.DOUBLE);
+        });
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                GradeUpdate update = updates.get(index++);
+                if (count != 1) {
+                    logger.warn("Grade of student {} in course {} changed while submitting; skipped", update.studentId, courseId);
+                    continue;
+                }
+                updated++;
+                changedStudents.add(update.studentId);
+                if (update.pointsDelta != 0.0 || update.creditsDelta != 0) {
+                    double[] delta = deltas.computeIfAbsent(update.studentId, id -> new double[2]);
+                    delta[0] += update.pointsDelta;
+                    delta[1] += update.creditsDelta;
+                }
+            }
+        }
+
+        applyGpaDeltas(deltas, now);
+
+        // Bulk JDBC writes bypass the enrollment and student entity listeners
+        changedStudents.forEach(studentId -> eventPublisher.publishEvent(new EnrollmentChangedEvent(studentId, courseId)));
+        if (!deltas.isEmpty()) {
+            eventPublisher.publishEvent(new StudentChangedEvent(deltas.keySet()));
+        }
+
+        RosterGradeSubmissionResponse response = new RosterGradeSubmissionResponse();
+        response.setCourseId(courseId);
+        response.setSubmitted(grades.size());
+        response.setUpdated(updated);
+        response.setUnchanged(unchanged);
+        response.setAffectedStudents(deltas.size());
+        response.setNotEnrolledStudentIds(studentIds.stream().filter(id -> !enrolled.contains(id)).toList());
+        response.setWithdrawnStudentIds(withdrawn);
+        response.setElapsedMillis(System.currentTimeMillis() - started);
+
+        logger.info("Roster grades for course {} applied: {} updated, {} unchanged, {} students affected",
+                courseId, updated, unchanged, deltas.size());
+        return response;
+    }
+
+    /**
+     * Nightly full GPA recompute that verifies and repairs the running sums
+     */
+    @Scheduled(cron = "${education.erp.gradebook.verification-cron:0 30 2 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledGpaVerification() {
+        verifyAllGpas();
+    }
+
+    /**
+     * Recompute every active student's GPA from enrollments in parallel partitions and repair drifted sums
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GpaVerificationResponse verifyAllGpas() {
+        long started = System.currentTimeMillis();
+        List<Long> ids = studentRepository.findActiveIds();
+
+        List<long[]> partitions = new ArrayList<>();
+        int partitionSize = Math.max(1, verificationPartitionSize);
+        for (int from = 0; from < ids.size(); from += partitionSize) {
+            int to = Math.min(from + partitionSize, ids.size()) - 1;
+            partitions.add(new long[]{ids.get(from), ids.get(to)});
+        }
+
+        int corrected;
+        try {
+            corrected = verificationPool.submit(() -> partitions.parallelStream()
+                    .mapToInt(range -> verifyPartition(range[0], range[1]))
+                    .sum()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("GPA verification was interrupted");
+        } catch (ExecutionException e) {
+            throw new BusinessException("GPA verification failed: " + e.getCause().getMessage());
+        }
+
+        GpaVerificationResponse response = new GpaVerificationResponse();
+        response.setCheckedStudents(ids.size());
+        response.setPartitions(partitions.size());
+        response.setCorrectedStudents(corrected);
+        response.setElapsedMillis(System.currentTimeMillis() - started);
+        response.setVerifiedAt(LocalDateTime.now());
+
+        if (corrected > 0) {
+            logger.warn("GPA verification corrected {} of {} students", corrected, ids.size());
+        } else {
+            logger.info("GPA verification checked {} students in {} ms", ids.size(), response.getElapsedMillis());
+        }
+        return response;
+    }
+
+    private void applyGpaDeltas(Map<Long, double[]> deltas, Timestamp now) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // Students whose sums were never initialized are recomputed once from their enrollments
+        Set<Long> uninitialized = new HashSet<>();
+        List<Long> studentIds = new ArrayList<>(deltas.keySet());
+        for (int from = 0; from < studentIds.size(); from += QUERY_CHUNK_SIZE) {
+            uninitialized.addAll(studentRepository.findIdsWithoutGpaSums(
+                    studentIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, studentIds.size()))));
+        }
+
+        List<Map.Entry<Long, double[]>> increments = deltas.entrySet().stream()
+                .filter(entry -> !uninitialized.contains(entry.getKey()))
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        jdbcTemplate.batchUpdate(INCREMENT_GPA_SUMS_SQL, increments, batchSize, (ps, entry) -> {
+            double[] delta = entry.getValue();
+            ps.setDouble(1, delta[0]);
+            ps.setInt(2, (int) delta[1]);
+            ps.setInt(3, (int) delta[1]);
+            ps.setDouble(4, delta[0]);
+            ps.setInt(5, (int) delta[1]);
+            ps.setTimestamp(6, now);
+            ps.setLong(7, entry.getKey());
+        });
+
+        if (!uninitialized.isEmpty()) {
+            recomputeStudents(uninitialized, now);
+        }
+    }
+
+    private void recomputeStudents(Collection<Long> studentIds, Timestamp now) {
+        Map<Long, double[]> sums = new HashMap<>();
+        List<Long> ids = new ArrayList<>(studentIds);
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            for (Object[] row : enrollmentRepository.sumWeightedGradesByStudentIds(chunk, Enrollment.EnrollmentStatus.WITHDRAWN)) {
+                sums.put((Long) row[0], new double[]{weightedPoints(row[1]), ((Number) row[2]).doubleValue()});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(SET_GPA_SUMS_SQL, ids, batchSize, (ps, studentId) -> {
+            double[] sum = sums.getOrDefault(studentId, new double[2]);
+            setGpaSums(ps, sum[0], (int) sum[1], now, studentId);
+        });
+    }
+
+    private int verifyPartition(long fromId, long toId) {
+        Integer corrected = partitionTransaction.execute(status -> {
+            // Stored sums are read first so a concurrent submission makes the guarded correction a no-op
+            List<Object[]> stored = studentRepository.findGpaSumsByIdRange(fromId, toId);
+            Map<Long, double[]> actual = new HashMap<>();
+            for (Object[] row : enrollmentRepository.sumWeightedGradesByStudentIdRange(fromId, toId,
+                    Enrollment.EnrollmentStatus.WITHDRAWN)) {
+                actual.put((Long) row[0], new double[]{weightedPoints(row[1]), ((Number) row[2]).doubleValue()});
+            }
+
+            List<Object[]> corrections = new ArrayList<>();
+            for (Object[] row : stored) {
+                Long studentId = (Long) row[0];
+                Double storedSum = (Double) row[1];
+                Integer storedCredits = (Integer) row[2];
+                double[] sum = actual.getOrDefault(studentId, new double[2]);
+                int credits = (int) sum[1];
+
+                if (storedCredits == null && credits == 0) {
+                    continue;
+                }
+                if (storedCredits != null && storedCredits == credits && storedSum != null
+                        && Math.abs(storedSum - sum[0]) <= SUM_TOLERANCE) {
+                    continue;
+                }
+                corrections.add(new Object[]{studentId, sum[0], credits, storedCredits, storedSum});
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int[][] counts = jdbcTemplate.batchUpdate(CORRECT_GPA_SUMS_SQL, corrections, batchSize, (ps, correction) -> {
+                setGpaSums(ps, (Double) correction[1], (Integer) correction[2], now, (Long) correction[0]);
+                ps.setObject(6, correction[3], Types.INTEGER);
+                ps.setObject(7, correction[4], Types.DOUBLE);
+            });
+            List<Long> applied = new ArrayList<>();
+            int index = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    if (count != 0) {
+                        applied.add((Long) corrections.get(index)[0]);
+                    }
+                    index++;
+                }
+            }
+            if (!applied.isEmpty()) {
+                eventPublisher.publishEvent(new StudentChangedEvent(applied));
+            }
+            return applied.size();
+        });
+        return corrected != null ? corrected : 0;
+    }
+
+    private void setGpaSums(PreparedStatement ps, double weightedSum, int credits, Timestamp now, Long studentId)
+            throws SQLException {
+        ps.setDouble(1, weightedSum);
+        ps.setInt(2, credits);
+        if (credits > 0) {
+            ps.setDouble(3, weightedSum / credits);
+        } else {
+            ps.setNull(3, Types.DOUBLE);
+        }
+        ps.setTimestamp(4, now);
+        ps.setLong(5, studentId);
+    }
+
+    private double gradePoints(double grade) {
+        return grade * GPA_SCALE / gradeScaleMax;
+    }
+
+    private double weightedPoints(Object creditWeightedGrades) {
+        return creditWeightedGrades != null ? gradePoints(((Number) creditWeightedGrades).doubleValue()) : 0.0;
+    }
+
+    /**
+     * Grade write of one enrollment with the GPA sums it moves once applied
+     */
+    private static final class GradeUpdate {
+        final Long studentId;
+        final Long enrollmentId;
+        final Double oldGrade;
+        final double newGrade;
+        final Enrollment.EnrollmentStatus newStatus;
+        double pointsDelta;
+        int creditsDelta;
+
+        GradeUpdate(Long studentId, Long enrollmentId, Double oldGrade, double newGrade,
+                    Enrollment.EnrollmentStatus newStatus) {
+            this.studentId = studentId;
+            this.enrollmentId = enrollmentId;
+            this.oldGrade = oldGrade;
+            this.newGrade = newGrade;
+            this.newStatus = newStatus;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.notification.repository.NotificationRepository;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.educationerp.security.enums.Role;
+import com.educationerp.student_management.dto.ParentDashboardResponse;
+import com.educationerp.student_management.dto.ParentLinkRequest;
+import com.educationerp.student_management.dto.ParentLinkResponse;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.entity.ParentStudentLink;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.educationerp.student_management.repository.ParentStudentLinkRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import com.educationerp.user_management.entity.User;
+import com.educationerp.user_management.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service class for the parent portal
+ * A dashboard covers every linked child with a fixed number of set-based queries however many children
+ * there are. Concurrent requests of one family share a single load, and the result is cached for a few
+ * seconds, so parents logging in together after a reminder blast do not multiply the database work.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class ParentPortalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParentPortalService.class);
+
+    private static final String STUDENT_RECIPIENT_TYPE = "STUDENT";
+    private static final String PARENT_RECIPIENT_TYPE = "PARENT";
+    private static final List<Payment.PaymentStatus> OPEN_PAYMENT_STATUSES =
+            List.of(Payment.PaymentStatus.PENDING, Payment.PaymentStatus.PARTIAL);
+
+    @Autowired
+    private ParentStudentLinkRepository parentStudentLinkRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Value("${education.erp.parent-portal.cache-ttl-ms:5000}")
+    private long cacheTtlMillis;
+
+    @Value("${education.erp.parent-portal.max-cached-families:50000}")
+    private int maxCachedFamilies;
+
+    private final Map<Long, CachedDashboard> dashboards = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<ParentDashboardResponse>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Get the dashboard of a parent, sharing concurrent loads and serving recent results from the cache
+     */
+    public ParentDashboardResponse getDashboard(Long parentUserId) {
+        CachedDashboard cached = dashboards.get(parentUserId);
+        if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+            return cached.dashboard;
+        }
+
+        CompletableFuture<ParentDashboardResponse> load = new CompletableFuture<>();
+        CompletableFuture<ParentDashboardResponse> running = loading.putIfAbsent(parentUserId, load);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            ParentDashboardResponse dashboard = loadDashboard(parentUserId);
+            cache(parentUserId, dashboard);
+            load.complete(dashboard);
+            return dashboard;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(parentUserId, load);
+        }
+    }
+
+    /**
+     * Link a child to a parent, reactivating an earlier link
+     */
+    @Transactional
+    public ParentLinkResponse linkStudent(Long parentUserId, ParentLinkRequest request) {
+        logger.info("Linking student {} to parent {}", request.getStudentId(), parentUserId);
+
+        findParent(parentUserId);
+        if (!studentRepository.existsById(request.getStudentId())) {
+            throw new ResourceNotFoundException("Student not found with ID: " + request.getStudentId());
+        }
+
+        ParentStudentLink link = parentStudentLinkRepository.findByParentUserIdAndStudentId(parentUserId, request.getStudentId())
+                .orElseGet(() -> new ParentStudentLink(parentUserId, request.getStudentId(), null));
+        link.setRelationship(request.getRelationship());
+        link.setIsActive(true);
+        link = parentStudentLinkRepository.save(link);
+
+        dashboards.remove(parentUserId);
+        return mapToLinkResponse(link);
+    }
+
+    /**
+     * Remove a child from a parent
+     */
+    @Transactional
+    public void unlinkStudent(Long parentUserId, Long studentId) {
+        logger.info("Unlinking student {} from parent {}", studentId, parentUserId);
+
+        ParentStudentLink link = parentStudentLinkRepository.findByParentUserIdAndStudentId(parentUserId, studentId)
+                .filter(ParentStudentLink::getIsActive)
+                .orElseThrow(() -> new ResourceNotFoundException("Parent link not found for student ID: " + studentId));
+        link.setIsActive(false);
+        parentStudentLinkRepository.save(link);
+
+        dashboards.remove(parentUserId);
+    }
+
+    /**
+     * Get the children linked to a parent
+     */
+    @Transactional(readOnly = true)
+    public List<ParentLinkResponse> getLinks(Long parentUserId) {
+        findParent(parentUserId);
+        return parentStudentLinkRepository.findByParentUserIdAndIsActiveTrue(parentUserId).stream()
+                .map(this::mapToLinkResponse)
+                .toList();
+    }
+
+    /**
+     * Check whether a student is linked to a parent; used by method security expressions
+     */
+    @Transactional(readOnly = true)
+    public boolean isLinked(Long parentUserId, Long studentId) {
+        return parentStudentLinkRepository.findByParentUserIdAndStudentId(parentUserId, studentId)
+                .map(ParentStudentLink::getIsActive)
+                .orElse(false);
+    }
+
+    private ParentDashboardResponse loadDashboard(Long parentUserId) {
+        findParent(parentUserId);
+
+        Map<Long, ParentDashboardResponse.ChildSummary> children = new LinkedHashMap<>();
+        for (Object[] row : parentStudentLinkRepository.findChildRowsByParentUserId(parentUserId)) {
+            children.put((Long) row[0], mapToChildSummary(row));
+        }
+
+        BigDecimal totalOutstanding = BigDecimal.ZERO;
+        BigDecimal totalOverdue = BigDecimal.ZERO;
+        if (!children.isEmpty()) {
+            List<Long> studentIds = new ArrayList<>(children.keySet());
+
+            Map<Long, List<ParentDashboardResponse.EnrollmentSummary>> enrollments = new HashMap<>();
+            for (Object[] row : enrollmentRepository.findEnrollmentSummaryRowsByStudentIds(studentIds)) {
+                enrollments.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(mapToEnrollmentSummary(row));
+            }
+            for (Object[] row : paymentRepository.sumOpenBalancesByStudentIds(studentIds, OPEN_PAYMENT_STATUSES, LocalDate.now())) {
+                ParentDashboardResponse.ChildSummary child = children.get((Long) row[0]);
+                child.setOutstandingAmount(toAmount(row[1]));
+                child.setOverdueAmount(toAmount(row[2]));
+                child.setNextDueDate((LocalDate) row[3]);
+            }
+            for (Object[] row : notificationRepository.countUnreadByRecipientIds(studentIds, STUDENT_RECIPIENT_TYPE)) {
+                children.get((Long) row[0]).setUnreadNotifications((Long) row[1]);
+            }
+
+            for (ParentDashboardResponse.ChildSummary child : children.values()) {
+                List<ParentDashboardResponse.EnrollmentSummary> childEnrollments = enrollments.getOrDefault(child.getStudentId(), List.of());
+                child.setEnrollments(List.copyOf(childEnrollments));
+                child.setAverageGrade(averageGrade(childEnrollments));
+                totalOutstanding = totalOutstanding.add(child.getOutstandingAmount());
+                totalOverdue = totalOverdue.add(child.getOverdueAmount());
+            }
+        }
+
+        ParentDashboardResponse dashboard = new ParentDashboardResponse();
+        dashboard.setParentUserId(parentUserId);
+        dashboard.setChildren(List.copyOf(children.values()));
+        dashboard.setTotalOutstanding(totalOutstanding);
+        dashboard.setTotalOverdue(totalOverdue);
+        dashboard.setUnreadNotifications(notificationRepository
+                .countByRecipientIdAndRecipientTypeAndIsReadFalseAndIsActiveTrue(parentUserId, PARENT_RECIPIENT_TYPE));
+        dashboard.setGeneratedAt(LocalDateTime.now());
+        return dashboard;
+    }
+
+    private void cache(Long parentUserId, ParentDashboardResponse dashboard) {
+        long now = System.nanoTime();
+        if (dashboards.size() >= maxCachedFamilies) {
+            dashboards.values().removeIf(entry -> entry.expiresAt - now <= 0);
+            if (dashboards.size() >= maxCachedFamilies) {
+                // Only reached when more families than the limit log in within one TTL
+                dashboards.clear();
+            }
+        }
+        dashboards.put(parentUserId, new CachedDashboard(dashboard, now + TimeUnit.MILLISECONDS.toNanos(cacheTtlMillis)));
+    }
+
+    private User findParent(Long parentUserId) {
+        User user = userRepository.findById(parentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + parentUserId));
+        if (user.getRole() != Role.PARENT) {
+            throw new BusinessException("User with ID " + parentUserId + " is not a parent");
+        }
+        return user;
+    }
+
+    private Double averageGrade(List<ParentDashboardResponse.EnrollmentSummary> enrollments) {
+        double sum = 0;
+        int graded = 0;
+        for (ParentDashboardResponse.EnrollmentSummary enrollment : enrollments) {
+            if (enrollment.getGrade() != null && enrollment.getStatus() != Enrollment.EnrollmentStatus.WITHDRAWN) {
+                sum += enrollment.getGrade();
+                graded++;
+            }
+        }
+        return graded > 0 ? Math.round(sum / graded * 100.0) / 100.0 : null;
+    }
+
+    private static BigDecimal toAmount(Object value) {
+        return value != null ? (BigDecimal) value : BigDecimal.ZERO;
+    }
+
+    private ParentDashboardResponse.ChildSummary mapToChildSummary(Object[] row) {
+        String firstName = (String) row[3];
+        String middleName = (String) row[4];
+        StringBuilder fullName = new StringBuilder(firstName);
+        if (middleName != null && !middleName.trim().isEmpty()) {
+            fullName.append(" ").append(middleName);
+        }
+        fullName.append(" ").append((String) row[5]);
+
+        ParentDashboardResponse.ChildSummary child = new ParentDashboardResponse.ChildSummary();
+        child.setStudentId((Long) row[0]);
+        child.setRelationship((String) row[1]);
+        child.setStudentNumber((String) row[2]);
+        child.setFullName(fullName.toString());
+        child.setGradeLevel((String) row[6]);
+        child.setProfilePictureUrl((String) row[7]);
+        child.setEnrollmentStatus((Student.EnrollmentStatus) row[8]);
+        child.setOutstandingAmount(BigDecimal.ZERO);
+        child.setOverdueAmount(BigDecimal.ZERO);
+        child.setUnreadNotifications(0L);
+        return child;
+    }
+
+    private ParentDashboardResponse.EnrollmentSummary mapToEnrollmentSummary(Object[] row) {
+        ParentDashboardResponse.EnrollmentSummary summary = new ParentDashboardResponse.EnrollmentSummary();
+        summary.setCourseId((Long) row[1]);
+        summary.setCourseCode((String) row[2]);
+        summary.setCourseName((String) row[3]);
+        summary.setStatus((Enrollment.EnrollmentStatus) row[4]);
+        summary.setGrade((Double) row[5]);
+        summary.setCredits((Integer) row[6]);
+        return summary;
+    }
+
+    private ParentLinkResponse mapToLinkResponse(ParentStudentLink link) {
+        ParentLinkResponse response = new ParentLinkResponse();
+        response.setId(link.getId());
+        response.setParentUserId(link.getParentUserId());
+        response.setStudentId(link.getStudentId());
+        response.setRelationship(link.getRelationship());
+        response.setCreatedDate(link.getCreatedDate());
+        return response;
+    }
+
+    /**
+     * A dashboard with the time it stops being served from the cache
+     */
+    private static final class CachedDashboard {
+        final ParentDashboardResponse dashboard;
+        final long expiresAt;
+
+        CachedDashboard(ParentDashboardResponse dashboard, long expiresAt) {
+            this.dashboard = dashboard;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
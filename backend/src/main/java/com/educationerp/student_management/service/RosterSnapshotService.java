@@ -0,0 +1,352 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.dto.ApiResponse;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.course_management.repository.CourseRepository;
+import com.educationerp.student_management.dto.CourseRosterResponse;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.event.EnrollmentChangedEvent;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service class for teacher course rosters
+ * Keeps an immutable snapshot per opened course holding the roster already serialized to JSON together with
+ * its ETag, so opening a roster is a map lookup and an unchanged poll is answered with a prebuilt 304.
+ * Snapshots are patched per student on enrollment and student changes instead of being rebuilt.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class RosterSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterSnapshotService.class);
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int ETAG_BYTES = 16;
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private static final Comparator<Member> ROSTER_ORDER =
+            Comparator.comparing((Member member) -> member.sortKey).thenComparing(member -> member.entry.getStudentId());
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${education.erp.roster.max-courses:2000}")
+    private int maxCourses;
+
+    private final Map<Long, RosterSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /** Course IDs of the cached snapshots each student appears in, for patching on student changes */
+    private final Map<Long, Set<Long>> studentCourses = new ConcurrentHashMap<>();
+
+    /** Snapshot builds and patches of a course are serialized on one stripe; reads never lock */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public RosterSnapshotService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Get the roster snapshot of a course, building it on first use
+     */
+    public RosterSnapshot getRoster(Long courseId) {
+        RosterSnapshot snapshot = snapshots.get(courseId);
+        if (snapshot == null) {
+            snapshot = loadRoster(courseId);
+            evictIfNeeded();
+        }
+        snapshot.lastAccess = System.nanoTime();
+        return snapshot;
+    }
+
+    /**
+     * Patch cached rosters when an enrollment is created, updated or removed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        if (event.getCourseId() != null && event.getStudentId() != null) {
+            patchRoster(event.getCourseId(), List.of(event.getStudentId()));
+        }
+    }
+
+    /**
+     * Patch cached rosters the changed students appear in; new students have no enrollments yet
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.isCreated() || snapshots.isEmpty()) {
+            return;
+        }
+        Map<Long, List<Long>> studentsByCourse = new HashMap<>();
+        for (Long studentId : event.getStudentIds()) {
+            Set<Long> courseIds = studentCourses.get(studentId);
+            if (courseIds != null) {
+                for (Long courseId : courseIds) {
+                    studentsByCourse.computeIfAbsent(courseId, id -> new ArrayList<>()).add(studentId);
+                }
+            }
+        }
+        studentsByCourse.forEach(this::patchRoster);
+    }
+
+    /**
+     * Drop the cached roster of a course
+     */
+    public void evictRoster(Long courseId) {
+        synchronized (lock(courseId)) {
+            RosterSnapshot snapshot = snapshots.remove(courseId);
+            if (snapshot != null) {
+                unindex(courseId, snapshot.members, null);
+            }
+        }
+    }
+
+    private RosterSnapshot loadRoster(Long courseId) {
+        synchronized (lock(courseId)) {
+            RosterSnapshot snapshot = snapshots.get(courseId);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            if (!courseRepository.existsById(courseId)) {
+                throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+            }
+
+            List<Object[]> rows = enrollmentRepository.findRosterRowsByCourseId(courseId);
+            Member[] members = new Member[rows.size()];
+            for (int i = 0; i < members.length; i++) {
+                members[i] = toMember(rows.get(i));
+            }
+            snapshot = install(courseId, members, null);
+            logger.debug("Built roster snapshot of course {} with {} students", courseId, members.length);
+            return snapshot;
+        }
+    }
+
+    private void patchRoster(Long courseId, Collection<Long> studentIds) {
+        synchronized (lock(courseId)) {
+            RosterSnapshot current = snapshots.get(courseId);
+            if (current == null) {
+                return;
+            }
+
+            Map<Long, Member> patched = new HashMap<>(current.members.length + studentIds.size());
+            for (Member member : current.members) {
+                patched.put(member.entry.getStudentId(), member);
+            }
+            patched.keySet().removeAll(studentIds);
+            for (Object[] row : enrollmentRepository.findRosterRowsByCourseIdAndStudentIds(courseId, studentIds)) {
+                Member member = toMember(row);
+                patched.put(member.entry.getStudentId(), member);
+            }
+            install(courseId, patched.values().toArray(new Member[0]), current);
+        }
+    }
+
+    /**
+     * Serialize a roster into a new snapshot and publish it; must hold the course's lock
+     */
+    private RosterSnapshot install(Long courseId, Member[] members, RosterSnapshot previous) {
+        Arrays.sort(members, ROSTER_ORDER);
+        List<CourseRosterResponse.RosterEntry> entries = new ArrayList<>(members.length);
+        for (Member member : members) {
+            entries.add(member.entry);
+        }
+
+        CourseRosterResponse roster = new CourseRosterResponse();
+        roster.setCourseId(courseId);
+        roster.setStudentCount(members.length);
+        roster.setGeneratedAt(LocalDateTime.now());
+        roster.setStudents(List.copyOf(entries));
+
+        RosterSnapshot snapshot;
+        try {
+            // The ETag covers the roster content only, so a rebuild without changes keeps clients' 304s
+            String etag = etag(objectMapper.writeValueAsBytes(roster.getStudents()));
+            if (previous != null && previous.etag.equals(etag)) {
+                return previous;
+            }
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success("Course roster retrieved successfully", roster));
+            snapshot = new RosterSnapshot(courseId, etag, body, members);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize roster of course " + courseId, e);
+        }
+        if (previous != null) {
+            snapshot.lastAccess = previous.lastAccess;
+        }
+
+        Set<Long> retained = new HashSet<>(members.length * 2);
+        for (Member member : members) {
+            Long studentId = member.entry.getStudentId();
+            retained.add(studentId);
+            studentCourses.computeIfAbsent(studentId, id -> ConcurrentHashMap.newKeySet()).add(courseId);
+        }
+        if (previous != null) {
+            unindex(courseId, previous.members, retained);
+        }
+        snapshots.put(courseId, snapshot);
+        return snapshot;
+    }
+
+    private void unindex(Long courseId, Member[] members, Set<Long> retained) {
+        for (Member member : members) {
+            Long studentId = member.entry.getStudentId();
+            if (retained == null || !retained.contains(studentId)) {
+                studentCourses.computeIfPresent(studentId, (id, courseIds) -> {
+                    courseIds.remove(courseId);
+                    return courseIds.isEmpty() ? null : courseIds;
+                });
+            }
+        }
+    }
+
+    /**
+     * Drop the least recently opened rosters once the cache outgrows its limit
+     */
+    private void evictIfNeeded() {
+        int excess = snapshots.size() - maxCourses;
+        if (excess <= 0) {
+            return;
+        }
+        // Evict a tenth beyond the limit so the scan is not repeated on every new course
+        int toEvict = excess + maxCourses / 10;
+        List<RosterSnapshot> candidates = new ArrayList<>(snapshots.values());
+        candidates.sort(Comparator.comparingLong(snapshot -> snapshot.lastAccess));
+        for (int i = 0; i < toEvict && i < candidates.size(); i++) {
+            evictRoster(candidates.get(i).courseId);
+        }
+        logger.debug("Evicted {} roster snapshots", Math.min(toEvict, candidates.size()));
+    }
+
+    private Object lock(Long courseId) {
+        return locks[Long.hashCode(courseId) & (LOCK_STRIPES - 1)];
+    }
+
+    private static Member toMember(Object[] row) {
+        String firstName = (String) row[2];
+        String middleName = (String) row[3];
+        String lastName = (String) row[4];
+        StringBuilder fullName = new StringBuilder(firstName);
+        if (middleName != null && !middleName.trim().isEmpty()) {
+            fullName.append(" ").append(middleName);
+        }
+        fullName.append(" ").append(lastName);
+
+        CourseRosterResponse.RosterEntry entry = new CourseRosterResponse.RosterEntry(
+                (Long) row[0], (String) row[1], fullName.toString(), (String) row[5], (Enrollment.EnrollmentStatus) row[6]);
+        return new Member(entry, (lastName + "\u0000" + firstName).toLowerCase(Locale.ROOT));
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Roster entry with its sort key; never modified once created
+     */
+    private static final class Member {
+
+        private final CourseRosterResponse.RosterEntry entry;
+        private final String sortKey;
+
+        private Member(CourseRosterResponse.RosterEntry entry, String sortKey) {
+            this.entry = entry;
+            this.sortKey = sortKey;
+        }
+    }
+
+    /**
+     * Immutable serialized roster of a course with its prebuilt full and not-modified responses
+     */
+    public static final class RosterSnapshot {
+
+        private final Long courseId;
+        private final String etag;
+        private final byte[] body;
+        private final Member[] members;
+        private final ResponseEntity<byte[]> okResponse;
+        private final ResponseEntity<byte[]> notModifiedResponse;
+        private volatile long lastAccess = System.nanoTime();
+
+        private RosterSnapshot(Long courseId, String etag, byte[] body, Member[] members) {
+            this.courseId = courseId;
+            this.etag = etag;
+            this.body = body;
+            this.members = members;
+            this.okResponse = ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(body.length)
+                    .body(body);
+            this.notModifiedResponse = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        /**
+         * The prebuilt response for a request: 304 when the client's If-None-Match holds the current ETag
+         */
+        public ResponseEntity<byte[]> toResponse(String ifNoneMatch) {
+            if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || "*".equals(ifNoneMatch))) {
+                return notModifiedResponse;
+            }
+            return okResponse;
+        }
+
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public int getStudentCount() {
+            return members.length;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.student_management.dto.DemographicsResponse;
+import com.educationerp.student_management.dto.DemographicsResponse.Dimension;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Service class for student demographics
+ * Keeps an in-memory cube per institution over branch, grade level, program, major, gender, enrollment status
+ * and location: every distinct combination is one cell holding a student counter, so any slice or roll-up
+ * is a scan over the cells instead of a count query per dimension. Built in one streaming pass at startup
+ * and kept current from student change events.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class StudentDemographicsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentDemographicsService.class);
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final Dimension[] DIMENSIONS = Dimension.values();
+
+    /** Dictionary code of a missing value */
+    private static final int UNSPECIFIED = 0;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, DemographicCube> cubes = new HashMap<>();
+    private Map<Long, Cell> students = new HashMap<>();
+    private Set<Long> changedDuringRebuild;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initialize() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Build the cubes once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild all cubes from the database; changes committed meanwhile are replayed afterwards
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, DemographicCube> builtCubes = new HashMap<>();
+        Map<Long, Cell> builtStudents = new HashMap<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = studentRepository.streamDemographicRows()) {
+                rows.forEach(row -> builtStudents.put((Long) row[0], add(builtCubes, row)));
+            }
+        });
+
+        Set<Long> replay;
+        lock.writeLock().lock();
+        try {
+            cubes = builtCubes;
+            students = builtStudents;
+            replay = changedDuringRebuild;
+            changedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!replay.isEmpty()) {
+            refresh(replay);
+        }
+
+        logger.info("Student demographics built: {} students in {} institutions, {} cells, {} ms",
+                builtStudents.size(), builtCubes.size(),
+                builtCubes.values().stream().mapToInt(cube -> cube.cells.size()).sum(),
+                System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Apply committed student changes to the cubes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        refresh(event.getStudentIds());
+    }
+
+    /**
+     * Count the active students of an institution matching the filters, optionally grouped by dimensions
+     * Filter values match case-insensitively; students without a value for a grouped dimension form a group with a null value
+     */
+    public DemographicsResponse getDemographics(Long institutionId, Map<Dimension, String> filters, List<Dimension> groupBy) {
+        Map<Dimension, String> appliedFilters = new EnumMap<>(Dimension.class);
+        filters.forEach((dimension, value) -> {
+            if (value != null && !value.isBlank()) {
+                appliedFilters.put(dimension, value.trim());
+            }
+        });
+        List<Dimension> grouped = groupBy != null ? groupBy.stream().distinct().toList() : List.of();
+
+        DemographicsResponse response = new DemographicsResponse();
+        response.setInstitutionId(institutionId);
+        response.setFilters(appliedFilters);
+        response.setGroupBy(grouped);
+        response.setTotal(0L);
+        response.setGroups(new ArrayList<>());
+
+        lock.readLock().lock();
+        try {
+            DemographicCube cube = cubes.get(institutionId);
+            if (cube == null) {
+                return response;
+            }
+
+            // Filter values resolve to dictionary codes once; a value never seen matches no cell
+            int[] required = new int[DIMENSIONS.length];
+            Arrays.fill(required, -1);
+            for (Map.Entry<Dimension, String> filter : appliedFilters.entrySet()) {
+                Integer code = cube.dictionaries.get(filter.getKey().ordinal()).get(dictionaryKey(filter.getValue()));
+                if (code == null) {
+                    return response;
+                }
+                required[filter.getKey().ordinal()] = code;
+            }
+            int[] projection = grouped.stream().mapToInt(Dimension::ordinal).toArray();
+
+            long total = 0;
+            Map<Cell, Cell> groups = new HashMap<>();
+            for (Cell cell : cube.cells.keySet()) {
+                if (!matches(cell, required)) {
+                    continue;
+                }
+                total += cell.count;
+                if (projection.length > 0) {
+                    int[] coordinates = new int[projection.length];
+                    for (int i = 0; i < projection.length; i++) {
+                        coordinates[i] = cell.coordinates[projection[i]];
+                    }
+                    groups.computeIfAbsent(new Cell(institutionId, coordinates), group -> group).count += cell.count;
+                }
+            }
+            response.setTotal(total);
+
+            List<Cell> sorted = new ArrayList<>(groups.keySet());
+            sorted.sort(Comparator.comparingLong((Cell group) -> group.count).reversed());
+            for (Cell group : sorted) {
+                Map<Dimension, String> values = new LinkedHashMap<>();
+                for (int i = 0; i < projection.length; i++) {
+                    values.put(grouped.get(i), cube.values.get(projection[i]).get(group.coordinates[i]));
+                }
+                response.getGroups().add(new DemographicsResponse.Group(values, group.count));
+            }
+            return response;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refresh(Collection<Long> studentIds) {
+        List<Long> ids = new ArrayList<>(studentIds);
+        Map<Long, Object[]> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            for (Object[] row : studentRepository.findDemographicRowsByIds(ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size())))) {
+                loaded.put((Long) row[0], row);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(ids);
+            }
+            for (Long studentId : ids) {
+                Cell previous = students.remove(studentId);
+                if (previous != null) {
+                    remove(previous);
+                }
+                Object[] row = loaded.get(studentId);
+                if (row != null) {
+                    students.put(studentId, add(cubes, row));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Count a student row into its cell, creating the cube and cell as needed
+     */
+    private Cell add(Map<Long, DemographicCube> target, Object[] row) {
+        Long institutionId = (Long) row[1];
+        DemographicCube cube = target.computeIfAbsent(institutionId, id -> new DemographicCube());
+        int[] coordinates = new int[DIMENSIONS.length];
+        for (int i = 0; i < DIMENSIONS.length; i++) {
+            Object value = row[i + 2];
+            coordinates[i] = cube.encode(i, value != null ? value.toString() : null);
+        }
+        Cell cell = cube.cells.computeIfAbsent(new Cell(institutionId, coordinates), key -> key);
+        cell.count++;
+        return cell;
+    }
+
+    private void remove(Cell cell) {
+        cell.count--;
+        if (cell.count == 0) {
+            DemographicCube cube = cubes.get(cell.institutionId);
+            if (cube != null) {
+                cube.cells.remove(cell);
+            }
+        }
+    }
+
+    private static boolean matches(Cell cell, int[] required) {
+        for (int i = 0; i < required.length; i++) {
+            if (required[i] >= 0 && cell.coordinates[i] != required[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String dictionaryKey(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Cells of one institution with a dictionary per dimension mapping values to small integer codes
+     */
+    private static final class DemographicCube {
+        final List<Map<String, Integer>> dictionaries = new ArrayList<>(DIMENSIONS.length);
+        final List<List<String>> values = new ArrayList<>(DIMENSIONS.length);
+        final Map<Cell, Cell> cells = new HashMap<>();
+
+        DemographicCube() {
+            for (int i = 0; i < DIMENSIONS.length; i++) {
+                dictionaries.add(new HashMap<>());
+                List<String> dimensionValues = new ArrayList<>();
+                dimensionValues.add(null);
+                values.add(dimensionValues);
+            }
+        }
+
+        /**
+         * Code of a value, assigned on first sight; values differing only in case or surrounding spaces share a code
+         */
+        int encode(int dimension, String value) {
+            if (value == null || value.isBlank()) {
+                return UNSPECIFIED;
+            }
+            List<String> dimensionValues = values.get(dimension);
+            return dictionaries.get(dimension).computeIfAbsent(dictionaryKey(value), key -> {
+                dimensionValues.add(value.trim());
+                return dimensionValues.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * One combination of dimension codes with the number of students having it
+     */
+    private static final class Cell {
+        final Long institutionId;
+        final int[] coordinates;
+        final int hash;
+        long count;
+
+        Cell(Long institutionId, int[] coordinates) {
+            this.institutionId = institutionId;
+            this.coordinates = coordinates;
+            this.hash = Arrays.hashCode(coordinates);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Cell other && Arrays.equals(coordinates, other.coordinates));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,673 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.entity.BusinessSequence;
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.core.service.BusinessNumberService;
+import com.educationerp.institution_management.repository.InstitutionRepository;
+import com.educationerp.student_management.dto.CreateStudentRequest;
+import com.educationerp.student_management.dto.StudentImportJobResponse;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.entity.StudentImportJob;
+import com.educationerp.student_management.event.StudentChangedEvent;
+import com.educationerp.student_management.repository.StudentImportJobRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service class for bulk student imports
+ * Streams an uploaded CSV in chunks: rows are validated on parallel workers, checked for uniqueness
+ * against sets preloaded per institution, and inserted in JDBC batches committed together with the
+ * job's progress so an interrupted import resumes from the first uncommitted row. Accepted rows without a
+ * student number are numbered from the institution's student number sequence.
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class StudentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentImportService.class);
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final String ERROR_FILE_HEADER = "row,student_number,errors\n";
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("firstName", "lastName", "dateOfBirth", "address", "enrollmentDate");
+
+    private static final List<String> KNOWN_COLUMNS = List.of(
+            "branchId", "studentNumber", "firstName", "lastName", "middleName", "dateOfBirth", "gender",
+            "phoneNumber", "email", "address", "city", "state", "postalCode", "country", "enrollmentDate",
+            "enrollmentStatus", "gradeLevel", "program", "major", "gpa", "profilePictureUrl", "notes",
+            "emergencyContactName", "emergencyContactPhone", "emergencyContactRelationship");
+
+    private static final List<StudentImportJob.ImportStatus> ACTIVE_STATUSES =
+            List.of(StudentImportJob.ImportStatus.QUEUED, StudentImportJob.ImportStatus.RUNNING);
+
+    private static final String LOCK_INSTITUTION_SQL = "SELECT id FROM institutions WHERE id = ? FOR UPDATE";
+
+    private static final String INSERT_STUDENT_SQL =
+            "INSERT INTO students (institution_id, branch_id, student_number, first_name, last_name, middle_name, " +
+            "date_of_birth, gender, phone_number, email, address, city, state, postal_code, country, enrollment_date, " +
+            "enrollment_status, grade_level, program, major, gpa, profile_picture_url, notes, emergency_contact_name, " +
+            "emergency_contact_phone, emergency_contact_relationship, created_date, created_by, is_active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true)";
+
+    @Autowired
+    private StudentImportJobRepository studentImportJobRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @Autowired
+    private BusinessNumberService businessNumberService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${education.erp.student-import.directory:${java.io.tmpdir}/student-imports}")
+    private String importDirectory;
+
+    @Value("${education.erp.student-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${education.erp.student-import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${education.erp.student-import.validation-parallelism:4}")
+    private int validationParallelism;
+
+    @Value("${education.erp.student-import.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> cancelRequests = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate chunkTransaction;
+    private ExecutorService jobExecutor;
+    private ForkJoinPool validationPool;
+
+    @PostConstruct
+    void initialize() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        AtomicInteger threadCounter = new AtomicInteger();
+        jobExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentJobs), runnable -> {
+            Thread thread = new Thread(runnable, "student-import-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        validationPool = new ForkJoinPool(validationParallelism > 0
+                ? validationParallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted jobs stay RUNNING and are resumed on the next startup
+        jobExecutor.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    /**
+     * Resume imports that were queued or running when the application stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedImports() {
+        for (StudentImportJob job : studentImportJobRepository.findByStatusIn(ACTIVE_STATUSES)) {
+            logger.info("Resuming student import {} from row {}", job.getId(), job.getProcessedRows() + 1);
+            submit(job.getId());
+        }
+    }
+
+    /**
+     * Spool an uploaded CSV to disk and queue its import
+     */
+    public StudentImportJobResponse startImport(Long institutionId, String fileName, InputStream content) {
+        logger.info("Starting student import for institution: {}", institutionId);
+
+        if (!institutionRepository.existsById(institutionId)) {
+            throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+        }
+        if (studentImportJobRepository.existsByInstitutionIdAndStatusIn(institutionId, ACTIVE_STATUSES)) {
+            throw new BusinessException("A student import is already in progress for institution ID: " + institutionId);
+        }
+
+        String name = UUID.randomUUID().toString();
+        Path source = Paths.get(importDirectory, name + ".csv");
+        long size;
+        try {
+            Files.createDirectories(source.getParent());
+            size = Files.copy(content, source);
+        } catch (IOException e) {
+            throw new BusinessException("Could not store import file: " + e.getMessage());
+        }
+        if (size == 0) {
+            deleteQuietly(source);
+            throw new BusinessException("Import file is empty");
+        }
+
+        StudentImportJob job = new StudentImportJob(institutionId, fileName, source.toString());
+        job.setErrorPath(Paths.get(importDirectory, name + "-errors.csv").toString());
+        job.setFileSize(size);
+        try {
+            job = queueExclusively(job);
+        } catch (RuntimeException e) {
+            deleteQuietly(source);
+            throw e;
+        }
+
+        submit(job.getId());
+        return mapToJobResponse(job);
+    }
+
+    /**
+     * Get import job by ID
+     */
+    public StudentImportJobResponse getJob(Long jobId) {
+        return mapToJobResponse(findJob(jobId));
+    }
+
+    /**
+     * Get import jobs of an institution
+     */
+    public Page<StudentImportJobResponse> getJobsByInstitution(Long institutionId, Pageable pageable) {
+        return studentImportJobRepository.findByInstitutionId(institutionId, pageable).map(this::mapToJobResponse);
+    }
+
+    /**
+     * Get the file of rejected rows of an import job
+     */
+    public Path getErrorFile(Long jobId) {
+        StudentImportJob job = findJob(jobId);
+        Path errorPath = job.getErrorPath() != null ? Paths.get(job.getErrorPath()) : null;
+        if (errorPath == null || !Files.exists(errorPath)) {
+            throw new ResourceNotFoundException("Error file not found for import job with ID: " + jobId);
+        }
+        return errorPath;
+    }
+
+    /**
+     * Resume a failed or cancelled import from its first uncommitted row
+     */
+    public StudentImportJobResponse resumeImport(Long jobId) {
+        StudentImportJob job = findJob(jobId);
+        if (job.getStatus() != StudentImportJob.ImportStatus.FAILED && job.getStatus() != StudentImportJob.ImportStatus.CANCELLED) {
+            throw new BusinessException("Only failed or cancelled imports can be resumed");
+        }
+        if (!Files.exists(Paths.get(job.getSourcePath()))) {
+            throw new BusinessException("Import file is no longer available for job ID: " + jobId);
+        }
+
+        job.setStatus(StudentImportJob.ImportStatus.QUEUED);
+        job.setErrorMessage(null);
+        job = queueExclusively(job);
+
+        logger.info("Resuming student import {} from row {}", jobId, job.getProcessedRows() + 1);
+        submit(jobId);
+        return mapToJobResponse(job);
+    }
+
+    /**
+     * Cancel a queued or running import; committed rows are kept
+     */
+    public StudentImportJobResponse cancelImport(Long jobId) {
+        StudentImportJob job = findJob(jobId);
+        if (!ACTIVE_STATUSES.contains(job.getStatus())) {
+            throw new BusinessException("Import job is not in progress: " + jobId);
+        }
+
+        cancelRequests.add(jobId);
+        if (!runningJobs.contains(jobId)) {
+            cancelRequests.remove(jobId);
+            job.setStatus(StudentImportJob.ImportStatus.CANCELLED);
+            job.setCompletedDate(LocalDateTime.now());
+            job = studentImportJobRepository.save(job);
+        }
+        return mapToJobResponse(job);
+    }
+
+    /**
+     * Save a queued job while holding the institution row lock, so two requests cannot both pass the
+     * one-import-per-institution check
+     */
+    private StudentImportJob queueExclusively(StudentImportJob job) {
+        Long institutionId = job.getInstitutionId();
+        return chunkTransaction.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_INSTITUTION_SQL, Long.class, institutionId).isEmpty()) {
+                throw new ResourceNotFoundException("Institution not found with ID: " + institutionId);
+            }
+            if (studentImportJobRepository.existsByInstitutionIdAndStatusIn(institutionId, ACTIVE_STATUSES)) {
+                throw new BusinessException("A student import is already in progress for institution ID: " + institutionId);
+            }
+            return studentImportJobRepository.save(job);
+        });
+    }
+
+    private void submit(Long jobId) {
+        if (!runningJobs.add(jobId)) {
+            return;
+        }
+        jobExecutor.execute(() -> {
+            try {
+                runImport(jobId);
+            } finally {
+                runningJobs.remove(jobId);
+                cancelRequests.remove(jobId);
+            }
+        });
+    }
+
+    private void runImport(Long jobId) {
+        StudentImportJob job = studentImportJobRepository.findById(jobId).orElse(null);
+        if (job == null || !ACTIVE_STATUSES.contains(job.getStatus())) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        job.setStatus(StudentImportJob.ImportStatus.RUNNING);
+        if (job.getStartedDate() == null) {
+            job.setStartedDate(LocalDateTime.now());
+        }
+        job = studentImportJobRepository.save(job);
+
+        Path source = Paths.get(job.getSourcePath());
+        Path errorPath = Paths.get(job.getErrorPath());
+        try (CsvRecordReader reader = new CsvRecordReader(
+                     new InputStreamReader(Files.newInputStream(source), StandardCharsets.UTF_8), ',');
+             FileChannel errors = FileChannel.open(errorPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+
+            // Error lines of an uncommitted chunk are dropped before resuming
+            errors.truncate(job.getErrorFileSize());
+            errors.position(job.getErrorFileSize());
+            if (job.getErrorFileSize() == 0) {
+                errors.write(ByteBuffer.wrap(ERROR_FILE_HEADER.getBytes(StandardCharsets.UTF_8)));
+            }
+
+            Map<String, Integer> columns = mapColumns(reader.readRecord());
+            for (int skipped = 0; skipped < job.getProcessedRows(); skipped++) {
+                if (reader.readRecord() == null) {
+                    break;
+                }
+            }
+
+            Long institutionId = job.getInstitutionId();
+            Set<String> studentNumbers = new HashSet<>(studentRepository.findStudentNumbersByInstitutionId(institutionId));
+            Set<String> emails = new HashSet<>(studentRepository.findLowerCaseEmailsByInstitutionId(institutionId));
+            int rowNumber = job.getProcessedRows();
+
+            while (true) {
+                if (cancelRequests.remove(jobId)) {
+                    job.setStatus(StudentImportJob.ImportStatus.CANCELLED);
+                    job.setCompletedDate(LocalDateTime.now());
+                    studentImportJobRepository.save(job);
+                    logger.info("Student import {} cancelled after {} rows", jobId, job.getProcessedRows());
+                    return;
+                }
+
+                List<ImportRow> chunk = new ArrayList<>(chunkSize);
+                List<String> record;
+                while (chunk.size() < chunkSize && (record = reader.readRecord()) != null) {
+                    chunk.add(new ImportRow(++rowNumber, record));
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                validationPool.submit(() -> chunk.parallelStream().forEach(row -> validateRow(row, columns, institutionId))).get();
+                job = commitChunk(job, chunk, studentNumbers, emails, errors, reader.getBytesConsumed());
+            }
+
+            job.setStatus(StudentImportJob.ImportStatus.COMPLETED);
+            job.setBytesProcessed(job.getFileSize());
+            job.setCompletedDate(LocalDateTime.now());
+            studentImportJobRepository.save(job);
+            deleteQuietly(source);
+
+            logger.info("Student import {} completed in {} ms: {} imported, {} rejected", jobId,
+                    System.currentTimeMillis() - started, job.getImportedRows(), job.getRejectedRows());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Student import {} interrupted at row {}", jobId, job.getProcessedRows());
+        } catch (Exception e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            logger.error("Student import {} failed at row {}: {}", jobId, job.getProcessedRows() + 1, cause.getMessage());
+            StudentImportJob failed = studentImportJobRepository.findById(jobId).orElse(job);
+            failed.setStatus(StudentImportJob.ImportStatus.FAILED);
+            String message = String.valueOf(cause.getMessage());
+            failed.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+            studentImportJobRepository.save(failed);
+        }
+    }
+
+    private StudentImportJob commitChunk(StudentImportJob job, List<ImportRow> chunk, Set<String> studentNumbers,
+                                         Set<String> emails, FileChannel errors, long bytesConsumed) throws IOException {
+        // Emails are unique across institutions, so each chunk's emails are checked against the whole table once
+        Set<String> chunkEmails = new HashSet<>();
+        for (ImportRow row : chunk) {
+            if (row.errors.isEmpty() && row.request.getEmail() != null) {
+                chunkEmails.add(row.request.getEmail());
+            }
+        }
+        Set<String> takenEmails = new HashSet<>();
+        List<String> emailList = new ArrayList<>(chunkEmails);
+        for (int from = 0; from < emailList.size(); from += QUERY_CHUNK_SIZE) {
+            takenEmails.addAll(studentRepository.findExistingEmails(
+                    emailList.subList(from, Math.min(from + QUERY_CHUNK_SIZE, emailList.size()))));
+        }
+
+        List<CreateStudentRequest> accepted = new ArrayList<>();
+        StringBuilder rejected = new StringBuilder();
+        int rejectedRows = 0;
+        for (ImportRow row : chunk) {
+            if (row.errors.isEmpty()) {
+                String number = row.request.getStudentNumber();
+                String email = row.request.getEmail() != null ? row.request.getEmail().toLowerCase(Locale.ROOT) : null;
+                if (number != null && studentNumbers.contains(number)) {
+                    row.errors.add("studentNumber: student number already exists: " + number);
+                } else if (email != null && (emails.contains(email) || takenEmails.contains(row.request.getEmail()))) {
+                    row.errors.add("email: email already exists: " + row.request.getEmail());
+                } else {
+                    // Numbers are drawn only for accepted rows, skipping any the file already supplied
+                    while (number == null || studentNumbers.contains(number)) {
+                        number = businessNumberService.next(job.getInstitutionId(), BusinessSequence.SequenceKind.STUDENT_NUMBER);
+                    }
+                    row.request.setStudentNumber(number);
+                    studentNumbers.add(number);
+                    if (email != null) {
+                        emails.add(email);
+                    }
+                    accepted.add(row.request);
+                    continue;
+                }
+            }
+            rejectedRows++;
+            rejected.append(row.rowNumber).append(',')
+                    .append(csvField(row.request != null ? row.request.getStudentNumber() : row.field(0))).append(',')
+                    .append(csvField(String.join("; ", row.errors))).append('\n');
+        }
+
+        if (!rejected.isEmpty()) {
+            errors.write(ByteBuffer.wrap(rejected.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        errors.force(false);
+        long errorFileSize = errors.position();
+        int rejectedCount = rejectedRows;
+
+        return chunkTransaction.execute(status -> {
+            Long lastIdBefore = studentRepository.findMaxId();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_STUDENT_SQL, accepted, batchSize, (ps, request) -> {
+                ps.setLong(1, request.getInstitutionId());
+                ps.setObject(2, request.getBranchId(), Types.BIGINT);
+                ps.setString(3, request.getStudentNumber());
+                ps.setString(4, request.getFirstName());
+                ps.setString(5, request.getLastName());
+                ps.setString(6, request.getMiddleName());
+                ps.setDate(7, Date.valueOf(request.getDateOfBirth()));
+                ps.setString(8, request.getGender() != null ? request.getGender().name() : null);
+                ps.setString(9, request.getPhoneNumber());
+                ps.setString(10, request.getEmail());
+                ps.setString(11, request.getAddress());
+                ps.setString(12, request.getCity());
+                ps.setString(13, request.getState());
+                ps.setString(14, request.getPostalCode());
+                ps.setString(15, request.getCountry());
+                ps.setDate(16, Date.valueOf(request.getEnrollmentDate()));
+                ps.setString(17, (request.getEnrollmentStatus() != null
+                        ? request.getEnrollmentStatus() : Student.EnrollmentStatus.ACTIVE).name());
+                ps.setString(18, request.getGradeLevel());
+                ps.setString(19, request.getProgram());
+                ps.setString(20, request.getMajor());
+                ps.setObject(21, request.getGpa(), Types.DOUBLE);
+                ps.setString(22, request.getProfilePictureUrl());
+                ps.setString(23, request.getNotes());
+                ps.setString(24, request.getEmergencyContactName());
+                ps.setString(25, request.getEmergencyContactPhone());
+                ps.setString(26, request.getEmergencyContactRelationship());
+                ps.setTimestamp(27, now);
+                ps.setString(28, job.getCreatedBy());
+            });
+
+            job.setProcessedRows(job.getProcessedRows() + chunk.size());
+            job.setImportedRows(job.getImportedRows() + accepted.size());
+            job.setRejectedRows(job.getRejectedRows() + rejectedCount);
+            job.setErrorFileSize(errorFileSize);
+            job.setBytesProcessed(Math.min(bytesConsumed, job.getFileSize()));
+            StudentImportJob saved = studentImportJobRepository.save(job);
+
+            // Bulk JDBC inserts bypass the student entity listener
+            if (!accepted.isEmpty()) {
+                List<Long> ids = studentRepository.findIdsByInstitutionIdAndIdGreaterThan(job.getInstitutionId(), lastIdBefore);
+                eventPublisher.publishEvent(new StudentChangedEvent(ids, true));
+            }
+            return saved;
+        });
+    }
+
+    private Map<String, Integer> mapColumns(List<String> header) {
+        if (header == null) {
+            throw new BusinessException("Import file has no header row");
+        }
+
+        Map<String, String> known = new HashMap<>();
+        for (String column : KNOWN_COLUMNS) {
+            known.put(normalizeColumn(column), column);
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = known.get(normalizeColumn(header.get(i)));
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new BusinessException("Import file is missing required columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private String normalizeColumn(String column) {
+        return column.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private void validateRow(ImportRow row, Map<String, Integer> columns, Long institutionId) {
+        CreateStudentRequest request = new CreateStudentRequest();
+        request.setInstitutionId(institutionId);
+        request.setBranchId(parse(row, columns, "branchId", Long::valueOf));
+        request.setStudentNumber(row.value(columns, "studentNumber"));
+        request.setFirstName(row.value(columns, "firstName"));
+        request.setLastName(row.value(columns, "lastName"));
+        request.setMiddleName(row.value(columns, "middleName"));
+        request.setDateOfBirth(parse(row, columns, "dateOfBirth", LocalDate::parse));
+        request.setGender(parse(row, columns, "gender", value -> Student.Gender.valueOf(value.toUpperCase(Locale.ROOT))));
+        request.setPhoneNumber(row.value(columns, "phoneNumber"));
+        request.setEmail(row.value(columns, "email"));
+        request.setAddress(row.value(columns, "address"));
+        request.setCity(row.value(columns, "city"));
+        request.setState(row.value(columns, "state"));
+        request.setPostalCode(row.value(columns, "postalCode"));
+        request.setCountry(row.value(columns, "country"));
+        request.setEnrollmentDate(parse(row, columns, "enrollmentDate", LocalDate::parse));
+        Student.EnrollmentStatus enrollmentStatus = parse(row, columns, "enrollmentStatus",
+                value -> Student.EnrollmentStatus.valueOf(value.toUpperCase(Locale.ROOT)));
+        request.setEnrollmentStatus(enrollmentStatus != null ? enrollmentStatus : Student.EnrollmentStatus.ACTIVE);
+        request.setGradeLevel(row.value(columns, "gradeLevel"));
+        request.setProgram(row.value(columns, "program"));
+        request.setMajor(row.value(columns, "major"));
+        request.setGpa(parse(row, columns, "gpa", Double::valueOf));
+        request.setProfilePictureUrl(row.value(columns, "profilePictureUrl"));
+        request.setNotes(row.value(columns, "notes"));
+        request.setEmergencyContactName(row.value(columns, "emergencyContactName"));
+        request.setEmergencyContactPhone(row.value(columns, "emergencyContactPhone"));
+        request.setEmergencyContactRelationship(row.value(columns, "emergencyContactRelationship"));
+
+        for (ConstraintViolation<CreateStudentRequest> violation : validator.validate(request)) {
+            String field = violation.getPropertyPath().toString();
+            // A missing student number is generated once the row is accepted
+            if (field.equals("studentNumber") && request.getStudentNumber() == null) {
+                continue;
+            }
+            // Unparseable values are already reported; skip the follow-up "is required" violation
+            if (row.errors.stream().noneMatch(error -> error.startsWith(field + ":"))) {
+                row.errors.add(field + ": " + violation.getMessage());
+            }
+        }
+        row.request = request;
+    }
+
+    private <T> T parse(ImportRow row, Map<String, Integer> columns, String column, ValueParser<T> parser) {
+        String value = row.value(columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.parse(value);
+        } catch (DateTimeParseException e) {
+            row.errors.add(column + ": invalid date '" + value + "', expected yyyy-MM-dd");
+        } catch (IllegalArgumentException e) {
+            row.errors.add(column + ": invalid value '" + value + "'");
+        }
+        return null;
+    }
+
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete import file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private StudentImportJob findJob(Long jobId) {
+        return studentImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student import job not found with ID: " + jobId));
+    }
+
+    /**
+     * Map StudentImportJob entity to StudentImportJobResponse DTO
+     */
+    private StudentImportJobResponse mapToJobResponse(StudentImportJob job) {
+        StudentImportJobResponse response = new StudentImportJobResponse();
+        response.setId(job.getId());
+        response.setInstitutionId(job.getInstitutionId());
+        response.setFileName(job.getFileName());
+        response.setStatus(job.getStatus());
+        response.setFileSize(job.getFileSize());
+        response.setBytesProcessed(job.getBytesProcessed());
+        response.setProgressPercentage(job.getFileSize() != null && job.getFileSize() > 0
+                ? Math.round(1000.0 * job.getBytesProcessed() / job.getFileSize()) / 10.0 : 0.0);
+        response.setProcessedRows(job.getProcessedRows());
+        response.setImportedRows(job.getImportedRows());
+        response.setRejectedRows(job.getRejectedRows());
+        response.setErrorFileAvailable(job.getRejectedRows() > 0);
+        response.setErrorMessage(job.getErrorMessage());
+        response.setStartedDate(job.getStartedDate());
+        response.setCompletedDate(job.getCompletedDate());
+        response.setCreatedDate(job.getCreatedDate());
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface ValueParser<T> {
+        T parse(String value);
+    }
+
+    /**
+     * One data row of the upload with its validation outcome
+     */
+    private static final class ImportRow {
+        private final int rowNumber;
+        private final List<String> fields;
+        private final List<String> errors = new ArrayList<>();
+        private CreateStudentRequest request;
+
+        ImportRow(int rowNumber, List<String> fields) {
+            this.rowNumber = rowNumber;
+            this.fields = fields;
+        }
+
+        String field(int index) {
+            return index < fields.size() ? fields.get(index) : null;
+        }
+
+        String value(Map<String, Integer> columns, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.educationerp.student_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.core.exception.ResourceNotFoundException;
+import com.educationerp.inventory.entity.StudentProductDistribution;
+import com.educationerp.inventory.repository.StudentProductDistributionRepository;
+import com.educationerp.notification.repository.NotificationRepository;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.entity.Payment;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import com.educationerp.payment_management.repository.PaymentRepository;
+import com.educationerp.payment_management.service.LedgerService;
+import com.educationerp.student_management.dto.StudentOverviewResponse;
+import com.educationerp.student_management.dto.StudentResponse;
+import com.educationerp.student_management.entity.Enrollment;
+import com.educationerp.student_management.entity.Student;
+import com.educationerp.student_management.repository.EnrollmentRepository;
+import com.educationerp.student_management.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service class for the student overview
+ * Loads the independent sections of a student's detail page concurrently on virtual threads under
+ * one deadline, so the response takes as long as the slowest section rather than the sum of all
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@Service
+public class StudentOverviewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StudentOverviewService.class);
+
+    private static final String STUDENT_RECIPIENT_TYPE = "STUDENT";
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @Autowired
+    private StudentProductDistributionRepository studentProductDistributionRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Value("${education.erp.student-overview.deadline-ms:800}")
+    private long deadlineMillis;
+
+    private ExecutorService sectionExecutor;
+
+    @PostConstruct
+    void initialize() {
+        sectionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sectionExecutor.shutdownNow();
+    }
+
+    /**
+     * Get the overview of a student, flagging sections that did not finish before the deadline
+     */
+    public StudentOverviewResponse getOverview(Long studentId) {
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+
+        Map<StudentOverviewResponse.Section, long[]> latencies = new EnumMap<>(StudentOverviewResponse.Section.class);
+        Map<StudentOverviewResponse.Section, Future<?>> futures = new EnumMap<>(StudentOverviewResponse.Section.class);
+        futures.put(StudentOverviewResponse.Section.STUDENT, fork(StudentOverviewResponse.Section.STUDENT, latencies,
+                () -> studentRepository.findById(studentId)));
+        futures.put(StudentOverviewResponse.Section.ENROLLMENTS, fork(StudentOverviewResponse.Section.ENROLLMENTS, latencies,
+                () -> enrollmentRepository.findByStudentIdAndIsActiveTrue(studentId)));
+        futures.put(StudentOverviewResponse.Section.PAYMENTS, fork(StudentOverviewResponse.Section.PAYMENTS, latencies,
+                () -> paymentRepository.findByStudentIdAndIsActiveTrueOrderByCreatedDateDesc(studentId)));
+        futures.put(StudentOverviewResponse.Section.INSTALLMENT_PLANS, fork(StudentOverviewResponse.Section.INSTALLMENT_PLANS, latencies,
+                () -> installmentPlanRepository.findByStudentIdAndIsActiveTrue(studentId)));
+        futures.put(StudentOverviewResponse.Section.PRODUCT_DISTRIBUTIONS, fork(StudentOverviewResponse.Section.PRODUCT_DISTRIBUTIONS, latencies,
+                () -> studentProductDistributionRepository.findByStudentIdAndIsActiveTrue(studentId)));
+        futures.put(StudentOverviewResponse.Section.BALANCE, fork(StudentOverviewResponse.Section.BALANCE, latencies,
+                () -> ledgerService.getBalances(List.of(studentId)).get(studentId).getBalance()));
+        futures.put(StudentOverviewResponse.Section.NOTIFICATIONS, fork(StudentOverviewResponse.Section.NOTIFICATIONS, latencies,
+                () -> notificationRepository.countByRecipientIdAndRecipientTypeAndIsReadFalseAndIsActiveTrue(studentId, STUDENT_RECIPIENT_TYPE)));
+
+        Map<StudentOverviewResponse.Section, Object> results = new EnumMap<>(StudentOverviewResponse.Section.class);
+        List<StudentOverviewResponse.SectionStatus> sections = new ArrayList<>();
+        boolean partial = false;
+
+        try {
+            for (Map.Entry<StudentOverviewResponse.Section, Future<?>> entry : futures.entrySet()) {
+                StudentOverviewResponse.SectionStatus status = new StudentOverviewResponse.SectionStatus();
+                status.setSection(entry.getKey());
+                try {
+                    results.put(entry.getKey(), entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                    status.setStatus(StudentOverviewResponse.Status.OK);
+                } catch (TimeoutException e) {
+                    status.setStatus(StudentOverviewResponse.Status.TIMED_OUT);
+                    partial = true;
+                } catch (ExecutionException e) {
+                    logger.warn("Overview section {} failed for student {}: {}", entry.getKey(), studentId, e.getCause().getMessage());
+                    status.setStatus(StudentOverviewResponse.Status.FAILED);
+                    status.setError(e.getCause().getMessage());
+                    partial = true;
+                }
+                sections.add(status);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Student overview was interrupted");
+        } finally {
+            // Sections still running past the deadline are abandoned
+            futures.values().forEach(future -> future.cancel(true));
+        }
+
+        for (StudentOverviewResponse.SectionStatus status : sections) {
+            long[] latency;
+            synchronized (latencies) {
+                latency = latencies.get(status.getSection());
+            }
+            status.setLatencyMillis(latency != null
+                    ? TimeUnit.NANOSECONDS.toMillis(latency[0])
+                    : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+
+        @SuppressWarnings("unchecked")
+        Optional<Student> student = (Optional<Student>) results.get(StudentOverviewResponse.Section.STUDENT);
+        if (student != null && student.isEmpty()) {
+            throw new ResourceNotFoundException("Student not found with ID: " + studentId);
+        }
+
+        StudentOverviewResponse response = new StudentOverviewResponse();
+        response.setStudentId(studentId);
+        response.setStudent(student != null ? mapToStudentResponse(student.get()) : null);
+        response.setEnrollments(this.<Enrollment>listResult(results, StudentOverviewResponse.Section.ENROLLMENTS)
+                .map(enrollments -> enrollments.stream().map(this::mapToEnrollmentSummary).toList()).orElse(null));
+        response.setPayments(this.<Payment>listResult(results, StudentOverviewResponse.Section.PAYMENTS)
+                .map(payments -> payments.stream().map(this::mapToPaymentSummary).toList()).orElse(null));
+        response.setInstallmentPlans(this.<InstallmentPlan>listResult(results, StudentOverviewResponse.Section.INSTALLMENT_PLANS)
+                .map(plans -> plans.stream().map(this::mapToInstallmentPlanSummary).toList()).orElse(null));
+        response.setProductDistributions(this.<StudentProductDistribution>listResult(results, StudentOverviewResponse.Section.PRODUCT_DISTRIBUTIONS)
+                .map(distributions -> distributions.stream().map(this::mapToProductDistributionSummary).toList()).orElse(null));
+        response.setBalance((BigDecimal) results.get(StudentOverviewResponse.Section.BALANCE));
+        response.setUnreadNotifications((Long) results.get(StudentOverviewResponse.Section.NOTIFICATIONS));
+        response.setPartial(partial);
+        response.setSections(sections);
+        response.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        response.setGeneratedAt(LocalDateTime.now());
+
+        if (partial) {
+            logger.warn("Partial overview returned for student {} after {} ms", studentId, response.getElapsedMillis());
+        }
+        return response;
+    }
+
+    private <T> Future<T> fork(StudentOverviewResponse.Section section, Map<StudentOverviewResponse.Section, long[]> latencies,
+                               Supplier<T> loader) {
+        return sectionExecutor.submit(() -> {
+            long started = System.nanoTime();
+            T result = loader.get();
+            synchronized (latencies) {
+                latencies.put(section, new long[]{System.nanoTime() - started});
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<List<T>> listResult(Map<StudentOverviewResponse.Section, Object> results,
+                                             StudentOverviewResponse.Section section) {
+        return Optional.ofNullable((List<T>) results.get(section));
+    }
+
+    /**
+     * Map Student entity to StudentResponse DTO
+     */
+    private StudentResponse mapToStudentResponse(Student student) {
+        return StudentResponse.builder()
+                .id(student.getId())
+                .institutionId(student.getInstitutionId())
+                .branchId(student.getBranchId())
+                .studentNumber(student.getStudentNumber())
+                .firstName(student.getFirstName())
+                .lastName(student.getLastName())
+                .middleName(student.getMiddleName())
+                .fullName(student.getFullName())
+                .dateOfBirth(student.getDateOfBirth())
+                .gender(student.getGender())
+                .phoneNumber(student.getPhoneNumber())
+                .email(student.getEmail())
+                .address(student.getAddress())
+                .city(student.getCity())
+                .state(student.getState())
+                .postalCode(student.getPostalCode())
+                .country(student.getCountry())
+                .fullAddress(student.getFullAddress())
+                .enrollmentDate(student.getEnrollmentDate())
+                .enrollmentStatus(student.getEnrollmentStatus())
+                .gradeLevel(student.getGradeLevel())
+                .program(student.getProgram())
+                .major(student.getMajor())
+                .gpa(student.getGpa())
+                .profilePictureUrl(student.getProfilePictureUrl())
+                .notes(student.getNotes())
+                .emergencyContactName(student.getEmergencyContactName())
+                .emergencyContactPhone(student.getEmergencyContactPhone())
+                .emergencyContactRelationship(student.getEmergencyContactRelationship())
+                .age(student.getAge())
+                .isActive(student.getIsActive())
+                .createdDate(student.getCreatedDate())
+                .createdBy(student.getCreatedBy())
+                .updatedDate(student.getUpdatedDate())
+                .updatedBy(student.getUpdatedBy())
+                .build();
+    }
+
+    private StudentOverviewResponse.EnrollmentSummary mapToEnrollmentSummary(Enrollment enrollment) {
+        StudentOverviewResponse.EnrollmentSummary summary = new StudentOverviewResponse.EnrollmentSummary();
+        summary.setId(enrollment.getId());
+        summary.setCourseId(enrollment.getCourseId());
+        summary.setStatus(enrollment.getStatus());
+        summary.setGrade(enrollment.getGrade());
+        summary.setCredits(enrollment.getCredits());
+        summary.setIsPaid(enrollment.getIsPaid());
+        summary.setEnrollmentDate(enrollment.getEnrollmentDate());
+        summary.setCompletionDate(enrollment.getCompletionDate());
+        return summary;
+    }
+
+    private StudentOverviewResponse.PaymentSummary mapToPaymentSummary(Payment payment) {
+        StudentOverviewResponse.PaymentSummary summary = new StudentOverviewResponse.PaymentSummary();
+        summary.setId(payment.getId());
+        summary.setPaymentReference(payment.getPaymentReference());
+        summary.setPaymentType(payment.getPaymentType());
+        summary.setStatus(payment.getStatus());
+        summary.setFinalAmount(payment.getFinalAmount());
+        summary.setDueDate(payment.getDueDate());
+        summary.setPaymentDate(payment.getPaymentDate());
+        summary.setInstallmentPlanId(payment.getInstallmentPlanId());
+        return summary;
+    }
+
+    private StudentOverviewResponse.InstallmentPlanSummary mapToInstallmentPlanSummary(InstallmentPlan plan) {
+        StudentOverviewResponse.InstallmentPlanSummary summary = new StudentOverviewResponse.InstallmentPlanSummary();
+        summary.setId(plan.getId());
+        summary.setPlanCode(plan.getPlanCode());
+        summary.setPlanName(plan.getPlanName());
+        summary.setStatus(plan.getStatus());
+        summary.setTotalAmount(plan.getTotalAmount());
+        summary.setInstallmentAmount(plan.getInstallmentAmount());
+        summary.setPaidInstallments(plan.getPaidInstallments());
+        summary.setRemainingInstallments(plan.getRemainingInstallments());
+        summary.setEndDate(plan.getEndDate());
+        return summary;
+    }
+
+    private StudentOverviewResponse.ProductDistributionSummary mapToProductDistributionSummary(StudentProductDistribution distribution) {
+        StudentOverviewResponse.ProductDistributionSummary summary = new StudentOverviewResponse.ProductDistributionSummary();
+        summary.setId(distribution.getId());
+        summary.setProductId(distribution.getProductId());
+        summary.setPackageId(distribution.getPackageId());
+        summary.setDistributionType(distribution.getDistributionType());
+        summary.setStatus(distribution.getStatus());
+        summary.setQuantity(distribution.getQuantity());
+        summary.setFinalPrice(distribution.getFinalPrice());
+        summary.setIsPaid(distribution.getIsPaid());
+        summary.setDistributionDate(distribution.getDistributionDate());
+        return summary;
+    }
+}
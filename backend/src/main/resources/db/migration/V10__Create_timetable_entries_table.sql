@@ -0,0 +1,45 @@
+-- Create timetable entries table
+CREATE TABLE timetable_entries (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    session_number INTEGER NOT NULL,
+    day_of_week VARCHAR(10) NOT NULL CHECK (day_of_week IN ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY')),
+    period INTEGER NOT NULL,
+    start_time TIME,
+    end_time TIME,
+    room VARCHAR(500),
+    instructor_id BIGINT,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_timetable_entries_institution FOREIGN KEY (institution_id) REFERENCES institutions(id),
+    CONSTRAINT fk_timetable_entries_course FOREIGN KEY (course_id) REFERENCES courses(id),
+    CONSTRAINT uk_timetable_entries_course_session UNIQUE (course_id, session_number)
+);
+
+-- Create indexes for timetable entries table
+CREATE INDEX idx_timetable_entries_institution_id ON timetable_entries(institution_id);
+CREATE INDEX idx_timetable_entries_instructor_id ON timetable_entries(instructor_id);
+CREATE INDEX idx_timetable_entries_institution_room ON timetable_entries(institution_id, room);
+
+-- Add comments for documentation
+COMMENT ON TABLE timetable_entries IS 'Weekly course sessions placed by the timetable generator';
+COMMENT ON COLUMN timetable_entries.id IS 'Primary key';
+COMMENT ON COLUMN timetable_entries.institution_id IS 'Reference to institution';
+COMMENT ON COLUMN timetable_entries.course_id IS 'Reference to course';
+COMMENT ON COLUMN timetable_entries.session_number IS 'Weekly session number within the course';
+COMMENT ON COLUMN timetable_entries.day_of_week IS 'Day of the week';
+COMMENT ON COLUMN timetable_entries.period IS 'Period index within the day';
+COMMENT ON COLUMN timetable_entries.start_time IS 'Session start time';
+COMMENT ON COLUMN timetable_entries.end_time IS 'Session end time';
+COMMENT ON COLUMN timetable_entries.room IS 'Assigned room';
+COMMENT ON COLUMN timetable_entries.instructor_id IS 'Reference to instructor user';
+COMMENT ON COLUMN timetable_entries.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN timetable_entries.created_by IS 'User who created the record';
+COMMENT ON COLUMN timetable_entries.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN timetable_entries.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN timetable_entries.is_active IS 'Active status flag';
@@ -0,0 +1,7 @@
+-- Add GPA running sums to students table
+ALTER TABLE students ADD COLUMN gpa_weighted_sum DECIMAL(12,4);
+ALTER TABLE students ADD COLUMN gpa_credits INTEGER;
+
+-- Add comments for documentation
+COMMENT ON COLUMN students.gpa_weighted_sum IS 'Sum of credit-weighted grade points of graded enrollments';
+COMMENT ON COLUMN students.gpa_credits IS 'Sum of credits of graded enrollments; NULL until first computed';
@@ -0,0 +1,7 @@
+-- Add compressed attendance bitmaps to enrollments table
+ALTER TABLE IF EXISTS enrollments ADD COLUMN IF NOT EXISTS attended_sessions BYTEA;
+ALTER TABLE IF EXISTS enrollments ADD COLUMN IF NOT EXISTS recorded_sessions BYTEA;
+
+-- Add comments for documentation
+COMMENT ON COLUMN enrollments.attended_sessions IS 'Compressed bitmap of session numbers the student attended';
+COMMENT ON COLUMN enrollments.recorded_sessions IS 'Compressed bitmap of session numbers attendance was taken for';
@@ -0,0 +1,52 @@
+-- Create student import jobs table
+CREATE TABLE student_import_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    file_name VARCHAR(255),
+    source_path VARCHAR(500) NOT NULL,
+    error_path VARCHAR(500),
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED' CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    file_size BIGINT,
+    bytes_processed BIGINT NOT NULL DEFAULT 0,
+    processed_rows INTEGER NOT NULL DEFAULT 0,
+    imported_rows INTEGER NOT NULL DEFAULT 0,
+    rejected_rows INTEGER NOT NULL DEFAULT 0,
+    error_file_size BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    started_date TIMESTAMP,
+    completed_date TIMESTAMP,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_student_import_jobs_institution FOREIGN KEY (institution_id) REFERENCES institutions(id)
+);
+
+-- Create indexes for student import jobs table
+CREATE INDEX idx_student_import_jobs_institution_id ON student_import_jobs(institution_id);
+CREATE INDEX idx_student_import_jobs_status ON student_import_jobs(status);
+
+-- Add comments for documentation
+COMMENT ON TABLE student_import_jobs IS 'Bulk CSV student imports with resumable progress';
+COMMENT ON COLUMN student_import_jobs.id IS 'Primary key';
+COMMENT ON COLUMN student_import_jobs.institution_id IS 'Reference to institution';
+COMMENT ON COLUMN student_import_jobs.file_name IS 'Name of the uploaded file';
+COMMENT ON COLUMN student_import_jobs.source_path IS 'Location of the spooled upload';
+COMMENT ON COLUMN student_import_jobs.error_path IS 'Location of the rejected rows file';
+COMMENT ON COLUMN student_import_jobs.status IS 'Import status';
+COMMENT ON COLUMN student_import_jobs.file_size IS 'Size of the upload in bytes';
+COMMENT ON COLUMN student_import_jobs.bytes_processed IS 'Bytes of the upload consumed by committed rows, approximately';
+COMMENT ON COLUMN student_import_jobs.processed_rows IS 'Data rows committed so far; resume point';
+COMMENT ON COLUMN student_import_jobs.imported_rows IS 'Students inserted';
+COMMENT ON COLUMN student_import_jobs.rejected_rows IS 'Rows written to the error file';
+COMMENT ON COLUMN student_import_jobs.error_file_size IS 'Committed length of the error file in bytes';
+COMMENT ON COLUMN student_import_jobs.error_message IS 'Failure reason of a failed job';
+COMMENT ON COLUMN student_import_jobs.started_date IS 'Processing start timestamp';
+COMMENT ON COLUMN student_import_jobs.completed_date IS 'Processing end timestamp';
+COMMENT ON COLUMN student_import_jobs.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN student_import_jobs.created_by IS 'User who created the record';
+COMMENT ON COLUMN student_import_jobs.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN student_import_jobs.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN student_import_jobs.is_active IS 'Active status flag';
@@ -0,0 +1,53 @@
+-- Create duplicate student matches table
+CREATE TABLE duplicate_student_matches (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    matched_student_id BIGINT NOT NULL,
+    score DOUBLE PRECISION NOT NULL,
+    name_similarity DOUBLE PRECISION,
+    date_of_birth_similarity DOUBLE PRECISION,
+    phone_match BOOLEAN,
+    address_similarity DOUBLE PRECISION,
+    status VARCHAR(20) NOT NULL DEFAULT 'OPEN' CHECK (status IN ('OPEN', 'CONFIRMED', 'DISMISSED')),
+    detected_date TIMESTAMP NOT NULL,
+    reviewed_date TIMESTAMP,
+    reviewed_by VARCHAR(100),
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_duplicate_student_matches_institution FOREIGN KEY (institution_id) REFERENCES institutions(id),
+    CONSTRAINT fk_duplicate_student_matches_student FOREIGN KEY (student_id) REFERENCES students(id),
+    CONSTRAINT fk_duplicate_student_matches_matched_student FOREIGN KEY (matched_student_id) REFERENCES students(id),
+    CONSTRAINT uk_duplicate_student_matches_pair UNIQUE (student_id, matched_student_id),
+    CONSTRAINT chk_duplicate_student_matches_order CHECK (student_id < matched_student_id)
+);
+
+-- Create indexes for duplicate student matches table
+CREATE INDEX idx_duplicate_student_matches_institution_status ON duplicate_student_matches(institution_id, status);
+CREATE INDEX idx_duplicate_student_matches_matched_student_id ON duplicate_student_matches(matched_student_id);
+CREATE INDEX idx_students_institution_date_of_birth ON students(institution_id, date_of_birth);
+
+-- Add comments for documentation
+COMMENT ON TABLE duplicate_student_matches IS 'Probable duplicate student records found by fuzzy matching';
+COMMENT ON COLUMN duplicate_student_matches.id IS 'Primary key';
+COMMENT ON COLUMN duplicate_student_matches.institution_id IS 'Reference to institution';
+COMMENT ON COLUMN duplicate_student_matches.student_id IS 'Reference to the student with the lower ID';
+COMMENT ON COLUMN duplicate_student_matches.matched_student_id IS 'Reference to the student with the higher ID';
+COMMENT ON COLUMN duplicate_student_matches.score IS 'Weighted match score between 0 and 1';
+COMMENT ON COLUMN duplicate_student_matches.name_similarity IS 'Estimated Jaccard similarity of name shingles';
+COMMENT ON COLUMN duplicate_student_matches.date_of_birth_similarity IS 'Date of birth similarity, allowing transposed or single-field typos';
+COMMENT ON COLUMN duplicate_student_matches.phone_match IS 'Whether normalized phone numbers are equal';
+COMMENT ON COLUMN duplicate_student_matches.address_similarity IS 'Estimated Jaccard similarity of address shingles';
+COMMENT ON COLUMN duplicate_student_matches.status IS 'Review status';
+COMMENT ON COLUMN duplicate_student_matches.detected_date IS 'Detection timestamp';
+COMMENT ON COLUMN duplicate_student_matches.reviewed_date IS 'Review timestamp';
+COMMENT ON COLUMN duplicate_student_matches.reviewed_by IS 'User who reviewed the match';
+COMMENT ON COLUMN duplicate_student_matches.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN duplicate_student_matches.created_by IS 'User who created the record';
+COMMENT ON COLUMN duplicate_student_matches.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN duplicate_student_matches.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN duplicate_student_matches.is_active IS 'Active status flag';
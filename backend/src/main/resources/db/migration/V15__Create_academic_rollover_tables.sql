@@ -0,0 +1,101 @@
+-- Create academic rollover jobs table
+CREATE TABLE academic_rollover_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED' CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED', 'CANCELLED', 'ROLLING_BACK', 'ROLLED_BACK')),
+    grade_levels VARCHAR(500) NOT NULL,
+    graduation_status VARCHAR(20) NOT NULL DEFAULT 'GRADUATED' CHECK (graduation_status IN ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'GRADUATED', 'TRANSFERRED', 'DROPPED')),
+    source_term_start DATE NOT NULL,
+    source_term_end DATE NOT NULL,
+    target_term_start DATE NOT NULL,
+    course_code_suffix VARCHAR(10) NOT NULL,
+    max_student_id BIGINT NOT NULL DEFAULT 0,
+    max_course_id BIGINT NOT NULL DEFAULT 0,
+    last_student_id BIGINT NOT NULL DEFAULT 0,
+    last_course_id BIGINT NOT NULL DEFAULT 0,
+    advanced_students INTEGER NOT NULL DEFAULT 0,
+    graduated_students INTEGER NOT NULL DEFAULT 0,
+    cloned_courses INTEGER NOT NULL DEFAULT 0,
+    restored_students INTEGER NOT NULL DEFAULT 0,
+    restored_courses INTEGER NOT NULL DEFAULT 0,
+    retained_courses INTEGER NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    started_date TIMESTAMP,
+    completed_date TIMESTAMP,
+    rolled_back_date TIMESTAMP,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_academic_rollover_jobs_institution FOREIGN KEY (institution_id) REFERENCES institutions(id)
+);
+
+-- Create academic rollover snapshots table
+CREATE TABLE academic_rollover_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    entity_type VARCHAR(20) NOT NULL CHECK (entity_type IN ('STUDENT', 'COURSE')),
+    entity_id BIGINT NOT NULL,
+    cloned_entity_id BIGINT,
+    previous_grade_level VARCHAR(50),
+    previous_status VARCHAR(20),
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_academic_rollover_snapshots_job FOREIGN KEY (job_id) REFERENCES academic_rollover_jobs(id),
+    CONSTRAINT uk_academic_rollover_snapshots_entity UNIQUE (job_id, entity_type, entity_id)
+);
+
+-- Create indexes for academic rollover tables
+CREATE INDEX idx_academic_rollover_jobs_institution_id ON academic_rollover_jobs(institution_id);
+CREATE INDEX idx_academic_rollover_jobs_status ON academic_rollover_jobs(status);
+
+-- Add comments for documentation
+COMMENT ON TABLE academic_rollover_jobs IS 'Year-end rollovers of student grade levels and term courses';
+COMMENT ON COLUMN academic_rollover_jobs.id IS 'Primary key';
+COMMENT ON COLUMN academic_rollover_jobs.institution_id IS 'Reference to institution';
+COMMENT ON COLUMN academic_rollover_jobs.status IS 'Rollover status';
+COMMENT ON COLUMN academic_rollover_jobs.grade_levels IS 'Comma-separated grade level progression, final level last';
+COMMENT ON COLUMN academic_rollover_jobs.graduation_status IS 'Enrollment status given to students in the final grade level';
+COMMENT ON COLUMN academic_rollover_jobs.source_term_start IS 'First start date of courses to clone';
+COMMENT ON COLUMN academic_rollover_jobs.source_term_end IS 'Last start date of courses to clone';
+COMMENT ON COLUMN academic_rollover_jobs.target_term_start IS 'Start of the new term; cloned course dates are shifted by its distance to the source term start';
+COMMENT ON COLUMN academic_rollover_jobs.course_code_suffix IS 'Suffix appended to cloned course codes';
+COMMENT ON COLUMN academic_rollover_jobs.max_student_id IS 'Highest student ID when the job was created';
+COMMENT ON COLUMN academic_rollover_jobs.max_course_id IS 'Highest course ID when the job was created';
+COMMENT ON COLUMN academic_rollover_jobs.last_student_id IS 'Highest student ID of the last committed chunk';
+COMMENT ON COLUMN academic_rollover_jobs.last_course_id IS 'Highest course ID of the last committed chunk';
+COMMENT ON COLUMN academic_rollover_jobs.advanced_students IS 'Students advanced to the next grade level';
+COMMENT ON COLUMN academic_rollover_jobs.graduated_students IS 'Students graduated';
+COMMENT ON COLUMN academic_rollover_jobs.cloned_courses IS 'Courses cloned for the new term';
+COMMENT ON COLUMN academic_rollover_jobs.restored_students IS 'Students restored by a rollback';
+COMMENT ON COLUMN academic_rollover_jobs.restored_courses IS 'Source courses restored by a rollback';
+COMMENT ON COLUMN academic_rollover_jobs.retained_courses IS 'Cloned courses kept by a rollback because they are already in use';
+COMMENT ON COLUMN academic_rollover_jobs.error_message IS 'Failure reason';
+COMMENT ON COLUMN academic_rollover_jobs.started_date IS 'Processing start timestamp';
+COMMENT ON COLUMN academic_rollover_jobs.completed_date IS 'Processing end timestamp';
+COMMENT ON COLUMN academic_rollover_jobs.rolled_back_date IS 'Rollback end timestamp';
+COMMENT ON COLUMN academic_rollover_jobs.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN academic_rollover_jobs.created_by IS 'User who created the record';
+COMMENT ON COLUMN academic_rollover_jobs.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN academic_rollover_jobs.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN academic_rollover_jobs.is_active IS 'Active status flag';
+
+COMMENT ON TABLE academic_rollover_snapshots IS 'Previous values of students and courses changed by a rollover job';
+COMMENT ON COLUMN academic_rollover_snapshots.id IS 'Primary key';
+COMMENT ON COLUMN academic_rollover_snapshots.job_id IS 'Reference to rollover job';
+COMMENT ON COLUMN academic_rollover_snapshots.entity_type IS 'Changed entity type';
+COMMENT ON COLUMN academic_rollover_snapshots.entity_id IS 'ID of the changed student or source course';
+COMMENT ON COLUMN academic_rollover_snapshots.cloned_entity_id IS 'ID of the course cloned from the source course';
+COMMENT ON COLUMN academic_rollover_snapshots.previous_grade_level IS 'Grade level before the rollover';
+COMMENT ON COLUMN academic_rollover_snapshots.previous_status IS 'Enrollment or course status before the rollover';
+COMMENT ON COLUMN academic_rollover_snapshots.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN academic_rollover_snapshots.created_by IS 'User who created the record';
+COMMENT ON COLUMN academic_rollover_snapshots.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN academic_rollover_snapshots.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN academic_rollover_snapshots.is_active IS 'Active status flag';
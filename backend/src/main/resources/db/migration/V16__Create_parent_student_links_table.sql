@@ -0,0 +1,31 @@
+-- Create parent student links table
+CREATE TABLE parent_student_links (
+    id BIGSERIAL PRIMARY KEY,
+    parent_user_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    relationship VARCHAR(50),
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_parent_student_links_parent_user FOREIGN KEY (parent_user_id) REFERENCES users(id),
+    CONSTRAINT fk_parent_student_links_student FOREIGN KEY (student_id) REFERENCES students(id),
+    CONSTRAINT uk_parent_student_links_parent_student UNIQUE (parent_user_id, student_id)
+);
+
+-- Create indexes for parent student links table
+CREATE INDEX idx_parent_student_links_student_id ON parent_student_links(student_id);
+
+-- Add comments for documentation
+COMMENT ON TABLE parent_student_links IS 'Children linked to parent portal users';
+COMMENT ON COLUMN parent_student_links.id IS 'Primary key';
+COMMENT ON COLUMN parent_student_links.parent_user_id IS 'Reference to the user with the PARENT role';
+COMMENT ON COLUMN parent_student_links.student_id IS 'Reference to the child';
+COMMENT ON COLUMN parent_student_links.relationship IS 'Relationship of the parent to the child';
+COMMENT ON COLUMN parent_student_links.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN parent_student_links.created_by IS 'User who created the record';
+COMMENT ON COLUMN parent_student_links.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN parent_student_links.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN parent_student_links.is_active IS 'Active status flag';
@@ -0,0 +1,37 @@
+-- Create course exams table
+CREATE TABLE course_exams (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    exam_date TIMESTAMP NOT NULL,
+    duration_minutes INTEGER,
+    room VARCHAR(500),
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_course_exams_institution FOREIGN KEY (institution_id) REFERENCES institutions(id),
+    CONSTRAINT fk_course_exams_course FOREIGN KEY (course_id) REFERENCES courses(id)
+);
+
+-- Create indexes for course exams table
+CREATE INDEX idx_course_exams_course_id ON course_exams(course_id);
+CREATE INDEX idx_course_exams_exam_date ON course_exams(exam_date);
+
+-- Add comments for documentation
+COMMENT ON TABLE course_exams IS 'Scheduled exams of courses';
+COMMENT ON COLUMN course_exams.id IS 'Primary key';
+COMMENT ON COLUMN course_exams.institution_id IS 'Reference to the institution';
+COMMENT ON COLUMN course_exams.course_id IS 'Reference to the course';
+COMMENT ON COLUMN course_exams.title IS 'Exam title';
+COMMENT ON COLUMN course_exams.exam_date IS 'Exam start date and time';
+COMMENT ON COLUMN course_exams.duration_minutes IS 'Exam duration in minutes';
+COMMENT ON COLUMN course_exams.room IS 'Exam room';
+COMMENT ON COLUMN course_exams.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN course_exams.created_by IS 'User who created the record';
+COMMENT ON COLUMN course_exams.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN course_exams.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN course_exams.is_active IS 'Active status flag';
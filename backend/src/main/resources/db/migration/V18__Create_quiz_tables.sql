@@ -0,0 +1,84 @@
+-- Create quizzes table
+CREATE TABLE quizzes (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description VARCHAR(1000),
+    opens_at TIMESTAMP NOT NULL,
+    closes_at TIMESTAMP NOT NULL,
+    max_score DOUBLE PRECISION NOT NULL,
+    record_as_course_grade BOOLEAN NOT NULL DEFAULT FALSE,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_quizzes_institution FOREIGN KEY (institution_id) REFERENCES institutions(id),
+    CONSTRAINT fk_quizzes_course FOREIGN KEY (course_id) REFERENCES courses(id),
+    CONSTRAINT chk_quizzes_status CHECK (status IN ('ACTIVE', 'CLOSED')),
+    CONSTRAINT chk_quizzes_window CHECK (closes_at > opens_at)
+);
+
+-- Create quiz questions table
+CREATE TABLE quiz_questions (
+    id BIGSERIAL PRIMARY KEY,
+    quiz_id BIGINT NOT NULL,
+    question_number INTEGER NOT NULL,
+    question_type VARCHAR(20) NOT NULL,
+    prompt VARCHAR(1000) NOT NULL,
+    options VARCHAR(2000),
+    correct_answers VARCHAR(1000) NOT NULL,
+    points DOUBLE PRECISION NOT NULL,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_quiz_questions_quiz FOREIGN KEY (quiz_id) REFERENCES quizzes(id),
+    CONSTRAINT uk_quiz_questions_quiz_number UNIQUE (quiz_id, question_number),
+    CONSTRAINT chk_quiz_questions_type CHECK (question_type IN ('SINGLE_CHOICE', 'MULTIPLE_CHOICE', 'SHORT_ANSWER'))
+);
+
+-- Create quiz submissions table
+CREATE TABLE quiz_submissions (
+    id BIGSERIAL PRIMARY KEY,
+    quiz_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    answers VARCHAR(4000) NOT NULL,
+    submitted_date TIMESTAMP NOT NULL,
+    journal_sequence BIGINT,
+    score DOUBLE PRECISION,
+    scored_date TIMESTAMP,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_quiz_submissions_quiz FOREIGN KEY (quiz_id) REFERENCES quizzes(id),
+    CONSTRAINT fk_quiz_submissions_student FOREIGN KEY (student_id) REFERENCES students(id),
+    CONSTRAINT uk_quiz_submissions_quiz_student UNIQUE (quiz_id, student_id)
+);
+
+-- Create indexes for quiz tables
+CREATE INDEX idx_quizzes_course_id ON quizzes(course_id);
+CREATE INDEX idx_quiz_submissions_student_id ON quiz_submissions(student_id);
+
+-- Add comments for documentation
+COMMENT ON TABLE quizzes IS 'Online quizzes and exams of courses';
+COMMENT ON COLUMN quizzes.opens_at IS 'Time from which submissions are accepted';
+COMMENT ON COLUMN quizzes.closes_at IS 'Time after which submissions are rejected';
+COMMENT ON COLUMN quizzes.max_score IS 'Sum of the points of all questions';
+COMMENT ON COLUMN quizzes.record_as_course_grade IS 'Whether scores are written to the enrollment grade';
+COMMENT ON COLUMN quizzes.status IS 'ACTIVE or CLOSED';
+COMMENT ON TABLE quiz_questions IS 'Questions and answer keys of quizzes';
+COMMENT ON COLUMN quiz_questions.options IS 'Answer options, one per line';
+COMMENT ON COLUMN quiz_questions.correct_answers IS 'Accepted answers, one per line';
+COMMENT ON TABLE quiz_submissions IS 'Student answers to quizzes, written in batches from the submission journal';
+COMMENT ON COLUMN quiz_submissions.answers IS 'Answers as JSON keyed by question number';
+COMMENT ON COLUMN quiz_submissions.journal_sequence IS 'Sequence number of the submission in the local journal';
+COMMENT ON COLUMN quiz_submissions.score IS 'Automatically computed score';
@@ -0,0 +1,83 @@
+-- Create student ledger entries table
+CREATE TABLE student_ledger_entries (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    student_id BIGINT NOT NULL,
+    entry_sequence BIGINT NOT NULL,
+    entry_type VARCHAR(20) NOT NULL CHECK (entry_type IN ('CHARGE', 'PAYMENT', 'REFUND')),
+    debit_account VARCHAR(20) NOT NULL CHECK (debit_account IN ('RECEIVABLE', 'REVENUE', 'CASH')),
+    credit_account VARCHAR(20) NOT NULL CHECK (credit_account IN ('RECEIVABLE', 'REVENUE', 'CASH')),
+    amount_minor BIGINT NOT NULL CHECK (amount_minor > 0),
+    source_type VARCHAR(30) NOT NULL CHECK (source_type IN ('PAYMENT', 'INSTALLMENT_PLAN', 'PRODUCT_DISTRIBUTION')),
+    source_id BIGINT,
+    posted_date TIMESTAMP NOT NULL,
+    description VARCHAR(500),
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_student_ledger_entries_institution FOREIGN KEY (institution_id) REFERENCES institutions(id),
+    CONSTRAINT fk_student_ledger_entries_student FOREIGN KEY (student_id) REFERENCES students(id),
+    CONSTRAINT uk_student_ledger_entries_sequence UNIQUE (student_id, entry_sequence),
+    CONSTRAINT chk_student_ledger_entries_balanced CHECK (debit_account <> credit_account)
+);
+
+-- Create student ledger snapshots table
+CREATE TABLE student_ledger_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    student_id BIGINT NOT NULL,
+    through_sequence BIGINT NOT NULL,
+    balance_minor BIGINT NOT NULL,
+    charged_minor BIGINT NOT NULL,
+    paid_minor BIGINT NOT NULL,
+    through_date TIMESTAMP NOT NULL,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_student_ledger_snapshots_student FOREIGN KEY (student_id) REFERENCES students(id),
+    CONSTRAINT uk_student_ledger_snapshots_sequence UNIQUE (student_id, through_sequence)
+);
+
+-- Create indexes for student ledger tables
+CREATE INDEX idx_student_ledger_entries_source ON student_ledger_entries(source_type, source_id);
+CREATE INDEX idx_student_ledger_entries_posted_date ON student_ledger_entries(student_id, posted_date);
+CREATE INDEX idx_student_ledger_snapshots_through_date ON student_ledger_snapshots(student_id, through_date);
+
+-- Add comments for documentation
+COMMENT ON TABLE student_ledger_entries IS 'Append-only double-entry postings on student accounts';
+COMMENT ON COLUMN student_ledger_entries.id IS 'Primary key';
+COMMENT ON COLUMN student_ledger_entries.institution_id IS 'Reference to the institution';
+COMMENT ON COLUMN student_ledger_entries.student_id IS 'Reference to the student';
+COMMENT ON COLUMN student_ledger_entries.entry_sequence IS 'Gapless per-student posting order';
+COMMENT ON COLUMN student_ledger_entries.entry_type IS 'Kind of posting';
+COMMENT ON COLUMN student_ledger_entries.debit_account IS 'Account debited; reversals swap the accounts of their entry type';
+COMMENT ON COLUMN student_ledger_entries.credit_account IS 'Account credited';
+COMMENT ON COLUMN student_ledger_entries.amount_minor IS 'Posted amount in minor currency units';
+COMMENT ON COLUMN student_ledger_entries.source_type IS 'Kind of record the posting derives from';
+COMMENT ON COLUMN student_ledger_entries.source_id IS 'ID of the record the posting derives from';
+COMMENT ON COLUMN student_ledger_entries.posted_date IS 'Posting timestamp';
+COMMENT ON COLUMN student_ledger_entries.description IS 'Posting description';
+COMMENT ON COLUMN student_ledger_entries.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN student_ledger_entries.created_by IS 'User who created the record';
+COMMENT ON COLUMN student_ledger_entries.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN student_ledger_entries.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN student_ledger_entries.is_active IS 'Active status flag';
+
+COMMENT ON TABLE student_ledger_snapshots IS 'Periodic balance snapshots of student ledgers';
+COMMENT ON COLUMN student_ledger_snapshots.id IS 'Primary key';
+COMMENT ON COLUMN student_ledger_snapshots.student_id IS 'Reference to the student';
+COMMENT ON COLUMN student_ledger_snapshots.through_sequence IS 'Last entry sequence included in the snapshot';
+COMMENT ON COLUMN student_ledger_snapshots.balance_minor IS 'Receivable balance in minor currency units';
+COMMENT ON COLUMN student_ledger_snapshots.charged_minor IS 'Total net charges in minor currency units';
+COMMENT ON COLUMN student_ledger_snapshots.paid_minor IS 'Total net payments in minor currency units';
+COMMENT ON COLUMN student_ledger_snapshots.through_date IS 'Posting timestamp of the last included entry';
+COMMENT ON COLUMN student_ledger_snapshots.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN student_ledger_snapshots.created_by IS 'User who created the record';
+COMMENT ON COLUMN student_ledger_snapshots.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN student_ledger_snapshots.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN student_ledger_snapshots.is_active IS 'Active status flag';
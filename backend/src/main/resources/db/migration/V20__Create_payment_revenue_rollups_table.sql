@@ -0,0 +1,48 @@
+-- Create payment revenue rollups table
+CREATE TABLE payment_revenue_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    branch_id BIGINT NOT NULL DEFAULT 0,
+    rollup_date DATE NOT NULL,
+    payment_type VARCHAR(20) NOT NULL CHECK (payment_type IN ('COURSE_FEE', 'BOOK_FEE', 'EXAM_FEE', 'TRANSPORT_FEE', 'HOSTEL_FEE', 'LIBRARY_FEE', 'LAB_FEE', 'SPORTS_FEE', 'ACTIVITY_FEE', 'LATE_FEE', 'PENALTY', 'REFUND', 'OTHER')),
+    payment_method VARCHAR(20) NOT NULL CHECK (payment_method IN ('CASH', 'BANK_TRANSFER', 'CREDIT_CARD', 'DEBIT_CARD', 'CHECK', 'ONLINE_PAYMENT', 'MOBILE_PAYMENT', 'INSTALLMENT', 'SCHOLARSHIP', 'GRANT', 'OTHER')),
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'COMPLETED', 'FAILED', 'CANCELLED', 'REFUNDED', 'PARTIAL')),
+    payment_count BIGINT NOT NULL DEFAULT 0,
+    gross_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    discount_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    tax_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    final_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    refund_amount DECIMAL(14,2) NOT NULL DEFAULT 0,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_payment_revenue_rollups_institution FOREIGN KEY (institution_id) REFERENCES institutions(id),
+    CONSTRAINT uk_payment_revenue_rollups_cell UNIQUE (institution_id, branch_id, rollup_date, payment_type, payment_method, status)
+);
+
+-- Create indexes for payment revenue rollups table
+CREATE INDEX idx_payment_revenue_rollups_institution_date ON payment_revenue_rollups(institution_id, rollup_date);
+
+-- Add comments for documentation
+COMMENT ON TABLE payment_revenue_rollups IS 'Daily payment totals per institution, branch, type, method and status';
+COMMENT ON COLUMN payment_revenue_rollups.id IS 'Primary key';
+COMMENT ON COLUMN payment_revenue_rollups.institution_id IS 'Reference to the institution';
+COMMENT ON COLUMN payment_revenue_rollups.branch_id IS 'Branch of the payments; 0 for payments without a branch';
+COMMENT ON COLUMN payment_revenue_rollups.rollup_date IS 'Payment date';
+COMMENT ON COLUMN payment_revenue_rollups.payment_type IS 'Type of the payments';
+COMMENT ON COLUMN payment_revenue_rollups.payment_method IS 'Method of the payments';
+COMMENT ON COLUMN payment_revenue_rollups.status IS 'Status of the payments';
+COMMENT ON COLUMN payment_revenue_rollups.payment_count IS 'Number of payments';
+COMMENT ON COLUMN payment_revenue_rollups.gross_amount IS 'Sum of payment amounts';
+COMMENT ON COLUMN payment_revenue_rollups.discount_amount IS 'Sum of discounts';
+COMMENT ON COLUMN payment_revenue_rollups.tax_amount IS 'Sum of taxes';
+COMMENT ON COLUMN payment_revenue_rollups.final_amount IS 'Sum of final amounts';
+COMMENT ON COLUMN payment_revenue_rollups.refund_amount IS 'Sum of refunded amounts';
+COMMENT ON COLUMN payment_revenue_rollups.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN payment_revenue_rollups.created_by IS 'User who created the record';
+COMMENT ON COLUMN payment_revenue_rollups.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN payment_revenue_rollups.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN payment_revenue_rollups.is_active IS 'Active status flag';
@@ -0,0 +1,37 @@
+-- Create payment overdue sweeps table
+CREATE TABLE payment_overdue_sweeps (
+    id BIGSERIAL PRIMARY KEY,
+    due_date DATE NOT NULL,
+    lease_owner VARCHAR(100),
+    lease_expires_at TIMESTAMP,
+    last_started_at TIMESTAMP,
+    last_completed_at TIMESTAMP,
+    overdue_plans INTEGER NOT NULL DEFAULT 0,
+    late_fees INTEGER NOT NULL DEFAULT 0,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT uk_payment_overdue_sweeps_due_date UNIQUE (due_date)
+);
+
+-- Create indexes for payment overdue sweeps table
+CREATE INDEX idx_payment_overdue_sweeps_lease_expires_at ON payment_overdue_sweeps(lease_expires_at);
+
+-- Add comments for documentation
+COMMENT ON TABLE payment_overdue_sweeps IS 'Leases and outcomes of the overdue installment sweeps per due date';
+COMMENT ON COLUMN payment_overdue_sweeps.id IS 'Primary key';
+COMMENT ON COLUMN payment_overdue_sweeps.due_date IS 'Due date whose installments the sweep handles';
+COMMENT ON COLUMN payment_overdue_sweeps.lease_owner IS 'Node that last claimed the sweep';
+COMMENT ON COLUMN payment_overdue_sweeps.lease_expires_at IS 'Expiry of the running sweep lease; null when no sweep runs';
+COMMENT ON COLUMN payment_overdue_sweeps.last_started_at IS 'Start of the latest sweep';
+COMMENT ON COLUMN payment_overdue_sweeps.last_completed_at IS 'Completion of the latest sweep';
+COMMENT ON COLUMN payment_overdue_sweeps.overdue_plans IS 'Installment plans marked overdue by the sweeps';
+COMMENT ON COLUMN payment_overdue_sweeps.late_fees IS 'Late fees charged by the sweeps';
+COMMENT ON COLUMN payment_overdue_sweeps.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN payment_overdue_sweeps.created_by IS 'User who created the record';
+COMMENT ON COLUMN payment_overdue_sweeps.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN payment_overdue_sweeps.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN payment_overdue_sweeps.is_active IS 'Active status flag';
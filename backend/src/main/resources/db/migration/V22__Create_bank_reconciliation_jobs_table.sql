@@ -0,0 +1,57 @@
+-- Create bank reconciliation jobs table
+CREATE TABLE bank_reconciliation_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    file_name VARCHAR(255),
+    source_path VARCHAR(500) NOT NULL,
+    report_path VARCHAR(500),
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    date_window_days INTEGER NOT NULL DEFAULT 0,
+    file_size BIGINT,
+    statement_lines INTEGER NOT NULL DEFAULT 0,
+    exact_matches INTEGER NOT NULL DEFAULT 0,
+    fuzzy_matches INTEGER NOT NULL DEFAULT 0,
+    unmatched_lines INTEGER NOT NULL DEFAULT 0,
+    matched_amount DECIMAL(15,2) NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    started_date TIMESTAMP,
+    completed_date TIMESTAMP,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_bank_reconciliation_jobs_institution FOREIGN KEY (institution_id) REFERENCES institutions(id)
+);
+
+-- Create indexes for bank reconciliation jobs table
+CREATE INDEX idx_bank_reconciliation_jobs_institution_id ON bank_reconciliation_jobs(institution_id);
+CREATE INDEX idx_bank_reconciliation_jobs_status ON bank_reconciliation_jobs(status);
+
+-- Create index for the open bank transfer lookup of reconciliation
+CREATE INDEX idx_payments_institution_method_status ON payments(institution_id, payment_method, status);
+
+-- Add comments for documentation
+COMMENT ON TABLE bank_reconciliation_jobs IS 'Matching runs of uploaded bank statements against pending bank transfer payments';
+COMMENT ON COLUMN bank_reconciliation_jobs.id IS 'Primary key';
+COMMENT ON COLUMN bank_reconciliation_jobs.institution_id IS 'Institution whose payments are reconciled';
+COMMENT ON COLUMN bank_reconciliation_jobs.file_name IS 'Original name of the uploaded statement';
+COMMENT ON COLUMN bank_reconciliation_jobs.source_path IS 'Spooled statement file';
+COMMENT ON COLUMN bank_reconciliation_jobs.report_path IS 'CSV report of unmatched statement lines';
+COMMENT ON COLUMN bank_reconciliation_jobs.status IS 'Job status: QUEUED, RUNNING, COMPLETED, FAILED';
+COMMENT ON COLUMN bank_reconciliation_jobs.date_window_days IS 'Days a statement date may differ from the payment due date';
+COMMENT ON COLUMN bank_reconciliation_jobs.file_size IS 'Statement size in bytes';
+COMMENT ON COLUMN bank_reconciliation_jobs.statement_lines IS 'Statement lines read';
+COMMENT ON COLUMN bank_reconciliation_jobs.exact_matches IS 'Lines matched on reference and amount';
+COMMENT ON COLUMN bank_reconciliation_jobs.fuzzy_matches IS 'Lines matched on amount and a similar reference';
+COMMENT ON COLUMN bank_reconciliation_jobs.unmatched_lines IS 'Lines written to the unmatched-items report';
+COMMENT ON COLUMN bank_reconciliation_jobs.matched_amount IS 'Total amount of the completed payments';
+COMMENT ON COLUMN bank_reconciliation_jobs.error_message IS 'Failure reason of a failed job';
+COMMENT ON COLUMN bank_reconciliation_jobs.started_date IS 'Start of the latest run';
+COMMENT ON COLUMN bank_reconciliation_jobs.completed_date IS 'Completion of the job';
+COMMENT ON COLUMN bank_reconciliation_jobs.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN bank_reconciliation_jobs.created_by IS 'User who created the record';
+COMMENT ON COLUMN bank_reconciliation_jobs.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN bank_reconciliation_jobs.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN bank_reconciliation_jobs.is_active IS 'Active status flag';
@@ -0,0 +1,29 @@
+-- Create business sequences table
+CREATE TABLE business_sequences (
+    id BIGSERIAL PRIMARY KEY,
+    institution_id BIGINT NOT NULL,
+    sequence_kind VARCHAR(50) NOT NULL CHECK (sequence_kind IN ('STUDENT_NUMBER', 'PAYMENT_REFERENCE', 'RECEIPT_NUMBER', 'INSTALLMENT_PLAN_CODE', 'REPORT_CODE')),
+    next_value BIGINT NOT NULL DEFAULT 1 CHECK (next_value >= 1),
+    block_size INTEGER,
+    created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_date TIMESTAMP,
+    updated_by VARCHAR(100),
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    CONSTRAINT fk_business_sequences_institution FOREIGN KEY (institution_id) REFERENCES institutions(id),
+    CONSTRAINT uk_business_sequences_institution_kind UNIQUE (institution_id, sequence_kind)
+);
+
+-- Add comments for documentation
+COMMENT ON TABLE business_sequences IS 'High-water marks of the per-institution business number sequences, handed out in blocks';
+COMMENT ON COLUMN business_sequences.id IS 'Primary key';
+COMMENT ON COLUMN business_sequences.institution_id IS 'Institution the numbers belong to';
+COMMENT ON COLUMN business_sequences.sequence_kind IS 'Kind of business number';
+COMMENT ON COLUMN business_sequences.next_value IS 'First value not yet handed out to any node';
+COMMENT ON COLUMN business_sequences.block_size IS 'Size of the last block handed out';
+COMMENT ON COLUMN business_sequences.created_date IS 'Record creation timestamp';
+COMMENT ON COLUMN business_sequences.created_by IS 'User who created the record';
+COMMENT ON COLUMN business_sequences.updated_date IS 'Record last update timestamp';
+COMMENT ON COLUMN business_sequences.updated_by IS 'User who last updated the record';
+COMMENT ON COLUMN business_sequences.is_active IS 'Active status flag';
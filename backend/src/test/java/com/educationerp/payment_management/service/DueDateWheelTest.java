@@ -0,0 +1,133 @@
+package com.educationerp.payment_management.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DueDateWheel
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+class DueDateWheelTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 31);
+
+    @Test
+    void daysOnEveryLevelAndInOverflowExpireOnTheirDay() {
+        DueDateWheel wheel = new DueDateWheel(START);
+        // Level 0 below 32 days, level 1 below 1024, level 2 below 32768, overflow beyond
+        long[] offsets = {1, 31, 32, 33, 500, 1023, 1024, 1025, 20_000, 32_767, 32_768, 32_769, 100_000};
+        List<LocalDate> days = new ArrayList<>();
+        for (long offset : offsets) {
+            LocalDate day = START.plusDays(offset);
+            assertThat(wheel.schedule(day)).isTrue();
+            days.add(day);
+        }
+        assertThat(wheel.size()).isEqualTo(offsets.length);
+
+        for (LocalDate day : days) {
+            assertThat(wheel.advanceTo(day.minusDays(1))).isEmpty();
+            assertThat(wheel.advanceTo(day)).containsExactly(day);
+        }
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.expiredThrough()).isEqualTo(START.plusDays(100_000));
+    }
+
+    @Test
+    void advancingAcrossLevelBoundariesDayByDayExpiresEachDayOnce() {
+        // Start just before a 32768-day boundary so every level turns over within the run
+        long boundary = (START.toEpochDay() / 32_768 + 1) * 32_768;
+        LocalDate start = LocalDate.ofEpochDay(boundary - 40);
+        DueDateWheel wheel = new DueDateWheel(start);
+        NavigableSet<Long> reference = new TreeSet<>();
+        for (long day = boundary - 39; day <= boundary + 33_000; day += 7) {
+            wheel.schedule(LocalDate.ofEpochDay(day));
+            reference.add(day);
+        }
+        for (long offset : new long[]{31, 32, 33, 1023, 1024, 1025, 32_767, 32_768, 32_769, 40_000}) {
+            wheel.schedule(LocalDate.ofEpochDay(boundary + offset));
+            reference.add(boundary + offset);
+        }
+
+        for (long day = start.toEpochDay() + 1; day <= boundary + 40_000; day++) {
+            List<LocalDate> expired = wheel.advanceTo(LocalDate.ofEpochDay(day));
+            if (reference.remove(day)) {
+                assertThat(expired).containsExactly(LocalDate.ofEpochDay(day));
+            } else {
+                assertThat(expired).isEmpty();
+            }
+        }
+        assertThat(reference).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void randomScheduleAndAdvanceMatchesSortedReference() {
+        SplittableRandom random = new SplittableRandom(44);
+        DueDateWheel wheel = new DueDateWheel(START);
+        NavigableSet<Long> reference = new TreeSet<>();
+        long current = START.toEpochDay();
+        for (int round = 0; round < 2_000; round++) {
+            for (int i = 0; i < 20; i++) {
+                long day = current + 1 + random.nextLong(70_000);
+                assertThat(wheel.schedule(LocalDate.ofEpochDay(day))).isTrue();
+                reference.add(day);
+            }
+            long target = current + random.nextLong(random.nextBoolean() ? 40 : 3_000);
+            List<LocalDate> expected = new ArrayList<>();
+            for (Long day : reference.headSet(target, true)) {
+                expected.add(LocalDate.ofEpochDay(day));
+            }
+            reference.headSet(target, true).clear();
+
+            assertThat(wheel.advanceTo(LocalDate.ofEpochDay(target))).containsExactlyElementsOf(expected);
+            assertThat(wheel.size()).isEqualTo(reference.size());
+            current = target;
+        }
+    }
+
+    @Test
+    void expiredDaysCannotBeScheduledAgain() {
+        DueDateWheel wheel = new DueDateWheel(START);
+        assertThat(wheel.schedule(START)).isFalse();
+        assertThat(wheel.schedule(START.minusDays(1))).isFalse();
+
+        LocalDate due = START.plusDays(40);
+        assertThat(wheel.schedule(due)).isTrue();
+        assertThat(wheel.advanceTo(due)).containsExactly(due);
+
+        assertThat(wheel.schedule(due)).isFalse();
+        assertThat(wheel.schedule(due.minusDays(10))).isFalse();
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advanceTo(due.plusDays(2_000))).isEmpty();
+    }
+
+    @Test
+    void schedulingADayTwiceExpiresItOnce() {
+        DueDateWheel wheel = new DueDateWheel(START);
+        LocalDate due = START.plusDays(2_000);
+        assertThat(wheel.schedule(due)).isTrue();
+        assertThat(wheel.schedule(due)).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(due.plusDays(1))).containsExactly(due);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advancingBackwardsDoesNothing() {
+        DueDateWheel wheel = new DueDateWheel(START);
+        wheel.schedule(START.plusDays(5));
+        assertThat(wheel.advanceTo(START.minusDays(10))).isEmpty();
+        assertThat(wheel.expiredThrough()).isEqualTo(START);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,131 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.payment_management.entity.InstallmentPlan.InstallmentFrequency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for InstallmentScheduleCalculator
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+class InstallmentScheduleCalculatorTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 1, 31);
+
+    @Test
+    void zeroRateSplitsPrincipalEvenlyAndLastInstallmentTakesTheRemainder() {
+        List<InstallmentScheduleCalculator.ScheduledInstallment> schedule =
+                InstallmentScheduleCalculator.amortize(100_000, BigDecimal.ZERO, 3, InstallmentFrequency.MONTHLY, START);
+
+        assertThat(schedule).extracting(InstallmentScheduleCalculator.ScheduledInstallment::getAmountMinor)
+                .containsExactly(33_334L, 33_334L, 33_332L);
+        assertThat(schedule).extracting(InstallmentScheduleCalculator.ScheduledInstallment::getInterestMinor)
+                .containsOnly(0L);
+        assertThat(schedule).extracting(InstallmentScheduleCalculator.ScheduledInstallment::getBalanceMinor)
+                .containsExactly(66_666L, 33_332L, 0L);
+        assertThat(InstallmentScheduleCalculator.amortize(100_000, null, 3, InstallmentFrequency.MONTHLY, START))
+                .extracting(InstallmentScheduleCalculator.ScheduledInstallment::getAmountMinor)
+                .containsExactly(33_334L, 33_334L, 33_332L);
+    }
+
+    @Test
+    void monthlyRateMatchesAnnuityFormula() {
+        List<InstallmentScheduleCalculator.ScheduledInstallment> schedule =
+                InstallmentScheduleCalculator.amortize(1_000_000, new BigDecimal("12.00"), 12, InstallmentFrequency.MONTHLY, START);
+
+        // 1% a month: 1,000,000 * 0.01 / (1 - 1.01^-12) = 88,848.79, rounded up
+        assertThat(schedule.get(0).getAmountMinor()).isEqualTo(88_849);
+        assertThat(schedule.get(0).getInterestMinor()).isEqualTo(10_000);
+        assertThat(schedule.get(0).getPrincipalMinor()).isEqualTo(78_849);
+        assertSettles(schedule, 1_000_000, 1_200, 12);
+    }
+
+    @ParameterizedTest
+    @EnumSource(InstallmentFrequency.class)
+    void nonZeroRateSettlesPrincipalPlusInterestForEveryFrequency(InstallmentFrequency frequency) {
+        for (int installments : new int[]{1, 2, 7, 24, 104}) {
+            List<InstallmentScheduleCalculator.ScheduledInstallment> schedule =
+                    InstallmentScheduleCalculator.amortize(1_234_567, new BigDecimal("7.25"), installments, frequency, START);
+            assertSettles(schedule, 1_234_567, 725, InstallmentScheduleCalculator.periodsPerYear(frequency));
+        }
+    }
+
+    @Test
+    void zeroPrincipalYieldsEmptyInstallments() {
+        assertThat(InstallmentScheduleCalculator.amortize(0, new BigDecimal("5.00"), 4, InstallmentFrequency.QUARTERLY, START))
+                .extracting(InstallmentScheduleCalculator.ScheduledInstallment::getAmountMinor)
+                .containsOnly(0L);
+    }
+
+    @Test
+    void invalidTermsAreRejected() {
+        assertThatThrownBy(() -> InstallmentScheduleCalculator.amortize(100, BigDecimal.ZERO, 0, InstallmentFrequency.MONTHLY, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InstallmentScheduleCalculator.amortize(-1, BigDecimal.ZERO, 3, InstallmentFrequency.MONTHLY, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void monthlyDueDatesFromMonthEndDoNotDrift() {
+        assertThat(List.of(1, 2, 3, 4, 13, 26)).extracting(number ->
+                        InstallmentScheduleCalculator.dueDate(START, InstallmentFrequency.MONTHLY, number))
+                .containsExactly(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 2, 28), LocalDate.of(2026, 3, 31),
+                        LocalDate.of(2026, 4, 30), LocalDate.of(2027, 1, 31), LocalDate.of(2028, 2, 29));
+    }
+
+    @Test
+    void dueDatesFollowTheFrequency() {
+        LocalDate start = LocalDate.of(2026, 8, 31);
+        assertThat(InstallmentScheduleCalculator.dueDate(start, InstallmentFrequency.WEEKLY, 3)).isEqualTo(LocalDate.of(2026, 9, 14));
+        assertThat(InstallmentScheduleCalculator.dueDate(start, InstallmentFrequency.QUARTERLY, 2)).isEqualTo(LocalDate.of(2026, 11, 30));
+        assertThat(InstallmentScheduleCalculator.dueDate(start, InstallmentFrequency.QUARTERLY, 3)).isEqualTo(LocalDate.of(2027, 2, 28));
+        assertThat(InstallmentScheduleCalculator.dueDate(start, InstallmentFrequency.SEMESTERLY, 2)).isEqualTo(LocalDate.of(2027, 2, 28));
+        assertThat(InstallmentScheduleCalculator.dueDate(start, InstallmentFrequency.YEARLY, 3)).isEqualTo(LocalDate.of(2028, 8, 31));
+        assertThat(InstallmentScheduleCalculator.dueDate(LocalDate.of(2028, 2, 29), InstallmentFrequency.YEARLY, 2))
+                .isEqualTo(LocalDate.of(2029, 2, 28));
+        assertThat(InstallmentScheduleCalculator.dueDate(start, null, 2)).isEqualTo(LocalDate.of(2026, 9, 30));
+        assertThat(InstallmentScheduleCalculator.dueDate(null, InstallmentFrequency.MONTHLY, 2)).isNull();
+    }
+
+    /**
+     * Check a schedule installment by installment: half-up interest on the open balance, a level amount
+     * for all but the last installment, and the last one paying off the balance
+     */
+    private static void assertSettles(List<InstallmentScheduleCalculator.ScheduledInstallment> schedule, long principalMinor,
+                                      long rateUnits, int periodsPerYear) {
+        long divisor = 10_000L * periodsPerYear;
+        long level = schedule.get(0).getAmountMinor();
+        long balance = principalMinor;
+        long totalInterest = 0;
+        long totalPaid = 0;
+        for (InstallmentScheduleCalculator.ScheduledInstallment installment : schedule) {
+            long interest = (balance * rateUnits + divisor / 2) / divisor;
+            assertThat(installment.getInterestMinor()).isEqualTo(interest);
+            assertThat(installment.getAmountMinor()).isEqualTo(installment.getPrincipalMinor() + installment.getInterestMinor());
+            balance -= installment.getPrincipalMinor();
+            assertThat(installment.getBalanceMinor()).isEqualTo(balance);
+            if (installment.getNumber() < schedule.size()) {
+                assertThat(installment.getAmountMinor()).isEqualTo(level);
+            } else {
+                assertThat(installment.getAmountMinor()).isBetween(1L, level);
+            }
+            totalInterest += installment.getInterestMinor();
+            totalPaid += installment.getAmountMinor();
+        }
+        assertThat(balance).isZero();
+        assertThat(totalPaid).isEqualTo(principalMinor + totalInterest);
+        assertThat(schedule).extracting(InstallmentScheduleCalculator.ScheduledInstallment::getNumber)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, schedule.size()).boxed().toList());
+    }
+}
@@ -0,0 +1,101 @@
+package com.educationerp.payment_management.service;
+
+import com.educationerp.core.exception.BusinessException;
+import com.educationerp.payment_management.dto.InstallmentScheduleResponse;
+import com.educationerp.payment_management.dto.InstallmentWhatIfRequest;
+import com.educationerp.payment_management.entity.InstallmentPlan;
+import com.educationerp.payment_management.repository.InstallmentPlanRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for InstallmentScheduleService what-if schedules
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class InstallmentScheduleServiceTest {
+
+    @Mock
+    private InstallmentPlanRepository installmentPlanRepository;
+
+    @InjectMocks
+    private InstallmentScheduleService installmentScheduleService;
+
+    @Test
+    void whatIfComparesBaseTermsWithScenarios() {
+        InstallmentWhatIfRequest request = baseRequest(6);
+        InstallmentWhatIfRequest.Scenario scenario = new InstallmentWhatIfRequest.Scenario();
+        scenario.setName("Longer");
+        scenario.setNumberOfInstallments(12);
+        request.setScenarios(List.of(scenario));
+
+        List<InstallmentScheduleResponse> schedules = installmentScheduleService.whatIf(request);
+
+        assertThat(schedules).hasSize(2);
+        assertThat(schedules.get(0).getInstallments()).hasSize(6);
+        assertThat(schedules.get(1).getInstallments()).hasSize(12);
+        assertThat(schedules).extracting(InstallmentScheduleResponse::getMaterialized).containsOnly(false);
+    }
+
+    @Test
+    void whatIfWithoutInstallmentsIsRejected() {
+        assertThatThrownBy(() -> installmentScheduleService.whatIf(baseRequest(0)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> installmentScheduleService.whatIf(baseRequest(null)))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void whatIfScenarioWithoutInstallmentsIsRejected() {
+        InstallmentWhatIfRequest request = baseRequest(6);
+        InstallmentWhatIfRequest.Scenario scenario = new InstallmentWhatIfRequest.Scenario();
+        scenario.setNumberOfInstallments(0);
+        request.setScenarios(List.of(scenario));
+
+        assertThatThrownBy(() -> installmentScheduleService.whatIf(request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Scenario 1");
+    }
+
+    @Test
+    void whatIfOnPlanWithoutInstallmentsIsRejected() {
+        InstallmentPlan plan = new InstallmentPlan();
+        plan.setPlanCode("PLAN-1");
+        plan.setTotalAmount(new BigDecimal("1200.00"));
+        plan.setStartDate(LocalDate.of(2026, 1, 31));
+        plan.setNumberOfInstallments(0);
+        when(installmentPlanRepository.findById(1L)).thenReturn(Optional.of(plan));
+        InstallmentWhatIfRequest request = new InstallmentWhatIfRequest();
+        request.setPlanId(1L);
+
+        assertThatThrownBy(() -> installmentScheduleService.whatIf(request))
+                .isInstanceOf(BusinessException.class);
+
+        plan.setNumberOfInstallments(null);
+        assertThatThrownBy(() -> installmentScheduleService.whatIf(request))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static InstallmentWhatIfRequest baseRequest(Integer numberOfInstallments) {
+        InstallmentWhatIfRequest request = new InstallmentWhatIfRequest();
+        request.setTotalAmount(new BigDecimal("1200.00"));
+        request.setInterestRate(new BigDecimal("10.00"));
+        request.setNumberOfInstallments(numberOfInstallments);
+        request.setStartDate(LocalDate.of(2026, 1, 31));
+        return request;
+    }
+}
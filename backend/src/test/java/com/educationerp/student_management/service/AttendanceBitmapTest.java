@@ -0,0 +1,180 @@
+package com.educationerp.student_management.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AttendanceBitmap against a java.util.BitSet reference
+ *
+ * @author Education ERP Team
+ * @version 1.0.0
+ */
+class AttendanceBitmapTest {
+
+    private static final int ARRAY_MAX = 4096;
+
+    @Test
+    void emptyAndNullBytesYieldEmptyBitmap() {
+        assertThat(AttendanceBitmap.fromBytes(null).isEmpty()).isTrue();
+        assertThat(AttendanceBitmap.fromBytes(new byte[0]).isEmpty()).isTrue();
+
+        AttendanceBitmap empty = AttendanceBitmap.fromBytes(new AttendanceBitmap().toBytes());
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.last()).isEqualTo(-1);
+    }
+
+    @Test
+    void unsupportedFormatVersionIsRejected() {
+        assertThatThrownBy(() -> AttendanceBitmap.fromBytes(new byte[]{9, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void negativeValuesAreRejected() {
+        assertThatThrownBy(() -> new AttendanceBitmap().add(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new AttendanceBitmap().contains(-1)).isFalse();
+    }
+
+    @Test
+    void fillingAndDrainingAcrossArrayBitmapThresholdRoundTrips() {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        BitSet reference = new BitSet();
+
+        // Every third value keeps runs short, so the container is stored as array and then as bitmap
+        int value = 0;
+        while (reference.cardinality() < ARRAY_MAX + 500) {
+            assertThat(bitmap.add(value)).isTrue();
+            reference.set(value);
+            if (reference.cardinality() == ARRAY_MAX || reference.cardinality() == ARRAY_MAX + 1) {
+                assertMatches(roundTrip(bitmap), reference);
+            }
+            value += 3;
+        }
+        assertThat(bitmap.add(0)).isFalse();
+        assertMatches(bitmap, reference);
+        assertMatches(roundTrip(bitmap), reference);
+
+        // Drain back below the threshold and to empty
+        for (int removed = 0; reference.cardinality() > 0; removed += 3) {
+            assertThat(bitmap.remove(removed)).isTrue();
+            reference.clear(removed);
+            if (reference.cardinality() == ARRAY_MAX || reference.cardinality() == ARRAY_MAX - 1
+                    || reference.cardinality() == 1) {
+                assertMatches(roundTrip(bitmap), reference);
+            }
+        }
+        assertThat(bitmap.remove(0)).isFalse();
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(roundTrip(bitmap).isEmpty()).isTrue();
+    }
+
+    @Test
+    void runHeavyPatternsRoundTripCompactly() {
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        BitSet reference = new BitSet();
+        setRange(bitmap, reference, 0, 5000);
+        setRange(bitmap, reference, 6000, 6001);
+        // Spans the boundary between the first and second container
+        setRange(bitmap, reference, 10_000, 70_000);
+        setRange(bitmap, reference, 200_000, 200_010);
+
+        byte[] bytes = bitmap.toBytes();
+        AttendanceBitmap restored = AttendanceBitmap.fromBytes(bytes);
+        assertMatches(restored, reference);
+        // Run encoding: a few bytes per run instead of 8 KB bitmaps
+        assertThat(bytes.length).isLessThan(100);
+
+        // Punch holes into the runs and compare again
+        for (int hole = 100; hole < 70_000; hole += 997) {
+            bitmap.remove(hole);
+            reference.clear(hole);
+        }
+        assertMatches(roundTrip(bitmap), reference);
+    }
+
+    @Test
+    void randomOperationsMatchBitSetReference() {
+        SplittableRandom random = new SplittableRandom(42);
+        AttendanceBitmap bitmap = new AttendanceBitmap();
+        BitSet reference = new BitSet();
+        for (int step = 0; step < 200_000; step++) {
+            // Values concentrated in three containers so they move between array and bitmap form
+            int value = random.nextInt(3) * 65_536 + random.nextInt(12_000);
+            if (random.nextInt(10) < 6) {
+                assertThat(bitmap.add(value)).isEqualTo(!reference.get(value));
+                reference.set(value);
+            } else {
+                assertThat(bitmap.remove(value)).isEqualTo(reference.get(value));
+                reference.clear(value);
+            }
+            if (step % 20_000 == 0) {
+                assertMatches(roundTrip(bitmap), reference);
+            }
+        }
+        assertMatches(bitmap, reference);
+        assertMatches(roundTrip(bitmap), reference);
+    }
+
+    @Test
+    void setOperationsMatchBitSetReference() {
+        SplittableRandom random = new SplittableRandom(7);
+        AttendanceBitmap left = new AttendanceBitmap();
+        AttendanceBitmap right = new AttendanceBitmap();
+        BitSet leftReference = new BitSet();
+        BitSet rightReference = new BitSet();
+        // Dense left and sparse right containers, plus containers present on one side only
+        for (int i = 0; i < 9000; i++) {
+            int value = random.nextInt(10_000);
+            left.add(value);
+            leftReference.set(value);
+        }
+        for (int i = 0; i < 1500; i++) {
+            int value = random.nextInt(10_000);
+            right.add(value);
+            rightReference.set(value);
+        }
+        setRange(left, leftReference, 70_000, 71_000);
+        setRange(right, rightReference, 140_000, 140_100);
+
+        BitSet and = (BitSet) leftReference.clone();
+        and.and(rightReference);
+        assertThat(left.andCardinality(right)).isEqualTo(and.cardinality());
+        assertThat(right.andCardinality(left)).isEqualTo(and.cardinality());
+
+        BitSet andNot = (BitSet) leftReference.clone();
+        andNot.andNot(rightReference);
+        assertMatches(left.andNot(right), andNot);
+        assertMatches(roundTrip(left.andNot(right)), andNot);
+
+        BitSet reverse = (BitSet) rightReference.clone();
+        reverse.andNot(leftReference);
+        assertMatches(right.andNot(left), reverse);
+        assertThat(left.andNot(left).isEmpty()).isTrue();
+    }
+
+    private static AttendanceBitmap roundTrip(AttendanceBitmap bitmap) {
+        return AttendanceBitmap.fromBytes(bitmap.toBytes());
+    }
+
+    private static void setRange(AttendanceBitmap bitmap, BitSet reference, int from, int to) {
+        for (int value = from; value < to; value++) {
+            bitmap.add(value);
+        }
+        reference.set(from, to);
+    }
+
+    private static void assertMatches(AttendanceBitmap bitmap, BitSet reference) {
+        assertThat(bitmap.cardinality()).isEqualTo(reference.cardinality());
+        assertThat(bitmap.toArray()).containsExactly(reference.stream().toArray());
+        assertThat(bitmap.last()).isEqualTo(reference.length() - 1);
+        assertThat(bitmap.isEmpty()).isEqualTo(reference.isEmpty());
+        for (int value = 0; value <= reference.length(); value += 37) {
+            assertThat(bitmap.contains(value)).isEqualTo(reference.get(value));
+        }
+    }
+}